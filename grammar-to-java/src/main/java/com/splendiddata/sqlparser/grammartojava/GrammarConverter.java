@@ -824,7 +824,7 @@ public class GrammarConverter extends AbstractMojo implements FileVisitor<Path>
                         specialBlock = SpecialGrammarBlock.IN_YYVAL_DIRECT;
                         log.debug("direct reference of yyval, pase := IN_YYVAL_DIRECT");
                         convertedLine = convertedLine.replaceAll("(\\s*)(\\$\\$\\s*=\\s*makeNode\\s*\\(\\s*)(\\w*).*",
-                                "$1$3 nd = makeNode($3.class);\r\n$1\\$\\$ = nd;");
+                                "$1$3 nd = new $3();\r\n$1\\$\\$ = nd;");
                         out.println(convertedLine);
                         continue;
                     } else if (convertedLine.matches("\\s*ereport\\(.*")) {
@@ -871,9 +871,9 @@ public class GrammarConverter extends AbstractMojo implements FileVisitor<Path>
                              */
                             .replaceAll("(char)(\\s*)(\\w*)\\[(\\d*)\\]", "$1[]$2$3 = new $1[$4]")
                             /*
-                             * Add ".class" in the class argument of makeNode
+                             * makeNode(Foo) becomes new Foo(), so no reflection is needed to create the node
                              */
-                            .replaceAll("(makeNode\\()(\\w*)\\)", "makeNode($2.class)")
+                            .replaceAll("makeNode\\((\\w*)\\)", "new $1()")
                             /*
                              * Replace sprintf invocation by String.format(...
                              */
@@ -1278,7 +1278,10 @@ public class GrammarConverter extends AbstractMojo implements FileVisitor<Path>
         out.println("%lex-param   {SqlScanner yyscanner}");
         out.println("%code imports {");
         out.println("import java.io.InputStream;");
-        out.println("import java.io.ObjectInputStream;");
+        out.println("import java.nio.ByteBuffer;");
+        out.println("import java.nio.ByteOrder;");
+        out.println("import java.nio.IntBuffer;");
+        out.println("import java.nio.ShortBuffer;");
         out.println();
         out.println("import com.splendiddata.sqlparser.enums.*;");
         out.println("import com.splendiddata.sqlparser.plumbing.base_yy_extra_type;");
@@ -69,8 +69,8 @@ public enum GrammarRuleSpecial implements GrammarRuleSpecialProcessing {
 
     privilege_target(
             line -> line/*
-                     * replace "PrivTarget *n = (PrivTarget *) palloc(sizeof(PrivTarget))" by "PrivTarget n =
-                     * makeNode(PrivTarget.class)"
+                     * replace "PrivTarget *n = (PrivTarget *) palloc(sizeof(PrivTarget))" by "PrivTarget n = new
+                     * PrivTarget()"
                      */.replace("PrivTarget *n = (PrivTarget *) palloc(sizeof(PrivTarget))",
                     "PrivTarget n = new PrivTarget()")),
 
@@ -16,12 +16,12 @@ package com.splendiddata.sqlparser.grammartojava;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
@@ -53,8 +53,8 @@ import org.apache.maven.plugins.annotations.Parameter;
  * overwritten.</li>
  * <li>The yyaction method generated more bytecode than the 64kB that the Java compiler maximally allows for a single
  * method. This problem is solved by cutting the method in several methods.</li>
- * <li>The static initializer also generated more than 64kB bytecode. That is solved by serializing the content of some
- * very big arrays to eternal files.</li>
+ * <li>The static initializer also generated more than 64kB bytecode. That is solved by writing the content of some
+ * very big arrays to external files.</li>
  * </ul>
  *
  * @author Splendid Data Product Development B.V.
@@ -160,6 +160,12 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
      * While cutting the yyaction method into pieces, LINES_PERCUB_BLOCK determines after how many lines in the main
      * switch statements we are going to look for the next case clause. That case clause will be the point where the
      * curent method will b finished and an new one will be started.
+     * <p>
+     * The number is chosen to keep the bytecode of the submethods below the 8000 bytes above which HotSpot refuses to
+     * JIT-compile a method (-XX:+DontCompileHugeMethods). Bigger submethods would be interpreted forever. With the
+     * Postgres 19 grammar, 500 lines give 44 submethods of at most 3716 bytes. 1000 lines would give submethods of up
+     * to 6535 bytes, and 2000 lines would exceed the limit.
+     * </p>
      */
     private static final int LINES_PER_SUB_BLOCK = 500;
 
@@ -204,7 +210,7 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
     private int subMethodLineCount;
 
     /**
-     * Keeps track of the number in the case clause of the main switch statement of the yyaction method so the newly
+     * Keeps track of the number in the first case clause of every yyaction submethod but the first, so the newly
      * generated yyaction method will be able to delegate execution to the right submethod.
      */
     private Queue<String> lastCaseInBlock = new LinkedList<>();
@@ -504,7 +510,6 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
      */
     private void divideYYAction(String line, JavaSourceReader in, PrintWriter out) throws IOException {
         if (in.getBraceLevelAtLineEnd() == OUTER_CLASS_IN_FUNCTION_BRACE_LEVEL) {
-            lastCaseInBlock.add(String.valueOf(Integer.MAX_VALUE));
             finishYYActionBlock(out);
             finishYYAction(in, out);
         }
@@ -581,6 +586,12 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
     /**
      * We have reached the end of the original yyaction method. Here we will create a new one that delegates execution
      * to one of the generated yyaction_nn methods. The remaining part of the original method is skipped.
+     * <p>
+     * The submethod that handles a rule is looked up in the yyaction_sub_method_ array, which is indexed by rule
+     * number, and invoked from a switch statement on the submethod number. So every reduction costs an array access
+     * and a tableswitch instead of a sequence of comparisons against the boundaries of all preceding submethods. Rules
+     * beyond the end of the array are handled by the last submethod.
+     * </p>
      *
      * @param in
      *            Provides input lines
@@ -590,17 +601,53 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
      *             From the reader or the writer
      */
     private void finishYYAction(JavaSourceReader in, PrintWriter out) throws IOException {
+        String subMethodType = subMethodNr <= Byte.MAX_VALUE ? "byte" : "short";
+        int[] firstRuleOfSubMethod = new int[subMethodNr];
+        for (int i = 1; i < subMethodNr; i++) {
+            firstRuleOfSubMethod[i] = Integer.parseInt(lastCaseInBlock.poll());
+        }
+        lastCaseInBlock.clear();
+        int tableLength = firstRuleOfSubMethod[subMethodNr - 1];
+
+        out.println();
+        out.print("  private static final ");
+        out.print(subMethodType);
+        out.print("[] yyaction_sub_method_ = new ");
+        out.print(subMethodType);
+        out.print("[");
+        out.print(tableLength);
+        out.println("];");
+        if (subMethodNr > 2) {
+            out.println("  static {");
+            for (int i = 1; i < subMethodNr - 1; i++) {
+                out.print("    java.util.Arrays.fill(yyaction_sub_method_, ");
+                out.print(firstRuleOfSubMethod[i]);
+                out.print(", ");
+                out.print(firstRuleOfSubMethod[i + 1]);
+                out.print(", (");
+                out.print(subMethodType);
+                out.print(") ");
+                out.print(i);
+                out.println(");");
+            }
+            out.println("  }");
+        }
+        out.println();
         out.println("  private int yyaction (int yyn, YYStack yystack, int yylen) {");
+        out.print("    switch (yyn < yyaction_sub_method_.length ? yyaction_sub_method_[yyn] : ");
+        out.print(subMethodNr - 1);
+        out.println(") {");
         for (int i = 0; i < subMethodNr; i++) {
-            out.print("    if (yyn < ");
-            out.print(lastCaseInBlock.poll());
-            out.println(") {");
+            out.print("    case ");
+            out.print(i);
+            out.println(":");
             out.print("      return yyaction_");
             out.print(i);
             out.println("(yyn, yystack, yylen);");
-            out.println("    }");
         }
-        out.println("    return 0;");
+        out.println("    default:");
+        out.println("      return 0;");
+        out.println("    }");
         out.println();
 
         /*
@@ -758,6 +805,18 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
         tokenEnum.println("[] FROM_INT;");
         tokenEnum.println();
         tokenEnum.println("    /**");
+        tokenEnum.println("     * Open addressing hash table on the lower case name, used by fromChars(char[], int, int)");
+        tokenEnum.println("     */");
+        tokenEnum.print("    private static final ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println("[] BY_CHARS;");
+        tokenEnum.println();
+        tokenEnum.println("    /**");
+        tokenEnum.println("     * Length of the longest name, so longer identifiers can be rejected right away");
+        tokenEnum.println("     */");
+        tokenEnum.println("    private static final int MAX_NAME_LENGTH;");
+        tokenEnum.println();
+        tokenEnum.println("    /**");
         tokenEnum.println("     * The token value");
         tokenEnum.println("     */");
         tokenEnum.println("    public final int value;");
@@ -849,6 +908,86 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
         tokenEnum.println("        return FROM_INT[value];");
         tokenEnum.println("    }");
         tokenEnum.println();
+        tokenEnum.println("    /**");
+        tokenEnum.print("     * Returns the ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println(" whose name matches buffer[offset .. offset + length> or null if not found.");
+        tokenEnum.println("     * <p>");
+        tokenEnum.println("     * Like the Postgres ScanKeywordLookup() only ASCII letters are case folded, and the lookup takes place on the");
+        tokenEnum.println("     * character buffer itself, so no String needs to be created for an identifier that turns out to be a keyword.");
+        tokenEnum.println("     * </p>");
+        tokenEnum.println("     *");
+        tokenEnum.println("     * @param buffer");
+        tokenEnum.println("     *            The buffer that contains the word");
+        tokenEnum.println("     * @param offset");
+        tokenEnum.println("     *            Offset of the first character of the word in the buffer");
+        tokenEnum.println("     * @param length");
+        tokenEnum.println("     *            The number of characters in the word");
+        tokenEnum.print("     * @return ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println(" The value that is found by the specified characters or null if not found");
+        tokenEnum.println("     */");
+        tokenEnum.print("    public static ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println(" fromChars(char[] buffer, int offset, int length) {");
+        tokenEnum.println("        if (length <= 0 || length > MAX_NAME_LENGTH) {");
+        tokenEnum.println("            return null;");
+        tokenEnum.println("        }");
+        tokenEnum.println("        int hash = 0;");
+        tokenEnum.println("        for (int i = offset, end = offset + length; i < end; i++) {");
+        tokenEnum.println("            char c = buffer[i];");
+        tokenEnum.println("            if (c >= 'A' && c <= 'Z') {");
+        tokenEnum.println("                c += 'a' - 'A';");
+        tokenEnum.println("            } else if (c >= 0x80) {");
+        tokenEnum.println("                return null;");
+        tokenEnum.println("            }");
+        tokenEnum.println("            hash = 31 * hash + c;");
+        tokenEnum.println("        }");
+        tokenEnum.println("        int mask = BY_CHARS.length - 1;");
+        tokenEnum.println("        for (int slot = spread(hash) & mask; BY_CHARS[slot] != null; slot = (slot + 1) & mask) {");
+        tokenEnum.print("            ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println(" kw = BY_CHARS[slot];");
+        tokenEnum.println("            if (kw.name.length() == length && kw.nameMatches(buffer, offset)) {");
+        tokenEnum.println("                return kw;");
+        tokenEnum.println("            }");
+        tokenEnum.println("        }");
+        tokenEnum.println("        return null;");
+        tokenEnum.println("    }");
+        tokenEnum.println();
+        tokenEnum.println("    /**");
+        tokenEnum.println("     * Compares the name with the characters in the buffer, folding ASCII upper case characters to lower case");
+        tokenEnum.println("     *");
+        tokenEnum.println("     * @param buffer");
+        tokenEnum.println("     *            The buffer that contains the word");
+        tokenEnum.println("     * @param offset");
+        tokenEnum.println("     *            Offset of the first character of the word in the buffer");
+        tokenEnum.println("     * @return boolean true if name.length() characters from offset match the name");
+        tokenEnum.println("     */");
+        tokenEnum.println("    private boolean nameMatches(char[] buffer, int offset) {");
+        tokenEnum.println("        for (int i = 0; i < name.length(); i++) {");
+        tokenEnum.println("            char c = buffer[offset + i];");
+        tokenEnum.println("            if (c >= 'A' && c <= 'Z') {");
+        tokenEnum.println("                c += 'a' - 'A';");
+        tokenEnum.println("            }");
+        tokenEnum.println("            if (c != name.charAt(i)) {");
+        tokenEnum.println("                return false;");
+        tokenEnum.println("            }");
+        tokenEnum.println("        }");
+        tokenEnum.println("        return true;");
+        tokenEnum.println("    }");
+        tokenEnum.println();
+        tokenEnum.println("    /**");
+        tokenEnum.println("     * Spreads the higher bits of the hash code over the lower bits that are used as index in BY_CHARS");
+        tokenEnum.println("     *");
+        tokenEnum.println("     * @param hash");
+        tokenEnum.println("     *            The String.hashCode() compatible hash of the lower case name");
+        tokenEnum.println("     * @return int the spread hash");
+        tokenEnum.println("     */");
+        tokenEnum.println("    private static int spread(int hash) {");
+        tokenEnum.println("        return hash ^ (hash >>> 16);");
+        tokenEnum.println("    }");
+        tokenEnum.println();
         tokenEnum.println("    static {");
         tokenEnum.println("        int maxValue = 0;");
         tokenEnum.print("        Map<String, ");
@@ -878,50 +1017,103 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
         tokenEnum.println(".values()) {");
         tokenEnum.println("            FROM_INT[kw.value] = kw;");
         tokenEnum.println("        }");
+        tokenEnum.println();
+        tokenEnum.println("        int tableSize = Integer.highestOneBit(map.size() * 4);");
+        tokenEnum.print("        ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.print("[] byChars = new ");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println("[tableSize];");
+        tokenEnum.println("        int maxNameLength = 0;");
+        tokenEnum.print("        for (");
+        tokenEnum.print(tokenClassName);
+        tokenEnum.println(" kw : map.values()) {");
+        tokenEnum.println("            int slot = spread(kw.name.hashCode()) & (tableSize - 1);");
+        tokenEnum.println("            while (byChars[slot] != null) {");
+        tokenEnum.println("                slot = (slot + 1) & (tableSize - 1);");
+        tokenEnum.println("            }");
+        tokenEnum.println("            byChars[slot] = kw;");
+        tokenEnum.println("            if (kw.name.length() > maxNameLength) {");
+        tokenEnum.println("                maxNameLength = kw.name.length();");
+        tokenEnum.println("            }");
+        tokenEnum.println("        }");
+        tokenEnum.println("        BY_CHARS = byChars;");
+        tokenEnum.println("        MAX_NAME_LENGTH = maxNameLength;");
         tokenEnum.println("    }");
         tokenEnum.println("}");
     }
 
     /**
-     * We found the first big array that needs to be externalized in the source file. Here we'll insert the readArray
-     * method, that will help deserializing the big arrays and we will created the directory structure where the big
-     * arrays will be serialized.
+     * We found the first big array that needs to be externalized in the source file. Here we'll insert the
+     * readShortArray and readIntArray methods, that will help reading the big arrays and we will created the directory
+     * structure where the big arrays will be stored.
+     * <p>
+     * The arrays are stored as raw little-endian shorts or ints, without any header. The number of entries follows from
+     * the size of the resource. Reading them through a ByteBuffer is a lot cheaper at class initialisation than Java
+     * deserialization, and it doesn't depend on the serialization machinery (serialization filters, jlink,
+     * native-image).
+     * </p>
      *
      * @param out
-     *            The generated source file to which to write the readArray(String) method
+     *            The generated source file to which to write the readShortArray(String) and readIntArray(String)
+     *            methods
      */
     private void initBigArraySection(PrintWriter out) {
         File outputFile = new File(buildDirectory + File.separator + "classes" + File.separator + "arrays");
         outputFile.mkdirs();
 
         out.println();
-        out.println("  private static final <_T> _T readArray(String tableName) {");
-        out.println("    try (InputStream is = " + className + ".class.getResourceAsStream(\"/arrays/\" + tableName);");
-        out.println("      ObjectInputStream ois = new ObjectInputStream(is)) {");
-        out.println("      Object result = ois.readObject();");
-        out.println("/* Enable for debugging purposes: ");
-        out.println(" *    if (result instanceof short[]) {");
-        out.println(" *        System.out.println(tableName + \" has \" + ((short[])result).length + \" entries\");");
-        out.println(" *    } else if (result instanceof short[]) {");
-        out.println(" *        System.out.println(tableName + \" has \" + ((int[])result).length + \" entries\");");
-        out.println(" *    }");
-        out.println(" */");
-        out.println("      return (_T) result;");
+        out.println("  private static final ByteBuffer readArrayBytes(String tableName) {");
+        out.println("    try (InputStream is = " + className + ".class.getResourceAsStream(\"/arrays/\" + tableName)) {");
+        out.println("      if (is == null) {");
+        out.println("        throw new IllegalStateException(\"resource /arrays/\" + tableName + \" not found\");");
+        out.println("      }");
+        out.println("      return ByteBuffer.wrap(is.readAllBytes()).order(ByteOrder.LITTLE_ENDIAN);");
         out.println("    } catch (Exception e) {");
-        out.println("      System.err.println(\"readShortArray(tableName=\" + tableName + \")->failed\");");
+        out.println("      System.err.println(\"readArrayBytes(tableName=\" + tableName + \")->failed\");");
         out.println("      e.printStackTrace(System.err);");
-        out.println("      throw new RuntimeException(\"readShortArray(tableName=\" + tableName + \")->failed\", e);");
+        out.println("      throw new RuntimeException(\"readArrayBytes(tableName=\" + tableName + \")->failed\", e);");
         out.println("    }");
         out.println("  }");
         out.println();
+        out.println("  private static final short[] readShortArray(String tableName) {");
+        out.println("    ShortBuffer buffer = readArrayBytes(tableName).asShortBuffer();");
+        out.println("    short[] result = new short[buffer.remaining()];");
+        out.println("    buffer.get(result);");
+        out.println("    return result;");
+        out.println("  }");
+        out.println();
+        out.println("  private static final int[] readIntArray(String tableName) {");
+        out.println("    IntBuffer buffer = readArrayBytes(tableName).asIntBuffer();");
+        out.println("    int[] result = new int[buffer.remaining()];");
+        out.println("    buffer.get(result);");
+        out.println("    return result;");
+        out.println("  }");
+        out.println();
     }
 
     /**
-     * Creates a short[] from the source file and serializes it in a new file that uses the arrayName as file name. The
-     * generated file will be read by the static initializer that is inserted in the array definition.
+     * Writes the array as raw little-endian values to a file that uses the arrayName as file name, in the arrays
+     * directory that is created by {@link #initBigArraySection(PrintWriter)}.
      *
      * @param arrayName
-     *            Name of the array that is to be serialized
+     *            Name of the array, used as file name
+     * @param buffer
+     *            The content of the array. Must be in little-endian byte order.
+     * @throws IOException
+     *             from the writer
+     */
+    private void writeArrayFile(String arrayName, ByteBuffer buffer) throws IOException {
+        Files.write(Paths.get(buildDirectory, "classes", "arrays", arrayName), buffer.array());
+    }
+
+    /**
+     * Creates a short[] from the source file and writes it as raw little-endian values to a new file that uses the
+     * arrayName as file name. The generated file will be read by the static initializer that is inserted in the array
+     * definition.
+     *
+     * @param arrayName
+     *            Name of the array that is to be externalized
      * @param in
      *            The sourc file that is to be converted
      * @param out
@@ -933,7 +1125,7 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
     private void externalizeBigArrayOfShort(String arrayName, JavaSourceReader in, PrintWriter out) throws IOException {
         String[] split = in.getCurrentLine().split("=");
         out.print(split[0]);
-        out.print("= readArray(\"");
+        out.print("= readShortArray(\"");
         out.print(arrayName);
         out.println("\");");
 
@@ -975,16 +1167,15 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
             log.debug(arrayName + " contains " + array.length + " shorts");
         }
 
-        try (FileOutputStream fos = new FileOutputStream(
-                buildDirectory + File.separator + "classes" + File.separator + "arrays" + File.separator + arrayName);
-                ObjectOutputStream oos = new ObjectOutputStream(fos)) {
-            oos.writeObject(array);
-        }
+        ByteBuffer buffer = ByteBuffer.allocate(array.length * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asShortBuffer().put(array);
+        writeArrayFile(arrayName, buffer);
     }
 
     /**
-     * Creates a int[] from the source file and serializes it in a new file that uses the arrayName as file name. The
-     * generated file will be read by the static initializer that is inserted in the array definition.
+     * Creates a int[] from the source file and writes it as raw little-endian values to a new file that uses the
+     * arrayName as file name. The generated file will be read by the static initializer that is inserted in the array
+     * definition.
      *
      * @param arrayName
      *            Name of the array to externalize
@@ -999,7 +1190,7 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
     private void externalizeBigArrayOfInt(String arrayName, JavaSourceReader in, PrintWriter out) throws IOException {
         String[] split = in.getCurrentLine().split("=");
         out.print(split[0]);
-        out.print("= readArray(\"");
+        out.print("= readIntArray(\"");
         out.print(arrayName);
         out.println("\");");
 
@@ -1041,11 +1232,9 @@ public class JavaParserConverter extends AbstractMojo implements FileVisitor<Pat
             log.debug(arrayName + " contains " + array.length + " integers");
         }
 
-        try (FileOutputStream fos = new FileOutputStream(
-                buildDirectory + File.separator + "classes" + File.separator + "arrays" + File.separator + arrayName);
-                ObjectOutputStream oos = new ObjectOutputStream(fos)) {
-            oos.writeObject(array);
-        }
+        ByteBuffer buffer = ByteBuffer.allocate(array.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(array);
+        writeArrayFile(arrayName, buffer);
     }
 
     /**
@@ -157,7 +157,11 @@ public class LexConverter extends AbstractMojo implements FileVisitor<Path> {
                         /*
                          * replace yyerror("..."); by { yyerror("..."); return EOF;}
                          */
-                        .replaceAll("(yyerror\\(\".*\"\\);)", "{ $1 yyclose(); return EOF;}");
+                        .replaceAll("(yyerror\\(\".*\"\\);)", "{ $1 yyclose(); return EOF;}")
+                        /*
+                         * An end of input in the caller's array may be a false one, see resumeInOwnBuffer()
+                         */
+                        .replaceFirst("(<<EOF>>\\s*\\{)", "$1 if (resumeInOwnBuffer()) return scan();");
                 Matcher matcher;
                 if (inEreport) {
                     if (convertedLine.matches("\\s*\\(errcode.*")) {
@@ -200,7 +204,8 @@ public class LexConverter extends AbstractMojo implements FileVisitor<Path> {
                             /*
                              * since Postgres 18
                              */
-                            .replace("pg_strtoint32_safe(yytext + 1", "pg_strtoint32_safe(yytext.substring(1)")
+                            .replace("pg_strtoint32_safe(yytext + 1",
+                                    "pg_strtoint32_safe(zzBuffer, zzStartRead + 1, zzMarkedPos")
                             /*
                              * The length of a literal is in the literalbuf StringBuilder. So literallen is obsolete
                              * (and removed from yyextra).
@@ -262,6 +267,11 @@ public class LexConverter extends AbstractMojo implements FileVisitor<Path> {
                              * Text s handled somewhat different in Javan than in C
                              */
                             .replace("process_integer_literal(yytext, yylval)", "process_integer_literal(yytext())")
+                            /*
+                             * Convert integer literals directly from the scanner's buffer
+                             */
+                            .replace("process_integer_literal(yytext, yylval,",
+                                    "process_integer_literal(zzBuffer, zzStartRead, zzMarkedPos,")
                             /*
                              * We want the text here, not some pointer that points into some array
                              */
@@ -412,7 +422,7 @@ public class LexConverter extends AbstractMojo implements FileVisitor<Path> {
         out.println("   * Stores the positon");
         out.println("   */");
         out.println("  void SET_YYLLOC() {");
-        out.println("      position = new Position(yychar);");
+        out.println("      position = new Position(positionOffset + yychar);");
         out.println("  }");
         out.println();
         out.println("  /**");
@@ -433,6 +443,97 @@ public class LexConverter extends AbstractMojo implements FileVisitor<Path> {
         out.println("  void POP_YYLLOC() {");
         out.println("      yychar = yyextra.save_yylloc;");
         out.println("  }");
+        out.println();
+        out.println("  /**");
+        out.println("   * The scanner's own scan buffer while zzBuffer is a caller's array");
+        out.println("   */");
+        out.println("  private char[] ownBuffer;");
+        out.println();
+        out.println("  /**");
+        out.println("   * The end of the input in the caller's array. JFlex's yyclose() clears zzEndRead.");
+        out.println("   */");
+        out.println("  private int callerEndRead;");
+        out.println();
+        out.println("  /**");
+        out.println("   * Lets the scanner start reading from a new reader, reusing the scan buffer");
+        out.println("   *");
+        out.println("   * @param in");
+        out.println("   */");
+        out.println("  @Override");
+        out.println("  void resetScanner(java.io.Reader in) {");
+        out.println("      if (ownBuffer != null) {");
+        out.println("          zzBuffer = ownBuffer;");
+        out.println("          ownBuffer = null;");
+        out.println("      }");
+        out.println("      yyreset(in);");
+        out.println("      yyextra.scanbuf = zzBuffer;");
+        out.println("      yyextra.scanbuflen = zzBuffer.length;");
+        out.println("  }");
+        out.println();
+        out.println("  /**");
+        out.println("   * Lets the scanner scan the characters of buffer from offset up to offset + length, using buffer as");
+        out.println("   * scan buffer. As all input is in the buffer from the start, zzAtEOF is set so JFlex will never");
+        out.println("   * refill - and thus never shift or overwrite - the buffer. The price is that JFlex may report the");
+        out.println("   * end of input while it is still matching the last token. So every &lt;&lt;EOF&gt;&gt; action first");
+        out.println("   * invokes {@link #resumeInOwnBuffer()}.");
+        out.println("   *");
+        out.println("   * @param buffer");
+        out.println("   * @param offset");
+        out.println("   * @param length");
+        out.println("   */");
+        out.println("  @Override");
+        out.println("  void resetScanner(char[] buffer, int offset, int length) {");
+        out.println("      resetScanner(java.io.Reader.nullReader());");
+        out.println("      ownBuffer = zzBuffer;");
+        out.println("      zzBuffer = buffer;");
+        out.println("      zzStartRead = offset;");
+        out.println("      zzCurrentPos = offset;");
+        out.println("      zzMarkedPos = offset;");
+        out.println("      zzEndRead = offset + length;");
+        out.println("      callerEndRead = zzEndRead;");
+        out.println("      zzAtEOF = true;");
+        out.println("      yyextra.scanbuf = zzBuffer;");
+        out.println("      yyextra.scanbuflen = zzEndRead;");
+        out.println("  }");
+        out.println();
+        out.println("  /**");
+        out.println("   * Invoked at the start of every &lt;&lt;EOF&gt;&gt; action. If zzBuffer is a caller's array, the");
+        out.println("   * characters that are not consumed yet are copied into the scanner's own buffer and scanning");
+        out.println("   * restarts there with normal end of input handling. The caller's array is not touched. The");
+        out.println("   * restart is a new invocation of scan() as scan() keeps zzBuffer and zzEndRead in local variables.");
+        out.println("   *");
+        out.println("   * @return boolean true if scanning is to be resumed, false if the end of input is real");
+        out.println("   */");
+        out.println("  private boolean resumeInOwnBuffer() {");
+        out.println("      if (ownBuffer == null) {");
+        out.println("          return false;");
+        out.println("      }");
+        out.println("      int tailLength = callerEndRead - zzStartRead;");
+        out.println("      char[] buffer = ownBuffer.length < tailLength ? new char[tailLength] : ownBuffer;");
+        out.println("      System.arraycopy(zzBuffer, zzStartRead, buffer, 0, tailLength);");
+        out.println("      ownBuffer = null;");
+        out.println("      zzBuffer = buffer;");
+        out.println("      zzReader = java.io.Reader.nullReader();");
+        out.println("      zzStartRead = 0;");
+        out.println("      zzCurrentPos = 0;");
+        out.println("      zzMarkedPos = 0;");
+        out.println("      zzEndRead = tailLength;");
+        out.println("      zzAtEOF = false;");
+        out.println("      zzEOFDone = false;");
+        out.println("      yyextra.scanbuf = zzBuffer;");
+        out.println("      yyextra.scanbuflen = zzEndRead;");
+        out.println("      return true;");
+        out.println("  }");
+        out.println();
+        out.println("  /**");
+        out.println("   * Returns the offset just beyond the last character of the last scanned token");
+        out.println("   *");
+        out.println("   * @return long the end offset");
+        out.println("   */");
+        out.println("  @Override");
+        out.println("  long tokenEndOffset() {");
+        out.println("      return positionOffset + yychar + zzMarkedPos - zzStartRead;");
+        out.println("  }");
         out.println("%}");
     }
 
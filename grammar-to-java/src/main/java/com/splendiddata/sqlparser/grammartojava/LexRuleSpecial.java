@@ -59,7 +59,8 @@ public enum LexRuleSpecial implements GrammarRuleSpecialProcessing {
     identifier("{identifier}", new GrammarRuleSpecialProcessing() {
 
         /**
-         * Replaces character array processing by String processing
+         * Looks up the keyword directly in the scanner buffer, so that no String is created unless the identifier
+         * turns out not to be a keyword
          *
          * @param line
          * @return String (modified?) line
@@ -67,13 +68,14 @@ public enum LexRuleSpecial implements GrammarRuleSpecialProcessing {
         @Override
         public String processLine(String line) {
             return line.replaceAll("int\\s+kwnum", "\t\tScanKeyword kwnum")
-                    .replace("ScanKeywordLookup(yytext,", "ScanKeywordLookup(yytext());")
+                    .replace("ScanKeywordLookup(yytext,",
+                            "ScanKeywordLookup(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead);")
                     .replace("yyextra->keywordlist);", "")
                     .replace("yylval->keyword = GetScanKeyword(kwnum,", "yylval = kwnum.getName();")
                     .replace("kwnum >= 0", "kwnum != null")
                     .replace("yyextra->keyword_tokens[kwnum]", "kwnum.getValue()")
                     .replace("downcase_truncate_identifier(yytext, yyleng, true)",
-                            "downcase_truncate_identifier(yytext(), true)");
+                            "downcase_truncate_identifier(zzBuffer, zzStartRead, zzMarkedPos - zzStartRead, true)");
         }
     }),
     xufailed("{xufailed}", new GrammarRuleSpecialProcessing() {
@@ -32,6 +32,12 @@ public enum CmdType {
     /** insert stmt */
     CMD_INSERT("insert"),
     CMD_DELETE("delete"),
+    /**
+     * merge stmt
+     *
+     * @since Postgres 15
+     */
+    CMD_MERGE("merge"),
     /** cmds like create, destroy, copy, vacuum, etc. */
     CMD_UTILITY("utility"),
     /** dummy command for instead nothing rules with qual */
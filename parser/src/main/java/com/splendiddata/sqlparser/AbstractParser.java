@@ -14,7 +14,6 @@
 
 package com.splendiddata.sqlparser;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
@@ -95,6 +94,7 @@ public class AbstractParser extends AbstractCProgram {
     static final int CAS_ENFORCED = 0x80;
 
     private static final Logger log = LogManager.getLogger(AbstractParser.class);
+
     private base_yy_extra_type yyExtraType = new base_yy_extra_type();
 
     /**
@@ -174,7 +174,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return A_Const containing the value
      */
     static A_Const makeIntConst(int val, int location) {
-        A_Const n = makeNode(A_Const.class);
+        A_Const n = new A_Const();
 
         n.val.type = NodeTag.T_Integer;
         n.val.val.ival = val;
@@ -193,7 +193,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return A_Const The constant with a val with an ival of 0 or 1
      */
     static A_Const makeIntConst(boolean val, Location location) {
-        A_Const n = makeNode(A_Const.class);
+        A_Const n = new A_Const();
 
         n.val.type = NodeTag.T_Integer;
         n.val.val.ival = val ? 1 : 0;
@@ -224,27 +224,6 @@ public class AbstractParser extends AbstractCProgram {
         return n;
     }
 
-    /**
-     * Instantiate an object with the specified class
-     * 
-     * @param<_T> The
-     *                return type
-     * 
-     * @param clss
-     *            The class for which to create an instance
-     * @return &lt;_T&gt; An instance of the specified class
-     */
-    static <T extends Node> T makeNode(Class<T> clss) {
-
-        try {
-            return clss.getDeclaredConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | NoSuchMethodException
-                | InvocationTargetException e) {
-            log.error("makeNode(class=" + clss + ")", e);
-            return null;
-        }
-    }
-
     /**
      * Replacement for a macro that just does a type cast in C
      *
@@ -273,7 +252,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return BoolExpr The constructed BoolExpr
      */
     static BoolExpr makeBoolExpr(BoolExprType boolop, List<Node> args, Location location) {
-        BoolExpr result = makeNode(BoolExpr.class);
+        BoolExpr result = new BoolExpr();
         result.boolop = boolop;
         result.args = args;
         result.location = location;
@@ -300,7 +279,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return FuncCall The constructed FuncCall
      */
     static FuncCall makeFuncCall(List<Value> name, List<Node> args, CoercionForm funcformat, Location locationAt) {
-        FuncCall n = makeNode(FuncCall.class);
+        FuncCall n = new FuncCall();
 
         n.funcname = name;
         n.args = args;
@@ -866,6 +845,17 @@ public class AbstractParser extends AbstractCProgram {
         return yyExtraType;
     }
 
+    /**
+     * Forgets the result and the error state of a previous parse, so the parser can be used again.
+     *
+     * @since 19.0
+     */
+    public void reset() {
+        yyExtraType.parsetree = null;
+        errordata_stack_depth = 0;
+        setErrorReported(false);
+    }
+
     /**
      * Returns the parse result after invocation of parse()
      *
@@ -1085,7 +1075,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return
      */
     static Node makeNullAConst(int location) {
-        A_Const n = makeNode(A_Const.class);
+        A_Const n = new A_Const();
 
         n.val.type = NodeTag.T_Null;
         n.location = null;
@@ -1124,7 +1114,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return RoleSpec The jsut created RoleSpec
      */
     static RoleSpec makeRoleSpec(RoleSpecType type, int nullLocation) {
-        RoleSpec spec = makeNode(RoleSpec.class);
+        RoleSpec spec = new RoleSpec();
         spec.roletype = type;
         return spec;
     }
@@ -1141,7 +1131,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return GroupingSet the just created GroupingSet
      */
     static GroupingSet makeGroupingSet(GroupingSetKind kind, List<Node> content, Location location) {
-        GroupingSet n = makeNode(GroupingSet.class);
+        GroupingSet n = new GroupingSet();
 
         n.kind = kind;
         n.content = content;
@@ -1270,7 +1260,7 @@ public class AbstractParser extends AbstractCProgram {
      * @return Alias the created Alias
      */
     static Alias makeAlias(String aliasname, List<Value> colnames) {
-        Alias result = makeNode(Alias.class);
+        Alias result = new Alias();
         result.aliasname = aliasname;
         result.colnames = colnames;
         return result;
@@ -15,9 +15,9 @@
 package com.splendiddata.sqlparser;
 
 import java.io.IOException;
-import java.math.BigInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +25,7 @@ import org.apache.logging.log4j.Logger;
 import com.splendiddata.sqlparser.enums.Severity;
 import com.splendiddata.sqlparser.structure.ErrCode;
 import com.splendiddata.sqlparser.structure.ErrDetail;
+import com.splendiddata.sqlparser.structure.ErrHint;
 import com.splendiddata.sqlparser.structure.ErrorSaveContext;
 import com.splendiddata.sqlparser.structure.Location;
 import com.splendiddata.sqlparser.structure.Position;
@@ -53,19 +54,61 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
     public static final int YY_END_OF_BUFFER_CHAR = 0;
 
     /**
-     * Default pattern for USCONST and UIDENT values
+     * The lookahead rules of base_yylex() in /postgresql-19/src/backend/parser/parser.c. Each rule consists of the
+     * token that needs a lookahead, the token that replaces it and the next tokens for which the replacement takes
+     * place.
+     * <p>
+     * A new lookahead rule in Postgres only needs a new line here.
+     * </p>
+     */
+    private static final ScanKeyword[][] LOOKAHEAD_RULES = {
+            { ScanKeyword.FORMAT, ScanKeyword.FORMAT_LA, ScanKeyword.JSON },
+            { ScanKeyword.NOT, ScanKeyword.NOT_LA, ScanKeyword.BETWEEN, ScanKeyword.IN_P, ScanKeyword.LIKE,
+                    ScanKeyword.ILIKE, ScanKeyword.SIMILAR },
+            { ScanKeyword.NULLS_P, ScanKeyword.NULLS_LA, ScanKeyword.FIRST_P, ScanKeyword.LAST_P },
+            { ScanKeyword.WITH, ScanKeyword.WITH_LA, ScanKeyword.TIME, ScanKeyword.ORDINALITY },
+            { ScanKeyword.WITHOUT, ScanKeyword.WITHOUT_LA, ScanKeyword.TIME } };
+
+    /**
+     * LOOKAHEAD_ROW[token] is the row in LOOKAHEAD_REPLACEMENT for a token that needs a lookahead,
+     * UNICODE_ESCAPE_ROW for USCONST and UIDENT, which may be followed by UESCAPE 'x', OPERATOR_ROW for Op, or -1 for
+     * all other tokens.
      */
-    private static final Pattern UNICODE_ESCAPE_PATTTERN = Pattern
-            .compile("(\\\\\\\\|\\\\\\p{XDigit}{4}|\\\\\\+\\p{XDigit}{6})");
-    private static final String UNICODE_ESCAPE_TEMPLATE = "(EE|E\\p{XDigit}{4}|E\\+\\p{XDigit}{6})";
+    private static final byte[] LOOKAHEAD_ROW;
+    private static final byte UNICODE_ESCAPE_ROW = Byte.MAX_VALUE;
+    private static final byte OPERATOR_ROW = Byte.MAX_VALUE - 1;
 
     /**
-     * Characters that should be escaped when used in a pattern
+     * LOOKAHEAD_REPLACEMENT[row][next token] is the token that replaces the current token if it is followed by next
+     * token, or 0 if the current token is to be left alone
      */
-    private static final Pattern PATTERN_ESCAPE_CHAR = Pattern
-            .compile("[\\\\\\\"\\(\\)\\+\\-\\$\\^\\?\\!\\<\\>\\|\\,\\{\\}\\*]");
+    private static final int[][] LOOKAHEAD_REPLACEMENT;
+
+    static {
+        int tokenCount = 0;
+        for (ScanKeyword keyword : ScanKeyword.values()) {
+            tokenCount = Math.max(tokenCount, keyword.getValue() + 1);
+        }
+        LOOKAHEAD_ROW = new byte[tokenCount];
+        Arrays.fill(LOOKAHEAD_ROW, (byte) -1);
+        LOOKAHEAD_ROW[ScanKeyword.USCONST.getValue()] = UNICODE_ESCAPE_ROW;
+        LOOKAHEAD_ROW[ScanKeyword.UIDENT.getValue()] = UNICODE_ESCAPE_ROW;
+        LOOKAHEAD_ROW[ScanKeyword.Op.getValue()] = OPERATOR_ROW;
+        LOOKAHEAD_REPLACEMENT = new int[LOOKAHEAD_RULES.length][tokenCount];
+        for (int row = 0; row < LOOKAHEAD_RULES.length; row++) {
+            ScanKeyword[] rule = LOOKAHEAD_RULES[row];
+            LOOKAHEAD_ROW[rule[0].getValue()] = (byte) row;
+            for (int i = 2; i < rule.length; i++) {
+                LOOKAHEAD_REPLACEMENT[row][rule[i].getValue()] = rule[1].getValue();
+            }
+        }
+    }
 
-    private static final Pattern INTEGER_PATTERN = Pattern.compile("(?i)^(\\+|\\-)?(0[xob])?(\\w+)$");
+    /**
+     * Capacity of the lookahead queue. Must be a power of two. The Postgres lookahead rules never need more than one
+     * token of lookahead at a time.
+     */
+    private static final int LOOKAHEAD_CAPACITY = 4;
 
     public core_yy_extra_type yyextra = new core_yy_extra_type();
     public int yyloc = 0;
@@ -74,13 +117,20 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
     Position position;
 
     /**
-     * Sometimes we try to combine two tokens into one. If that attempt fails, the second token is still valid and must
-     * be returned on the next invocation of yylex(). So if nextToken != 0, a prior invocation failed to translate a
-     * second token into something useful in the context of that invocation.
+     * Offset of the scanned text in the complete input. It is added to the offsets of all Positions, so a part of a
+     * script can be scanned while the positions remain relative to the start of the script.
      */
-    private int nextToken = 0;
-    private Object nextyylval;
-    private Position nextPosition;
+    long positionOffset;
+
+    /**
+     * Tokens that have been scanned ahead, but that are not yet returned by yylex(). It is a ring buffer of
+     * LOOKAHEAD_CAPACITY entries, starting at lookaheadHead.
+     */
+    private final int[] lookaheadToken = new int[LOOKAHEAD_CAPACITY];
+    private final Object[] lookaheadValue = new Object[LOOKAHEAD_CAPACITY];
+    private final Position[] lookaheadPosition = new Position[LOOKAHEAD_CAPACITY];
+    private int lookaheadHead;
+    private int lookaheadCount;
 
     /**
      * @see com.splendiddata.sqlparser.PgSqlParser.Lexer#yylex()
@@ -95,19 +145,7 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
     @Override
     public int yylex() throws IOException {
         yyextra.initialize();
-        yylval = null;
-        int result;
-        if (nextToken == 0) {
-            result = scan();
-        } else {
-            result = nextToken;
-            nextToken = 0;
-            yylval = nextyylval;
-            nextyylval = null;
-            position = nextPosition;
-            nextPosition = null;
-        }
-        ScanKeyword keyword = ScanKeyword.fromValue(result);
+        int result = nextToken();
 
         /*
          * Copied from: /postgresql-9.3.4/src/backend/parser/parser.c
@@ -124,218 +162,24 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
          * The filter also provides a convenient place to translate between the core_YYSTYPE and YYSTYPE representations
          * (which are really the same thing anyway, but notationally they're different).
          */
-        if (keyword != null) {
-            switch (keyword) {
-            case NOT:
-                Object currentyylval = yylval;
-                Position currentPosition = position;
-                nextToken = scan();
-                ScanKeyword nextKeyword = ScanKeyword.fromValue(nextToken);
-                if (nextKeyword == null) {
-                    nextPosition = position;
-                    position = currentPosition;
-                    nextyylval = yylval;
-                    yylval = currentyylval;
-                } else {
-                    switch (nextKeyword) {
-                    case BETWEEN:
-                    case IN_P:
-                    case LIKE:
-                    case ILIKE:
-                    case SIMILAR:
-                        keyword = ScanKeyword.NOT_LA;
-                        result = keyword.getValue();
-                        position = currentPosition;
-                        nextToken = nextKeyword.value;
-                        break;
-                    default:
-                        nextPosition = position;
-                        position = currentPosition;
-                        nextyylval = yylval;
-                        yylval = currentyylval;
-                        break;
-                    }
-                }
-                break;
-            case NULLS_P:
-                currentyylval = yylval;
-                currentPosition = position;
-                nextToken = scan();
-                nextKeyword = ScanKeyword.fromValue(nextToken);
-                if (nextKeyword == null) {
-                    nextPosition = position;
-                    position = currentPosition;
-                    nextyylval = yylval;
-                    yylval = currentyylval;
-                } else {
-                    switch (nextKeyword) {
-                    case FIRST_P:
-                    case LAST_P:
-                        keyword = ScanKeyword.NULLS_LA;
-                        result = keyword.getValue();
-                        position = currentPosition;
-                        break;
-                    default:
-                        nextPosition = position;
-                        position = currentPosition;
-                        nextyylval = yylval;
-                        yylval = currentyylval;
-                        break;
-                    }
-                }
-                break;
-            case WITH:
-                currentyylval = yylval;
-                currentPosition = position;
-                nextToken = scan();
-                nextKeyword = ScanKeyword.fromValue(nextToken);
-                if (nextKeyword == null) {
-                    nextPosition = position;
-                    position = currentPosition;
-                    nextyylval = yylval;
-                    yylval = currentyylval;
-                } else {
-                    switch (nextKeyword) {
-                    case TIME:
-                    case ORDINALITY:
-                        keyword = ScanKeyword.WITH_LA;
-                        result = keyword.getValue();
-                        position = currentPosition;
-                        break;
-                    default:
-                        nextPosition = position;
-                        position = currentPosition;
-                        nextyylval = yylval;
-                        yylval = currentyylval;
-                        break;
-                    }
-                }
-                break;
-            case WITHOUT:
-                currentyylval = yylval;
-                currentPosition = position;
-                nextToken = scan();
-                nextKeyword = ScanKeyword.fromValue(nextToken);
-                if (nextKeyword == null) {
-                    nextPosition = position;
-                    position = currentPosition;
-                    nextyylval = yylval;
-                    yylval = currentyylval;
-                } else {
-                    switch (nextKeyword) {
-                    case TIME:
-                    case ORDINALITY:
-                        keyword = ScanKeyword.WITHOUT_LA;
-                        result = keyword.getValue();
-                        position = currentPosition;
-                        break;
-                    default:
-                        nextPosition = position;
-                        position = currentPosition;
-                        nextyylval = yylval;
-                        yylval = currentyylval;
-                        break;
-                    }
-                }
-                break;
-            case FORMAT:
-                currentyylval = yylval;
-                currentPosition = position;
-                nextToken = scan();
-                nextKeyword = ScanKeyword.fromValue(nextToken);
-                if (nextKeyword == null) {
-                    nextPosition = position;
-                    position = currentPosition;
-                    nextyylval = yylval;
-                    yylval = currentyylval;
-                } else {
-                    switch (nextKeyword) {
-                    case JSON:
-                        keyword = ScanKeyword.FORMAT_LA;
-                        result = keyword.getValue();
-                        position = currentPosition;
-                        break;
-                    default:
-                        nextPosition = position;
-                        position = currentPosition;
-                        nextyylval = yylval;
-                        yylval = currentyylval;
-                        break;
-                    }
-                }
-                break;
-            case Op:
-                if ("op".equalsIgnoreCase(yylval.toString())) {
-                    keyword = ScanKeyword.IDENT;
-                    result = keyword.getValue();
-                }
-                break;
-            case USCONST:
-            case UIDENT:
-                /*
-                 * Since 8.0 - Postgres version 13
-                 */
-                if (ScanKeyword.USCONST.equals(keyword)) {
-                    result = ScanKeyword.SCONST.getValue();
-                } else {
-                    result = ScanKeyword.IDENT.getValue();
-                }
-
-                Pattern p = UNICODE_ESCAPE_PATTTERN;
-                String escapeChar = "\\\\";
-
-                currentyylval = yylval;
-                currentPosition = position;
-                nextToken = scan();
-                nextPosition = position;
-                nextyylval = yylval;
-                nextKeyword = ScanKeyword.fromValue(nextToken);
-                if (ScanKeyword.UESCAPE.equals(nextKeyword)) {
-                    nextToken = scan();
-                    nextKeyword = ScanKeyword.fromValue(nextToken);
-                    if (ScanKeyword.SCONST.equals(nextKeyword)) {
-                        if (yylval.toString().length() == 1) {
-                            if (yylval.toString().matches("[0-9A-Fa-f\\+\\\\\\\"\\s]")) {
-                                yyerror(new Location(position), "Invalid unicode escape character: \"" + yylval + "\"");
-                            } else {
-                                escapeChar = escapeForPattern(yylval.toString());
-                                p = Pattern.compile(UNICODE_ESCAPE_TEMPLATE.replace("E", escapeChar));
-                            }
-                        } else {
-                            yyerror(new Location(position), "Invalid unicode escape character: \"" + yylval + "\"");
-                        }
-                        nextToken = scan();
-                        nextPosition = position;
-                        nextyylval = yylval;
-                    } else {
-                        yyerror(new Location(position), "UESCAPE must be followed by a simple string literal");
-                    }
-                }
-
-                Matcher m = p.matcher(currentyylval.toString());
-                StringBuilder sb = new StringBuilder();
-                while (m.find()) {
-                    String gr = m.group();
-                    if (gr.length() == 2) {
-                        m.appendReplacement(sb, escapeChar);
-                    } else {
-                        try {
-                            m.appendReplacement(sb, Character.toString(Integer.parseInt(gr.substring(1), 16)));
-                        } catch (IllegalArgumentException e) {
-                            yyerror(new Location(currentPosition), e.getMessage());
-                            m.appendReplacement(sb, Pattern.quote(gr));
-                        }
-                    }
-                }
-                m.appendTail(sb);
-                yylval = sb.toString();
-                position = currentPosition;
-                break;
-            default:
-                break;
+        int row = result >= 0 && result < LOOKAHEAD_ROW.length ? LOOKAHEAD_ROW[result] : -1;
+        if (row == UNICODE_ESCAPE_ROW) {
+            result = unicodeEscapedToken(result);
+        } else if (row == OPERATOR_ROW) {
+            /*
+             * "op" is an identifier, not an operator
+             */
+            if ("op".equalsIgnoreCase(String.valueOf(yylval))) {
+                result = ScanKeyword.IDENT.getValue();
+            }
+        } else if (row >= 0) {
+            int next = peekToken();
+            if (next >= 0 && next < LOOKAHEAD_REPLACEMENT[row].length && LOOKAHEAD_REPLACEMENT[row][next] != 0) {
+                result = LOOKAHEAD_REPLACEMENT[row][next];
             }
         }
 
+        ScanKeyword keyword = ScanKeyword.fromValue(result);
         if (yylval == null) {
             if (keyword == null) {
                 yylval = Character.valueOf((char) result);
@@ -358,18 +202,91 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
     }
 
     /**
-     * Adds a backslash in front of the escapeChar if necessary when used in a regular expression
+     * Returns the next token from the lookahead queue, or from the scanner if the queue is empty. yylval and position
+     * are set to the value and position of the returned token.
      *
-     * @param escapeChar
-     *            The character to check
-     * @return String The original escapeChar or the escapeChar preceded with a backslash if a regular expression would
-     *         like it that way, think of "\", "+", "-", "(", ")" ...
+     * @return int the next token
+     * @throws IOException
+     *             from the reader
+     * @since 19.0
      */
-    private String escapeForPattern(String escapeChar) {
-        if (PATTERN_ESCAPE_CHAR.matcher(escapeChar).matches()) {
-            return "\\" + escapeChar;
+    private int nextToken() throws IOException {
+        if (lookaheadCount == 0) {
+            yylval = null;
+            return scan();
         }
-        return escapeChar;
+        int index = lookaheadHead;
+        lookaheadHead = (index + 1) & (LOOKAHEAD_CAPACITY - 1);
+        lookaheadCount--;
+        yylval = lookaheadValue[index];
+        position = lookaheadPosition[index];
+        lookaheadValue[index] = null;
+        lookaheadPosition[index] = null;
+        return lookaheadToken[index];
+    }
+
+    /**
+     * Returns the first token in the lookahead queue, scanning it if the queue is empty. yylval and position keep
+     * the value and position of the current token.
+     *
+     * @return int the next token that will be returned by {@link #nextToken()}
+     * @throws IOException
+     *             from the reader
+     * @since 19.0
+     */
+    private int peekToken() throws IOException {
+        if (lookaheadCount == 0) {
+            Object currentValue = yylval;
+            Position currentPosition = position;
+            yylval = null;
+            int index = lookaheadHead;
+            lookaheadToken[index] = scan();
+            lookaheadValue[index] = yylval;
+            lookaheadPosition[index] = position;
+            lookaheadCount = 1;
+            yylval = currentValue;
+            position = currentPosition;
+        }
+        return lookaheadToken[lookaheadHead];
+    }
+
+    /**
+     * Translates a USCONST into an SCONST or a UIDENT into an IDENT, processing the Unicode escapes in its value. If
+     * the token is followed by UESCAPE 'x', then x is the escape character. Both the UESCAPE and the string are
+     * consumed.
+     * <p>
+     * Since 8.0 - Postgres version 13
+     * </p>
+     *
+     * @param token
+     *            USCONST or UIDENT
+     * @return int SCONST or IDENT
+     * @throws IOException
+     *             from the reader
+     * @since 19.0
+     */
+    private int unicodeEscapedToken(int token) throws IOException {
+        Object value = yylval;
+        Position tokenPosition = position;
+        char escape = '\\';
+        if (peekToken() == ScanKeyword.UESCAPE.value) {
+            nextToken();
+            if (peekToken() == ScanKeyword.SCONST.value) {
+                nextToken();
+                String escapeString = yylval.toString();
+                if (escapeString.length() == 1 && check_uescapechar(escapeString.charAt(0))) {
+                    escape = escapeString.charAt(0);
+                } else {
+                    yyerror(new Location(position), "Invalid unicode escape character: \"" + yylval + "\"");
+                }
+            } else {
+                yyerror(new Location(lookaheadPosition[lookaheadHead]),
+                        "UESCAPE must be followed by a simple string literal");
+            }
+        }
+        yylval = str_udeescape(escape, value.toString(), tokenPosition);
+        position = tokenPosition;
+        return token == ScanKeyword.USCONST.value ? ScanKeyword.SCONST.value : ScanKeyword.IDENT.value;
     }
 
     /**
@@ -381,6 +298,107 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
      */
     abstract int scan() throws IOException;
 
+    /**
+     * To be implemented by the generated scanner: Starts reading from the reader, reusing the scan buffer.
+     *
+     * @param in
+     *            The reader that will provide the next sql text
+     * @since 19.0
+     */
+    abstract void resetScanner(Reader in);
+
+    /**
+     * To be implemented by the generated scanner: Starts scanning the characters of buffer from offset up to offset +
+     * length, using buffer itself as scan buffer. The buffer is not modified.
+     *
+     * @param buffer
+     *            The array that contains the next sql text
+     * @param offset
+     *            Index of the first character to scan
+     * @param length
+     *            The number of characters to scan
+     * @since 19.0
+     */
+    abstract void resetScanner(char[] buffer, int offset, int length);
+
+    /**
+     * To be implemented by the generated scanner: Returns the offset just beyond the last character of the token that
+     * was returned by the last invocation of {@link #scan()}. Like the offset of the token's Position, it includes the
+     * position offset.
+     *
+     * @return long the end offset of the last scanned token
+     * @since 19.0
+     */
+    abstract long tokenEndOffset();
+
+    /**
+     * Prepares the scanner for scanning a new sql text. The scan buffer and the literal buffer are reused, so a single
+     * scanner can scan any number of texts.
+     *
+     * @param in
+     *            The reader that will provide the next sql text
+     * @since 19.0
+     */
+    public void reset(Reader in) {
+        resetScanner(in);
+        resetState();
+    }
+
+    /**
+     * Prepares the scanner for scanning the characters of buffer from offset up to offset + length without copying
+     * them: the scanner uses buffer as its scan buffer. So the content of buffer must not be changed until scanning is
+     * done. The Positions of the tokens are relative to the start of buffer.
+     * <p>
+     * The scanner keeps a reference to buffer until it is reset again.
+     * </p>
+     *
+     * @param buffer
+     *            The array that contains the sql text
+     * @param offset
+     *            Index of the first character to scan
+     * @param length
+     *            The number of characters to scan
+     * @throws IndexOutOfBoundsException
+     *             if offset and length do not define a range within buffer
+     * @since 19.0
+     */
+    public void reset(char[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        resetScanner(buffer, offset, length);
+        resetState();
+        positionOffset = offset;
+    }
+
+    /**
+     * Clears everything that was left over from scanning a previous text
+     */
+    private void resetState() {
+        yyextra.initialize();
+        yyloc = 0;
+        yylval = null;
+        position = null;
+        Arrays.fill(lookaheadValue, null);
+        Arrays.fill(lookaheadPosition, null);
+        lookaheadHead = 0;
+        lookaheadCount = 0;
+        errordata_stack_depth = 0;
+        positionOffset = 0;
+        setErrorReported(false);
+    }
+
+    /**
+     * Sets the offset of the text that is to be scanned in the complete input, so the Positions of the tokens will be
+     * relative to the start of the complete input. Should be invoked after {@link #reset(Reader)} or
+     * {@link #reset(char[], int, int)}.
+     *
+     * @param positionOffset
+     *            The offset of the first character that is to be scanned
+     * @since 19.0
+     */
+    public void setPositionOffset(long positionOffset) {
+        this.positionOffset = positionOffset;
+    }
+
     /**
      * Returns the read value
      * 
@@ -563,13 +581,41 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
      * @return int ScanKeyword.ICONST.value or ScanKeyword.FCONST.value depending on the actual numeric value of text
      */
     int process_integer_literal(String token, Object lval, int base) {
-        yylval = token;
+        return process_integer_literal(token.toCharArray(), 0, token.length(), base);
+    }
 
-        if (!token.matches("^\\d*$") || new BigInteger(token).compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) > 0) {
-            /* integer too large (or contains decimal pt), treat it as a float */
-            return ScanKeyword.FCONST.value;
+    /**
+     * Process {decinteger}, {hexinteger}, etc. directly on the scanner's buffer, so no String needs to be created for
+     * an integer constant.
+     * <p>
+     * Only a text that consists of decimal digits only and that fits in an int becomes an ICONST. Anything else,
+     * including hexadecimal, octal and binary literals and literals with underscores, becomes an FCONST that keeps the
+     * original text.
+     * </p>
+     *
+     * @param buffer
+     *            The scanner's buffer
+     * @param start
+     *            Offset of the first character of the literal in buffer
+     * @param end
+     *            Offset just beyond the last character of the literal in buffer
+     * @param base
+     *            The numbering system: 2, 8, 10 or 16
+     * @return int ScanKeyword.ICONST.value or ScanKeyword.FCONST.value depending on the actual numeric value of text
+     * @since 19.0
+     */
+    int process_integer_literal(char[] buffer, int start, int end, int base) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+                /* integer too large (or contains decimal pt), treat it as a float */
+                yylval = new String(buffer, start, end - start);
+                return ScanKeyword.FCONST.value;
+            }
+            value = value * 10 + digit;
         }
-        yylval = Integer.valueOf(token);
+        yylval = Integer.valueOf(value);
         return ScanKeyword.ICONST.value;
     }
 
@@ -714,32 +760,145 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
      * @return boolean true if escape is a hexadecimal digit
      */
     private static boolean isxdigit(char escape) {
-        switch (escape) {
-        case 0:
-        case 1:
-        case 2:
-        case 3:
-        case 4:
-        case 5:
-        case 7:
-        case 8:
-        case 9:
-        case 'A':
-        case 'B':
-        case 'C':
-        case 'D':
-        case 'E':
-        case 'F':
-        case 'a':
-        case 'b':
-        case 'c':
-        case 'd':
-        case 'e':
-        case 'f':
-            return true;
-        default:
-            return false;
+        return escape >= '0' && escape <= '9' || escape >= 'A' && escape <= 'F' || escape >= 'a' && escape <= 'f';
+    }
+
+    /**
+     * Replaces the Unicode escapes in the value of a U&amp;'...' string or a U&amp;"..." identifier by the characters
+     * they represent. The escapes are \XXXX and \+XXXXXX (where \ is the escape character and X a hexadecimal digit)
+     * and \\ for the escape character itself.
+     * <p>
+     * The value is decoded in a single pass into yyextra.literalbuf, which is free to use again once the literal has
+     * been scanned. Errors are reported at the offset of the offending escape in the value, counted from the start of
+     * the U&amp; token.
+     * </p>
+     * <p>
+     * Inspired upon str_udeescape() in /postgresql-19/src/backend/parser/parser.c
+     * </p>
+     *
+     * @param escape
+     *            The escape character, a backslash unless specified otherwise in a UESCAPE clause
+     * @param str
+     *            The value of the string or identifier
+     * @param position
+     *            Position of the U&amp;' or U&amp;" token
+     * @return String the decoded value
+     * @since 19.0
+     */
+    String str_udeescape(char escape, String str, Position position) {
+        StringBuilder out = yyextra.literalbuf;
+        out.setLength(0);
+        int length = str.length();
+        int pairFirst = 0;
+        int pairStart = 0;
+        int in = 0;
+        while (in < length) {
+            char c = str.charAt(in);
+            if (c != escape) {
+                if (pairFirst != 0) {
+                    return udeescapeError(str, in, pairStart, position, "invalid Unicode surrogate pair", null);
+                }
+                out.append(c);
+                in++;
+                continue;
+            }
+            int unicode;
+            int escapeLength;
+            if (in + 1 < length && str.charAt(in + 1) == escape) {
+                if (pairFirst != 0) {
+                    return udeescapeError(str, in, pairStart, position, "invalid Unicode surrogate pair", null);
+                }
+                out.append(escape);
+                in += 2;
+                continue;
+            } else if ((unicode = hexValue(str, in + 1, 4)) >= 0) {
+                escapeLength = 5;
+            } else if (in + 1 < length && str.charAt(in + 1) == '+' && (unicode = hexValue(str, in + 2, 6)) >= 0) {
+                escapeLength = 8;
+            } else {
+                return udeescapeError(str, in, pairFirst == 0 ? in : pairStart, position, "invalid Unicode escape",
+                        errhint("Unicode escapes must be %sXXXX or %s+XXXXXX.", Character.valueOf(escape),
+                                Character.valueOf(escape)));
+            }
+            if (unicode == 0 || unicode > Character.MAX_CODE_POINT) {
+                return udeescapeError(str, in, pairFirst == 0 ? in : pairStart, position,
+                        "invalid Unicode escape value", null);
+            }
+            if (pairFirst != 0) {
+                if (!is_utf16_surrogate_second(unicode)) {
+                    return udeescapeError(str, in, pairStart, position, "invalid Unicode surrogate pair", null);
+                }
+                out.append((char) pairFirst).append((char) unicode);
+                pairFirst = 0;
+            } else if (is_utf16_surrogate_second(unicode)) {
+                return udeescapeError(str, in, in, position, "invalid Unicode surrogate pair", null);
+            } else if (is_utf16_surrogate_first(unicode)) {
+                pairFirst = unicode;
+                pairStart = in;
+            } else {
+                out.appendCodePoint(unicode);
+            }
+            in += escapeLength;
         }
+        if (pairFirst != 0) {
+            /* unfinished surrogate pair */
+            return udeescapeError(str, in, pairStart, position, "invalid Unicode surrogate pair", null);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Returns the value of digits hexadecimal digits in str, starting at offset
+     *
+     * @param str
+     *            The text that is supposed to contain the digits
+     * @param offset
+     *            Offset of the first digit in str
+     * @param digits
+     *            The number of digits to interpret
+     * @return int the value or -1 if str doesn't contain that many hexadecimal digits at offset
+     * @since 19.0
+     */
+    private static int hexValue(String str, int offset, int digits) {
+        if (offset + digits > str.length()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            char c = str.charAt(i);
+            if (!isxdigit(c)) {
+                return -1;
+            }
+            result = (result << 4) + Character.digit(c, 16);
+        }
+        return result;
+    }
+
+    /**
+     * Reports an error in a Unicode escape for {@link #str_udeescape(char, String, Position)}. The remainder of str is
+     * copied to the result unchanged.
+     *
+     * @param str
+     *            The value that is being decoded
+     * @param in
+     *            Offset in str where the error is found
+     * @param copyFrom
+     *            Offset in str from which the remainder is to be copied, which is before in if the first half of a
+     *            surrogate pair is pending
+     * @param position
+     *            Position of the U&amp;' or U&amp;" token
+     * @param message
+     *            The error message
+     * @param hint
+     *            An optional hint, may be null
+     * @return String the partly decoded value
+     * @since 19.0
+     */
+    private String udeescapeError(String str, int in, int copyFrom, Position position, String message, ErrHint hint) {
+        /* 3 for U&" */
+        ereport(Severity.ERROR, ErrCode.ERRCODE_SYNTAX_ERROR, errmsg(message), hint,
+                new Location(new Position(position.getOffset() + 3 + in)));
+        return yyextra.literalbuf.append(str, copyFrom, str.length()).toString();
     }
 
     /**
@@ -962,6 +1121,53 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
         return text.toLowerCase();
     }
 
+    /**
+     * Converts the characters buffer[offset .. offset + length&gt; to a lower case String. If truncate, the text is
+     * truncated to NAMEDATALEN (=64) characters.
+     * <p>
+     * Does the same as {@link #downcase_truncate_identifier(String, boolean)}, but for the common case of a plain
+     * ASCII identifier the String is created directly from the scanner buffer without intermediate Strings.
+     * </p>
+     *
+     * @param buffer
+     *            The scanner buffer
+     * @param offset
+     *            Offset of the identifier in the buffer
+     * @param length
+     *            Length of the identifier
+     * @param truncate
+     *            true if the result is to be truncated to NAMEDATALEN characters
+     * @return String The text converted to lower case
+     */
+    String downcase_truncate_identifier(char[] buffer, int offset, int length, boolean truncate) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            char c = buffer[i];
+            if (c >= 0x80) {
+                return downcase_truncate_identifier(new String(buffer, offset, length), truncate);
+            }
+            if (c >= 'A' && c <= 'Z') {
+                char[] lowerCase = new char[truncate && length > NAMEDATALEN ? NAMEDATALEN : length];
+                int copyLength = Math.min(lowerCase.length, i - offset);
+                System.arraycopy(buffer, offset, lowerCase, 0, copyLength);
+                for (int j = copyLength; j < lowerCase.length; j++) {
+                    c = buffer[offset + j];
+                    if (c >= 'A' && c <= 'Z') {
+                        c += 'a' - 'A';
+                    } else if (c >= 0x80) {
+                        return downcase_truncate_identifier(new String(buffer, offset, length), truncate);
+                    }
+                    lowerCase[j] = c;
+                }
+                return new String(lowerCase);
+            }
+        }
+        if (truncate && length > NAMEDATALEN) {
+            return new String(buffer, offset, NAMEDATALEN);
+        }
+        return new String(buffer, offset, length);
+    }
+
     /**
      * Would be used if byte arrays would have been used instead of character arrays
      *
@@ -1010,6 +1216,26 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
         return ScanKeyword.fromName(keyword);
     }
 
+    /**
+     * Translates the text in the buffer that starts at offset with the specified length into a ScanKeyword, or null if
+     * not found.
+     * <p>
+     * Unlike {@link #ScanKeywordLookup(String)} no String is created, so a keyword is recognised without any
+     * allocation.
+     * </p>
+     *
+     * @param buffer
+     *            The scanner buffer
+     * @param offset
+     *            Offset of the word in the buffer
+     * @param length
+     *            Length of the word
+     * @return ScanKeyword The keyword that is identified by the characters or null if not found.
+     */
+    ScanKeyword ScanKeywordLookup(char[] buffer, int offset, int length) {
+        return ScanKeyword.fromChars(buffer, offset, length);
+    }
+
     /**
      * Just returns a zero
      *
@@ -1072,83 +1298,130 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
      * @since Postgres 18
      */
     int pg_strtoint_safe(String s, ErrorSaveContext escontext) {
-        String str = s.trim();
-        Matcher matcher = INTEGER_PATTERN.matcher(str.replaceAll("(?<=\\d)_(?=\\d)", ""));
-        int result = 0;
-        if (matcher.matches()) {
-            log.trace(() -> new StringBuilder().append("pg_strtoint_safe s = ").append(s).append(", group 0 = ")
-                    .append(matcher.group(0)).append(", group 1 = ").append(matcher.group(1)).append(", group 2 = ")
-                    .append(matcher.group(2)).append(", group 3 = ").append(matcher.group(3)).toString());
-            if (matcher.group(2) == null) {
-                try {
-                    result = Integer.parseInt(matcher.group(0));
-                } catch (NumberFormatException e) {
-                    if (matcher.group(0).matches("^(\\+|\\-)?\\d+$")) {
-                        ereport(Severity.ERROR, ErrCode.ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE,
-                                errmsg("value \"%s\" is out of range for type %s", str, "integer"));
-                    } else {
-                        ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
-                                errmsg("invalid input syntax for type %s: \"%s\"", "integer", str));
-                    }
-                    escontext.error_occurred = true;
-                }
-            } else {
-                switch (matcher.group(2).toLowerCase()) {
-                case "0x" -> {
-                    try {
-                        result = Integer.parseInt(matcher.group(3), 16);
-                    } catch (NumberFormatException e) {
-                        if (matcher.group(3).matches("^[0-9A-Fa-f]+$")) {
-                            ereport(Severity.ERROR, ErrCode.ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE,
-                                    errmsg("value \"%s\" is out of range for type %s", str, "integer"));
-                        } else {
-                            ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
-                                    errmsg("invalid input syntax for type %s: \"%s\"", "integer", str));
-                        }
-                        escontext.error_occurred = true;
-                    }
-                }
-                case "0o" -> {
-                    try {
-                        result = Integer.parseInt(matcher.group(3), 8);
-                    } catch (NumberFormatException e) {
-                        if (matcher.group(3).matches("^[0-7]+$")) {
-                            ereport(Severity.ERROR, ErrCode.ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE,
-                                    errmsg("value \"%s\" is out of range for type %s", str, "integer"));
-                        } else {
-                            ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
-                                    errmsg("invalid input syntax for type %s: \"%s\"", "integer", str));
-                        }
-                        escontext.error_occurred = true;
-                    }
-                }
-                case "0b" -> {
-                    try {
-                        result = Integer.parseInt(matcher.group(3), 2);
-                    } catch (NumberFormatException e) {
-                        if (matcher.group(3).matches("^[01]+$")) {
-                            ereport(Severity.ERROR, ErrCode.ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE,
-                                    errmsg("value \"%s\" is out of range for type %s", str, "integer"));
-                        } else {
-                            ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
-                                    errmsg("invalid input syntax for type %s: \"%s\"", "integer", str));
-                        }
-                        escontext.error_occurred = true;
-                    }
-                }
-                }
-                ;
-                if (matcher.group(1) != null && matcher.group(1).equals("-")) {
-                    result = -result;
-                }
+        return pg_strtoint_safe(s.toCharArray(), 0, s.length(), escontext);
+    }
+
+    /**
+     * Single pass version of {@link #pg_strtoint_safe(String, ErrorSaveContext)} that works directly on a range of
+     * characters, such as a part of the scanner's buffer, without regular expressions and without creating a String
+     * unless an error is to be reported.
+     * <p>
+     * The accepted syntax and the errors are the same as those of the String version: leading and trailing whitespace
+     * is ignored, an underscore is only skipped if it is directly surrounded by decimal digits, a value that only
+     * consists of valid digits but doesn't fit in an int is reported as ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE and
+     * anything else that is not a valid integer as ERRCODE_INVALID_TEXT_REPRESENTATION. Hexadecimal, octal and binary
+     * values are accumulated as a positive number before the sign is applied.
+     * </p>
+     *
+     * @param buffer
+     *            Contains the input
+     * @param start
+     *            Offset of the first character of the input in buffer
+     * @param end
+     *            Offset just beyond the last character of the input in buffer
+     * @param escontext
+     *            for error logging
+     * @return int The converted value, or 0 if an error is reported
+     * @since 19.0
+     */
+    int pg_strtoint_safe(char[] buffer, int start, int end, ErrorSaveContext escontext) {
+        int first = start;
+        int last = end;
+        while (first < last && buffer[first] <= ' ') {
+            first++;
+        }
+        while (last > first && buffer[last - 1] <= ' ') {
+            last--;
+        }
+
+        int pos = first;
+        boolean negative = false;
+        if (pos < last && (buffer[pos] == '-' || buffer[pos] == '+')) {
+            negative = buffer[pos] == '-';
+            pos++;
+        }
+        if (pos == last) {
+            return strtointInvalidSyntax(new String(buffer, start, end - start), escontext);
+        }
+        for (int i = pos; i < last; i++) {
+            char c = buffer[i];
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_')) {
+                return strtointInvalidSyntax(new String(buffer, start, end - start), escontext);
             }
-        } else {
-            ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
-                    errmsg("invalid input syntax for type %s: \"%s\"", "integer", s));
+        }
+
+        int radix = 10;
+        if (last - pos > 2 && buffer[pos] == '0') {
+            switch (buffer[pos + 1]) {
+            case 'x', 'X' -> radix = 16;
+            case 'o', 'O' -> radix = 8;
+            case 'b', 'B' -> radix = 2;
+            default -> radix = 10;
+            }
+            if (radix != 10) {
+                pos += 2;
+            }
+        }
+
+        /*
+         * Decimal values are accumulated negatively, so Integer.MIN_VALUE can be converted. The other radixes must fit
+         * in a positive int before the sign is applied.
+         */
+        long limit = radix == 10 && negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        boolean outOfRange = false;
+        for (int i = pos; i < last; i++) {
+            char c = buffer[i];
+            if (c == '_' && i > first && isDecimalDigit(buffer[i - 1]) && i + 1 < last
+                    && isDecimalDigit(buffer[i + 1])) {
+                continue;
+            }
+            int digit = Character.digit(c, radix);
+            if (digit < 0) {
+                return strtointInvalidSyntax(new String(buffer, first, last - first), escontext);
+            }
+            if (!outOfRange) {
+                value = value * radix + digit;
+                outOfRange = value > limit;
+            }
+        }
+        if (outOfRange) {
+            ereport(Severity.ERROR, ErrCode.ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE, errmsg(
+                    "value \"%s\" is out of range for type %s", new String(buffer, first, last - first), "integer"));
             escontext.error_occurred = true;
+            return 0;
         }
+        return (int) (negative ? -value : value);
+    }
 
-        return result;
+    /**
+     * Reports an ERRCODE_INVALID_TEXT_REPRESENTATION error for {@link #pg_strtoint_safe(char[], int, int,
+     * ErrorSaveContext)}
+     *
+     * @param str
+     *            The text that is not a valid integer
+     * @param escontext
+     *            for error logging
+     * @return int 0
+     * @since 19.0
+     */
+    private int strtointInvalidSyntax(String str, ErrorSaveContext escontext) {
+        ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
+                errmsg("invalid input syntax for type %s: \"%s\"", "integer", str));
+        escontext.error_occurred = true;
+        return 0;
+    }
+
+    /**
+     * Checks if c is one of the ASCII digits 0 .. 9
+     *
+     * @param c
+     *            The character to check
+     * @return boolean true if c is a decimal digit
+     * @since 19.0
+     */
+    private static boolean isDecimalDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
@@ -1164,4 +1437,22 @@ public abstract class AbstractScanner extends AbstractCProgram implements com.sp
     int pg_strtoint32_safe(String s, ErrorSaveContext escontext) {
         return pg_strtoint_safe(s, escontext);
     }
+
+    /**
+     * Just executes {@link #pg_strtoint_safe(char[], int, int, ErrorSaveContext)}.
+     *
+     * @param buffer
+     *            Contains the input
+     * @param start
+     *            Offset of the first character of the input in buffer
+     * @param end
+     *            Offset just beyond the last character of the input in buffer
+     * @param escontext
+     *            for error logging
+     * @return int
+     * @since 19.0
+     */
+    int pg_strtoint32_safe(char[] buffer, int start, int end, ErrorSaveContext escontext) {
+        return pg_strtoint_safe(buffer, start, end, escontext);
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.Reader;
+
+/**
+ * Reader on a CharSequence that can be pointed at a new CharSequence, so a {@link SqlParser} that parses many
+ * statements doesn't need a new Reader for each of them.
+ * <p>
+ * Unlike {@link java.io.StringReader} this class is not synchronized. It is only used by a single SqlParser.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+final class CharSequenceReader extends Reader {
+    private CharSequence source = "";
+    private int position;
+    private int end;
+
+    /**
+     * Makes the reader return the characters of source from the start
+     *
+     * @param source
+     *            The text to read. null is treated as an empty text
+     * @return CharSequenceReader this
+     */
+    CharSequenceReader setSource(CharSequence source) {
+        this.source = source == null ? "" : source;
+        this.position = 0;
+        this.end = this.source.length();
+        return this;
+    }
+
+    /**
+     * Makes the reader return the characters of source from start (inclusive) to end (exclusive)
+     *
+     * @param source
+     *            The text of which a part is to be read
+     * @param start
+     *            Offset of the first character to read
+     * @param end
+     *            Offset just beyond the last character to read
+     * @return CharSequenceReader this
+     * @throws IndexOutOfBoundsException
+     *             if start and end do not define a range within source
+     * @since 19.0
+     */
+    CharSequenceReader setSource(CharSequence source, int start, int end) {
+        if (start < 0 || end < start || end > source.length()) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + source.length());
+        }
+        this.source = source;
+        this.position = start;
+        this.end = end;
+        return this;
+    }
+
+    /**
+     * @see java.io.Reader#read(char[], int, int)
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= end) {
+            return -1;
+        }
+        int n = Math.min(len, end - position);
+        if (source instanceof String str) {
+            str.getChars(position, position + n, cbuf, off);
+        } else if (source instanceof StringBuilder sb) {
+            sb.getChars(position, position + n, cbuf, off);
+        } else {
+            for (int i = 0; i < n; i++) {
+                cbuf[off + i] = source.charAt(position + i);
+            }
+        }
+        position += n;
+        return n;
+    }
+
+    /**
+     * @see java.io.Reader#read()
+     */
+    @Override
+    public int read() {
+        if (position >= end) {
+            return -1;
+        }
+        return source.charAt(position++);
+    }
+
+    /**
+     * @see java.io.Reader#ready()
+     */
+    @Override
+    public boolean ready() {
+        return true;
+    }
+
+    /**
+     * Releases the source, so it can be garbage collected
+     *
+     * @see java.io.Reader#close()
+     */
+    @Override
+    public void close() {
+        setSource(null);
+    }
+}
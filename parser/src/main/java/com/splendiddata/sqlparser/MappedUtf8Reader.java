@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Reader that decodes a memory-mapped UTF-8 file straight into the buffer of the caller, which is the scan buffer of
+ * the scanner. So a file is read without an intermediate byte buffer or char buffer.
+ * <p>
+ * Files that are larger than the window size are mapped one window at a time. Malformed UTF-8 is reported as a
+ * {@link java.nio.charset.CharacterCodingException}.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+final class MappedUtf8Reader extends Reader {
+    /**
+     * The maximum number of bytes that is mapped at once
+     */
+    static final int DEFAULT_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean endOfInput;
+
+    /**
+     * A character pair that doesn't fit in the caller's buffer is decoded into this one
+     */
+    private final CharBuffer spare = CharBuffer.allocate(2);
+
+    /**
+     * Constructor
+     *
+     * @param file
+     *            The UTF-8 encoded file to read
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    MappedUtf8Reader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param file
+     *            The UTF-8 encoded file to read
+     * @param windowSize
+     *            The maximum number of bytes that is mapped at once. Must be at least 4, the maximum length of a UTF-8
+     *            sequence
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    MappedUtf8Reader(Path file, int windowSize) throws IOException {
+        if (windowSize < 4) {
+            throw new IllegalArgumentException("windowSize must be at least 4, not " + windowSize);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.spare.limit(0);
+    }
+
+    /**
+     * @see java.io.Reader#read(char[], int, int)
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (spare.hasRemaining()) {
+            cbuf[off] = spare.get();
+            return 1;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off) {
+            if (endOfInput) {
+                return -1;
+            }
+            if (window == null || !window.hasRemaining() && windowStart + window.limit() < size) {
+                mapNextWindow();
+            }
+            boolean lastWindow = windowStart + window.limit() == size;
+            CoderResult result = decoder.decode(window, out, lastWindow);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (result.isOverflow() && out.position() == off) {
+                /*
+                 * A surrogate pair doesn't fit in a single char
+                 */
+                spare.clear();
+                result = decoder.decode(window, spare, lastWindow);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                spare.flip();
+                cbuf[off] = spare.get();
+                return 1;
+            }
+            if (result.isUnderflow()) {
+                if (lastWindow) {
+                    decoder.flush(out);
+                    endOfInput = true;
+                } else if (window.hasRemaining()) {
+                    /*
+                     * The window ends in the middle of a UTF-8 sequence
+                     */
+                    mapNextWindow();
+                }
+            }
+        }
+        return out.position() - off;
+    }
+
+    /**
+     * Maps the part of the file from the first byte that hasn't been decoded yet
+     *
+     * @throws IOException
+     *             from the FileChannel
+     */
+    private void mapNextWindow() throws IOException {
+        if (window != null) {
+            windowStart += window.position();
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, size - windowStart));
+    }
+
+    /**
+     * Closes the file. The mapped window is released when it is garbage collected.
+     *
+     * @see java.io.Reader#close()
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        endOfInput = true;
+        channel.close();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import com.splendiddata.sqlparser.enums.NodeTag;
+import com.splendiddata.sqlparser.structure.NodeBinaryLayout;
+
+/**
+ * The binary format of {@link NodeBinaryWriter} and {@link NodeBinaryReader}.
+ * <p>
+ * A stream starts with the {@link #MAGIC} bytes, the {@link #FORMAT_VERSION} as varint and a flags byte. It is
+ * followed by a single value, which usually is a Node or the List of Nodes of a parse result. A value is written as a
+ * tag byte followed by its content:
+ * </p>
+ * <ul>
+ * <li>{@link #NULL}, {@link #FALSE} and {@link #TRUE} have no content</li>
+ * <li>{@link #STRING} is followed by the length of the UTF-8 encoding and the UTF-8 bytes. Every String gets the next
+ * index in the string table, so a {@link #STRING_REF} with the varint index is written when it occurs again.</li>
+ * <li>{@link #OBJECT} is followed by a class reference and the fields of the object. The class reference is a varint
+ * index in the class table. The index that is equal to the size of the class table introduces a new class: it is
+ * followed by the length and UTF-8 bytes of the class name and by the 8 byte {@link #fingerprint(String) fingerprint}
+ * of the class, which protects against reading a tree that was written with other structure classes.</li>
+ * <li>{@link #LIST} is followed by the number of elements as varint and the element values</li>
+ * <li>{@link #ENUM} is followed by a class reference and the ordinal as varint</li>
+ * <li>{@link #LOCATION} is followed by the begin and end offsets as varint, each plus one so that 0 can represent
+ * null</li>
+ * <li>The other tags are followed by the boxed primitive, as zigzag varint or as the IEEE 754 bits</li>
+ * </ul>
+ * <p>
+ * The fields of an object are written in the order of {@link NodeBinaryLayout}: those of the super classes first and
+ * within a class sorted by name. Fields of a primitive type are written without tag, as zigzag varint or as the IEEE
+ * 754 bits. Fields of an enum type are written without tag as the ordinal plus one, or 0 for null. That includes the
+ * {@link NodeTag} of each node. Fields of type String are written as a String value with tag. Location fields are only
+ * written if the {@link #FLAG_LOCATIONS} flag is set. All other fields are written as tagged values.
+ * </p>
+ * <p>
+ * The fingerprint of a structure class covers the names and the generic types of its fields in the order in which they
+ * are written, and the constants of the enum types among them. The fingerprint of an enum covers its constants. So a
+ * stream that was written with a structure class or enum that has changed since is rejected, even if it has the same
+ * number of fields or constants.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+final class NodeBinaryFormat {
+    /**
+     * The first bytes of every stream
+     */
+    static final byte[] MAGIC = { 'P', 'G', 'S', 'T' };
+
+    /**
+     * To be incremented whenever the format changes. Changes to the structure classes are detected by the fingerprints.
+     */
+    static final int FORMAT_VERSION = 2;
+
+    /**
+     * Flag that tells that the stream contains the Location fields
+     */
+    static final int FLAG_LOCATIONS = 1;
+
+    static final int NULL = 0;
+    static final int FALSE = 1;
+    static final int TRUE = 2;
+    static final int STRING = 3;
+    static final int STRING_REF = 4;
+    static final int OBJECT = 5;
+    static final int LIST = 6;
+    static final int ENUM = 7;
+    static final int LOCATION = 8;
+    static final int BYTE = 9;
+    static final int SHORT = 10;
+    static final int CHAR = 11;
+    static final int INT = 12;
+    static final int LONG = 13;
+    static final int FLOAT = 14;
+    static final int DOUBLE = 15;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * The fingerprints of the enums, which cover their constants
+     */
+    static final ClassValue<Long> ENUM_FINGERPRINTS = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return Long.valueOf(fingerprint(describeEnum(type)));
+        }
+    };
+
+    /**
+     * No instances
+     */
+    private NodeBinaryFormat() {
+        // static fields only
+    }
+
+    /**
+     * Returns the names of the constants of an enum, in the order of their ordinals
+     *
+     * @param type
+     *            The enum class
+     * @return String The names, separated by commas
+     */
+    static String describeEnum(Class<?> type) {
+        StringBuilder result = new StringBuilder();
+        for (Object constant : type.getEnumConstants()) {
+            if (!result.isEmpty()) {
+                result.append(',');
+            }
+            result.append(((Enum<?>) constant).name());
+        }
+        return result.toString();
+    }
+
+    /**
+     * Computes the 64 bit FNV-1a hash of a description of a class
+     *
+     * @param description
+     *            The description of the fields or constants of the class
+     * @return long The fingerprint
+     */
+    static long fingerprint(String description) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < description.length(); i++) {
+            char c = description.charAt(i);
+            hash = (hash ^ (c & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
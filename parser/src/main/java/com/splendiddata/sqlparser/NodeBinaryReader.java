@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.splendiddata.sqlparser.enums.NodeTag;
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Location;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.NodeBinaryLayout;
+import com.splendiddata.sqlparser.structure.Position;
+
+/**
+ * Reads parse trees that were written by a {@link NodeBinaryWriter}. The format is described in
+ * {@link NodeBinaryFormat}.
+ * <p>
+ * Only the classes of the structure package that {@link NodeBinaryLayout} knows are instantiated, and only enums of the
+ * enums and structure packages are looked up, whatever the stream says. A stream that was written by another version
+ * of the parser, or with structure classes or enums of which the fields or constants have changed since, is rejected
+ * with an InvalidClassException.
+ * </p>
+ * <p>
+ * The fields are set by the generated {@link NodeBinaryLayout}, without reflection. The reader keeps the path from the
+ * root to the node that is being read on a stack of its own, so the depth of a tree is not limited by the call stack.
+ * </p>
+ * <p>
+ * A NodeBinaryReader holds no state, so one instance may be used by many threads at the same time.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeBinaryReader {
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The initial size of the stack of nodes that are being read
+     */
+    private static final int INITIAL_DEPTH = 32;
+
+    /**
+     * The layout index on the stack for a List
+     */
+    private static final int LIST_FRAME = -1;
+
+    private static final String ENUMS_PACKAGE = NodeTag.class.getPackageName() + '.';
+    private static final String STRUCTURE_PACKAGE = Node.class.getPackageName() + '.';
+
+    /**
+     * Reads a node from a byte array
+     *
+     * @param bytes
+     *            The bytes that were produced by {@link NodeBinaryWriter#toBytes(Object)}
+     * @return Object The node, list of nodes or other structure object that was written
+     * @throws IOException
+     *             If the bytes are not a valid binary parse tree of this version of the parser
+     */
+    public Object fromBytes(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Reads a node from an InputStream. The stream is read in blocks. If the stream supports mark and reset, it is
+     * positioned just after the tree when done, so another tree or other data may follow. Otherwise bytes after the
+     * tree may have been consumed. The stream is not closed.
+     *
+     * @param in
+     *            The stream to read from
+     * @return Object The node, list of nodes or other structure object that was written
+     * @throws IOException
+     *             If reading fails or if the stream doesn't contain a valid binary parse tree of this version of the
+     *             parser
+     */
+    public Object read(InputStream in) throws IOException {
+        Decoder decoder = new Decoder(in);
+        for (byte expected : NodeBinaryFormat.MAGIC) {
+            if (decoder.readByte() != expected) {
+                throw new StreamCorruptedException("Not a binary parse tree");
+            }
+        }
+        int version = (int) decoder.readVarint();
+        if (version != NodeBinaryFormat.FORMAT_VERSION) {
+            throw new InvalidClassException("Unsupported binary parse tree format version " + version
+                    + ", expected version " + NodeBinaryFormat.FORMAT_VERSION);
+        }
+        decoder.withLocations = (decoder.readByte() & NodeBinaryFormat.FLAG_LOCATIONS) != 0;
+        Object result = decoder.readTree();
+        decoder.finish();
+        return result;
+    }
+
+    /**
+     * The state of a single read action: the input buffer, the string and class tables and the stack of the nodes and
+     * lists of which the content is being read
+     */
+    private static final class Decoder implements NodeBinaryLayout.Input {
+        private final InputStream in;
+
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean withLocations;
+        private final ArrayList<String> strings = new ArrayList<>();
+        private final ArrayList<Class<?>> classes = new ArrayList<>();
+
+        /*
+         * The stack: per node or list the object itself, its NodeBinaryLayout index or LIST_FRAME and the step to
+         * resume it at. For a list the step is the number of elements that are still to be read.
+         */
+        private Object[] objects = new Object[INITIAL_DEPTH];
+        private int[] indexes = new int[INITIAL_DEPTH];
+        private int[] steps = new int[INITIAL_DEPTH];
+        private int depth;
+
+        /**
+         * Set by {@link #readValue()} if the value is a node or list that was put on the stack
+         */
+        private boolean descended;
+
+        /**
+         * Constructor
+         *
+         * @param in
+         *            The stream to read from
+         */
+        Decoder(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Gives the bytes in the buffer that were not used back to the stream, if it supports that
+         *
+         * @throws IOException
+         *             If resetting the stream fails
+         */
+        void finish() throws IOException {
+            if (position < limit && in.markSupported()) {
+                in.reset();
+                in.skipNBytes(position);
+            }
+        }
+
+        /**
+         * Reads a value with all nodes and lists in it
+         *
+         * @return Object The value, may be null
+         * @throws IOException
+         *             If reading fails
+         */
+        Object readTree() throws IOException {
+            Object result = readValue();
+            while (depth > 0) {
+                int top = depth - 1;
+                int step;
+                if (indexes[top] == LIST_FRAME) {
+                    step = readElements(objects[top], steps[top]);
+                } else {
+                    try {
+                        step = NodeBinaryLayout.read(indexes[top], objects[top], steps[top], this);
+                    } catch (ClassCastException e) {
+                        throw (StreamCorruptedException) new StreamCorruptedException(
+                                "Value of the wrong type for a field of " + objects[top].getClass().getName())
+                                .initCause(e);
+                    }
+                }
+                if (step == NodeBinaryLayout.DONE) {
+                    objects[top] = null;
+                    depth = top;
+                } else {
+                    steps[top] = step;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Reads the elements of a list, until an element is a node or list of which the content is to be read first
+         *
+         * @param list
+         *            The list
+         * @param remaining
+         *            The number of elements that are still to be read
+         * @return int The number of elements that are still to be read, or DONE
+         * @throws IOException
+         *             If reading fails
+         */
+        @SuppressWarnings("unchecked")
+        private int readElements(Object list, int remaining) throws IOException {
+            List<Object> elements = (List<Object>) list;
+            for (int i = remaining; i > 0;) {
+                elements.add(readValue());
+                i--;
+                if (descended) {
+                    return i;
+                }
+            }
+            return NodeBinaryLayout.DONE;
+        }
+
+        /**
+         * Puts a node or list on the stack, so its content is read next
+         *
+         * @param object
+         *            The node or list
+         * @param index
+         *            The NodeBinaryLayout index of the class of the node, or LIST_FRAME
+         * @param step
+         *            0 for a node, the number of elements for a list
+         */
+        private void push(Object object, int index, int step) {
+            if (depth == objects.length) {
+                objects = Arrays.copyOf(objects, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+                steps = Arrays.copyOf(steps, depth * 2);
+            }
+            objects[depth] = object;
+            indexes[depth] = index;
+            steps[depth] = step;
+            depth++;
+            descended = true;
+        }
+
+        /**
+         * Reads a value with its tag. A node or a non-empty list is returned empty, its content is left to
+         * {@link #readTree()}.
+         *
+         * @return Object The value, may be null
+         * @throws IOException
+         *             If reading fails
+         */
+        @Override
+        public Object readValue() throws IOException {
+            descended = false;
+            int tag = readByte();
+            switch (tag) {
+            case NodeBinaryFormat.NULL:
+                return null;
+            case NodeBinaryFormat.FALSE:
+                return Boolean.FALSE;
+            case NodeBinaryFormat.TRUE:
+                return Boolean.TRUE;
+            case NodeBinaryFormat.STRING:
+            case NodeBinaryFormat.STRING_REF:
+                return readStringValue(tag);
+            case NodeBinaryFormat.OBJECT:
+                int index = NodeBinaryLayout.indexOf(readClass());
+                if (index < 0) {
+                    throw new StreamCorruptedException("Object of an enum class");
+                }
+                Object object = NodeBinaryLayout.newInstance(index);
+                push(object, index, 0);
+                return object;
+            case NodeBinaryFormat.LIST:
+                int size = readLength();
+                List<Object> list = new List<>();
+                if (size > 0) {
+                    push(list, LIST_FRAME, size);
+                }
+                return list;
+            case NodeBinaryFormat.ENUM:
+                Object[] constants = readClass().getEnumConstants();
+                if (constants == null) {
+                    throw new StreamCorruptedException("Enum value of a class that is not an enum");
+                }
+                return constants[readIndex(constants.length)];
+            case NodeBinaryFormat.LOCATION:
+                return readLocationOffsets();
+            case NodeBinaryFormat.BYTE:
+                return Byte.valueOf((byte) readZigzag());
+            case NodeBinaryFormat.SHORT:
+                return Short.valueOf((short) readZigzag());
+            case NodeBinaryFormat.CHAR:
+                return Character.valueOf(readChar());
+            case NodeBinaryFormat.INT:
+                return Integer.valueOf((int) readZigzag());
+            case NodeBinaryFormat.LONG:
+                return Long.valueOf(readZigzag());
+            case NodeBinaryFormat.FLOAT:
+                return Float.valueOf(readFloat());
+            case NodeBinaryFormat.DOUBLE:
+                return Double.valueOf(readDouble());
+            default:
+                throw new StreamCorruptedException("Unknown tag " + tag);
+            }
+        }
+
+        @Override
+        public boolean descended() {
+            return descended;
+        }
+
+        @Override
+        public boolean readBoolean() throws IOException {
+            return readByte() != 0;
+        }
+
+        @Override
+        public char readChar() throws IOException {
+            return (char) readVarint();
+        }
+
+        @Override
+        public float readFloat() throws IOException {
+            return Float.intBitsToFloat((int) readFixed(4));
+        }
+
+        @Override
+        public double readDouble() throws IOException {
+            return Double.longBitsToDouble(readFixed(8));
+        }
+
+        @Override
+        public String readString() throws IOException {
+            int tag = readByte();
+            if (tag == NodeBinaryFormat.NULL) {
+                return null;
+            }
+            if (tag != NodeBinaryFormat.STRING && tag != NodeBinaryFormat.STRING_REF) {
+                throw new StreamCorruptedException("String expected instead of tag " + tag);
+            }
+            return readStringValue(tag);
+        }
+
+        @Override
+        public <E> E readEnum(E[] constants) throws IOException {
+            int ordinal = readIndex(constants.length + 1);
+            return ordinal == 0 ? null : constants[ordinal - 1];
+        }
+
+        @Override
+        public Location readLocation() throws IOException {
+            if (!withLocations) {
+                return null;
+            }
+            int tag = readByte();
+            if (tag == NodeBinaryFormat.NULL) {
+                return null;
+            }
+            if (tag != NodeBinaryFormat.LOCATION) {
+                throw new StreamCorruptedException("Location expected instead of tag " + tag);
+            }
+            return readLocationOffsets();
+        }
+
+        /**
+         * Reads a String or a reference to a String that was read before
+         *
+         * @param tag
+         *            STRING or STRING_REF
+         * @return String The String
+         * @throws IOException
+         *             If reading fails
+         */
+        private String readStringValue(int tag) throws IOException {
+            if (tag == NodeBinaryFormat.STRING_REF) {
+                return strings.get(readIndex(strings.size()));
+            }
+            String string = readUtf8();
+            strings.add(string);
+            return string;
+        }
+
+        /**
+         * Reads the length of the UTF-8 encoding of a String and the UTF-8 bytes
+         *
+         * @return String The String
+         * @throws IOException
+         *             If reading fails
+         */
+        private String readUtf8() throws IOException {
+            byte[] bytes = new byte[readLength()];
+            for (int offset = 0; offset < bytes.length;) {
+                if (position < limit) {
+                    int count = Math.min(limit - position, bytes.length - offset);
+                    System.arraycopy(buffer, position, bytes, offset, count);
+                    position += count;
+                    offset += count;
+                } else {
+                    bytes[offset++] = (byte) readByte();
+                }
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a class reference, preceded by the name and fingerprint of the class if it is not in the class table
+         * yet
+         *
+         * @return Class&lt;?&gt; The class, either one that NodeBinaryLayout knows or an enum
+         * @throws IOException
+         *             If reading fails, if the class is not allowed or if its fingerprint differs
+         */
+        private Class<?> readClass() throws IOException {
+            int index = readIndex(classes.size() + 1);
+            if (index < classes.size()) {
+                return classes.get(index);
+            }
+            String name = readUtf8();
+            long fingerprint = readFixed(8);
+            int layoutIndex = NodeBinaryLayout.indexOf(name);
+            Class<?> type;
+            long expected;
+            if (layoutIndex >= 0) {
+                type = NodeBinaryLayout.type(layoutIndex);
+                expected = NodeBinaryLayout.fingerprint(layoutIndex);
+            } else {
+                if (!name.startsWith(ENUMS_PACKAGE) && !name.startsWith(STRUCTURE_PACKAGE)) {
+                    throw new InvalidClassException(name, "Not a structure class");
+                }
+                try {
+                    type = Class.forName(name, false, NodeBinaryReader.class.getClassLoader());
+                } catch (ClassNotFoundException e) {
+                    throw (InvalidClassException) new InvalidClassException(name, "Unknown class").initCause(e);
+                }
+                if (!type.isEnum()) {
+                    throw new InvalidClassException(name, "Not an enum");
+                }
+                expected = NodeBinaryFormat.ENUM_FINGERPRINTS.get(type).longValue();
+            }
+            if (fingerprint != expected) {
+                throw new InvalidClassException(name, "Written by another version, with other "
+                        + (type.isEnum() ? "constants" : "fields"));
+            }
+            classes.add(type);
+            return type;
+        }
+
+        /**
+         * Reads the offsets of a Location
+         *
+         * @return Location The location
+         * @throws IOException
+         *             If reading fails
+         */
+        private Location readLocationOffsets() throws IOException {
+            long beginOffset = readVarint();
+            Position begin = beginOffset == 0 ? null : new Position(beginOffset - 1);
+            long endOffset = readVarint();
+            if (endOffset == 1) {
+                return new Location(begin);
+            }
+            return new Location(begin, endOffset == 0 ? null : new Position(endOffset - 2));
+        }
+
+        /**
+         * Reads a varint that must be in the range 0 to bound (exclusive)
+         *
+         * @param bound
+         *            The upper bound
+         * @return int The value
+         * @throws IOException
+         *             If reading fails or if the value is out of range
+         */
+        private int readIndex(int bound) throws IOException {
+            long index = readVarint();
+            if (index < 0 || index >= bound) {
+                throw new StreamCorruptedException("Index " + index + " out of range");
+            }
+            return (int) index;
+        }
+
+        /**
+         * Reads a length, which may not exceed the array size limit
+         *
+         * @return int The length
+         * @throws IOException
+         *             If reading fails or if the value is out of range
+         */
+        private int readLength() throws IOException {
+            return readIndex(Integer.MAX_VALUE - 8);
+        }
+
+        /**
+         * Reads a zigzag varint
+         *
+         * @return long The signed value
+         * @throws IOException
+         *             If reading fails
+         */
+        @Override
+        public long readZigzag() throws IOException {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Reads an unsigned varint
+         *
+         * @return long The value
+         * @throws IOException
+         *             If reading fails
+         */
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Varint too long");
+        }
+
+        /**
+         * Reads a value that was written as the lowest bytes, least significant first
+         *
+         * @param byteCount
+         *            The number of bytes
+         * @return long The value
+         * @throws IOException
+         *             If reading fails
+         */
+        private long readFixed(int byteCount) throws IOException {
+            long value = 0;
+            for (int i = 0; i < byteCount; i++) {
+                value |= (long) readByte() << (8 * i);
+            }
+            return value;
+        }
+
+        /**
+         * Reads a single byte
+         *
+         * @return int The byte, 0 to 255
+         * @throws IOException
+         *             If reading fails, also at the end of the stream
+         */
+        int readByte() throws IOException {
+            if (position < limit) {
+                return buffer[position++] & 0xFF;
+            }
+            if (in.markSupported()) {
+                in.mark(buffer.length);
+            }
+            limit = Math.max(in.read(buffer, 0, buffer.length), 0);
+            position = 0;
+            if (limit > 0) {
+                return buffer[position++] & 0xFF;
+            }
+            throw new EOFException("Unexpected end of binary parse tree");
+        }
+    }
+}
@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Location;
+import com.splendiddata.sqlparser.structure.NodeBinaryLayout;
+import com.splendiddata.sqlparser.structure.Position;
+
+/**
+ * Writes parse trees in a compact binary format, to be read back by {@link NodeBinaryReader}. The format is described
+ * in {@link NodeBinaryFormat}.
+ * <p>
+ * The format is meant for passing parse trees between processes or storing them for a while, not as a long term
+ * archive: it depends on the fields of the structure classes and on the ordinals of the enums, so it can only be read
+ * by the same version of the parser. A reader of another version rejects the stream.
+ * </p>
+ * <p>
+ * All fields of the nodes are written, so the tree that is read back has the same toString() result and is
+ * {@link com.splendiddata.sqlparser.structure.Node#equals(Object) equal} to the tree that was written. A node that
+ * occurs more than once in a tree is written (and read back) as separate copies. The Locations are optional, as they
+ * are not needed to regenerate sql text.
+ * </p>
+ * <p>
+ * The fields are written by the generated {@link NodeBinaryLayout}, without reflection. The writer keeps the path from
+ * the root to the node that is being written on a stack of its own, so the depth of a tree is not limited by the call
+ * stack.
+ * </p>
+ * <p>
+ * On the statements of the PostgreSQL regression tests, a tree is written about seven times as fast as the flat xml
+ * of the {@link NodeXmlWriter} and read back about four times as fast, and the stream is about a ninth of the size of
+ * the xml. NodeBinaryWriterTest.corpusComparedToXml measures that.
+ * </p>
+ * <p>
+ * A NodeBinaryWriter holds no state, so one instance may be used by many threads at the same time.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeBinaryWriter {
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The initial size of the stack of nodes that are being written
+     */
+    private static final int INITIAL_DEPTH = 32;
+
+    /**
+     * The layout index on the stack for a List
+     */
+    private static final int LIST_FRAME = -1;
+
+    private final boolean withLocations;
+
+    /**
+     * Constructor for a writer that includes the Locations
+     */
+    public NodeBinaryWriter() {
+        this(true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param withLocations
+     *            true to write the Locations, false to leave them out. Without Locations the stream is smaller, and
+     *            the Location fields of the nodes that are read back are null.
+     */
+    public NodeBinaryWriter(boolean withLocations) {
+        this.withLocations = withLocations;
+    }
+
+    /**
+     * Returns the binary representation of a node
+     *
+     * @param node
+     *            The node, list of nodes or other structure object to write
+     * @return byte[] The binary representation
+     */
+    public byte[] toBytes(Object node) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try {
+            write(node, result);
+        } catch (NotSerializableException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing to a ByteArrayOutputStream is not supposed to fail", e);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Writes a node to an OutputStream. The stream is flushed but not closed.
+     *
+     * @param node
+     *            The node, list of nodes or other structure object to write
+     * @param out
+     *            The stream to write to
+     * @throws NotSerializableException
+     *             If the tree contains an object that cannot be written, like an instance of a class outside of the
+     *             structure package
+     * @throws IOException
+     *             If writing to out fails
+     */
+    public void write(Object node, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out);
+        encoder.writeBytes(NodeBinaryFormat.MAGIC);
+        encoder.writeVarint(NodeBinaryFormat.FORMAT_VERSION);
+        encoder.writeByte(withLocations ? NodeBinaryFormat.FLAG_LOCATIONS : 0);
+        encoder.writeTree(node);
+        encoder.flush();
+    }
+
+    /**
+     * The state of a single write action: the output buffer, the string and class tables and the stack of the nodes and
+     * lists of which the content is being written
+     */
+    private final class Encoder implements NodeBinaryLayout.Output {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private final HashMap<String, Integer> strings = new HashMap<>();
+        private final HashMap<Class<?>, Integer> classes = new HashMap<>();
+
+        /*
+         * The stack: per node or list the object itself, its NodeBinaryLayout index or LIST_FRAME and the step to
+         * resume it at
+         */
+        private Object[] objects = new Object[INITIAL_DEPTH];
+        private int[] indexes = new int[INITIAL_DEPTH];
+        private int[] steps = new int[INITIAL_DEPTH];
+        private int depth;
+
+        /**
+         * Constructor
+         *
+         * @param out
+         *            The stream to write to
+         */
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes a value with all nodes and lists in it
+         *
+         * @param value
+         *            The value to write, may be null
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeTree(Object value) throws IOException {
+            writeValue(value);
+            while (depth > 0) {
+                int top = depth - 1;
+                int step;
+                if (indexes[top] == LIST_FRAME) {
+                    step = writeElements((List<?>) objects[top], steps[top]);
+                } else {
+                    step = NodeBinaryLayout.write(indexes[top], objects[top], steps[top], this);
+                }
+                if (step == NodeBinaryLayout.DONE) {
+                    objects[top] = null;
+                    depth = top;
+                } else {
+                    steps[top] = step;
+                }
+            }
+        }
+
+        /**
+         * Writes the elements of a list, until an element is a node or list of which the content is to be written first
+         *
+         * @param list
+         *            The list
+         * @param step
+         *            The number of elements that were written already
+         * @return int The number of elements that were written, or DONE
+         * @throws IOException
+         *             If writing fails
+         */
+        private int writeElements(List<?> list, int step) throws IOException {
+            int size = list.size();
+            for (int i = step; i < size;) {
+                if (writeValue(list.get(i++))) {
+                    return i;
+                }
+            }
+            return NodeBinaryLayout.DONE;
+        }
+
+        /**
+         * Puts a node or list on the stack, so its content is written next
+         *
+         * @param object
+         *            The node or list
+         * @param index
+         *            The NodeBinaryLayout index of the class of the node, or LIST_FRAME
+         */
+        private void push(Object object, int index) {
+            if (depth == objects.length) {
+                objects = Arrays.copyOf(objects, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+                steps = Arrays.copyOf(steps, depth * 2);
+            }
+            objects[depth] = object;
+            indexes[depth] = index;
+            steps[depth] = 0;
+            depth++;
+        }
+
+        /**
+         * Writes a value with its tag. The content of a node or a non-empty list is left to {@link #writeTree(Object)}.
+         *
+         * @param value
+         *            The value to write, may be null
+         * @return boolean true if the value is a node or a non-empty list that was put on the stack
+         * @throws IOException
+         *             If writing fails
+         */
+        @Override
+        public boolean writeValue(Object value) throws IOException {
+            if (value == null) {
+                writeByte(NodeBinaryFormat.NULL);
+            } else if (value instanceof String string) {
+                writeStringValue(string);
+            } else if (value instanceof List<?> list) {
+                writeByte(NodeBinaryFormat.LIST);
+                writeVarint(list.size());
+                if (!list.isEmpty()) {
+                    push(list, LIST_FRAME);
+                    return true;
+                }
+            } else if (value instanceof Enum<?> enumValue) {
+                writeByte(NodeBinaryFormat.ENUM);
+                writeClass(enumValue.getDeclaringClass());
+                writeVarint(enumValue.ordinal());
+            } else if (value instanceof Location location) {
+                if (withLocations) {
+                    writeByte(NodeBinaryFormat.LOCATION);
+                    writeLocationOffsets(location);
+                } else {
+                    writeByte(NodeBinaryFormat.NULL);
+                }
+            } else if (value instanceof Boolean bool) {
+                writeByte(bool.booleanValue() ? NodeBinaryFormat.TRUE : NodeBinaryFormat.FALSE);
+            } else if (value instanceof Integer integer) {
+                writeByte(NodeBinaryFormat.INT);
+                writeZigzag(integer.intValue());
+            } else if (value instanceof Long longValue) {
+                writeByte(NodeBinaryFormat.LONG);
+                writeZigzag(longValue.longValue());
+            } else if (value instanceof Character character) {
+                writeByte(NodeBinaryFormat.CHAR);
+                writeVarint(character.charValue());
+            } else if (value instanceof Short shortValue) {
+                writeByte(NodeBinaryFormat.SHORT);
+                writeZigzag(shortValue.shortValue());
+            } else if (value instanceof Byte byteValue) {
+                writeByte(NodeBinaryFormat.BYTE);
+                writeZigzag(byteValue.byteValue());
+            } else if (value instanceof Float floatValue) {
+                writeByte(NodeBinaryFormat.FLOAT);
+                writeFloat(floatValue.floatValue());
+            } else if (value instanceof Double doubleValue) {
+                writeByte(NodeBinaryFormat.DOUBLE);
+                writeDouble(doubleValue.doubleValue());
+            } else {
+                int index = NodeBinaryLayout.indexOf(value.getClass());
+                if (index < 0) {
+                    throw new NotSerializableException(value.getClass().getName());
+                }
+                writeByte(NodeBinaryFormat.OBJECT);
+                writeClass(value.getClass());
+                push(value, index);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void writeBoolean(boolean value) throws IOException {
+            writeByte(value ? 1 : 0);
+        }
+
+        @Override
+        public void writeChar(char value) throws IOException {
+            writeVarint(value);
+        }
+
+        @Override
+        public void writeFloat(float value) throws IOException {
+            writeFixed(Float.floatToRawIntBits(value), 4);
+        }
+
+        @Override
+        public void writeDouble(double value) throws IOException {
+            writeFixed(Double.doubleToRawLongBits(value), 8);
+        }
+
+        @Override
+        public void writeString(String value) throws IOException {
+            if (value == null) {
+                writeByte(NodeBinaryFormat.NULL);
+            } else {
+                writeStringValue(value);
+            }
+        }
+
+        @Override
+        public void writeEnum(Enum<?> value) throws IOException {
+            writeVarint(value == null ? 0 : value.ordinal() + 1);
+        }
+
+        @Override
+        public void writeLocation(Location value) throws IOException {
+            if (withLocations) {
+                if (value == null) {
+                    writeByte(NodeBinaryFormat.NULL);
+                } else {
+                    writeByte(NodeBinaryFormat.LOCATION);
+                    writeLocationOffsets(value);
+                }
+            }
+        }
+
+        /**
+         * Writes a String with its tag, or a reference to it if it was written before
+         *
+         * @param string
+         *            The String to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeStringValue(String string) throws IOException {
+            Integer index = strings.get(string);
+            if (index != null) {
+                writeByte(NodeBinaryFormat.STRING_REF);
+                writeVarint(index.intValue());
+                return;
+            }
+            strings.put(string, Integer.valueOf(strings.size()));
+            writeByte(NodeBinaryFormat.STRING);
+            writeUtf8(string);
+        }
+
+        /**
+         * Writes the length of the UTF-8 encoding of a String and the UTF-8 bytes
+         *
+         * @param string
+         *            The String to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeUtf8(String string) throws IOException {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            writeBytes(bytes);
+        }
+
+        /**
+         * Writes a reference to a class, preceded by the name and fingerprint of the class if it is not in the class
+         * table yet
+         *
+         * @param type
+         *            The class to refer to
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeClass(Class<?> type) throws IOException {
+            Integer index = classes.get(type);
+            if (index != null) {
+                writeVarint(index.intValue());
+                return;
+            }
+            int newIndex = classes.size();
+            classes.put(type, Integer.valueOf(newIndex));
+            writeVarint(newIndex);
+            writeUtf8(type.getName());
+            writeFixed(type.isEnum() ? NodeBinaryFormat.ENUM_FINGERPRINTS.get(type).longValue()
+                    : NodeBinaryLayout.fingerprint(NodeBinaryLayout.indexOf(type)), 8);
+        }
+
+        /**
+         * Writes the offsets of a Location. The begin is written as offset plus one, or 0 for null. The end is written
+         * as offset plus two, 0 for null or 1 if it is the begin Position itself, as Position has no equals() and
+         * Location.toString() only shows the end if it is another Position.
+         *
+         * @param location
+         *            The location to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeLocationOffsets(Location location) throws IOException {
+            Position begin = location.begin;
+            Position end = location.end;
+            writeVarint(begin == null ? 0 : begin.getOffset() + 1);
+            if (end == null) {
+                writeVarint(0);
+            } else if (end == begin) {
+                writeVarint(1);
+            } else {
+                writeVarint(end.getOffset() + 2);
+            }
+        }
+
+        /**
+         * Writes a signed value as zigzag varint, so small negative values take little space as well
+         *
+         * @param value
+         *            The value to write
+         * @throws IOException
+         *             If writing fails
+         */
+        @Override
+        public void writeZigzag(long value) throws IOException {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * Writes an unsigned value in 7 bit groups, least significant first, with the high bit set on all but the
+         * last byte
+         *
+         * @param value
+         *            The value to write
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeVarint(long value) throws IOException {
+            if (position > BUFFER_SIZE - 10) {
+                flushBuffer();
+            }
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[position++] = (byte) remaining;
+        }
+
+        /**
+         * Writes the lowest bytes of a value, least significant first
+         *
+         * @param value
+         *            The value to write
+         * @param byteCount
+         *            The number of bytes to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeFixed(long value, int byteCount) throws IOException {
+            if (position > BUFFER_SIZE - byteCount) {
+                flushBuffer();
+            }
+            for (int i = 0; i < byteCount; i++) {
+                buffer[position++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        /**
+         * Writes a single byte
+         *
+         * @param value
+         *            The byte to write
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeByte(int value) throws IOException {
+            if (position == BUFFER_SIZE) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * Writes bytes
+         *
+         * @param bytes
+         *            The bytes to write
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeBytes(byte[] bytes) throws IOException {
+            if (bytes.length > BUFFER_SIZE - position) {
+                flushBuffer();
+                if (bytes.length > BUFFER_SIZE) {
+                    out.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /**
+         * Writes the buffer to the stream
+         *
+         * @throws IOException
+         *             If writing fails
+         */
+        private void flushBuffer() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        /**
+         * Writes the buffer to the stream and flushes the stream
+         *
+         * @throws IOException
+         *             If writing fails
+         */
+        void flush() throws IOException {
+            flushBuffer();
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,812 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.splendiddata.sqlparser.enums.AttributeIdentity;
+import com.splendiddata.sqlparser.enums.CTEMaterialize;
+import com.splendiddata.sqlparser.enums.DropBehavior;
+import com.splendiddata.sqlparser.enums.FkConstrMatch;
+import com.splendiddata.sqlparser.enums.LimitOption;
+import com.splendiddata.sqlparser.enums.NodeTag;
+import com.splendiddata.sqlparser.enums.OnCommitAction;
+import com.splendiddata.sqlparser.enums.OverridingKind;
+import com.splendiddata.sqlparser.enums.RelPersistence;
+import com.splendiddata.sqlparser.enums.ReplicaIdentityType;
+import com.splendiddata.sqlparser.enums.SetOperation;
+import com.splendiddata.sqlparser.enums.SortByDir;
+import com.splendiddata.sqlparser.enums.SortByNulls;
+import com.splendiddata.sqlparser.structure.A_Const;
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Location;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.Oid;
+import com.splendiddata.sqlparser.structure.RawStmt;
+import com.splendiddata.sqlparser.structure.Stmt;
+import com.splendiddata.sqlparser.structure.Value;
+
+/**
+ * Writes parse trees as JSON in the layout of libpg_query / pg_query, so tools that consume the output of
+ * pg_query_parse() can consume the parse trees of this parser as well.
+ * <p>
+ * Every node is written as an object with a single member that is named after the Postgres node type, like
+ * <code>{"ColumnRef":{"fields":[{"String":{"sval":"a"}}],"location":7}}</code>. The members of that object are the
+ * fields of the node, with the same names as in the Postgres structs. Like libpg_query, fields that hold their default
+ * value are left out: null, false, 0 and empty lists. Lists are written as arrays, except where a list takes the place
+ * of a node, for example as an item of another list, in which case it is written as
+ * <code>{"List":{"items":[...]}}</code>. Enums are written by name, Locations as the offset of their begin
+ * position. libpg_query always writes enums, so an enum field that the parser left null is written with the value
+ * that Postgres has in it by default, for example <code>"op":"SETOP_NONE"</code> in a SelectStmt or
+ * <code>"relpersistence":"p"</code> in a RangeVar.
+ * </p>
+ * <p>
+ * {@link #writeParseResult(java.util.List, OutputStream)} writes the statements of a parse result wrapped in the
+ * <code>{"version":...,"stmts":[{"stmt":...}]}</code> object that pg_query_parse() returns.
+ * </p>
+ * <p>
+ * The JSON is encoded as UTF-8 straight into a buffer that is flushed to the OutputStream, without building any
+ * intermediate document. The fields of a class are looked up once, the first time a node of that class is written. A
+ * NodeJsonWriter holds no state, so one instance may be used by many threads at the same time.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeJsonWriter {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String STRUCTURE_PACKAGE = Node.class.getPackageName();
+
+    /*
+     * The kinds of fields
+     */
+    private static final int KIND_BOOLEAN = 0;
+    private static final int KIND_INTEGRAL = 1;
+    private static final int KIND_CHAR = 2;
+    private static final int KIND_FLOATING = 3;
+    private static final int KIND_VALUE = 4;
+
+    /**
+     * Enums for fields that are a char in Postgres. Those are written as a one character string, like libpg_query does,
+     * instead of by name.
+     */
+    private static final Map<Class<?>, Function<Object, Character>> CHAR_ENUMS = Map.of(RelPersistence.class,
+            e -> Character.valueOf(((RelPersistence) e).VALUE), AttributeIdentity.class,
+            e -> Character.valueOf(((AttributeIdentity) e).VALUE), FkConstrMatch.class,
+            e -> Character.valueOf(((FkConstrMatch) e).VALUE), ReplicaIdentityType.class,
+            e -> Character.valueOf(((ReplicaIdentityType) e).originalCharacterValue));
+
+    /**
+     * The values that Postgres has in enum fields that the parser leaves null. libpg_query writes enum fields even if
+     * they hold their default value.
+     */
+    private static final Map<Class<?>, Enum<?>> NULL_ENUMS = Map.of(SetOperation.class, SetOperation.SETOP_NONE,
+            LimitOption.class, LimitOption.LIMIT_OPTION_DEFAULT, RelPersistence.class,
+            RelPersistence.RELPERSISTENCE_PERMANENT, OverridingKind.class, OverridingKind.OVERRIDING_NOT_SET,
+            SortByDir.class, SortByDir.SORTBY_DEFAULT, SortByNulls.class, SortByNulls.SORTBY_NULLS_DEFAULT,
+            DropBehavior.class, DropBehavior.DROP_RESTRICT, OnCommitAction.class, OnCommitAction.ONCOMMIT_NOOP,
+            CTEMaterialize.class, CTEMaterialize.CTEMaterializeDefault);
+
+    /**
+     * The fields per class, looked up once
+     */
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+            return new Layout(type);
+        }
+    };
+
+    /**
+     * Returns the JSON representation of a node
+     *
+     * @param node
+     *            The node (or list, or other structure object) to write
+     * @return String The JSON
+     */
+    public String toJson(Object node) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try {
+            write(node, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing to a ByteArrayOutputStream is not supposed to fail", e);
+        }
+        return result.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the JSON representation of a parse result, as pg_query_parse() would return it
+     *
+     * @param statements
+     *            The parsed statements
+     * @return String The JSON
+     */
+    public String parseResultToJson(java.util.List<? extends Node> statements) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try {
+            writeParseResult(statements, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing to a ByteArrayOutputStream is not supposed to fail", e);
+        }
+        return result.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a node as UTF-8 encoded JSON to an OutputStream. The stream is flushed but not closed.
+     *
+     * @param node
+     *            The node (or list, or other structure object) to write
+     * @param out
+     *            The stream to write to
+     * @throws IOException
+     *             If writing fails
+     */
+    public void write(Object node, OutputStream out) throws IOException {
+        if (node == null) {
+            throw new IllegalArgumentException("node may not be null");
+        }
+        Encoder encoder = new Encoder(out);
+        encoder.writeValue(node);
+        encoder.flush();
+    }
+
+    /**
+     * Writes the statements of a parse result as UTF-8 encoded JSON to an OutputStream, in the
+     * <code>{"version":190000,"stmts":[{"stmt":...,"stmt_location":...,"stmt_len":...}]}</code> layout of
+     * pg_query_parse(). The stmt_location and stmt_len are taken from {@link RawStmt}s and {@link Stmt}s. The stream
+     * is flushed but not closed.
+     *
+     * @param statements
+     *            The parsed statements
+     * @param out
+     *            The stream to write to
+     * @throws IOException
+     *             If writing fails
+     */
+    public void writeParseResult(java.util.List<? extends Node> statements, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out);
+        encoder.writeAscii("{\"version\":");
+        encoder.writeLong(ParserUtil.getPostgresMajorVersion() * 10000L);
+        encoder.writeAscii(",\"stmts\":[");
+        String separator = "";
+        for (Node statement : statements) {
+            encoder.writeAscii(separator);
+            separator = ",";
+            Node stmt = statement;
+            Location stmtLocation = null;
+            long stmtLen = 0;
+            if (statement instanceof RawStmt rawStmt) {
+                stmt = rawStmt.stmt;
+                stmtLocation = rawStmt.stmt_location;
+                stmtLen = rawStmt.stmt_len;
+            } else if (statement instanceof Stmt s) {
+                stmtLocation = s.stmt_location;
+                stmtLen = s.stmt_len;
+            }
+            encoder.writeByte('{');
+            boolean first = true;
+            if (!isAbsent(stmt)) {
+                encoder.writeAscii("\"stmt\":");
+                encoder.writeValue(stmt);
+                first = false;
+            }
+            if (stmtLocation != null && stmtLocation.getOffset() != 0) {
+                encoder.writeAscii(first ? "\"stmt_location\":" : ",\"stmt_location\":");
+                encoder.writeLong(stmtLocation.getOffset());
+                first = false;
+            }
+            if (stmtLen != 0) {
+                encoder.writeAscii(first ? "\"stmt_len\":" : ",\"stmt_len\":");
+                encoder.writeLong(stmtLen);
+            }
+            encoder.writeByte('}');
+        }
+        encoder.writeAscii("]}");
+        encoder.flush();
+    }
+
+    /**
+     * Tells if a value is left out as libpg_query leaves out a null pointer or an empty list
+     *
+     * @param value
+     *            The value of a field
+     * @return boolean true if the field is not to be written
+     */
+    private static boolean isAbsent(Object value) {
+        if (value == null || value instanceof Oid) {
+            return true;
+        }
+        if (value instanceof Value v) {
+            return v.type == null || NodeTag.T_Null.equals(v.type);
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.isEmpty();
+        }
+        return false;
+    }
+
+    /**
+     * The fields of a class as they are written
+     */
+    private static final class Layout {
+        /**
+         * <code>{"NodeName":{</code> for a Node, <code>{</code> for any other class
+         */
+        final byte[] start;
+
+        /**
+         * <code>}}</code> for a Node, <code>}</code> for any other class
+         */
+        final byte[] end;
+
+        final Field[] fields;
+
+        /**
+         * The <code>"name":</code> of each field
+         */
+        final byte[][] names;
+
+        final int[] kinds;
+
+        /**
+         * The value that is written for a field that is null, from {@link #NULL_ENUMS}, or null if it is left out
+         */
+        final Object[] nullValues;
+
+        /**
+         * Constructor
+         *
+         * @param type
+         *            The class to determine the layout of
+         */
+        Layout(Class<?> type) {
+            if (Node.class.isAssignableFrom(type)) {
+                start = ("{\"" + type.getSimpleName() + "\":{").getBytes(StandardCharsets.UTF_8);
+                end = new byte[] { '}', '}' };
+            } else {
+                start = new byte[] { '{' };
+                end = new byte[] { '}' };
+            }
+
+            ArrayList<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> cls = type; cls != null && !cls.isEnum()
+                    && STRUCTURE_PACKAGE.equals(cls.getPackageName()); cls = cls.getSuperclass()) {
+                hierarchy.add(0, cls);
+            }
+            ArrayList<Field> fieldList = new ArrayList<>();
+            Field locationField = null;
+            for (Class<?> cls : hierarchy) {
+                for (Field field : cls.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+                            || Oid.class.isAssignableFrom(field.getType())) {
+                        continue;
+                    }
+                    if (Node.class.equals(cls)) {
+                        /*
+                         * The NodeTag is the name of the object around the fields. The location is the last field of
+                         * most Postgres nodes.
+                         */
+                        if ("location".equals(field.getName())) {
+                            locationField = field;
+                        }
+                        continue;
+                    }
+                    if (!RawStmt.class.equals(cls)
+                            && ("stmt_location".equals(field.getName()) || "stmt_len".equals(field.getName()))) {
+                        // Only RawStmt has these in Postgres, see writeParseResult()
+                        continue;
+                    }
+                    fieldList.add(field);
+                }
+            }
+            if (locationField != null) {
+                fieldList.add(locationField);
+            }
+
+            fields = fieldList.toArray(new Field[fieldList.size()]);
+            names = new byte[fields.length][];
+            kinds = new int[fields.length];
+            nullValues = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].setAccessible(true);
+                names[i] = ("\"" + fields[i].getName() + "\":").getBytes(StandardCharsets.UTF_8);
+                Class<?> fieldType = fields[i].getType();
+                if (boolean.class.equals(fieldType)) {
+                    kinds[i] = KIND_BOOLEAN;
+                } else if (char.class.equals(fieldType)) {
+                    kinds[i] = KIND_CHAR;
+                } else if (float.class.equals(fieldType) || double.class.equals(fieldType)) {
+                    kinds[i] = KIND_FLOATING;
+                } else if (fieldType.isPrimitive()) {
+                    kinds[i] = KIND_INTEGRAL;
+                } else {
+                    kinds[i] = KIND_VALUE;
+                    nullValues[i] = NULL_ENUMS.get(fieldType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the JSON of a single tree into a buffer
+     */
+    private static final class Encoder {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        /**
+         * Constructor
+         *
+         * @param out
+         *            The stream to write to
+         */
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes any value that may occur in a field or in a list
+         *
+         * @param value
+         *            The value to write, not absent
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeValue(Object value) throws IOException {
+            if (value instanceof Value v) {
+                writeValueNode(v);
+            } else if (value instanceof List<?> list) {
+                writeAscii("{\"");
+                writeAscii(list.type == null ? "List" : list.type.name().substring(2));
+                writeAscii("\":{\"items\":");
+                writeArray(list);
+                writeAscii("}}");
+            } else if (value instanceof A_Const constant) {
+                writeConstant(constant);
+            } else if (value instanceof String s) {
+                writeString(s);
+            } else if (value instanceof Boolean b) {
+                writeAscii(b.booleanValue() ? "true" : "false");
+            } else if (value instanceof Character c) {
+                writeString(String.valueOf(c.charValue()));
+            } else if (value instanceof Float || value instanceof Double) {
+                writeAscii(value.toString());
+            } else if (value instanceof Number n) {
+                writeLong(n.longValue());
+            } else if (value instanceof Enum<?> e) {
+                Function<Object, Character> charValue = CHAR_ENUMS.get(e.getDeclaringClass());
+                writeString(charValue == null ? e.name() : String.valueOf(charValue.apply(e).charValue()));
+            } else if (value instanceof Location location) {
+                writeLong(location.getOffset());
+            } else if (value instanceof java.util.List<?> list) {
+                writeArray(list);
+            } else {
+                writeObject(value);
+            }
+        }
+
+        /**
+         * Writes the members of a list as array. Absent members are written as an empty object.
+         *
+         * @param list
+         *            The list to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeArray(java.util.List<?> list) throws IOException {
+            writeByte('[');
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    writeByte(',');
+                }
+                Object item = list.get(i);
+                if (isAbsent(item) && !(item instanceof Collection<?>)) {
+                    writeAscii("{}");
+                } else {
+                    writeValue(item);
+                }
+            }
+            writeByte(']');
+        }
+
+        /**
+         * Writes an object field by field
+         *
+         * @param object
+         *            The object to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeObject(Object object) throws IOException {
+            Layout layout = LAYOUTS.get(object.getClass());
+            writeBytes(layout.start);
+            writeFields(object, layout);
+            writeBytes(layout.end);
+        }
+
+        /**
+         * Writes the fields of an object that do not have their default value
+         *
+         * @param object
+         *            The object of which the fields are to be written
+         * @param layout
+         *            The layout of the object's class
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeFields(Object object, Layout layout) throws IOException {
+            Field[] fields = layout.fields;
+            int[] kinds = layout.kinds;
+            boolean needsComma = false;
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    Field field = fields[i];
+                    switch (kinds[i]) {
+                    case KIND_BOOLEAN:
+                        if (field.getBoolean(object)) {
+                            writeName(layout.names[i], needsComma);
+                            writeAscii("true");
+                            needsComma = true;
+                        }
+                        break;
+                    case KIND_INTEGRAL:
+                        long integral = field.getLong(object);
+                        if (integral != 0) {
+                            writeName(layout.names[i], needsComma);
+                            writeLong(integral);
+                            needsComma = true;
+                        }
+                        break;
+                    case KIND_CHAR:
+                        char c = field.getChar(object);
+                        if (c != 0) {
+                            writeName(layout.names[i], needsComma);
+                            writeString(String.valueOf(c));
+                            needsComma = true;
+                        }
+                        break;
+                    case KIND_FLOATING:
+                        double floating = field.getDouble(object);
+                        if (floating != 0) {
+                            writeName(layout.names[i], needsComma);
+                            writeAscii(Double.toString(floating));
+                            needsComma = true;
+                        }
+                        break;
+                    default:
+                        Object value = field.get(object);
+                        if (value == null) {
+                            value = layout.nullValues[i];
+                        }
+                        if (isAbsent(value) || Boolean.FALSE.equals(value)
+                                || (value instanceof Location location && location.getOffset() == 0)) {
+                            break;
+                        }
+                        writeName(layout.names[i], needsComma);
+                        if (value instanceof java.util.List<?> list
+                                && java.util.List.class.isAssignableFrom(field.getType())) {
+                            writeArray(list);
+                        } else {
+                            writeValue(value);
+                        }
+                        needsComma = true;
+                        break;
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new AssertionError("Cannot read a field of " + object.getClass(), e);
+            }
+        }
+
+        /**
+         * Writes a Value node as libpg_query writes the String, Integer, Float, Boolean and BitString nodes of Postgres
+         * 15 and later
+         *
+         * @param value
+         *            The Value to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeValueNode(Value value) throws IOException {
+            switch (value.type) {
+            case T_Integer:
+                writeAscii("{\"Integer\":");
+                break;
+            case T_Float:
+                writeAscii("{\"Float\":");
+                break;
+            case T_Boolean:
+                writeAscii("{\"Boolean\":");
+                break;
+            case T_BitString:
+                writeAscii("{\"BitString\":");
+                break;
+            default:
+                writeAscii("{\"String\":");
+                break;
+            }
+            writeValueContent(value);
+            writeByte('}');
+        }
+
+        /**
+         * Writes the object with the content of a Value, like <code>{"sval":"abc"}</code>
+         *
+         * @param value
+         *            The Value to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeValueContent(Value value) throws IOException {
+            writeByte('{');
+            switch (value.type) {
+            case T_Integer:
+                if (value.val.ival != 0) {
+                    writeAscii("\"ival\":");
+                    writeLong(value.val.ival);
+                }
+                break;
+            case T_Boolean:
+                if (value.val.boolval) {
+                    writeAscii("\"boolval\":true");
+                }
+                break;
+            default:
+                if (value.val.str != null) {
+                    writeAscii(valueMemberName(value));
+                    writeString(value.val.str);
+                }
+                break;
+            }
+            writeByte('}');
+        }
+
+        /**
+         * Returns the name of the member that holds a value, with quotes and colon
+         *
+         * @param value
+         *            The Value
+         * @return String <code>"ival":</code>, <code>"fval":</code>, <code>"boolval":</code>,
+         *         <code>"bsval":</code> or <code>"sval":</code>
+         */
+        private static String valueMemberName(Value value) {
+            switch (value.type) {
+            case T_Integer:
+                return "\"ival\":";
+            case T_Float:
+                return "\"fval\":";
+            case T_Boolean:
+                return "\"boolval\":";
+            case T_BitString:
+                return "\"bsval\":";
+            default:
+                return "\"sval\":";
+            }
+        }
+
+        /**
+         * Writes an A_Const, of which the value is written inline in the way of libpg_query, like
+         * <code>{"A_Const":{"ival":{"ival":1},"location":7}}</code>
+         *
+         * @param constant
+         *            The constant to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeConstant(A_Const constant) throws IOException {
+            Layout layout = LAYOUTS.get(constant.getClass());
+            writeBytes(layout.start);
+            if (constant.isnull || isAbsent(constant.val)) {
+                writeAscii("\"isnull\":true");
+            } else {
+                writeAscii(valueMemberName(constant.val));
+                writeValueContent(constant.val);
+            }
+            if (constant.location != null && constant.location.getOffset() != 0) {
+                writeAscii(",\"location\":");
+                writeLong(constant.location.getOffset());
+            }
+            writeBytes(layout.end);
+        }
+
+        /**
+         * Writes the name of a member
+         *
+         * @param name
+         *            The name in quotes, followed by a colon
+         * @param needsComma
+         *            true if a member precedes this one
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeName(byte[] name, boolean needsComma) throws IOException {
+            if (needsComma) {
+                writeByte(',');
+            }
+            writeBytes(name);
+        }
+
+        /**
+         * Writes a String as quoted and escaped JSON string
+         *
+         * @param s
+         *            The String to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeString(String s) throws IOException {
+            writeByte('"');
+            int length = s.length();
+            for (int i = 0; i < length; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    if (c == '"' || c == '\\') {
+                        writeByte('\\');
+                        writeByte(c);
+                    } else if (c >= 0x20) {
+                        writeByte(c);
+                    } else if (c == '\n') {
+                        writeAscii("\\n");
+                    } else if (c == '\r') {
+                        writeAscii("\\r");
+                    } else if (c == '\t') {
+                        writeAscii("\\t");
+                    } else if (c == '\b') {
+                        writeAscii("\\b");
+                    } else if (c == '\f') {
+                        writeAscii("\\f");
+                    } else {
+                        writeAscii("\\u00");
+                        writeByte(HEX_DIGITS[c >> 4]);
+                        writeByte(HEX_DIGITS[c & 0xf]);
+                    }
+                } else if (c < 0x800) {
+                    writeByte(0xc0 | (c >> 6));
+                    writeByte(0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                    writeByte(0xf0 | (codePoint >> 18));
+                    writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+                    writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+                    writeByte(0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    writeByte('?');
+                } else {
+                    writeByte(0xe0 | (c >> 12));
+                    writeByte(0x80 | ((c >> 6) & 0x3f));
+                    writeByte(0x80 | (c & 0x3f));
+                }
+            }
+            writeByte('"');
+        }
+
+        /**
+         * Writes a number in decimal notation
+         *
+         * @param value
+         *            The number to write
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeLong(long value) throws IOException {
+            if (value < 0 || value > 999_999_999L) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            if (buffer.length - position < 10) {
+                flushBuffer();
+            }
+            int digits = 1;
+            for (long rest = value / 10; rest != 0; rest /= 10) {
+                digits++;
+            }
+            long rest = value;
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (byte) ('0' + rest % 10);
+                rest /= 10;
+            }
+            position += digits;
+        }
+
+        /**
+         * Writes a String that consists of ASCII characters only
+         *
+         * @param s
+         *            The String to write
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeAscii(String s) throws IOException {
+            int length = s.length();
+            for (int i = 0; i < length; i++) {
+                writeByte(s.charAt(i));
+            }
+        }
+
+        /**
+         * Writes bytes
+         *
+         * @param bytes
+         *            The bytes to write
+         * @throws IOException
+         *             If writing fails
+         */
+        private void writeBytes(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                flushBuffer();
+                if (bytes.length > buffer.length) {
+                    out.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /**
+         * Writes a single byte
+         *
+         * @param b
+         *            The byte to write
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeByte(int b) throws IOException {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            buffer[position++] = (byte) b;
+        }
+
+        /**
+         * Writes the buffer to the stream
+         *
+         * @throws IOException
+         *             If writing fails
+         */
+        private void flushBuffer() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        /**
+         * Writes the buffer to the stream and flushes the stream
+         *
+         * @throws IOException
+         *             If writing fails
+         */
+        void flush() throws IOException {
+            flushBuffer();
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,2819 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.ATAlterConstraint;
+import com.splendiddata.sqlparser.structure.A_ArrayExpr;
+import com.splendiddata.sqlparser.structure.A_Const;
+import com.splendiddata.sqlparser.structure.A_Expr;
+import com.splendiddata.sqlparser.structure.A_Indices;
+import com.splendiddata.sqlparser.structure.A_Indirection;
+import com.splendiddata.sqlparser.structure.A_Star;
+import com.splendiddata.sqlparser.structure.AbstractPublicationStmt;
+import com.splendiddata.sqlparser.structure.AccessPriv;
+import com.splendiddata.sqlparser.structure.Alias;
+import com.splendiddata.sqlparser.structure.AlterCollationStmt;
+import com.splendiddata.sqlparser.structure.AlterDatabaseRefreshCollStmt;
+import com.splendiddata.sqlparser.structure.AlterDatabaseSetStmt;
+import com.splendiddata.sqlparser.structure.AlterDatabaseStmt;
+import com.splendiddata.sqlparser.structure.AlterDefaultPrivilegesStmt;
+import com.splendiddata.sqlparser.structure.AlterDomainStmt;
+import com.splendiddata.sqlparser.structure.AlterEnumStmt;
+import com.splendiddata.sqlparser.structure.AlterEventTrigStmt;
+import com.splendiddata.sqlparser.structure.AlterExtensionContentsStmt;
+import com.splendiddata.sqlparser.structure.AlterExtensionStmt;
+import com.splendiddata.sqlparser.structure.AlterFdwStmt;
+import com.splendiddata.sqlparser.structure.AlterForeignServerStmt;
+import com.splendiddata.sqlparser.structure.AlterFunctionStmt;
+import com.splendiddata.sqlparser.structure.AlterObjectDependsStmt;
+import com.splendiddata.sqlparser.structure.AlterObjectSchemaStmt;
+import com.splendiddata.sqlparser.structure.AlterOpFamilyStmt;
+import com.splendiddata.sqlparser.structure.AlterOperatorStmt;
+import com.splendiddata.sqlparser.structure.AlterOwnerStmt;
+import com.splendiddata.sqlparser.structure.AlterPolicyStmt;
+import com.splendiddata.sqlparser.structure.AlterPropGraphStmt;
+import com.splendiddata.sqlparser.structure.AlterPublicationStmt;
+import com.splendiddata.sqlparser.structure.AlterRoleSetStmt;
+import com.splendiddata.sqlparser.structure.AlterRoleStmt;
+import com.splendiddata.sqlparser.structure.AlterSeqStmt;
+import com.splendiddata.sqlparser.structure.AlterStatsStmt;
+import com.splendiddata.sqlparser.structure.AlterSubscriptionStmt;
+import com.splendiddata.sqlparser.structure.AlterSystemStmt;
+import com.splendiddata.sqlparser.structure.AlterTSConfigurationStmt;
+import com.splendiddata.sqlparser.structure.AlterTSDictionaryStmt;
+import com.splendiddata.sqlparser.structure.AlterTableCmd;
+import com.splendiddata.sqlparser.structure.AlterTableMoveAllStmt;
+import com.splendiddata.sqlparser.structure.AlterTableSpaceOptionsStmt;
+import com.splendiddata.sqlparser.structure.AlterTableStmt;
+import com.splendiddata.sqlparser.structure.AlterTypeStmt;
+import com.splendiddata.sqlparser.structure.AlterUserMappingStmt;
+import com.splendiddata.sqlparser.structure.BoolExpr;
+import com.splendiddata.sqlparser.structure.BooleanTest;
+import com.splendiddata.sqlparser.structure.CTECycleClause;
+import com.splendiddata.sqlparser.structure.CTESearchClause;
+import com.splendiddata.sqlparser.structure.CallStmt;
+import com.splendiddata.sqlparser.structure.CaseExpr;
+import com.splendiddata.sqlparser.structure.CaseWhen;
+import com.splendiddata.sqlparser.structure.CheckPointStmt;
+import com.splendiddata.sqlparser.structure.ClosePortalStmt;
+import com.splendiddata.sqlparser.structure.ClusterStmt;
+import com.splendiddata.sqlparser.structure.CoalesceExpr;
+import com.splendiddata.sqlparser.structure.CollateClause;
+import com.splendiddata.sqlparser.structure.ColumnDef;
+import com.splendiddata.sqlparser.structure.ColumnRef;
+import com.splendiddata.sqlparser.structure.CommentStmt;
+import com.splendiddata.sqlparser.structure.CommonTableExpr;
+import com.splendiddata.sqlparser.structure.CompositeTypeStmt;
+import com.splendiddata.sqlparser.structure.Constraint;
+import com.splendiddata.sqlparser.structure.ConstraintsSetStmt;
+import com.splendiddata.sqlparser.structure.CopyStmt;
+import com.splendiddata.sqlparser.structure.CreateAmStmt;
+import com.splendiddata.sqlparser.structure.CreateCastStmt;
+import com.splendiddata.sqlparser.structure.CreateConversionStmt;
+import com.splendiddata.sqlparser.structure.CreateDomainStmt;
+import com.splendiddata.sqlparser.structure.CreateEnumStmt;
+import com.splendiddata.sqlparser.structure.CreateEventTrigStmt;
+import com.splendiddata.sqlparser.structure.CreateExtensionStmt;
+import com.splendiddata.sqlparser.structure.CreateFdwStmt;
+import com.splendiddata.sqlparser.structure.CreateForeignServerStmt;
+import com.splendiddata.sqlparser.structure.CreateForeignTableStmt;
+import com.splendiddata.sqlparser.structure.CreateFunctionStmt;
+import com.splendiddata.sqlparser.structure.CreateOpClassItem;
+import com.splendiddata.sqlparser.structure.CreateOpClassStmt;
+import com.splendiddata.sqlparser.structure.CreateOpFamilyStmt;
+import com.splendiddata.sqlparser.structure.CreatePLangStmt;
+import com.splendiddata.sqlparser.structure.CreatePolicyStmt;
+import com.splendiddata.sqlparser.structure.CreatePropGraphStmt;
+import com.splendiddata.sqlparser.structure.CreatePublicationStmt;
+import com.splendiddata.sqlparser.structure.CreateRangeStmt;
+import com.splendiddata.sqlparser.structure.CreateRoleStmt;
+import com.splendiddata.sqlparser.structure.CreateSchemaStmt;
+import com.splendiddata.sqlparser.structure.CreateSeqStmt;
+import com.splendiddata.sqlparser.structure.CreateStatsStmt;
+import com.splendiddata.sqlparser.structure.CreateStmt;
+import com.splendiddata.sqlparser.structure.CreateSubscriptionStmt;
+import com.splendiddata.sqlparser.structure.CreateTableAsStmt;
+import com.splendiddata.sqlparser.structure.CreateTableSpaceStmt;
+import com.splendiddata.sqlparser.structure.CreateTransformStmt;
+import com.splendiddata.sqlparser.structure.CreateTrigStmt;
+import com.splendiddata.sqlparser.structure.CreateUserMappingStmt;
+import com.splendiddata.sqlparser.structure.CreatedbStmt;
+import com.splendiddata.sqlparser.structure.CurrentOfExpr;
+import com.splendiddata.sqlparser.structure.DeallocateStmt;
+import com.splendiddata.sqlparser.structure.DeclareCursorStmt;
+import com.splendiddata.sqlparser.structure.DefElem;
+import com.splendiddata.sqlparser.structure.DefineStmt;
+import com.splendiddata.sqlparser.structure.DeleteStmt;
+import com.splendiddata.sqlparser.structure.DiscardStmt;
+import com.splendiddata.sqlparser.structure.DoStmt;
+import com.splendiddata.sqlparser.structure.DropOwnedStmt;
+import com.splendiddata.sqlparser.structure.DropRoleStmt;
+import com.splendiddata.sqlparser.structure.DropStmt;
+import com.splendiddata.sqlparser.structure.DropSubscriptionStmt;
+import com.splendiddata.sqlparser.structure.DropTableSpaceStmt;
+import com.splendiddata.sqlparser.structure.DropUserMappingStmt;
+import com.splendiddata.sqlparser.structure.DropdbStmt;
+import com.splendiddata.sqlparser.structure.ErrorSaveContext;
+import com.splendiddata.sqlparser.structure.ExecuteStmt;
+import com.splendiddata.sqlparser.structure.ExplainStmt;
+import com.splendiddata.sqlparser.structure.FetchStmt;
+import com.splendiddata.sqlparser.structure.ForPortionOfClause;
+import com.splendiddata.sqlparser.structure.FuncCall;
+import com.splendiddata.sqlparser.structure.FunctionParameter;
+import com.splendiddata.sqlparser.structure.GrantRoleStmt;
+import com.splendiddata.sqlparser.structure.GrantStmt;
+import com.splendiddata.sqlparser.structure.GraphElementPattern;
+import com.splendiddata.sqlparser.structure.GraphPattern;
+import com.splendiddata.sqlparser.structure.GroupingFunc;
+import com.splendiddata.sqlparser.structure.GroupingSet;
+import com.splendiddata.sqlparser.structure.ImportForeignSchemaStmt;
+import com.splendiddata.sqlparser.structure.IndexElem;
+import com.splendiddata.sqlparser.structure.IndexStmt;
+import com.splendiddata.sqlparser.structure.InferClause;
+import com.splendiddata.sqlparser.structure.InsertStmt;
+import com.splendiddata.sqlparser.structure.IntoClause;
+import com.splendiddata.sqlparser.structure.JoinExpr;
+import com.splendiddata.sqlparser.structure.JsonAggConstructor;
+import com.splendiddata.sqlparser.structure.JsonArgument;
+import com.splendiddata.sqlparser.structure.JsonArrayAgg;
+import com.splendiddata.sqlparser.structure.JsonArrayConstructor;
+import com.splendiddata.sqlparser.structure.JsonArrayQueryConstructor;
+import com.splendiddata.sqlparser.structure.JsonBehavior;
+import com.splendiddata.sqlparser.structure.JsonFormat;
+import com.splendiddata.sqlparser.structure.JsonFuncExpr;
+import com.splendiddata.sqlparser.structure.JsonIsPredicate;
+import com.splendiddata.sqlparser.structure.JsonKeyValue;
+import com.splendiddata.sqlparser.structure.JsonObjectAgg;
+import com.splendiddata.sqlparser.structure.JsonObjectConstructor;
+import com.splendiddata.sqlparser.structure.JsonOutput;
+import com.splendiddata.sqlparser.structure.JsonParseExpr;
+import com.splendiddata.sqlparser.structure.JsonReturning;
+import com.splendiddata.sqlparser.structure.JsonScalarExpr;
+import com.splendiddata.sqlparser.structure.JsonSerializeExpr;
+import com.splendiddata.sqlparser.structure.JsonTable;
+import com.splendiddata.sqlparser.structure.JsonTableColumn;
+import com.splendiddata.sqlparser.structure.JsonTablePathSpec;
+import com.splendiddata.sqlparser.structure.JsonTablePlanSpec;
+import com.splendiddata.sqlparser.structure.JsonValueExpr;
+import com.splendiddata.sqlparser.structure.ListenStmt;
+import com.splendiddata.sqlparser.structure.LoadStmt;
+import com.splendiddata.sqlparser.structure.LockStmt;
+import com.splendiddata.sqlparser.structure.LockingClause;
+import com.splendiddata.sqlparser.structure.MergeStmt;
+import com.splendiddata.sqlparser.structure.MergeSupportFunc;
+import com.splendiddata.sqlparser.structure.MergeWhenClause;
+import com.splendiddata.sqlparser.structure.MinMaxExpr;
+import com.splendiddata.sqlparser.structure.MultiAssignRef;
+import com.splendiddata.sqlparser.structure.NamedArgExpr;
+import com.splendiddata.sqlparser.structure.NotifyStmt;
+import com.splendiddata.sqlparser.structure.NullTest;
+import com.splendiddata.sqlparser.structure.ObjectWithArgs;
+import com.splendiddata.sqlparser.structure.OnConflictClause;
+import com.splendiddata.sqlparser.structure.PLAssignStmt;
+import com.splendiddata.sqlparser.structure.ParamRef;
+import com.splendiddata.sqlparser.structure.PartitionBoundSpec;
+import com.splendiddata.sqlparser.structure.PartitionCmd;
+import com.splendiddata.sqlparser.structure.PartitionElem;
+import com.splendiddata.sqlparser.structure.PartitionRangeDatum;
+import com.splendiddata.sqlparser.structure.PartitionSpec;
+import com.splendiddata.sqlparser.structure.PrepareStmt;
+import com.splendiddata.sqlparser.structure.PropGraphEdge;
+import com.splendiddata.sqlparser.structure.PropGraphLabelAndProperties;
+import com.splendiddata.sqlparser.structure.PropGraphProperties;
+import com.splendiddata.sqlparser.structure.PropGraphVertex;
+import com.splendiddata.sqlparser.structure.PublicationAllObjSpec;
+import com.splendiddata.sqlparser.structure.PublicationObjSpec;
+import com.splendiddata.sqlparser.structure.PublicationTable;
+import com.splendiddata.sqlparser.structure.RangeFunction;
+import com.splendiddata.sqlparser.structure.RangeGraphTable;
+import com.splendiddata.sqlparser.structure.RangeSubselect;
+import com.splendiddata.sqlparser.structure.RangeTableFunc;
+import com.splendiddata.sqlparser.structure.RangeTableFuncCol;
+import com.splendiddata.sqlparser.structure.RangeTableSample;
+import com.splendiddata.sqlparser.structure.RangeVar;
+import com.splendiddata.sqlparser.structure.RawStmt;
+import com.splendiddata.sqlparser.structure.ReassignOwnedStmt;
+import com.splendiddata.sqlparser.structure.RefreshMatViewStmt;
+import com.splendiddata.sqlparser.structure.ReindexStmt;
+import com.splendiddata.sqlparser.structure.RenameStmt;
+import com.splendiddata.sqlparser.structure.RepackStmt;
+import com.splendiddata.sqlparser.structure.ReplicaIdentityStmt;
+import com.splendiddata.sqlparser.structure.ResTarget;
+import com.splendiddata.sqlparser.structure.ReturnStmt;
+import com.splendiddata.sqlparser.structure.ReturningClause;
+import com.splendiddata.sqlparser.structure.ReturningOption;
+import com.splendiddata.sqlparser.structure.RoleSpec;
+import com.splendiddata.sqlparser.structure.RowExpr;
+import com.splendiddata.sqlparser.structure.RuleStmt;
+import com.splendiddata.sqlparser.structure.SQLValueFunction;
+import com.splendiddata.sqlparser.structure.SecLabelStmt;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+import com.splendiddata.sqlparser.structure.SetToDefault;
+import com.splendiddata.sqlparser.structure.SinglePartitionSpec;
+import com.splendiddata.sqlparser.structure.SortBy;
+import com.splendiddata.sqlparser.structure.StatsElem;
+import com.splendiddata.sqlparser.structure.Stmt;
+import com.splendiddata.sqlparser.structure.SubLink;
+import com.splendiddata.sqlparser.structure.TableLikeClause;
+import com.splendiddata.sqlparser.structure.TransactionStmt;
+import com.splendiddata.sqlparser.structure.TriggerTransition;
+import com.splendiddata.sqlparser.structure.TruncateStmt;
+import com.splendiddata.sqlparser.structure.TypeCast;
+import com.splendiddata.sqlparser.structure.TypeName;
+import com.splendiddata.sqlparser.structure.UnlistenStmt;
+import com.splendiddata.sqlparser.structure.UpdateStmt;
+import com.splendiddata.sqlparser.structure.VacuumRelation;
+import com.splendiddata.sqlparser.structure.VacuumStmt;
+import com.splendiddata.sqlparser.structure.Value;
+import com.splendiddata.sqlparser.structure.VariableSetStmt;
+import com.splendiddata.sqlparser.structure.VariableShowStmt;
+import com.splendiddata.sqlparser.structure.ViewStmt;
+import com.splendiddata.sqlparser.structure.WaitStmt;
+import com.splendiddata.sqlparser.structure.WindowDef;
+import com.splendiddata.sqlparser.structure.WithClause;
+import com.splendiddata.sqlparser.structure.XmlExpr;
+import com.splendiddata.sqlparser.structure.XmlSerialize;
+
+/**
+ * Visitor with a method per concrete Node class of the structure package. Each method delegates to the method of the
+ * nearest concrete super class by default and in the end to {@link #visitNode(Node)}, so an implementation only needs
+ * to override the methods of the classes it is interested in.
+ * <p>
+ * {@link NodeWalker#visit(Node, NodeVisitor)} calls the method that belongs to the class of a node and
+ * {@link NodeWalker#walk(Object, NodeVisitor)} calls it for every node in a tree.
+ * </p>
+ * <p>
+ * This interface is generated by NodeVisitorGenerator in the test sources. Do not edit it by hand.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ * @param <R>
+ *            The result type of the visit methods
+ */
+public interface NodeVisitor<R> {
+    /**
+     * Visits a node for which no more specific method is overridden
+     *
+     * @param node
+     *            The node to visit
+     * @return R null by default
+     */
+    default R visitNode(Node node) {
+        return null;
+    }
+
+    /**
+     * Visits a {@link ATAlterConstraint}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitATAlterConstraint(ATAlterConstraint node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitA_ArrayExpr(A_ArrayExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link A_Const}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitA_Const(A_Const node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link A_Expr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitA_Expr(A_Expr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link A_Indices}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitA_Indices(A_Indices node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link A_Indirection}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitA_Indirection(A_Indirection node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link A_Star}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitA_Star(A_Star node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AbstractPublicationStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAbstractPublicationStmt(AbstractPublicationStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AccessPriv}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAccessPriv(AccessPriv node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link Alias}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlias(Alias node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterCollationStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterCollationStmt(AlterCollationStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterDatabaseRefreshCollStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterDatabaseRefreshCollStmt(AlterDatabaseRefreshCollStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterDatabaseSetStmt(AlterDatabaseSetStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterDatabaseStmt(AlterDatabaseStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterDomainStmt(AlterDomainStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterEnumStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterEnumStmt(AlterEnumStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterEventTrigStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterEventTrigStmt(AlterEventTrigStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterExtensionContentsStmt(AlterExtensionContentsStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterExtensionStmt(AlterExtensionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterFdwStmt(AlterFdwStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterForeignServerStmt(AlterForeignServerStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterFunctionStmt(AlterFunctionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterObjectDependsStmt(AlterObjectDependsStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterObjectSchemaStmt(AlterObjectSchemaStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterOpFamilyStmt(AlterOpFamilyStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterOperatorStmt(AlterOperatorStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterOwnerStmt(AlterOwnerStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterPolicyStmt(AlterPolicyStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterPropGraphStmt(AlterPropGraphStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitAbstractPublicationStmt(AbstractPublicationStmt)} by default
+     */
+    default R visitAlterPublicationStmt(AlterPublicationStmt node) {
+        return visitAbstractPublicationStmt(node);
+    }
+
+    /**
+     * Visits a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterRoleSetStmt(AlterRoleSetStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterRoleStmt(AlterRoleStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterSeqStmt(AlterSeqStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterStatsStmt(AlterStatsStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterSubscriptionStmt(AlterSubscriptionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterSystemStmt(AlterSystemStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTSConfigurationStmt(AlterTSConfigurationStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTSDictionaryStmt(AlterTSDictionaryStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTableCmd(AlterTableCmd node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTableMoveAllStmt(AlterTableMoveAllStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTableStmt(AlterTableStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterTypeStmt(AlterTypeStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitAlterUserMappingStmt(AlterUserMappingStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link BoolExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitBoolExpr(BoolExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link BooleanTest}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitBooleanTest(BooleanTest node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCTECycleClause(CTECycleClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCTESearchClause(CTESearchClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CallStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCallStmt(CallStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CaseExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCaseExpr(CaseExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CaseWhen}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCaseWhen(CaseWhen node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCheckPointStmt(CheckPointStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ClosePortalStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitClosePortalStmt(ClosePortalStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitClusterStmt(ClusterStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCoalesceExpr(CoalesceExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CollateClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCollateClause(CollateClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ColumnDef}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitColumnDef(ColumnDef node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ColumnRef}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitColumnRef(ColumnRef node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CommentStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCommentStmt(CommentStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCommonTableExpr(CommonTableExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCompositeTypeStmt(CompositeTypeStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link Constraint}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitConstraint(Constraint node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitConstraintsSetStmt(ConstraintsSetStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CopyStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCopyStmt(CopyStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateAmStmt(CreateAmStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateCastStmt(CreateCastStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateConversionStmt(CreateConversionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateDomainStmt(CreateDomainStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateEnumStmt(CreateEnumStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateEventTrigStmt(CreateEventTrigStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateExtensionStmt(CreateExtensionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateFdwStmt(CreateFdwStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateForeignServerStmt(CreateForeignServerStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateForeignTableStmt(CreateForeignTableStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateFunctionStmt(CreateFunctionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateOpClassItem(CreateOpClassItem node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateOpClassStmt(CreateOpClassStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateOpFamilyStmt(CreateOpFamilyStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreatePLangStmt(CreatePLangStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreatePolicyStmt(CreatePolicyStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreatePropGraphStmt(CreatePropGraphStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitAbstractPublicationStmt(AbstractPublicationStmt)} by default
+     */
+    default R visitCreatePublicationStmt(CreatePublicationStmt node) {
+        return visitAbstractPublicationStmt(node);
+    }
+
+    /**
+     * Visits a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateRangeStmt(CreateRangeStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateRoleStmt(CreateRoleStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateSchemaStmt(CreateSchemaStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateSeqStmt(CreateSeqStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateStatsStmt(CreateStatsStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateStmt(CreateStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateSubscriptionStmt(CreateSubscriptionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateTableAsStmt(CreateTableAsStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateTableSpaceStmt(CreateTableSpaceStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateTransformStmt(CreateTransformStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateTrigStmt(CreateTrigStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreateUserMappingStmt(CreateUserMappingStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCreatedbStmt(CreatedbStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link CurrentOfExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitCurrentOfExpr(CurrentOfExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DeallocateStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDeallocateStmt(DeallocateStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDeclareCursorStmt(DeclareCursorStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DefElem}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDefElem(DefElem node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DefineStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDefineStmt(DefineStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitStmt(Stmt)} by default
+     */
+    default R visitDeleteStmt(DeleteStmt node) {
+        return visitStmt(node);
+    }
+
+    /**
+     * Visits a {@link DiscardStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDiscardStmt(DiscardStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DoStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDoStmt(DoStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropOwnedStmt(DropOwnedStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropRoleStmt(DropRoleStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropStmt(DropStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropSubscriptionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropSubscriptionStmt(DropSubscriptionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropTableSpaceStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropTableSpaceStmt(DropTableSpaceStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropUserMappingStmt(DropUserMappingStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitDropdbStmt(DropdbStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ErrorSaveContext}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitErrorSaveContext(ErrorSaveContext node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitExecuteStmt(ExecuteStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitExplainStmt(ExplainStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link FetchStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitFetchStmt(FetchStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitForPortionOfClause(ForPortionOfClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link FuncCall}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitFuncCall(FuncCall node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitFunctionParameter(FunctionParameter node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitGrantRoleStmt(GrantRoleStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link GrantStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitGrantStmt(GrantStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitGraphElementPattern(GraphElementPattern node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link GraphPattern}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitGraphPattern(GraphPattern node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitGroupingFunc(GroupingFunc node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link GroupingSet}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitGroupingSet(GroupingSet node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitImportForeignSchemaStmt(ImportForeignSchemaStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link IndexElem}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitIndexElem(IndexElem node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link IndexStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitIndexStmt(IndexStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link InferClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitInferClause(InferClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link InsertStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitStmt(Stmt)} by default
+     */
+    default R visitInsertStmt(InsertStmt node) {
+        return visitStmt(node);
+    }
+
+    /**
+     * Visits a {@link IntoClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitIntoClause(IntoClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JoinExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJoinExpr(JoinExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonAggConstructor(JsonAggConstructor node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonArgument}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonArgument(JsonArgument node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonArrayAgg(JsonArrayAgg node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonArrayConstructor(JsonArrayConstructor node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonArrayQueryConstructor(JsonArrayQueryConstructor node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonBehavior(JsonBehavior node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonFormat}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonFormat(JsonFormat node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonFuncExpr(JsonFuncExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonIsPredicate(JsonIsPredicate node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonKeyValue(JsonKeyValue node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonObjectAgg(JsonObjectAgg node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonObjectConstructor(JsonObjectConstructor node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonOutput}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonOutput(JsonOutput node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonParseExpr(JsonParseExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonReturning}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonReturning(JsonReturning node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonScalarExpr(JsonScalarExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonSerializeExpr(JsonSerializeExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonTable}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonTable(JsonTable node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonTableColumn(JsonTableColumn node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonTablePathSpec(JsonTablePathSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonTablePlanSpec(JsonTablePlanSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitJsonValueExpr(JsonValueExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ListenStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitListenStmt(ListenStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link LoadStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitLoadStmt(LoadStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link LockStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitLockStmt(LockStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link LockingClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitLockingClause(LockingClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link MergeStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitStmt(Stmt)} by default
+     */
+    default R visitMergeStmt(MergeStmt node) {
+        return visitStmt(node);
+    }
+
+    /**
+     * Visits a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitMergeSupportFunc(MergeSupportFunc node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitMergeWhenClause(MergeWhenClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitMinMaxExpr(MinMaxExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitMultiAssignRef(MultiAssignRef node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitNamedArgExpr(NamedArgExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link NotifyStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitNotifyStmt(NotifyStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link NullTest}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitNullTest(NullTest node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitObjectWithArgs(ObjectWithArgs node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitOnConflictClause(OnConflictClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPLAssignStmt(PLAssignStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ParamRef}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitParamRef(ParamRef node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPartitionBoundSpec(PartitionBoundSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPartitionCmd(PartitionCmd node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PartitionElem}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPartitionElem(PartitionElem node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPartitionRangeDatum(PartitionRangeDatum node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPartitionSpec(PartitionSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPrepareStmt(PrepareStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPropGraphEdge(PropGraphEdge node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPropGraphLabelAndProperties(PropGraphLabelAndProperties node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPropGraphProperties(PropGraphProperties node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPropGraphVertex(PropGraphVertex node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPublicationAllObjSpec(PublicationAllObjSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPublicationObjSpec(PublicationObjSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link PublicationTable}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitPublicationTable(PublicationTable node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeFunction}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeFunction(RangeFunction node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeGraphTable(RangeGraphTable node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeSubselect(RangeSubselect node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeTableFunc(RangeTableFunc node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeTableFuncCol(RangeTableFuncCol node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeTableSample(RangeTableSample node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RangeVar}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRangeVar(RangeVar node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RawStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRawStmt(RawStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitReassignOwnedStmt(ReassignOwnedStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRefreshMatViewStmt(RefreshMatViewStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitReindexStmt(ReindexStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RenameStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRenameStmt(RenameStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RepackStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRepackStmt(RepackStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ReplicaIdentityStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitReplicaIdentityStmt(ReplicaIdentityStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ResTarget}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitResTarget(ResTarget node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitReturnStmt(ReturnStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ReturningClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitReturningClause(ReturningClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ReturningOption}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitReturningOption(ReturningOption node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RoleSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRoleSpec(RoleSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RowExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRowExpr(RowExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link RuleStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitRuleStmt(RuleStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SQLValueFunction}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSQLValueFunction(SQLValueFunction node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSecLabelStmt(SecLabelStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SelectStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSelectStmt(SelectStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SetToDefault}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSetToDefault(SetToDefault node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSinglePartitionSpec(SinglePartitionSpec node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SortBy}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSortBy(SortBy node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link StatsElem}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitStatsElem(StatsElem node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link Stmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitStmt(Stmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link SubLink}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitSubLink(SubLink node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitTableLikeClause(TableLikeClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitTransactionStmt(TransactionStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link TriggerTransition}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitTriggerTransition(TriggerTransition node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitTruncateStmt(TruncateStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link TypeCast}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitTypeCast(TypeCast node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link TypeName}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitTypeName(TypeName node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link UnlistenStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitUnlistenStmt(UnlistenStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitStmt(Stmt)} by default
+     */
+    default R visitUpdateStmt(UpdateStmt node) {
+        return visitStmt(node);
+    }
+
+    /**
+     * Visits a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitVacuumRelation(VacuumRelation node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitVacuumStmt(VacuumStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link Value}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitValue(Value node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitVariableSetStmt(VariableSetStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link VariableShowStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitVariableShowStmt(VariableShowStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link ViewStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitViewStmt(ViewStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link WaitStmt}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitWaitStmt(WaitStmt node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link WindowDef}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitWindowDef(WindowDef node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link WithClause}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitWithClause(WithClause node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link XmlExpr}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitXmlExpr(XmlExpr node) {
+        return visitNode(node);
+    }
+
+    /**
+     * Visits a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node to visit
+     * @return R The result of {@link #visitNode(Node)} by default
+     */
+    default R visitXmlSerialize(XmlSerialize node) {
+        return visitNode(node);
+    }
+}
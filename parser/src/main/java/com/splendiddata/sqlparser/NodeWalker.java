@@ -0,0 +1,4476 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.util.ArrayList;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.ATAlterConstraint;
+import com.splendiddata.sqlparser.structure.A_ArrayExpr;
+import com.splendiddata.sqlparser.structure.A_Const;
+import com.splendiddata.sqlparser.structure.A_Expr;
+import com.splendiddata.sqlparser.structure.A_Indices;
+import com.splendiddata.sqlparser.structure.A_Indirection;
+import com.splendiddata.sqlparser.structure.A_Star;
+import com.splendiddata.sqlparser.structure.AbstractPublicationStmt;
+import com.splendiddata.sqlparser.structure.AccessPriv;
+import com.splendiddata.sqlparser.structure.Alias;
+import com.splendiddata.sqlparser.structure.AlterCollationStmt;
+import com.splendiddata.sqlparser.structure.AlterDatabaseRefreshCollStmt;
+import com.splendiddata.sqlparser.structure.AlterDatabaseSetStmt;
+import com.splendiddata.sqlparser.structure.AlterDatabaseStmt;
+import com.splendiddata.sqlparser.structure.AlterDefaultPrivilegesStmt;
+import com.splendiddata.sqlparser.structure.AlterDomainStmt;
+import com.splendiddata.sqlparser.structure.AlterEnumStmt;
+import com.splendiddata.sqlparser.structure.AlterEventTrigStmt;
+import com.splendiddata.sqlparser.structure.AlterExtensionContentsStmt;
+import com.splendiddata.sqlparser.structure.AlterExtensionStmt;
+import com.splendiddata.sqlparser.structure.AlterFdwStmt;
+import com.splendiddata.sqlparser.structure.AlterForeignServerStmt;
+import com.splendiddata.sqlparser.structure.AlterFunctionStmt;
+import com.splendiddata.sqlparser.structure.AlterObjectDependsStmt;
+import com.splendiddata.sqlparser.structure.AlterObjectSchemaStmt;
+import com.splendiddata.sqlparser.structure.AlterOpFamilyStmt;
+import com.splendiddata.sqlparser.structure.AlterOperatorStmt;
+import com.splendiddata.sqlparser.structure.AlterOwnerStmt;
+import com.splendiddata.sqlparser.structure.AlterPolicyStmt;
+import com.splendiddata.sqlparser.structure.AlterPropGraphStmt;
+import com.splendiddata.sqlparser.structure.AlterPublicationStmt;
+import com.splendiddata.sqlparser.structure.AlterRoleSetStmt;
+import com.splendiddata.sqlparser.structure.AlterRoleStmt;
+import com.splendiddata.sqlparser.structure.AlterSeqStmt;
+import com.splendiddata.sqlparser.structure.AlterStatsStmt;
+import com.splendiddata.sqlparser.structure.AlterSubscriptionStmt;
+import com.splendiddata.sqlparser.structure.AlterSystemStmt;
+import com.splendiddata.sqlparser.structure.AlterTSConfigurationStmt;
+import com.splendiddata.sqlparser.structure.AlterTSDictionaryStmt;
+import com.splendiddata.sqlparser.structure.AlterTableCmd;
+import com.splendiddata.sqlparser.structure.AlterTableMoveAllStmt;
+import com.splendiddata.sqlparser.structure.AlterTableSpaceOptionsStmt;
+import com.splendiddata.sqlparser.structure.AlterTableStmt;
+import com.splendiddata.sqlparser.structure.AlterTypeStmt;
+import com.splendiddata.sqlparser.structure.AlterUserMappingStmt;
+import com.splendiddata.sqlparser.structure.BoolExpr;
+import com.splendiddata.sqlparser.structure.BooleanTest;
+import com.splendiddata.sqlparser.structure.CTECycleClause;
+import com.splendiddata.sqlparser.structure.CTESearchClause;
+import com.splendiddata.sqlparser.structure.CallStmt;
+import com.splendiddata.sqlparser.structure.CaseExpr;
+import com.splendiddata.sqlparser.structure.CaseWhen;
+import com.splendiddata.sqlparser.structure.CheckPointStmt;
+import com.splendiddata.sqlparser.structure.ClosePortalStmt;
+import com.splendiddata.sqlparser.structure.ClusterStmt;
+import com.splendiddata.sqlparser.structure.CoalesceExpr;
+import com.splendiddata.sqlparser.structure.CollateClause;
+import com.splendiddata.sqlparser.structure.ColumnDef;
+import com.splendiddata.sqlparser.structure.ColumnRef;
+import com.splendiddata.sqlparser.structure.CommentStmt;
+import com.splendiddata.sqlparser.structure.CommonTableExpr;
+import com.splendiddata.sqlparser.structure.CompositeTypeStmt;
+import com.splendiddata.sqlparser.structure.Constraint;
+import com.splendiddata.sqlparser.structure.ConstraintsSetStmt;
+import com.splendiddata.sqlparser.structure.CopyStmt;
+import com.splendiddata.sqlparser.structure.CreateAmStmt;
+import com.splendiddata.sqlparser.structure.CreateCastStmt;
+import com.splendiddata.sqlparser.structure.CreateConversionStmt;
+import com.splendiddata.sqlparser.structure.CreateDomainStmt;
+import com.splendiddata.sqlparser.structure.CreateEnumStmt;
+import com.splendiddata.sqlparser.structure.CreateEventTrigStmt;
+import com.splendiddata.sqlparser.structure.CreateExtensionStmt;
+import com.splendiddata.sqlparser.structure.CreateFdwStmt;
+import com.splendiddata.sqlparser.structure.CreateForeignServerStmt;
+import com.splendiddata.sqlparser.structure.CreateForeignTableStmt;
+import com.splendiddata.sqlparser.structure.CreateFunctionStmt;
+import com.splendiddata.sqlparser.structure.CreateOpClassItem;
+import com.splendiddata.sqlparser.structure.CreateOpClassStmt;
+import com.splendiddata.sqlparser.structure.CreateOpFamilyStmt;
+import com.splendiddata.sqlparser.structure.CreatePLangStmt;
+import com.splendiddata.sqlparser.structure.CreatePolicyStmt;
+import com.splendiddata.sqlparser.structure.CreatePropGraphStmt;
+import com.splendiddata.sqlparser.structure.CreatePublicationStmt;
+import com.splendiddata.sqlparser.structure.CreateRangeStmt;
+import com.splendiddata.sqlparser.structure.CreateRoleStmt;
+import com.splendiddata.sqlparser.structure.CreateSchemaStmt;
+import com.splendiddata.sqlparser.structure.CreateSeqStmt;
+import com.splendiddata.sqlparser.structure.CreateStatsStmt;
+import com.splendiddata.sqlparser.structure.CreateStmt;
+import com.splendiddata.sqlparser.structure.CreateSubscriptionStmt;
+import com.splendiddata.sqlparser.structure.CreateTableAsStmt;
+import com.splendiddata.sqlparser.structure.CreateTableSpaceStmt;
+import com.splendiddata.sqlparser.structure.CreateTransformStmt;
+import com.splendiddata.sqlparser.structure.CreateTrigStmt;
+import com.splendiddata.sqlparser.structure.CreateUserMappingStmt;
+import com.splendiddata.sqlparser.structure.CreatedbStmt;
+import com.splendiddata.sqlparser.structure.CurrentOfExpr;
+import com.splendiddata.sqlparser.structure.DeallocateStmt;
+import com.splendiddata.sqlparser.structure.DeclareCursorStmt;
+import com.splendiddata.sqlparser.structure.DefElem;
+import com.splendiddata.sqlparser.structure.DefineStmt;
+import com.splendiddata.sqlparser.structure.DeleteStmt;
+import com.splendiddata.sqlparser.structure.DiscardStmt;
+import com.splendiddata.sqlparser.structure.DoStmt;
+import com.splendiddata.sqlparser.structure.DropOwnedStmt;
+import com.splendiddata.sqlparser.structure.DropRoleStmt;
+import com.splendiddata.sqlparser.structure.DropStmt;
+import com.splendiddata.sqlparser.structure.DropSubscriptionStmt;
+import com.splendiddata.sqlparser.structure.DropTableSpaceStmt;
+import com.splendiddata.sqlparser.structure.DropUserMappingStmt;
+import com.splendiddata.sqlparser.structure.DropdbStmt;
+import com.splendiddata.sqlparser.structure.ErrorSaveContext;
+import com.splendiddata.sqlparser.structure.ExecuteStmt;
+import com.splendiddata.sqlparser.structure.ExplainStmt;
+import com.splendiddata.sqlparser.structure.FetchStmt;
+import com.splendiddata.sqlparser.structure.ForPortionOfClause;
+import com.splendiddata.sqlparser.structure.FuncCall;
+import com.splendiddata.sqlparser.structure.FunctionParameter;
+import com.splendiddata.sqlparser.structure.GrantRoleStmt;
+import com.splendiddata.sqlparser.structure.GrantStmt;
+import com.splendiddata.sqlparser.structure.GraphElementPattern;
+import com.splendiddata.sqlparser.structure.GraphPattern;
+import com.splendiddata.sqlparser.structure.GroupingFunc;
+import com.splendiddata.sqlparser.structure.GroupingSet;
+import com.splendiddata.sqlparser.structure.ImportForeignSchemaStmt;
+import com.splendiddata.sqlparser.structure.IndexElem;
+import com.splendiddata.sqlparser.structure.IndexStmt;
+import com.splendiddata.sqlparser.structure.InferClause;
+import com.splendiddata.sqlparser.structure.InsertStmt;
+import com.splendiddata.sqlparser.structure.IntoClause;
+import com.splendiddata.sqlparser.structure.JoinExpr;
+import com.splendiddata.sqlparser.structure.JsonAggConstructor;
+import com.splendiddata.sqlparser.structure.JsonArgument;
+import com.splendiddata.sqlparser.structure.JsonArrayAgg;
+import com.splendiddata.sqlparser.structure.JsonArrayConstructor;
+import com.splendiddata.sqlparser.structure.JsonArrayQueryConstructor;
+import com.splendiddata.sqlparser.structure.JsonBehavior;
+import com.splendiddata.sqlparser.structure.JsonFormat;
+import com.splendiddata.sqlparser.structure.JsonFuncExpr;
+import com.splendiddata.sqlparser.structure.JsonIsPredicate;
+import com.splendiddata.sqlparser.structure.JsonKeyValue;
+import com.splendiddata.sqlparser.structure.JsonObjectAgg;
+import com.splendiddata.sqlparser.structure.JsonObjectConstructor;
+import com.splendiddata.sqlparser.structure.JsonOutput;
+import com.splendiddata.sqlparser.structure.JsonParseExpr;
+import com.splendiddata.sqlparser.structure.JsonReturning;
+import com.splendiddata.sqlparser.structure.JsonScalarExpr;
+import com.splendiddata.sqlparser.structure.JsonSerializeExpr;
+import com.splendiddata.sqlparser.structure.JsonTable;
+import com.splendiddata.sqlparser.structure.JsonTableColumn;
+import com.splendiddata.sqlparser.structure.JsonTablePathSpec;
+import com.splendiddata.sqlparser.structure.JsonTablePlanSpec;
+import com.splendiddata.sqlparser.structure.JsonValueExpr;
+import com.splendiddata.sqlparser.structure.ListenStmt;
+import com.splendiddata.sqlparser.structure.LoadStmt;
+import com.splendiddata.sqlparser.structure.LockStmt;
+import com.splendiddata.sqlparser.structure.LockingClause;
+import com.splendiddata.sqlparser.structure.MergeStmt;
+import com.splendiddata.sqlparser.structure.MergeSupportFunc;
+import com.splendiddata.sqlparser.structure.MergeWhenClause;
+import com.splendiddata.sqlparser.structure.MinMaxExpr;
+import com.splendiddata.sqlparser.structure.MultiAssignRef;
+import com.splendiddata.sqlparser.structure.NamedArgExpr;
+import com.splendiddata.sqlparser.structure.NotifyStmt;
+import com.splendiddata.sqlparser.structure.NullTest;
+import com.splendiddata.sqlparser.structure.ObjectWithArgs;
+import com.splendiddata.sqlparser.structure.OnConflictClause;
+import com.splendiddata.sqlparser.structure.PLAssignStmt;
+import com.splendiddata.sqlparser.structure.ParamRef;
+import com.splendiddata.sqlparser.structure.PartitionBoundSpec;
+import com.splendiddata.sqlparser.structure.PartitionCmd;
+import com.splendiddata.sqlparser.structure.PartitionElem;
+import com.splendiddata.sqlparser.structure.PartitionRangeDatum;
+import com.splendiddata.sqlparser.structure.PartitionSpec;
+import com.splendiddata.sqlparser.structure.PrepareStmt;
+import com.splendiddata.sqlparser.structure.PropGraphEdge;
+import com.splendiddata.sqlparser.structure.PropGraphLabelAndProperties;
+import com.splendiddata.sqlparser.structure.PropGraphProperties;
+import com.splendiddata.sqlparser.structure.PropGraphVertex;
+import com.splendiddata.sqlparser.structure.PublicationAllObjSpec;
+import com.splendiddata.sqlparser.structure.PublicationObjSpec;
+import com.splendiddata.sqlparser.structure.PublicationTable;
+import com.splendiddata.sqlparser.structure.RangeFunction;
+import com.splendiddata.sqlparser.structure.RangeGraphTable;
+import com.splendiddata.sqlparser.structure.RangeSubselect;
+import com.splendiddata.sqlparser.structure.RangeTableFunc;
+import com.splendiddata.sqlparser.structure.RangeTableFuncCol;
+import com.splendiddata.sqlparser.structure.RangeTableSample;
+import com.splendiddata.sqlparser.structure.RangeVar;
+import com.splendiddata.sqlparser.structure.RawStmt;
+import com.splendiddata.sqlparser.structure.ReassignOwnedStmt;
+import com.splendiddata.sqlparser.structure.RefreshMatViewStmt;
+import com.splendiddata.sqlparser.structure.ReindexStmt;
+import com.splendiddata.sqlparser.structure.RenameStmt;
+import com.splendiddata.sqlparser.structure.RepackStmt;
+import com.splendiddata.sqlparser.structure.ReplicaIdentityStmt;
+import com.splendiddata.sqlparser.structure.ResTarget;
+import com.splendiddata.sqlparser.structure.ReturnStmt;
+import com.splendiddata.sqlparser.structure.ReturningClause;
+import com.splendiddata.sqlparser.structure.ReturningOption;
+import com.splendiddata.sqlparser.structure.RoleSpec;
+import com.splendiddata.sqlparser.structure.RowExpr;
+import com.splendiddata.sqlparser.structure.RuleStmt;
+import com.splendiddata.sqlparser.structure.SQLValueFunction;
+import com.splendiddata.sqlparser.structure.SecLabelStmt;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+import com.splendiddata.sqlparser.structure.SetToDefault;
+import com.splendiddata.sqlparser.structure.SinglePartitionSpec;
+import com.splendiddata.sqlparser.structure.SortBy;
+import com.splendiddata.sqlparser.structure.StatsElem;
+import com.splendiddata.sqlparser.structure.Stmt;
+import com.splendiddata.sqlparser.structure.SubLink;
+import com.splendiddata.sqlparser.structure.TableLikeClause;
+import com.splendiddata.sqlparser.structure.TransactionStmt;
+import com.splendiddata.sqlparser.structure.TriggerTransition;
+import com.splendiddata.sqlparser.structure.TruncateStmt;
+import com.splendiddata.sqlparser.structure.TypeCast;
+import com.splendiddata.sqlparser.structure.TypeName;
+import com.splendiddata.sqlparser.structure.UnlistenStmt;
+import com.splendiddata.sqlparser.structure.UpdateStmt;
+import com.splendiddata.sqlparser.structure.VacuumRelation;
+import com.splendiddata.sqlparser.structure.VacuumStmt;
+import com.splendiddata.sqlparser.structure.Value;
+import com.splendiddata.sqlparser.structure.VariableSetStmt;
+import com.splendiddata.sqlparser.structure.VariableShowStmt;
+import com.splendiddata.sqlparser.structure.ViewStmt;
+import com.splendiddata.sqlparser.structure.WaitStmt;
+import com.splendiddata.sqlparser.structure.WindowDef;
+import com.splendiddata.sqlparser.structure.WithClause;
+import com.splendiddata.sqlparser.structure.XmlExpr;
+import com.splendiddata.sqlparser.structure.XmlSerialize;
+
+/**
+ * Walks a parse tree depth first and calls a {@link NodeVisitor} for every node in it.
+ * <p>
+ * The children of a node are reached by reading its fields directly, in a fixed order: the fields of the super
+ * classes first, and within a class in declaration order. Lists are walked through: the visitor is called for the
+ * elements of a List, not for the List itself. The result of the visit method of a node tells whether the walk goes on
+ * into the children of the node, skips them, or stops altogether.
+ * </p>
+ * <p>
+ * The walk keeps the nodes that are still to be walked on a stack of its own instead of recursing, so a deeply
+ * nested tree, such as a long chain of operators, does not overflow the Java stack. That stack is the only object
+ * that a walk allocates.
+ * </p>
+ * <p>
+ * Nodes of a class that is not known to the walker, such as a subclass of a structure class, are visited and walked
+ * as their nearest known super class.
+ * </p>
+ * <p>
+ * This class is generated by NodeVisitorGenerator in the test sources. Do not edit it by hand.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeWalker {
+    /**
+     * What the walk does after a node has been visited
+     */
+    public enum Action {
+        /** Walk the children of the node, then go on with the rest of the tree */
+        CONTINUE,
+        /** Do not walk the children of the node, but go on with the rest of the tree */
+        SKIP_CHILDREN,
+        /** Stop walking */
+        STOP
+    }
+
+    /**
+     * The known classes. The index of a class in this array is its case in the switch statements.
+     */
+    private static final Class<?>[] CLASSES = {
+            ATAlterConstraint.class,
+            A_ArrayExpr.class,
+            A_Const.class,
+            A_Expr.class,
+            A_Indices.class,
+            A_Indirection.class,
+            A_Star.class,
+            AbstractPublicationStmt.class,
+            AccessPriv.class,
+            Alias.class,
+            AlterCollationStmt.class,
+            AlterDatabaseRefreshCollStmt.class,
+            AlterDatabaseSetStmt.class,
+            AlterDatabaseStmt.class,
+            AlterDefaultPrivilegesStmt.class,
+            AlterDomainStmt.class,
+            AlterEnumStmt.class,
+            AlterEventTrigStmt.class,
+            AlterExtensionContentsStmt.class,
+            AlterExtensionStmt.class,
+            AlterFdwStmt.class,
+            AlterForeignServerStmt.class,
+            AlterFunctionStmt.class,
+            AlterObjectDependsStmt.class,
+            AlterObjectSchemaStmt.class,
+            AlterOpFamilyStmt.class,
+            AlterOperatorStmt.class,
+            AlterOwnerStmt.class,
+            AlterPolicyStmt.class,
+            AlterPropGraphStmt.class,
+            AlterPublicationStmt.class,
+            AlterRoleSetStmt.class,
+            AlterRoleStmt.class,
+            AlterSeqStmt.class,
+            AlterStatsStmt.class,
+            AlterSubscriptionStmt.class,
+            AlterSystemStmt.class,
+            AlterTSConfigurationStmt.class,
+            AlterTSDictionaryStmt.class,
+            AlterTableCmd.class,
+            AlterTableMoveAllStmt.class,
+            AlterTableSpaceOptionsStmt.class,
+            AlterTableStmt.class,
+            AlterTypeStmt.class,
+            AlterUserMappingStmt.class,
+            BoolExpr.class,
+            BooleanTest.class,
+            CTECycleClause.class,
+            CTESearchClause.class,
+            CallStmt.class,
+            CaseExpr.class,
+            CaseWhen.class,
+            CheckPointStmt.class,
+            ClosePortalStmt.class,
+            ClusterStmt.class,
+            CoalesceExpr.class,
+            CollateClause.class,
+            ColumnDef.class,
+            ColumnRef.class,
+            CommentStmt.class,
+            CommonTableExpr.class,
+            CompositeTypeStmt.class,
+            Constraint.class,
+            ConstraintsSetStmt.class,
+            CopyStmt.class,
+            CreateAmStmt.class,
+            CreateCastStmt.class,
+            CreateConversionStmt.class,
+            CreateDomainStmt.class,
+            CreateEnumStmt.class,
+            CreateEventTrigStmt.class,
+            CreateExtensionStmt.class,
+            CreateFdwStmt.class,
+            CreateForeignServerStmt.class,
+            CreateForeignTableStmt.class,
+            CreateFunctionStmt.class,
+            CreateOpClassItem.class,
+            CreateOpClassStmt.class,
+            CreateOpFamilyStmt.class,
+            CreatePLangStmt.class,
+            CreatePolicyStmt.class,
+            CreatePropGraphStmt.class,
+            CreatePublicationStmt.class,
+            CreateRangeStmt.class,
+            CreateRoleStmt.class,
+            CreateSchemaStmt.class,
+            CreateSeqStmt.class,
+            CreateStatsStmt.class,
+            CreateStmt.class,
+            CreateSubscriptionStmt.class,
+            CreateTableAsStmt.class,
+            CreateTableSpaceStmt.class,
+            CreateTransformStmt.class,
+            CreateTrigStmt.class,
+            CreateUserMappingStmt.class,
+            CreatedbStmt.class,
+            CurrentOfExpr.class,
+            DeallocateStmt.class,
+            DeclareCursorStmt.class,
+            DefElem.class,
+            DefineStmt.class,
+            DeleteStmt.class,
+            DiscardStmt.class,
+            DoStmt.class,
+            DropOwnedStmt.class,
+            DropRoleStmt.class,
+            DropStmt.class,
+            DropSubscriptionStmt.class,
+            DropTableSpaceStmt.class,
+            DropUserMappingStmt.class,
+            DropdbStmt.class,
+            ErrorSaveContext.class,
+            ExecuteStmt.class,
+            ExplainStmt.class,
+            FetchStmt.class,
+            ForPortionOfClause.class,
+            FuncCall.class,
+            FunctionParameter.class,
+            GrantRoleStmt.class,
+            GrantStmt.class,
+            GraphElementPattern.class,
+            GraphPattern.class,
+            GroupingFunc.class,
+            GroupingSet.class,
+            ImportForeignSchemaStmt.class,
+            IndexElem.class,
+            IndexStmt.class,
+            InferClause.class,
+            InsertStmt.class,
+            IntoClause.class,
+            JoinExpr.class,
+            JsonAggConstructor.class,
+            JsonArgument.class,
+            JsonArrayAgg.class,
+            JsonArrayConstructor.class,
+            JsonArrayQueryConstructor.class,
+            JsonBehavior.class,
+            JsonFormat.class,
+            JsonFuncExpr.class,
+            JsonIsPredicate.class,
+            JsonKeyValue.class,
+            JsonObjectAgg.class,
+            JsonObjectConstructor.class,
+            JsonOutput.class,
+            JsonParseExpr.class,
+            JsonReturning.class,
+            JsonScalarExpr.class,
+            JsonSerializeExpr.class,
+            JsonTable.class,
+            JsonTableColumn.class,
+            JsonTablePathSpec.class,
+            JsonTablePlanSpec.class,
+            JsonValueExpr.class,
+            ListenStmt.class,
+            LoadStmt.class,
+            LockStmt.class,
+            LockingClause.class,
+            MergeStmt.class,
+            MergeSupportFunc.class,
+            MergeWhenClause.class,
+            MinMaxExpr.class,
+            MultiAssignRef.class,
+            NamedArgExpr.class,
+            NotifyStmt.class,
+            NullTest.class,
+            ObjectWithArgs.class,
+            OnConflictClause.class,
+            PLAssignStmt.class,
+            ParamRef.class,
+            PartitionBoundSpec.class,
+            PartitionCmd.class,
+            PartitionElem.class,
+            PartitionRangeDatum.class,
+            PartitionSpec.class,
+            PrepareStmt.class,
+            PropGraphEdge.class,
+            PropGraphLabelAndProperties.class,
+            PropGraphProperties.class,
+            PropGraphVertex.class,
+            PublicationAllObjSpec.class,
+            PublicationObjSpec.class,
+            PublicationTable.class,
+            RangeFunction.class,
+            RangeGraphTable.class,
+            RangeSubselect.class,
+            RangeTableFunc.class,
+            RangeTableFuncCol.class,
+            RangeTableSample.class,
+            RangeVar.class,
+            RawStmt.class,
+            ReassignOwnedStmt.class,
+            RefreshMatViewStmt.class,
+            ReindexStmt.class,
+            RenameStmt.class,
+            RepackStmt.class,
+            ReplicaIdentityStmt.class,
+            ResTarget.class,
+            ReturnStmt.class,
+            ReturningClause.class,
+            ReturningOption.class,
+            RoleSpec.class,
+            RowExpr.class,
+            RuleStmt.class,
+            SQLValueFunction.class,
+            SecLabelStmt.class,
+            SelectStmt.class,
+            SetToDefault.class,
+            SinglePartitionSpec.class,
+            SortBy.class,
+            StatsElem.class,
+            Stmt.class,
+            SubLink.class,
+            TableLikeClause.class,
+            TransactionStmt.class,
+            TriggerTransition.class,
+            TruncateStmt.class,
+            TypeCast.class,
+            TypeName.class,
+            UnlistenStmt.class,
+            UpdateStmt.class,
+            VacuumRelation.class,
+            VacuumStmt.class,
+            Value.class,
+            VariableSetStmt.class,
+            VariableShowStmt.class,
+            ViewStmt.class,
+            WaitStmt.class,
+            WindowDef.class,
+            WithClause.class,
+            XmlExpr.class,
+            XmlSerialize.class,
+    };
+
+    /**
+     * The index in {@link #CLASSES} of a class or of its nearest known super class, -1 if there is none
+     */
+    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < CLASSES.length; i++) {
+                if (CLASSES[i].equals(type)) {
+                    return Integer.valueOf(i);
+                }
+            }
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null && Node.class.isAssignableFrom(superclass)) {
+                return get(superclass);
+            }
+            return Integer.valueOf(-1);
+        }
+    };
+
+    /**
+     * No instances
+     */
+    private NodeWalker() {
+        // static methods only
+    }
+
+    /**
+     * Calls the method of the visitor that belongs to the class of the node
+     *
+     * @param <R>
+     *            The result type of the visitor
+     * @param node
+     *            The node to visit, not null
+     * @param visitor
+     *            The visitor
+     * @return R The result of the visit method
+     */
+    public static <R> R visit(Node node, NodeVisitor<R> visitor) {
+        return visit(INDEXES.get(node.getClass()).intValue(), node, visitor);
+    }
+
+    /**
+     * Walks a tree depth first, visiting each node before its children. A null result of a visit method counts as
+     * {@link Action#CONTINUE}.
+     *
+     * @param tree
+     *            The tree to walk: a Node, a List of Nodes like a parse result, or null
+     * @param visitor
+     *            The visitor that is called for every node
+     * @return boolean false if the walk was stopped by {@link Action#STOP}, true if it completed
+     */
+    public static boolean walk(Object tree, NodeVisitor<Action> visitor) {
+        ArrayList<Node> stack = new ArrayList<>();
+        push(tree, stack);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            if (node instanceof List<?> list) {
+                for (int i = list.size() - 1; i >= 0; i--) {
+                    push(list.get(i), stack);
+                }
+                continue;
+            }
+            int index = INDEXES.get(node.getClass()).intValue();
+            Action action = visit(index, node, visitor);
+            if (action == Action.STOP) {
+                return false;
+            }
+            if (action != Action.SKIP_CHILDREN) {
+                pushChildren(index, node, stack);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pushes a field or list element on the stack of nodes that are still to be walked if it is a node
+     *
+     * @param object
+     *            The field or list element, may be null
+     * @param stack
+     *            The nodes that are still to be walked, the last one first
+     */
+    private static void push(Object object, ArrayList<Node> stack) {
+        if (object instanceof Node node) {
+            stack.add(node);
+        }
+    }
+
+    /**
+     * Calls the visit method for a class
+     *
+     * @param <R>
+     *            The result type of the visitor
+     * @param index
+     *            The index of the class in {@link #CLASSES}
+     * @param node
+     *            The node to visit
+     * @param visitor
+     *            The visitor
+     * @return R The result of the visit method
+     */
+    private static <R> R visit(int index, Node node, NodeVisitor<R> visitor) {
+        switch (index) {
+        case 0:
+            return visitor.visitATAlterConstraint((ATAlterConstraint) node);
+        case 1:
+            return visitor.visitA_ArrayExpr((A_ArrayExpr) node);
+        case 2:
+            return visitor.visitA_Const((A_Const) node);
+        case 3:
+            return visitor.visitA_Expr((A_Expr) node);
+        case 4:
+            return visitor.visitA_Indices((A_Indices) node);
+        case 5:
+            return visitor.visitA_Indirection((A_Indirection) node);
+        case 6:
+            return visitor.visitA_Star((A_Star) node);
+        case 7:
+            return visitor.visitAbstractPublicationStmt((AbstractPublicationStmt) node);
+        case 8:
+            return visitor.visitAccessPriv((AccessPriv) node);
+        case 9:
+            return visitor.visitAlias((Alias) node);
+        case 10:
+            return visitor.visitAlterCollationStmt((AlterCollationStmt) node);
+        case 11:
+            return visitor.visitAlterDatabaseRefreshCollStmt((AlterDatabaseRefreshCollStmt) node);
+        case 12:
+            return visitor.visitAlterDatabaseSetStmt((AlterDatabaseSetStmt) node);
+        case 13:
+            return visitor.visitAlterDatabaseStmt((AlterDatabaseStmt) node);
+        case 14:
+            return visitor.visitAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node);
+        case 15:
+            return visitor.visitAlterDomainStmt((AlterDomainStmt) node);
+        case 16:
+            return visitor.visitAlterEnumStmt((AlterEnumStmt) node);
+        case 17:
+            return visitor.visitAlterEventTrigStmt((AlterEventTrigStmt) node);
+        case 18:
+            return visitor.visitAlterExtensionContentsStmt((AlterExtensionContentsStmt) node);
+        case 19:
+            return visitor.visitAlterExtensionStmt((AlterExtensionStmt) node);
+        case 20:
+            return visitor.visitAlterFdwStmt((AlterFdwStmt) node);
+        case 21:
+            return visitor.visitAlterForeignServerStmt((AlterForeignServerStmt) node);
+        case 22:
+            return visitor.visitAlterFunctionStmt((AlterFunctionStmt) node);
+        case 23:
+            return visitor.visitAlterObjectDependsStmt((AlterObjectDependsStmt) node);
+        case 24:
+            return visitor.visitAlterObjectSchemaStmt((AlterObjectSchemaStmt) node);
+        case 25:
+            return visitor.visitAlterOpFamilyStmt((AlterOpFamilyStmt) node);
+        case 26:
+            return visitor.visitAlterOperatorStmt((AlterOperatorStmt) node);
+        case 27:
+            return visitor.visitAlterOwnerStmt((AlterOwnerStmt) node);
+        case 28:
+            return visitor.visitAlterPolicyStmt((AlterPolicyStmt) node);
+        case 29:
+            return visitor.visitAlterPropGraphStmt((AlterPropGraphStmt) node);
+        case 30:
+            return visitor.visitAlterPublicationStmt((AlterPublicationStmt) node);
+        case 31:
+            return visitor.visitAlterRoleSetStmt((AlterRoleSetStmt) node);
+        case 32:
+            return visitor.visitAlterRoleStmt((AlterRoleStmt) node);
+        case 33:
+            return visitor.visitAlterSeqStmt((AlterSeqStmt) node);
+        case 34:
+            return visitor.visitAlterStatsStmt((AlterStatsStmt) node);
+        case 35:
+            return visitor.visitAlterSubscriptionStmt((AlterSubscriptionStmt) node);
+        case 36:
+            return visitor.visitAlterSystemStmt((AlterSystemStmt) node);
+        case 37:
+            return visitor.visitAlterTSConfigurationStmt((AlterTSConfigurationStmt) node);
+        case 38:
+            return visitor.visitAlterTSDictionaryStmt((AlterTSDictionaryStmt) node);
+        case 39:
+            return visitor.visitAlterTableCmd((AlterTableCmd) node);
+        case 40:
+            return visitor.visitAlterTableMoveAllStmt((AlterTableMoveAllStmt) node);
+        case 41:
+            return visitor.visitAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node);
+        case 42:
+            return visitor.visitAlterTableStmt((AlterTableStmt) node);
+        case 43:
+            return visitor.visitAlterTypeStmt((AlterTypeStmt) node);
+        case 44:
+            return visitor.visitAlterUserMappingStmt((AlterUserMappingStmt) node);
+        case 45:
+            return visitor.visitBoolExpr((BoolExpr) node);
+        case 46:
+            return visitor.visitBooleanTest((BooleanTest) node);
+        case 47:
+            return visitor.visitCTECycleClause((CTECycleClause) node);
+        case 48:
+            return visitor.visitCTESearchClause((CTESearchClause) node);
+        case 49:
+            return visitor.visitCallStmt((CallStmt) node);
+        case 50:
+            return visitor.visitCaseExpr((CaseExpr) node);
+        case 51:
+            return visitor.visitCaseWhen((CaseWhen) node);
+        case 52:
+            return visitor.visitCheckPointStmt((CheckPointStmt) node);
+        case 53:
+            return visitor.visitClosePortalStmt((ClosePortalStmt) node);
+        case 54:
+            return visitor.visitClusterStmt((ClusterStmt) node);
+        case 55:
+            return visitor.visitCoalesceExpr((CoalesceExpr) node);
+        case 56:
+            return visitor.visitCollateClause((CollateClause) node);
+        case 57:
+            return visitor.visitColumnDef((ColumnDef) node);
+        case 58:
+            return visitor.visitColumnRef((ColumnRef) node);
+        case 59:
+            return visitor.visitCommentStmt((CommentStmt) node);
+        case 60:
+            return visitor.visitCommonTableExpr((CommonTableExpr) node);
+        case 61:
+            return visitor.visitCompositeTypeStmt((CompositeTypeStmt) node);
+        case 62:
+            return visitor.visitConstraint((Constraint) node);
+        case 63:
+            return visitor.visitConstraintsSetStmt((ConstraintsSetStmt) node);
+        case 64:
+            return visitor.visitCopyStmt((CopyStmt) node);
+        case 65:
+            return visitor.visitCreateAmStmt((CreateAmStmt) node);
+        case 66:
+            return visitor.visitCreateCastStmt((CreateCastStmt) node);
+        case 67:
+            return visitor.visitCreateConversionStmt((CreateConversionStmt) node);
+        case 68:
+            return visitor.visitCreateDomainStmt((CreateDomainStmt) node);
+        case 69:
+            return visitor.visitCreateEnumStmt((CreateEnumStmt) node);
+        case 70:
+            return visitor.visitCreateEventTrigStmt((CreateEventTrigStmt) node);
+        case 71:
+            return visitor.visitCreateExtensionStmt((CreateExtensionStmt) node);
+        case 72:
+            return visitor.visitCreateFdwStmt((CreateFdwStmt) node);
+        case 73:
+            return visitor.visitCreateForeignServerStmt((CreateForeignServerStmt) node);
+        case 74:
+            return visitor.visitCreateForeignTableStmt((CreateForeignTableStmt) node);
+        case 75:
+            return visitor.visitCreateFunctionStmt((CreateFunctionStmt) node);
+        case 76:
+            return visitor.visitCreateOpClassItem((CreateOpClassItem) node);
+        case 77:
+            return visitor.visitCreateOpClassStmt((CreateOpClassStmt) node);
+        case 78:
+            return visitor.visitCreateOpFamilyStmt((CreateOpFamilyStmt) node);
+        case 79:
+            return visitor.visitCreatePLangStmt((CreatePLangStmt) node);
+        case 80:
+            return visitor.visitCreatePolicyStmt((CreatePolicyStmt) node);
+        case 81:
+            return visitor.visitCreatePropGraphStmt((CreatePropGraphStmt) node);
+        case 82:
+            return visitor.visitCreatePublicationStmt((CreatePublicationStmt) node);
+        case 83:
+            return visitor.visitCreateRangeStmt((CreateRangeStmt) node);
+        case 84:
+            return visitor.visitCreateRoleStmt((CreateRoleStmt) node);
+        case 85:
+            return visitor.visitCreateSchemaStmt((CreateSchemaStmt) node);
+        case 86:
+            return visitor.visitCreateSeqStmt((CreateSeqStmt) node);
+        case 87:
+            return visitor.visitCreateStatsStmt((CreateStatsStmt) node);
+        case 88:
+            return visitor.visitCreateStmt((CreateStmt) node);
+        case 89:
+            return visitor.visitCreateSubscriptionStmt((CreateSubscriptionStmt) node);
+        case 90:
+            return visitor.visitCreateTableAsStmt((CreateTableAsStmt) node);
+        case 91:
+            return visitor.visitCreateTableSpaceStmt((CreateTableSpaceStmt) node);
+        case 92:
+            return visitor.visitCreateTransformStmt((CreateTransformStmt) node);
+        case 93:
+            return visitor.visitCreateTrigStmt((CreateTrigStmt) node);
+        case 94:
+            return visitor.visitCreateUserMappingStmt((CreateUserMappingStmt) node);
+        case 95:
+            return visitor.visitCreatedbStmt((CreatedbStmt) node);
+        case 96:
+            return visitor.visitCurrentOfExpr((CurrentOfExpr) node);
+        case 97:
+            return visitor.visitDeallocateStmt((DeallocateStmt) node);
+        case 98:
+            return visitor.visitDeclareCursorStmt((DeclareCursorStmt) node);
+        case 99:
+            return visitor.visitDefElem((DefElem) node);
+        case 100:
+            return visitor.visitDefineStmt((DefineStmt) node);
+        case 101:
+            return visitor.visitDeleteStmt((DeleteStmt) node);
+        case 102:
+            return visitor.visitDiscardStmt((DiscardStmt) node);
+        case 103:
+            return visitor.visitDoStmt((DoStmt) node);
+        case 104:
+            return visitor.visitDropOwnedStmt((DropOwnedStmt) node);
+        case 105:
+            return visitor.visitDropRoleStmt((DropRoleStmt) node);
+        case 106:
+            return visitor.visitDropStmt((DropStmt) node);
+        case 107:
+            return visitor.visitDropSubscriptionStmt((DropSubscriptionStmt) node);
+        case 108:
+            return visitor.visitDropTableSpaceStmt((DropTableSpaceStmt) node);
+        case 109:
+            return visitor.visitDropUserMappingStmt((DropUserMappingStmt) node);
+        case 110:
+            return visitor.visitDropdbStmt((DropdbStmt) node);
+        case 111:
+            return visitor.visitErrorSaveContext((ErrorSaveContext) node);
+        case 112:
+            return visitor.visitExecuteStmt((ExecuteStmt) node);
+        case 113:
+            return visitor.visitExplainStmt((ExplainStmt) node);
+        case 114:
+            return visitor.visitFetchStmt((FetchStmt) node);
+        case 115:
+            return visitor.visitForPortionOfClause((ForPortionOfClause) node);
+        case 116:
+            return visitor.visitFuncCall((FuncCall) node);
+        case 117:
+            return visitor.visitFunctionParameter((FunctionParameter) node);
+        case 118:
+            return visitor.visitGrantRoleStmt((GrantRoleStmt) node);
+        case 119:
+            return visitor.visitGrantStmt((GrantStmt) node);
+        case 120:
+            return visitor.visitGraphElementPattern((GraphElementPattern) node);
+        case 121:
+            return visitor.visitGraphPattern((GraphPattern) node);
+        case 122:
+            return visitor.visitGroupingFunc((GroupingFunc) node);
+        case 123:
+            return visitor.visitGroupingSet((GroupingSet) node);
+        case 124:
+            return visitor.visitImportForeignSchemaStmt((ImportForeignSchemaStmt) node);
+        case 125:
+            return visitor.visitIndexElem((IndexElem) node);
+        case 126:
+            return visitor.visitIndexStmt((IndexStmt) node);
+        case 127:
+            return visitor.visitInferClause((InferClause) node);
+        case 128:
+            return visitor.visitInsertStmt((InsertStmt) node);
+        case 129:
+            return visitor.visitIntoClause((IntoClause) node);
+        case 130:
+            return visitor.visitJoinExpr((JoinExpr) node);
+        case 131:
+            return visitor.visitJsonAggConstructor((JsonAggConstructor) node);
+        case 132:
+            return visitor.visitJsonArgument((JsonArgument) node);
+        case 133:
+            return visitor.visitJsonArrayAgg((JsonArrayAgg) node);
+        case 134:
+            return visitor.visitJsonArrayConstructor((JsonArrayConstructor) node);
+        case 135:
+            return visitor.visitJsonArrayQueryConstructor((JsonArrayQueryConstructor) node);
+        case 136:
+            return visitor.visitJsonBehavior((JsonBehavior) node);
+        case 137:
+            return visitor.visitJsonFormat((JsonFormat) node);
+        case 138:
+            return visitor.visitJsonFuncExpr((JsonFuncExpr) node);
+        case 139:
+            return visitor.visitJsonIsPredicate((JsonIsPredicate) node);
+        case 140:
+            return visitor.visitJsonKeyValue((JsonKeyValue) node);
+        case 141:
+            return visitor.visitJsonObjectAgg((JsonObjectAgg) node);
+        case 142:
+            return visitor.visitJsonObjectConstructor((JsonObjectConstructor) node);
+        case 143:
+            return visitor.visitJsonOutput((JsonOutput) node);
+        case 144:
+            return visitor.visitJsonParseExpr((JsonParseExpr) node);
+        case 145:
+            return visitor.visitJsonReturning((JsonReturning) node);
+        case 146:
+            return visitor.visitJsonScalarExpr((JsonScalarExpr) node);
+        case 147:
+            return visitor.visitJsonSerializeExpr((JsonSerializeExpr) node);
+        case 148:
+            return visitor.visitJsonTable((JsonTable) node);
+        case 149:
+            return visitor.visitJsonTableColumn((JsonTableColumn) node);
+        case 150:
+            return visitor.visitJsonTablePathSpec((JsonTablePathSpec) node);
+        case 151:
+            return visitor.visitJsonTablePlanSpec((JsonTablePlanSpec) node);
+        case 152:
+            return visitor.visitJsonValueExpr((JsonValueExpr) node);
+        case 153:
+            return visitor.visitListenStmt((ListenStmt) node);
+        case 154:
+            return visitor.visitLoadStmt((LoadStmt) node);
+        case 155:
+            return visitor.visitLockStmt((LockStmt) node);
+        case 156:
+            return visitor.visitLockingClause((LockingClause) node);
+        case 157:
+            return visitor.visitMergeStmt((MergeStmt) node);
+        case 158:
+            return visitor.visitMergeSupportFunc((MergeSupportFunc) node);
+        case 159:
+            return visitor.visitMergeWhenClause((MergeWhenClause) node);
+        case 160:
+            return visitor.visitMinMaxExpr((MinMaxExpr) node);
+        case 161:
+            return visitor.visitMultiAssignRef((MultiAssignRef) node);
+        case 162:
+            return visitor.visitNamedArgExpr((NamedArgExpr) node);
+        case 163:
+            return visitor.visitNotifyStmt((NotifyStmt) node);
+        case 164:
+            return visitor.visitNullTest((NullTest) node);
+        case 165:
+            return visitor.visitObjectWithArgs((ObjectWithArgs) node);
+        case 166:
+            return visitor.visitOnConflictClause((OnConflictClause) node);
+        case 167:
+            return visitor.visitPLAssignStmt((PLAssignStmt) node);
+        case 168:
+            return visitor.visitParamRef((ParamRef) node);
+        case 169:
+            return visitor.visitPartitionBoundSpec((PartitionBoundSpec) node);
+        case 170:
+            return visitor.visitPartitionCmd((PartitionCmd) node);
+        case 171:
+            return visitor.visitPartitionElem((PartitionElem) node);
+        case 172:
+            return visitor.visitPartitionRangeDatum((PartitionRangeDatum) node);
+        case 173:
+            return visitor.visitPartitionSpec((PartitionSpec) node);
+        case 174:
+            return visitor.visitPrepareStmt((PrepareStmt) node);
+        case 175:
+            return visitor.visitPropGraphEdge((PropGraphEdge) node);
+        case 176:
+            return visitor.visitPropGraphLabelAndProperties((PropGraphLabelAndProperties) node);
+        case 177:
+            return visitor.visitPropGraphProperties((PropGraphProperties) node);
+        case 178:
+            return visitor.visitPropGraphVertex((PropGraphVertex) node);
+        case 179:
+            return visitor.visitPublicationAllObjSpec((PublicationAllObjSpec) node);
+        case 180:
+            return visitor.visitPublicationObjSpec((PublicationObjSpec) node);
+        case 181:
+            return visitor.visitPublicationTable((PublicationTable) node);
+        case 182:
+            return visitor.visitRangeFunction((RangeFunction) node);
+        case 183:
+            return visitor.visitRangeGraphTable((RangeGraphTable) node);
+        case 184:
+            return visitor.visitRangeSubselect((RangeSubselect) node);
+        case 185:
+            return visitor.visitRangeTableFunc((RangeTableFunc) node);
+        case 186:
+            return visitor.visitRangeTableFuncCol((RangeTableFuncCol) node);
+        case 187:
+            return visitor.visitRangeTableSample((RangeTableSample) node);
+        case 188:
+            return visitor.visitRangeVar((RangeVar) node);
+        case 189:
+            return visitor.visitRawStmt((RawStmt) node);
+        case 190:
+            return visitor.visitReassignOwnedStmt((ReassignOwnedStmt) node);
+        case 191:
+            return visitor.visitRefreshMatViewStmt((RefreshMatViewStmt) node);
+        case 192:
+            return visitor.visitReindexStmt((ReindexStmt) node);
+        case 193:
+            return visitor.visitRenameStmt((RenameStmt) node);
+        case 194:
+            return visitor.visitRepackStmt((RepackStmt) node);
+        case 195:
+            return visitor.visitReplicaIdentityStmt((ReplicaIdentityStmt) node);
+        case 196:
+            return visitor.visitResTarget((ResTarget) node);
+        case 197:
+            return visitor.visitReturnStmt((ReturnStmt) node);
+        case 198:
+            return visitor.visitReturningClause((ReturningClause) node);
+        case 199:
+            return visitor.visitReturningOption((ReturningOption) node);
+        case 200:
+            return visitor.visitRoleSpec((RoleSpec) node);
+        case 201:
+            return visitor.visitRowExpr((RowExpr) node);
+        case 202:
+            return visitor.visitRuleStmt((RuleStmt) node);
+        case 203:
+            return visitor.visitSQLValueFunction((SQLValueFunction) node);
+        case 204:
+            return visitor.visitSecLabelStmt((SecLabelStmt) node);
+        case 205:
+            return visitor.visitSelectStmt((SelectStmt) node);
+        case 206:
+            return visitor.visitSetToDefault((SetToDefault) node);
+        case 207:
+            return visitor.visitSinglePartitionSpec((SinglePartitionSpec) node);
+        case 208:
+            return visitor.visitSortBy((SortBy) node);
+        case 209:
+            return visitor.visitStatsElem((StatsElem) node);
+        case 210:
+            return visitor.visitStmt((Stmt) node);
+        case 211:
+            return visitor.visitSubLink((SubLink) node);
+        case 212:
+            return visitor.visitTableLikeClause((TableLikeClause) node);
+        case 213:
+            return visitor.visitTransactionStmt((TransactionStmt) node);
+        case 214:
+            return visitor.visitTriggerTransition((TriggerTransition) node);
+        case 215:
+            return visitor.visitTruncateStmt((TruncateStmt) node);
+        case 216:
+            return visitor.visitTypeCast((TypeCast) node);
+        case 217:
+            return visitor.visitTypeName((TypeName) node);
+        case 218:
+            return visitor.visitUnlistenStmt((UnlistenStmt) node);
+        case 219:
+            return visitor.visitUpdateStmt((UpdateStmt) node);
+        case 220:
+            return visitor.visitVacuumRelation((VacuumRelation) node);
+        case 221:
+            return visitor.visitVacuumStmt((VacuumStmt) node);
+        case 222:
+            return visitor.visitValue((Value) node);
+        case 223:
+            return visitor.visitVariableSetStmt((VariableSetStmt) node);
+        case 224:
+            return visitor.visitVariableShowStmt((VariableShowStmt) node);
+        case 225:
+            return visitor.visitViewStmt((ViewStmt) node);
+        case 226:
+            return visitor.visitWaitStmt((WaitStmt) node);
+        case 227:
+            return visitor.visitWindowDef((WindowDef) node);
+        case 228:
+            return visitor.visitWithClause((WithClause) node);
+        case 229:
+            return visitor.visitXmlExpr((XmlExpr) node);
+        case 230:
+            return visitor.visitXmlSerialize((XmlSerialize) node);
+        default:
+            return visitor.visitNode(node);
+        }
+    }
+
+    /**
+     * Pushes the children of a node on the stack, the last child first so that the first child is walked first
+     *
+     * @param index
+     *            The index of the class of the node in {@link #CLASSES}
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked, the last one first
+     */
+    private static void pushChildren(int index, Node node, ArrayList<Node> stack) {
+        switch (index) {
+        case 1:
+            pushA_ArrayExpr((A_ArrayExpr) node, stack);
+            break;
+        case 2:
+            pushA_Const((A_Const) node, stack);
+            break;
+        case 3:
+            pushA_Expr((A_Expr) node, stack);
+            break;
+        case 4:
+            pushA_Indices((A_Indices) node, stack);
+            break;
+        case 5:
+            pushA_Indirection((A_Indirection) node, stack);
+            break;
+        case 7:
+            pushAbstractPublicationStmt((AbstractPublicationStmt) node, stack);
+            break;
+        case 8:
+            pushAccessPriv((AccessPriv) node, stack);
+            break;
+        case 9:
+            pushAlias((Alias) node, stack);
+            break;
+        case 10:
+            pushAlterCollationStmt((AlterCollationStmt) node, stack);
+            break;
+        case 12:
+            pushAlterDatabaseSetStmt((AlterDatabaseSetStmt) node, stack);
+            break;
+        case 13:
+            pushAlterDatabaseStmt((AlterDatabaseStmt) node, stack);
+            break;
+        case 14:
+            pushAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node, stack);
+            break;
+        case 15:
+            pushAlterDomainStmt((AlterDomainStmt) node, stack);
+            break;
+        case 16:
+            pushAlterEnumStmt((AlterEnumStmt) node, stack);
+            break;
+        case 18:
+            pushAlterExtensionContentsStmt((AlterExtensionContentsStmt) node, stack);
+            break;
+        case 19:
+            pushAlterExtensionStmt((AlterExtensionStmt) node, stack);
+            break;
+        case 20:
+            pushAlterFdwStmt((AlterFdwStmt) node, stack);
+            break;
+        case 21:
+            pushAlterForeignServerStmt((AlterForeignServerStmt) node, stack);
+            break;
+        case 22:
+            pushAlterFunctionStmt((AlterFunctionStmt) node, stack);
+            break;
+        case 23:
+            pushAlterObjectDependsStmt((AlterObjectDependsStmt) node, stack);
+            break;
+        case 24:
+            pushAlterObjectSchemaStmt((AlterObjectSchemaStmt) node, stack);
+            break;
+        case 25:
+            pushAlterOpFamilyStmt((AlterOpFamilyStmt) node, stack);
+            break;
+        case 26:
+            pushAlterOperatorStmt((AlterOperatorStmt) node, stack);
+            break;
+        case 27:
+            pushAlterOwnerStmt((AlterOwnerStmt) node, stack);
+            break;
+        case 28:
+            pushAlterPolicyStmt((AlterPolicyStmt) node, stack);
+            break;
+        case 29:
+            pushAlterPropGraphStmt((AlterPropGraphStmt) node, stack);
+            break;
+        case 30:
+            pushAlterPublicationStmt((AlterPublicationStmt) node, stack);
+            break;
+        case 31:
+            pushAlterRoleSetStmt((AlterRoleSetStmt) node, stack);
+            break;
+        case 32:
+            pushAlterRoleStmt((AlterRoleStmt) node, stack);
+            break;
+        case 33:
+            pushAlterSeqStmt((AlterSeqStmt) node, stack);
+            break;
+        case 34:
+            pushAlterStatsStmt((AlterStatsStmt) node, stack);
+            break;
+        case 35:
+            pushAlterSubscriptionStmt((AlterSubscriptionStmt) node, stack);
+            break;
+        case 36:
+            pushAlterSystemStmt((AlterSystemStmt) node, stack);
+            break;
+        case 37:
+            pushAlterTSConfigurationStmt((AlterTSConfigurationStmt) node, stack);
+            break;
+        case 38:
+            pushAlterTSDictionaryStmt((AlterTSDictionaryStmt) node, stack);
+            break;
+        case 39:
+            pushAlterTableCmd((AlterTableCmd) node, stack);
+            break;
+        case 40:
+            pushAlterTableMoveAllStmt((AlterTableMoveAllStmt) node, stack);
+            break;
+        case 41:
+            pushAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node, stack);
+            break;
+        case 42:
+            pushAlterTableStmt((AlterTableStmt) node, stack);
+            break;
+        case 43:
+            pushAlterTypeStmt((AlterTypeStmt) node, stack);
+            break;
+        case 44:
+            pushAlterUserMappingStmt((AlterUserMappingStmt) node, stack);
+            break;
+        case 45:
+            pushBoolExpr((BoolExpr) node, stack);
+            break;
+        case 46:
+            pushBooleanTest((BooleanTest) node, stack);
+            break;
+        case 47:
+            pushCTECycleClause((CTECycleClause) node, stack);
+            break;
+        case 48:
+            pushCTESearchClause((CTESearchClause) node, stack);
+            break;
+        case 49:
+            pushCallStmt((CallStmt) node, stack);
+            break;
+        case 50:
+            pushCaseExpr((CaseExpr) node, stack);
+            break;
+        case 51:
+            pushCaseWhen((CaseWhen) node, stack);
+            break;
+        case 52:
+            pushCheckPointStmt((CheckPointStmt) node, stack);
+            break;
+        case 54:
+            pushClusterStmt((ClusterStmt) node, stack);
+            break;
+        case 55:
+            pushCoalesceExpr((CoalesceExpr) node, stack);
+            break;
+        case 56:
+            pushCollateClause((CollateClause) node, stack);
+            break;
+        case 57:
+            pushColumnDef((ColumnDef) node, stack);
+            break;
+        case 58:
+            pushColumnRef((ColumnRef) node, stack);
+            break;
+        case 59:
+            pushCommentStmt((CommentStmt) node, stack);
+            break;
+        case 60:
+            pushCommonTableExpr((CommonTableExpr) node, stack);
+            break;
+        case 61:
+            pushCompositeTypeStmt((CompositeTypeStmt) node, stack);
+            break;
+        case 62:
+            pushConstraint((Constraint) node, stack);
+            break;
+        case 63:
+            pushConstraintsSetStmt((ConstraintsSetStmt) node, stack);
+            break;
+        case 64:
+            pushCopyStmt((CopyStmt) node, stack);
+            break;
+        case 65:
+            pushCreateAmStmt((CreateAmStmt) node, stack);
+            break;
+        case 66:
+            pushCreateCastStmt((CreateCastStmt) node, stack);
+            break;
+        case 67:
+            pushCreateConversionStmt((CreateConversionStmt) node, stack);
+            break;
+        case 68:
+            pushCreateDomainStmt((CreateDomainStmt) node, stack);
+            break;
+        case 69:
+            pushCreateEnumStmt((CreateEnumStmt) node, stack);
+            break;
+        case 70:
+            pushCreateEventTrigStmt((CreateEventTrigStmt) node, stack);
+            break;
+        case 71:
+            pushCreateExtensionStmt((CreateExtensionStmt) node, stack);
+            break;
+        case 72:
+            pushCreateFdwStmt((CreateFdwStmt) node, stack);
+            break;
+        case 73:
+            pushCreateForeignServerStmt((CreateForeignServerStmt) node, stack);
+            break;
+        case 74:
+            pushCreateForeignTableStmt((CreateForeignTableStmt) node, stack);
+            break;
+        case 75:
+            pushCreateFunctionStmt((CreateFunctionStmt) node, stack);
+            break;
+        case 76:
+            pushCreateOpClassItem((CreateOpClassItem) node, stack);
+            break;
+        case 77:
+            pushCreateOpClassStmt((CreateOpClassStmt) node, stack);
+            break;
+        case 78:
+            pushCreateOpFamilyStmt((CreateOpFamilyStmt) node, stack);
+            break;
+        case 79:
+            pushCreatePLangStmt((CreatePLangStmt) node, stack);
+            break;
+        case 80:
+            pushCreatePolicyStmt((CreatePolicyStmt) node, stack);
+            break;
+        case 81:
+            pushCreatePropGraphStmt((CreatePropGraphStmt) node, stack);
+            break;
+        case 82:
+            pushCreatePublicationStmt((CreatePublicationStmt) node, stack);
+            break;
+        case 83:
+            pushCreateRangeStmt((CreateRangeStmt) node, stack);
+            break;
+        case 84:
+            pushCreateRoleStmt((CreateRoleStmt) node, stack);
+            break;
+        case 85:
+            pushCreateSchemaStmt((CreateSchemaStmt) node, stack);
+            break;
+        case 86:
+            pushCreateSeqStmt((CreateSeqStmt) node, stack);
+            break;
+        case 87:
+            pushCreateStatsStmt((CreateStatsStmt) node, stack);
+            break;
+        case 88:
+            pushCreateStmt((CreateStmt) node, stack);
+            break;
+        case 89:
+            pushCreateSubscriptionStmt((CreateSubscriptionStmt) node, stack);
+            break;
+        case 90:
+            pushCreateTableAsStmt((CreateTableAsStmt) node, stack);
+            break;
+        case 91:
+            pushCreateTableSpaceStmt((CreateTableSpaceStmt) node, stack);
+            break;
+        case 92:
+            pushCreateTransformStmt((CreateTransformStmt) node, stack);
+            break;
+        case 93:
+            pushCreateTrigStmt((CreateTrigStmt) node, stack);
+            break;
+        case 94:
+            pushCreateUserMappingStmt((CreateUserMappingStmt) node, stack);
+            break;
+        case 95:
+            pushCreatedbStmt((CreatedbStmt) node, stack);
+            break;
+        case 98:
+            pushDeclareCursorStmt((DeclareCursorStmt) node, stack);
+            break;
+        case 99:
+            pushDefElem((DefElem) node, stack);
+            break;
+        case 100:
+            pushDefineStmt((DefineStmt) node, stack);
+            break;
+        case 101:
+            pushDeleteStmt((DeleteStmt) node, stack);
+            break;
+        case 103:
+            pushDoStmt((DoStmt) node, stack);
+            break;
+        case 104:
+            pushDropOwnedStmt((DropOwnedStmt) node, stack);
+            break;
+        case 105:
+            pushDropRoleStmt((DropRoleStmt) node, stack);
+            break;
+        case 106:
+            pushDropStmt((DropStmt) node, stack);
+            break;
+        case 109:
+            pushDropUserMappingStmt((DropUserMappingStmt) node, stack);
+            break;
+        case 110:
+            pushDropdbStmt((DropdbStmt) node, stack);
+            break;
+        case 112:
+            pushExecuteStmt((ExecuteStmt) node, stack);
+            break;
+        case 113:
+            pushExplainStmt((ExplainStmt) node, stack);
+            break;
+        case 115:
+            pushForPortionOfClause((ForPortionOfClause) node, stack);
+            break;
+        case 116:
+            pushFuncCall((FuncCall) node, stack);
+            break;
+        case 117:
+            pushFunctionParameter((FunctionParameter) node, stack);
+            break;
+        case 118:
+            pushGrantRoleStmt((GrantRoleStmt) node, stack);
+            break;
+        case 119:
+            pushGrantStmt((GrantStmt) node, stack);
+            break;
+        case 120:
+            pushGraphElementPattern((GraphElementPattern) node, stack);
+            break;
+        case 121:
+            pushGraphPattern((GraphPattern) node, stack);
+            break;
+        case 122:
+            pushGroupingFunc((GroupingFunc) node, stack);
+            break;
+        case 123:
+            pushGroupingSet((GroupingSet) node, stack);
+            break;
+        case 124:
+            pushImportForeignSchemaStmt((ImportForeignSchemaStmt) node, stack);
+            break;
+        case 125:
+            pushIndexElem((IndexElem) node, stack);
+            break;
+        case 126:
+            pushIndexStmt((IndexStmt) node, stack);
+            break;
+        case 127:
+            pushInferClause((InferClause) node, stack);
+            break;
+        case 128:
+            pushInsertStmt((InsertStmt) node, stack);
+            break;
+        case 129:
+            pushIntoClause((IntoClause) node, stack);
+            break;
+        case 130:
+            pushJoinExpr((JoinExpr) node, stack);
+            break;
+        case 131:
+            pushJsonAggConstructor((JsonAggConstructor) node, stack);
+            break;
+        case 132:
+            pushJsonArgument((JsonArgument) node, stack);
+            break;
+        case 133:
+            pushJsonArrayAgg((JsonArrayAgg) node, stack);
+            break;
+        case 134:
+            pushJsonArrayConstructor((JsonArrayConstructor) node, stack);
+            break;
+        case 135:
+            pushJsonArrayQueryConstructor((JsonArrayQueryConstructor) node, stack);
+            break;
+        case 136:
+            pushJsonBehavior((JsonBehavior) node, stack);
+            break;
+        case 138:
+            pushJsonFuncExpr((JsonFuncExpr) node, stack);
+            break;
+        case 139:
+            pushJsonIsPredicate((JsonIsPredicate) node, stack);
+            break;
+        case 140:
+            pushJsonKeyValue((JsonKeyValue) node, stack);
+            break;
+        case 141:
+            pushJsonObjectAgg((JsonObjectAgg) node, stack);
+            break;
+        case 142:
+            pushJsonObjectConstructor((JsonObjectConstructor) node, stack);
+            break;
+        case 143:
+            pushJsonOutput((JsonOutput) node, stack);
+            break;
+        case 144:
+            pushJsonParseExpr((JsonParseExpr) node, stack);
+            break;
+        case 145:
+            pushJsonReturning((JsonReturning) node, stack);
+            break;
+        case 146:
+            pushJsonScalarExpr((JsonScalarExpr) node, stack);
+            break;
+        case 147:
+            pushJsonSerializeExpr((JsonSerializeExpr) node, stack);
+            break;
+        case 148:
+            pushJsonTable((JsonTable) node, stack);
+            break;
+        case 149:
+            pushJsonTableColumn((JsonTableColumn) node, stack);
+            break;
+        case 150:
+            pushJsonTablePathSpec((JsonTablePathSpec) node, stack);
+            break;
+        case 151:
+            pushJsonTablePlanSpec((JsonTablePlanSpec) node, stack);
+            break;
+        case 152:
+            pushJsonValueExpr((JsonValueExpr) node, stack);
+            break;
+        case 155:
+            pushLockStmt((LockStmt) node, stack);
+            break;
+        case 156:
+            pushLockingClause((LockingClause) node, stack);
+            break;
+        case 157:
+            pushMergeStmt((MergeStmt) node, stack);
+            break;
+        case 158:
+            pushMergeSupportFunc((MergeSupportFunc) node, stack);
+            break;
+        case 159:
+            pushMergeWhenClause((MergeWhenClause) node, stack);
+            break;
+        case 160:
+            pushMinMaxExpr((MinMaxExpr) node, stack);
+            break;
+        case 161:
+            pushMultiAssignRef((MultiAssignRef) node, stack);
+            break;
+        case 162:
+            pushNamedArgExpr((NamedArgExpr) node, stack);
+            break;
+        case 164:
+            pushNullTest((NullTest) node, stack);
+            break;
+        case 165:
+            pushObjectWithArgs((ObjectWithArgs) node, stack);
+            break;
+        case 166:
+            pushOnConflictClause((OnConflictClause) node, stack);
+            break;
+        case 167:
+            pushPLAssignStmt((PLAssignStmt) node, stack);
+            break;
+        case 169:
+            pushPartitionBoundSpec((PartitionBoundSpec) node, stack);
+            break;
+        case 170:
+            pushPartitionCmd((PartitionCmd) node, stack);
+            break;
+        case 171:
+            pushPartitionElem((PartitionElem) node, stack);
+            break;
+        case 172:
+            pushPartitionRangeDatum((PartitionRangeDatum) node, stack);
+            break;
+        case 173:
+            pushPartitionSpec((PartitionSpec) node, stack);
+            break;
+        case 174:
+            pushPrepareStmt((PrepareStmt) node, stack);
+            break;
+        case 175:
+            pushPropGraphEdge((PropGraphEdge) node, stack);
+            break;
+        case 176:
+            pushPropGraphLabelAndProperties((PropGraphLabelAndProperties) node, stack);
+            break;
+        case 177:
+            pushPropGraphProperties((PropGraphProperties) node, stack);
+            break;
+        case 178:
+            pushPropGraphVertex((PropGraphVertex) node, stack);
+            break;
+        case 179:
+            pushPublicationAllObjSpec((PublicationAllObjSpec) node, stack);
+            break;
+        case 180:
+            pushPublicationObjSpec((PublicationObjSpec) node, stack);
+            break;
+        case 181:
+            pushPublicationTable((PublicationTable) node, stack);
+            break;
+        case 182:
+            pushRangeFunction((RangeFunction) node, stack);
+            break;
+        case 183:
+            pushRangeGraphTable((RangeGraphTable) node, stack);
+            break;
+        case 184:
+            pushRangeSubselect((RangeSubselect) node, stack);
+            break;
+        case 185:
+            pushRangeTableFunc((RangeTableFunc) node, stack);
+            break;
+        case 186:
+            pushRangeTableFuncCol((RangeTableFuncCol) node, stack);
+            break;
+        case 187:
+            pushRangeTableSample((RangeTableSample) node, stack);
+            break;
+        case 188:
+            pushRangeVar((RangeVar) node, stack);
+            break;
+        case 189:
+            pushRawStmt((RawStmt) node, stack);
+            break;
+        case 190:
+            pushReassignOwnedStmt((ReassignOwnedStmt) node, stack);
+            break;
+        case 191:
+            pushRefreshMatViewStmt((RefreshMatViewStmt) node, stack);
+            break;
+        case 192:
+            pushReindexStmt((ReindexStmt) node, stack);
+            break;
+        case 193:
+            pushRenameStmt((RenameStmt) node, stack);
+            break;
+        case 194:
+            pushRepackStmt((RepackStmt) node, stack);
+            break;
+        case 196:
+            pushResTarget((ResTarget) node, stack);
+            break;
+        case 197:
+            pushReturnStmt((ReturnStmt) node, stack);
+            break;
+        case 198:
+            pushReturningClause((ReturningClause) node, stack);
+            break;
+        case 201:
+            pushRowExpr((RowExpr) node, stack);
+            break;
+        case 202:
+            pushRuleStmt((RuleStmt) node, stack);
+            break;
+        case 204:
+            pushSecLabelStmt((SecLabelStmt) node, stack);
+            break;
+        case 205:
+            pushSelectStmt((SelectStmt) node, stack);
+            break;
+        case 207:
+            pushSinglePartitionSpec((SinglePartitionSpec) node, stack);
+            break;
+        case 208:
+            pushSortBy((SortBy) node, stack);
+            break;
+        case 209:
+            pushStatsElem((StatsElem) node, stack);
+            break;
+        case 211:
+            pushSubLink((SubLink) node, stack);
+            break;
+        case 212:
+            pushTableLikeClause((TableLikeClause) node, stack);
+            break;
+        case 213:
+            pushTransactionStmt((TransactionStmt) node, stack);
+            break;
+        case 215:
+            pushTruncateStmt((TruncateStmt) node, stack);
+            break;
+        case 216:
+            pushTypeCast((TypeCast) node, stack);
+            break;
+        case 217:
+            pushTypeName((TypeName) node, stack);
+            break;
+        case 219:
+            pushUpdateStmt((UpdateStmt) node, stack);
+            break;
+        case 220:
+            pushVacuumRelation((VacuumRelation) node, stack);
+            break;
+        case 221:
+            pushVacuumStmt((VacuumStmt) node, stack);
+            break;
+        case 223:
+            pushVariableSetStmt((VariableSetStmt) node, stack);
+            break;
+        case 225:
+            pushViewStmt((ViewStmt) node, stack);
+            break;
+        case 226:
+            pushWaitStmt((WaitStmt) node, stack);
+            break;
+        case 227:
+            pushWindowDef((WindowDef) node, stack);
+            break;
+        case 228:
+            pushWithClause((WithClause) node, stack);
+            break;
+        case 229:
+            pushXmlExpr((XmlExpr) node, stack);
+            break;
+        case 230:
+            pushXmlSerialize((XmlSerialize) node, stack);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Pushes the children of a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushA_ArrayExpr(A_ArrayExpr node, ArrayList<Node> stack) {
+        push(node.elements, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link A_Const}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushA_Const(A_Const node, ArrayList<Node> stack) {
+        push(node.val, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link A_Expr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushA_Expr(A_Expr node, ArrayList<Node> stack) {
+        push(node.rexpr, stack);
+        push(node.lexpr, stack);
+        push(node.name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link A_Indices}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushA_Indices(A_Indices node, ArrayList<Node> stack) {
+        push(node.uidx, stack);
+        push(node.lidx, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link A_Indirection}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushA_Indirection(A_Indirection node, ArrayList<Node> stack) {
+        push(node.indirection, stack);
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AbstractPublicationStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAbstractPublicationStmt(AbstractPublicationStmt node, ArrayList<Node> stack) {
+        push(node.pubobjects, stack);
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AccessPriv}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAccessPriv(AccessPriv node, ArrayList<Node> stack) {
+        push(node.cols, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link Alias}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlias(Alias node, ArrayList<Node> stack) {
+        push(node.colnames, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterCollationStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterCollationStmt(AlterCollationStmt node, ArrayList<Node> stack) {
+        push(node.collname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterDatabaseSetStmt(AlterDatabaseSetStmt node, ArrayList<Node> stack) {
+        push(node.setstmt, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterDatabaseStmt(AlterDatabaseStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node, ArrayList<Node> stack) {
+        push(node.action, stack);
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterDomainStmt(AlterDomainStmt node, ArrayList<Node> stack) {
+        push(node.def, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterEnumStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterEnumStmt(AlterEnumStmt node, ArrayList<Node> stack) {
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterExtensionContentsStmt(AlterExtensionContentsStmt node, ArrayList<Node> stack) {
+        push(node.object, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterExtensionStmt(AlterExtensionStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterFdwStmt(AlterFdwStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.func_options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterForeignServerStmt(AlterForeignServerStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterFunctionStmt(AlterFunctionStmt node, ArrayList<Node> stack) {
+        push(node.actions, stack);
+        push(node.func, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterObjectDependsStmt(AlterObjectDependsStmt node, ArrayList<Node> stack) {
+        push(node.extname, stack);
+        push(node.object, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterObjectSchemaStmt(AlterObjectSchemaStmt node, ArrayList<Node> stack) {
+        push(node.object, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterOpFamilyStmt(AlterOpFamilyStmt node, ArrayList<Node> stack) {
+        push(node.items, stack);
+        push(node.opfamilyname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterOperatorStmt(AlterOperatorStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.opername, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterOwnerStmt(AlterOwnerStmt node, ArrayList<Node> stack) {
+        push(node.newowner, stack);
+        push(node.object, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterPolicyStmt(AlterPolicyStmt node, ArrayList<Node> stack) {
+        push(node.with_check, stack);
+        push(node.qual, stack);
+        push(node.roles, stack);
+        push(node.table, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterPropGraphStmt(AlterPropGraphStmt node, ArrayList<Node> stack) {
+        push(node.drop_properties, stack);
+        push(node.add_properties, stack);
+        push(node.add_labels, stack);
+        push(node.drop_edge_tables, stack);
+        push(node.drop_vertex_tables, stack);
+        push(node.add_edge_tables, stack);
+        push(node.add_vertex_tables, stack);
+        push(node.pgname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterPublicationStmt(AlterPublicationStmt node, ArrayList<Node> stack) {
+        push(node.tables, stack);
+        push(node.pubobjects, stack);
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterRoleSetStmt(AlterRoleSetStmt node, ArrayList<Node> stack) {
+        push(node.setstmt, stack);
+        push(node.role, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterRoleStmt(AlterRoleStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.role, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterSeqStmt(AlterSeqStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.sequence, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterStatsStmt(AlterStatsStmt node, ArrayList<Node> stack) {
+        push(node.stxstattarget, stack);
+        push(node.defnames, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterSubscriptionStmt(AlterSubscriptionStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.publication, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterSystemStmt(AlterSystemStmt node, ArrayList<Node> stack) {
+        push(node.setstmt, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTSConfigurationStmt(AlterTSConfigurationStmt node, ArrayList<Node> stack) {
+        push(node.dicts, stack);
+        push(node.tokentype, stack);
+        push(node.cfgname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTSDictionaryStmt(AlterTSDictionaryStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.dictname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTableCmd(AlterTableCmd node, ArrayList<Node> stack) {
+        push(node.def, stack);
+        push(node.newowner, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTableMoveAllStmt(AlterTableMoveAllStmt node, ArrayList<Node> stack) {
+        push(node.roles, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTableStmt(AlterTableStmt node, ArrayList<Node> stack) {
+        push(node.cmds, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterTypeStmt(AlterTypeStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushAlterUserMappingStmt(AlterUserMappingStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.user, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link BoolExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushBoolExpr(BoolExpr node, ArrayList<Node> stack) {
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link BooleanTest}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushBooleanTest(BooleanTest node, ArrayList<Node> stack) {
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCTECycleClause(CTECycleClause node, ArrayList<Node> stack) {
+        push(node.cycle_mark_default, stack);
+        push(node.cycle_mark_value, stack);
+        push(node.cycle_col_list, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCTESearchClause(CTESearchClause node, ArrayList<Node> stack) {
+        push(node.search_col_list, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CallStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCallStmt(CallStmt node, ArrayList<Node> stack) {
+        push(node.funccall, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CaseExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCaseExpr(CaseExpr node, ArrayList<Node> stack) {
+        push(node.defresult, stack);
+        push(node.args, stack);
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CaseWhen}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCaseWhen(CaseWhen node, ArrayList<Node> stack) {
+        push(node.result, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCheckPointStmt(CheckPointStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushClusterStmt(ClusterStmt node, ArrayList<Node> stack) {
+        push(node.params, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCoalesceExpr(CoalesceExpr node, ArrayList<Node> stack) {
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CollateClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCollateClause(CollateClause node, ArrayList<Node> stack) {
+        push(node.collname, stack);
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ColumnDef}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushColumnDef(ColumnDef node, ArrayList<Node> stack) {
+        push(node.fdwoptions, stack);
+        push(node.constraints, stack);
+        push(node.collClause, stack);
+        push(node.cooked_default, stack);
+        push(node.raw_default, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ColumnRef}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushColumnRef(ColumnRef node, ArrayList<Node> stack) {
+        push(node.fields, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CommentStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCommentStmt(CommentStmt node, ArrayList<Node> stack) {
+        push(node.object, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCommonTableExpr(CommonTableExpr node, ArrayList<Node> stack) {
+        push(node.cycle_clause, stack);
+        push(node.search_clause, stack);
+        push(node.ctequery, stack);
+        push(node.aliascolnames, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCompositeTypeStmt(CompositeTypeStmt node, ArrayList<Node> stack) {
+        push(node.coldeflist, stack);
+        push(node.typevar, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link Constraint}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushConstraint(Constraint node, ArrayList<Node> stack) {
+        push(node.fk_del_set_cols, stack);
+        push(node.pk_attrs, stack);
+        push(node.fk_attrs, stack);
+        push(node.pktable, stack);
+        push(node.where_clause, stack);
+        push(node.options, stack);
+        push(node.exclusions, stack);
+        push(node.including, stack);
+        push(node.keys, stack);
+        push(node.raw_expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushConstraintsSetStmt(ConstraintsSetStmt node, ArrayList<Node> stack) {
+        push(node.constraints, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CopyStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCopyStmt(CopyStmt node, ArrayList<Node> stack) {
+        push(node.whereClause, stack);
+        push(node.options, stack);
+        push(node.attlist, stack);
+        push(node.query, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateAmStmt(CreateAmStmt node, ArrayList<Node> stack) {
+        push(node.handler_name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateCastStmt(CreateCastStmt node, ArrayList<Node> stack) {
+        push(node.func, stack);
+        push(node.targettype, stack);
+        push(node.sourcetype, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateConversionStmt(CreateConversionStmt node, ArrayList<Node> stack) {
+        push(node.func_name, stack);
+        push(node.conversion_name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateDomainStmt(CreateDomainStmt node, ArrayList<Node> stack) {
+        push(node.constraints, stack);
+        push(node.collClause, stack);
+        push(node.typeName, stack);
+        push(node.domainname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateEnumStmt(CreateEnumStmt node, ArrayList<Node> stack) {
+        push(node.vals, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateEventTrigStmt(CreateEventTrigStmt node, ArrayList<Node> stack) {
+        push(node.funcname, stack);
+        push(node.whenclause, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateExtensionStmt(CreateExtensionStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateFdwStmt(CreateFdwStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.func_options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateForeignServerStmt(CreateForeignServerStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateForeignTableStmt(CreateForeignTableStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.base, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateFunctionStmt(CreateFunctionStmt node, ArrayList<Node> stack) {
+        push(node.sql_body, stack);
+        push(node.options, stack);
+        push(node.returnType, stack);
+        push(node.parameters, stack);
+        push(node.funcname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateOpClassItem(CreateOpClassItem node, ArrayList<Node> stack) {
+        push(node.storedtype, stack);
+        push(node.class_args, stack);
+        push(node.order_family, stack);
+        push(node.name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateOpClassStmt(CreateOpClassStmt node, ArrayList<Node> stack) {
+        push(node.items, stack);
+        push(node.datatype, stack);
+        push(node.opfamilyname, stack);
+        push(node.opclassname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateOpFamilyStmt(CreateOpFamilyStmt node, ArrayList<Node> stack) {
+        push(node.opfamilyname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreatePLangStmt(CreatePLangStmt node, ArrayList<Node> stack) {
+        push(node.plvalidator, stack);
+        push(node.plinline, stack);
+        push(node.plhandler, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreatePolicyStmt(CreatePolicyStmt node, ArrayList<Node> stack) {
+        push(node.with_check, stack);
+        push(node.qual, stack);
+        push(node.roles, stack);
+        push(node.table, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreatePropGraphStmt(CreatePropGraphStmt node, ArrayList<Node> stack) {
+        push(node.edge_tables, stack);
+        push(node.vertex_tables, stack);
+        push(node.pgname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreatePublicationStmt(CreatePublicationStmt node, ArrayList<Node> stack) {
+        push(node.tables, stack);
+        push(node.pubobjects, stack);
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateRangeStmt(CreateRangeStmt node, ArrayList<Node> stack) {
+        push(node.params, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateRoleStmt(CreateRoleStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.role, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateSchemaStmt(CreateSchemaStmt node, ArrayList<Node> stack) {
+        push(node.schemaElts, stack);
+        push(node.authrole, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateSeqStmt(CreateSeqStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.sequence, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateStatsStmt(CreateStatsStmt node, ArrayList<Node> stack) {
+        push(node.relations, stack);
+        push(node.exprs, stack);
+        push(node.stat_types, stack);
+        push(node.defnames, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateStmt(CreateStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.constraints, stack);
+        push(node.ofTypename, stack);
+        push(node.partspec, stack);
+        push(node.partbound, stack);
+        push(node.inhRelations, stack);
+        push(node.tableElts, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateSubscriptionStmt(CreateSubscriptionStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.publication, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateTableAsStmt(CreateTableAsStmt node, ArrayList<Node> stack) {
+        push(node.into, stack);
+        push(node.query, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateTableSpaceStmt(CreateTableSpaceStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.owner, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateTransformStmt(CreateTransformStmt node, ArrayList<Node> stack) {
+        push(node.tosql, stack);
+        push(node.fromsql, stack);
+        push(node.type_name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateTrigStmt(CreateTrigStmt node, ArrayList<Node> stack) {
+        push(node.constrrel, stack);
+        push(node.transitionRels, stack);
+        push(node.whenClause, stack);
+        push(node.columns, stack);
+        push(node.args, stack);
+        push(node.funcname, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreateUserMappingStmt(CreateUserMappingStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.user, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushCreatedbStmt(CreatedbStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDeclareCursorStmt(DeclareCursorStmt node, ArrayList<Node> stack) {
+        push(node.query, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DefElem}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDefElem(DefElem node, ArrayList<Node> stack) {
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DefineStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDefineStmt(DefineStmt node, ArrayList<Node> stack) {
+        push(node.definition, stack);
+        push(node.args, stack);
+        push(node.defnames, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDeleteStmt(DeleteStmt node, ArrayList<Node> stack) {
+        push(node.forPortionOf, stack);
+        push(node.withClause, stack);
+        push(node.returningClause, stack);
+        push(node.returningList, stack);
+        push(node.whereClause, stack);
+        push(node.usingClause, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DoStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDoStmt(DoStmt node, ArrayList<Node> stack) {
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDropOwnedStmt(DropOwnedStmt node, ArrayList<Node> stack) {
+        push(node.roles, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDropRoleStmt(DropRoleStmt node, ArrayList<Node> stack) {
+        push(node.roles, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DropStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDropStmt(DropStmt node, ArrayList<Node> stack) {
+        push(node.objects, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDropUserMappingStmt(DropUserMappingStmt node, ArrayList<Node> stack) {
+        push(node.user, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushDropdbStmt(DropdbStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushExecuteStmt(ExecuteStmt node, ArrayList<Node> stack) {
+        push(node.params, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushExplainStmt(ExplainStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.query, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushForPortionOfClause(ForPortionOfClause node, ArrayList<Node> stack) {
+        push(node.target_end, stack);
+        push(node.target_start, stack);
+        push(node.target, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link FuncCall}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushFuncCall(FuncCall node, ArrayList<Node> stack) {
+        push(node.over, stack);
+        push(node.agg_filter, stack);
+        push(node.agg_order, stack);
+        push(node.args, stack);
+        push(node.funcname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushFunctionParameter(FunctionParameter node, ArrayList<Node> stack) {
+        push(node.defexpr, stack);
+        push(node.argType, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushGrantRoleStmt(GrantRoleStmt node, ArrayList<Node> stack) {
+        push(node.grantor, stack);
+        push(node.opt, stack);
+        push(node.grantee_roles, stack);
+        push(node.granted_roles, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link GrantStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushGrantStmt(GrantStmt node, ArrayList<Node> stack) {
+        push(node.grantor, stack);
+        push(node.grantees, stack);
+        push(node.privileges, stack);
+        push(node.objects, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushGraphElementPattern(GraphElementPattern node, ArrayList<Node> stack) {
+        push(node.quantifier, stack);
+        push(node.whereClause, stack);
+        push(node.subexpr, stack);
+        push(node.labelexpr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link GraphPattern}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushGraphPattern(GraphPattern node, ArrayList<Node> stack) {
+        push(node.whereClause, stack);
+        push(node.path_pattern_list, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushGroupingFunc(GroupingFunc node, ArrayList<Node> stack) {
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link GroupingSet}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushGroupingSet(GroupingSet node, ArrayList<Node> stack) {
+        push(node.content, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushImportForeignSchemaStmt(ImportForeignSchemaStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.table_list, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link IndexElem}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushIndexElem(IndexElem node, ArrayList<Node> stack) {
+        push(node.opclassopts, stack);
+        push(node.opclass, stack);
+        push(node.collation, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link IndexStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushIndexStmt(IndexStmt node, ArrayList<Node> stack) {
+        push(node.excludeOpNames, stack);
+        push(node.whereClause, stack);
+        push(node.options, stack);
+        push(node.indexIncludingParams, stack);
+        push(node.indexParams, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link InferClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushInferClause(InferClause node, ArrayList<Node> stack) {
+        push(node.whereClause, stack);
+        push(node.indexElems, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link InsertStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushInsertStmt(InsertStmt node, ArrayList<Node> stack) {
+        push(node.withClause, stack);
+        push(node.returningClause, stack);
+        push(node.returningList, stack);
+        push(node.onConflictClause, stack);
+        push(node.selectStmt, stack);
+        push(node.cols, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link IntoClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushIntoClause(IntoClause node, ArrayList<Node> stack) {
+        push(node.viewQuery, stack);
+        push(node.options, stack);
+        push(node.colNames, stack);
+        push(node.rel, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JoinExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJoinExpr(JoinExpr node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+        push(node.quals, stack);
+        push(node.join_using_alias, stack);
+        push(node.usingClause, stack);
+        push(node.rarg, stack);
+        push(node.larg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonAggConstructor(JsonAggConstructor node, ArrayList<Node> stack) {
+        push(node.over, stack);
+        push(node.agg_order, stack);
+        push(node.agg_filter, stack);
+        push(node.output, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonArgument}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonArgument(JsonArgument node, ArrayList<Node> stack) {
+        push(node.val, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonArrayAgg(JsonArrayAgg node, ArrayList<Node> stack) {
+        push(node.arg, stack);
+        push(node.constructor, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonArrayConstructor(JsonArrayConstructor node, ArrayList<Node> stack) {
+        push(node.output, stack);
+        push(node.exprs, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonArrayQueryConstructor(JsonArrayQueryConstructor node, ArrayList<Node> stack) {
+        push(node.format, stack);
+        push(node.output, stack);
+        push(node.query, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonBehavior(JsonBehavior node, ArrayList<Node> stack) {
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonFuncExpr(JsonFuncExpr node, ArrayList<Node> stack) {
+        push(node.on_error, stack);
+        push(node.on_empty, stack);
+        push(node.output, stack);
+        push(node.passing, stack);
+        push(node.pathspec, stack);
+        push(node.context_item, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonIsPredicate(JsonIsPredicate node, ArrayList<Node> stack) {
+        push(node.format, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonKeyValue(JsonKeyValue node, ArrayList<Node> stack) {
+        push(node.value, stack);
+        push(node.key, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonObjectAgg(JsonObjectAgg node, ArrayList<Node> stack) {
+        push(node.arg, stack);
+        push(node.constructor, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonObjectConstructor(JsonObjectConstructor node, ArrayList<Node> stack) {
+        push(node.output, stack);
+        push(node.exprs, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonOutput}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonOutput(JsonOutput node, ArrayList<Node> stack) {
+        push(node.returning, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonParseExpr(JsonParseExpr node, ArrayList<Node> stack) {
+        push(node.output, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonReturning}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonReturning(JsonReturning node, ArrayList<Node> stack) {
+        push(node.format, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonScalarExpr(JsonScalarExpr node, ArrayList<Node> stack) {
+        push(node.output, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonSerializeExpr(JsonSerializeExpr node, ArrayList<Node> stack) {
+        push(node.output, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonTable}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonTable(JsonTable node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+        push(node.on_error, stack);
+        push(node.planspec, stack);
+        push(node.columns, stack);
+        push(node.passing, stack);
+        push(node.pathspec, stack);
+        push(node.context_item, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonTableColumn(JsonTableColumn node, ArrayList<Node> stack) {
+        push(node.on_error, stack);
+        push(node.on_empty, stack);
+        push(node.columns, stack);
+        push(node.format, stack);
+        push(node.pathspec, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonTablePathSpec(JsonTablePathSpec node, ArrayList<Node> stack) {
+        push(node.string, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonTablePlanSpec(JsonTablePlanSpec node, ArrayList<Node> stack) {
+        push(node.plan2, stack);
+        push(node.plan1, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushJsonValueExpr(JsonValueExpr node, ArrayList<Node> stack) {
+        push(node.format, stack);
+        push(node.formatted_expr, stack);
+        push(node.raw_expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link LockStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushLockStmt(LockStmt node, ArrayList<Node> stack) {
+        push(node.relations, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link LockingClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushLockingClause(LockingClause node, ArrayList<Node> stack) {
+        push(node.lockedRels, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link MergeStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushMergeStmt(MergeStmt node, ArrayList<Node> stack) {
+        push(node.withClause, stack);
+        push(node.returningClause, stack);
+        push(node.returningList, stack);
+        push(node.mergeWhenClauses, stack);
+        push(node.joinCondition, stack);
+        push(node.sourceRelation, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushMergeSupportFunc(MergeSupportFunc node, ArrayList<Node> stack) {
+        push(node.xpr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushMergeWhenClause(MergeWhenClause node, ArrayList<Node> stack) {
+        push(node.values, stack);
+        push(node.targetList, stack);
+        push(node.condition, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushMinMaxExpr(MinMaxExpr node, ArrayList<Node> stack) {
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushMultiAssignRef(MultiAssignRef node, ArrayList<Node> stack) {
+        push(node.source, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushNamedArgExpr(NamedArgExpr node, ArrayList<Node> stack) {
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link NullTest}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushNullTest(NullTest node, ArrayList<Node> stack) {
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushObjectWithArgs(ObjectWithArgs node, ArrayList<Node> stack) {
+        push(node.objfuncargs, stack);
+        push(node.objargs, stack);
+        push(node.objname, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushOnConflictClause(OnConflictClause node, ArrayList<Node> stack) {
+        push(node.whereClause, stack);
+        push(node.targetList, stack);
+        push(node.infer, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPLAssignStmt(PLAssignStmt node, ArrayList<Node> stack) {
+        push(node.val, stack);
+        push(node.indirection, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPartitionBoundSpec(PartitionBoundSpec node, ArrayList<Node> stack) {
+        push(node.upperdatums, stack);
+        push(node.lowerdatums, stack);
+        push(node.listdatums, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPartitionCmd(PartitionCmd node, ArrayList<Node> stack) {
+        push(node.partlist, stack);
+        push(node.bound, stack);
+        push(node.name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PartitionElem}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPartitionElem(PartitionElem node, ArrayList<Node> stack) {
+        push(node.opclass, stack);
+        push(node.collation, stack);
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPartitionRangeDatum(PartitionRangeDatum node, ArrayList<Node> stack) {
+        push(node.value, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPartitionSpec(PartitionSpec node, ArrayList<Node> stack) {
+        push(node.partParams, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPrepareStmt(PrepareStmt node, ArrayList<Node> stack) {
+        push(node.query, stack);
+        push(node.argtypes, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPropGraphEdge(PropGraphEdge node, ArrayList<Node> stack) {
+        push(node.labels, stack);
+        push(node.edestvertexcols, stack);
+        push(node.edestkey, stack);
+        push(node.esrcvertexcols, stack);
+        push(node.esrckey, stack);
+        push(node.ekey, stack);
+        push(node.etable, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPropGraphLabelAndProperties(PropGraphLabelAndProperties node, ArrayList<Node> stack) {
+        push(node.properties, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPropGraphProperties(PropGraphProperties node, ArrayList<Node> stack) {
+        push(node.properties, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPropGraphVertex(PropGraphVertex node, ArrayList<Node> stack) {
+        push(node.labels, stack);
+        push(node.vkey, stack);
+        push(node.vtable, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPublicationAllObjSpec(PublicationAllObjSpec node, ArrayList<Node> stack) {
+        push(node.except_tables, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPublicationObjSpec(PublicationObjSpec node, ArrayList<Node> stack) {
+        push(node.pubtable, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link PublicationTable}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushPublicationTable(PublicationTable node, ArrayList<Node> stack) {
+        push(node.columns, stack);
+        push(node.whereClause, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeFunction}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeFunction(RangeFunction node, ArrayList<Node> stack) {
+        push(node.coldeflist, stack);
+        push(node.alias, stack);
+        push(node.functions, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeGraphTable(RangeGraphTable node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+        push(node.columns, stack);
+        push(node.graph_pattern, stack);
+        push(node.graph_name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeSubselect(RangeSubselect node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+        push(node.subquery, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeTableFunc(RangeTableFunc node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+        push(node.columns, stack);
+        push(node.namespaces, stack);
+        push(node.rowexpr, stack);
+        push(node.docexpr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeTableFuncCol(RangeTableFuncCol node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+        push(node.coldefexpr, stack);
+        push(node.colexpr, stack);
+        push(node.typeName, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeTableSample(RangeTableSample node, ArrayList<Node> stack) {
+        push(node.repeatable, stack);
+        push(node.args, stack);
+        push(node.method, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RangeVar}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRangeVar(RangeVar node, ArrayList<Node> stack) {
+        push(node.alias, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RawStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRawStmt(RawStmt node, ArrayList<Node> stack) {
+        push(node.stmt, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushReassignOwnedStmt(ReassignOwnedStmt node, ArrayList<Node> stack) {
+        push(node.newrole, stack);
+        push(node.roles, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRefreshMatViewStmt(RefreshMatViewStmt node, ArrayList<Node> stack) {
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushReindexStmt(ReindexStmt node, ArrayList<Node> stack) {
+        push(node.params, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RenameStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRenameStmt(RenameStmt node, ArrayList<Node> stack) {
+        push(node.object, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RepackStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRepackStmt(RepackStmt node, ArrayList<Node> stack) {
+        push(node.params, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ResTarget}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushResTarget(ResTarget node, ArrayList<Node> stack) {
+        push(node.val, stack);
+        push(node.indirection, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushReturnStmt(ReturnStmt node, ArrayList<Node> stack) {
+        push(node.returnval, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ReturningClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushReturningClause(ReturningClause node, ArrayList<Node> stack) {
+        push(node.exprs, stack);
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RowExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRowExpr(RowExpr node, ArrayList<Node> stack) {
+        push(node.colnames, stack);
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link RuleStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushRuleStmt(RuleStmt node, ArrayList<Node> stack) {
+        push(node.actions, stack);
+        push(node.whereClause, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushSecLabelStmt(SecLabelStmt node, ArrayList<Node> stack) {
+        push(node.object, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link SelectStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushSelectStmt(SelectStmt node, ArrayList<Node> stack) {
+        push(node.rarg, stack);
+        push(node.larg, stack);
+        push(node.withClause, stack);
+        push(node.lockingClause, stack);
+        push(node.limitCount, stack);
+        push(node.limitOffset, stack);
+        push(node.sortClause, stack);
+        push(node.valuesLists, stack);
+        push(node.windowClause, stack);
+        push(node.havingClause, stack);
+        push(node.groupClause, stack);
+        push(node.whereClause, stack);
+        push(node.fromClause, stack);
+        push(node.targetList, stack);
+        push(node.intoClause, stack);
+        push(node.distinctClause, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushSinglePartitionSpec(SinglePartitionSpec node, ArrayList<Node> stack) {
+        push(node.bound, stack);
+        push(node.name, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link SortBy}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushSortBy(SortBy node, ArrayList<Node> stack) {
+        push(node.useOp, stack);
+        push(node.node, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link StatsElem}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushStatsElem(StatsElem node, ArrayList<Node> stack) {
+        push(node.expr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link SubLink}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushSubLink(SubLink node, ArrayList<Node> stack) {
+        push(node.subselect, stack);
+        push(node.operName, stack);
+        push(node.testexpr, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushTableLikeClause(TableLikeClause node, ArrayList<Node> stack) {
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushTransactionStmt(TransactionStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushTruncateStmt(TruncateStmt node, ArrayList<Node> stack) {
+        push(node.relations, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link TypeCast}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushTypeCast(TypeCast node, ArrayList<Node> stack) {
+        push(node.typeName, stack);
+        push(node.arg, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link TypeName}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushTypeName(TypeName node, ArrayList<Node> stack) {
+        push(node.arrayBounds, stack);
+        push(node.typmods, stack);
+        push(node.names, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushUpdateStmt(UpdateStmt node, ArrayList<Node> stack) {
+        push(node.forPortionOf, stack);
+        push(node.withClause, stack);
+        push(node.returningClause, stack);
+        push(node.returningList, stack);
+        push(node.fromClause, stack);
+        push(node.whereClause, stack);
+        push(node.targetList, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushVacuumRelation(VacuumRelation node, ArrayList<Node> stack) {
+        push(node.va_cols, stack);
+        push(node.relation, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushVacuumStmt(VacuumStmt node, ArrayList<Node> stack) {
+        push(node.rels, stack);
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushVariableSetStmt(VariableSetStmt node, ArrayList<Node> stack) {
+        push(node.args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link ViewStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushViewStmt(ViewStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+        push(node.query, stack);
+        push(node.aliases, stack);
+        push(node.view, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link WaitStmt}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushWaitStmt(WaitStmt node, ArrayList<Node> stack) {
+        push(node.options, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link WindowDef}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushWindowDef(WindowDef node, ArrayList<Node> stack) {
+        push(node.endOffset, stack);
+        push(node.startOffset, stack);
+        push(node.orderClause, stack);
+        push(node.partitionClause, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link WithClause}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushWithClause(WithClause node, ArrayList<Node> stack) {
+        push(node.ctes, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link XmlExpr}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushXmlExpr(XmlExpr node, ArrayList<Node> stack) {
+        push(node.args, stack);
+        push(node.arg_names, stack);
+        push(node.named_args, stack);
+    }
+
+    /**
+     * Pushes the children of a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node of which the children are to be walked
+     * @param stack
+     *            The nodes that are still to be walked
+     */
+    private static void pushXmlSerialize(XmlSerialize node, ArrayList<Node> stack) {
+        push(node.typeName, stack);
+        push(node.expr, stack);
+    }
+}
@@ -0,0 +1,849 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.splendiddata.sqlparser.structure.NodeXmlLayout;
+
+/**
+ * Writes parse trees as xml, in the same layout as the JAXB marshaller that {@link ParserUtil#stmtToXml(Object)} used
+ * to use: the root element in the "parser" namespace, the nodeType, class and location attributes, the element names
+ * and the XmlElementWrapper names from the annotations in the structure classes.
+ * <p>
+ * Unlike JAXB, no JAXBContext over the whole structure package is needed and no reflection is used. The layout of
+ * every structure class is generated from its annotations into {@link NodeXmlLayout}, which reads the fields of a node
+ * directly. The xml is written straight into a Writer or an {@link XMLStreamWriter}, so a large tree can be streamed to
+ * a file without building an intermediate String.
+ * </p>
+ * <p>
+ * The output of a formatted writer is indented like JAXB_FORMATTED_OUTPUT. It has no xml declaration, as the
+ * JAXB_FRAGMENT marshaller did not write one either. A NodeXmlWriter holds no state, so one instance may be used by
+ * many threads at the same time.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeXmlWriter {
+    /**
+     * The namespace of the root elements of the structure classes
+     */
+    public static final String NAMESPACE = "parser";
+
+    /**
+     * The prefix that JAXB used for the "parser" namespace
+     */
+    private static final String PREFIX = "ns2";
+
+    private static final String XSI_PREFIX = "xsi";
+
+    private static final String INDENTATION = "    ";
+
+    /*
+     * Character classes for splitting class names into words
+     */
+    private static final int UPPER_LETTER = 0;
+    private static final int LOWER_LETTER = 1;
+    private static final int OTHER_LETTER = 2;
+    private static final int DIGIT = 3;
+    private static final int OTHER = 4;
+
+    /**
+     * The names that a class is written with
+     */
+    private static final ClassValue<Names> NAMES = new ClassValue<>() {
+        @Override
+        protected Names computeValue(Class<?> type) {
+            return new Names(type);
+        }
+    };
+
+    private final boolean formatted;
+
+    /**
+     * Constructor for a writer that writes indented xml
+     */
+    public NodeXmlWriter() {
+        this(true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param formatted
+     *            true to write line breaks and indentation, false to write everything on one line
+     */
+    public NodeXmlWriter(boolean formatted) {
+        this.formatted = formatted;
+    }
+
+    /**
+     * Returns the xml representation of a node
+     *
+     * @param node
+     *            The node (or list, or other structure object) to write
+     * @return String The xml
+     */
+    public String toXml(Object node) {
+        StringWriter result = new StringWriter();
+        try {
+            write(node, result);
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Writing to a StringWriter is not supposed to fail", e);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Writes a node as UTF-8 encoded xml to an OutputStream. The stream is flushed but not closed.
+     *
+     * @param node
+     *            The node (or list, or other structure object) to write
+     * @param out
+     *            The stream to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    public void write(Object node, OutputStream out) throws XMLStreamException {
+        write(node, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Writes a node as xml to a Writer. The writer is flushed but not closed.
+     * <p>
+     * The xml text is written directly, without an XMLStreamWriter in between. Line breaks in attribute values are
+     * written as character references, so they survive attribute value normalisation when the xml is read back.
+     * </p>
+     *
+     * @param node
+     *            The node (or list, or other structure object) to write
+     * @param out
+     *            The writer to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    public void write(Object node, Writer out) throws XMLStreamException {
+        write(node, new TextOutput(out));
+    }
+
+    /**
+     * Writes a node as an xml element to an XMLStreamWriter. The "parser" namespace is declared on the element, so it
+     * may be written as a fragment anywhere in a document. The XMLStreamWriter is flushed but not closed.
+     *
+     * @param node
+     *            The node (or list, or other structure object) to write
+     * @param out
+     *            The XMLStreamWriter to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    public void write(Object node, XMLStreamWriter out) throws XMLStreamException {
+        write(node, new StaxOutput(out));
+    }
+
+    /**
+     * Writes a node to an Output
+     *
+     * @param node
+     *            The node to write
+     * @param output
+     *            The output to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private void write(Object node, Output output) throws XMLStreamException {
+        if (node == null) {
+            throw new IllegalArgumentException("node may not be null");
+        }
+        new Context(output).writeRootElement(node, 0, true);
+        output.finish();
+    }
+
+    /**
+     * The state of a single write action
+     */
+    private final class Context implements NodeXmlLayout.Sink {
+        private final Output out;
+
+        /**
+         * The xsi namespace has been declared on one of the elements that are being written
+         */
+        private boolean xsiInScope;
+
+        /**
+         * Constructor
+         *
+         * @param out
+         *            The Output to write to
+         */
+        Context(Output out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes an element that is named after the class of the value, like the root element or an item of an
+         * {@link XmlAnyElement} property
+         *
+         * @param value
+         *            The value to write
+         * @param depth
+         *            The nesting depth of the element
+         * @param declareNamespace
+         *            true if the "parser" namespace is to be declared on this element
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void writeRootElement(Object value, int depth, boolean declareNamespace) throws XMLStreamException {
+            Names names = NAMES.get(value.getClass());
+            writeElement(names.rootNamespace, names.rootName, value, null, depth, declareNamespace);
+        }
+
+        /**
+         * Writes a single element
+         *
+         * @param namespace
+         *            The namespace of the element, null for no namespace
+         * @param name
+         *            The local name of the element
+         * @param value
+         *            The value of the element, not null
+         * @param declaredType
+         *            The type as declared in the containing class. If value is of another class, an xsi:type attribute
+         *            is written. null for no xsi:type at all.
+         * @param depth
+         *            The nesting depth of the element
+         * @param declareNamespace
+         *            true if the "parser" namespace is to be declared on this element
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        private void writeElement(String namespace, String name, Object value, Class<?> declaredType, int depth,
+                boolean declareNamespace) throws XMLStreamException {
+            if (isSimple(value.getClass())) {
+                out.startElement(namespace, name, false);
+                out.characters(toText(value));
+                out.endElement();
+                return;
+            }
+
+            Names names = NAMES.get(value.getClass());
+            boolean hasContent = names.index >= 0 && NodeXmlLayout.hasContent(names.index, value);
+            out.startElement(namespace, name, !hasContent);
+            boolean declareXsi = false;
+            if (declaredType != null && !declaredType.equals(value.getClass())) {
+                declareXsi = !xsiInScope;
+                out.attribute(XSI_PREFIX, XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, "type", names.typeName);
+            }
+            if (names.index >= 0) {
+                NodeXmlLayout.writeAttributes(names.index, value, this);
+            }
+            if (declareNamespace) {
+                out.namespace(PREFIX, NAMESPACE);
+            }
+            if (declareXsi) {
+                out.namespace(XSI_PREFIX, XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+                xsiInScope = true;
+            }
+            if (hasContent) {
+                NodeXmlLayout.writeElements(names.index, value, this, depth + 1);
+                newLine(depth);
+                out.endElement();
+            }
+            if (declareXsi) {
+                xsiInScope = false;
+            }
+        }
+
+        @Override
+        public void attribute(String name, Object value) throws XMLStreamException {
+            if (value != null) {
+                out.attribute(null, null, name, toText(value));
+            }
+        }
+
+        @Override
+        public void element(String wrapper, String name, Class<?> declaredType, boolean any, Object value, int depth)
+                throws XMLStreamException {
+            if (value == null) {
+                return;
+            }
+            if (wrapper == null) {
+                writeItem(name, declaredType, any, value, depth);
+                return;
+            }
+            newLine(depth);
+            out.startElement(null, wrapper, false);
+            writeItem(name, declaredType, any, value, depth + 1);
+            newLine(depth);
+            out.endElement();
+        }
+
+        @Override
+        public void elements(String wrapper, String name, Class<?> declaredType, boolean any, Collection<?> values,
+                int depth) throws XMLStreamException {
+            if (values == null) {
+                return;
+            }
+            int itemDepth = depth;
+            if (wrapper != null) {
+                boolean empty = true;
+                for (Object item : values) {
+                    if (item != null) {
+                        empty = false;
+                        break;
+                    }
+                }
+                newLine(depth);
+                out.startElement(null, wrapper, empty);
+                if (empty) {
+                    return;
+                }
+                itemDepth++;
+            }
+            for (Object item : values) {
+                writeItem(name, declaredType, any, item, itemDepth);
+            }
+            if (wrapper != null) {
+                newLine(depth);
+                out.endElement();
+            }
+        }
+
+        /**
+         * Writes a single value of a property
+         *
+         * @param name
+         *            The element name
+         * @param declaredType
+         *            The declared type of the value
+         * @param any
+         *            true if the element is to be named after the class of the value
+         * @param item
+         *            The value (or one of the values for a collection property)
+         * @param depth
+         *            The nesting depth of the element
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        private void writeItem(String name, Class<?> declaredType, boolean any, Object item, int depth)
+                throws XMLStreamException {
+            if (item == null) {
+                return;
+            }
+            newLine(depth);
+            if (any) {
+                writeRootElement(item, depth, false);
+            } else {
+                writeElement(null, name, item, declaredType, depth, false);
+            }
+        }
+
+        /**
+         * Writes a line break plus indentation if the writer is formatted
+         *
+         * @param depth
+         *            The indentation depth
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        private void newLine(int depth) throws XMLStreamException {
+            if (formatted) {
+                out.characters("\n");
+                for (int i = 0; i < depth; i++) {
+                    out.characters(INDENTATION);
+                }
+            }
+        }
+    }
+
+    /**
+     * Where the xml goes to
+     */
+    private interface Output {
+        /**
+         * Starts an element
+         *
+         * @param namespace
+         *            The namespace of the element, null for no namespace
+         * @param name
+         *            The local name of the element
+         * @param empty
+         *            true for an element without content, which will not be ended by {@link #endElement()}
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void startElement(String namespace, String name, boolean empty) throws XMLStreamException;
+
+        /**
+         * Writes an attribute of the element that was just started
+         *
+         * @param prefix
+         *            The namespace prefix, null for no namespace
+         * @param namespace
+         *            The namespace, null for no namespace
+         * @param name
+         *            The local name of the attribute
+         * @param value
+         *            The attribute value
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void attribute(String prefix, String namespace, String name, String value) throws XMLStreamException;
+
+        /**
+         * Declares a namespace on the element that was just started
+         *
+         * @param prefix
+         *            The prefix
+         * @param namespace
+         *            The namespace
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void namespace(String prefix, String namespace) throws XMLStreamException;
+
+        /**
+         * Writes text
+         *
+         * @param text
+         *            The text to write
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void characters(String text) throws XMLStreamException;
+
+        /**
+         * Ends the current element
+         *
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void endElement() throws XMLStreamException;
+
+        /**
+         * Completes and flushes the output
+         *
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void finish() throws XMLStreamException;
+    }
+
+    /**
+     * Output to an XMLStreamWriter
+     */
+    private static final class StaxOutput implements Output {
+        private final XMLStreamWriter out;
+
+        /**
+         * Constructor
+         *
+         * @param out
+         *            The XMLStreamWriter to write to
+         */
+        StaxOutput(XMLStreamWriter out) {
+            this.out = out;
+        }
+
+        @Override
+        public void startElement(String namespace, String name, boolean empty) throws XMLStreamException {
+            if (namespace == null) {
+                if (empty) {
+                    out.writeEmptyElement(name);
+                } else {
+                    out.writeStartElement(name);
+                }
+            } else if (empty) {
+                out.writeEmptyElement(PREFIX, name, namespace);
+            } else {
+                out.writeStartElement(PREFIX, name, namespace);
+            }
+        }
+
+        @Override
+        public void attribute(String prefix, String namespace, String name, String value) throws XMLStreamException {
+            if (prefix == null) {
+                out.writeAttribute(name, value);
+            } else {
+                out.writeAttribute(prefix, namespace, name, value);
+            }
+        }
+
+        @Override
+        public void namespace(String prefix, String namespace) throws XMLStreamException {
+            out.writeNamespace(prefix, namespace);
+        }
+
+        @Override
+        public void characters(String text) throws XMLStreamException {
+            out.writeCharacters(text);
+        }
+
+        @Override
+        public void endElement() throws XMLStreamException {
+            out.writeEndElement();
+        }
+
+        @Override
+        public void finish() throws XMLStreamException {
+            /*
+             * An empty root element would otherwise remain unterminated until the next event
+             */
+            out.writeCharacters("");
+            out.flush();
+        }
+    }
+
+    /**
+     * Output of xml text to a Writer, escaped like the JAXB marshaller did
+     */
+    private static final class TextOutput implements Output {
+        private final Writer out;
+
+        /**
+         * The qualified names of the elements that are not ended yet
+         */
+        private final ArrayList<String> openElements = new ArrayList<>();
+
+        /**
+         * The start tag of the last started element still accepts attributes
+         */
+        private boolean startTagOpen;
+
+        /**
+         * The last started element has no content
+         */
+        private boolean emptyElement;
+
+        /**
+         * Constructor
+         *
+         * @param out
+         *            The Writer to write to
+         */
+        TextOutput(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void startElement(String namespace, String name, boolean empty) throws XMLStreamException {
+            try {
+                closeStartTag();
+                String qualifiedName = namespace == null ? name : PREFIX + ':' + name;
+                out.write('<');
+                out.write(qualifiedName);
+                startTagOpen = true;
+                emptyElement = empty;
+                if (!empty) {
+                    openElements.add(qualifiedName);
+                }
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+
+        @Override
+        public void attribute(String prefix, String namespace, String name, String value) throws XMLStreamException {
+            try {
+                out.write(' ');
+                if (prefix != null) {
+                    out.write(prefix);
+                    out.write(':');
+                }
+                out.write(name);
+                out.write("=\"");
+                escape(value, true);
+                out.write('"');
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+
+        @Override
+        public void namespace(String prefix, String namespace) throws XMLStreamException {
+            attribute(XMLConstants.XMLNS_ATTRIBUTE, null, prefix, namespace);
+        }
+
+        @Override
+        public void characters(String text) throws XMLStreamException {
+            try {
+                closeStartTag();
+                escape(text, false);
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+
+        @Override
+        public void endElement() throws XMLStreamException {
+            try {
+                closeStartTag();
+                out.write("</");
+                out.write(openElements.remove(openElements.size() - 1));
+                out.write('>');
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws XMLStreamException {
+            try {
+                closeStartTag();
+                out.flush();
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+
+        /**
+         * Terminates the start tag of the last started element if that is not done yet
+         *
+         * @throws IOException
+         *             From the Writer
+         */
+        private void closeStartTag() throws IOException {
+            if (startTagOpen) {
+                out.write(emptyElement ? "/>" : ">");
+                startTagOpen = false;
+            }
+        }
+
+        /**
+         * Writes text with the characters that have a special meaning in xml replaced by references
+         *
+         * @param text
+         *            The text to write
+         * @param attributeValue
+         *            true if the text is an attribute value, which also needs escaping of double quotes and line feeds
+         * @throws IOException
+         *             From the Writer
+         */
+        private void escape(String text, boolean attributeValue) throws IOException {
+            int length = text.length();
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                String replacement;
+                switch (text.charAt(i)) {
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '\r':
+                    replacement = "&#13;";
+                    break;
+                case '"':
+                    replacement = attributeValue ? "&quot;" : null;
+                    break;
+                case '\n':
+                    replacement = attributeValue ? "&#10;" : null;
+                    break;
+                default:
+                    replacement = null;
+                    break;
+                }
+                if (replacement != null) {
+                    out.write(text, start, i - start);
+                    out.write(replacement);
+                    start = i + 1;
+                }
+            }
+            out.write(text, start, length - start);
+        }
+    }
+
+    /**
+     * Tells if values of the type are written as text instead of as elements with attributes and child elements
+     *
+     * @param type
+     *            The class of the value
+     * @return boolean true for Strings, primitives, their wrappers and enums
+     */
+    private static boolean isSimple(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type) || Boolean.class.equals(type) || Character.class.equals(type);
+    }
+
+    /**
+     * Converts a simple value to text the way JAXB does
+     *
+     * @param value
+     *            The value to convert
+     * @return String The text representation
+     */
+    private static String toText(Object value) {
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        if (value instanceof Character character) {
+            return Integer.toString(character.charValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isInfinite(d)) {
+                return d > 0 ? "INF" : "-INF";
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Converts a java class name to an xml name the way JAXB does: the class name is split into words, the first of
+     * which is written in lower case. So "SelectStmt" becomes "selectStmt", "A_Expr" becomes "aExpr" and
+     * "SQLValueFunction" becomes "sqlValueFunction".
+     *
+     * @param javaName
+     *            The name to convert
+     * @return String The xml name
+     */
+    static String toXmlName(String javaName) {
+        StringBuilder result = new StringBuilder(javaName.length());
+        int length = javaName.length();
+        for (int start = 0; start < length;) {
+            while (start < length && isPunctuation(javaName.charAt(start))) {
+                start++;
+            }
+            if (start >= length) {
+                break;
+            }
+            int end = start + 1;
+            while (end < length && !isWordBreak(javaName, end)) {
+                end++;
+            }
+            if (result.length() == 0) {
+                result.append(javaName.substring(start, end).toLowerCase());
+            } else {
+                result.append(Character.toUpperCase(javaName.charAt(start))).append(javaName, start + 1, end);
+            }
+            start = end;
+        }
+        return result.toString();
+    }
+
+    /**
+     * Tells if a new word starts at the given position
+     *
+     * @param name
+     *            The name that is being split into words
+     * @param pos
+     *            The position in name, &gt; 0
+     * @return boolean true if the character at pos starts a new word
+     */
+    private static boolean isWordBreak(String name, int pos) {
+        int previous = classify(name.charAt(pos - 1));
+        int current = classify(name.charAt(pos));
+        if (previous == OTHER && current == OTHER) {
+            return isPunctuation(name.charAt(pos));
+        }
+        if ((previous == DIGIT) != (current == DIGIT)) {
+            return true;
+        }
+        if (previous == LOWER_LETTER && current != LOWER_LETTER) {
+            return true;
+        }
+        if ((previous <= OTHER_LETTER) != (current <= OTHER_LETTER)) {
+            return true;
+        }
+        if ((previous == OTHER_LETTER) != (current == OTHER_LETTER)) {
+            return true;
+        }
+        if (previous == UPPER_LETTER && current == UPPER_LETTER) {
+            return pos + 1 < name.length() && Character.isLowerCase(name.charAt(pos + 1));
+        }
+        return false;
+    }
+
+    /**
+     * Classifies a character for the purpose of splitting a name into words
+     *
+     * @param c
+     *            The character
+     * @return int One of UPPER_LETTER, LOWER_LETTER, OTHER_LETTER, DIGIT or OTHER
+     */
+    private static int classify(char c) {
+        switch (Character.getType(c)) {
+        case Character.UPPERCASE_LETTER:
+            return UPPER_LETTER;
+        case Character.LOWERCASE_LETTER:
+            return LOWER_LETTER;
+        case Character.TITLECASE_LETTER:
+        case Character.MODIFIER_LETTER:
+        case Character.OTHER_LETTER:
+            return OTHER_LETTER;
+        case Character.DECIMAL_DIGIT_NUMBER:
+            return DIGIT;
+        default:
+            return OTHER;
+        }
+    }
+
+    /**
+     * Tells if a character separates words in a name
+     *
+     * @param c
+     *            The character
+     * @return boolean true for '-', '.', ':', '_' and a few other punctuation characters
+     */
+    private static boolean isPunctuation(char c) {
+        return c == '-' || c == '.' || c == ':' || c == '_' || c == '\u00b7' || c == '\u0387' || c == '\u06dd'
+                || c == '\u06de';
+    }
+
+    /**
+     * The names that a class is written with and the index of its layout in {@link NodeXmlLayout}
+     */
+    private static final class Names {
+        final int index;
+        final String rootNamespace;
+        final String rootName;
+        final String typeName;
+
+        /**
+         * Constructor
+         *
+         * @param type
+         *            The class
+         */
+        Names(Class<?> type) {
+            index = NodeXmlLayout.indexOf(type);
+            typeName = toXmlName(type.getSimpleName());
+            if (NodeXmlLayout.isLayoutOf(index, type)) {
+                rootNamespace = NodeXmlLayout.rootNamespace(index);
+                rootName = NodeXmlLayout.rootName(index);
+            } else {
+                rootNamespace = NAMESPACE;
+                rootName = typeName;
+            }
+        }
+    }
+}
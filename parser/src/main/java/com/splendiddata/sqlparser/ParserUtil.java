@@ -14,24 +14,9 @@
 
 package com.splendiddata.sqlparser;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringWriter;
-import java.lang.ref.Reference;
-import java.lang.ref.SoftReference;
-import java.net.URL;
 import java.util.List;
 import java.util.regex.Pattern;
 
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
-import jakarta.xml.bind.ValidationEvent;
-import jakarta.xml.bind.ValidationEventHandler;
-
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
-
 import com.splendiddata.sqlparser.enums.Keyword;
 import com.splendiddata.sqlparser.structure.Node;
 import com.splendiddata.sqlparser.structure.TypeName;
@@ -43,9 +28,7 @@ import com.splendiddata.sqlparser.structure.Value;
  * @author Splendid Data Product Development B.V.
  */
 public final class ParserUtil {
-    private static final Logger log = LogManager.getLogger(ParserUtil.class);
-
-    private static final ThreadLocal<Reference<Marshaller>> marshallerCache = new ThreadLocal<>();
+    private static final NodeXmlWriter XML_WRITER = new NodeXmlWriter();
 
     /**
      * The parser normalises identifiers to lower case and without spaces. So if an identifier does not comply to that,
@@ -63,75 +46,16 @@ public final class ParserUtil {
     }
 
     /**
-     * Marshals the statement to an xml representation. This may be helpful in debugging the parser. The marshaller is
-     * cached
+     * Writes the statement in an xml representation. This may be helpful in debugging the parser. The layout is the one
+     * of the JAXB marshaller that was used before, but the xml is written by a {@link NodeXmlWriter}, which doesn't
+     * need a JAXBContext. Use a NodeXmlWriter directly to stream large trees to a file.
      *
      * @param statement
      *            The statement node that is to be presented in an XML format
      * @return String The statement in an xml format.
      */
     public static String stmtToXml(Object statement) {
-        StringWriter writer = new StringWriter();
-
-        Reference<Marshaller> ref = marshallerCache.get();
-        Marshaller marshaller = null;
-        if (ref != null) {
-            marshaller = ref.get();
-        }
-        if (marshaller == null) {
-            try {
-                JAXBContext context = JAXBContext.newInstance(
-                        "com.splendiddata.sqlparser.structure:com.splendiddata.sqlparser.structure",
-                        new ClassLoader(ParserUtil.class.getClassLoader()) {
-
-                            @Override
-                            public InputStream getResourceAsStream(String name) {
-                                URL url = getClass().getResource(name);
-                                if (url == null) {
-                                    url = getClass().getResource("/" + name);
-                                }
-                                if (url == null) {
-                                    return null;
-                                }
-                                InputStream result = null;
-                                try {
-                                    result = url.openStream();
-                                } catch (IOException e) {
-                                    log.error("Error in getResourceAsStream(name=" + name + ")", e);
-                                }
-                                if (log.isDebugEnabled()) {
-                                    log.debug("getResourceAsStream(name=" + name + "), url = " + url + ", result = "
-                                            + result);
-                                }
-                                return result;
-                            }
-                        });
-                marshaller = context.createMarshaller();
-                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
-                marshaller.setEventHandler(new ValidationEventHandler() {
-
-                    @Override
-                    public boolean handleEvent(ValidationEvent event) {
-                        LogManager.getLogger(getClass()).warn("JAXB marshaller event occurred: " + event);
-                        return true;
-                    }
-
-                });
-                marshallerCache.set(new SoftReference<>(marshaller));
-            } catch (JAXBException e) {
-                log.error("stmtToString(statement=" + statement + ")->failed", e);
-                throw new RuntimeException(e.getMessage(), e);
-            }
-        }
-
-        try {
-            marshaller.marshal(statement, writer);
-        } catch (JAXBException e) {
-            log.error("stmtToString(statement=" + statement + ")->failed", e);
-            throw new RuntimeException(e.getMessage(), e);
-        }
-        return writer.toString();
+        return XML_WRITER.toXml(statement);
     }
 
     /**
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Caches parse results by sql text, for applications that parse the same statements over and over again.
+ * <p>
+ * The cache is keyed by the exact sql text. Least recently used entries are evicted when the number of entries
+ * exceeds maxEntries or when the total length of the cached sql texts exceeds maxCharacters. The length of the sql
+ * text serves as an estimate of the size of its parse tree.
+ * </p>
+ * <p>
+ * The parse tree in the cache is never handed out. Every {@link #parse(CharSequence, SqlParserErrorReporter)} returns
+ * a private copy made by {@link List#clone()}, so the caller may change it at will. Sql texts that contain errors are
+ * not cached, so their errors are reported every time.
+ * </p>
+ * <p>
+ * A SqlParseCache is thread safe. The parses are done by a {@link SqlParserService} outside of the lock that protects
+ * the cache, so threads that parse different statements do not wait for each other. Two threads that miss the same
+ * sql text at the same time will both parse it.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlParseCache {
+    private final SqlParserService parserService;
+    private final int maxEntries;
+    private final long maxCharacters;
+
+    /**
+     * The cached parse results, in access order. Guarded by itself.
+     */
+    private final LinkedHashMap<String, List<Node>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedCharacters;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor for a cache that parses via the {@link SqlParserService#getInstance() default SqlParserService}
+     *
+     * @param maxEntries
+     *            The maximum number of cached sql texts
+     * @param maxCharacters
+     *            The maximum total length of the cached sql texts
+     */
+    public SqlParseCache(int maxEntries, long maxCharacters) {
+        this(SqlParserService.getInstance(), maxEntries, maxCharacters);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param parserService
+     *            The SqlParserService that parses the sql texts that are not in the cache
+     * @param maxEntries
+     *            The maximum number of cached sql texts
+     * @param maxCharacters
+     *            The maximum total length of the cached sql texts
+     */
+    public SqlParseCache(SqlParserService parserService, int maxEntries, long maxCharacters) {
+        if (parserService == null) {
+            throw new IllegalArgumentException("parserService may not be null");
+        }
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries may not be negative: " + maxEntries);
+        }
+        if (maxCharacters < 0) {
+            throw new IllegalArgumentException("maxCharacters may not be negative: " + maxCharacters);
+        }
+        this.parserService = parserService;
+        this.maxEntries = maxEntries;
+        this.maxCharacters = maxCharacters;
+    }
+
+    /**
+     * Returns the parse result of sql. Possible scanner or parser errors are logged into the log4j logger.
+     *
+     * @param sql
+     *            The sql statements to parse
+     * @return List&lt;Node&gt; A private copy of the parsed statements - one Node per statement. null if the text
+     *         contains errors or no statements at all.
+     */
+    public List<Node> parse(CharSequence sql) {
+        return parse(sql, null);
+    }
+
+    /**
+     * Returns the parse result of sql, from the cache if possible
+     *
+     * @param sql
+     *            The sql statements to parse
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive parser errors (if any), on the calling thread. null means
+     *            that errors will be logged into the log4j logger.
+     * @return List&lt;Node&gt; A private copy of the parsed statements - one Node per statement. null if the text
+     *         contains errors or no statements at all.
+     */
+    public List<Node> parse(CharSequence sql, SqlParserErrorReporter errorReporter) {
+        String key = sql.toString();
+        List<Node> cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hitCount.increment();
+            return cached.clone();
+        }
+        missCount.increment();
+
+        List<Node> result = parserService.parse(key, errorReporter);
+        if (result != null && key.length() <= maxCharacters && maxEntries > 0) {
+            List<Node> copy = result.clone();
+            synchronized (entries) {
+                List<Node> previous = entries.put(key, copy);
+                if (previous == null) {
+                    cachedCharacters += key.length();
+                }
+                evict();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evicts the least recently used entries until the cache is within its bounds. Must be invoked while holding the
+     * lock on {@link #entries}.
+     */
+    private void evict() {
+        for (Iterator<Map.Entry<String, List<Node>>> it = entries.entrySet().iterator(); it.hasNext()
+                && (entries.size() > maxEntries || cachedCharacters > maxCharacters);) {
+            cachedCharacters -= it.next().getKey().length();
+            it.remove();
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * Removes all entries from the cache. The statistics are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            cachedCharacters = 0;
+        }
+    }
+
+    /**
+     * Returns the number of cached sql texts
+     *
+     * @return int The number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the total length of the cached sql texts
+     *
+     * @return long The number of cached characters
+     */
+    public long getCachedCharacters() {
+        synchronized (entries) {
+            return cachedCharacters;
+        }
+    }
+
+    /**
+     * Returns the number of parse requests that were served from the cache
+     *
+     * @return long The number of hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of parse requests that needed a parse
+     *
+     * @return long The number of misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries that were evicted to keep the cache within its bounds
+     *
+     * @return long The number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the fraction of the parse requests that were served from the cache
+     *
+     * @return double The hit rate, between 0 and 1. 0 if nothing was requested yet.
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder().append("SqlParseCache(entries=").append(size()).append('/').append(maxEntries)
+                .append(", characters=").append(getCachedCharacters()).append('/').append(maxCharacters)
+                .append(", hits=").append(getHitCount()).append(", misses=").append(getMissCount())
+                .append(", evictions=").append(getEvictionCount()).append(')').toString();
+    }
+}
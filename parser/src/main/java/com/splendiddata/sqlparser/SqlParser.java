@@ -19,8 +19,13 @@ package com.splendiddata.sqlparser;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.ListIterator;
+import java.util.Objects;
 
+import com.splendiddata.sqlparser.enums.Severity;
 import com.splendiddata.sqlparser.structure.core_yyscan_t;
 import com.splendiddata.sqlparser.structure.List;
 import com.splendiddata.sqlparser.structure.Node;
@@ -28,11 +33,55 @@ import com.splendiddata.sqlparser.structure.RawStmt;
 
 /**
  * Wrapper class around PgSqlParser, which demands an odd constructor
+ * <p>
+ * A SqlParser can be reused: {@link #reset(Reader)} or {@link #parse(CharSequence)} let it parse a new sql text while
+ * reusing the scanner buffers. {@link #parse(char[], int, int)} doesn't even copy the sql text into the scan buffer,
+ * and neither does {@link #parse(CharSequence)} for a CharBuffer that wraps a char array. {@link #parse(Path)} decodes
+ * a memory-mapped UTF-8 file straight into the scan buffer. A SqlParser is not thread safe.
+ * {@link #forCurrentThread()} hands out a SqlParser per thread for code that parses many short statements.
+ * {@link SqlParserService} can be shared between any number of threads, including virtual threads.
+ * </p>
+ * <p>
+ * The validate methods only tell if the sql text is valid. They throw the parse tree away.
+ * {@link #parseWithRecovery(CharSequence)} keeps parsing after a statement that contains an error.
+ * </p>
  *
  * @author Splendid Data Product Development B.V.
  */
 public class SqlParser {
+
+    /**
+     * One SqlParser per thread, used by {@link #forCurrentThread()}
+     */
+    private static final ThreadLocal<SqlParser> THREAD_LOCAL_PARSER = ThreadLocal.withInitial(SqlParser::new);
+
     private final PgSqlParser parser;
+    private final SqlScanner scanner;
+    private final SqlParserErrorReporter defaultErrorReporter;
+    private SqlParserErrorReporter errorReporter;
+
+    /**
+     * Used by {@link #parse(CharSequence)}, so no new Reader is needed for every text
+     */
+    private CharSequenceReader charSequenceReader;
+
+    /**
+     * Used by {@link #parseWithRecovery(CharSequence)}
+     */
+    private SqlScriptSplitter scriptSplitter;
+
+    /**
+     * Constructor for a SqlParser that will be given its input via {@link #reset(Reader)} or
+     * {@link #parse(CharSequence)}
+     * <p>
+     * Possible scanner or parser errors are logged into the log4j logger
+     * </p>
+     *
+     * @since 19.0
+     */
+    public SqlParser() {
+        this(Reader.nullReader());
+    }
 
     /**
      * Constructor
@@ -45,7 +94,10 @@ public class SqlParser {
      */
     public SqlParser(Reader reader) {
         core_yyscan_t something = new core_yyscan_t();
-        parser = new PgSqlParser(new SqlScanner(reader, something), something);
+        scanner = new SqlScanner(reader, something);
+        parser = new PgSqlParser(scanner, something);
+        defaultErrorReporter = parser.getErrorReporter();
+        errorReporter = defaultErrorReporter;
         //        parser.errorVerbose = true;
     }
 
@@ -58,16 +110,206 @@ public class SqlParser {
      *            The SqlParserErrorReporter that will receive parser errors (if any)
      */
     public SqlParser(Reader reader, SqlParserErrorReporter errorReporter) {
-        core_yyscan_t something = new core_yyscan_t();
-        SqlScanner scanner = new SqlScanner(reader, something);
-        scanner.setErrorReporter(errorReporter);
-        parser = new PgSqlParser(scanner, something);
-        //        parser.errorVerbose = true;
-        parser.setErrorReporter(errorReporter);
+        this(reader);
+        setErrorReporter(errorReporter);
+    }
+
+    /**
+     * Returns the SqlParser of the current thread. The parser is reused by subsequent invocations on the same thread,
+     * so invoke {@link #reset(Reader)} or {@link #parse(CharSequence)} before using it. The error reporter is reset
+     * to the default (log4j) one.
+     * <p>
+     * The returned parser must not be passed to other threads, and it must be done with its parse before the same
+     * thread invokes forCurrentThread() again - so not from within an error reporter. The parse result can be kept:
+     * it is not reused.
+     * </p>
+     * <p>
+     * Every thread keeps its own parser, which makes this method unsuitable for virtual threads. Use
+     * {@link SqlParserService} instead.
+     * </p>
+     *
+     * @return SqlParser The parser for the current thread
+     * @since 19.0
+     */
+    public static SqlParser forCurrentThread() {
+        SqlParser result = THREAD_LOCAL_PARSER.get();
+        result.setErrorReporter(null);
+        return result;
+    }
+
+    /**
+     * Sets the SqlParserErrorReporter that will receive scanner and parser errors
+     *
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive parser errors. null means that errors will be logged
+     *            into the log4j logger
+     * @since 19.0
+     */
+    public void setErrorReporter(SqlParserErrorReporter errorReporter) {
+        this.errorReporter = errorReporter == null ? defaultErrorReporter : errorReporter;
+        scanner.setErrorReporter(this.errorReporter);
+        parser.setErrorReporter(this.errorReporter);
+    }
+
+    /**
+     * Prepares the parser for parsing the sql text from reader. The scanner buffers are reused. The result of a
+     * previous parse is forgotten by the parser, but remains valid for anyone who already obtained it.
+     *
+     * @param reader
+     *            The Reader that will provide the sql statements
+     * @since 19.0
+     */
+    public void reset(Reader reader) {
+        if (charSequenceReader != null && reader != charSequenceReader) {
+            charSequenceReader.close();
+        }
+        scanner.reset(reader);
+        parser.reset();
+    }
+
+    /**
+     * Parses the sql text, reusing the scanner buffers of this parser. The result is available via
+     * {@link #getResult()}.
+     * <p>
+     * A CharBuffer that wraps a char array is parsed in place, like {@link #parse(char[], int, int)}. Other
+     * CharSequences, including Strings, are copied into the scan buffer chunk by chunk: a String doesn't expose its
+     * characters and {@link String#toCharArray()} would copy them as well.
+     * </p>
+     *
+     * @param sql
+     *            The sql statements to parse
+     * @return boolean true if everything worked fine.
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @since 19.0
+     */
+    public boolean parse(CharSequence sql) throws IOException {
+        if (sql instanceof CharBuffer buffer && buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), 0);
+        }
+        if (charSequenceReader == null) {
+            charSequenceReader = new CharSequenceReader();
+        }
+        reset(charSequenceReader.setSource(sql));
+        try {
+            return parse();
+        } finally {
+            charSequenceReader.close();
+        }
+    }
+
+    /**
+     * Parses a part of the sql text, reusing the scanner buffers of this parser. The Locations in the result and the
+     * error offsets are relative to the start of sql, not to the start of the part. The result is available via
+     * {@link #getResult()}.
+     *
+     * @param sql
+     *            The text that contains the sql statements to parse
+     * @param start
+     *            Offset in sql of the first character to parse
+     * @param end
+     *            Offset in sql just beyond the last character to parse
+     * @return boolean true if everything worked fine.
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @since 19.0
+     */
+    public boolean parse(CharSequence sql, int start, int end) throws IOException {
+        if (sql instanceof CharBuffer buffer && buffer.hasArray()) {
+            Objects.checkFromToIndex(start, end, buffer.length());
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position() + start, end - start, start);
+        }
+        if (charSequenceReader == null) {
+            charSequenceReader = new CharSequenceReader();
+        }
+        reset(charSequenceReader.setSource(sql, start, end));
+        scanner.setPositionOffset(start);
+        try {
+            return parse();
+        } finally {
+            charSequenceReader.close();
+        }
+    }
+
+    /**
+     * Parses length characters of sql from offset without copying them: the scanner uses sql itself as its scan buffer.
+     * So sql must not be changed during the parse. The Locations in the result and the error offsets are relative to
+     * the start of sql. The result is available via {@link #getResult()}.
+     *
+     * @param sql
+     *            The array that contains the sql statements to parse
+     * @param offset
+     *            Index in sql of the first character to parse
+     * @param length
+     *            The number of characters to parse
+     * @return boolean true if everything worked fine.
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @throws IndexOutOfBoundsException
+     *             if offset and length do not define a range within sql
+     * @since 19.0
+     */
+    public boolean parse(char[] sql, int offset, int length) throws IOException {
+        return parse(sql, offset, length, offset);
     }
 
     /**
-     * Parses the sql data that is passed in the reader in the constructor.
+     * Parses the UTF-8 encoded sql file. The file is memory-mapped and decoded straight into the scan buffer. The
+     * Locations in the result and the error offsets are character offsets, not byte offsets. The result is available
+     * via {@link #getResult()}.
+     *
+     * @param file
+     *            The file that contains the sql statements to parse
+     * @return boolean true if everything worked fine.
+     * @throws IOException
+     *             if the file cannot be read or if it is not valid UTF-8
+     * @since 19.0
+     */
+    public boolean parse(Path file) throws IOException {
+        try (MappedUtf8Reader reader = new MappedUtf8Reader(file)) {
+            reset(reader);
+            try {
+                return parse();
+            } finally {
+                scanner.reset(Reader.nullReader());
+            }
+        }
+    }
+
+    /**
+     * Parses a part of a char array, using the array as scan buffer
+     *
+     * @param sql
+     *            The array that contains the sql statements to parse
+     * @param offset
+     *            Index in sql of the first character to parse
+     * @param length
+     *            The number of characters to parse
+     * @param positionOffset
+     *            The Location of the character at offset
+     * @return boolean true if everything worked fine.
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     */
+    private boolean parse(char[] sql, int offset, int length, int positionOffset) throws IOException {
+        if (charSequenceReader != null) {
+            charSequenceReader.close();
+        }
+        scanner.reset(sql, offset, length);
+        scanner.setPositionOffset(positionOffset);
+        parser.reset();
+        try {
+            return parse();
+        } finally {
+            /*
+             * Don't keep a reference to the caller's array
+             */
+            scanner.reset(Reader.nullReader());
+        }
+    }
+
+    /**
+     * Parses the sql data that is passed in the reader in the constructor or in {@link #reset(Reader)}.
      * 
      * @return boolean true if everything worked fine.
      * @throws IOException
@@ -76,7 +318,131 @@ public class SqlParser {
      */
     public boolean parse() throws IOException {
         parser.setErrorReported(false);
-        return parser.parse() && !parser.isErrorReported();
+        scanner.setErrorReported(false);
+        /*
+         * A scan error makes the scanner return EOF, which may well end a valid statement
+         */
+        return parser.parse() && !parser.isErrorReported() && !scanner.isErrorReported();
+    }
+
+    /**
+     * Parses an sql script statement by statement, so an error in one statement does not prevent the others from being
+     * parsed.
+     * <p>
+     * The script is split by a {@link SqlScriptSplitter}, so the parser resynchronizes at the next semicolon that is
+     * not within parentheses, a quoted string, a dollar quoted string, a comment or the BEGIN ATOMIC ... END body of a
+     * function or procedure. Every statement is parsed once, so the whole script is processed in a single linear pass.
+     * The Locations in the parsed statements and the error offsets are relative to the start of the script.
+     * </p>
+     * <p>
+     * The errors are not passed to the error reporter, but returned in the outcome of the statement that contains
+     * them. Parts of the script that only contain whitespace and comments do not produce an outcome.
+     * </p>
+     *
+     * @param script
+     *            The sql statements to parse
+     * @return List&lt;StatementOutcome&gt; One outcome per statement, in script order
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @since 19.0
+     */
+    public java.util.List<StatementOutcome> parseWithRecovery(CharSequence script) throws IOException {
+        if (scriptSplitter == null) {
+            scriptSplitter = new SqlScriptSplitter();
+        }
+        int[] statementEnds = scriptSplitter.split(script);
+        java.util.List<StatementOutcome> outcomes = new ArrayList<>(statementEnds.length);
+        SqlParserErrorReporter reporter = errorReporter;
+        java.util.List<SqlParserErrorData> errors = new ArrayList<>();
+        setErrorReporter(errors::add);
+        try {
+            int start = 0;
+            for (int end : statementEnds) {
+                errors.clear();
+                if (parse(script, start, end)) {
+                    List<Node> statements = getResult();
+                    if (statements != null) {
+                        for (Node statement : statements) {
+                            outcomes.add(new StatementOutcome(start, end, statement, java.util.List.of()));
+                        }
+                    }
+                } else {
+                    if (errors.isEmpty()) {
+                        /*
+                         * Should not happen, but the outcome must tell that the statement is invalid
+                         */
+                        errors.add(new SqlParserErrorData().setSeverity(Severity.ERROR)
+                                .setErrorOffset(Long.valueOf(start)).setErrorText("syntax error"));
+                    }
+                    outcomes.add(new StatementOutcome(start, end, null, new ArrayList<>(errors)));
+                }
+                start = end;
+            }
+        } finally {
+            setErrorReporter(reporter);
+        }
+        return outcomes;
+    }
+
+    /**
+     * Checks if sql is valid. The same errors are reported as by {@link #parse(CharSequence)}, but the parse tree is
+     * thrown away, so {@link #getResult()} returns null afterwards.
+     *
+     * @param sql
+     *            The sql statements to check
+     * @return boolean true if the sql text is valid
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @since 19.0
+     */
+    public boolean validate(CharSequence sql) throws IOException {
+        boolean valid = parse(sql);
+        parser.reset();
+        return valid;
+    }
+
+    /**
+     * Checks if a part of sql is valid. The error offsets are relative to the start of sql. See
+     * {@link #validate(CharSequence)}.
+     *
+     * @param sql
+     *            The text that contains the sql statements to check
+     * @param start
+     *            Offset in sql of the first character to check
+     * @param end
+     *            Offset in sql just beyond the last character to check
+     * @return boolean true if the sql text is valid
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @since 19.0
+     */
+    public boolean validate(CharSequence sql, int start, int end) throws IOException {
+        boolean valid = parse(sql, start, end);
+        parser.reset();
+        return valid;
+    }
+
+    /**
+     * Checks if length characters of sql from offset are valid, without copying them. The error offsets are relative
+     * to the start of sql. See {@link #validate(CharSequence)}.
+     *
+     * @param sql
+     *            The array that contains the sql statements to check
+     * @param offset
+     *            Index in sql of the first character to check
+     * @param length
+     *            The number of characters to check
+     * @return boolean true if the sql text is valid
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     * @throws IndexOutOfBoundsException
+     *             if offset and length do not define a range within sql
+     * @since 19.0
+     */
+    public boolean validate(char[] sql, int offset, int length) throws IOException {
+        boolean valid = parse(sql, offset, length);
+        parser.reset();
+        return valid;
     }
 
     /**
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Thread safe entry point for parsing sql text. A single SqlParserService can be shared by any number of threads,
+ * including virtual threads.
+ * <h2>Concurrency model</h2>
+ * <ul>
+ * <li>{@link SqlParser}, the generated PgSqlParser and SqlScanner and their base classes {@link AbstractParser},
+ * {@link AbstractScanner} and {@link AbstractCProgram} keep state while parsing and are <b>not</b> thread safe. An
+ * instance may be used by one thread at a time only.</li>
+ * <li>The static state of the parser - the parser tables, the keyword table in ScanKeyword and the caches in
+ * {@link com.splendiddata.sqlparser.structure.Node} - is immutable after class initialisation or thread safe.</li>
+ * <li>A SqlParserService keeps a pool of idle SqlParsers. A parse takes a parser from the pool (or creates a new one if
+ * the pool is empty), uses it on the calling thread only and puts it back afterwards. The pool is lock free, so a
+ * virtual thread is never pinned to its carrier thread by it. At most maxIdleParsers parsers are kept; surplus parsers
+ * are left to the garbage collector.</li>
+ * <li>The parse result belongs to the caller. It is never touched by the parser again, so it may be handed over to
+ * other threads. The nodes themselves are mutable and not synchronized.</li>
+ * <li>An error reporter that is passed to a parse method is invoked on the calling thread only. This includes
+ * {@link #parseScript(CharSequence, SqlParserErrorReporter, ForkJoinPool)}, which collects the errors of the parts
+ * that are parsed on the ForkJoinPool and reports them in script order when all parts are done.</li>
+ * <li>{@link ParserUtil#stmtToXml(Object)} can be invoked from any thread; the {@link NodeXmlWriter} it uses holds no
+ * state.</li>
+ * </ul>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlParserService {
+    /**
+     * Default maximum number of idle parsers that is kept in the pool
+     */
+    public static final int DEFAULT_MAX_IDLE_PARSERS = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * {@link #parseScript(CharSequence, SqlParserErrorReporter, ForkJoinPool)} combines consecutive statements into
+     * parts of at least this many characters, so the overhead of a task remains small compared to the parse itself
+     */
+    public static final int MIN_CHARACTERS_PER_TASK = 16 * 1024;
+
+    private static final SqlParserService DEFAULT_INSTANCE = new SqlParserService(DEFAULT_MAX_IDLE_PARSERS);
+
+    /**
+     * Logs errors into the log4j logger, like the parser does when no error reporter is set
+     */
+    private static final SqlParserErrorReporter LOGGING_ERROR_REPORTER = new AbstractCProgram();
+
+    private final ConcurrentLinkedDeque<SqlParser> idleParsers = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleParserCount = new AtomicInteger();
+    private final int maxIdleParsers;
+
+    /**
+     * Constructor
+     *
+     * @param maxIdleParsers
+     *            The maximum number of parsers to keep in the pool when they are not in use. Should be about the number
+     *            of threads that parse simultaneously.
+     */
+    public SqlParserService(int maxIdleParsers) {
+        if (maxIdleParsers < 0) {
+            throw new IllegalArgumentException("maxIdleParsers may not be negative: " + maxIdleParsers);
+        }
+        this.maxIdleParsers = maxIdleParsers;
+    }
+
+    /**
+     * Returns the shared SqlParserService, that keeps at most {@link #DEFAULT_MAX_IDLE_PARSERS} idle parsers
+     *
+     * @return SqlParserService The default instance
+     */
+    public static SqlParserService getInstance() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * Parses the sql text. Possible scanner or parser errors are logged into the log4j logger.
+     *
+     * @param sql
+     *            The sql statements to parse
+     * @return List&lt;Node&gt; The parsed statements - one Node per statement. null if the text contains errors or no
+     *         statements at all.
+     */
+    public List<Node> parse(CharSequence sql) {
+        return parse(sql, null);
+    }
+
+    /**
+     * Parses the sql text
+     *
+     * @param sql
+     *            The sql statements to parse
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive parser errors (if any), on the calling thread. null means
+     *            that errors will be logged into the log4j logger.
+     * @return List&lt;Node&gt; The parsed statements - one Node per statement. null if the text contains errors or no
+     *         statements at all.
+     */
+    public List<Node> parse(CharSequence sql, SqlParserErrorReporter errorReporter) {
+        SqlParser parser = borrowParser();
+        try {
+            parser.setErrorReporter(errorReporter);
+            if (parser.parse(sql)) {
+                return parser.getResult();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected I/O exception while reading from a CharSequence", e);
+        } finally {
+            returnParser(parser);
+        }
+    }
+
+    /**
+     * Checks if the sql text is valid. See {@link SqlParser#validate(CharSequence)}.
+     *
+     * @param sql
+     *            The sql statements to check
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive parser errors (if any), on the calling thread. null means
+     *            that errors will be logged into the log4j logger.
+     * @return boolean true if the sql text is valid
+     * @since 19.0
+     */
+    public boolean validate(CharSequence sql, SqlParserErrorReporter errorReporter) {
+        SqlParser parser = borrowParser();
+        try {
+            parser.setErrorReporter(errorReporter);
+            return parser.validate(sql);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected I/O exception while reading from a CharSequence", e);
+        } finally {
+            returnParser(parser);
+        }
+    }
+
+    /**
+     * Parses an sql script statement by statement, so an error in one statement does not prevent the others from being
+     * parsed. See {@link SqlParser#parseWithRecovery(CharSequence)}.
+     *
+     * @param script
+     *            The sql statements to parse
+     * @return List&lt;StatementOutcome&gt; One outcome per statement, in script order
+     * @since 19.0
+     */
+    public java.util.List<StatementOutcome> parseWithRecovery(CharSequence script) {
+        SqlParser parser = borrowParser();
+        try {
+            return parser.parseWithRecovery(script);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unexpected I/O exception while reading from a CharSequence", e);
+        } finally {
+            returnParser(parser);
+        }
+    }
+
+    /**
+     * Parses an sql script on the common ForkJoinPool.
+     *
+     * @param script
+     *            The sql statements to parse
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive parser errors (if any), on the calling thread. null means
+     *            that errors will be logged into the log4j logger.
+     * @return List&lt;Node&gt; The parsed statements - one Node per statement. null if the script contains errors or
+     *         no statements at all.
+     * @see #parseScript(CharSequence, SqlParserErrorReporter, ForkJoinPool)
+     */
+    public List<Node> parseScript(CharSequence script, SqlParserErrorReporter errorReporter) {
+        return parseScript(script, errorReporter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses an sql script in parallel.
+     * <p>
+     * The script is split into statements by a {@link SqlScriptSplitter}. Consecutive statements are combined into
+     * parts of at least {@link #MIN_CHARACTERS_PER_TASK} characters, which are parsed as separate tasks on the pool.
+     * The results are merged in script order. The Locations in the result and the error offsets are relative to the
+     * start of the script, as if the script were parsed as a whole.
+     * </p>
+     * <p>
+     * Unlike a parse of the whole script, all parts are parsed even if one of them contains an error. So all errors in
+     * the script are reported.
+     * </p>
+     *
+     * @param script
+     *            The sql statements to parse
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive parser errors (if any), on the calling thread. null means
+     *            that errors will be logged into the log4j logger.
+     * @param pool
+     *            The ForkJoinPool on which to parse the parts of the script
+     * @return List&lt;Node&gt; The parsed statements - one Node per statement. null if the script contains errors or
+     *         no statements at all.
+     */
+    public List<Node> parseScript(CharSequence script, SqlParserErrorReporter errorReporter, ForkJoinPool pool) {
+        int[] statementEnds = new SqlScriptSplitter().split(script);
+        java.util.List<ScriptPart> parts = new ArrayList<>();
+        int partStart = 0;
+        for (int i = 0; i < statementEnds.length; i++) {
+            int partEnd = statementEnds[i];
+            if (partEnd - partStart >= MIN_CHARACTERS_PER_TASK || i == statementEnds.length - 1) {
+                parts.add(new ScriptPart(script, partStart, partEnd));
+                partStart = partEnd;
+            }
+        }
+        if (parts.size() == 1) {
+            try {
+                parts.get(0).call();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unexpected I/O exception while reading from a CharSequence", e);
+            }
+        } else {
+            java.util.List<ForkJoinTask<ScriptPart>> tasks = new ArrayList<>(parts.size());
+            for (ScriptPart part : parts) {
+                tasks.add(pool.submit(part));
+            }
+            for (ForkJoinTask<ScriptPart> task : tasks) {
+                task.join();
+            }
+        }
+
+        SqlParserErrorReporter reporter = errorReporter == null ? LOGGING_ERROR_REPORTER : errorReporter;
+        List<Node> result = null;
+        boolean succeeded = true;
+        for (ScriptPart part : parts) {
+            for (SqlParserErrorData error : part.errors) {
+                reporter.reportError(error);
+            }
+            if (!part.succeeded) {
+                succeeded = false;
+            } else if (part.statements != null) {
+                if (result == null) {
+                    result = part.statements;
+                } else {
+                    result.addAll(part.statements);
+                }
+            }
+        }
+        return succeeded ? result : null;
+    }
+
+    /**
+     * Parses a part of a script. Used by {@link #parseScript(CharSequence, SqlParserErrorReporter, ForkJoinPool)}.
+     */
+    private final class ScriptPart implements Callable<ScriptPart> {
+        private final CharSequence script;
+        private final int start;
+        private final int end;
+        private final java.util.List<SqlParserErrorData> errors = new ArrayList<>();
+        private List<Node> statements;
+        private boolean succeeded;
+
+        /**
+         * Constructor
+         *
+         * @param script
+         *            The complete script
+         * @param start
+         *            Offset of the first character of the part
+         * @param end
+         *            Offset just beyond the last character of the part
+         */
+        ScriptPart(CharSequence script, int start, int end) {
+            this.script = script;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Parses the part
+         *
+         * @return ScriptPart this
+         * @throws IOException
+         *             should not happen as no actual I/O is involved
+         */
+        @Override
+        public ScriptPart call() throws IOException {
+            SqlParser parser = borrowParser();
+            try {
+                parser.setErrorReporter(errors::add);
+                succeeded = parser.parse(script, start, end);
+                if (succeeded) {
+                    statements = parser.getResult();
+                }
+                return this;
+            } finally {
+                returnParser(parser);
+            }
+        }
+    }
+
+    /**
+     * Takes an idle parser from the pool or creates a new one
+     *
+     * @return SqlParser for use by the current thread only
+     */
+    private SqlParser borrowParser() {
+        SqlParser parser = idleParsers.pollFirst();
+        if (parser == null) {
+            return new SqlParser();
+        }
+        idleParserCount.decrementAndGet();
+        return parser;
+    }
+
+    /**
+     * Puts the parser back into the pool, unless the pool is full already
+     *
+     * @param parser
+     *            The parser that is no longer used by the current thread
+     */
+    private void returnParser(SqlParser parser) {
+        parser.setErrorReporter(null);
+        parser.reset(Reader.nullReader());
+        if (idleParserCount.incrementAndGet() <= maxIdleParsers) {
+            idleParsers.offerFirst(parser);
+        } else {
+            idleParserCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+
+package com.splendiddata.sqlparser;
+
+import java.util.List;
+
+import com.splendiddata.sqlparser.structure.Location;
+
+/**
+ * A reference to a table, a column or a function in an sql statement, as found by the {@link SqlReferenceExtractor}.
+ * It doesn't keep the parse tree alive.
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlReference {
+    /**
+     * What is referenced
+     */
+    public enum Kind {
+        /**
+         * A table, view, sequence or other relation: a RangeVar that doesn't refer to a common table expression
+         */
+        TABLE,
+        /**
+         * A column: a ColumnRef
+         */
+        COLUMN,
+        /**
+         * A function, aggregate or procedure: a FuncCall
+         */
+        FUNCTION
+    }
+
+    private final Kind kind;
+    private final List<String> names;
+    private final Location location;
+
+    /**
+     * Constructor
+     *
+     * @param kind
+     *            What is referenced
+     * @param names
+     *            The parts of the (qualified) name, which must not be modified any more
+     * @param location
+     *            The location of the RangeVar, ColumnRef or FuncCall
+     */
+    SqlReference(Kind kind, List<String> names, Location location) {
+        this.kind = kind;
+        this.names = names;
+        this.location = location;
+    }
+
+    /**
+     * Returns what is referenced
+     *
+     * @return Kind TABLE, COLUMN or FUNCTION
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the parts of the name as they are in the parse tree, so unquoted identifiers in lower case. For a table
+     * that is [catalog, ] [schema, ] table, for a column for example [table alias, ] column, where the column may be
+     * "*", and for a function [schema, ] function name.
+     *
+     * @return List&lt;String&gt; The name parts, unmodifiable
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Returns the last part of the name: the name of the table, column or function itself
+     *
+     * @return String The unqualified name
+     */
+    public String getName() {
+        return names.get(names.size() - 1);
+    }
+
+    /**
+     * Returns the location of the reference in the sql text
+     *
+     * @return Location The location of the RangeVar, ColumnRef or FuncCall or null if not known
+     */
+    public Location getLocation() {
+        return location;
+    }
+
+    /**
+     * Returns the start offset of the reference in the sql text
+     *
+     * @return long The start offset or -1 if not known
+     */
+    public long getOffset() {
+        if (location == null || location.begin == null) {
+            return -1;
+        }
+        return location.begin.getOffset();
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder().append(kind.name()).append(' ').append(String.join(".", names));
+        long offset = getOffset();
+        if (offset >= 0) {
+            result.append('@').append(offset);
+        }
+        return result.toString();
+    }
+}
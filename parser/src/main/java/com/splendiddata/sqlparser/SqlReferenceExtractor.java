@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.splendiddata.sqlparser.structure.A_Star;
+import com.splendiddata.sqlparser.structure.ColumnRef;
+import com.splendiddata.sqlparser.structure.CommonTableExpr;
+import com.splendiddata.sqlparser.structure.DeleteStmt;
+import com.splendiddata.sqlparser.structure.FuncCall;
+import com.splendiddata.sqlparser.structure.InsertStmt;
+import com.splendiddata.sqlparser.structure.MergeStmt;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.RangeVar;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+import com.splendiddata.sqlparser.structure.UpdateStmt;
+import com.splendiddata.sqlparser.structure.Value;
+import com.splendiddata.sqlparser.structure.WithClause;
+
+/**
+ * Finds the tables, columns and functions that sql statements refer to, for example for access auditing or
+ * dependency analysis.
+ * <p>
+ * Every RangeVar in the parse tree is reported as a {@link SqlReference.Kind#TABLE TABLE}, unless it is an unqualified
+ * name that refers to a common table expression of an enclosing WITH clause. Common table expressions are scoped like
+ * Postgres does: a common table expression is visible in the statement of its WITH clause and in the common table
+ * expressions that follow it, or in all common table expressions of a WITH RECURSIVE clause. The target table of an
+ * INSERT, UPDATE, DELETE or MERGE statement is always a table. Every ColumnRef is reported as a
+ * {@link SqlReference.Kind#COLUMN COLUMN} and every FuncCall as a {@link SqlReference.Kind#FUNCTION FUNCTION}. Names
+ * are not resolved against a catalog, so a column name is reported as written, with its table alias if it has one.
+ * </p>
+ * <p>
+ * The references are reported in the order in which the {@link NodeWalker} encounters them, except that the common
+ * table expressions of a WITH clause are examined before the statement they belong to.
+ * </p>
+ * <p>
+ * {@link #extractFromScript(CharSequence, Consumer)} parses a script statement by statement and examines each parse
+ * tree as soon as it is parsed, so only the parse tree of one statement is kept in memory at a time. The parse tree is
+ * never modified, so a tree that is shared, for example via the {@link SqlParseCache}, can be examined as well.
+ * </p>
+ * <p>
+ * A SqlReferenceExtractor is not thread safe.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlReferenceExtractor {
+    private SqlParserErrorReporter errorReporter;
+    private SqlParser parser;
+    private SqlScriptSplitter splitter;
+
+    /**
+     * Constructor
+     */
+    public SqlReferenceExtractor() {
+        // nothing to initialize
+    }
+
+    /**
+     * Sets the error reporter that will receive the errors of the parser. If not set, the errors are logged into the
+     * log4j logger.
+     *
+     * @param errorReporter
+     *            The error reporter to use
+     * @return SqlReferenceExtractor this
+     */
+    public SqlReferenceExtractor setErrorReporter(SqlParserErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
+        if (parser != null) {
+            parser.setErrorReporter(errorReporter);
+        }
+        return this;
+    }
+
+    /**
+     * Finds the references in a parse tree
+     *
+     * @param tree
+     *            A parsed statement or a List of them. May be null.
+     * @return List&lt;SqlReference&gt; The references in the order in which they were found
+     */
+    public static List<SqlReference> extract(Node tree) {
+        List<SqlReference> result = new ArrayList<>();
+        NodeWalker.walk(tree, new Collector(result::add));
+        return result;
+    }
+
+    /**
+     * Parses the statements in script and finds the references in them
+     *
+     * @param script
+     *            The sql text, which may contain any number of statements
+     * @return List&lt;SqlReference&gt; The references in the order in which they were found. The offsets are relative
+     *         to the start of script.
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     */
+    public List<SqlReference> extractFromScript(CharSequence script) throws IOException {
+        List<SqlReference> result = new ArrayList<>();
+        extractFromScript(script, result::add);
+        return result;
+    }
+
+    /**
+     * Parses the statements in script one by one and passes the references in each statement to consumer before the
+     * next statement is parsed. Statements that cannot be parsed are reported to the
+     * {@link #setErrorReporter(SqlParserErrorReporter) error reporter} and skipped.
+     *
+     * @param script
+     *            The sql text, which may contain any number of statements
+     * @param consumer
+     *            Receives the references in the order in which they were found. The offsets are relative to the start
+     *            of script.
+     * @return int The number of statements that could not be parsed
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     */
+    public int extractFromScript(CharSequence script, Consumer<SqlReference> consumer) throws IOException {
+        if (parser == null) {
+            parser = new SqlParser();
+            if (errorReporter != null) {
+                parser.setErrorReporter(errorReporter);
+            }
+        }
+        if (splitter == null) {
+            splitter = new SqlScriptSplitter();
+        }
+        int failures = 0;
+        int start = 0;
+        for (int end : splitter.split(script)) {
+            if (parser.parse(script, start, end)) {
+                NodeWalker.walk(parser.getResult(), new Collector(consumer));
+            } else {
+                failures++;
+            }
+            start = end;
+        }
+        return failures;
+    }
+
+    /**
+     * Creates the name parts of a reference
+     *
+     * @param parts
+     *            The Values and A_Stars of a ColumnRef or FuncCall
+     * @return List&lt;String&gt; The names, unmodifiable
+     */
+    private static List<String> names(List<? extends Node> parts) {
+        if (parts == null || parts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String[] names = new String[parts.size()];
+        for (int i = 0; i < names.length; i++) {
+            Node part = parts.get(i);
+            if (part instanceof A_Star) {
+                names[i] = "*";
+            } else if (part instanceof Value value) {
+                names[i] = value.val.str;
+            } else {
+                names[i] = String.valueOf(part);
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Walks a parse tree and passes the references to the consumer
+     */
+    private static final class Collector implements NodeVisitor<NodeWalker.Action> {
+        private final Consumer<SqlReference> consumer;
+
+        /**
+         * The names of the common table expressions that are in scope, the innermost last
+         */
+        private final ArrayList<String> cteNames = new ArrayList<>();
+
+        /**
+         * The WITH clauses that have been examined before their statement
+         */
+        private final ArrayList<WithClause> examinedWithClauses = new ArrayList<>();
+
+        /**
+         * The target tables of the INSERT, UPDATE, DELETE and MERGE statements that are being walked, the innermost
+         * last. A target table cannot be a common table expression.
+         */
+        private final ArrayList<RangeVar> targetTables = new ArrayList<>();
+
+        /**
+         * The statement whose WITH clause has been examined and that is about to be walked
+         */
+        private Node statementToWalk;
+
+        /**
+         * Constructor
+         *
+         * @param consumer
+         *            Receives the references
+         */
+        Collector(Consumer<SqlReference> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public NodeWalker.Action visitRangeVar(RangeVar node) {
+            if (node.relname == null
+                    || (node.schemaname == null && node.catalogname == null && isCte(node.relname)
+                            && !containsInstance(targetTables, node))) {
+                return NodeWalker.Action.CONTINUE;
+            }
+            String[] names;
+            if (node.catalogname != null) {
+                names = new String[] { node.catalogname, node.schemaname, node.relname };
+            } else if (node.schemaname != null) {
+                names = new String[] { node.schemaname, node.relname };
+            } else {
+                names = new String[] { node.relname };
+            }
+            consumer.accept(new SqlReference(SqlReference.Kind.TABLE,
+                    Collections.unmodifiableList(Arrays.asList(names)), node.location));
+            return NodeWalker.Action.CONTINUE;
+        }
+
+        @Override
+        public NodeWalker.Action visitColumnRef(ColumnRef node) {
+            consumer.accept(new SqlReference(SqlReference.Kind.COLUMN, names(node.fields), node.location));
+            return NodeWalker.Action.CONTINUE;
+        }
+
+        @Override
+        public NodeWalker.Action visitFuncCall(FuncCall node) {
+            consumer.accept(new SqlReference(SqlReference.Kind.FUNCTION, names(node.funcname), node.location));
+            return NodeWalker.Action.CONTINUE;
+        }
+
+        @Override
+        public NodeWalker.Action visitWithClause(WithClause node) {
+            return containsInstance(examinedWithClauses, node) ? NodeWalker.Action.SKIP_CHILDREN
+                    : NodeWalker.Action.CONTINUE;
+        }
+
+        @Override
+        public NodeWalker.Action visitSelectStmt(SelectStmt node) {
+            return statement(node, node.withClause, null);
+        }
+
+        @Override
+        public NodeWalker.Action visitInsertStmt(InsertStmt node) {
+            return statement(node, node.withClause, node.relation);
+        }
+
+        @Override
+        public NodeWalker.Action visitUpdateStmt(UpdateStmt node) {
+            return statement(node, node.withClause, node.relation);
+        }
+
+        @Override
+        public NodeWalker.Action visitDeleteStmt(DeleteStmt node) {
+            return statement(node, node.withClause, node.relation);
+        }
+
+        @Override
+        public NodeWalker.Action visitMergeStmt(MergeStmt node) {
+            return statement(node, node.withClause, node.relation);
+        }
+
+        /**
+         * Walks a statement with its common table expressions in scope and its target table on the targetTables stack.
+         * The common table expressions are examined before the statement itself. Both are removed from scope again
+         * when the walk of the statement is done.
+         *
+         * @param stmt
+         *            The statement
+         * @param withClause
+         *            The WITH clause of the statement, may be null
+         * @param targetTable
+         *            The target table of an INSERT, UPDATE, DELETE or MERGE statement, null for a SELECT statement
+         * @return NodeWalker.Action CONTINUE if the walker is to walk the statement, SKIP_CHILDREN if it has been
+         *         walked already
+         */
+        private NodeWalker.Action statement(Node stmt, WithClause withClause, RangeVar targetTable) {
+            if (stmt == statementToWalk) {
+                statementToWalk = null;
+                return NodeWalker.Action.CONTINUE;
+            }
+            boolean hasCtes = withClause != null && withClause.ctes != null;
+            if (!hasCtes && targetTable == null) {
+                return NodeWalker.Action.CONTINUE;
+            }
+            int scope = cteNames.size();
+            if (hasCtes) {
+                if (withClause.recursive) {
+                    for (CommonTableExpr cte : withClause.ctes) {
+                        cteNames.add(cte.ctename);
+                    }
+                }
+                for (CommonTableExpr cte : withClause.ctes) {
+                    NodeWalker.walk(cte, this);
+                    if (!withClause.recursive) {
+                        cteNames.add(cte.ctename);
+                    }
+                }
+                examinedWithClauses.add(withClause);
+            }
+            if (targetTable != null) {
+                targetTables.add(targetTable);
+            }
+            statementToWalk = stmt;
+            NodeWalker.walk(stmt, this);
+            if (targetTable != null) {
+                targetTables.remove(targetTables.size() - 1);
+            }
+            if (hasCtes) {
+                examinedWithClauses.remove(examinedWithClauses.size() - 1);
+                cteNames.subList(scope, cteNames.size()).clear();
+            }
+            return NodeWalker.Action.SKIP_CHILDREN;
+        }
+
+        /**
+         * Tells if an unqualified relation name refers to a common table expression that is in scope
+         *
+         * @param relname
+         *            The relation name
+         * @return boolean true if a common table expression with that name is in scope
+         */
+        private boolean isCte(String relname) {
+            for (int i = cteNames.size() - 1; i >= 0; i--) {
+                if (relname.equals(cteNames.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Looks for an object by identity, as nodes compare structurally
+         *
+         * @param list
+         *            The list to search
+         * @param object
+         *            The object to look for
+         * @return boolean true if list contains the very object
+         */
+        private static boolean containsInstance(List<?> list, Object object) {
+            for (int i = list.size() - 1; i >= 0; i--) {
+                if (list.get(i) == object) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.util.Arrays;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Finds the statement boundaries in an sql script, so the statements can be parsed separately.
+ * <p>
+ * The script is tokenized by the {@link SqlTokenizer}, so semicolons in string literals, quoted identifiers, dollar
+ * quoted strings and comments are never mistaken for statement boundaries. A semicolon only ends a statement at the
+ * top level: not within parentheses and not within the BEGIN ATOMIC ... END body of a CREATE FUNCTION or CREATE
+ * PROCEDURE statement. The latter is recognised the way psql does it (see /postgresql-19/src/fe_utils/psqlscan.l).
+ * </p>
+ * <p>
+ * A SqlScriptSplitter is not thread safe.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlScriptSplitter {
+    private static final Logger log = LogManager.getLogger(SqlScriptSplitter.class);
+
+    private static final int SEMICOLON = ';';
+    private static final int OPEN_PARENTHESIS = '(';
+    private static final int CLOSE_PARENTHESIS = ')';
+
+    private final SqlTokenizer tokenizer = new SqlTokenizer().setErrorReporter(error -> {
+        /* errors will be reported by the parser */
+    });
+
+    /**
+     * Constructor
+     */
+    public SqlScriptSplitter() {
+        // nothing to initialize
+    }
+
+    /**
+     * Splits the script into statements.
+     * <p>
+     * The returned array contains the end offset (exclusive) of every statement, so statement i runs from
+     * <code>i == 0 ? 0 : result[i - 1]</code> up to <code>result[i]</code>. A statement includes its terminating
+     * semicolon and the whitespace and comments before it. Text after the last semicolon only forms a statement of its
+     * own if it contains something else than whitespace and comments. Otherwise it is added to the last statement.
+     * </p>
+     * <p>
+     * If the scanner finds an error, such as an unterminated quoted string, the remainder of the script from the start
+     * of the statement that contains the error is returned as a single statement, so the parser can report the error.
+     * </p>
+     *
+     * @param script
+     *            The sql script to split
+     * @return int[] The end offsets of the statements. The last one is always script.length(), unless the script is
+     *         empty.
+     */
+    public int[] split(CharSequence script) {
+        if (script.length() == 0) {
+            return new int[0];
+        }
+        int[] ends = new int[16];
+        int count = 0;
+        tokenizer.reset(script);
+        try {
+            int parenthesisDepth = 0;
+            int beginDepth = 0;
+            int tokenIndex = 0;
+            ScanKeyword[] leadingKeywords = new ScanKeyword[4];
+            boolean inCreateRoutine = false;
+            boolean tokensAfterLastEnd = false;
+            while (tokenizer.next()) {
+                tokensAfterLastEnd = true;
+                int token = tokenizer.tokenCode();
+                ScanKeyword keyword = tokenizer.keyword();
+                if (tokenIndex < leadingKeywords.length) {
+                    leadingKeywords[tokenIndex] = keyword;
+                    inCreateRoutine = isCreateRoutine(leadingKeywords, tokenIndex);
+                }
+                tokenIndex++;
+                if (token == SEMICOLON) {
+                    if (parenthesisDepth == 0 && beginDepth == 0) {
+                        if (count == ends.length) {
+                            ends = Arrays.copyOf(ends, count * 2);
+                        }
+                        ends[count++] = tokenizer.endOffset();
+                        tokenIndex = 0;
+                        inCreateRoutine = false;
+                        tokensAfterLastEnd = false;
+                    }
+                    continue;
+                }
+                if (token == OPEN_PARENTHESIS) {
+                    parenthesisDepth++;
+                } else if (token == CLOSE_PARENTHESIS) {
+                    if (parenthesisDepth > 0) {
+                        parenthesisDepth--;
+                    }
+                } else if (inCreateRoutine && parenthesisDepth == 0 && keyword != null) {
+                    switch (keyword) {
+                    case BEGIN_P:
+                        beginDepth++;
+                        break;
+                    case CASE:
+                        if (beginDepth > 0) {
+                            beginDepth++;
+                        }
+                        break;
+                    case END_P:
+                        if (beginDepth > 0) {
+                            beginDepth--;
+                        }
+                        break;
+                    default:
+                        break;
+                    }
+                }
+            }
+            if (tokenizer.isErrorReported()) {
+                log.debug("scan error in script, the remainder will be parsed as a single statement");
+                tokensAfterLastEnd = true;
+            }
+            if (count == 0 || tokensAfterLastEnd) {
+                if (count == ends.length) {
+                    ends = Arrays.copyOf(ends, count + 1);
+                }
+                count++;
+            }
+            ends[count - 1] = script.length();
+            return Arrays.copyOf(ends, count);
+        } finally {
+            tokenizer.reset("");
+        }
+    }
+
+    /**
+     * Checks if the statement starts with CREATE [OR REPLACE] FUNCTION or CREATE [OR REPLACE] PROCEDURE
+     *
+     * @param leadingKeywords
+     *            The keywords at the start of the statement (null if the token is not a keyword)
+     * @param lastIndex
+     *            Index of the last token that is filled in in leadingKeywords
+     * @return boolean true if the statement is known to create a function or procedure
+     */
+    private static boolean isCreateRoutine(ScanKeyword[] leadingKeywords, int lastIndex) {
+        if (leadingKeywords[0] != ScanKeyword.CREATE || lastIndex < 1) {
+            return false;
+        }
+        if (leadingKeywords[1] == ScanKeyword.FUNCTION || leadingKeywords[1] == ScanKeyword.PROCEDURE) {
+            return true;
+        }
+        return lastIndex >= 3 && leadingKeywords[1] == ScanKeyword.OR && leadingKeywords[2] == ScanKeyword.REPLACE
+                && (leadingKeywords[3] == ScanKeyword.FUNCTION || leadingKeywords[3] == ScanKeyword.PROCEDURE);
+    }
+}
@@ -0,0 +1,994 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.splendiddata.sqlparser.enums.CmdType;
+import com.splendiddata.sqlparser.enums.LockClauseStrength;
+import com.splendiddata.sqlparser.enums.NodeTag;
+import com.splendiddata.sqlparser.structure.CommonTableExpr;
+import com.splendiddata.sqlparser.structure.DeleteStmt;
+import com.splendiddata.sqlparser.structure.FuncCall;
+import com.splendiddata.sqlparser.structure.InsertStmt;
+import com.splendiddata.sqlparser.structure.MergeStmt;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.OnConflictClause;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+import com.splendiddata.sqlparser.structure.UpdateStmt;
+
+/**
+ * Classifies an sql statement without building its parse tree if possible.
+ * <p>
+ * The statement is tokenized by the {@link SqlTokenizer}. The leading keywords tell what kind of statement it is and
+ * the tokens of the query part (the statement itself for select and data modifying statements, the query of an
+ * EXPLAIN, PREPARE, DECLARE CURSOR, CREATE TABLE AS, CREATE VIEW, COPY (query) et cetera) are examined for a data
+ * modifying common table expression, a locking clause and function calls. If the tokens do not tell for sure, the
+ * statement is parsed by a {@link SqlParser} and the answer is taken from the parse tree. That happens for example
+ * for most ALTER and CREATE statements and for a keyword followed by a parenthesis where the keyword may be a function
+ * name or part of the syntax, like <code>xmlelement(...)</code> or <code>cube(...)</code>.
+ * </p>
+ * <p>
+ * The classifier does not validate the statement. An invalid statement may be classified without an error. If a full
+ * parse is needed and it fails, the errors are reported to the {@link #setErrorReporter(SqlParserErrorReporter) error
+ * reporter} and null is returned.
+ * </p>
+ * <p>
+ * A SqlStatementClassifier is not thread safe.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlStatementClassifier {
+    private static final Logger log = LogManager.getLogger(SqlStatementClassifier.class);
+
+    private static final int SEMICOLON = ';';
+    private static final int OPEN_PARENTHESIS = '(';
+    private static final int CLOSE_PARENTHESIS = ')';
+    private static final int DOT = '.';
+    private static final int COMMA = ',';
+    private static final int EQUALS = '=';
+
+    /**
+     * Result of {@link #skipWithClause(int)} if the WITH keyword does not start a list of common table expressions
+     */
+    private static final int NO_WITH_CLAUSE = -1;
+
+    /**
+     * Result of {@link #skipWithClause(int)} and {@link #examineParenthesis(int)} if the tokens do not give a
+     * conclusive answer
+     */
+    private static final int AMBIGUOUS = -2;
+
+    /**
+     * Single character tokens after which an identifier followed by a parenthesis can only be a function call
+     */
+    private static final String CALL_CONTEXT_CHARACTERS = "+-*/%^<>=,([:";
+
+    /**
+     * Tokens that are not keywords
+     */
+    private static final Set<ScanKeyword> NON_KEYWORDS = EnumSet.of(ScanKeyword.IDENT, ScanKeyword.UIDENT,
+            ScanKeyword.FCONST, ScanKeyword.SCONST, ScanKeyword.USCONST, ScanKeyword.BCONST, ScanKeyword.XCONST,
+            ScanKeyword.Op, ScanKeyword.ICONST, ScanKeyword.PARAM, ScanKeyword.TYPECAST, ScanKeyword.DOT_DOT,
+            ScanKeyword.COLON_EQUALS, ScanKeyword.EQUALS_GREATER, ScanKeyword.LESS_EQUALS, ScanKeyword.GREATER_EQUALS,
+            ScanKeyword.NOT_EQUALS);
+
+    /**
+     * Keywords that the grammar turns into a FuncCall when they are followed by a parenthesis
+     */
+    private static final Set<ScanKeyword> FUNCTION_KEYWORDS = EnumSet.of(ScanKeyword.EXTRACT, ScanKeyword.LEFT,
+            ScanKeyword.NORMALIZE, ScanKeyword.OVERLAY, ScanKeyword.POSITION, ScanKeyword.REPLACE, ScanKeyword.RIGHT,
+            ScanKeyword.SUBSTRING, ScanKeyword.TREAT, ScanKeyword.TRIM, ScanKeyword.XMLEXISTS);
+
+    /**
+     * Keywords that are followed by a parenthesis as part of the syntax, not as a function name
+     */
+    private static final Set<ScanKeyword> SYNTAX_KEYWORDS = EnumSet.of(ScanKeyword.SELECT, ScanKeyword.VALUES,
+            ScanKeyword.IN_P, ScanKeyword.EXISTS, ScanKeyword.ANY, ScanKeyword.ALL, ScanKeyword.SOME,
+            ScanKeyword.ARRAY, ScanKeyword.ROW, ScanKeyword.OVER, ScanKeyword.FILTER, ScanKeyword.USING,
+            ScanKeyword.ON, ScanKeyword.WHERE, ScanKeyword.AND, ScanKeyword.OR, ScanKeyword.NOT, ScanKeyword.THEN,
+            ScanKeyword.ELSE, ScanKeyword.WHEN, ScanKeyword.CASE, ScanKeyword.BY, ScanKeyword.HAVING, ScanKeyword.AS,
+            ScanKeyword.FROM, ScanKeyword.JOIN, ScanKeyword.LATERAL_P, ScanKeyword.ONLY, ScanKeyword.SETS,
+            ScanKeyword.CAST, ScanKeyword.COALESCE, ScanKeyword.GREATEST, ScanKeyword.LEAST, ScanKeyword.NULLIF,
+            ScanKeyword.GROUPING, ScanKeyword.RETURNING, ScanKeyword.WITH, ScanKeyword.RECURSIVE,
+            ScanKeyword.CONFLICT, ScanKeyword.INSERT, ScanKeyword.DISTINCT, ScanKeyword.UNION, ScanKeyword.INTERSECT,
+            ScanKeyword.EXCEPT, ScanKeyword.LIMIT, ScanKeyword.OFFSET, ScanKeyword.FIRST_P, ScanKeyword.NEXT,
+            ScanKeyword.BETWEEN, ScanKeyword.LIKE, ScanKeyword.ILIKE, ScanKeyword.SIMILAR, ScanKeyword.TO,
+            ScanKeyword.ZONE, ScanKeyword.REPEATABLE, ScanKeyword.OPERATOR, ScanKeyword.MATERIALIZED,
+            ScanKeyword.GROUP_P, ScanKeyword.ESCAPE, ScanKeyword.BIT, ScanKeyword.CHARACTER, ScanKeyword.CHAR_P,
+            ScanKeyword.DEC, ScanKeyword.DECIMAL_P, ScanKeyword.FLOAT_P, ScanKeyword.NUMERIC, ScanKeyword.TIME,
+            ScanKeyword.TIMESTAMP, ScanKeyword.INTERVAL, ScanKeyword.VARCHAR, ScanKeyword.VARYING, ScanKeyword.NCHAR);
+
+    /**
+     * Keywords after which a (qualified) identifier followed by a parenthesis can only be a function call
+     */
+    private static final Set<ScanKeyword> CALL_CONTEXT_KEYWORDS = EnumSet.of(ScanKeyword.Op,
+            ScanKeyword.LESS_EQUALS, ScanKeyword.GREATER_EQUALS, ScanKeyword.NOT_EQUALS, ScanKeyword.EQUALS_GREATER,
+            ScanKeyword.COLON_EQUALS, ScanKeyword.SELECT, ScanKeyword.DISTINCT, ScanKeyword.ALL, ScanKeyword.WHERE,
+            ScanKeyword.AND, ScanKeyword.OR, ScanKeyword.NOT, ScanKeyword.THEN, ScanKeyword.ELSE, ScanKeyword.WHEN,
+            ScanKeyword.CASE, ScanKeyword.HAVING, ScanKeyword.RETURNING, ScanKeyword.BY, ScanKeyword.FROM,
+            ScanKeyword.JOIN, ScanKeyword.LATERAL_P, ScanKeyword.USING, ScanKeyword.ON, ScanKeyword.BETWEEN,
+            ScanKeyword.LIKE, ScanKeyword.ILIKE, ScanKeyword.LIMIT, ScanKeyword.OFFSET, ScanKeyword.FIRST_P,
+            ScanKeyword.NEXT, ScanKeyword.CALL, ScanKeyword.ESCAPE, ScanKeyword.SYMMETRIC, ScanKeyword.ASYMMETRIC,
+            ScanKeyword.DEFAULT);
+
+    /**
+     * Tokens after which a (qualified) identifier followed by a parenthesis is not a function call, but for example a
+     * table alias with column names or a table name with a column list
+     */
+    private static final Set<ScanKeyword> NO_CALL_CONTEXT_KEYWORDS = EnumSet.of(ScanKeyword.AS, ScanKeyword.INTO,
+            ScanKeyword.TYPECAST, ScanKeyword.IDENT, ScanKeyword.UIDENT, ScanKeyword.TABLESAMPLE, ScanKeyword.WITH,
+            ScanKeyword.RECURSIVE);
+
+    /**
+     * Keywords that start a data modifying statement
+     */
+    private static final Set<ScanKeyword> DATA_MODIFYING_KEYWORDS = EnumSet.of(ScanKeyword.INSERT,
+            ScanKeyword.UPDATE, ScanKeyword.DELETE_P, ScanKeyword.MERGE);
+
+    private final SqlTokenizer tokenizer = new SqlTokenizer().setErrorReporter(error -> {
+        /* errors will be reported by the parser */
+    });
+
+    private SqlParserErrorReporter errorReporter;
+    private SqlParser parser;
+    private SqlScriptSplitter splitter;
+
+    /*
+     * The tokens of the statement that is being classified
+     */
+    private int tokenCount;
+    private int[] codes = new int[64];
+    private ScanKeyword[] keywords = new ScanKeyword[64];
+    /** index of the matching parenthesis */
+    private int[] partners = new int[64];
+    /** parentheses that are known not to belong to a function call */
+    private boolean[] noCall = new boolean[64];
+
+    /*
+     * The classification so far
+     */
+    private NodeTag nodeTag;
+    private CmdType commandType;
+    private int queryStart;
+    private boolean writableCte;
+    private boolean lockingClause;
+    private boolean functionCall;
+
+    /**
+     * Constructor
+     */
+    public SqlStatementClassifier() {
+        // nothing to initialize
+    }
+
+    /**
+     * Sets the error reporter that will receive the errors of the parser if a full parse is needed. If not set, the
+     * errors are logged into the log4j logger.
+     *
+     * @param errorReporter
+     *            The error reporter to use
+     * @return SqlStatementClassifier this
+     */
+    public SqlStatementClassifier setErrorReporter(SqlParserErrorReporter errorReporter) {
+        this.errorReporter = errorReporter;
+        if (parser != null) {
+            parser.setErrorReporter(errorReporter);
+        }
+        return this;
+    }
+
+    /**
+     * Classifies the first statement in sql
+     *
+     * @param sql
+     *            The sql text. Anything after the first statement is ignored.
+     * @return StatementClassification The classification of the first statement or null if sql doesn't contain a
+     *         statement or if it had to be parsed and the parse failed
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     */
+    public StatementClassification classify(CharSequence sql) throws IOException {
+        try {
+            if (!readStatement(sql)) {
+                return tokenCount == 0 ? null : classifyByParsing(sql);
+            }
+            if (!classifyByPrefix() || !examineTokens()) {
+                return classifyByParsing(sql);
+            }
+            return new StatementClassification(nodeTag, commandType, writableCte, lockingClause, functionCall, false);
+        } finally {
+            Arrays.fill(keywords, 0, tokenCount, null);
+        }
+    }
+
+    /**
+     * Reads the tokens of the first statement into {@link #codes}, {@link #keywords} and {@link #partners}
+     *
+     * @param sql
+     *            The text to read
+     * @return boolean true if the statement can be examined, false if the text is empty or the tokens are not
+     *         conclusive, like for example when the scanner found an error or parentheses do not match
+     */
+    private boolean readStatement(CharSequence sql) {
+        tokenCount = 0;
+        int[] openParentheses = new int[8];
+        int depth = 0;
+        tokenizer.reset(sql);
+        try {
+            while (tokenizer.next()) {
+                int code = tokenizer.tokenCode();
+                if (code == SEMICOLON && depth == 0) {
+                    if (tokenCount > 0) {
+                        break;
+                    }
+                    continue;
+                }
+                if (tokenCount == codes.length) {
+                    int size = tokenCount * 2;
+                    codes = Arrays.copyOf(codes, size);
+                    keywords = Arrays.copyOf(keywords, size);
+                    partners = Arrays.copyOf(partners, size);
+                    noCall = Arrays.copyOf(noCall, size);
+                }
+                codes[tokenCount] = code;
+                keywords[tokenCount] = tokenizer.keyword();
+                noCall[tokenCount] = false;
+                if (code == OPEN_PARENTHESIS) {
+                    if (depth == openParentheses.length) {
+                        openParentheses = Arrays.copyOf(openParentheses, depth * 2);
+                    }
+                    openParentheses[depth++] = tokenCount;
+                } else if (code == CLOSE_PARENTHESIS) {
+                    if (depth == 0) {
+                        log.debug("unbalanced parentheses, the statement needs to be parsed");
+                        return false;
+                    }
+                    int open = openParentheses[--depth];
+                    partners[open] = tokenCount;
+                    partners[tokenCount] = open;
+                }
+                tokenCount++;
+            }
+            if (tokenizer.isErrorReported() || depth != 0) {
+                log.debug("scan error or unbalanced parentheses, the statement needs to be parsed");
+                return false;
+            }
+            return tokenCount > 0;
+        } finally {
+            tokenizer.reset("");
+        }
+    }
+
+    /**
+     * Determines the {@link #nodeTag}, {@link #commandType} and {@link #queryStart} from the leading tokens
+     *
+     * @return boolean true if the statement type is known, false if the statement needs to be parsed
+     */
+    private boolean classifyByPrefix() {
+        nodeTag = null;
+        commandType = CmdType.CMD_UTILITY;
+        queryStart = -1;
+        writableCte = false;
+        lockingClause = false;
+        functionCall = false;
+
+        ScanKeyword first = keywords[0];
+        if (codes[0] == OPEN_PARENTHESIS) {
+            return classifyQuery(0);
+        }
+        if (first == null) {
+            return false;
+        }
+        switch (first) {
+        case SELECT:
+        case VALUES:
+        case TABLE:
+        case WITH:
+        case INSERT:
+        case UPDATE:
+        case DELETE_P:
+        case MERGE:
+            return classifyQuery(0);
+        case EXPLAIN:
+            nodeTag = NodeTag.T_ExplainStmt;
+            return classifyExplain();
+        case CALL:
+            nodeTag = NodeTag.T_CallStmt;
+            queryStart = 1;
+            return true;
+        case PREPARE:
+            if (keywordAt(1) == ScanKeyword.TRANSACTION) {
+                nodeTag = NodeTag.T_TransactionStmt;
+                return true;
+            }
+            nodeTag = NodeTag.T_PrepareStmt;
+            queryStart = nextAtDepth(ScanKeyword.AS, 1);
+            return queryStart > 0;
+        case DECLARE:
+            nodeTag = NodeTag.T_DeclareCursorStmt;
+            queryStart = nextAtDepth(ScanKeyword.FOR, nextAtDepth(ScanKeyword.CURSOR, 1));
+            return queryStart > 0;
+        case BEGIN_P:
+        case START:
+        case COMMIT:
+        case END_P:
+        case ROLLBACK:
+        case ABORT_P:
+        case SAVEPOINT:
+        case RELEASE:
+            nodeTag = NodeTag.T_TransactionStmt;
+            return true;
+        case SET:
+            nodeTag = keywordAt(1) == ScanKeyword.CONSTRAINTS ? NodeTag.T_ConstraintsSetStmt
+                    : NodeTag.T_VariableSetStmt;
+            return true;
+        case RESET:
+            nodeTag = NodeTag.T_VariableSetStmt;
+            return true;
+        case SHOW:
+            nodeTag = NodeTag.T_VariableShowStmt;
+            return true;
+        case LISTEN:
+            nodeTag = NodeTag.T_ListenStmt;
+            return true;
+        case NOTIFY:
+            nodeTag = NodeTag.T_NotifyStmt;
+            return true;
+        case UNLISTEN:
+            nodeTag = NodeTag.T_UnlistenStmt;
+            return true;
+        case DISCARD:
+            nodeTag = NodeTag.T_DiscardStmt;
+            return true;
+        case LOCK_P:
+            nodeTag = NodeTag.T_LockStmt;
+            return true;
+        case DEALLOCATE:
+            nodeTag = NodeTag.T_DeallocateStmt;
+            return true;
+        case FETCH:
+        case MOVE:
+            nodeTag = NodeTag.T_FetchStmt;
+            return true;
+        case CLOSE:
+            nodeTag = NodeTag.T_ClosePortalStmt;
+            return true;
+        case CHECKPOINT:
+            nodeTag = NodeTag.T_CheckPointStmt;
+            return true;
+        case VACUUM:
+        case ANALYZE:
+        case ANALYSE:
+            nodeTag = NodeTag.T_VacuumStmt;
+            return true;
+        case CLUSTER:
+        case REPACK:
+            nodeTag = NodeTag.T_RepackStmt;
+            return true;
+        case TRUNCATE:
+            nodeTag = NodeTag.T_TruncateStmt;
+            return true;
+        case LOAD:
+            nodeTag = NodeTag.T_LoadStmt;
+            return true;
+        case DO:
+            nodeTag = NodeTag.T_DoStmt;
+            return true;
+        case EXECUTE:
+            nodeTag = NodeTag.T_ExecuteStmt;
+            return true;
+        case REFRESH:
+            nodeTag = NodeTag.T_RefreshMatViewStmt;
+            return true;
+        case REINDEX:
+            nodeTag = NodeTag.T_ReindexStmt;
+            return true;
+        case COMMENT:
+            nodeTag = NodeTag.T_CommentStmt;
+            return true;
+        case SECURITY:
+            nodeTag = NodeTag.T_SecLabelStmt;
+            return true;
+        case COPY:
+            nodeTag = NodeTag.T_CopyStmt;
+            if (tokenCount > 1 && codes[1] == OPEN_PARENTHESIS) {
+                queryStart = 2;
+            } else if (nextAtDepth(ScanKeyword.FROM, 1) > 0) {
+                queryStart = nextAtDepth(ScanKeyword.WHERE, 1);
+            }
+            return true;
+        case GRANT:
+        case REVOKE:
+            nodeTag = nextAtDepth(ScanKeyword.ON, 1) > 0 ? NodeTag.T_GrantStmt : NodeTag.T_GrantRoleStmt;
+            return true;
+        case DROP:
+            return classifyDrop();
+        case CREATE:
+            return classifyCreate();
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Classifies a select or data modifying statement that starts at index start
+     *
+     * @param start
+     *            Index of the first token of the query
+     * @return boolean true if the statement type is known
+     */
+    private boolean classifyQuery(int start) {
+        queryStart = start;
+        int main = start;
+        if (keywords[start] == ScanKeyword.WITH) {
+            main = skipWithClause(start);
+            if (main < 0) {
+                return false;
+            }
+        }
+        ScanKeyword keyword = keywordAt(main);
+        if (main < tokenCount && codes[main] == OPEN_PARENTHESIS || keyword == ScanKeyword.SELECT
+                || keyword == ScanKeyword.VALUES || keyword == ScanKeyword.TABLE) {
+            nodeTag = NodeTag.T_SelectStmt;
+            commandType = CmdType.CMD_SELECT;
+            int depth = 0;
+            for (int i = start; i < tokenCount; i++) {
+                if (codes[i] == OPEN_PARENTHESIS) {
+                    depth++;
+                } else if (codes[i] == CLOSE_PARENTHESIS) {
+                    depth--;
+                } else if (keywords[i] == ScanKeyword.INTO && i > 0 && keywords[i - 1] != ScanKeyword.INSERT
+                        && keywords[i - 1] != ScanKeyword.MERGE) {
+                    if (depth > 0) {
+                        /*
+                         * Only the INTO of the outer select makes it a SELECT ... INTO, which creates a table
+                         */
+                        log.debug("INTO within parentheses, the statement needs to be parsed");
+                        return false;
+                    }
+                    commandType = CmdType.CMD_UTILITY;
+                    break;
+                }
+            }
+            return true;
+        }
+        if (keyword == null) {
+            return false;
+        }
+        switch (keyword) {
+        case INSERT:
+            nodeTag = NodeTag.T_InsertStmt;
+            commandType = CmdType.CMD_INSERT;
+            return true;
+        case UPDATE:
+            nodeTag = NodeTag.T_UpdateStmt;
+            commandType = CmdType.CMD_UPDATE;
+            return true;
+        case DELETE_P:
+            nodeTag = NodeTag.T_DeleteStmt;
+            commandType = CmdType.CMD_DELETE;
+            return true;
+        case MERGE:
+            nodeTag = NodeTag.T_MergeStmt;
+            commandType = CmdType.CMD_MERGE;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Classifies EXPLAIN [ANALYZE] [VERBOSE] statement and EXPLAIN (options) statement
+     *
+     * @return boolean true if the position of the explained statement is known
+     */
+    private boolean classifyExplain() {
+        int i = 1;
+        if (i < tokenCount && codes[i] == OPEN_PARENTHESIS) {
+            i = partners[i] + 1;
+        } else {
+            if (keywordAt(i) == ScanKeyword.ANALYZE || keywordAt(i) == ScanKeyword.ANALYSE) {
+                i++;
+            }
+            if (keywordAt(i) == ScanKeyword.VERBOSE) {
+                i++;
+            }
+        }
+        queryStart = i;
+        return i < tokenCount;
+    }
+
+    /**
+     * Classifies a DROP statement
+     *
+     * @return boolean true
+     */
+    private boolean classifyDrop() {
+        ScanKeyword objectType = keywordAt(1);
+        if (objectType == null) {
+            nodeTag = NodeTag.T_DropStmt;
+            return true;
+        }
+        switch (objectType) {
+        case DATABASE:
+            nodeTag = NodeTag.T_DropdbStmt;
+            break;
+        case USER:
+            nodeTag = keywordAt(2) == ScanKeyword.MAPPING ? NodeTag.T_DropUserMappingStmt : NodeTag.T_DropRoleStmt;
+            break;
+        case ROLE:
+        case GROUP_P:
+            nodeTag = NodeTag.T_DropRoleStmt;
+            break;
+        case TABLESPACE:
+            nodeTag = NodeTag.T_DropTableSpaceStmt;
+            break;
+        case OWNED:
+            nodeTag = NodeTag.T_DropOwnedStmt;
+            break;
+        case SUBSCRIPTION:
+            nodeTag = NodeTag.T_DropSubscriptionStmt;
+            break;
+        default:
+            nodeTag = NodeTag.T_DropStmt;
+            break;
+        }
+        return true;
+    }
+
+    /**
+     * Classifies the CREATE statements that are recognised by their leading keywords
+     *
+     * @return boolean true if the statement type is known
+     */
+    private boolean classifyCreate() {
+        int i = 1;
+        boolean orReplace = false;
+        if (keywordAt(i) == ScanKeyword.OR && keywordAt(i + 1) == ScanKeyword.REPLACE) {
+            orReplace = true;
+            i += 2;
+        }
+        boolean persistence = false;
+        while (keywordAt(i) == ScanKeyword.TEMP || keywordAt(i) == ScanKeyword.TEMPORARY
+                || keywordAt(i) == ScanKeyword.LOCAL || keywordAt(i) == ScanKeyword.GLOBAL
+                || keywordAt(i) == ScanKeyword.UNLOGGED) {
+            persistence = true;
+            i++;
+        }
+        ScanKeyword objectType = keywordAt(i);
+        if (objectType == ScanKeyword.RECURSIVE && keywordAt(i + 1) == ScanKeyword.VIEW) {
+            objectType = ScanKeyword.VIEW;
+            i++;
+        }
+        if (objectType == null || orReplace && objectType != ScanKeyword.VIEW) {
+            return false;
+        }
+        switch (objectType) {
+        case TABLE:
+            queryStart = nextAtDepth(ScanKeyword.AS, i + 1);
+            nodeTag = queryStart > 0 ? NodeTag.T_CreateTableAsStmt : NodeTag.T_CreateStmt;
+            return true;
+        case VIEW:
+            nodeTag = NodeTag.T_ViewStmt;
+            queryStart = nextAtDepth(ScanKeyword.AS, i + 1);
+            return queryStart > 0;
+        case SEQUENCE:
+            nodeTag = NodeTag.T_CreateSeqStmt;
+            return true;
+        default:
+            break;
+        }
+        if (persistence) {
+            return false;
+        }
+        switch (objectType) {
+        case MATERIALIZED:
+            nodeTag = NodeTag.T_CreateTableAsStmt;
+            queryStart = nextAtDepth(ScanKeyword.AS, i + 1);
+            return keywordAt(i + 1) == ScanKeyword.VIEW && queryStart > 0;
+        case DATABASE:
+            nodeTag = NodeTag.T_CreatedbStmt;
+            return true;
+        case EXTENSION:
+            nodeTag = NodeTag.T_CreateExtensionStmt;
+            return true;
+        case TABLESPACE:
+            nodeTag = NodeTag.T_CreateTableSpaceStmt;
+            return true;
+        case SCHEMA:
+            /*
+             * Schema elements may be anything
+             */
+            nodeTag = NodeTag.T_CreateSchemaStmt;
+            return nextAtDepth(ScanKeyword.CREATE, i + 1) < 0 && nextAtDepth(ScanKeyword.GRANT, i + 1) < 0;
+        case USER:
+            nodeTag = keywordAt(i + 1) == ScanKeyword.MAPPING ? NodeTag.T_CreateUserMappingStmt
+                    : NodeTag.T_CreateRoleStmt;
+            return true;
+        case ROLE:
+        case GROUP_P:
+            nodeTag = NodeTag.T_CreateRoleStmt;
+            return true;
+        case DOMAIN_P:
+            nodeTag = NodeTag.T_CreateDomainStmt;
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Examines the tokens for function calls and, in the query part, for data modifying common table expressions and
+     * locking clauses
+     *
+     * @return boolean true if the tokens are conclusive, false if the statement needs to be parsed
+     */
+    private boolean examineTokens() {
+        boolean ambiguous = false;
+        boolean likeSeen = false;
+        for (int i = 0; i < tokenCount; i++) {
+            boolean inQuery = queryStart >= 0 && i >= queryStart;
+            ScanKeyword keyword = keywords[i];
+            if (codes[i] == OPEN_PARENTHESIS) {
+                if (!inQuery) {
+                    /*
+                     * Option lists, column lists and argument types precede the query. Other statements may contain
+                     * expressions in parentheses (for example in a DEFAULT or CHECK clause).
+                     */
+                    if (queryStart < 0) {
+                        return false;
+                    }
+                    if (partners[i] < queryStart) {
+                        i = partners[i];
+                    }
+                    /*
+                     * else the parenthesis is around the query, as in COPY (query) TO
+                     */
+                    continue;
+                }
+                int result = examineParenthesis(i);
+                if (result == AMBIGUOUS) {
+                    ambiguous = true;
+                } else if (result > 0) {
+                    functionCall = true;
+                }
+                continue;
+            }
+            if (keyword == null) {
+                continue;
+            }
+            switch (keyword) {
+            case LIKE:
+            case ILIKE:
+                likeSeen = true;
+                break;
+            case ESCAPE:
+                /*
+                 * ESCAPE is also a COPY option
+                 */
+                functionCall |= likeSeen;
+                break;
+            case SIMILAR:
+            case OVERLAPS:
+            case NORMALIZED:
+            case SYSTEM_USER:
+                functionCall = true;
+                break;
+            case AT:
+                functionCall |= keywordAt(i + 1) == ScanKeyword.TIME || keywordAt(i + 1) == ScanKeyword.LOCAL;
+                break;
+            case COLLATION:
+                functionCall |= keywordAt(i + 1) == ScanKeyword.FOR && i + 2 < tokenCount
+                        && codes[i + 2] == OPEN_PARENTHESIS;
+                break;
+            case WITH:
+                if (inQuery && skipWithClause(i) == AMBIGUOUS) {
+                    return false;
+                }
+                break;
+            case FOR:
+                if (inQuery) {
+                    ScanKeyword next = keywordAt(i + 1);
+                    lockingClause |= next == ScanKeyword.UPDATE || next == ScanKeyword.SHARE
+                            || next == ScanKeyword.NO && keywordAt(i + 2) == ScanKeyword.KEY
+                            || next == ScanKeyword.KEY && keywordAt(i + 2) == ScanKeyword.SHARE;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return !ambiguous || functionCall;
+    }
+
+    /**
+     * Determines if the parenthesis at index open belongs to a function call
+     *
+     * @param open
+     *            Index of an opening parenthesis in the query part of the statement
+     * @return int 1 for a function call, 0 if it is no function call or {@link #AMBIGUOUS}
+     */
+    private int examineParenthesis(int open) {
+        if (open == 0 || noCall[open]) {
+            return 0;
+        }
+        int previous = open - 1;
+        ScanKeyword previousKeyword = keywords[previous];
+        if (previousKeyword == null) {
+            return 0;
+        }
+        if (FUNCTION_KEYWORDS.contains(previousKeyword)) {
+            return 1;
+        }
+        if (previousKeyword == ScanKeyword.SET) {
+            /*
+             * SET (column, ...) = ... in an UPDATE or ON CONFLICT DO UPDATE, otherwise a function that is named set
+             */
+            int close = partners[open];
+            return close + 1 < tokenCount && codes[close + 1] == EQUALS ? 0 : 1;
+        }
+        if (previousKeyword != ScanKeyword.IDENT && previousKeyword != ScanKeyword.UIDENT) {
+            return SYNTAX_KEYWORDS.contains(previousKeyword) || NON_KEYWORDS.contains(previousKeyword) ? 0
+                    : AMBIGUOUS;
+        }
+
+        /*
+         * An identifier, possibly qualified, followed by a parenthesis
+         */
+        int nameStart = previous;
+        while (nameStart >= 2 && codes[nameStart - 1] == DOT && (keywords[nameStart - 2] == ScanKeyword.IDENT
+                || keywords[nameStart - 2] == ScanKeyword.UIDENT)) {
+            nameStart -= 2;
+        }
+        int close = partners[open];
+        if (keywordAt(close + 1) == ScanKeyword.SCONST) {
+            /*
+             * A typed literal, like mytype(3) 'value'
+             */
+            return 0;
+        }
+        if (nameStart == 0) {
+            return AMBIGUOUS;
+        }
+        int before = codes[nameStart - 1];
+        ScanKeyword beforeKeyword = keywords[nameStart - 1];
+        if (beforeKeyword == null) {
+            if (before == CLOSE_PARENTHESIS) {
+                /*
+                 * An alias with column definitions after a function call
+                 */
+                return 0;
+            }
+            return CALL_CONTEXT_CHARACTERS.indexOf(before) >= 0 ? 1 : AMBIGUOUS;
+        }
+        if (NO_CALL_CONTEXT_KEYWORDS.contains(beforeKeyword)) {
+            return 0;
+        }
+        return CALL_CONTEXT_KEYWORDS.contains(beforeKeyword) ? 1 : AMBIGUOUS;
+    }
+
+    /**
+     * Skips the list of common table expressions after the WITH keyword at index with. Data modifying common table
+     * expressions are registered in {@link #writableCte} and the column lists of the common table expressions are
+     * marked as {@link #noCall}.
+     *
+     * @param with
+     *            Index of a WITH keyword
+     * @return int The index of the token after the list of common table expressions, {@link #NO_WITH_CLAUSE} if the
+     *         WITH keyword doesn't start a list of common table expressions (like in WITH ORDINALITY or WITH TIME ZONE)
+     *         or {@link #AMBIGUOUS} if the common table expressions contain a SEARCH or CYCLE clause
+     */
+    private int skipWithClause(int with) {
+        int i = with + 1;
+        if (keywordAt(i) == ScanKeyword.RECURSIVE) {
+            i++;
+        }
+        boolean first = true;
+        for (;;) {
+            /*
+             * name [ ( column, ... ) ] AS [ [ NOT ] MATERIALIZED ] ( statement )
+             */
+            if (keywordAt(i) == null) {
+                return first ? NO_WITH_CLAUSE : AMBIGUOUS;
+            }
+            i++;
+            if (i < tokenCount && codes[i] == OPEN_PARENTHESIS) {
+                noCall[i] = true;
+                i = partners[i] + 1;
+            }
+            if (keywordAt(i) != ScanKeyword.AS) {
+                return first ? NO_WITH_CLAUSE : AMBIGUOUS;
+            }
+            i++;
+            if (keywordAt(i) == ScanKeyword.NOT) {
+                i++;
+            }
+            if (keywordAt(i) == ScanKeyword.MATERIALIZED) {
+                i++;
+            }
+            if (i >= tokenCount || codes[i] != OPEN_PARENTHESIS) {
+                return first ? NO_WITH_CLAUSE : AMBIGUOUS;
+            }
+            first = false;
+            int body = i + 1;
+            if (keywordAt(body) == ScanKeyword.WITH) {
+                body = skipWithClause(body);
+            }
+            if (body >= 0 && DATA_MODIFYING_KEYWORDS.contains(keywordAt(body))) {
+                writableCte = true;
+            }
+            i = partners[i] + 1;
+            ScanKeyword next = keywordAt(i);
+            if (next == ScanKeyword.SEARCH || next == ScanKeyword.CYCLE) {
+                return AMBIGUOUS;
+            }
+            if (i >= tokenCount || codes[i] != COMMA) {
+                return i;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of keyword from index start that is not within parentheses
+     *
+     * @param keyword
+     *            The keyword to look for
+     * @param start
+     *            The index to start searching. If negative, -1 is returned.
+     * @return int The index of the token after the keyword or -1 if not found
+     */
+    private int nextAtDepth(ScanKeyword keyword, int start) {
+        if (start < 0) {
+            return -1;
+        }
+        for (int i = start; i < tokenCount; i++) {
+            if (codes[i] == OPEN_PARENTHESIS) {
+                i = partners[i];
+            } else if (keywords[i] == keyword) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the keyword at index or null if there is no token at index or if it is a single character token
+     *
+     * @param index
+     *            The index of the token
+     * @return ScanKeyword The token at index or null
+     */
+    private ScanKeyword keywordAt(int index) {
+        return index >= 0 && index < tokenCount ? keywords[index] : null;
+    }
+
+    /**
+     * Classifies the first statement in sql by parsing it
+     *
+     * @param sql
+     *            The sql text
+     * @return StatementClassification The classification or null if the parse fails or if sql doesn't contain a
+     *         statement
+     * @throws IOException
+     *             should not happen as no actual I/O is involved
+     */
+    private StatementClassification classifyByParsing(CharSequence sql) throws IOException {
+        if (parser == null) {
+            parser = new SqlParser();
+            if (errorReporter != null) {
+                parser.setErrorReporter(errorReporter);
+            }
+        }
+        if (splitter == null) {
+            splitter = new SqlScriptSplitter();
+        }
+        int start = 0;
+        for (int end : splitter.split(sql)) {
+            if (!parser.parse(sql, start, end)) {
+                return null;
+            }
+            List<Node> result = parser.getResult();
+            if (result != null && !result.isEmpty()) {
+                return classifyStatement(result.get(0));
+            }
+            start = end;
+        }
+        return null;
+    }
+
+    /**
+     * Classifies a parsed statement
+     *
+     * @param stmt
+     *            The statement to classify
+     * @return StatementClassification The classification of stmt
+     */
+    static StatementClassification classifyStatement(Node stmt) {
+        CmdType cmdType;
+        if (stmt instanceof SelectStmt select) {
+            cmdType = select.intoClause == null ? CmdType.CMD_SELECT : CmdType.CMD_UTILITY;
+        } else if (stmt instanceof InsertStmt) {
+            cmdType = CmdType.CMD_INSERT;
+        } else if (stmt instanceof UpdateStmt) {
+            cmdType = CmdType.CMD_UPDATE;
+        } else if (stmt instanceof DeleteStmt) {
+            cmdType = CmdType.CMD_DELETE;
+        } else if (stmt instanceof MergeStmt) {
+            cmdType = CmdType.CMD_MERGE;
+        } else {
+            cmdType = CmdType.CMD_UTILITY;
+        }
+
+        TreeFeatures features = new TreeFeatures();
+        NodeWalker.walk(stmt, features);
+        return new StatementClassification(stmt.type, cmdType, features.writableCte, features.lockingClause,
+                features.functionCall, true);
+    }
+
+    /**
+     * Collects the features of a parse tree that a StatementClassification reports. The walk stops as soon as all of
+     * them have been found.
+     */
+    private static final class TreeFeatures implements NodeVisitor<NodeWalker.Action> {
+        boolean writableCte;
+        boolean lockingClause;
+        boolean functionCall;
+
+        @Override
+        public NodeWalker.Action visitFuncCall(FuncCall node) {
+            functionCall = true;
+            return next();
+        }
+
+        @Override
+        public NodeWalker.Action visitCommonTableExpr(CommonTableExpr cte) {
+            writableCte |= cte.ctequery instanceof InsertStmt || cte.ctequery instanceof UpdateStmt
+                    || cte.ctequery instanceof DeleteStmt || cte.ctequery instanceof MergeStmt;
+            return next();
+        }
+
+        @Override
+        public NodeWalker.Action visitSelectStmt(SelectStmt select) {
+            lockingClause |= select.lockingClause != null && !select.lockingClause.isEmpty();
+            return next();
+        }
+
+        @Override
+        public NodeWalker.Action visitOnConflictClause(OnConflictClause onConflict) {
+            lockingClause |= onConflict.lockStrength != null && onConflict.lockStrength != LockClauseStrength.LCS_NONE;
+            return next();
+        }
+
+        /**
+         * Tells the walker whether there is anything left to look for
+         *
+         * @return NodeWalker.Action STOP if all features have been found, CONTINUE otherwise
+         */
+        private NodeWalker.Action next() {
+            return writableCte && lockingClause && functionCall ? NodeWalker.Action.STOP : NodeWalker.Action.CONTINUE;
+        }
+    }
+}
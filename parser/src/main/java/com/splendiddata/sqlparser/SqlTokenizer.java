@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits sql text into tokens without parsing it.
+ * <p>
+ * The SqlTokenizer is a cursor over the tokens of the core Postgres scanner (scan.l). For every token it provides the
+ * token code, which is the {@link ScanKeyword#getValue() value of a ScanKeyword} or the character itself for single
+ * character tokens such as <code>'('</code> and <code>';'</code>, and the start and end offset of the token in the
+ * text.
+ * </p>
+ * <p>
+ * The tokenizer allocates no objects of its own per token, but the scanner underneath does: it creates a Position
+ * for the start of every token, and the {@link #value()} of an identifier, operator or literal, such as the downcased
+ * name of an identifier or the content of a string literal. {@link #text()} creates a CharSequence only when it is
+ * called.
+ * </p>
+ * <p>
+ * Whitespace and comments are skipped, so there may be gaps between the end of one token and the start of the next.
+ * The tokens are the ones of the core scanner, before the parser's lookahead filter: NOT is never turned into NOT_LA
+ * and a U&amp;'...' literal is returned as USCONST, possibly followed by UESCAPE and SCONST tokens.
+ * </p>
+ * <p>
+ * Typical use:
+ * </p>
+ *
+ * <pre>
+ * SqlTokenizer tokenizer = new SqlTokenizer();
+ * tokenizer.reset(sql);
+ * while (tokenizer.next()) {
+ *     highlight(tokenizer.startOffset(), tokenizer.endOffset(), tokenizer.keyword());
+ * }
+ * </pre>
+ * <p>
+ * A SqlTokenizer is not thread safe, but it can be reused for any number of texts.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class SqlTokenizer {
+    /**
+     * The token code that indicates the end of the text
+     */
+    public static final int EOF = SqlScanner.EOF;
+
+    private final SqlScanner scanner = new SqlScanner(Reader.nullReader());
+    private final CharSequenceReader reader = new CharSequenceReader();
+
+    private CharSequence source = "";
+    private int tokenCode = EOF;
+    private int startOffset;
+    private int endOffset;
+
+    /**
+     * Constructor. Errors are logged, see {@link #setErrorReporter(SqlParserErrorReporter)}.
+     */
+    public SqlTokenizer() {
+        // nothing to initialize
+    }
+
+    /**
+     * Sets the SqlParserErrorReporter that will receive scanner errors, such as an unterminated quoted string
+     *
+     * @param errorReporter
+     *            The SqlParserErrorReporter that will receive scanner errors. null means that errors will be logged
+     *            into the log4j logger
+     * @return SqlTokenizer this
+     */
+    public SqlTokenizer setErrorReporter(SqlParserErrorReporter errorReporter) {
+        scanner.setErrorReporter(errorReporter == null ? scanner : errorReporter);
+        return this;
+    }
+
+    /**
+     * Starts tokenizing sql
+     *
+     * @param sql
+     *            The text to tokenize
+     * @return SqlTokenizer this
+     */
+    public SqlTokenizer reset(CharSequence sql) {
+        return reset(sql, 0, sql.length());
+    }
+
+    /**
+     * Starts tokenizing the part of sql from start (inclusive) to end (exclusive). The offsets of the tokens are
+     * relative to the start of sql, not to start.
+     *
+     * @param sql
+     *            The text of which a part is to be tokenized
+     * @param start
+     *            Offset of the first character to tokenize
+     * @param end
+     *            Offset just beyond the last character to tokenize
+     * @return SqlTokenizer this
+     * @throws IndexOutOfBoundsException
+     *             if start and end do not define a range within sql
+     */
+    public SqlTokenizer reset(CharSequence sql, int start, int end) {
+        scanner.reset(reader.setSource(sql, start, end));
+        scanner.setPositionOffset(start);
+        source = sql;
+        tokenCode = EOF;
+        startOffset = endOffset = start;
+        return this;
+    }
+
+    /**
+     * Moves to the next token
+     *
+     * @return boolean true if there is a next token, false at the end of the text or after a scanner error
+     */
+    public boolean next() {
+        if (scanner.isErrorReported()) {
+            tokenCode = EOF;
+            return false;
+        }
+        scanner.yyextra.initialize();
+        scanner.yylval = null;
+        try {
+            tokenCode = scanner.scan();
+        } catch (IOException e) {
+            throw new AssertionError("No I/O is involved in reading a CharSequence", e);
+        }
+        if (tokenCode == EOF || scanner.isErrorReported()) {
+            tokenCode = EOF;
+            startOffset = endOffset;
+            reader.close();
+            return false;
+        }
+        startOffset = (int) scanner.getStartPos().getOffset();
+        endOffset = (int) scanner.tokenEndOffset();
+        return true;
+    }
+
+    /**
+     * Returns the token code of the current token
+     *
+     * @return int The {@link ScanKeyword#getValue() value of the ScanKeyword}, the character for a single character
+     *         token or {@link #EOF} at the end of the text
+     */
+    public int tokenCode() {
+        return tokenCode;
+    }
+
+    /**
+     * Returns the ScanKeyword of the current token
+     *
+     * @return ScanKeyword The ScanKeyword of the current token or null for a single character token or at the end of
+     *         the text
+     */
+    public ScanKeyword keyword() {
+        return tokenCode == EOF ? null : ScanKeyword.fromValue(tokenCode);
+    }
+
+    /**
+     * Returns the offset of the first character of the current token
+     *
+     * @return int the start offset
+     */
+    public int startOffset() {
+        return startOffset;
+    }
+
+    /**
+     * Returns the offset just beyond the last character of the current token
+     *
+     * @return int the end offset
+     */
+    public int endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Returns the text of the current token as it appears in the tokenized sql, including quotes for a quoted
+     * identifier or string literal
+     *
+     * @return CharSequence the text of the current token
+     */
+    public CharSequence text() {
+        return source.subSequence(startOffset, endOffset);
+    }
+
+    /**
+     * Returns the value of the current token as the parser would get it: for example the downcased name of an
+     * identifier, the content of a string literal, or an Integer for an integer constant
+     *
+     * @return Object the value of the current token or null if the token doesn't have a value
+     */
+    public Object value() {
+        return tokenCode == EOF ? null : scanner.yylval;
+    }
+
+    /**
+     * Tells if the scanner reported an error since the last {@link #reset(CharSequence)}. The tokenizer stops at an
+     * error.
+     *
+     * @return boolean true if an error was reported
+     */
+    public boolean isErrorReported() {
+        return scanner.isErrorReported();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import com.splendiddata.sqlparser.enums.CmdType;
+import com.splendiddata.sqlparser.enums.NodeTag;
+
+/**
+ * The outcome of {@link SqlStatementClassifier#classify(CharSequence)}: what kind of statement it is and a few
+ * properties that matter for routing it
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class StatementClassification {
+    private final NodeTag nodeTag;
+    private final CmdType commandType;
+    private final boolean writableCte;
+    private final boolean lockingClause;
+    private final boolean functionCall;
+    private final boolean parsed;
+
+    /**
+     * Constructor
+     *
+     * @param nodeTag
+     *            The NodeTag of the statement
+     * @param commandType
+     *            The coarse command type
+     * @param writableCte
+     *            true if a common table expression modifies data
+     * @param lockingClause
+     *            true if there is a FOR UPDATE, FOR NO KEY UPDATE, FOR SHARE or FOR KEY SHARE clause
+     * @param functionCall
+     *            true if a function is invoked
+     * @param parsed
+     *            true if a full parse was needed
+     */
+    StatementClassification(NodeTag nodeTag, CmdType commandType, boolean writableCte, boolean lockingClause,
+            boolean functionCall, boolean parsed) {
+        this.nodeTag = nodeTag;
+        this.commandType = commandType;
+        this.writableCte = writableCte;
+        this.lockingClause = lockingClause;
+        this.functionCall = functionCall;
+        this.parsed = parsed;
+    }
+
+    /**
+     * Returns the NodeTag of the statement as the parser would produce it, for example T_SelectStmt for a select
+     * statement, also if it is a SELECT ... INTO.
+     *
+     * @return NodeTag The type of the statement
+     */
+    public NodeTag getNodeTag() {
+        return nodeTag;
+    }
+
+    /**
+     * Returns the coarse command type: CMD_SELECT, CMD_INSERT, CMD_UPDATE, CMD_DELETE or CMD_MERGE for a select or
+     * data modifying statement (also if it starts with a WITH clause), CMD_UTILITY for anything else. A SELECT ... INTO
+     * creates a table, so its command type is CMD_UTILITY.
+     *
+     * @return CmdType The command type
+     */
+    public CmdType getCommandType() {
+        return commandType;
+    }
+
+    /**
+     * Tells if a common table expression (WITH clause) contains an INSERT, UPDATE, DELETE or MERGE statement
+     *
+     * @return boolean true if there is a data modifying common table expression
+     */
+    public boolean hasWritableCte() {
+        return writableCte;
+    }
+
+    /**
+     * Tells if the statement locks rows: SELECT ... FOR UPDATE, FOR NO KEY UPDATE, FOR SHARE or FOR KEY SHARE, or
+     * INSERT ... ON CONFLICT DO SELECT FOR ...
+     *
+     * @return boolean true if a locking clause is present
+     */
+    public boolean hasLockingClause() {
+        return lockingClause;
+    }
+
+    /**
+     * Tells if the statement invokes a function: if the parse tree contains a FuncCall. That includes aggregates,
+     * window functions, table functions, the procedure of a CALL statement and constructs that the parser turns into a
+     * function call, like <code>a AT TIME ZONE b</code>, <code>a SIMILAR TO b</code> and <code>substring(a from
+     * b)</code>. It doesn't include constructs like <code>coalesce(a, b)</code>, <code>cast(a as b)</code> or
+     * <code>current_date</code>.
+     *
+     * @return boolean true if a function is invoked
+     */
+    public boolean callsFunction() {
+        return functionCall;
+    }
+
+    /**
+     * Tells if the classification needed a full parse of the statement
+     *
+     * @return boolean true if the statement was parsed
+     */
+    public boolean isParsed() {
+        return parsed;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder().append(nodeTag).append('(').append(commandType.name())
+                .append(writableCte ? ", writable cte" : "").append(lockingClause ? ", locking clause" : "")
+                .append(functionCall ? ", calls function" : "").append(parsed ? ", parsed" : "").append(')')
+                .toString();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * The outcome of a single statement of a script that is parsed by {@link SqlParser#parseWithRecovery(CharSequence)}:
+ * either the parsed statement or the errors that were found in it
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class StatementOutcome {
+    private final int startOffset;
+    private final int endOffset;
+    private final Node statement;
+    private final List<SqlParserErrorData> errors;
+
+    /**
+     * Constructor
+     *
+     * @param startOffset
+     *            Offset in the script of the start of the statement
+     * @param endOffset
+     *            Offset in the script just beyond the end of the statement
+     * @param statement
+     *            The parsed statement or null if the statement contains errors
+     * @param errors
+     *            The errors in the statement. Empty if the statement was parsed successfully.
+     */
+    StatementOutcome(int startOffset, int endOffset, Node statement, List<SqlParserErrorData> errors) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.statement = statement;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the offset in the script of the start of the statement, including the whitespace and comments that
+     * precede it
+     *
+     * @return int The start offset
+     */
+    public int getStartOffset() {
+        return startOffset;
+    }
+
+    /**
+     * Returns the offset in the script just beyond the end of the statement, which is just beyond its terminating
+     * semicolon if it has one
+     *
+     * @return int The end offset
+     */
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Returns the parsed statement
+     *
+     * @return Node The statement or null if the statement contains errors
+     */
+    public Node getStatement() {
+        return statement;
+    }
+
+    /**
+     * Returns the errors that were found in the statement. Their offsets are relative to the start of the script.
+     *
+     * @return List&lt;SqlParserErrorData&gt; The errors. Empty if the statement was parsed successfully.
+     */
+    public List<SqlParserErrorData> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Tells if the statement was parsed successfully
+     *
+     * @return boolean true if {@link #getStatement()} returns the parsed statement
+     */
+    public boolean isValid() {
+        return statement != null;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder().append('[').append(startOffset).append(", ").append(endOffset).append("): ")
+                .append(statement != null ? statement : errors).toString();
+    }
+}
@@ -93,8 +93,7 @@ public class ATAlterConstraint extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("constraint ").append(conname);
         if (alterDeferrability) {
             if (!deferrable) {
@@ -121,6 +120,5 @@ public class ATAlterConstraint extends Node {
             }
             result.append(" inherit");
         }
-        return result.toString();
     }
 }
@@ -70,18 +70,18 @@ public class A_ArrayExpr extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (elements == null) {
-            return "array[]";
+            result.append("array[]");
+            return;
         }
         String separator = "";
-        StringBuilder result = new StringBuilder("array[");
+        result.append("array[");
         for (Node element : elements) {
-            result.append(separator).append(element);
+            append(result.append(separator), element);
             separator = ", ";
         }
         result.append("]");
-        return result.toString();
     }
 
     @Override
@@ -60,25 +60,32 @@ public class A_Const extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (isnull) {
-            return "null";
+            result.append("null");
+            return;
         }
         switch (val.type) {
         case T_String:
-            return ParserUtil.toSqlTextString(val.toString());
+            result.append(ParserUtil.toSqlTextString(val.toString()));
+            break;
         case T_Integer:
-            return val.toString();
         case T_Float:
-            return val.toString();
+            val.appendSql(result);
+            break;
         case T_Boolean:
-            return Boolean.toString(val.val.boolval);
+            result.append(val.val.boolval);
+            break;
         case T_Null:
-            return "null";
+            result.append("null");
+            break;
         case T_BitString:
-            return "x'" + val.toString().substring(1) + '\'';
+            String bits = val.toString();
+            result.append("x'").append(bits, 1, bits.length()).append('\'');
+            break;
         default:
-            return ParserUtil.reportUnknownValue("val.type", val.type, getClass());
+            result.append(ParserUtil.reportUnknownValue("val.type", val.type, getClass()));
+            break;
         }
     }
 
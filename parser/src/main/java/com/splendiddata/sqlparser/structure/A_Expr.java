@@ -86,23 +86,23 @@ public class A_Expr extends ConditionalExpr {
         this.rexpr = toCopy.rexpr;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
+    public void appendSql(StringBuilder result) {
         switch (kind) {
         case AEXPR_NULLIF:
-            return result.append("nullif(").append(lexpr).append(", ").append(rexpr).append(')').toString();
+            append(result.append("nullif("), lexpr).append(", ");
+            append(result, rexpr).append(')');
+            return;
         case AEXPR_IN:
-            result.append(lexpr);
+            append(result, lexpr);
             if (name != null) {
                 Value nameValue = name.get(0);
                 if (nameValue != null && "<>".equals(nameValue.val.str)) {
                     result.append(" not");
                 }
             }
-            return result.append(" in ").append(rexpr).toString();
+            append(result.append(" in "), rexpr);
+            return;
 
         case AEXPR_OP:
         case AEXPR_DISTINCT:
@@ -113,36 +113,36 @@ public class A_Expr extends ConditionalExpr {
         case AEXPR_ILIKE:
             break;
         case AEXPR_BETWEEN:
-            return result.append(lexpr).append(" between ").append(((List<Node>) rexpr).get(0)).append(" and ")
-                    .append(((List<Node>) rexpr).get(1)).toString();
+            appendBetween(result, " between ");
+            return;
         case AEXPR_LIKE:
-            result.append(lexpr);
+            append(result, lexpr);
             if (name.get(0).val.str.startsWith("!")) {
                 result.append(" not");
             }
-            result.append(" like ").append(rexpr);
-            return result.toString();
+            append(result.append(" like "), rexpr);
+            return;
         case AEXPR_NOT_BETWEEN:
-            return result.append(lexpr).append(" not between ").append(((List<Node>) rexpr).get(0)).append(" and ")
-                    .append(((List<Node>) rexpr).get(1)).toString();
+            appendBetween(result, " not between ");
+            return;
         case AEXPR_SIMILAR:
-            result.append(lexpr).append(" similar to ");
+            append(result, lexpr).append(" similar to ");
             if (rexpr != null && NodeTag.T_FuncCall.equals(rexpr.type)
                     && "pg_catalog.similar_to_escape".equals(ParserUtil.nameToSql(((FuncCall) rexpr).funcname))) {
-                result.append(((FuncCall) rexpr).args.get(0));
+                append(result, ((FuncCall) rexpr).args.get(0));
                 if (((FuncCall) rexpr).args.size() > 1) {
-                    result.append(" escape ").append(((FuncCall) rexpr).args.get(1));
+                    append(result.append(" escape "), ((FuncCall) rexpr).args.get(1));
                 }
             } else {
-                result.append(rexpr);
+                append(result, rexpr);
             }
-            return result.toString();
+            return;
         case AEXPR_BETWEEN_SYM:
-            return result.append(lexpr).append(" between symmetric ").append(((List<Node>) rexpr).get(0))
-                    .append(" and ").append(((List<Node>) rexpr).get(1)).toString();
+            appendBetween(result, " between symmetric ");
+            return;
         case AEXPR_NOT_BETWEEN_SYM:
-            return result.append(lexpr).append(" not between symmetric ").append(((List<Node>) rexpr).get(0))
-                    .append(" and ").append(((List<Node>) rexpr).get(1)).toString();
+            appendBetween(result, " not between symmetric ");
+            return;
         case AEXPR_PAREN:
         default:
             throw new AssertionError("Unsupported A_Expr_Kind: " + kind);
@@ -173,11 +173,13 @@ public class A_Expr extends ConditionalExpr {
         case AEXPR_OP_ALL:
             addOperator(result, leadingSpace);
             result.append(' ').append("all");
-            return result.append(" (").append(rexpr).append(')').toString();
+            append(result.append(" ("), rexpr).append(')');
+            return;
         case AEXPR_OP_ANY:
             addOperator(result, leadingSpace);
             result.append(' ').append("any");
-            return result.append(" (").append(rexpr).append(')').toString();
+            append(result.append(" ("), rexpr).append(')');
+            return;
         case AEXPR_ILIKE:
             result.append(leadingSpace).append("ilike");
             break;
@@ -187,7 +189,22 @@ public class A_Expr extends ConditionalExpr {
 
         leadingSpace = " ";
 
-        return addExpression(result, leadingSpace, rexpr).toString();
+        addExpression(result, leadingSpace, rexpr);
+    }
+
+    /**
+     * Appends a between expression like "lexpr between a and b" to the result
+     *
+     * @param result
+     *            The StringBuilder to append to
+     * @param between
+     *            The between keyword(s), surrounded by spaces
+     */
+    @SuppressWarnings("unchecked")
+    private void appendBetween(StringBuilder result, String between) {
+        append(result, lexpr).append(between);
+        append(result, ((List<Node>) rexpr).get(0)).append(" and ");
+        append(result, ((List<Node>) rexpr).get(1));
     }
 
     @Override
@@ -218,10 +235,9 @@ public class A_Expr extends ConditionalExpr {
         if (expression != null) {
             if (expression.type == null) {
                 if (expression instanceof GroupingFunc) {
-                    return result.append(leadingSpace).append(expression);
+                    return append(result.append(leadingSpace), expression);
                 }
-                result.append(" ??? expression.type == null in ").append(expression).append(" ???");
-                return result;
+                return append(result.append(" ??? expression.type == null in "), expression).append(" ???");
             }
             switch (expression.type) {
             case T_ColumnRef:
@@ -233,14 +249,14 @@ public class A_Expr extends ConditionalExpr {
             case T_RowExpr:
             case T_List:
             case T_SQLValueFunction:
-                return result.append(leadingSpace).append(expression);
+                return append(result.append(leadingSpace), expression);
             case T_A_Expr:
                 if (((A_Expr) expression).lexpr == null || ((A_Expr) expression).rexpr == null) {
-                    return result.append(leadingSpace).append(expression);
+                    return append(result.append(leadingSpace), expression);
                 }
-                return result.append(leadingSpace).append('(').append(expression).append(')');
+                return append(result.append(leadingSpace).append('('), expression).append(')');
             default:
-                return result.append(leadingSpace).append('(').append(expression).append(')');
+                return append(result.append(leadingSpace).append('('), expression).append(')');
             }
         }
         return result;
@@ -265,6 +281,7 @@ public class A_Expr extends ConditionalExpr {
         }
 
         result.append(leadingSpace).append("operator(").append(ParserUtil.identifierToSql(name.get(0).toString()))
-                .append('.').append(name.get(1)).append(')');
+                .append('.');
+        append(result, name.get(1)).append(')');
     }
 }
@@ -62,19 +62,18 @@ public class A_Indices extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append('[');
+    public void appendSql(StringBuilder result) {
+        result.append('[');
         if (lidx != null) {
-            result.append(lidx);
+            lidx.appendSql(result);
         }
         if (is_slice) {
             result.append(':');
         }
         if (uidx != null) {
-            result.append(uidx);
+            uidx.appendSql(result);
         }
         result.append(']');
-        return result.toString();
     }
 
     @Override
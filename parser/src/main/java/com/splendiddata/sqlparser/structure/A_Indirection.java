@@ -67,10 +67,9 @@ public class A_Indirection extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
-        result.append('(').append(arg).append(')');
+    public void appendSql(StringBuilder result) {
+        result.append('(');
+        append(result, arg).append(')');
 
         for (Node ind : indirection) {
             if (ind instanceof Value) {
@@ -78,11 +77,9 @@ public class A_Indirection extends Expr {
             } else if (ind instanceof A_Star) {
                 result.append(".*");
             } else {
-                result.append(ind);
+                append(result, ind);
             }
         }
-
-        return result.toString();
     }
 
     @Override
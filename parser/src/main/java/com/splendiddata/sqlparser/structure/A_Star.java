@@ -47,8 +47,8 @@ public class A_Star extends Node {
     }
 
     @Override
-    public String toString() {
-        return "*";
+    public void appendSql(StringBuilder result) {
+        result.append('*');
     }
 
     @Override
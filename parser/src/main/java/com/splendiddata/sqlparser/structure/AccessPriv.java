@@ -51,8 +51,7 @@ public class AccessPriv extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (priv_name == null) {
             result.append("all privileges");
         } else {
@@ -61,6 +60,5 @@ public class AccessPriv extends Node {
         if (cols != null) {
             result.append(' ').append(ParserUtil.argumentsToSql(cols));
         }
-        return result.toString();
     }
 }
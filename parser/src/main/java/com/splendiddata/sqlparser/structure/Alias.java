@@ -63,9 +63,8 @@ public class Alias extends Node {
     }
 
     @Override
-    public String toString() {
-        return new StringBuilder(ParserUtil.identifierToSql(aliasname)).append(ParserUtil.argumentsToSql(colnames))
-                .toString();
+    public void appendSql(StringBuilder result) {
+        result.append(ParserUtil.identifierToSql(aliasname)).append(ParserUtil.argumentsToSql(colnames));
     }
 
     @Override
@@ -64,9 +64,8 @@ public class AlterCollationStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return new StringBuilder("alter collation ").append(ParserUtil.nameToSql(collname)).append(" refresh version")
-                .toString();
+    public void appendSql(StringBuilder result) {
+        result.append("alter collation ").append(ParserUtil.nameToSql(collname)).append(" refresh version");
     }
 
     /**
@@ -75,7 +74,7 @@ public class AlterCollationStmt extends Node {
      * @return String the (qualified) name
      */
     @XmlAttribute(name = "collname")
-    private String getQualifiedCollationName() {
+    String getQualifiedCollationName() {
         if (collname == null) {
             return null;
         }
@@ -56,11 +56,8 @@ public class AlterDatabaseRefreshCollStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter database ").append(dbname).append(" refresh collation version");
-
-        return result.toString();
     }
 }
@@ -66,8 +66,7 @@ public class AlterDatabaseSetStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return new StringBuilder("alter database ").append(ParserUtil.identifierToSql(dbname)).append(' ')
-                .append(setstmt).toString();
+    public void appendSql(StringBuilder result) {
+        append(result.append("alter database ").append(ParserUtil.identifierToSql(dbname)).append(' '), setstmt);
     }
 }
@@ -69,8 +69,7 @@ public class AlterDatabaseStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter database ").append(ParserUtil.identifierToSql(dbname));
 
@@ -78,18 +77,16 @@ public class AlterDatabaseStmt extends Node {
             for (DefElem option : options) {
                 switch (option.defname) {
                 case "connectionlimit":
-                    result.append(" with connection limit ").append(option.arg);
+                    append(result.append(" with connection limit "), option.arg);
                     break;
                 case "tablespace":
                     result.append(" set tablespace ").append(ParserUtil.identifierToSql(option.arg.toString()));
                     break;
                 default:
-                    result.append(" set ").append(ParserUtil.identifierToSql(option.defname)).append(" to ")
-                            .append(option.arg);
+                    append(result.append(" set ").append(ParserUtil.identifierToSql(option.defname)).append(" to "),
+                            option.arg);
                 }
             }
         }
-
-        return result.toString();
     }
 }
@@ -73,8 +73,7 @@ public class AlterDefaultPrivilegesStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter default privileges");
 
@@ -102,8 +101,6 @@ public class AlterDefaultPrivilegesStmt extends Node {
             }
         }
 
-        result.append(' ').append(action);
-
-        return result.toString();
+        append(result.append(' '), action);
     }
 }
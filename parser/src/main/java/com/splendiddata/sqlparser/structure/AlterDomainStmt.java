@@ -109,8 +109,7 @@ public class AlterDomainStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter domain ").append(ParserUtil.nameToSql(typeName));
 
@@ -119,7 +118,7 @@ public class AlterDomainStmt extends Node {
             if (def == null) {
                 result.append(" drop default");
             } else {
-                result.append(" set default ").append(def);
+                append(result.append(" set default "), def);
             }
             break;
         case AD_DropNotNull:
@@ -129,7 +128,7 @@ public class AlterDomainStmt extends Node {
             result.append(" set not null");
             break;
         case AD_AddConstraint:
-            result.append(" add ").append(def);
+            append(result.append(" add "), def);
             break;
         case AD_DropConstraint:
             result.append(" drop constraint");
@@ -158,7 +157,5 @@ public class AlterDomainStmt extends Node {
             result.append(ParserUtil.reportUnknownValue("subtype", subtype, getClass()));
             break;
         }
-
-        return result.toString();
     }
 }
@@ -91,13 +91,12 @@ public class AlterEnumStmt extends Node {
     }
 
     @XmlAttribute(name = "typeName")
-    private String getQualifiedTypeName() {
+    String getQualifiedTypeName() {
         return ParserUtil.nameToSql(typeName);
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter type ").append(ParserUtil.nameToSql(typeName));
         if (oldVal == null) {
@@ -118,7 +117,5 @@ public class AlterEnumStmt extends Node {
         } else {
             result.append(" rename value '").append(oldVal).append("' to '").append(newVal).append('\'');
         }
-
-        return result.toString();
     }
 }
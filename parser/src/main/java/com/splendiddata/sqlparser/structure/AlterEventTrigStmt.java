@@ -71,8 +71,7 @@ public class AlterEventTrigStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter event trigger ").append(ParserUtil.identifierToSql(trigname));
         switch (tgenabled) {
@@ -92,7 +91,5 @@ public class AlterEventTrigStmt extends Node {
             result.append(ParserUtil.reportUnknownValue("tgenabled", tgenabled, getClass()));
             break;
         }
-
-        return result.toString();
     }
 }
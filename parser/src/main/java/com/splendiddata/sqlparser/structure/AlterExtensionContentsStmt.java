@@ -83,8 +83,7 @@ public class AlterExtensionContentsStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter extension ").append(ParserUtil.identifierToSql(extname));
 
@@ -123,7 +122,5 @@ public class AlterExtensionContentsStmt extends Node {
             result.append(' ').append(ParserUtil.nameToSql(object));
             break;
         }
-
-        return result.toString();
     }
 }
@@ -68,8 +68,7 @@ public class AlterExtensionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter extension ").append(ParserUtil.identifierToSql(extname)).append(" update");
 
@@ -85,7 +84,5 @@ public class AlterExtensionStmt extends Node {
                 }
             }
         }
-
-        return result.toString();
     }
 }
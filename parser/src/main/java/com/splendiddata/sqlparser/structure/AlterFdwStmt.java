@@ -80,8 +80,7 @@ public class AlterFdwStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter foreign data wrapper ").append(ParserUtil.identifierToSql(fdwname));
 
@@ -101,13 +100,11 @@ public class AlterFdwStmt extends Node {
             for (DefElem option : options) {
                 result.append(separator).append(option.defaction).append(ParserUtil.identifierToSql(option.defname));
                 if (option.arg != null) {
-                    result.append(" '").append(option.arg).append('\'');
+                    append(result.append(" '"), option.arg).append('\'');
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -79,8 +79,7 @@ public class AlterForeignServerStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter server ").append(ParserUtil.identifierToSql(servername));
 
@@ -102,7 +101,5 @@ public class AlterForeignServerStmt extends Node {
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
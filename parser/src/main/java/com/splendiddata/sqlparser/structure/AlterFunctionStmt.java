@@ -89,10 +89,9 @@ public class AlterFunctionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append("alter ").append(objtype).append(' ').append(func);
+        append(result.append("alter ").append(objtype).append(' '), func);
 
         /** list of DefElem */
         if (actions != null) {
@@ -100,8 +99,6 @@ public class AlterFunctionStmt extends Node {
                 addActionToString(action, result);
             }
         }
-
-        return result.toString();
     }
 
     /**
@@ -102,8 +102,7 @@ public class AlterObjectDependsStmt extends Node {
      * @see java.lang.Object#toString()
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter ").append(objectType);
 
@@ -112,9 +111,9 @@ public class AlterObjectDependsStmt extends Node {
         }
         if (relation != null) {
             if (ObjectType.OBJECT_TRIGGER.equals(objectType)) {
-                result.append(" on ").append(relation);
+                append(result.append(" on "), relation);
             } else {
-                result.append(' ').append(relation);
+                append(result.append(' '), relation);
             }
         }
 
@@ -122,8 +121,7 @@ public class AlterObjectDependsStmt extends Node {
             if (remove) {
                 result.append(" no");
             }
-            result.append(" depends on extension ").append(extname);
+            append(result.append(" depends on extension "), extname);
         }
-        return result.toString();
     }
 }
@@ -96,8 +96,7 @@ public class AlterObjectSchemaStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter ").append(objectType);
 
@@ -109,7 +108,7 @@ public class AlterObjectSchemaStmt extends Node {
         case OBJECT_OPFAMILY:
         case OBJECT_OPCLASS:
             if (relation != null) {
-                result.append(' ').append(relation);
+                append(result.append(' '), relation);
                 result.append(" using ").append(ParserUtil.nameToSql(object));
             } else if (object != null) {
                 LinkedList<Value> objList = new LinkedList<>((List<Value>) object);
@@ -123,7 +122,7 @@ public class AlterObjectSchemaStmt extends Node {
             break;
         default:
             if (relation != null) {
-                result.append(' ').append(relation);
+                append(result.append(' '), relation);
             } else if (object != null) {
                 result.append(' ').append(ParserUtil.nameToSql(object));
             }
@@ -131,7 +130,5 @@ public class AlterObjectSchemaStmt extends Node {
         }
 
         result.append(" set schema ").append(ParserUtil.identifierToSql(newschema));
-
-        return result.toString();
     }
 }
@@ -85,8 +85,7 @@ public class AlterOpFamilyStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter operator family ").append(ParserUtil.nameToSql(opfamilyname)).append(" using ")
                 .append(ParserUtil.identifierToSql(amname));
@@ -100,11 +99,9 @@ public class AlterOpFamilyStmt extends Node {
         String separator = " ";
         if (items != null) {
             for (CreateOpClassItem item : items) {
-                result.append(separator).append(item);
+                append(result.append(separator), item);
                 separator = ", ";
             }
         }
-
-        return result.toString();
     }
 }
@@ -76,8 +76,7 @@ public class AlterOperatorStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter operator ");
 
@@ -92,7 +91,7 @@ public class AlterOperatorStmt extends Node {
                 if (operarg == null) {
                     result.append("none");
                 } else {
-                    result.append(operarg.toString());
+                    append(result, operarg);
                 }
             }
             result.append(") ");
@@ -120,17 +119,15 @@ public class AlterOperatorStmt extends Node {
                         result.append(" = ").append("operator(")
                                 .append(ParserUtil.operatorNameToSql((List<Value>) option.arg)).append(')');
                     } else {
-                        result.append(" = ").append(option.arg);
+                        append(result.append(" = "), option.arg);
                     }
                     break;
                 default:
-                    result.append(" = ").append(option.arg);
+                    append(result.append(" = "), option.arg);
                     break;
                 }
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -101,20 +101,19 @@ public class AlterOwnerStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter ").append(objectType);
 
         if (relation != null) {
-            result.append(' ').append(relation);
+            append(result.append(' '), relation);
         } else if (object != null) {
             switch (objectType) {
             case OBJECT_LARGEOBJECT:
-                result.append(' ').append(object);
+                append(result.append(' '), object);
                 break;
             case OBJECT_OPERATOR:
-                result.append(' ').append(object);
+                append(result.append(' '), object);
                 break;
             case OBJECT_OPFAMILY:
             case OBJECT_OPCLASS:
@@ -129,8 +128,6 @@ public class AlterOwnerStmt extends Node {
             }
         }
 
-        result.append(" owner to ").append(newowner);
-
-        return result.toString();
+        append(result.append(" owner to "), newowner);
     }
 }
@@ -104,29 +104,26 @@ public class AlterPolicyStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append("alter policy ").append(policy_name).append(" on ").append(table);
+        append(result.append("alter policy ").append(policy_name).append(" on "), table);
 
         if (roles != null) {
             String separator = " to ";
             for (Node role : roles) {
                 {
-                    result.append(separator).append(role.toString());
+                    append(result.append(separator), role);
                     separator = ", ";
                 }
             }
         }
 
         if (qual != null) {
-            result.append(" using(").append(qual).append(')');
+            append(result.append(" using("), qual).append(')');
         }
 
         if (with_check != null) {
-            result.append(" with check(").append(with_check).append(')');
+            append(result.append(" with check("), with_check).append(')');
         }
-
-        return result.toString();
     }
 }
@@ -158,25 +158,25 @@ public class AlterPropGraphStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("alter property graph ");
+    public void appendSql(StringBuilder result) {
+        result.append("alter property graph ");
         if (missing_ok) {
             result.append("if exists ");
         }
         if (pgname != null) {
-            result.append(pgname);
+            append(result, pgname);
         }
         if (add_vertex_tables != null && !add_vertex_tables.isEmpty()) {
-            result.append(" add vertex tables ").append(add_vertex_tables);
+            append(result.append(" add vertex tables "), add_vertex_tables);
         }
         if (add_edge_tables != null && !add_edge_tables.isEmpty()) {
-            result.append(" add edge tables ").append(add_edge_tables);
+            append(result.append(" add edge tables "), add_edge_tables);
         }
         if (drop_vertex_tables != null && !drop_vertex_tables.isEmpty()) {
-            result.append(" drop vertex tables ").append(drop_vertex_tables);
+            append(result.append(" drop vertex tables "), drop_vertex_tables);
         }
         if (drop_edge_tables != null && !drop_edge_tables.isEmpty()) {
-            result.append(" drop edge tables ").append(drop_edge_tables);
+            append(result.append(" drop edge tables "), drop_edge_tables);
         }
         if (element_kind != null) {
             result.append(" alter ").append(element_kind);
@@ -186,7 +186,7 @@ public class AlterPropGraphStmt extends Node {
         }
         if (add_labels != null && !add_labels.isEmpty()) {
             for (Node label : add_labels) {
-                result.append(" add ").append(label);
+                append(result.append(" add "), label);
             }
         }
         if (drop_label != null) {
@@ -196,10 +196,10 @@ public class AlterPropGraphStmt extends Node {
             result.append(" alter label ").append(alter_label);
         }
         if (add_properties != null) {
-            result.append(" add ").append(add_properties);
+            append(result.append(" add "), add_properties);
         }
         if (drop_properties != null) {
-            result.append(" drop properties ").append(drop_properties);
+            append(result.append(" drop properties "), drop_properties);
         }
         if (drop_behavior != null) {
             switch (drop_behavior) {
@@ -209,7 +209,5 @@ public class AlterPropGraphStmt extends Node {
             }
             }
         }
-
-        return result.toString();
     }
 }
@@ -84,8 +84,8 @@ public class AlterPublicationStmt extends AbstractPublicationStmt {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("alter publication ")
+    public void appendSql(StringBuilder result) {
+        result.append("alter publication ")
                 .append(ParserUtil.identifierToSql(pubname));
         if (action != null) {
             switch (action) {
@@ -99,7 +99,8 @@ public class AlterPublicationStmt extends AbstractPublicationStmt {
                 result.append(" set ");
                 break;
             default:
-                return ParserUtil.reportUnknownValue("action: " + action.name(), this, getClass());
+                result.append(ParserUtil.reportUnknownValue("action: " + action.name(), this, getClass()));
+                return;
             }
             String separator = " ";
             if (for_all_tables) {
@@ -116,12 +117,12 @@ public class AlterPublicationStmt extends AbstractPublicationStmt {
                     if (PublicationObjSpecType.PUBLICATIONOBJ_EXCEPT_TABLE.equals(pubObject.pubobjtype)) {
                         exclTables.add(pubObject);
                     } else {
-                        result.append(separator).append(pubObject);
+                        append(result.append(separator), pubObject);
                         separator = ", ";
                     }
                 }
                 if (!exclTables.isEmpty()) {
-                    result.append(" except ").append(exclTables);
+                    append(result.append(" except "), exclTables);
                 }
             }
         }
@@ -131,12 +132,11 @@ public class AlterPublicationStmt extends AbstractPublicationStmt {
             for (DefElem opt : options) {
                 result.append(separator).append(opt.defname);
                 if (opt.arg != null) {
-                    result.append(" ='").append(opt.arg).append('\'');
+                    append(result.append(" ='"), opt.arg).append('\'');
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
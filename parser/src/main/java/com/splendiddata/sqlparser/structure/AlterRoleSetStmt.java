@@ -77,14 +77,13 @@ public class AlterRoleSetStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter role ");
         if (role == null) {
             result.append("all");
         } else {
-            result.append(role);
+            append(result, role);
         }
 
         if (database != null) {
@@ -92,9 +91,7 @@ public class AlterRoleSetStmt extends Node {
         }
 
         if (setstmt != null) {
-            result.append(' ').append(setstmt);
+            append(result.append(' '), setstmt);
         }
-
-        return result.toString();
     }
 }
@@ -80,14 +80,14 @@ public class AlterRoleStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
+        int start = result.length();
 
         result.append("alter role ");
         if (role == null) {
             result.append("none");
         } else {
-            result.append(role);
+            append(result, role);
         }
 
         if (options != null) {
@@ -137,7 +137,7 @@ public class AlterRoleStmt extends Node {
                     }
                     break;
                 case "connectionlimit":
-                    result.append(separator).append("connection limit ").append(option.arg);
+                    append(result.append(separator).append("connection limit "), option.arg);
                     break;
                 case "password":
                     result.append(separator).append("password");
@@ -162,9 +162,9 @@ public class AlterRoleStmt extends Node {
                     /*
                      * Ok, now the role is not a role any more but suddenly a group
                      */
-                    result.setLength(0);
-                    result.append("alter group ").append(role);
-                    if (action > 1) {
+                    result.setLength(start);
+                    append(result.append("alter group "), role);
+                    if (action > 0) {
                         result.append(" add");
                     } else {
                         result.append(" drop");
@@ -172,7 +172,7 @@ public class AlterRoleStmt extends Node {
                     separator = " user ";
                     if (option.arg instanceof List) {
                         for (RoleSpec member : (List<RoleSpec>) option.arg) {
-                            result.append(separator).append(member);
+                            append(result.append(separator), member);
                             separator = ", ";
                         }
                     }
@@ -191,7 +191,5 @@ public class AlterRoleStmt extends Node {
                 separator = " ";
             }
         }
-
-        return result.toString();
     }
 }
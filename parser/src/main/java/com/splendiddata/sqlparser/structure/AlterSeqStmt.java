@@ -76,8 +76,7 @@ public class AlterSeqStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter sequence ");
 
@@ -85,7 +84,7 @@ public class AlterSeqStmt extends Node {
             result.append("if exists ");
         }
 
-        result.append(sequence);
+        append(result, sequence);
 
         if (options != null) {
             for (DefElem option : options) {
@@ -110,18 +109,16 @@ public class AlterSeqStmt extends Node {
                     if (option.arg == null) {
                         result.append(" no ").append(option.defname);
                     } else {
-                        result.append(' ').append(option.defname).append(' ').append(option.arg);
+                        append(result.append(' ').append(option.defname).append(' '), option.arg);
                     }
                     break;
                 default:
                     result.append(' ').append(option.defname);
                     if (option.arg != null) {
-                        result.append(' ').append(option.arg);
+                        append(result.append(' '), option.arg);
                     }
                 }
             }
         }
-
-        return result.toString();
     }
 }
@@ -93,9 +93,9 @@ public class AlterStatsStmt extends Node {
      * @return String the original statement
      */
     @Override
-    public String toString() {
-        return new StringBuilder("alter statistics ").append(ParserUtil.nameToSql(defnames)).append(" set statistics ")
-                .append(stxstattarget).toString();
+    public void appendSql(StringBuilder result) {
+        append(result.append("alter statistics ").append(ParserUtil.nameToSql(defnames))
+                .append(" set statistics "), stxstattarget);
     }
 
 }
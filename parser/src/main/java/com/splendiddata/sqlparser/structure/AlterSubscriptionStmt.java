@@ -101,14 +101,15 @@ public class AlterSubscriptionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("alter subscription ").append(ParserUtil.identifierToSql(subname));
+    public void appendSql(StringBuilder result) {
+        result.append("alter subscription ").append(ParserUtil.identifierToSql(subname));
 
         String separator = " ";
         switch (kind) {
         case ALTER_SUBSCRIPTION_CONNECTION:
             if (conninfo != null) {
-                return result.append(" connection '").append(conninfo.replace("'", "''")).append('\'').toString();
+                result.append(" connection '").append(conninfo.replace("'", "''")).append('\'');
+                return;
             }
             break;
         case ALTER_SUBSCRIPTION_ENABLED:
@@ -121,7 +122,7 @@ public class AlterSubscriptionStmt extends Node {
                     result.append(" disable");
                 }
             }
-            return result.toString();
+            return;
         case ALTER_SUBSCRIPTION_OPTIONS:
             separator = " set (";
             break;
@@ -145,7 +146,7 @@ public class AlterSubscriptionStmt extends Node {
             if (publication != null) {
                 separator = " ";
                 for (Value value : publication) {
-                    result.append(separator).append(value);
+                    append(result.append(separator), value);
                     separator = ", ";
                 }
             }
@@ -156,7 +157,7 @@ public class AlterSubscriptionStmt extends Node {
             if (publication != null) {
                 separator = " ";
                 for (Value value : publication) {
-                    result.append(separator).append(value);
+                    append(result.append(separator), value);
                     separator = ", ";
                 }
             }
@@ -167,7 +168,7 @@ public class AlterSubscriptionStmt extends Node {
             if (publication != null) {
                 separator = " ";
                 for (Value value : publication) {
-                    result.append(separator).append(value);
+                    append(result.append(separator), value);
                     separator = ", ";
                 }
             }
@@ -181,20 +182,19 @@ public class AlterSubscriptionStmt extends Node {
             result.append(separator).append("server ").append(ParserUtil.identifierToSql(servername));
             break;
         default:
-            return ParserUtil.reportUnknownValue(AlterSubscriptionType.class.getName(), kind, getClass());
+            result.append(ParserUtil.reportUnknownValue(AlterSubscriptionType.class.getName(), kind, getClass()));
+            return;
         }
 
         if (options != null && !options.isEmpty()) {
             for (DefElem opt : options) {
                 result.append(separator).append(opt.defname);
                 if (opt.arg != null) {
-                    result.append(" = '").append(opt.arg).append('\'');
+                    append(result.append(" = '"), opt.arg).append('\'');
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -60,7 +60,7 @@ public class AlterSystemStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "alter system " + setstmt;
+    public void appendSql(StringBuilder result) {
+        append(result.append("alter system "), setstmt);
     }
 }
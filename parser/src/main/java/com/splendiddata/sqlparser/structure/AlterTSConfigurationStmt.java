@@ -107,8 +107,7 @@ public class AlterTSConfigurationStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter text search configuration ");
 
@@ -131,7 +130,7 @@ public class AlterTSConfigurationStmt extends Node {
             }
             String separator = " for ";
             for (Value token : tokentype) {
-                result.append(separator).append(token);
+                append(result.append(separator), token);
                 separator = ", ";
             }
         }
@@ -151,7 +150,5 @@ public class AlterTSConfigurationStmt extends Node {
                 }
             }
         }
-
-        return result.toString();
     }
 }
@@ -74,8 +74,7 @@ public class AlterTSDictionaryStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter text search dictionary ").append(ParserUtil.nameToSql(dictname));
 
@@ -85,13 +84,11 @@ public class AlterTSDictionaryStmt extends Node {
             for (DefElem option : options) {
                 result.append(separator).append(ParserUtil.identifierToSql(option.defname));
                 if (option.arg != null) {
-                    result.append(" = ").append(option.arg);
+                    append(result.append(" = "), option.arg);
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
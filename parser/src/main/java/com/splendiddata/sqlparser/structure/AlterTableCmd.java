@@ -111,8 +111,8 @@ public class AlterTableCmd extends Node {
     }
 
     @Override
-    public String toString() {
-        return toString("column");
+    public void appendSql(StringBuilder result) {
+        appendSql(result, "column");
     }
 
     /**
@@ -123,35 +123,56 @@ public class AlterTableCmd extends Node {
      *            "column" or "attribute"
      * @return String the content in an SQL string
      */
-    @SuppressWarnings("unchecked")
     public String toString(String columnOrAttribute) {
+        StringBuilder result = new StringBuilder();
+        appendSql(result, columnOrAttribute);
+        return result.toString();
+    }
+
+    /**
+     * Appends the content in an SQL string to result, calling a column "column" or "attribute" as the invoking
+     * statement requires.
+     *
+     * @param result
+     *            the StringBuilder to which the SQL text is appended
+     * @param columnOrAttribute
+     *            "column" or "attribute"
+     * @since 19.0
+     */
+    @SuppressWarnings("unchecked")
+    public void appendSql(StringBuilder result, String columnOrAttribute) {
         switch (subtype) {
         case AT_AddColumn:
-            StringBuilder result = new StringBuilder().append("add ").append(columnOrAttribute);
+            result.append("add ").append(columnOrAttribute);
             if (missing_ok) {
                 result.append(" if not exists");
             }
-            result.append(' ').append(def);
+            append(result.append(' '), def);
             if (DropBehavior.DROP_CASCADE.equals(behavior)) {
                 result.append(" cascade");
             }
-            return result.toString();
+            return;
         case AT_AddConstraint:
-            return new StringBuilder().append("add ").append(def).toString();
+            append(result.append("add "), def);
+            return;
         case AT_AddIndex:
-            return new StringBuilder().append("add index ").append(ParserUtil.identifierToSql(name)).append(' ')
-                    .append(def).toString();
+            append(result.append("add index ").append(ParserUtil.identifierToSql(name)).append(' '), def);
+            return;
         case AT_AddIndexConstraint:
-            return new StringBuilder().append(ParserUtil.identifierToSql(name)).append(' ').append(def).toString();
+        case AT_ReplaceRelOptions:
+            append(result.append(ParserUtil.identifierToSql(name)).append(' '), def);
+            return;
         case AT_AddInherit:
-            return "inherit " + def;
+            append(result.append("inherit "), def);
+            return;
         case AT_AddOf:
-            return new StringBuilder().append("of ").append(def).toString();
+            append(result.append("of "), def);
+            return;
         case AT_AddOids:
-            return "set with oids";
+            result.append("set with oids");
+            return;
         case AT_AlterColumnGenericOptions:
-            result = new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" options (");
+            result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" options (");
             String separator = "";
             for (DefElem opt : (List<DefElem>) def) {
                 result.append(separator).append(opt.defaction).append(ParserUtil.identifierToSql(opt.defname));
@@ -161,39 +182,48 @@ public class AlterTableCmd extends Node {
                 separator = ", ";
             }
             result.append(')');
-            return result.toString();
+            return;
         case AT_AlterColumnType:
-            result = new StringBuilder().append("alter ").append(columnOrAttribute).append(' ')
-                    .append(ParserUtil.identifierToSql(name)).append(" set data type ").append(def);
+            append(result.append("alter ").append(columnOrAttribute).append(' ')
+                    .append(ParserUtil.identifierToSql(name)).append(" set data type "), def);
             if (DropBehavior.DROP_CASCADE.equals(behavior)) {
                 result.append(" cascade");
             }
-            return result.toString();
+            return;
         case AT_AlterConstraint:
-            return "alter " + def;
+            append(result.append("alter "), def);
+            return;
         case AT_ChangeOwner:
-            return new StringBuilder().append("owner to ").append(newowner).toString();
+            append(result.append("owner to "), newowner);
+            return;
         case AT_ClusterOn:
-            return new StringBuilder().append("cluster on ").append(ParserUtil.identifierToSql(name)).toString();
+            result.append("cluster on ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_ColumnDefault:
             if (def == null) {
-                return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                        .append(" drop default").toString();
+                result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" drop default");
+                return;
             }
-            return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" set default ").append(def).toString();
+            append(result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" set default "),
+                    def);
+            return;
         case AT_DisableRule:
-            return new StringBuilder().append("disable rule ").append(ParserUtil.identifierToSql(name)).toString();
+            result.append("disable rule ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_DisableTrig:
-            return new StringBuilder().append("disable trigger ").append(ParserUtil.identifierToSql(name)).toString();
+            result.append("disable trigger ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_DisableTrigAll:
-            return "disable trigger all";
+            result.append("disable trigger all");
+            return;
         case AT_DisableTrigUser:
-            return "disable trigger user";
+            result.append("disable trigger user");
+            return;
         case AT_DropCluster:
-            return "set without cluster";
+            result.append("set without cluster");
+            return;
         case AT_DropColumn:
-            result = new StringBuilder("drop ").append(columnOrAttribute);
+            result.append("drop ").append(columnOrAttribute);
             if (missing_ok) {
                 result.append(" if exists");
             }
@@ -201,45 +231,52 @@ public class AlterTableCmd extends Node {
             if (DropBehavior.DROP_CASCADE.equals(behavior)) {
                 result.append(" cascade");
             }
-            return result.toString();
+            return;
         case AT_DropConstraint:
-            result = new StringBuilder("drop constraint ");
+            result.append("drop constraint ");
             if (missing_ok) {
                 result.append("if exists ");
             }
             result.append(ParserUtil.identifierToSql(name));
-            return result.toString();
+            return;
         case AT_DropInherit:
-            return "no inherit " + def;
+            append(result.append("no inherit "), def);
+            return;
         case AT_DropNotNull:
-            return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" drop not null").toString();
+            result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" drop not null");
+            return;
         case AT_DropOf:
-            return "not of";
+            result.append("not of");
+            return;
         case AT_DropOids:
-            return "set without oids";
+            result.append("set without oids");
+            return;
         case AT_EnableAlwaysRule:
-            return new StringBuilder().append("enable always rule ").append(ParserUtil.identifierToSql(name))
-                    .toString();
+            result.append("enable always rule ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_EnableAlwaysTrig:
-            return new StringBuilder().append("enable always trigger ").append(ParserUtil.identifierToSql(name))
-                    .toString();
+            result.append("enable always trigger ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_EnableReplicaRule:
-            return new StringBuilder().append("enable replica rule ").append(ParserUtil.identifierToSql(name))
-                    .toString();
+            result.append("enable replica rule ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_EnableReplicaTrig:
-            return new StringBuilder().append("enable replica trigger ").append(ParserUtil.identifierToSql(name))
-                    .toString();
+            result.append("enable replica trigger ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_EnableRule:
-            return new StringBuilder().append("enable rule ").append(ParserUtil.identifierToSql(name)).toString();
+            result.append("enable rule ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_EnableTrig:
-            return new StringBuilder().append("enable trigger ").append(ParserUtil.identifierToSql(name)).toString();
+            result.append("enable trigger ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_EnableTrigAll:
-            return "enable trigger all";
+            result.append("enable trigger all");
+            return;
         case AT_EnableTrigUser:
-            return "enable trigger user";
+            result.append("enable trigger user");
+            return;
         case AT_GenericOptions:
-            result = new StringBuilder("options (");
+            result.append("options (");
             separator = "";
             for (DefElem opt : (List<DefElem>) def) {
                 result.append(separator).append(opt.defaction).append(ParserUtil.identifierToSql(opt.defname));
@@ -249,14 +286,13 @@ public class AlterTableCmd extends Node {
                 separator = ", ";
             }
             result.append(')');
-            return result.toString();
-        case AT_ReplaceRelOptions:
-            return new StringBuilder().append(ParserUtil.identifierToSql(name)).append(' ').append(def).toString();
+            return;
         case AT_ReplicaIdentity:
-            return def.toString();
+            append(result, def);
+            return;
         case AT_ResetOptions:
         case AT_ResetRelOptions:
-            result = new StringBuilder("reset (");
+            result.append("reset (");
             if (def != null) {
                 separator = "";
                 for (Node node : (List<Node>) def) {
@@ -268,13 +304,13 @@ public class AlterTableCmd extends Node {
                 }
             }
             result.append(')');
-            return result.toString();
+            return;
         case AT_SetNotNull:
-            return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" set not null").toString();
+            result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" set not null");
+            return;
         case AT_SetOptions:
         case AT_SetRelOptions:
-            result = new StringBuilder("set (");
+            result.append("set (");
             if (def != null) {
                 separator = "";
                 for (Node node : (List<Node>) def) {
@@ -283,73 +319,87 @@ public class AlterTableCmd extends Node {
                     if (node instanceof DefElem) {
                         result.append(' ').append(ParserUtil.identifierToSql(((DefElem) node).defname));
                         if (((DefElem) node).arg != null) {
-                            result.append(" = ").append(((DefElem) node).arg);
+                            append(result.append(" = "), ((DefElem) node).arg);
                         }
                     }
                 }
             }
             result.append(')');
-            return result.toString();
+            return;
         case AT_DropExpression:
-            result = new StringBuilder(" alter column ").append(name).append(" drop expression");
+            result.append(" alter column ").append(name).append(" drop expression");
             if (missing_ok) {
                 result.append(" if exists");
             }
-            return result.toString();
+            return;
         case AT_SetStatistics:
             if (name == null) {
-                return new StringBuilder().append("alter column ").append(num).append(" set statistics ").append(def)
-                        .toString();
+                append(result.append("alter column ").append(num).append(" set statistics "), def);
+                return;
             }
-            return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" set statistics ").append(def).toString();
+            append(result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" set statistics "),
+                    def);
+            return;
         case AT_SetStorage:
-            return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" set storage ").append(def).toString();
+            append(result.append("alter column ").append(ParserUtil.identifierToSql(name)).append(" set storage "),
+                    def);
+            return;
         case AT_SetCompression:
-            return new StringBuilder().append("alter column ").append(ParserUtil.identifierToSql(name))
-                    .append(" set compression ").append(def).toString();
+            append(result.append("alter column ").append(ParserUtil.identifierToSql(name))
+                    .append(" set compression "), def);
+            return;
         case AT_SetTableSpace:
-            return new StringBuilder().append("set tablespace ").append(ParserUtil.identifierToSql(name)).toString();
+            result.append("set tablespace ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_ValidateConstraint:
-            return new StringBuilder().append("validate constraint ").append(ParserUtil.identifierToSql(name))
-                    .toString();
+            result.append("validate constraint ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_DisableRowSecurity:
-            return "disable row level security";
+            result.append("disable row level security");
+            return;
         case AT_EnableRowSecurity:
-            return "enable row level security";
+            result.append("enable row level security");
+            return;
         case AT_SetLogged:
-            return "set logged";
+            result.append("set logged");
+            return;
         case AT_SetUnLogged:
-            return "set unlogged";
+            result.append("set unlogged");
+            return;
         case AT_ForceRowSecurity:
-            return "force row level security";
+            result.append("force row level security");
+            return;
         case AT_NoForceRowSecurity:
-            return "no force row level security";
+            result.append("no force row level security");
+            return;
         case AT_AttachPartition:
-            return "attach partition " + def;
+            append(result.append("attach partition "), def);
+            return;
         case AT_DetachPartition:
-            return "detach partition " + def;
+            append(result.append("detach partition "), def);
+            return;
         case AT_DetachPartitionFinalize:
-            return "detach partition " + def + " finalize";
+            append(result.append("detach partition "), def).append(" finalize");
+            return;
         case AT_SplitPartition:
             PartitionCmd partCmd = (PartitionCmd) def;
-            return new StringBuilder("split partition ").append(partCmd.name).append(" into ").append(partCmd.partlist)
-                    .toString();
+            append(append(result.append("split partition "), partCmd.name).append(" into "), partCmd.partlist);
+            return;
         case AT_MergePartitions:
             partCmd = (PartitionCmd) def;
-            return new StringBuilder("merge partitions ").append(partCmd.partlist).append(" into ").append(partCmd.name)
-                    .toString();
+            append(append(result.append("merge partitions "), partCmd.partlist).append(" into "), partCmd.name);
+            return;
         case AT_AddIdentity:
-            return new StringBuilder(" alter column ").append(name).append(" add ").append(def).toString();
+            append(result.append(" alter column ").append(name).append(" add "), def);
+            return;
         case AT_DropIdentity:
-            result = new StringBuilder(" alter column ").append(name).append(" drop identity");
+            result.append(" alter column ").append(name).append(" drop identity");
             if (missing_ok) {
                 result.append(" if exists");
             }
-            return result.toString();
+            return;
         case AT_SetIdentity:
-            result = new StringBuilder(" alter column ").append(name);
+            result.append(" alter column ").append(name);
             for (DefElem elem : (List<DefElem>) def) {
                 switch (elem.defname) {
                 case "generated":
@@ -359,8 +409,9 @@ public class AlterTableCmd extends Node {
                     } else if (((Value) elem.arg).val.ival == AttributeIdentity.ATTRIBUTE_IDENTITY_BY_DEFAULT.VALUE) {
                         result.append(" by default");
                     } else {
-                        return ParserUtil.reportUnknownValue("arg in DefElem " + ParserUtil.stmtToXml(elem), elem.arg,
-                                getClass());
+                        result.append(ParserUtil.reportUnknownValue("arg in DefElem " + ParserUtil.stmtToXml(elem),
+                                elem.arg, getClass()));
+                        return;
                     }
                     break;
                 case "restart":
@@ -369,22 +420,25 @@ public class AlterTableCmd extends Node {
                 default:
                     result.append(" set ").append(elem.defname);
                     if (elem.arg != null) {
-                        result.append(' ').append(elem.arg);
+                        append(result.append(' '), elem.arg);
                     }
                     break;
                 }
             }
-            return result.toString();
+            return;
         case AT_SetAccessMethod:
             if (name == null) {
-                return " set access method default";
+                result.append(" set access method default");
+                return;
             }
-            return " set access method " + ParserUtil.identifierToSql(name);
+            result.append(" set access method ").append(ParserUtil.identifierToSql(name));
+            return;
         case AT_SetExpression:
-            return new StringBuilder(" alter column ").append(name).append(" set expression as (").append(def)
-                    .append(')').toString();
+            append(result.append(" alter column ").append(name).append(" set expression as ("), def).append(')');
+            return;
         default:
-            return ParserUtil.reportUnknownValue("subtype", subtype, getClass());
+            result.append(ParserUtil.reportUnknownValue("subtype", subtype, getClass()));
+            return;
         }
     }
 }
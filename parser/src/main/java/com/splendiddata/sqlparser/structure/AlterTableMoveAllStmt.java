@@ -82,8 +82,7 @@ public class AlterTableMoveAllStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter ").append(objtype).append(" all in tablespace ")
                 .append(ParserUtil.identifierToSql(orig_tablespacename));
@@ -101,7 +100,5 @@ public class AlterTableMoveAllStmt extends Node {
         if (nowait) {
             result.append(" nowait");
         }
-
-        return result.toString();
     }
 }
@@ -71,8 +71,7 @@ public class AlterTableSpaceOptionsStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter tablespace ").append(ParserUtil.identifierToSql(tablespacename));
 
@@ -87,10 +86,10 @@ public class AlterTableSpaceOptionsStmt extends Node {
             result.append(separator).append(option.defname);
             separator = ", ";
             if (!isReset) {
-                result.append(" = ").append(option.arg);
+                append(result.append(" = "), option.arg);
             }
         }
 
-        return result.append(')').toString();
+        result.append(')');
     }
 }
@@ -98,8 +98,7 @@ public class AlterTableStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter ").append(objtype);
 
@@ -108,16 +107,15 @@ public class AlterTableStmt extends Node {
         }
 
         if (relation != null) {
-            result.append(' ').append(relation);
+            append(result.append(' '), relation);
         }
 
         String tableOrAttribute = ObjectType.OBJECT_TYPE.equals(objtype) ? "attribute" : "column";
         String separator = " ";
         for (AlterTableCmd cmd : cmds) {
-            result.append(separator).append(cmd.toString(tableOrAttribute));
+            result.append(separator);
+            cmd.appendSql(result, tableOrAttribute);
             separator = ", ";
         }
-
-        return result.toString();
     }
 }
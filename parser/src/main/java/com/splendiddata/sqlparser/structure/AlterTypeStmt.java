@@ -89,20 +89,19 @@ public class AlterTypeStmt extends Node {
      * @return String The original statement
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("alter type ").append(ParserUtil.nameToSql(typeName));
+    public void appendSql(StringBuilder result) {
+        result.append("alter type ").append(ParserUtil.nameToSql(typeName));
         if (options != null) {
             String separator = " set (";
             for (DefElem option : options) {
                 result.append(separator).append(option.defname);
                 separator = ", ";
                 if (option.arg != null) {
-                    result.append(" = ").append(option.arg);
+                    append(result.append(" = "), option.arg);
                 }
             }
             result.append(')');
         }
-        return result.toString();
     }
 
 }
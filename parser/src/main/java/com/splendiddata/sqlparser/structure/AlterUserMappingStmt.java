@@ -79,14 +79,13 @@ public class AlterUserMappingStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter user mapping for ");
         if (user == null) {
             result.append("public");
         } else {
-            result.append(user);
+            append(result, user);
         }
 
         result.append(" server ").append(ParserUtil.identifierToSql(servername));
@@ -103,7 +102,5 @@ public class AlterUserMappingStmt extends Node {
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -62,11 +62,11 @@ public class BoolExpr extends ConditionalExpr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (BoolExprType.NOT_EXPR.equals(boolop)) {
-            return notToString();
+            appendNot(result);
+            return;
         }
-        StringBuilder result = new StringBuilder();
         boolean first = true;
         for (Node arg : args) {
             if (first) {
@@ -76,7 +76,6 @@ public class BoolExpr extends ConditionalExpr {
             }
             addArg(arg, result);
         }
-        return result.toString();
     }
 
     @Override
@@ -99,24 +98,23 @@ public class BoolExpr extends ConditionalExpr {
     private static void addArg(Node arg, StringBuilder addTo) {
         switch (arg.type) {
         case T_BoolExpr:
-            addTo.append('(').append(arg).append(')');
-            break;
-        case T_A_Expr:
-            addTo.append(arg);
+            addTo.append('(');
+            arg.appendSql(addTo);
+            addTo.append(')');
             break;
         default:
-            addTo.append(arg);
+            arg.appendSql(addTo);
             break;
         }
     }
 
     /**
-     * Returns a "NOT" expression in a String format
+     * Appends a "NOT" expression to the buffer
      *
-     * @return String the not expression
+     * @param result
+     *            The buffer to append the not expression to
      */
-    private String notToString() {
-        StringBuilder result = new StringBuilder();
+    private void appendNot(StringBuilder result) {
         Node arg = args.get(0);
         
         if (arg instanceof A_Expr && A_Expr_Kind.AEXPR_DISTINCT.equals(((A_Expr) arg).kind)) {
@@ -129,7 +127,5 @@ public class BoolExpr extends ConditionalExpr {
         } else {
             addArg(arg, result.append("not "));
         }
-
-        return result.toString();
     }
 }
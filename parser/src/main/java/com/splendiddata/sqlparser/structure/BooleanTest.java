@@ -40,13 +40,13 @@ public class BooleanTest extends Expr {
     public BoolTestType booltesttype;
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
+    public void appendSql(StringBuilder result) {
         if (arg instanceof A_Expr) {
-            result.append('(').append(arg).append(')');
+            result.append('(');
+            arg.appendSql(result);
+            result.append(')');
         } else {
-            result.append(arg);
+            append(result, arg);
         }
 
         switch (booltesttype) {
@@ -71,8 +71,6 @@ public class BooleanTest extends Expr {
         default:
             throw new AssertionError("Unimplemented BoolTestType: " + booltesttype);
         }
-
-        return result.toString();
     }
 
     @Override
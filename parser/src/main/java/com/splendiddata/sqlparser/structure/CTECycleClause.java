@@ -86,13 +86,12 @@ public class CTECycleClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("cycle");
         if (cycle_col_list != null) {
             String separator = " ";
             for (Value col : cycle_col_list) {
-                result.append(separator).append(col);
+                append(result.append(separator), col);
                 separator = ", ";
             }
         }
@@ -102,20 +101,19 @@ public class CTECycleClause extends Node {
             if (cycle_mark_value instanceof TypeCast) {
                 result.append(((TypeCast)cycle_mark_value).type).append(" ").append(((TypeCast)cycle_mark_value).arg);
             } else {
-                result.append(cycle_mark_value);
+                append(result, cycle_mark_value);
             }
             if (cycle_mark_default != null) {
                 result.append(" default ");
                 if (cycle_mark_default instanceof TypeCast) {
                     result.append(((TypeCast)cycle_mark_default).type).append(" ").append(((TypeCast)cycle_mark_default).arg);
                 } else {
-                    result.append(cycle_mark_default);
+                    append(result, cycle_mark_default);
                 }
             }
         }
         if (cycle_path_column != null) {
             result.append(" using ").append(cycle_path_column);
         }
-        return result.toString();
     }
 }
@@ -72,8 +72,7 @@ public class CTESearchClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("search");
         if (search_breadth_first) {
             result.append(" breadth");
@@ -83,13 +82,11 @@ public class CTESearchClause extends Node {
         result.append(" first by");
         String separator = " ";
         for (Value column : search_col_list) {
-            result.append(separator).append(column);
+            append(result.append(separator), column);
             separator = ", ";
         }
         if (search_seq_column != null) {
             result.append(" set ").append(search_seq_column);
         }
-
-        return result.toString();
     }
 }
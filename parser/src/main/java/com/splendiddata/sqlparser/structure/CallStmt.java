@@ -60,7 +60,7 @@ public class CallStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "call " + funccall;
+    public void appendSql(StringBuilder result) {
+        append(result.append("call "), funccall);
     }
 }
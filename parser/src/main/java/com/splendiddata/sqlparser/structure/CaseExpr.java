@@ -79,21 +79,22 @@ public class CaseExpr extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("case ");
+    public void appendSql(StringBuilder result) {
+        result.append("case ");
         if (arg != null) {
-            result.append(arg).append(' ');
+            arg.appendSql(result);
+            result.append(' ');
         }
         if (args != null) {
             for (CaseWhen when : args) {
-                result.append(when).append(' ');
+                append(result, when).append(' ');
             }
         }
         if (defresult != null) {
-            result.append(" else ").append(defresult);
+            result.append(" else ");
+            defresult.appendSql(result);
         }
         result.append(" end");
-        return result.toString();
     }
 
     @Override
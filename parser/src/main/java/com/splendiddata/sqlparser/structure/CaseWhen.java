@@ -39,8 +39,9 @@ public class CaseWhen extends Node {
     public Expr result;
 
     @Override
-    public String toString() {
-        return new StringBuilder("when ").append(expr).append(" then ").append(result).toString();
+    public void appendSql(StringBuilder sql) {
+        append(sql.append("when "), expr).append(" then ");
+        append(sql, result);
     }
 
     /**
@@ -68,8 +68,8 @@ public class CheckPointStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("checkpoint");
+    public void appendSql(StringBuilder result) {
+        result.append("checkpoint");
         if (options != null && !options.isEmpty()) {
             String separator = "(";
             for (DefElem option : options) {
@@ -77,12 +77,12 @@ public class CheckPointStmt extends Node {
                 case "flush_unlogged" -> {
                     result.append(separator).append("flush_unlogged");
                     if (option.arg instanceof Value) {
-                        result.append(" ").append(option.arg);
+                        append(result.append(" "), option.arg);
                     }
                     separator = ", ";
                 }
                 case "mode" -> {
-                    result.append(separator).append("mode").append(" ").append(option.arg);
+                    append(result.append(separator).append("mode").append(" "), option.arg);
                     separator = ", ";
                 }
                 default -> 
@@ -91,6 +91,5 @@ public class CheckPointStmt extends Node {
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
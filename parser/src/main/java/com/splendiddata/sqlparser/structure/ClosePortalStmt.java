@@ -55,10 +55,11 @@ public class ClosePortalStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (portalname == null) {
-            return "close all";
+            result.append("close all");
+            return;
         }
-        return "close " + ParserUtil.identifierToSql(portalname);
+        result.append("close ").append(ParserUtil.identifierToSql(portalname));
     }
 }
@@ -86,8 +86,7 @@ public class ClusterStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("cluster");
 
@@ -103,7 +102,7 @@ public class ClusterStmt extends Node {
                     if ("verbose".equals(param.defname)) {
                         result.append("verbose true");
                     } else {
-                        result.append(param); // This will not work, but will at least lead an error message here
+                        append(result, param); // This will not work, but will at least lead an error message here
                     }
                 }
                 result.append(")");
@@ -111,14 +110,12 @@ public class ClusterStmt extends Node {
         }
 
         if (relation != null) {
-            result.append(' ').append(relation);
+            append(result.append(' '), relation);
         }
 
         if (indexname != null) {
             result.append(" using ").append(ParserUtil.identifierToSql(indexname));
         }
-
-        return result.toString();
     }
 
 }
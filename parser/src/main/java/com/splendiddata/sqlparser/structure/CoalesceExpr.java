@@ -56,8 +56,8 @@ public class CoalesceExpr extends Expr {
     }
 
     @Override
-    public String toString() {
-        return "coalesce" + args;
+    public void appendSql(StringBuilder result) {
+        append(result.append("coalesce"), args);
     }
 
     @Override
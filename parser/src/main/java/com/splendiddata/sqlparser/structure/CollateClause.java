@@ -41,13 +41,14 @@ public class CollateClause extends Expr {
     public List<Value> collname;
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (arg != null) {
             if (com.splendiddata.sqlparser.enums.NodeTag.T_A_Expr.equals(arg.type)) {
-                result.append('(').append(arg).append(')');
+                result.append('(');
+                arg.appendSql(result);
+                result.append(')');
             } else {
-                result.append(arg);
+                arg.appendSql(result);
             }
         }
         result.append(" collate");
@@ -56,7 +57,6 @@ public class CollateClause extends Expr {
             result.append(separator).append(ParserUtil.identifierToSql(coll.toString()));
             separator = '.';
         }
-        return result.toString();
     }
 
     @Override
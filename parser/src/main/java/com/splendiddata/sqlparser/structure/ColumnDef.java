@@ -165,8 +165,7 @@ public class ColumnDef extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         String space = "";
         if (colname != null) {
@@ -175,7 +174,7 @@ public class ColumnDef extends Node {
         }
 
         if (typeName != null) {
-            result.append(space).append(typeName);
+            append(result.append(space), typeName);
             space = " ";
         }
 
@@ -190,7 +189,7 @@ public class ColumnDef extends Node {
         }
 
         if (raw_default != null) {
-            result.append(space).append("using ").append(raw_default);
+            append(result.append(space).append("using "), raw_default);
             space = " ";
         }
 
@@ -242,17 +241,15 @@ public class ColumnDef extends Node {
         }
 
         if (collClause != null) {
-            result.append(collClause);
+            append(result, collClause);
         }
 
         if (constraints != null) {
             separator = " ";
             for (Constraint constraint : constraints) {
-                result.append(separator).append(constraint);
+                append(result.append(separator), constraint);
                 separator = " ";
             }
         }
-
-        return result.toString();
     }
 }
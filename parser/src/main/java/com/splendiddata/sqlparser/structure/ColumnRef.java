@@ -56,8 +56,8 @@ public class ColumnRef extends Expr {
     }
 
     @Override
-    public String toString() {
-        return ParserUtil.nameToSql(fields);
+    public void appendSql(StringBuilder result) {
+        result.append(ParserUtil.nameToSql(fields));
     }
 
     @Override
@@ -77,8 +77,7 @@ public class CommentStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("comment on ").append(objtype);
         switch (objtype) {
@@ -98,11 +97,10 @@ public class CommentStmt extends Node {
             break;
         case OBJECT_CAST:
             List<TypeName> typeNameList = (List<TypeName>) object;
-            result.append(" (").append(typeNameList.get(0).toString()).append(" as ")
-                    .append(typeNameList.get(1).toString()).append(')');
+            append(append(result.append(" ("), typeNameList.get(0)).append(" as "), typeNameList.get(1)).append(')');
             break;
         case OBJECT_LARGEOBJECT:
-            result.append(' ').append(object);
+            append(result.append(' '), object);
             break;
         case OBJECT_AGGREGATE:
             result.append(' ').append(ParserUtil.nameToSql(object));
@@ -149,7 +147,5 @@ public class CommentStmt extends Node {
             break;
         }
         result.append(" is ").append(ParserUtil.toSqlTextString(comment));
-
-        return result.toString();
     }
 }
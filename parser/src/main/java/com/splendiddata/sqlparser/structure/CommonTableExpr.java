@@ -89,8 +89,7 @@ public class CommonTableExpr extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append(ParserUtil.identifierToSql(ctename));
         String separator = "";
         if (aliascolnames != null) {
@@ -119,14 +118,13 @@ public class CommonTableExpr extends Node {
             }
         }
 
-        result.append('(').append(ctequery).append(')');
+        append(result.append('('), ctequery).append(')');
         if (search_clause != null) {
-            result.append(" ").append(search_clause);
+            append(result.append(" "), search_clause);
         }
         if (cycle_clause != null) {
-            result.append(" ").append(cycle_clause);
+            append(result.append(" "), cycle_clause);
         }
-        return result.toString();
     }
 
     @Override
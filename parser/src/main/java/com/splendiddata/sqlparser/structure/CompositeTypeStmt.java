@@ -70,17 +70,14 @@ public class CompositeTypeStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append("create type ").append(typevar);
+        append(result.append("create type "), typevar);
 
         if (coldeflist == null) {
             result.append(" as ()");
         } else {
-            result.append(" as ").append(coldeflist);
+            append(result.append(" as "), coldeflist);
         }
-
-        return result.toString();
     }
 }
@@ -340,8 +340,7 @@ public class Constraint extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (conname != null) {
             result.append("constraint ").append(ParserUtil.identifierToSql(conname)).append(' ');
@@ -361,7 +360,7 @@ public class Constraint extends Node {
             result.append("not deferrable");
             break;
         case CONSTR_CHECK:
-            result.append("check(").append(raw_expr).append(')');
+            append(result.append("check("), raw_expr).append(')');
             if (is_no_inherit) {
                 result.append(" no inherit");
             }
@@ -379,14 +378,14 @@ public class Constraint extends Node {
                 case AEXPR_OP_ALL:
                 case AEXPR_LIKE:
                 case AEXPR_ILIKE:
-                    result.append('(').append(raw_expr).append(')');
+                    append(result.append('('), raw_expr).append(')');
                     break;
                 default:
-                    result.append(raw_expr);
+                    append(result, raw_expr);
                     break;
                 }
             } else {
-                result.append(raw_expr);
+                append(result, raw_expr);
             }
             break;
         case CONSTR_EXCLUSION:
@@ -502,7 +501,7 @@ public class Constraint extends Node {
             }
 
             if (fk_del_set_cols != null) {
-                result.append(' ').append(fk_del_set_cols);
+                append(result.append(' '), fk_del_set_cols);
             }
             break;
         case CONSTR_NOTNULL:
@@ -570,7 +569,9 @@ public class Constraint extends Node {
                 result.append(" by default");
                 break;
             default:
-                return ParserUtil.reportUnknownValue(AttributeIdentity.class.getName(), generated_when, getClass());
+                result.append(ParserUtil.reportUnknownValue(AttributeIdentity.class.getName(), generated_when,
+                        getClass()));
+                return;
             }
             result.append(" as identity");
             if (options != null) {
@@ -591,18 +592,18 @@ public class Constraint extends Node {
                             result.append(separator).append(" no ").append(option.defname);
                             separator = ' ';
                         } else {
-                            result.append(separator).append(option.defname).append(' ').append(option.arg);
+                            append(result.append(separator).append(option.defname).append(' '), option.arg);
                             separator = ' ';
                         }
                         break;
                     default:
-                        result.append(separator).append(option.defname).append(' ').append(option.arg);
+                        append(result.append(separator).append(option.defname).append(' '), option.arg);
                         separator = ' ';
                     }
                 }
                 result.append(')');
             }
-            return result.toString();
+            return;
         case CONSTR_GENERATED:
             result.append("generated");
             switch (generated_when) {
@@ -613,24 +614,28 @@ public class Constraint extends Node {
                 result.append(" by default");
                 break;
             default:
-                return ParserUtil.reportUnknownValue(AttributeIdentity.class.getName(), generated_when, getClass());
+                result.append(ParserUtil.reportUnknownValue(AttributeIdentity.class.getName(), generated_when,
+                        getClass()));
+                return;
             }
             if (raw_expr != null) {
-                result.append(" as (").append(raw_expr).append(")");
+                append(result.append(" as ("), raw_expr).append(")");
             }
             if (generated_kind.equals(GeneratedKind.ATTRIBUTE_GENERATED_STORED)) {
                 result.append(" stored");
             }
-            return result.toString();
+            return;
         /** @since Postgres 18 */
         case CONSTR_ATTR_ENFORCED:
-            return " enforced";
+            result.append(" enforced");
+            return;
         /** @since Postgres 18 */
         case CONSTR_ATTR_NOT_ENFORCED:
-            return " not enforced";
+            result.append(" not enforced");
+            return;
         default:
             result.append(ParserUtil.reportUnknownValue("contype", contype.name(), getClass()));
-            return result.toString();
+            return;
         }
 
         if (options != null)
@@ -653,7 +658,7 @@ public class Constraint extends Node {
         }
 
         if (where_clause != null) {
-            result.append(" where (").append(where_clause).append(')');
+            append(result.append(" where ("), where_clause).append(')');
         }
 
         if (deferrable) {
@@ -669,7 +674,5 @@ public class Constraint extends Node {
         if (skip_validation) {
             result.append(" not valid");
         }
-
-        return result.toString();
     }
 }
\ No newline at end of file
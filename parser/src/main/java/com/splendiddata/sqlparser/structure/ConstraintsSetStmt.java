@@ -67,8 +67,7 @@ public class ConstraintsSetStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("set constraints");
 
@@ -77,7 +76,7 @@ public class ConstraintsSetStmt extends Node {
         } else {
             String separator = " ";
             for (RangeVar constraint : constraints) {
-                result.append(separator).append(constraint);
+                append(result.append(separator), constraint);
                 separator = ", ";
             }
         }
@@ -87,7 +86,5 @@ public class ConstraintsSetStmt extends Node {
         } else {
             result.append(" immediate");
         }
-
-        return result.toString();
     }
 }
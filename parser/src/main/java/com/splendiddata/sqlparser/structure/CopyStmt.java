@@ -137,13 +137,12 @@ public class CopyStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("copy ");
 
         if (relation != null) {
-            result.append(relation);
+            append(result, relation);
             if (attlist != null) {
                 result.append('(');
                 String separator = "";
@@ -154,7 +153,7 @@ public class CopyStmt extends Node {
                 result.append(')');
             }
         } else if (query != null) {
-            result.append('(').append(query).append(')');
+            append(result.append('('), query).append(')');
         }
 
         if (is_from) {
@@ -188,11 +187,11 @@ public class CopyStmt extends Node {
                     result.append(' ').append(ParserUtil.identifierToSql(option.arg.toString()));
                     break;
                 case "iod":
-                    result.append("s ").append(option.arg);
+                    append(result.append("s "), option.arg);
                     break;
                 case "oids":
                     if (option.arg != null) {
-                        result.append(" ").append(option.arg);
+                        append(result.append(" "), option.arg);
                     }
                     break;
                 case "freeze":
@@ -205,7 +204,7 @@ public class CopyStmt extends Node {
                 case "log_verbosity":
                 case "force_array":
                     if (option.arg != null) {
-                        result.append(' ').append(option.arg);
+                        append(result.append(' '), option.arg);
                     }
                     break;
                 case "default":
@@ -222,7 +221,7 @@ public class CopyStmt extends Node {
                     result.append(' ').append(ParserUtil.toSqlTextString(option.arg.toString()));
                     break;
                 case "reject_limit":
-                    result.append(' ').append(option.arg);
+                    append(result.append(' '), option.arg);
                     break;
                 default:
                     result.append(ParserUtil.reportUnknownValue("option.defname", option.defname, getClass()));
@@ -233,9 +232,7 @@ public class CopyStmt extends Node {
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
-
-        return result.toString();
     }
 }
@@ -95,8 +95,7 @@ public class CreateAmStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create access method ");
 
@@ -118,6 +117,5 @@ public class CreateAmStmt extends Node {
         if (handler_name != null) {
             result.append(" handler ").append(ParserUtil.nameToSql(handler_name));
         }
-        return result.toString();
     }
 }
@@ -86,10 +86,9 @@ public class CreateCastStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append("create cast (").append(sourcetype).append(" as ").append(targettype).append(')');
+        append(append(result.append("create cast ("), sourcetype).append(" as "), targettype).append(')');
 
         if (inout) {
             result.append(" with inout");
@@ -97,7 +96,7 @@ public class CreateCastStmt extends Node {
             if (func == null) {
                 result.append(" without function");
             } else {
-                result.append(" with function ").append(func);
+                append(result.append(" with function "), func);
             }
         }
 
@@ -106,7 +105,5 @@ public class CreateCastStmt extends Node {
         } else {
             result.append(" as implicit");
         }
-
-        return result.toString();
     }
 }
@@ -92,8 +92,7 @@ public class CreateConversionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
 
@@ -108,7 +107,5 @@ public class CreateConversionStmt extends Node {
         result.append(" to ").append(ParserUtil.toSqlTextString(to_encoding_name));
 
         result.append(" from ").append(ParserUtil.nameToSql(func_name));
-
-        return result.toString();
     }
 }
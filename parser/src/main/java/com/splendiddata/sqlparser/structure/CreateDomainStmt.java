@@ -95,21 +95,18 @@ public class CreateDomainStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append("create domain ").append(ParserUtil.nameToSql(domainname)).append(" as ").append(typeName);
+        append(result.append("create domain ").append(ParserUtil.nameToSql(domainname)).append(" as "), typeName);
 
         if (collClause != null) {
-            result.append(collClause);
+            append(result, collClause);
         }
 
         if (constraints != null) {
             for (Node constraint : constraints) {
-                result.append(' ').append(constraint);
+                append(result.append(' '), constraint);
             }
         }
-
-        return result.toString();
     }
 }
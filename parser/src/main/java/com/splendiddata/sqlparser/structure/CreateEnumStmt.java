@@ -75,8 +75,7 @@ public class CreateEnumStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create type ").append(ParserUtil.nameToSql(typeName)).append(" as enum (");
 
@@ -88,7 +87,5 @@ public class CreateEnumStmt extends Node {
             }
         }
         result.append(')');
-
-        return result.toString();
     }
 }
@@ -87,8 +87,7 @@ public class CreateEventTrigStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create event trigger ").append(ParserUtil.identifierToSql(trigname)).append(" on ")
                 .append(eventname);
@@ -108,7 +107,5 @@ public class CreateEventTrigStmt extends Node {
         }
 
         result.append(" execute procedure ").append(ParserUtil.nameToSql(funcname)).append("()");
-
-        return result.toString();
     }
 }
@@ -74,8 +74,7 @@ public class CreateExtensionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create extension ");
 
@@ -107,6 +106,5 @@ public class CreateExtensionStmt extends Node {
                 }
             }
         }
-        return result.toString();
     }
 }
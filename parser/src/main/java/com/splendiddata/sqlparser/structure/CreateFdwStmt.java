@@ -81,8 +81,7 @@ public class CreateFdwStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create foreign data wrapper ").append(ParserUtil.identifierToSql(fdwname));
 
@@ -108,7 +107,5 @@ public class CreateFdwStmt extends Node {
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -95,8 +95,7 @@ public class CreateForeignServerStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create server ");
         if (if_not_exists) {
@@ -128,7 +127,5 @@ public class CreateForeignServerStmt extends Node {
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
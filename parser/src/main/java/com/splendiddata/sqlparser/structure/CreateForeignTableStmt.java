@@ -73,11 +73,9 @@ public class CreateForeignTableStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
-        result.append("create foreign").append(base.toStringStartingWithTable()).append(" server ")
-                .append(ParserUtil.identifierToSql(servername));
+    public void appendSql(StringBuilder result) {
+        base.appendSqlStartingWithTable(result.append("create foreign"));
+        result.append(" server ").append(ParserUtil.identifierToSql(servername));
 
         if (options != null) {
             result.append(" options (");
@@ -89,7 +87,5 @@ public class CreateForeignTableStmt extends Node {
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -121,8 +121,7 @@ public class CreateFunctionStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
 
@@ -149,7 +148,7 @@ public class CreateFunctionStmt extends Node {
                     }
                     resultingTableColumns.add(parameter);
                 } else {
-                    result.append(separator).append(parameter);
+                    append(result.append(separator), parameter);
                     separator = ", ";
                 }
             }
@@ -158,9 +157,9 @@ public class CreateFunctionStmt extends Node {
 
         if (returnType != null) {
             if (resultingTableColumns == null) {
-                result.append(" returns ").append(returnType);
+                append(result.append(" returns "), returnType);
             } else {
-                result.append(" returns table ").append(resultingTableColumns);
+                append(result.append(" returns table "), resultingTableColumns);
             }
         }
 
@@ -191,13 +190,13 @@ public class CreateFunctionStmt extends Node {
                     }
                     break;
                 case "cost":
-                    result.append(" cost ").append(option.arg);
+                    append(result.append(" cost "), option.arg);
                     break;
                 case "rows":
-                    result.append(" rows ").append(option.arg);
+                    append(result.append(" rows "), option.arg);
                     break;
                 case "set":
-                    result.append(' ').append(option.arg);
+                    append(result.append(' '), option.arg);
                     break;
                 case "language":
                     result.append(" language ").append(ParserUtil.identifierToSql(option.arg.toString()));
@@ -227,7 +226,7 @@ public class CreateFunctionStmt extends Node {
                     result.append(" transform for type");
                     separator = " ";
                     for (TypeName typeName : (List<TypeName>)option.arg) {
-                        result.append(separator).append(typeName);
+                        append(result.append(separator), typeName);
                         separator = ", for type ";
                     }
                     separator = " ";
@@ -245,18 +244,16 @@ public class CreateFunctionStmt extends Node {
                 for (Node lstElem : (List<Node>) sql_body) {
                     if (lstElem instanceof List) {
                         for (Node stmt : (List<Node>) lstElem) {
-                            result.append(stmt).append("; ");
+                            append(result, stmt).append("; ");
                         }
                     } else {
-                        result.append(lstElem).append("; ");
+                        append(result, lstElem).append("; ");
                     }
                 }
                 result.append("end");
             } else {
-                result.append(" ").append(sql_body);
+                append(result.append(" "), sql_body);
             }
         }
-
-        return result.toString();
     }
 }
@@ -104,18 +104,17 @@ public class CreateOpClassItem extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         switch (itemtype) {
         case 1:
             result.append("operator ").append(number);
             if (name != null) {
-                result.append(' ').append(name);
+                append(result.append(' '), name);
             }
 
             if (class_args != null) {
-                result.append(' ').append(class_args);
+                append(result.append(' '), class_args);
             }
 
             if (order_family != null) {
@@ -125,19 +124,17 @@ public class CreateOpClassItem extends Node {
         case 2:
             result.append("function ").append(number);
             if (class_args != null) {
-                result.append(' ').append(class_args);
+                append(result.append(' '), class_args);
             }
             if (name != null) {
-                result.append(' ').append(name);
+                append(result.append(' '), name);
             }
             break;
         case 3:
-            result.append("storage ").append(storedtype);
+            append(result.append("storage "), storedtype);
             break;
         default:
             result.append(ParserUtil.reportUnknownValue("itemtype", Integer.valueOf(itemtype), getClass()));
         }
-
-        return result.toString();
     }
 }
\ No newline at end of file
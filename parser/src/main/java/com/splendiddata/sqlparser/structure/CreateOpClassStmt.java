@@ -107,8 +107,7 @@ public class CreateOpClassStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create operator class ").append(ParserUtil.nameToSql(opclassname));
 
@@ -116,7 +115,7 @@ public class CreateOpClassStmt extends Node {
             result.append(" default");
         }
 
-        result.append(" for type ").append(datatype).append(" using ").append(ParserUtil.identifierToSql(amname));
+        append(result.append(" for type "), datatype).append(" using ").append(ParserUtil.identifierToSql(amname));
 
         if (opfamilyname != null) {
             result.append(" family ").append(ParserUtil.nameToSql(opfamilyname));
@@ -124,10 +123,8 @@ public class CreateOpClassStmt extends Node {
 
         String separator = " as ";
         for (CreateOpClassItem item : items) {
-            result.append(separator).append(item);
+            append(result.append(separator), item);
             separator = ", ";
         }
-
-        return result.toString();
     }
 }
@@ -69,8 +69,8 @@ public class CreateOpFamilyStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return new StringBuilder("create operator family ").append(ParserUtil.nameToSql(opfamilyname)).append(" using ")
-                .append(ParserUtil.identifierToSql(amname)).toString();
+    public void appendSql(StringBuilder result) {
+        result.append("create operator family ").append(ParserUtil.nameToSql(opfamilyname)).append(" using ")
+                .append(ParserUtil.identifierToSql(amname));
     }
 }
@@ -103,8 +103,7 @@ public class CreatePLangStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
 
@@ -129,7 +128,5 @@ public class CreatePLangStmt extends Node {
         if (plvalidator != null) {
             result.append(" validator ").append(ParserUtil.nameToSql(plvalidator));
         }
-
-        return result.toString();
     }
 }
@@ -98,9 +98,8 @@ public class CreatePolicyStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append("create policy ").append(policy_name).append(" on ").append(table);
+    public void appendSql(StringBuilder result) {
+        append(result.append("create policy ").append(policy_name).append(" on "), table);
 
         if (!permissive) {
             result.append(" as restrictive");
@@ -113,20 +112,18 @@ public class CreatePolicyStmt extends Node {
         if (roles != null) {
             String separator = " to ";
             for (RoleSpec role : roles) {
-                result.append(separator).append(role);
+                append(result.append(separator), role);
                 separator = ", ";
             }
         }
 
         if (qual != null) {
-            result.append(" using (").append(qual).append(')');
+            append(result.append(" using ("), qual).append(')');
         }
 
         if (with_check != null) {
-            result.append(" with check (").append(with_check).append(')');
+            append(result.append(" with check ("), with_check).append(')');
         }
-
-        return result.toString();
     }
 
     @Override
@@ -85,19 +85,16 @@ public class CreatePropGraphStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("create property graph");
         if (pgname != null) {
-            result.append(' ').append(pgname);
+            append(result.append(' '), pgname);
         }
         if (vertex_tables != null && !vertex_tables.isEmpty()) {
-            result.append(" vertex tables ").append(vertex_tables);
+            append(result.append(" vertex tables "), vertex_tables);
         }
         if (edge_tables != null && !edge_tables.isEmpty()) {
-            result.append(" edge tables ").append(edge_tables);
+            append(result.append(" edge tables "), edge_tables);
         }
-
-        return result.toString();
     }
 }
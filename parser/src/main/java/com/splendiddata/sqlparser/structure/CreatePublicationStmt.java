@@ -70,8 +70,8 @@ public class CreatePublicationStmt extends AbstractPublicationStmt {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("create publication ")
+    public void appendSql(StringBuilder result) {
+        result.append("create publication ")
                 .append(ParserUtil.identifierToSql(pubname));
         if (for_all_tables) {
             result.append(" for all tables");
@@ -80,7 +80,7 @@ public class CreatePublicationStmt extends AbstractPublicationStmt {
         } else if (tables != null && !tables.isEmpty()) {
             String separator = " for table ";
             for (RangeVar table : tables) {
-                result.append(separator).append(table);
+                append(result.append(separator), table);
                 separator = ", ";
             }
         }
@@ -91,12 +91,12 @@ public class CreatePublicationStmt extends AbstractPublicationStmt {
                 if (PublicationObjSpecType.PUBLICATIONOBJ_EXCEPT_TABLE.equals(pubObject.pubobjtype)) {
                     exclTables.add(pubObject);
                 } else {
-                    result.append(sep).append(pubObject);
+                    append(result.append(sep), pubObject);
                     sep = ", ";
                 }
             }
             if (!exclTables.isEmpty()) {
-                result.append(" except ").append(exclTables);
+                append(result.append(" except "), exclTables);
             }
         }
         if (options != null && !options.isEmpty()) {
@@ -104,12 +104,11 @@ public class CreatePublicationStmt extends AbstractPublicationStmt {
             for (DefElem opt : options) {
                 result.append(separator).append(opt.defname);
                 if (opt.arg != null) {
-                    result.append(" = '").append(opt.arg).append('\'');
+                    append(result.append(" = '"), opt.arg).append('\'');
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
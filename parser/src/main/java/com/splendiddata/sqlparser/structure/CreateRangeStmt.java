@@ -74,8 +74,7 @@ public class CreateRangeStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create type ").append(ParserUtil.nameToSql(typeName)).append(" as range");
 
@@ -83,12 +82,10 @@ public class CreateRangeStmt extends Node {
             result.append(" (");
             String separator = "";
             for (DefElem param : params) {
-                result.append(separator).append(param.defname).append(" = ").append(param.arg);
+                append(result.append(separator).append(param.defname).append(" = "), param.arg);
                 separator = ", ";
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
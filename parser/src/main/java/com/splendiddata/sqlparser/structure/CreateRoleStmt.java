@@ -87,12 +87,11 @@ public class CreateRoleStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ").append(stmt_type).append(' ');
         if (role instanceof RoleSpec) {
-            result.append(role);
+            append(result, role);
         } else {
             result.append(ParserUtil.identifierToSql(getRole()));
         }
@@ -171,7 +170,7 @@ public class CreateRoleStmt extends Node {
                     rolesToString(" admin ", (List<RoleSpec>) option.arg, result);
                     break;
                 case "sysid":
-                    result.append(" sysid ").append(option.arg);
+                    append(result.append(" sysid "), option.arg);
                     break;
                 case "isreplication":
                     if (((Value) option.arg).val.ival == 0) {
@@ -181,7 +180,7 @@ public class CreateRoleStmt extends Node {
                     }
                     break;
                 case "connectionlimit":
-                    result.append(" connection limit ").append(option.arg);
+                    append(result.append(" connection limit "), option.arg);
                     break;
                 case "bypassrls":
                     result.append(" bypassrls");
@@ -193,8 +192,6 @@ public class CreateRoleStmt extends Node {
                 separator = " ";
             }
         }
-
-        return result.toString();
     }
 
     /**
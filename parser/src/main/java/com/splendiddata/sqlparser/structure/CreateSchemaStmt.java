@@ -85,8 +85,7 @@ public class CreateSchemaStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create schema");
 
@@ -99,16 +98,14 @@ public class CreateSchemaStmt extends Node {
         }
 
         if (authrole != null) {
-            result.append(" authorization ").append(authrole);
+            append(result.append(" authorization "), authrole);
         }
 
         if (schemaElts != null) {
             for (Node el : schemaElts) {
                 result.append(' ');
-                result.append(el);
+                append(result, el);
             }
         }
-
-        return result.toString();
     }
 }
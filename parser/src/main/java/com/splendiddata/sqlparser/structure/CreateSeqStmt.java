@@ -96,8 +96,7 @@ public class CreateSeqStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create");
 
@@ -120,7 +119,7 @@ public class CreateSeqStmt extends Node {
             result.append("if not exists ");
         }
 
-        result.append(sequence);
+        append(result, sequence);
 
         if (options != null) {
             for (DefElem option : options) {
@@ -145,15 +144,13 @@ public class CreateSeqStmt extends Node {
                     if (option.arg == null) {
                         result.append(" no ").append(option.defname);
                     } else {
-                        result.append(' ').append(option.defname).append(' ').append(option.arg);
+                        append(result.append(' ').append(option.defname).append(' '), option.arg);
                     }
                     break;
                 default:
-                    result.append(' ').append(option.defname).append(' ').append(option.arg);
+                    append(result.append(' ').append(option.defname).append(' '), option.arg);
                 }
             }
         }
-
-        return result.toString();
     }
 }
@@ -118,7 +118,7 @@ public class CreateStatsStmt extends Node {
      * @return String the qualified name if specified
      */
     @XmlAttribute(name = "defnames")
-    private String getQualifiedName() {
+    String getQualifiedName() {
         if (defnames == null) {
             return null;
         }
@@ -126,8 +126,8 @@ public class CreateStatsStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("create statistics");
+    public void appendSql(StringBuilder result) {
+        result.append("create statistics");
         if (if_not_exists) {
             result.append(" if not exists");
         }
@@ -135,22 +135,21 @@ public class CreateStatsStmt extends Node {
             result.append(' ').append(getQualifiedName());
         }
         if (stat_types != null) {
-            result.append(' ').append(stat_types);
+            append(result.append(' '), stat_types);
         }
         if (exprs != null) {
             String separator = " on ";
             for (StatsElem expr : exprs) {
-                result.append(separator).append(expr);
+                append(result.append(separator), expr);
                 separator = ", ";
             }
         }
         if (relations != null) {
             String separator = " from ";
             for (Node relation : relations) {
-                result.append(separator).append(relation);
+                append(result.append(separator), relation);
                 separator = ", ";
             }
         }
-        return result.toString();
     }
 }
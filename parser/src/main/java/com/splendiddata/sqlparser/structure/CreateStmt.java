@@ -173,8 +173,8 @@ public class CreateStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "create" + toStringStartingWithTable();
+    public void appendSql(StringBuilder result) {
+        appendSqlStartingWithTable(result.append("create"));
     }
 
     /**
@@ -189,7 +189,18 @@ public class CreateStmt extends Node {
      */
     public String toStringStartingWithTable() {
         StringBuilder result = new StringBuilder();
+        appendSqlStartingWithTable(result);
+        return result.toString();
+    }
 
+    /**
+     * Appends the SQL text of toStringStartingWithTable() to result.
+     *
+     * @param result
+     *            The StringBuilder to append the statement from the "table" keyword on to
+     * @since 19.0
+     */
+    public void appendSqlStartingWithTable(StringBuilder result) {
         switch (relation.relpersistence) {
         case RELPERSISTENCE_PERMANENT:
             break;
@@ -209,39 +220,39 @@ public class CreateStmt extends Node {
             result.append("if not exists ");
         }
 
-        result.append(relation);
+        append(result, relation);
 
         if (ofTypename != null) {
-            result.append(" of ").append(ofTypename);
+            append(result.append(" of "), ofTypename);
             if (tableElts != null) {
                 result.append(" ");
-                result.append(tableElts);
+                append(result, tableElts);
             }
         } else if (partbound != null) {
-            result.append(" partition of ").append(inhRelations.get(0));
+            append(result.append(" partition of "), inhRelations.get(0));
             if (tableElts != null) {
                 result.append(" ");
-                result.append(tableElts);
+                append(result, tableElts);
             }
-            result.append(partbound);
+            append(result, partbound);
         } else if (tableElts == null) {
             result.append("()");
         } else {
-            result.append(tableElts);
+            append(result, tableElts);
         }
 
         if (partbound == null && inhRelations != null) {
             result.append(" inherits (");
             String separator = "";
             for (RangeVar rel : inhRelations) {
-                result.append(separator).append(rel);
+                append(result.append(separator), rel);
                 separator = ", ";
             }
             result.append(')');
         }
 
         if (partspec != null) {
-            result.append(' ').append(partspec);
+            append(result.append(' '), partspec);
         }
 
         if (options != null) {
@@ -251,7 +262,7 @@ public class CreateStmt extends Node {
                 result.append(separator).append(option.defname.toLowerCase());
                 if (option.arg != null) {
                     if (NodeTag.T_Integer.equals(option.arg.type)) {
-                        result.append(" = ").append(option.arg);
+                        append(result.append(" = "), option.arg);
                     } else {
                         result.append(" = ").append(ParserUtil.toSqlTextString(option.arg.toString()));
                     }
@@ -287,7 +298,5 @@ public class CreateStmt extends Node {
         if (accessMethod != null) {
             result.append(" using ").append(ParserUtil.identifierToSql(accessMethod));
         }
-
-        return result.toString();
     }
 }
@@ -95,8 +95,8 @@ public class CreateSubscriptionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("create subscription ").append(ParserUtil.identifierToSql(subname));
+    public void appendSql(StringBuilder result) {
+        result.append("create subscription ").append(ParserUtil.identifierToSql(subname));
         String separator = "";
         if (servername == null) {
             result.append(" connection '").append(conninfo == null ? "null" : conninfo.replace("'", "''"));
@@ -117,12 +117,11 @@ public class CreateSubscriptionStmt extends Node {
             for (DefElem opt : options) {
                 result.append(separator).append(opt.defname);
                 if (opt.arg != null) {
-                    result.append(" = '").append(opt.arg).append('\'');
+                    append(result.append(" = '"), opt.arg).append('\'');
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
@@ -111,11 +111,10 @@ public class CreateTableAsStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (is_select_into) {
-            result.append(query).append(" into ").append(into);
+            append(append(result, query).append(" into "), into);
         } else {
             result.append("create ");
 
@@ -141,18 +140,16 @@ public class CreateTableAsStmt extends Node {
                 result.append(" if not exists");
             }
 
-            result.append(' ').append(into);
+            append(result.append(' '), into);
 
             if (into.accessMethod != null) {
                 result.append(" using ").append(ParserUtil.identifierToSql(into.accessMethod));
             }
 
-            result.append(" as ").append(query);
+            append(result.append(" as "), query);
             if (into.skipData) {
                 result.append(" with no data");
             }
         }
-
-        return result.toString();
     }
 }
@@ -87,13 +87,12 @@ public class CreateTableSpaceStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create tablespace ").append(ParserUtil.identifierToSql(tablespacename));
 
         if (owner != null) {
-            result.append(" owner ").append(owner);
+            append(result.append(" owner "), owner);
         }
 
         result.append(" location ").append(ParserUtil.toSqlTextString(location));
@@ -104,12 +103,11 @@ public class CreateTableSpaceStmt extends Node {
             for (DefElem option : options) {
                 result.append(separator).append(option.defname);
                 if (option.arg != null) {
-                    result.append(" = ").append(option.arg);
+                    append(result.append(" = "), option.arg);
                 }
                 separator = ", ";
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
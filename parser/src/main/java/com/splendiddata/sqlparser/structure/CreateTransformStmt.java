@@ -89,8 +89,7 @@ public class CreateTransformStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
 
@@ -98,19 +97,17 @@ public class CreateTransformStmt extends Node {
             result.append("or replace ");
         }
 
-        result.append("transform ").append("for ").append(type_name).append(" language ").append(lang).append(" (");
+        append(result.append("transform ").append("for "), type_name).append(" language ").append(lang).append(" (");
         if (fromsql != null) {
-            result.append("from sql with function ").append(fromsql);
+            append(result.append("from sql with function "), fromsql);
         }
 
         if (tosql != null) {
             if (fromsql != null) {
                 result.append(", ");
             }
-            result.append("to sql with function ").append(tosql);
+            append(result.append("to sql with function "), tosql);
         }
         result.append(")");
-
-        return result.toString();
     }
 }
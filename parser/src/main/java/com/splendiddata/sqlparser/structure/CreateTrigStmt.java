@@ -209,8 +209,7 @@ public class CreateTrigStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create");
 
@@ -261,10 +260,10 @@ public class CreateTrigStmt extends Node {
             separator = " or ";
         }
 
-        result.append(" on ").append(relation);
+        append(result.append(" on "), relation);
 
         if (constrrel != null) {
-            result.append(" from ").append(constrrel);
+            append(result.append(" from "), constrrel);
         }
 
         if (deferrable) {
@@ -278,7 +277,7 @@ public class CreateTrigStmt extends Node {
         if (transitionRels != null) {
             String sep = " referencing ";
             for (TriggerTransition transition : transitionRels) {
-                result.append(sep).append(transition);
+                append(result.append(sep), transition);
                 sep = " ";
             }
         }
@@ -290,7 +289,7 @@ public class CreateTrigStmt extends Node {
         }
 
         if (whenClause != null) {
-            result.append(" when (").append(whenClause).append(')');
+            append(result.append(" when ("), whenClause).append(')');
         }
 
         result.append(" execute procedure ").append(ParserUtil.nameToSql(funcname));
@@ -306,7 +305,5 @@ public class CreateTrigStmt extends Node {
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
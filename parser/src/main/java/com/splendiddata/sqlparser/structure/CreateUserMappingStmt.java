@@ -87,8 +87,7 @@ public class CreateUserMappingStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create user mapping ");
         if (if_not_exists) {
@@ -98,7 +97,7 @@ public class CreateUserMappingStmt extends Node {
         if (user == null) {
             result.append("public");
         } else {
-            result.append(user);
+            append(result, user);
         }
         result.append(" server ").append(ParserUtil.identifierToSql(servername));
 
@@ -112,6 +111,5 @@ public class CreateUserMappingStmt extends Node {
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
@@ -70,8 +70,7 @@ public class CreatedbStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create database ").append(ParserUtil.identifierToSql(dbname));
 
@@ -86,7 +85,7 @@ public class CreatedbStmt extends Node {
                             .append(ParserUtil.identifierToSql(option.arg.toString()));
                     break;
                 case "connectionlimit":
-                    result.append(" connection limit = ").append(option.arg.toString());
+                    append(result.append(" connection limit = "), option.arg);
                     break;
                 default:
                     result.append(' ').append(option.defname).append(" = ")
@@ -95,7 +94,5 @@ public class CreatedbStmt extends Node {
                 }
             }
         }
-
-        return result.toString();
     }
 }
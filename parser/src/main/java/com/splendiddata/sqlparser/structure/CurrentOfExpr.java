@@ -60,10 +60,10 @@ public class CurrentOfExpr extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         /*
          * cursor_param will always be zero and has no meaning here. It is used internally be Postgres.
          */
-        return "current of " + cursor_name;
+        result.append("current of ").append(cursor_name);
     }
 }
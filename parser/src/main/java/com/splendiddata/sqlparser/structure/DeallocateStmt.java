@@ -65,10 +65,11 @@ public class DeallocateStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (name == null) {
-            return "deallocate all";
+            result.append("deallocate all");
+            return;
         }
-        return "deallocate " + ParserUtil.identifierToSql(name);
+        result.append("deallocate ").append(ParserUtil.identifierToSql(name));
     }
 }
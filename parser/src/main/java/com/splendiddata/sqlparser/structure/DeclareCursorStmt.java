@@ -89,8 +89,7 @@ public class DeclareCursorStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("declare ").append(ParserUtil.identifierToSql(portalname));
 
@@ -116,8 +115,6 @@ public class DeclareCursorStmt extends Node {
             result.append(" with hold");
         }
 
-        result.append(" for ").append(query);
-
-        return result.toString();
+        append(result.append(" for "), query);
     }
 }
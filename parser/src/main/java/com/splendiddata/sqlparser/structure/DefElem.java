@@ -84,7 +84,7 @@ public class DefElem extends Node {
      *             because usages of a DefElem are too versatile to implement properly in the DefElem class
      */
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         throw new UnsupportedOperationException(
                 "Because DefElem is used very differenty in different classes, the invoking class must implement toString() "
                         + "functionality for a DefElem on an as needed bases in the invoking class itself: "
@@ -119,8 +119,7 @@ public class DefineStmt extends Node {
 
     @SuppressWarnings("unchecked")
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
         if (replace) {
@@ -168,12 +167,12 @@ public class DefineStmt extends Node {
                             result.append(", ");
                         }
                     }
-                    result.append(arg);
+                    append(result, arg);
                     i++;
                 }
                 result.append(')');
             } else {
-                result.append(arg0);
+                append(result, arg0);
             }
         }
 
@@ -212,7 +211,7 @@ public class DefineStmt extends Node {
                             break;
                         case T_String:
                         default:
-                            result.append(" = '").append(def.arg.toString()).append('\'');
+                            append(result.append(" = '"), def.arg).append('\'');
                             break;
                         }
                         break;
@@ -223,11 +222,12 @@ public class DefineStmt extends Node {
                             // uc_EN is case sensitive, so take the literal string
                             result.append(" = '").append(((Value) def.arg).val.str).append('\'');
                         } else {
-                            result.append(" = ").append(def.arg);
+                            append(result.append(" = "), def.arg);
                         }
                         break;
                     case "category":
-                        result.append(separator).append(def.defname.toLowerCase()).append(" = '").append(def.arg).append("'");
+                        append(result.append(separator).append(def.defname.toLowerCase()).append(" = '"), def.arg)
+                                .append("'");
                         break;
                     default:
                         result.append(separator).append('"').append(def.defname.toLowerCase()).append('"');
@@ -245,7 +245,7 @@ public class DefineStmt extends Node {
                                     break;
                                 }
                             } else {
-                                result.append(def.arg);
+                                append(result, def.arg);
                             }
                         }
                         break;
@@ -256,7 +256,5 @@ public class DefineStmt extends Node {
                 result.append(')');
             }
         }
-
-        return result.toString();
     }
 }
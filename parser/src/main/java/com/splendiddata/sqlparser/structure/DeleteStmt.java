@@ -136,42 +136,39 @@ public class DeleteStmt extends Stmt {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (withClause != null) {
-            result.append(withClause).append(' ');
+            append(result, withClause).append(' ');
         }
 
         result.append("delete");
         if (relation != null) {
-            result.append(" from ").append(relation.toString(forPortionOf));
+            relation.appendSql(result.append(" from "), forPortionOf);
         }
 
         if (usingClause != null) {
             String separator = " using ";
             for (Node tableExpression : usingClause) {
-                result.append(separator).append(tableExpression);
+                append(result.append(separator), tableExpression);
                 separator = ", ";
             }
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
 
         if (returningList != null) {
             String separator = " returning ";
             for (ResTarget returning : returningList) {
-                result.append(separator).append(returning);
+                append(result.append(separator), returning);
                 separator = ", ";
             }
         }
 
         if (returningClause != null) {
-            result.append(' ').append(returningClause);
+            append(result.append(' '), returningClause);
         }
-
-        return result.toString();
     }
 }
@@ -53,7 +53,7 @@ public class DiscardStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "discard " + target;
+    public void appendSql(StringBuilder result) {
+        result.append("discard ").append(target);
     }
 }
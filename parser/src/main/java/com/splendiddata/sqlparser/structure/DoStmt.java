@@ -64,14 +64,13 @@ public class DoStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("do");
         for (DefElem arg : args) {
             switch (arg.defname) {
             case "language":
-                result.append(" language ").append(arg.arg);
+                append(result.append(" language "), arg.arg);
                 break;
             case "as":
                 String argString = arg.arg.toString().replace("$$", "$");
@@ -86,6 +85,5 @@ public class DoStmt extends Node {
                 break;
             }
         }
-        return result.toString();
     }
 }
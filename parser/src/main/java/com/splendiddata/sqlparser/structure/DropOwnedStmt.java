@@ -67,17 +67,14 @@ public class DropOwnedStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         String separator = "drop owned by ";
         for (RoleSpec role : roles) {
-            result.append(separator).append(role);
+            append(result.append(separator), role);
             separator = ", ";
         }
 
         result.append(behavior);
-
-        return result.toString();
     }
 }
@@ -68,8 +68,7 @@ public class DropRoleStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("drop role ");
 
@@ -79,10 +78,8 @@ public class DropRoleStmt extends Node {
 
         String separator = "";
         for (RoleSpec role : roles) {
-            result.append(separator).append(role);
+            append(result.append(separator), role);
             separator = ", ";
         }
-
-        return result.toString();
     }
 }
@@ -83,20 +83,25 @@ public class DropStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         switch (removeType) {
         case OBJECT_AGGREGATE:
-            return dropAggregateToString();
+            appendDropAggregate(result);
+            return;
         case OBJECT_CAST:
-            return dropCastToString();
+            appendDropCast(result);
+            return;
         case OBJECT_CONVERSION:
-            return dropMultipleToString();
+            appendDropMultiple(result);
+            return;
         case OBJECT_COLLATION:
         case OBJECT_FDW:
         case OBJECT_LANGUAGE:
-            return dropSimpleToString();
+            appendDropSimple(result);
+            return;
         case OBJECT_DOMAIN:
-            return dropDomainToString();
+            appendDropDomain(result);
+            return;
         case OBJECT_EXTENSION:
         case OBJECT_FOREIGN_TABLE:
         case OBJECT_INDEX:
@@ -121,30 +126,35 @@ public class DropStmt extends Node {
         case OBJECT_EVENT_TRIGGER:
         case OBJECT_ACCESS_METHOD:
         case OBJECT_PROPGRAPH:
-            return dropMultipleToString();
+            appendDropMultiple(result);
+            return;
         case OBJECT_OPCLASS:
         case OBJECT_OPFAMILY:
-            return dropOperatorClassFamToString();
+            appendDropOperatorClassFam(result);
+            return;
         case OBJECT_RULE:
         case OBJECT_TRIGGER:
-            return dropObjectOnTableToString();
+            appendDropObjectOnTable(result);
+            return;
         case OBJECT_POLICY:
-            return dropPolicyToString();
+            appendDropPolicy(result);
+            return;
         case OBJECT_TRANSFORM:
-            return dropTransformToString();
+            appendDropTransform(result);
+            return;
         default:
-            return ParserUtil.reportUnknownValue("removeType", removeType, getClass());
+            result.append(ParserUtil.reportUnknownValue("removeType", removeType, getClass()));
+            return;
         }
     }
 
     /**
      * Prints out the drop policy statement
      *
-     * @return String the rendered drop policy statement
+     * @param result
+     *            the StringBuilder to which the drop policy statement is appended
      */
-    private String dropPolicyToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropPolicy(StringBuilder result) {
         result.append("drop policy ");
 
         if (missing_ok) {
@@ -161,13 +171,9 @@ public class DropStmt extends Node {
 
         result.append(" on ");
         result.append(ParserUtil.nameListToSql(qualifiedName));
-
-        return result.toString();
     }
 
-    private String dropObjectOnTableToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropObjectOnTable(StringBuilder result) {
         result.append("drop ").append(removeType);
 
         if (missing_ok) {
@@ -185,14 +191,10 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
     @SuppressWarnings("unchecked")
-    private String dropOperatorClassFamToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropOperatorClassFam(StringBuilder result) {
         result.append("drop ").append(removeType);
 
         if (missing_ok) {
@@ -208,18 +210,15 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
     /**
      * Prints out the drop transform statement
      *
-     * @return String the rendered drop transform statement
+     * @param result
+     *            the StringBuilder to which the drop transform statement is appended
      */
-    private String dropTransformToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropTransform(StringBuilder result) {
         result.append("drop ").append(removeType);
 
         if (missing_ok) {
@@ -228,18 +227,15 @@ public class DropStmt extends Node {
 
         @SuppressWarnings("unchecked")
         List<Node> transformSpec = (List<Node>)objects.get(0);
-        result.append(" for ").append(transformSpec.get(0)).append(" language ").append(ParserUtil.nameToSql(transformSpec.get(1)));
+        append(result.append(" for "), transformSpec.get(0)).append(" language ")
+                .append(ParserUtil.nameToSql(transformSpec.get(1)));
 
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
-    private String dropMultipleToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropMultiple(StringBuilder result) {
         result.append("drop ").append(removeType);
 
         if (concurrent) {
@@ -259,13 +255,9 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
-    private String dropDomainToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropDomain(StringBuilder result) {
         result.append("drop ").append(removeType);
 
         if (concurrent) {
@@ -285,13 +277,9 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
-    private String dropSimpleToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropSimple(StringBuilder result) {
         result.append("drop ").append(removeType);
 
         if (missing_ok) {
@@ -303,14 +291,10 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
     @SuppressWarnings("unchecked")
-    private String dropCastToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropCast(StringBuilder result) {
         result.append("drop cast ");
 
         if (missing_ok) {
@@ -324,13 +308,9 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 
-    private String dropAggregateToString() {
-        StringBuilder result = new StringBuilder();
-
+    private void appendDropAggregate(StringBuilder result) {
         result.append("drop aggregate ");
 
         if (missing_ok) {
@@ -349,7 +329,5 @@ public class DropStmt extends Node {
         if (behavior != null) {
             result.append(behavior);
         }
-
-        return result.toString();
     }
 }
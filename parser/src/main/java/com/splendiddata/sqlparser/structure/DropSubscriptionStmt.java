@@ -68,8 +68,8 @@ public class DropSubscriptionStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("drop subscription ");
+    public void appendSql(StringBuilder result) {
+        result.append("drop subscription ");
         if (missing_ok) {
             result.append("if exists ");
         }
@@ -77,6 +77,5 @@ public class DropSubscriptionStmt extends Node {
         if (DropBehavior.DROP_CASCADE.equals(behavior)) {
             result.append(" cascade");
         }
-        return result.toString();
     }
 }
@@ -58,10 +58,11 @@ public class DropTableSpaceStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (missing_ok) {
-            return "drop tablespace if exists " + ParserUtil.identifierToSql(tablespacename);
+            result.append("drop tablespace if exists ").append(ParserUtil.identifierToSql(tablespacename));
+            return;
         }
-        return "drop tablespace " + ParserUtil.identifierToSql(tablespacename);
+        result.append("drop tablespace ").append(ParserUtil.identifierToSql(tablespacename));
     }
 }
@@ -73,8 +73,7 @@ public class DropUserMappingStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("drop user mapping ");
 
@@ -87,11 +86,9 @@ public class DropUserMappingStmt extends Node {
         if (user == null) {
             result.append("public");
         } else {
-            result.append(user);
+            append(result, user);
         }
 
         result.append(" server ").append(ParserUtil.identifierToSql(servername));
-
-        return result.toString();
     }
 }
@@ -89,8 +89,8 @@ public class DropdbStmt extends Node {
      * @return String the original statement
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("drop database ");
+    public void appendSql(StringBuilder result) {
+        result.append("drop database ");
         if (missing_ok) {
             result.append("if exists ");
         }
@@ -103,6 +103,5 @@ public class DropdbStmt extends Node {
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
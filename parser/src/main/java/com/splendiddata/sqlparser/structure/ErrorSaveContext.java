@@ -88,11 +88,8 @@ public class ErrorSaveContext extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("????? please implement ").append(getClass().getName()).append(".toString()");
-        
-        return result.toString();
     }
 }
@@ -70,15 +70,12 @@ public class ExecuteStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("execute ").append(ParserUtil.identifierToSql(name));
 
         if (params != null) {
-            result.append(' ').append(params);
+            append(result.append(' '), params);
         }
-
-        return result.toString();
     }
 }
@@ -73,8 +73,7 @@ public class ExplainStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("explain");
 
@@ -85,7 +84,7 @@ public class ExplainStmt extends Node {
                 result.append(separator).append(option.defname);
                 separator = ", ";
                 if ("format".equals(option.defname)) {
-                    result.append(' ').append(option.arg);
+                    append(result.append(' '), option.arg);
                 } else if (option.arg != null) {
                     if (((Value) option.arg).val.ival == 0) {
                         result.append(" false");
@@ -98,8 +97,6 @@ public class ExplainStmt extends Node {
             result.append(')');
         }
 
-        result.append(' ').append(query);
-
-        return result.toString();
+        append(result.append(' '), query);
     }
 }
@@ -81,8 +81,7 @@ public class FetchStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (ismove) {
             result.append("move");
@@ -127,7 +126,5 @@ public class FetchStmt extends Node {
         }
 
         result.append(" from ").append(ParserUtil.identifierToSql(portalname));
-
-        return result.toString();
     }
 }
@@ -99,21 +99,19 @@ public class ForPortionOfClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("for portion of");
         if (range_name != null) {
             result.append(" ").append(ParserUtil.identifierToSql(range_name));
         }
         if (target != null) {
-            result.append(" (").append(target).append(")");
+            append(result.append(" ("), target).append(")");
         }
         if (target_start != null) {
-            result.append(" from ").append(target_start);
+            append(result.append(" from "), target_start);
         }
         if (target_end != null) {
-            result.append(" to ").append(target_end);
+            append(result.append(" to "), target_end);
         }
-        return result.toString();
     }
 }
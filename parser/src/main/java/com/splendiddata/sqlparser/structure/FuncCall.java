@@ -155,9 +155,7 @@ public class FuncCall extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
+    public void appendSql(StringBuilder result) {
         String sep = "";
         if (funcname != null) {
             for (Value nameLevel : funcname) {
@@ -179,9 +177,9 @@ public class FuncCall extends Expr {
                 Node arg = it.next();
                 // If the function is marked as func_variadic, this means that its last argument must be marked as variadic.
                 if (!func_variadic || it.hasNext()) {
-                    result.append(sep).append(arg);
+                    append(result.append(sep), arg);
                 } else {
-                    result.append(sep).append("variadic ").append(arg);
+                    append(result.append(sep).append("variadic "), arg);
                 }
                 sep = ", ";
             }
@@ -198,7 +196,7 @@ public class FuncCall extends Expr {
             result.append(" order by");
             sep = " ";
             for (Node order : agg_order) {
-                result.append(sep).append(order);
+                append(result.append(sep), order);
                 sep = ", ";
             }
         }
@@ -215,19 +213,21 @@ public class FuncCall extends Expr {
         }
 
         if (agg_filter != null) {
-            result.append(" filter (where ").append(agg_filter).append(')');
+            result.append(" filter (where ");
+            agg_filter.appendSql(result);
+            result.append(')');
         }
 
         if (over != null) {
             result.append(" over ");
             if (over.name == null) {
-                result.append('(').append(over).append(')');
+                result.append('(');
+                over.appendSql(result);
+                result.append(')');
             } else {
                 result.append(over.name);
             }
         }
-
-        return result.toString();
     }
 
     @Override
@@ -60,8 +60,7 @@ public class FunctionParameter extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         switch (mode) {
         case 'i':
@@ -90,13 +89,11 @@ public class FunctionParameter extends Node {
         }
 
         if (argType != null) {
-            result.append(argType);
+            append(result, argType);
         }
         
         if (defexpr != null) {
-            result.append(" = ").append(defexpr);
+            append(result.append(" = "), defexpr);
         }
-        
-        return result.toString();
     }
 }
@@ -121,14 +121,13 @@ public class GrantRoleStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         String separator = " ";
         if (is_grant) {
             result.append("grant");
             for (AccessPriv grantedRole : granted_roles) {
-                result.append(separator).append(grantedRole);
+                append(result.append(separator), grantedRole);
                 separator = ", ";
             }
             result.append(" to");
@@ -145,7 +144,7 @@ public class GrantRoleStmt extends Node {
                     case "set":
                     case "admin":
                     case "inherit":
-                        result.append(separator).append(option.defname).append(' ').append(option.arg);
+                        append(result.append(separator).append(option.defname).append(' '), option.arg);
                         separator = ", ";
                         break;
                     default:
@@ -172,7 +171,7 @@ public class GrantRoleStmt extends Node {
                 separator = " for ";
             }
             for (AccessPriv grantedRole : granted_roles) {
-                result.append(separator).append(grantedRole);
+                append(result.append(separator), grantedRole);
                 separator = ", ";
             }
             separator = " ";
@@ -186,9 +185,8 @@ public class GrantRoleStmt extends Node {
             result.append(behavior);
         }
         if (grantor != null) {
-            result.append(separator).append("granted by ").append(grantor);
+            append(result.append(separator).append("granted by "), grantor);
             separator = " ";
         }
-        return result.toString();
     }
 }
@@ -132,8 +132,7 @@ public class GrantStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (is_grant) {
             result.append("grant");
@@ -149,7 +148,7 @@ public class GrantStmt extends Node {
         } else {
             String separator = " ";
             for (AccessPriv privilege : privileges) {
-                result.append(separator).append(privilege);
+                append(result.append(separator), privilege);
                 separator = ", ";
             }
         }
@@ -195,7 +194,7 @@ public class GrantStmt extends Node {
                 if (object instanceof List) {
                     result.append(ParserUtil.nameToSql(object));
                 } else {
-                    result.append(object);
+                    append(result, object);
                 }
             }
         }
@@ -208,7 +207,7 @@ public class GrantStmt extends Node {
                 separator = " from ";
             }
             for (RoleSpec grantee : grantees) {
-                result.append(separator).append(grantee);
+                append(result.append(separator), grantee);
                 separator = ", ";
             }
         }
@@ -226,9 +225,7 @@ public class GrantStmt extends Node {
         }
 
         if (grantor != null) {
-            result.append(" granted by ").append(grantor);
+            append(result.append(" granted by "), grantor);
         }
-
-        return result.toString();
     }
 }
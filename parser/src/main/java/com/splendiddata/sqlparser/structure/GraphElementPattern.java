@@ -103,11 +103,10 @@ public class GraphElementPattern extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         //        if (labelexpr == null) {
         //            return "";
         //        }
-        StringBuilder result = new StringBuilder();
         String separator = "";
 
         result.append(switch (kind) {
@@ -138,14 +137,14 @@ public class GraphElementPattern extends Node {
                         result.append('|');
                     }
                     switch (arg.type) {
-                    case T_BoolExpr -> result.append('(').append(arg).append(')');
-                    case T_A_Expr -> result.append(arg);
-                    default -> result.append(arg);
+                    case T_BoolExpr -> append(result.append('('), arg).append(')');
+                    case T_A_Expr -> append(result, arg);
+                    default -> append(result, arg);
                     }
                 }
 
             } else {
-                result.append(labelexpr);
+                append(result, labelexpr);
             }
             separator = " ";
         }
@@ -170,7 +169,7 @@ public class GraphElementPattern extends Node {
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
 
         if (quantifier != null && !quantifier.isEmpty()) {
@@ -182,6 +181,5 @@ public class GraphElementPattern extends Node {
         case VERTEX_PATTERN, PAREN_EXPR -> ")";
         default -> "";
         });
-        return result.toString();
     }
 }
@@ -74,8 +74,7 @@ public class GraphPattern extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("match "); 
         int initialLength = result.length();
         String separator = "";
@@ -104,9 +103,8 @@ public class GraphPattern extends Node {
             result.append("()");
         }
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
-        return result.toString();
     }
 
 }
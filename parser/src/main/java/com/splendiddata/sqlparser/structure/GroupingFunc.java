@@ -91,15 +91,12 @@ public class GroupingFunc extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("grouping");
 
         if (args != null) {
-            result.append(args);
+            append(result, args);
         }
-
-        return result.toString();
     }
 }
@@ -48,18 +48,23 @@ public class GroupingSet extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         switch (kind) {
         case GROUPING_SET_CUBE:
-            return "cube " + content;
+            append(result.append("cube "), content);
+            return;
         case GROUPING_SET_EMPTY:
-            return "()";
+            result.append("()");
+            return;
         case GROUPING_SET_ROLLUP:
-            return "rollup " + content;
+            append(result.append("rollup "), content);
+            return;
         case GROUPING_SET_SETS:
-            return "grouping sets " + content;
+            append(result.append("grouping sets "), content);
+            return;
         default:
-            return "??? implement GroupingSetKind " + kind + " in " + getClass().getName() + " ???";
+            result.append("??? implement GroupingSetKind " + kind + " in " + getClass().getName() + " ???");
+            return;
 
         }
     }
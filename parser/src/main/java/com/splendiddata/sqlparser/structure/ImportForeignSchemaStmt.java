@@ -97,8 +97,7 @@ public class ImportForeignSchemaStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("import foreign schema ").append(ParserUtil.identifierToSql(remote_schema));
         String sep = "";
         switch (list_type) {
@@ -117,7 +116,7 @@ public class ImportForeignSchemaStmt extends Node {
         if (table_list != null && !table_list.isEmpty()) {
             sep += " (";
             for (RangeVar table : table_list) {
-                result.append(sep).append(table);
+                append(result.append(sep), table);
                 sep = ", ";
             }
             result.append(')');
@@ -130,11 +129,10 @@ public class ImportForeignSchemaStmt extends Node {
                 result.append(sep).append(option.defname);
                 sep = ", ";
                 if (option.arg != null) {
-                    result.append(" '").append(option.arg).append('\'');
+                    append(result.append(" '"), option.arg).append('\'');
                 }
             }
             result.append(')');
         }
-        return result.toString();
     }
 }
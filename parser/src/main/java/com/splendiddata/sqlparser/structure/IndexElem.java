@@ -129,8 +129,7 @@ public class IndexElem extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (name != null) {
             result.append(ParserUtil.identifierToSql(name));
@@ -138,9 +137,9 @@ public class IndexElem extends Node {
             result.append(ParserUtil.identifierToSql(indexcolname));
         } else if (expr != null) {
             if (expr instanceof FuncCall) {
-                result.append(expr);
+                append(result, expr);
             } else {
-                result.append('(').append(expr).append(')');
+                append(result.append('('), expr).append(')');
             }
         }
 
@@ -167,7 +166,5 @@ public class IndexElem extends Node {
         if (nulls_ordering != null) {
             result.append(nulls_ordering);
         }
-
-        return result.toString();
     }
 }
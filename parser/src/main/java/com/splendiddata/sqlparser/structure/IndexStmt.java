@@ -270,8 +270,7 @@ public class IndexStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
 
@@ -297,14 +296,14 @@ public class IndexStmt extends Node {
             result.append(ParserUtil.identifierToSql(idxname));
         }
 
-        result.append(" on ").append(relation);
+        append(result.append(" on "), relation);
 
         if (accessMethod != null && !"btree".equals(accessMethod)) {
             result.append(" using ").append(ParserUtil.identifierToSql(accessMethod));
         }
 
         if (indexParams != null) {
-            result.append(indexParams);
+            append(result, indexParams);
         }
         if (nulls_not_distinct) {
             result.append(" nulls not distinct");
@@ -316,7 +315,7 @@ public class IndexStmt extends Node {
                 result.append(separator).append(option.defname);
                 separator = ", ";
                 if (option.arg != null) {
-                    result.append(" = ").append(option.arg);
+                    append(result.append(" = "), option.arg);
                 }
             }
             result.append(')');
@@ -327,13 +326,11 @@ public class IndexStmt extends Node {
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
 
         if (reset_default_tblspc) {
             result.append(" ??? What does reset_default_tblspc=true do ???");
         }
-
-        return result.toString();
     }
 }
@@ -87,8 +87,7 @@ public class InferClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         String leadingSpace = "";
         if (conname != null) {
@@ -97,14 +96,12 @@ public class InferClause extends Node {
         }
 
         if (indexElems != null) {
-            result.append(leadingSpace).append(indexElems);
+            append(result.append(leadingSpace), indexElems);
             leadingSpace = " ";
         }
 
         if (whereClause != null) {
-            result.append(leadingSpace).append("where ").append(whereClause);
+            append(result.append(leadingSpace).append("where "), whereClause);
         }
-
-        return result.toString();
     }
 }
@@ -151,14 +151,13 @@ public class InsertStmt extends Stmt {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (withClause != null) {
-            result.append(withClause).append(' ');
+            append(result, withClause).append(' ');
         }
 
-        result.append("insert into ").append(relation);
+        append(result.append("insert into "), relation);
 
         /*
          * If no columns are specified and no select statement is provided, the row will be created using default
@@ -168,7 +167,7 @@ public class InsertStmt extends Stmt {
 
         if (cols != null) {
             defaultValues = false;
-            result.append(cols);
+            append(result, cols);
         }
 
         switch (override) {
@@ -186,7 +185,7 @@ public class InsertStmt extends Stmt {
 
         if (selectStmt != null) {
             defaultValues = false;
-            result.append(' ').append(selectStmt);
+            append(result.append(' '), selectStmt);
         }
 
         if (defaultValues) {
@@ -194,20 +193,18 @@ public class InsertStmt extends Stmt {
         }
 
         if (onConflictClause != null) {
-            result.append(' ').append(onConflictClause);
+            append(result.append(' '), onConflictClause);
         }
 
         if (returningList != null) {
             String separator = " returning ";
             for (Node returning : returningList) {
-                result.append(separator).append(returning);
+                append(result.append(separator), returning);
                 separator = ", ";
             }
         }
         if (returningClause != null) {
-            result.append(' ').append(returningClause);
+            append(result.append(' '), returningClause);
         }
-
-        return result.toString();
     }
 }
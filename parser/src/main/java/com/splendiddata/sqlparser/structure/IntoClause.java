@@ -110,11 +110,10 @@ public class IntoClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (rel != null) {
-            result.append(rel);
+            append(result, rel);
         }
 
         if (colNames != null) {
@@ -141,7 +140,7 @@ public class IntoClause extends Node {
                 for (DefElem option : options) {
                     result.append(separator).append(option.defname.toLowerCase());
                     if (option.arg != null) {
-                        result.append(" = ").append(option.arg);
+                        append(result.append(" = "), option.arg);
                     }
                     separator = ", ";
                 }
@@ -172,10 +171,8 @@ public class IntoClause extends Node {
         }
 
         if (viewQuery != null) {
-            result.append(" viewQuery=").append(viewQuery);
+            append(result.append(" viewQuery="), viewQuery);
         }
-        
-        return result.toString();
     }
 
     @Override
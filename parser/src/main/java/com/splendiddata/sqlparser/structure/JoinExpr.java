@@ -130,14 +130,13 @@ public class JoinExpr extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (alias != null) {
             result.append("(");
         }
 
-        result.append(larg);
+        append(result, larg);
 
         if (isNatural) {
             result.append(" natural");
@@ -176,26 +175,24 @@ public class JoinExpr extends Node {
 
         result.append(" join ");
 
-        result.append(rarg);
+        append(result, rarg);
 
         if (quals != null) {
             if (quals instanceof A_Expr) {
-                result.append(" on (").append(quals).append(')');
+                append(result.append(" on ("), quals).append(')');
             } else {
-                result.append(" on ").append(quals);
+                append(result.append(" on "), quals);
             }
         } else if (usingClause != null) {
-            result.append(" using ").append(usingClause);
+            append(result.append(" using "), usingClause);
             if (join_using_alias != null) {
-                result.append(" as ").append(join_using_alias);
+                append(result.append(" as "), join_using_alias);
             }
         }
 
         if (alias != null) {
-            result.append(") ").append(alias);
+            append(result.append(") "), alias);
         }
-
-        return result.toString();
     }
 
     @Override
@@ -107,21 +107,18 @@ public class JsonAggConstructor extends Node {
      * Therefore the agg_order clause is NOT generated in this toString() method. Please generate in the calling class.
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
             separator = " ";
         }
         if (agg_filter != null) {
-            result.append(") filter (where ").append(agg_filter);
+            append(result.append(") filter (where "), agg_filter);
             separator = " ";
         }
         if (over != null) {
-            result.append(") over (").append(over);
+            append(result.append(") over ("), over);
         }
-
-        return result.toString();
     }
 }
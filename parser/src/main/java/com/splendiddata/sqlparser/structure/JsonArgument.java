@@ -79,12 +79,10 @@ public class JsonArgument extends Node {
      * @see java.lang.Object#toString()
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append(val);
+    public void appendSql(StringBuilder result) {
+        append(result, val);
         if (name != null) {
             result.append(" as ").append(ParserUtil.identifierToSql(name));
         }
-        return result.toString();
     }
 }
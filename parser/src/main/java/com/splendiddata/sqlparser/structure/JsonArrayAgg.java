@@ -83,18 +83,18 @@ public class JsonArrayAgg extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("json_arrayagg(");
+    public void appendSql(StringBuilder result) {
+        result.append("json_arrayagg(");
         String separator = "";
         if (arg != null) {
-            result.append(arg);
+            append(result, arg);
             separator = " ";
         }
         if (constructor != null && constructor.agg_order != null) {
             result.append(separator).append("order by");
             separator = " ";
             for (Node node : constructor.agg_order) {
-                result.append(separator).append(node);
+                append(result.append(separator), node);
                 separator = ", ";
             }
             separator = " ";
@@ -109,6 +109,5 @@ public class JsonArrayAgg extends Expr {
             }
         }
         result.append(')');
-        return result.toString();
     }
 }
@@ -84,12 +84,12 @@ public class JsonArrayConstructor extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("json_array(");
+    public void appendSql(StringBuilder result) {
+        result.append("json_array(");
         String separator = "";
         if (exprs != null) {
             for (JsonValueExpr expr : exprs) {
-                result.append(separator).append(expr);
+                append(result.append(separator), expr);
                 separator = ", ";
             }
             separator = " ";
@@ -99,9 +99,8 @@ public class JsonArrayConstructor extends Expr {
             separator = " ";
         }
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
         }
         result.append(")");
-        return result.toString();
     }
 }
@@ -93,11 +93,11 @@ public class JsonArrayQueryConstructor extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("json_array");
+    public void appendSql(StringBuilder result) {
+        result.append("json_array");
         String separator = "(";
         if (query != null) {
-            result.append(separator).append(query);
+            append(result.append(separator), query);
             separator = " ";
         }
         if (!absent_on_null) {
@@ -105,13 +105,12 @@ public class JsonArrayQueryConstructor extends Node {
             separator = " ";
         }
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
             separator = " ";
         }
         if (format != null && !format.toString().isBlank()) {
-            result.append(separator).append(format);
+            append(result.append(separator), format);
         }
         result.append(")");
-        return result.toString();
     }
 }
@@ -80,22 +80,19 @@ public class JsonBehavior extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (btype != null) {
             result.append(btype);
             separator = " ";
         }
         if (expr != null) {
-            result.append(separator).append(expr);
+            append(result.append(separator), expr);
             separator = " ";
         }
         if (coerce) {
             result.append(separator).append(ParserUtil.reportUnknownValue("coerce", coerce, getClass()));
             separator = " ";
         }
-
-        return result.toString();
     }
 }
@@ -73,8 +73,8 @@ public class JsonFormat extends Node {
      * @see java.lang.Object#toString()
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("");
+    public void appendSql(StringBuilder result) {
+        result.append("");
         String separator = "";
         if (format_type != null && !format_type.toString().isBlank()) {
             result.append(format_type);
@@ -83,6 +83,5 @@ public class JsonFormat extends Node {
         if (encoding != null && !encoding.toString().isBlank()) {
             result.append(separator).append(encoding);
         }
-        return result.toString();
     }
 }
@@ -147,8 +147,7 @@ public class JsonFuncExpr extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (op != null) {
             result.append(op);
@@ -159,23 +158,23 @@ public class JsonFuncExpr extends Expr {
             separator = " ";
         }
         if (context_item != null) {
-            result.append(separator).append(context_item);
+            append(result.append(separator), context_item);
             separator = " ";
         }
         if (pathspec != null) {
-            result.append(", ").append(pathspec);
+            append(result.append(", "), pathspec);
             separator = " ";
         }
         if (passing != null) {
             separator += "passing ";
             for (Node pass : passing) {
-                result.append(separator).append(pass);
+                append(result.append(separator), pass);
                 separator = ", ";
             }
             separator = " ";
         }
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
             separator = " ";
         }
         if (wrapper != null) {
@@ -215,15 +214,13 @@ public class JsonFuncExpr extends Expr {
             }
         }
         if (on_empty != null) {
-            result.append(separator).append(on_empty).append(" on empty");
+            append(result.append(separator), on_empty).append(" on empty");
             separator = " ";
         }
         if (on_error != null) {
-            result.append(separator).append(on_error).append(" on error");
+            append(result.append(separator), on_error).append(" on error");
             separator = " ";
         }
         result.append(')');
-
-        return result.toString();
     }
 }
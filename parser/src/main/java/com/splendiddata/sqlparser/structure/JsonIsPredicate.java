@@ -92,11 +92,10 @@ public class JsonIsPredicate extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (expr != null) {
-            result.append(expr);
+            append(result, expr);
             separator = " ";
         }
         result.append(separator).append("is json");
@@ -108,8 +107,7 @@ public class JsonIsPredicate extends Node {
             result.append(separator).append("with unique keys");
         }
         if (format != null && !format.toString().isBlank()) {
-            result.append(separator).append(format);
+            append(result.append(separator), format);
         }
-        return result.toString();
     }
 }
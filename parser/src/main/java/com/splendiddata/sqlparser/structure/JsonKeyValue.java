@@ -74,17 +74,15 @@ public class JsonKeyValue extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (key != null) {
-            result.append(key);
+            append(result, key);
         }
         result.append(": ");
         if (value == null) {
             result.append("null");
         } else {
-            result.append(value);
+            append(result, value);
         }
-        return result.toString();
     }
 }
@@ -88,18 +88,18 @@ public class JsonObjectAgg extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("json_objectagg(");
+    public void appendSql(StringBuilder result) {
+        result.append("json_objectagg(");
         String separator = "";
         if (arg != null) {
-            result.append(arg);
+            append(result, arg);
             separator = " ";
         }
         if (constructor != null && constructor.agg_order != null) {
             result.append(separator).append("order by");
             separator = " ";
             for (Node node : constructor.agg_order) {
-                result.append(separator).append(node);
+                append(result.append(separator), node);
                 separator = ", ";
             }
             separator = " ";
@@ -118,6 +118,5 @@ public class JsonObjectAgg extends Expr {
             }
         }
         result.append(')');
-        return result.toString();
     }
 }
@@ -87,12 +87,12 @@ public class JsonObjectConstructor extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("json_object(");
+    public void appendSql(StringBuilder result) {
+        result.append("json_object(");
         String separator = "";
         if (exprs!=null) {
             for (JsonKeyValue expr : exprs) {
-                result.append(separator).append(expr);
+                append(result.append(separator), expr);
                 separator = ", ";
             }
             separator = " ";
@@ -106,9 +106,8 @@ public class JsonObjectConstructor extends Expr {
             separator = " ";
         }
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
         }
         result.append(")");
-        return result.toString();
     }
 }
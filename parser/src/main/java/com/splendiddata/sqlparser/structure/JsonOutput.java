@@ -77,14 +77,13 @@ public class JsonOutput extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("returning");
+    public void appendSql(StringBuilder result) {
+        result.append("returning");
         if (typeName != null) {
-            result.append(' ').append(typeName);
+            append(result.append(' '), typeName);
         }
         if (returning != null && !returning.toString().isBlank()) {
-            result.append(' ').append(returning);
+            append(result.append(' '), returning);
         }
-        return result.toString();
     }
 }
@@ -87,22 +87,20 @@ public class JsonParseExpr extends Expr {
      * @see java.lang.Object#toString()
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         result.append("json(");
         if (expr != null) {
-            result.append(expr);
+            append(result, expr);
             separator = " ";
         }
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
             separator = " ";
         }
         if (unique_keys) {
             result.append(separator).append("with unique keys");
         }
         result.append(")");
-        return result.toString();
     }
 }
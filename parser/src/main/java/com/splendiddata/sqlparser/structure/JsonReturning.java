@@ -84,17 +84,14 @@ public class JsonReturning extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (typmod != 0) {
             result.append('(').append(typmod).append(')');
             separator = " ";
         }
         if (format != null && !format.toString().isBlank()) {
-            result.append(separator).append(format);
+            append(result.append(separator), format);
         }
-
-        return result.toString();
     }
 }
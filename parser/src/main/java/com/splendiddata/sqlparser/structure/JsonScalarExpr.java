@@ -82,17 +82,15 @@ public class JsonScalarExpr extends Node {
      * @see java.lang.Object#toString()
      */
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (expr != null) {
-            result.append(expr);
+            append(result, expr);
             separator = " ";
         }
         if (output != null) {
-            result.append(separator).append(output);
+            append(result.append(separator), output);
             separator = " ";
         }
-        return result.toString();
     }
 }
@@ -76,17 +76,15 @@ public class JsonSerializeExpr extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("json_serialize(");
+    public void appendSql(StringBuilder result) {
+        result.append("json_serialize(");
         if (expr != null) {
-            result.append(expr);
+            append(result, expr);
         }
 
         if (output != null) {
-            result.append(" ").append(output);
+            append(result.append(" "), output);
         }
         result.append(')');
-
-        return result.toString();
     }
 }
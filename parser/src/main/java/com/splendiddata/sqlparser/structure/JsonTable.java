@@ -135,8 +135,7 @@ public class JsonTable extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (lateral) {
             result.append("lateral");
@@ -144,37 +143,35 @@ public class JsonTable extends Node {
         }
         result.append(separator).append("json_table (");
         if (context_item != null) {
-            result.append(context_item);
+            append(result, context_item);
             separator = ", ";
         }
         if (pathspec != null) {
-            result.append(separator).append(pathspec);
+            append(result.append(separator), pathspec);
             separator = " ";
         }
         if (passing != null) {
             separator += "passing ";
             for (Node node : passing) {
-                result.append(separator).append(node);
+                append(result.append(separator), node);
                 separator = ", ";
             }
             separator = " ";
         }
         if (columns != null) {
-            result.append(separator).append("columns ").append(columns);
+            append(result.append(separator).append("columns "), columns);
             separator = " ";
         }
         if (planspec != null) {
             result.append(separator).append(ParserUtil.reportUnknownValue("planspec", planspec, getClass()));
         }
         if (on_error != null) {
-            result.append(separator).append(on_error).append(" on error");
+            append(result.append(separator), on_error).append(" on error");
             separator = " ";
         }
         result.append(')');
         if (alias != null) {
-            result.append(" as ").append(alias);
+            append(result.append(" as "), alias);
         }
-
-        return result.toString();
     }
 }
@@ -144,15 +144,14 @@ public class JsonTableColumn extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (name != null) {
             result.append(ParserUtil.identifierToSql(name));
             separator = " ";
         }
         if (typeName != null) {
-            result.append(separator).append(typeName);
+            append(result.append(separator), typeName);
             separator = " ";
         }
         if (coltype != null && !JsonTableColumnType.JTC_REGULAR.equals(coltype)
@@ -161,11 +160,11 @@ public class JsonTableColumn extends Node {
             separator = " ";
         }
         if (format != null && !format.toString().isBlank()) {
-            result.append(separator).append(format);
+            append(result.append(separator), format);
             separator = " ";
         }
         if (pathspec != null) {
-            result.append(separator).append("path ").append(pathspec);
+            append(result.append(separator).append("path "), pathspec);
             separator = " ";
         }
         if (wrapper != null) {
@@ -208,16 +207,15 @@ public class JsonTableColumn extends Node {
             }
         }
         if (columns != null) {
-            result.append(separator).append("columns").append(columns);
+            append(result.append(separator).append("columns"), columns);
             separator = " ";
         }
         if (on_empty != null) {
-            result.append(separator).append(on_empty).append(" on empty");
+            append(result.append(separator), on_empty).append(" on empty");
             separator = " ";
         }
         if (on_error != null) {
-            result.append(separator).append(on_error).append(" on error");
+            append(result.append(separator), on_error).append(" on error");
         }
-        return result.toString();
     }
 }
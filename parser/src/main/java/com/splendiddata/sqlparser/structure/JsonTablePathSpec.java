@@ -83,12 +83,10 @@ public class JsonTablePathSpec extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append(string);
+    public void appendSql(StringBuilder result) {
+        append(result, string);
         if (name != null) {
             result.append(" as ").append(ParserUtil.identifierToSql(name));
         }
-        return result.toString();
     }
 }
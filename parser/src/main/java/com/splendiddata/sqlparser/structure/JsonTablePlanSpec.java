@@ -108,7 +108,7 @@ public class JsonTablePlanSpec extends Node {
      * @return String representation of join_type
      */
     @XmlAttribute(name = "join_type")
-    private String getjoinType() {
+    String getjoinType() {
         return JsonTablePlanJoinType.toString(join_type);
     }
 }
@@ -87,20 +87,18 @@ public class JsonValueExpr extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (formatted_expr != null) {
-            result.append(formatted_expr);
+            append(result, formatted_expr);
             separator = " ";
         } else if (raw_expr != null) {
-            result.append(raw_expr);
+            append(result, raw_expr);
             separator = " ";
         }
         if (format != null && !format.toString().isBlank()) {
-            result.append(separator).append(format);
+            append(result.append(separator), format);
         }
-        return result.toString();
     }
 
 }
@@ -17,16 +17,22 @@
 
 package com.splendiddata.sqlparser.structure;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.lang.reflect.Array;
-import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -37,20 +43,37 @@ import jakarta.xml.bind.annotation.XmlRootElement;
 
 import com.splendiddata.sqlparser.enums.NodeTag;
 
-import java.util.Arrays;
-
 /**
  * List as defined in /postgresql-9.3.4/src/include/nodes/pg_list.h
+ * <p>
+ * Since Postgres 13 a List is an array of ListCells, and so is this one. The cells are kept in a growable array, so
+ * get(int) and set(int, T) take constant time. To keep the grammar code that walks a list via
+ * {@link #getHead()}/ListCell.next working, every cell still points to its successor.
+ * </p>
  *
  * @author Splendid Data Product Development B.V.
  */
 @XmlRootElement(namespace = "parser")
-public class List<T> extends Node implements java.util.List<T>, Serializable {
+public class List<T> extends Node implements java.util.List<T>, RandomAccess, Serializable {
     private static final long serialVersionUID = 400L;
 
+    /**
+     * Initial capacity of the cells array when the first element is added
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * The serialized form is the one of the linked list that this class used to be: the length, the head and tail
+     * cells and the update count. So a List that is serialized by an older version can still be read and vice versa.
+     *
+     * @since 19.0
+     */
+    private static final ObjectStreamField[] serialPersistentFields = { new ObjectStreamField("length", int.class),
+            new ObjectStreamField("head", ListCell.class), new ObjectStreamField("tail", ListCell.class),
+            new ObjectStreamField("updateCount", int.class) };
+
     protected int length;
-    ListCell<T> head;
-    ListCell<T> tail;
+    private ListCell<T>[] cells;
 
     protected int updateCount;
 
@@ -59,6 +82,7 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     public List() {
         super(NodeTag.T_List);
+        cells = newCellArray(0);
     }
 
     /**
@@ -72,6 +96,7 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
         if (other instanceof List) {
             super.location = ((List<T>) other).location;
         }
+        cells = newCellArray(other.size());
         for (T t : other) {
             add(t);
         }
@@ -80,8 +105,9 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
     /**
      * Creates a copy of this List.
      * <p>
-     * For each element of the list, an attempt will be done to invoke Ts clone method. If that succeeds, the cloned
-     * object will be added to the cloned list. Otherwise the original object will be added to the cloned list.
+     * Each element of the list that is a Node is copied by its {@link Node#clone()} method, so the copy is as deep as
+     * the clone methods of the elements make it. A failing clone method is not hidden: its exception is passed on.
+     * Other elements, such as Strings, are added to the copy as they are.
      * </p>
      * 
      * @see com.splendiddata.sqlparser.structure.Node#clone()
@@ -92,19 +118,16 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
     @Override
     public List<T> clone() {
         List<T> clone = (List<T>) super.clone();
-        clone.clear();
-        for (T element : this) {
-            if (element == null) {
-                clone.add(null);
-                continue;
-            }
-            try {
-                Method cloneMethod = element.getClass().getMethod("clone");
-                clone.add((T) cloneMethod.invoke(element));
-            } catch (Exception e) {
+        clone.cells = newCellArray(length);
+        clone.length = 0;
+        clone.updateCount = 0;
+        for (int i = 0; i < length; i++) {
+            T element = cells[i].data;
+            if (element instanceof Node node) {
+                clone.add((T) node.clone());
+            } else {
                 clone.add(element);
             }
-
         }
         return clone;
     }
@@ -115,7 +138,7 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      * @return ListCell&lt;T&gt; or null if the list is empty
      */
     public ListCell<T> getHead() {
-        return head;
+        return length == 0 ? null : cells[0];
     }
 
     /**
@@ -124,7 +147,19 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      * @return ListCell&lt;T&gt; or null if the list is empty
      */
     public ListCell<T> getTail() {
-        return tail;
+        return length == 0 ? null : cells[length - 1];
+    }
+
+    /**
+     * Returns the ListCell at the specified index
+     *
+     * @param index
+     *            The index of the cell, must be &gt;= 0 and &lt; size()
+     * @return ListCell&lt;T&gt; the cell at the index
+     */
+    public ListCell<T> getCell(int index) {
+        checkIndex(index);
+        return cells[index];
     }
 
     /**
@@ -152,12 +187,7 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public boolean contains(Object o) {
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (o == null ? cell.data == null : o.equals(cell.data)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(o) >= 0;
     }
 
     /**
@@ -175,16 +205,14 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
     public T[] toArray() {
         @SuppressWarnings("unchecked")
         T[] arr = (T[]) new Object[length];
-        ListCell<T> cell = head;
         for (int i = 0; i < length; i++) {
-            arr[i] = cell.data;
-            cell = cell.next;
+            arr[i] = cells[i].data;
         }
         return arr;
     }
 
     /**
-     * just throws UnsupportedOperationException.
+     * @see java.util.List#toArray(Object[])
      */
     @SuppressWarnings("unchecked")
     @Override
@@ -193,12 +221,11 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
         if (result.length < length) {
             result = (T[]) Array.newInstance(a.getClass().getComponentType(), length);
         }
-        int i = 0;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            result[i++] = cell.data;
+        for (int i = 0; i < length; i++) {
+            result[i] = cells[i].data;
         }
-        while (i < a.length) {
-            result[i++] = null;
+        if (result.length > length) {
+            result[length] = null;
         }
         return result;
     }
@@ -215,16 +242,13 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
     @Override
     public boolean add(T e) {
         updateCount++;
+        ensureCapacity(length + 1);
         ListCell<T> newCell = new ListCell<>();
         newCell.data = e;
-        if (head == null) {
-            head = newCell;
-            tail = newCell;
-        } else {
-            tail.next = newCell;
-            tail = newCell;
+        if (length > 0) {
+            cells[length - 1].next = newCell;
         }
-        length++;
+        cells[length++] = newCell;
         return true;
     }
 
@@ -233,27 +257,12 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public boolean remove(Object o) {
-        updateCount++;
-        ListCell<T> previous = null;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (o == null ? cell.data == null : o.equals(cell.data)) {
-                length--;
-                if (previous == null) {
-                    head = cell.next;
-                    if (head == null) {
-                        tail = null;
-                    }
-                } else {
-                    previous.next = cell.next;
-                    if (previous.next == null) {
-                        tail = previous;
-                    }
-                }
-                return true;
-            }
-            previous = cell;
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
         }
-        return false;
+        remove(index);
+        return true;
     }
 
     /**
@@ -277,24 +286,7 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public boolean addAll(Collection<? extends T> c) {
-        updateCount++;
-        if (c.isEmpty()) {
-            return false;
-        }
-
-        Iterator<? extends T> T = c.iterator();
-        if (head == null) {
-            head = new ListCell<>();
-            head.data = T.next();
-            tail = head;
-        }
-        while (T.hasNext()) {
-            tail.next = new ListCell<>();
-            tail = tail.next;
-            tail.data = T.next();
-        }
-        length += c.size();
-        return true;
+        return addAll(length, c);
     }
 
     /**
@@ -302,40 +294,24 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public boolean addAll(int index, Collection<? extends T> c) {
-        updateCount++;
         if (index < 0 || index > length) {
             throw new IndexOutOfBoundsException(
                     "Index " + index + " should have been between 0 and size() (=" + length + ')');
         }
-        if (c.isEmpty()) {
+        updateCount++;
+        Object[] added = c.toArray();
+        if (added.length == 0) {
             return false;
         }
-
-        ListCell<T> cell;
-        ListCell<T> newCell;
-        Iterator<? extends T> T = c.iterator();
-        if (index == 0) {
-            cell = new ListCell<>();
-            cell.data = T.next();
-            cell.next = head;
-            head = cell;
-        } else {
-            cell = head;
-            for (int i = 1; i < index; i++) {
-                cell = cell.next;
-            }
-        }
-        while (T.hasNext()) {
-            newCell = new ListCell<>();
-            newCell.data = T.next();
-            newCell.next = cell.next;
-            cell.next = newCell;
-            cell = newCell;
-        }
-        if (cell.next == null) {
-            tail = cell;
+        openGap(index, added.length);
+        for (int i = 0; i < added.length; i++) {
+            ListCell<T> newCell = new ListCell<>();
+            @SuppressWarnings("unchecked")
+            T data = (T) added[i];
+            newCell.data = data;
+            cells[index + i] = newCell;
         }
-        length += c.size();
+        relink(index - 1, index + added.length);
         return true;
     }
 
@@ -344,25 +320,8 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public boolean removeAll(Collection<?> c) {
-        updateCount++;
-        boolean result = false;
-        for (Object element : c) {
-            tail = null;
-            for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-                if (Objects.deepEquals(cell.data, element)) {
-                    result = true;
-                    length--;
-                    if (tail == null) {
-                        head = cell.next;
-                    } else {
-                        tail.next = cell.next;
-                    }
-                } else {
-                    tail = cell;
-                }
-            }
-        }
-        return result;
+        Objects.requireNonNull(c);
+        return removeCells(c, false);
     }
 
     /**
@@ -370,29 +329,8 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public boolean retainAll(Collection<?> c) {
-        updateCount++;
-        boolean result = false;
-        ListCell<T> previous = null;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (c.contains(cell.data)) {
-                previous = cell;
-            } else {
-                result = true;
-                length--;
-                if (previous == null) {
-                    head = cell.next;
-                    if (head == null) {
-                        tail = null;
-                    }
-                } else {
-                    previous.next = cell.next;
-                    if (previous.next == null) {
-                        tail = previous;
-                    }
-                }
-            }
-        }
-        return result;
+        Objects.requireNonNull(c);
+        return removeCells(c, true);
     }
 
     /**
@@ -401,9 +339,8 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
     @Override
     public void clear() {
         updateCount++;
+        Arrays.fill(cells, 0, length, null);
         length = 0;
-        head = null;
-        tail = null;
     }
 
     /**
@@ -411,17 +348,8 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public T get(int index) {
-        if (index < 0 || index >= length) {
-            throw new IndexOutOfBoundsException("index " + index + " should have been >= 0 and < " + length);
-        }
-        if (index == 0) {
-            return head.data;
-        }
-        ListCell<T> cell = head;
-        for (int i = 0; i < index; i++) {
-            cell = cell.next;
-        }
-        return cell.data;
+        checkIndex(index);
+        return cells[index].data;
     }
 
     /**
@@ -429,21 +357,10 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public T set(int index, T element) {
-        if (index < 0 || index >= length) {
-            throw new IndexOutOfBoundsException("index " + index + " should have been >= 0 and < " + length);
-        }
-        T result;
-        if (index == 0) {
-            result = head.data;
-            head.data = element;
-        } else {
-            ListCell<T> cell = head;
-            for (int i = 0; i < index; i++) {
-                cell = cell.next;
-            }
-            result = cell.data;
-            cell.data = element;
-        }
+        checkIndex(index);
+        ListCell<T> cell = cells[index];
+        T result = cell.data;
+        cell.data = element;
         return result;
     }
 
@@ -452,30 +369,15 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public void add(int index, T element) {
-        updateCount++;
         if (index < 0 || index > length) {
             throw new IndexOutOfBoundsException();
         }
+        updateCount++;
+        openGap(index, 1);
         ListCell<T> newCell = new ListCell<>();
         newCell.data = element;
-        if (index == 0) {
-            newCell.next = head;
-            head = newCell;
-            if (tail == null) {
-                tail = newCell;
-            }
-        } else {
-            ListCell<T> prior = head;
-            for (int i = 1; i < index; i++) {
-                prior = prior.next;
-            }
-            newCell.next = prior.next;
-            prior.next = newCell;
-            if (newCell.next == prior) {
-                tail = newCell;
-            }
-        }
-        length++;
+        cells[index] = newCell;
+        relink(index - 1, index + 1);
     }
 
     /**
@@ -483,25 +385,14 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public T remove(int index) {
-        updateCount++;
         if (index < 0 || index >= length) {
             throw new IndexOutOfBoundsException();
         }
-        ListCell<T> prior = null;
-        ListCell<T> cell = head;
-        for (int i = 0; i < index; i++) {
-            prior = cell;
-            cell = cell.next;
-        }
-        if (prior == null) {
-            head = cell.next;
-        } else {
-            prior.next = cell.next;
-        }
-        if (tail == cell) {
-            tail = prior;
-        }
-        length--;
+        updateCount++;
+        ListCell<T> cell = cells[index];
+        System.arraycopy(cells, index + 1, cells, index, length - index - 1);
+        cells[--length] = null;
+        relink(index - 1, index);
         return cell.data;
     }
 
@@ -510,12 +401,10 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public int indexOf(Object o) {
-        int result = 0;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (o == null ? cell.data == null : o.equals(cell.data)) {
-                return result;
+        for (int i = 0; i < length; i++) {
+            if (o == null ? cells[i].data == null : o.equals(cells[i].data)) {
+                return i;
             }
-            ++result;
         }
         return -1;
     }
@@ -525,15 +414,12 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public int lastIndexOf(Object o) {
-        int result = -1;
-        int i = 0;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (o == null ? cell.data == null : o.equals(cell.data)) {
-                result = i;
+        for (int i = length - 1; i >= 0; i--) {
+            if (o == null ? cells[i].data == null : o.equals(cells[i].data)) {
+                return i;
             }
-            ++i;
         }
-        return result;
+        return -1;
     }
 
     /**
@@ -581,21 +467,21 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      * @return List&lt;T&gt; this or null if the list is empty
      */
     public List<T> list_delete_cell(ListCell<T> cell, ListCell<T> prev) {
-        updateCount++;
-        if (length == 1) {
-            length = 0;
-            head = tail = null;
-            return null;
-        }
-
-        length--;
+        int index;
         if (prev == null) {
-            head = cell;
+            index = 0;
         } else {
-            prev.next = cell.next;
+            index = indexOfCell(prev) + 1;
         }
-        if (tail == cell) {
-            tail = prev;
+        if (index >= length || cells[index] != cell) {
+            index = indexOfCell(cell);
+        }
+        if (index < 0) {
+            throw new NoSuchElementException("cell " + cell + " is not part of this list");
+        }
+        remove(index);
+        if (length == 0) {
+            return null;
         }
         return this;
     }
@@ -615,8 +501,7 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
     public List<T> list_truncate(int new_size) {
         updateCount++;
         if (new_size <= 0) {
-            head = tail = null;
-            length = 0;
+            clear();
             return null; /* truncate to zero length */
         }
 
@@ -625,18 +510,9 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
             return this;
         }
 
-        int n = 1;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (n == new_size) {
-                cell.next = null;
-                tail = cell;
-                length = new_size;
-                return this;
-            }
-            n++;
-        }
-
-        /* keep the compiler quiet; never reached */
+        Arrays.fill(cells, new_size, length, null);
+        length = new_size;
+        cells[length - 1].next = null;
         return this;
     }
 
@@ -645,86 +521,46 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      *
      * @return Stream&lt;T&gt; A Stream of data entries
      */
+    @Override
     public Stream<T> stream() {
-        return StreamSupport.stream(new Spliterator<T>() {
-            private ListCell<T> nextCell = head;
-
-            /**
-             * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
-             *
-             * @param action
-             *            The Consumer&lt;? super T&gt; that does what it needs to do on the next list cell content
-             * @return true if a list cell content is provided to the action (may be null) or false at the end of the
-             *         stream
-             */
-            @Override
-            public boolean tryAdvance(Consumer<? super T> action) {
-                if (nextCell == null) {
-                    return false;
-                }
-                T cellContent = nextCell.data;
-                nextCell = nextCell.next;
-                action.accept(cellContent);
-                return true;
-            }
-
-            /**
-             * @see java.util.Spliterator#trySplit()
-             *
-             * @return null as splitting a node list (sql statement) on an arbitrary place makes no sense
-             */
-            @Override
-            public Spliterator<T> trySplit() {
-                return null;
-            }
-
-            /**
-             * @see java.util.Spliterator#estimateSize()
-             *
-             * @return long the size of the list
-             */
-            @Override
-            public long estimateSize() {
-                return length;
-            }
-
-            /**
-             * @see java.util.Spliterator#characteristics()
-             *
-             * @return IMMUTABLE | NONNULL | ORDERED
-             */
-            @Override
-            public int characteristics() {
-                return IMMUTABLE | NONNULL | ORDERED;
-            }
+        return StreamSupport.stream(spliterator(), false);
+    }
 
-            /**
-             * @see java.util.Spliterator#getComparator()
-             *
-             * @return null as comparing Nodes in a list makes no sense
-             */
-            @Override
-            public Comparator<? super T> getComparator() {
-                return null;
-            }
-        }, false);
+    /**
+     * Returns a Spliterator that splits in halves, so parallel streams can process the list in parallel.
+     * 
+     * @see java.util.List#spliterator()
+     *
+     * @return Spliterator&lt;T&gt; over the data entries of this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ListSpliterator(0, -1, updateCount);
     }
 
+    /**
+     * @see java.lang.Iterable#forEach(java.util.function.Consumer)
+     */
     @Override
-    public String toString() {
-        if (head == null) {
-            return "()";
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int atUpdateCount = updateCount;
+        for (int i = 0; i < length; i++) {
+            action.accept(cells[i].data);
         }
-        StringBuilder result = new StringBuilder();
-        String separator = "(";
-
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            result.append(separator).append(cell.data);
-            separator = ", ";
-
+        if (atUpdateCount != updateCount) {
+            throw new ConcurrentModificationException();
         }
-        result.append(')');
-        return result.toString();
+    }
+
+    /**
+     * Renders the list as "(a, b, c)"
+     * 
+     * @see com.splendiddata.sqlparser.structure.Node#appendSql(java.lang.StringBuilder)
+     */
+    @Override
+    public void appendSql(StringBuilder result) {
+        appendSql(result, 0, length);
     }
 
     /**
@@ -732,16 +568,13 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
      */
     @Override
     public int hashCode() {
-        int hashCode = 1;
-        for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-            if (cell.data != null) {
-                hashCode = 31 * hashCode + (cell.data == null ? 0 : cell.data.hashCode());
-            }
-        }
-        return hashCode;
+        return hashCode(0, length);
     }
 
     /**
+     * Compares the elements. Two Lists are compared structurally, like {@link Node#equals(Object)}, so their NodeTags
+     * must be equal as well and their Locations are ignored.
+     *
      * @see java.lang.Object#equals(java.lang.Object)
      */
     @SuppressWarnings("unchecked")
@@ -754,42 +587,254 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
             return false;
         }
         if (!(obj instanceof List)) {
-            Iterator<Object> it = ((java.util.List<Object>) obj).iterator();
-            for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-                if (!Objects.deepEquals(cell.data, it.next())) {
-                    return false;
-                }
+            return equals(0, (java.util.List<Object>) obj);
+        }
+        return obj == this || StructuralComparison.equals(this, obj);
+    }
+
+    /**
+     * Returns the this pointer for debugging purposes - to print the list content in an xml format.
+     *
+     * @return List&lt;T&gt; this
+     */
+    @XmlAnyElement
+    List<T> getThis() {
+        return this;
+    }
+
+    /**
+     * Writes the cells as the linked list of the serialized form
+     *
+     * @param out
+     *            The stream to write to
+     * @throws IOException
+     *             from the stream
+     * @since 19.0
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("length", length);
+        fields.put("head", length == 0 ? null : cells[0]);
+        fields.put("tail", length == 0 ? null : cells[length - 1]);
+        fields.put("updateCount", updateCount);
+        out.writeFields();
+    }
+
+    /**
+     * Reads the linked list of the serialized form into the cells array
+     *
+     * @param in
+     *            The stream to read from
+     * @throws IOException
+     *             from the stream
+     * @throws ClassNotFoundException
+     *             from the stream
+     * @since 19.0
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        int serializedLength = fields.get("length", 0);
+        if (serializedLength < 0) {
+            throw new InvalidObjectException("negative length " + serializedLength);
+        }
+        cells = newCellArray(serializedLength);
+        length = 0;
+        for (ListCell<T> cell = (ListCell<T>) fields.get("head", null); cell != null; cell = cell.next) {
+            if (length == serializedLength) {
+                throw new InvalidObjectException("more than " + serializedLength + " cells");
             }
-            return true;
+            cells[length++] = cell;
         }
-        if (!Objects.deepEquals(location, ((List<Object>) obj).location)) {
-            return false;
+        if (length != serializedLength) {
+            throw new InvalidObjectException(length + " cells instead of " + serializedLength);
         }
-        ListCell<T> myCell = head;
-        for (ListCell<Object> othersCell = ((List<Object>) obj).head; othersCell != null; othersCell = othersCell.next) {
-            if (!Objects.deepEquals(myCell.data, othersCell.data)) {
-                return false;
+        updateCount = fields.get("updateCount", 0);
+    }
+
+    /**
+     * Creates a new, empty cell array
+     *
+     * @param capacity
+     *            The size of the array
+     * @return ListCell&lt;T&gt;[] a new array
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ListCell<T>[] newCellArray(int capacity) {
+        return new ListCell[capacity];
+    }
+
+    /**
+     * Makes sure the cells array can contain at least minCapacity cells
+     *
+     * @param minCapacity
+     *            The required capacity
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > cells.length) {
+            int newCapacity = Math.max(Math.max(INITIAL_CAPACITY, cells.length + (cells.length >> 1)), minCapacity);
+            cells = Arrays.copyOf(cells, newCapacity);
+        }
+    }
+
+    /**
+     * Shifts the cells from index onwards count positions to the end and increases length by count. The cells in the
+     * gap are to be filled and linked by the invoker.
+     *
+     * @param index
+     *            Where the gap is to appear
+     * @param count
+     *            The size of the gap
+     */
+    private void openGap(int index, int count) {
+        ensureCapacity(length + count);
+        System.arraycopy(cells, index, cells, index + count, length - index);
+        length += count;
+    }
+
+    /**
+     * Sets the next pointers of the cells from index from up to and including index until
+     *
+     * @param from
+     *            The first cell of which the next pointer is to be set. May be -1.
+     * @param until
+     *            The last cell of which the next pointer is to be set. May be length.
+     */
+    private void relink(int from, int until) {
+        for (int i = Math.max(from, 0); i <= until && i < length; i++) {
+            cells[i].next = i + 1 < length ? cells[i + 1] : null;
+        }
+    }
+
+    /**
+     * Removes the cells of which the data is (or is not if retain) contained in c
+     *
+     * @param c
+     *            The collection to check
+     * @param retain
+     *            true to remove the cells of which the data is not contained in c
+     * @return boolean true if any cell is removed
+     */
+    private boolean removeCells(Collection<?> c, boolean retain) {
+        int newLength = 0;
+        for (int i = 0; i < length; i++) {
+            if (c.contains(cells[i].data) == retain) {
+                cells[newLength++] = cells[i];
             }
-            myCell = myCell.next;
         }
+        if (newLength == length) {
+            return false;
+        }
+        updateCount++;
+        Arrays.fill(cells, newLength, length, null);
+        length = newLength;
+        relink(0, length);
         return true;
     }
 
     /**
-     * Returns the this pointer for debugging purposes - to print the list content in an xml format.
+     * Returns the index of the cell in this list
      *
-     * @return List&lt;T&gt; this
+     * @param cell
+     *            The cell to search
+     * @return int the index or -1 if the cell is not part of this list
      */
-    @XmlAnyElement
-    private List<T> getThis() {
-        return this;
+    private int indexOfCell(ListCell<T> cell) {
+        for (int i = 0; i < length; i++) {
+            if (cells[i] == cell) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks the index for get(index) and set(index, element)
+     *
+     * @param index
+     *            The index to check
+     * @throws IndexOutOfBoundsException
+     *             if the index is not within the list
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + " should have been >= 0 and < " + length);
+        }
+    }
+
+    /**
+     * Appends the data of the cells from fromIndex until toIndex as "(a, b, c)"
+     *
+     * @param result
+     *            The buffer to append to
+     * @param fromIndex
+     *            Index of the first cell
+     * @param toIndex
+     *            Index after the last cell
+     */
+    private void appendSql(StringBuilder result, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            result.append("()");
+            return;
+        }
+        String separator = "(";
+        for (int i = fromIndex; i < toIndex; i++) {
+            result.append(separator);
+            append(result, cells[i].data);
+            separator = ", ";
+        }
+        result.append(')');
+    }
+
+    /**
+     * Computes the hash code over the data of the cells from fromIndex until toIndex
+     *
+     * @param fromIndex
+     *            Index of the first cell
+     * @param toIndex
+     *            Index after the last cell
+     * @return int the hash code
+     */
+    private int hashCode(int fromIndex, int toIndex) {
+        int hashCode = 1;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (cells[i].data != null) {
+                hashCode = 31 * hashCode + cells[i].data.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    /**
+     * Compares the data of the cells from fromIndex onwards with the content of other
+     *
+     * @param fromIndex
+     *            Index of the first cell
+     * @param other
+     *            The list to compare with, of which the size must already have been checked
+     * @return boolean true if all entries are equal
+     */
+    private boolean equals(int fromIndex, java.util.List<Object> other) {
+        int i = fromIndex;
+        for (Object otherData : other) {
+            if (!Objects.deepEquals(cells[i++].data, otherData)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private class InternalListIterator implements ListIterator<T> {
-        private ListCell<T> cell;
-        private int index = -1;
+        /**
+         * Index of the element that is to be returned by next()
+         */
         private int cursor;
 
+        /**
+         * Index of the element that was returned last by next() or previous(), or -1 after remove() or add()
+         */
+        private int lastReturned = -1;
+
         private int atUpdateCount;
 
         /**
@@ -799,566 +844,251 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
             if (ind < 0 || ind > length) {
                 throw new IndexOutOfBoundsException();
             }
+            cursor = ind;
             atUpdateCount = updateCount;
-            while (index < ind - 1) {
-                next();
-            }
         }
 
         /**
-         * @see java.util.ListTerator#hasNext()
+         * @see java.util.ListIterator#hasNext()
          */
         @Override
         public boolean hasNext() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
+            checkForComodification();
             return cursor < length;
         }
 
         /**
-         * @see java.util.ListTerator#next()
+         * @see java.util.ListIterator#next()
          */
         @Override
         public T next() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (cursor == index) {
-                cursor++;
-                return cell.data;
-            }
-            if (cursor < length) {
-                index = cursor;
-                cell = index == 0 ? (ListCell<T>) head : cell.next;
-                cursor++;
-                return cell.data;
+            checkForComodification();
+            if (cursor >= length) {
+                throw new NoSuchElementException();
             }
-            throw new NoSuchElementException();
+            lastReturned = cursor++;
+            return cells[lastReturned].data;
         }
 
         /**
-         * @see java.util.ListTerator#hasPrevious()
+         * @see java.util.ListIterator#hasPrevious()
          */
         @Override
         public boolean hasPrevious() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
+            checkForComodification();
             return cursor != 0;
         }
 
         /**
-         * @see java.util.ListTerator#previous()
+         * @see java.util.ListIterator#previous()
          */
         @Override
         public T previous() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
+            checkForComodification();
             if (cursor <= 0) {
                 throw new NoSuchElementException();
             }
-            index = cursor - 1;
-            cell = head;
-            for (int i = 0; i < index; i++) {
-                cell = cell.next;
-            }
-            cursor = index;
-            return cell.data;
+            lastReturned = --cursor;
+            return cells[lastReturned].data;
         }
 
         /**
-         * @see java.util.ListTerator#nextIndex()
+         * @see java.util.ListIterator#nextIndex()
          */
         @Override
         public int nextIndex() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
+            checkForComodification();
             return cursor;
         }
 
         /**
-         * @see java.util.ListTerator#previousIndex()
+         * @see java.util.ListIterator#previousIndex()
          */
         @Override
         public int previousIndex() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
+            checkForComodification();
             return cursor - 1;
         }
 
         /**
-         * @see java.util.ListTerator#remove()
+         * @see java.util.ListIterator#remove()
          */
         @Override
         public void remove() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0) {
+            checkForComodification();
+            if (lastReturned < 0) {
                 throw new IllegalStateException();
             }
-            if (index == 0) {
-                head = head.next;
-                if (head == null) {
-                    tail = null;
-                }
-            } else {
-                ListCell<T> toBeRemoved = head;
-                for (int i = 0; i < index; i++) {
-                    cell = toBeRemoved;
-                    toBeRemoved = cell.next;
-                }
-                cell.next = toBeRemoved.next;
-                if (cell.next == null) {
-                    tail = cell;
-                }
-            }
-            cursor = index;
-            length--;
-            atUpdateCount = ++updateCount;
-            index = -1;
+            List.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            atUpdateCount = updateCount;
         }
 
         /**
-         * @see java.util.ListTerator#set(java.lang.Object)
+         * @see java.util.ListIterator#set(java.lang.Object)
          */
         @Override
         public void set(T e) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0) {
+            checkForComodification();
+            if (lastReturned < 0) {
                 throw new IllegalStateException();
             }
-            if (index == 0) {
-                cell = head;
-            }
-            cell.data = e;
-            atUpdateCount = ++updateCount;
+            cells[lastReturned].data = e;
         }
 
         /**
-         * @see java.util.ListTerator#add(java.lang.Object)
+         * @see java.util.ListIterator#add(java.lang.Object)
          */
         @Override
         public void add(T e) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            ListCell<T> newCell = new ListCell<>();
-            newCell.data = e;
-            if (cursor == 0) {
-                newCell.next = head;
-                head = newCell;
-                if (tail == null) {
-                    tail = newCell;
-                }
-            } else {
-                cell = head;
-                for (int i = 1; i < cursor; i++) {
-                    cell = cell.next;
-                }
-                newCell.next = cell.next;
-                cell.next = newCell;
-                if (newCell.next == null) {
-                    tail = newCell;
-                }
-            }
-            cell = newCell;
-            cursor++;
-            length++;
-            atUpdateCount = ++updateCount;
-            index = -1;
-        }
-    }
-
-    private class Sublist implements java.util.List<T> {
-        private final int fromIndex;
-        protected int sublistLength;
-        protected ListCell<T> cellBefore;
-        private ListCell<T> cellAfter;
-        private int atUpdateCount;
-
-        /**
-         * Constructor
-         *
-         * @param fromIndex
-         *            Start index of this sublist
-         * @param untilIndex
-         *            Tail index of this sublist
-         */
-        Sublist(int fromIndex, int untilIndex) {
-            this.fromIndex = fromIndex;
-            this.sublistLength = untilIndex - fromIndex;
-
-            if (fromIndex == 0) {
-                cellBefore = null;
-            } else {
-                cellBefore = head;
-                for (int i = 1; i < fromIndex; i++) {
-                    cellBefore = cellBefore.next;
-                }
-            }
-            if (untilIndex == 0) {
-                cellAfter = null;
-            } else {
-                cellAfter = head;
-                for (int i = 0; i < untilIndex; i++) {
-                    cellAfter = cellAfter.next;
-                }
-            }
+            checkForComodification();
+            List.this.add(cursor++, e);
+            lastReturned = -1;
             atUpdateCount = updateCount;
         }
 
-        /**
-         * @see java.util.List#size()
-         */
-        @Override
-        public int size() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            return sublistLength;
-        }
-
-        /**
-         * @see java.util.List#isEmpty()
-         */
-        @Override
-        public boolean isEmpty() {
+        private void checkForComodification() {
             if (atUpdateCount != updateCount) {
                 throw new ConcurrentModificationException();
             }
-            return sublistLength == 0;
         }
+    }
 
-        /**
-         * @see java.util.List#contains(java.lang.Object)
-         */
-        @Override
-        public boolean contains(Object o) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (sublistLength == 0) {
-                return false;
-            }
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                if (o == null ? cell.data == null : o.equals(cell.data)) {
-                    return true;
-                }
-            }
-            return false;
-        }
+    /**
+     * Spliterator over a range of the cells array. It splits in halves, like the Spliterator of java.util.ArrayList.
+     */
+    private class ListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private final int atUpdateCount;
 
         /**
-         * @see java.util.List#iterator()
+         * Constructor
          *
-         * @return
+         * @param origin
+         *            Index of the first cell to traverse
+         * @param fence
+         *            Index after the last cell to traverse, or -1 to take the length at the first use
+         * @param atUpdateCount
+         *            updateCount when the spliterator was created
          */
-        @Override
-        public Iterator<T> iterator() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            return new InternalSublistIterator(0);
+        ListSpliterator(int origin, int fence, int atUpdateCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.atUpdateCount = atUpdateCount;
         }
 
-        /**
-         * @see java.util.List#toArray()
-         */
-        @Override
-        public Object[] toArray() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            Object[] result = new Object[sublistLength];
-            if (sublistLength > 0) {
-                ListCell<T> cell = cellBefore == null ? head : cellBefore.next;
-                for (int i = 0; i < sublistLength; i++) {
-                    result[i++] = cell.data;
-                    cell = cell.next;
-                }
+        private int getFence() {
+            if (fence < 0) {
+                fence = length;
             }
-            return result;
+            return fence;
         }
 
         /**
-         * @see java.util.List#toArray(java.lang.Object[])
+         * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+         *
+         * @param action
+         *            The Consumer&lt;? super T&gt; that does what it needs to do on the next list cell content
+         * @return true if a list cell content is provided to the action (may be null) or false at the end of the
+         *         stream
          */
-        @SuppressWarnings("unchecked")
         @Override
-        public <A> A[] toArray(A[] a) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (sublistLength == 0) {
-                Arrays.fill(a, null);
-                return a;
-            }
-            Object[] result = a;
-            if (result.length < sublistLength) {
-                result = (Object[]) Array.newInstance(a.getClass().getComponentType(), sublistLength);
-            }
-            int i = 0;
-            ListCell<T> cell = cellBefore == null ? head : cellBefore.next;
-            for (; i < sublistLength; i++) {
-                result[i++] = cell.data;
-                cell = cell.next;
-            }
-            while (i < result.length) {
-                result[i++] = null;
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index >= getFence()) {
+                return false;
             }
-            return (A[]) result;
-        }
-
-        /**
-         * @see java.util.List#add(java.lang.Object)
-         */
-        @Override
-        public boolean add(T e) {
+            T cellContent = cells[index++].data;
+            action.accept(cellContent);
             if (atUpdateCount != updateCount) {
                 throw new ConcurrentModificationException();
             }
-
-            ListCell<T> newCell = new ListCell<>();
-            newCell.data = e;
-            if (sublistLength == 0) {
-                if (cellBefore == null) {
-                    newCell.next = head;
-                    head = newCell;
-                } else {
-                    newCell.next = cellBefore.next;
-                    cellBefore.next = newCell;
-                }
-            } else {
-                ListCell<T> cell = cellBefore == null ? head : cellBefore.next;
-                while (cell.next != cellAfter) {
-                    cell = cell.next;
-                }
-                newCell.next = cell.next;
-                cell.next = newCell;
-            }
-            if (newCell.next == null) {
-                tail = newCell;
-            }
-            incrementLength(1);
             return true;
         }
 
         /**
-         * @see java.util.List#remove(java.lang.Object)
+         * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
          */
         @Override
-        public boolean remove(Object o) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            for (; index < hi; index++) {
+                action.accept(cells[index].data);
             }
-            ListCell<T> previous = cellBefore;
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                if (o == null ? cell.data == null : o.equals(cell.data)) {
-                    if (previous == null) {
-                        head = cell.next;
-                    } else {
-                        previous.next = cell;
-                    }
-                    if (cell.next == null) {
-                        tail = previous;
-                    }
-                    incrementLength(-1);
-                    return true;
-                }
-                previous = cell;
-            }
-            return false;
-        }
-
-        /**
-         * @see java.util.List#containsAll(java.util.Collection)
-         */
-        @Override
-        public boolean containsAll(Collection<?> c) {
             if (atUpdateCount != updateCount) {
                 throw new ConcurrentModificationException();
             }
-            for (Object obj : c) {
-                if (!contains(obj)) {
-                    return false;
-                }
-            }
-            return true;
         }
 
         /**
-         * @see java.util.List#addAll(java.util.Collection)
+         * @see java.util.Spliterator#trySplit()
+         *
+         * @return Spliterator&lt;T&gt; over the first half of the remaining cells, or null if too small to split
          */
-        @SuppressWarnings("null")
         @Override
-        public boolean addAll(Collection<? extends T> c) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (c.isEmpty()) {
-                return false;
-            }
-            ListCell<T> cell = cellBefore == null ? head : cellBefore.next;
-            if (cell != null) {
-                while (cell.next != cellAfter) {
-                    cell = cell.next;
-                }
-            }
-            for (T newElem : c) {
-                ListCell<T> newCell = new ListCell<>();
-                newCell.data = newElem;
-                if (cell == null) {
-                    head = newCell;
-                } else {
-                    newCell.next = cell.next;
-                    cell.next = newCell;
-                }
-                cell = newCell;
-            }
-            if (cell.next == null) {
-                tail = cell;
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + getFence()) >>> 1;
+            if (lo >= mid) {
+                return null;
             }
-            incrementLength(c.size());
-            return true;
+            index = mid;
+            return new ListSpliterator(lo, mid, atUpdateCount);
         }
 
         /**
-         * @see java.util.List#addAll(int, java.util.Collection)
+         * @see java.util.Spliterator#estimateSize()
+         *
+         * @return long the number of remaining entries
          */
         @Override
-        public boolean addAll(int index, Collection<? extends T> c) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0 || index > size()) {
-                throw new IndexOutOfBoundsException(
-                        "Index " + index + " should have been between 0 and size() (=" + size() + ')');
-            }
-            ListCell<T> cell = cellBefore;
-            for (int i = 0; i < index; i++) {
-                cell = cell.next;
-            }
-            for (T obj : c) {
-                ListCell<T> newCell = new ListCell<>();
-                newCell.data = obj;
-                if (cell == null) {
-                    head = newCell;
-                } else {
-                    newCell.next = cell.next;
-                    cell.next = newCell;
-                }
-                cell = newCell;
-            }
-            if (cell.next == null) {
-                tail = cell;
-            }
-            incrementLength(c.size());
-            return true;
+        public long estimateSize() {
+            return getFence() - index;
         }
 
         /**
-         * @see java.util.List#removeAll(java.util.Collection)
+         * @see java.util.Spliterator#characteristics()
+         *
+         * @return ORDERED | SIZED | SUBSIZED
          */
         @Override
-        public boolean removeAll(Collection<?> c) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (sublistLength == 0 || c.isEmpty()) {
-                return false;
-            }
-            int nrRemoved = 0;
-            ListCell<T> previous = cellBefore;
-            for (Object obj : c) {
-                for (ListCell<T> cell = previous == null ? head : previous.next; cell != cellAfter; cell = cell.next) {
-                    if (obj == null ? cell.data == null : obj.equals(cell.data)) {
-                        if (previous == null) {
-                            head = cell.next;
-                        } else {
-                            previous.next = cell.next;
-                        }
-                        nrRemoved++;
-                    } else {
-                        previous = cell;
-                    }
-                }
-            }
-            if (nrRemoved != 0) {
-                if (previous == null) {
-                    tail = null;
-                } else if (previous.next == null) {
-                    tail = previous;
-                }
-                incrementLength(-nrRemoved);
-                return true;
-            }
-            return false;
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
         }
+    }
+
+    /**
+     * View on a part of the list
+     */
+    private class Sublist extends AbstractList<T> implements RandomAccess {
+        private final int fromIndex;
+        private int sublistLength;
+        private int atUpdateCount;
 
         /**
-         * @see java.util.List#retainAll(java.util.Collection)
+         * Constructor
+         *
+         * @param fromIndex
+         *            Start index of this sublist
+         * @param untilIndex
+         *            Tail index of this sublist
          */
-        @Override
-        public boolean retainAll(Collection<?> c) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (sublistLength == 0) {
-                return false;
-            }
-            int nrRemoved = 0;
-            ListCell<T> previous = cellBefore;
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                if (!c.contains(cell.data)) {
-                    if (previous == null) {
-                        head = cell.next;
-                    } else {
-                        previous.next = cell.next;
-                    }
-                    nrRemoved++;
-                } else {
-                    previous = cell;
-                }
-            }
-            if (nrRemoved == 0) {
-                return false;
-            }
-            if (previous == null) {
-                tail = null;
-            } else if (previous.next == null) {
-                tail = previous;
-            }
-            incrementLength(-nrRemoved);
-            return true;
+        Sublist(int fromIndex, int untilIndex) {
+            this.fromIndex = fromIndex;
+            this.sublistLength = untilIndex - fromIndex;
+            atUpdateCount = updateCount;
         }
 
         /**
-         * @see java.util.List#clear()
+         * @see java.util.List#size()
          */
         @Override
-        public void clear() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (sublistLength == 0) {
-                return;
-            }
-            if (cellBefore == null) {
-                head = cellAfter;
-                if (head == null) {
-                    tail = null;
-                }
-            } else {
-                cellBefore.next = cellAfter;
-            }
-            incrementLength(-sublistLength);
+        public int size() {
+            checkForComodification();
+            return sublistLength;
         }
 
         /**
@@ -1366,23 +1096,9 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
          */
         @Override
         public T get(int index) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0 || index >= sublistLength) {
-                throw new IndexOutOfBoundsException("index " + index + " should have been >= 0 and < " + sublistLength);
-            }
-            if (index == 0) {
-                if (cellBefore == null) {
-                    return head.data;
-                }
-                return cellBefore.next.data;
-            }
-            ListCell<T> cell = cellBefore == null ? head : cellBefore.next;
-            for (int i = 0; i < index; i++) {
-                cell = cell.next;
-            }
-            return cell.data;
+            checkForComodification();
+            Objects.checkIndex(index, sublistLength);
+            return cells[fromIndex + index].data;
         }
 
         /**
@@ -1390,31 +1106,9 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
          */
         @Override
         public T set(int index, T element) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0 || index >= sublistLength) {
-                throw new IndexOutOfBoundsException("index " + index + " should have been >= 0 and < " + sublistLength);
-            }
-            incrementLength(0);
-            T result;
-            if (index == 0) {
-                if (cellBefore == null) {
-                    result = head.data;
-                    head.data = element;
-                    return result;
-                }
-                result = cellBefore.next.data;
-                cellBefore.next.data = element;
-                return result;
-            }
-            ListCell<T> cell = cellBefore == null ? head : cellBefore.next;
-            for (int i = 1; i < index; i++) {
-                cell = cell.next;
-            }
-            result = cell.data;
-            cell.data = element;
-            return result;
+            checkForComodification();
+            Objects.checkIndex(index, sublistLength);
+            return List.this.set(fromIndex + index, element);
         }
 
         /**
@@ -1422,37 +1116,12 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
          */
         @Override
         public void add(int index, T element) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0 || index >= sublistLength) {
-                throw new IndexOutOfBoundsException(
-                        "index " + index + " should have been >= 0 and <= " + sublistLength);
-            }
-            ListCell<T> newCell = new ListCell<>();
-            newCell.data = element;
-            if (index == 0) {
-                if (cellBefore == null) {
-                    if (head != null) {
-                        newCell.next = head.next;
-                    }
-                    head = newCell;
-                } else {
-                    newCell.next = cellBefore.next;
-                    cellBefore.next = newCell;
-                }
-            } else {
-                ListCell<T> previous = cellBefore == null ? head : cellBefore.next;
-                for (int i = 1; i < index; i++) {
-                    previous = previous.next;
-                }
-                newCell.next = previous.next;
-                previous.next = newCell;
-            }
-            if (newCell.next == null) {
-                tail = newCell;
-            }
-            incrementLength(1);
+            checkForComodification();
+            Objects.checkIndex(index, sublistLength + 1);
+            List.this.add(fromIndex + index, element);
+            sublistLength++;
+            atUpdateCount = updateCount;
+            modCount++;
         }
 
         /**
@@ -1460,139 +1129,20 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
          */
         @Override
         public T remove(int index) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (index < 0 || index >= sublistLength) {
-                throw new IndexOutOfBoundsException("index " + index + " should have been >= 0 and < " + sublistLength);
-            }
-            ListCell<T> zombie;
-            if (index == 0) {
-                if (cellBefore == null) {
-                    zombie = head;
-                    head = head.next;
-                    if (head == null) {
-                        tail = null;
-                    } else if (head.next == null) {
-                        tail = head;
-                    }
-                } else {
-                    zombie = cellBefore.next;
-                    cellBefore.next = zombie.next;
-                    if (cellBefore.next == null) {
-                        tail = cellBefore;
-                    }
-                }
-            } else {
-                ListCell<T> previous = cellBefore == null ? head : cellBefore.next;
-                for (int i = 1; i < index; i++) {
-                    previous = previous.next;
-                }
-                zombie = previous.next;
-                previous.next = zombie.next;
-                if (previous.next == null) {
-                    tail = previous;
-                }
-            }
-            incrementLength(-1);
-            return zombie.data;
-        }
-
-        /**
-         * @see java.util.List#indexOf(java.lang.Object)
-         */
-        @Override
-        public int indexOf(Object o) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            int i = 0;
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                if (o == null ? cell.data == null : o.equals(cell.data)) {
-                    return i;
-                }
-                i++;
-            }
-            return -1;
-        }
-
-        /**
-         * @see java.util.List#lastIndexOf(java.lang.Object)
-         *
-         * @param o
-         * @return
-         */
-        @Override
-        public int lastIndexOf(Object o) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            int result = -1;
-            int i = 0;
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                if (o == null ? cell.data == null : o.equals(cell.data)) {
-                    result = i;
-                }
-                i++;
-            }
+            checkForComodification();
+            Objects.checkIndex(index, sublistLength);
+            T result = List.this.remove(fromIndex + index);
+            sublistLength--;
+            atUpdateCount = updateCount;
+            modCount++;
             return result;
         }
 
-        /**
-         * @see java.util.List#listIterator()
-         *
-         * @return
-         */
-        @Override
-        public ListIterator<T> listIterator() {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            return new InternalSublistIterator(0);
-        }
-
-        /**
-         * @see java.util.List#listIterator(int)
-         *
-         * @param index
-         * @return
-         */
-        @Override
-        public ListIterator<T> listIterator(int index) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            return new InternalSublistIterator(index);
-        }
-
-        /**
-         * @see java.util.List#subList(int, int)
-         */
-        @Override
-        public java.util.List<T> subList(int subFromIndex, int subToIndex) {
-            if (atUpdateCount != updateCount) {
-                throw new ConcurrentModificationException();
-            }
-            if (subFromIndex < 0 || subToIndex > sublistLength || subFromIndex > subToIndex) {
-                throw new IndexOutOfBoundsException();
-            }
-            return new Sublist(subFromIndex + fromIndex, subToIndex + fromIndex);
-        }
-
         @Override
         public String toString() {
-            if (sublistLength == 0) {
-                return "()";
-            }
+            checkForComodification();
             StringBuilder result = new StringBuilder();
-            String separator = "(";
-
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                result.append(separator).append(cell.data);
-                separator = ", ";
-
-            }
-            result.append(')');
+            List.this.appendSql(result, fromIndex, fromIndex + sublistLength);
             return result.toString();
         }
 
@@ -1601,13 +1151,8 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
          */
         @Override
         public int hashCode() {
-            int hashCode = 1;
-            for (ListCell<T> cell = cellBefore == null ? head : cellBefore.next; cell != cellAfter; cell = cell.next) {
-                if (cell.data != null) {
-                    hashCode = 31 * hashCode + (cell.data == null ? 0 : cell.data.hashCode());
-                }
-            }
-            return hashCode;
+            checkForComodification();
+            return List.this.hashCode(fromIndex, fromIndex + sublistLength);
         }
 
         /**
@@ -1616,227 +1161,19 @@ public class List<T> extends Node implements java.util.List<T>, Serializable {
         @SuppressWarnings("unchecked")
         @Override
         public boolean equals(Object obj) {
+            checkForComodification();
             if (!(obj instanceof java.util.List)) {
                 return false;
             }
-            if (length != ((java.util.List<?>) obj).size()) {
+            if (sublistLength != ((java.util.List<?>) obj).size()) {
                 return false;
             }
-
-            Iterator<Object> it = ((java.util.List<Object>) obj).iterator();
-            for (ListCell<T> cell = head; cell != null; cell = cell.next) {
-                if (!Objects.deepEquals(cell.data, it.next())) {
-                    return false;
-                }
-            }
-            return true;
-        }
-
-        protected int incrementLength(int count) {
-            sublistLength += count;
-            List.this.length += count;
-            atUpdateCount = ++updateCount;
-            return atUpdateCount;
+            return List.this.equals(fromIndex, (java.util.List<Object>) obj);
         }
 
-        private class InternalSublistIterator implements ListIterator<T> {
-            private ListCell<T> cell;
-            private int index = -1;
-            private int cursor;
-
-            private int iteratorAtUpdateCount;
-
-            /**
-             * Constructor
-             */
-            public InternalSublistIterator(int ind) {
-                if (ind < 0 || ind > sublistLength) {
-                    throw new IndexOutOfBoundsException("Index " + ind + " should be >= 0 and <= " + sublistLength);
-                }
-                iteratorAtUpdateCount = updateCount;
-                while (index < ind - 1) {
-                    next();
-                }
-            }
-
-            /**
-             * @see java.util.ListTerator#hasNext()
-             */
-            @Override
-            public boolean hasNext() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                return cursor < sublistLength;
-            }
-
-            /**
-             * @see java.util.ListTerator#next()
-             */
-            @Override
-            public T next() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                if (cursor == index) {
-                    cursor++;
-                    return cell.data;
-                }
-                if (cursor < sublistLength) {
-                    index = cursor;
-                    if (index == 0) {
-                        cell = cellBefore == null ? head : cellBefore.next;
-                    } else {
-                        cell = cell.next;
-                    }
-                    cursor++;
-                    return cell.data;
-                }
-                throw new NoSuchElementException();
-            }
-
-            /**
-             * @see java.util.ListTerator#hasPrevious()
-             */
-            @Override
-            public boolean hasPrevious() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                return cursor != 0;
-            }
-
-            /**
-             * @see java.util.ListTerator#previous()
-             */
-            @Override
-            public T previous() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                if (cursor <= 0) {
-                    throw new NoSuchElementException();
-                }
-                index = cursor - 1;
-                cell = cellBefore == null ? head : cellBefore.next;
-                for (int i = 0; i < index; i++) {
-                    cell = cell.next;
-                }
-                cursor = index;
-                return cell.data;
-            }
-
-            /**
-             * @see java.util.ListTerator#nextIndex()
-             */
-            @Override
-            public int nextIndex() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                return cursor;
-            }
-
-            /**
-             * @see java.util.ListTerator#previousIndex()
-             */
-            @Override
-            public int previousIndex() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                return cursor - 1;
-            }
-
-            /**
-             * @see java.util.ListTerator#remove()
-             */
-            @Override
-            public void remove() {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                if (index < 0) {
-                    throw new IllegalStateException();
-                }
-                if (index == 0) {
-                    if (cellBefore == null) {
-                        head = head.next;
-                        if (head == null) {
-                            tail = null;
-                        }
-                    } else {
-                        cellBefore.next = cellBefore.next.next;
-                        if (cellBefore.next == null) {
-                            tail = cellBefore;
-                        }
-                    }
-                } else {
-                    ListCell<T> toBeRemoved = cellBefore == null ? head : cellBefore.next;
-                    for (int i = 0; i < index; i++) {
-                        cell = toBeRemoved;
-                        toBeRemoved = cell.next;
-                    }
-                    cell.next = toBeRemoved.next;
-                    if (cell.next == null) {
-                        tail = cell;
-                    }
-                }
-                cursor = index;
-                iteratorAtUpdateCount = incrementLength(-1);
-                index = -1;
-            }
-
-            /**
-             * @see java.util.ListTerator#set(java.lang.Object)
-             */
-            @Override
-            public void set(T e) {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                if (index < 0) {
-                    throw new IllegalStateException();
-                }
-                if (index == 0) {
-                    cell = head;
-                }
-                cell.data = e;
-                iteratorAtUpdateCount = incrementLength(0);
-            }
-
-            /**
-             * @see java.util.ListTerator#add(java.lang.Object)
-             */
-            @Override
-            public void add(T e) {
-                if (iteratorAtUpdateCount != updateCount) {
-                    throw new ConcurrentModificationException();
-                }
-                ListCell<T> newCell = new ListCell<>();
-                newCell.data = e;
-                if (cursor == 0) {
-                    if (cellBefore == null) {
-                        newCell.next = head;
-                        head = newCell;
-                    } else {
-                        newCell.next = cellBefore.next;
-                        cellBefore.next = newCell;
-                    }
-                } else {
-                    cell = cellBefore == null ? head : cellBefore.next;
-                    for (int i = 1; i < cursor; i++) {
-                        cell = cell.next;
-                    }
-                    newCell.next = cell.next;
-                    cell.next = newCell;
-                }
-                if (newCell.next == null) {
-                    tail = newCell;
-                }
-                cell = newCell;
-                iteratorAtUpdateCount = incrementLength(1);
-                index = -1;
+        private void checkForComodification() {
+            if (atUpdateCount != updateCount) {
+                throw new ConcurrentModificationException();
             }
         }
     }
@@ -56,7 +56,7 @@ public class ListenStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "listen " + ParserUtil.identifierToSql(conditionname);
+    public void appendSql(StringBuilder result) {
+        result.append("listen ").append(ParserUtil.identifierToSql(conditionname));
     }
 }
@@ -56,7 +56,7 @@ public class LoadStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "load " + ParserUtil.toSqlTextString(filename);
+    public void appendSql(StringBuilder result) {
+        result.append("load ").append(ParserUtil.toSqlTextString(filename));
     }
 }
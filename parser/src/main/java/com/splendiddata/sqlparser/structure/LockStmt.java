@@ -109,14 +109,13 @@ public class LockStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("lock");
 
         String separator = " ";
         for (RangeVar relation : relations) {
-            result.append(separator).append(relation);
+            append(result.append(separator), relation);
             separator = ", ";
         }
 
@@ -152,7 +151,5 @@ public class LockStmt extends Node {
         if (nowait) {
             result.append(" nowait");
         }
-
-        return result.toString();
     }
 }
@@ -54,8 +54,8 @@ public class LockingClause extends Node {
     public LockWaitPolicy waitPolicy;
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder("for ");
+    public void appendSql(StringBuilder result) {
+        result.append("for ");
         switch (strength) {
         case LCS_FORKEYSHARE:
             result.append("key share");
@@ -76,7 +76,7 @@ public class LockingClause extends Node {
         if (lockedRels != null) {
             String separator = " of ";
             for (RangeVar lockedRel : lockedRels) {
-                result.append(separator).append(lockedRel);
+                append(result.append(separator), lockedRel);
                 separator = ", ";
             }
         }
@@ -84,8 +84,6 @@ public class LockingClause extends Node {
         if (waitPolicy != null) {
             result.append(waitPolicy);
         }
-
-        return result.toString();
     }
 
     @Override
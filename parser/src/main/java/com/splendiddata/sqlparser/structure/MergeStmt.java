@@ -138,29 +138,26 @@ public class MergeStmt extends Stmt {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (this.withClause != null) {
-            result.append(withClause).append(' ');
+            append(result, withClause).append(' ');
         }
-        result.append("merge into ").append(relation).append(" using ").append(sourceRelation).append(" on ")
-                .append(joinCondition);
+        append(append(append(result.append("merge into "), relation).append(" using "), sourceRelation)
+                .append(" on "), joinCondition);
         if (mergeWhenClauses != null) {
             for (MergeWhenClause mergeWhenClause : mergeWhenClauses) {
-                result.append(' ').append(mergeWhenClause);
+                append(result.append(' '), mergeWhenClause);
             }
         }
         if (returningList != null) {
             String separator = " returning ";
             for (Expr returningNode : returningList) {
-                result.append(separator).append(returningNode);
+                append(result.append(separator), returningNode);
                 separator = ", ";
             }
         }
         if (returningClause != null) {
-            result.append(' ').append(returningClause);
+            append(result.append(' '), returningClause);
         }
-
-        return result.toString();
     }
 }
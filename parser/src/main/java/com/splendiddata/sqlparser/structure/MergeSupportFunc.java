@@ -88,11 +88,12 @@ public class MergeSupportFunc extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (xpr != null) {
-            return "????? Please implement xpr in " + this.getClass().getName() + ".toString() for "
-                    + ParserUtil.stmtToXml(this) + " ?????";
+            result.append("????? Please implement xpr in " + this.getClass().getName() + ".toString() for "
+                    + ParserUtil.stmtToXml(this) + " ?????");
+            return;
         }
-        return "merge_action()";
+        result.append("merge_action()");
     }
 }
@@ -124,8 +124,7 @@ public class MergeWhenClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append(matchKind).append(" then ");
         switch (commandType) {
         case CMD_DELETE:
@@ -134,7 +133,7 @@ public class MergeWhenClause extends Node {
         case CMD_INSERT:
             result.append("insert");
             if (targetList != null) {
-                result.append(' ').append(targetList);
+                append(result.append(' '), targetList);
             }
             switch (override) {
             case OVERRIDING_NOT_SET:
@@ -152,7 +151,7 @@ public class MergeWhenClause extends Node {
             if (values == null) {
                 result.append(" default values");
             } else {
-                result.append(" values ").append(values);
+                append(result.append(" values "), values);
             }
             break;
         case CMD_UPDATE:
@@ -161,7 +160,8 @@ public class MergeWhenClause extends Node {
                 String separator = " ";
 
                 for (ResTarget tgt : targetList) {
-                    result.append(separator).append(ParserUtil.identifierToSql(tgt.name)).append(" = ").append(tgt.val);
+                    append(result.append(separator).append(ParserUtil.identifierToSql(tgt.name)).append(" = "),
+                            tgt.val);
                     separator = ", ";
                 }
             }
@@ -176,7 +176,5 @@ public class MergeWhenClause extends Node {
             result.append(ParserUtil.reportUnknownValue("commandType", commandType.name(), getClass()));
             break;
         }
-
-        return result.toString();
     }
 }
@@ -50,7 +50,7 @@ public class MinMaxExpr extends Expr {
     }
 
     @Override
-    public String toString() {
-        return op.toString() + args;
+    public void appendSql(StringBuilder result) {
+        append(result.append(op), args);
     }
 }
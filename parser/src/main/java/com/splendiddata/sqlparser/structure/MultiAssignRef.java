@@ -82,7 +82,7 @@ public class MultiAssignRef extends Node {
     }
 
     @Override
-    public String toString() {
-        return source.toString();
+    public void appendSql(StringBuilder result) {
+        append(result, source);
     }
 }
@@ -50,7 +50,7 @@ public class NamedArgExpr extends Node {
     }
     
     @Override
-    public String toString() {
-        return new StringBuilder().append(name).append(" := ").append(arg).toString();
+    public void appendSql(StringBuilder result) {
+        append(result.append(name).append(" := "), arg);
     }
 }
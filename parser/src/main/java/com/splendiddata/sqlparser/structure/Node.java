@@ -14,6 +14,8 @@
 
 package com.splendiddata.sqlparser.structure;
 
+import java.io.IOException;
+
 import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
@@ -40,23 +42,45 @@ public class Node implements Cloneable {
     public Location location;
 
     /**
-     * just the class name to be represented in an XML structure for debugging purposes
+     * The NodeTag that belongs to each Node subclass, derived from the simple class name. The lookup is done once per
+     * class instead of once per constructed node. Classes that do not have a matching NodeTag map to null.
      */
-    @XmlAttribute(name = "class")
-    private final String className = getClass().getSimpleName();
+    private static final ClassValue<NodeTag> NODE_TAG_BY_CLASS = new ClassValue<>() {
+        @Override
+        protected NodeTag computeValue(Class<?> type) {
+            try {
+                return NodeTag.valueOf("T_" + type.getSimpleName());
+            } catch (IllegalArgumentException e) {
+                Logger log = LogManager.getLogger(type);
+                if (log.isDebugEnabled()) {
+                    log.debug("NodeTag.T_" + type.getSimpleName() + " does not exist");
+                }
+                return null;
+            }
+        }
+    };
 
     /**
-     * Constructor
+     * Tells per Node class whether it overrides {@link #appendSql(StringBuilder)}, in which case {@link #toString()} is
+     * just a wrapper around it.
      */
-    public Node() {
-        try {
-            type = NodeTag.valueOf("T_" + getClass().getSimpleName());
-        } catch (IllegalArgumentException e) {
-            Logger log = LogManager.getLogger(getClass());
-            if (log.isDebugEnabled()) {
-                log.debug("NodeTag.T_" + getClass().getSimpleName() + " does not exist");
+    private static final ClassValue<Boolean> RENDERS_IN_APPEND_SQL = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaringClass = type.getMethod("appendSql", StringBuilder.class).getDeclaringClass();
+                return Boolean.valueOf(!Node.class.equals(declaringClass));
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError("Node.appendSql(StringBuilder) not found in " + type, e);
             }
         }
+    };
+
+    /**
+     * Constructor
+     */
+    public Node() {
+        type = NODE_TAG_BY_CLASS.get(getClass());
     }
 
     /**
@@ -106,6 +130,34 @@ public class Node implements Cloneable {
         }
     }
 
+    /**
+     * Compares the parse trees of this node and obj structurally: they are equal if they are of the same class and all
+     * their fields are equal, recursively. {@link Location}s are not compared, so the same statement parsed from
+     * different positions in a script yields equal nodes.
+     *
+     * @param obj
+     *            The object to compare with
+     * @return boolean true if obj has the same structure and content as this node
+     * @since 19.0
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj != null && StructuralComparison.equals(this, obj);
+    }
+
+    /**
+     * Computes a hash code over the structure and content of the parse tree of this node, consistent with
+     * {@link #equals(Object)}. The hash code is computed on every invocation as nodes can be changed. So a node that is
+     * used as a key in a HashMap must not be changed.
+     *
+     * @return int The structural hash code
+     * @since 19.0
+     */
+    @Override
+    public int hashCode() {
+        return StructuralComparison.hashCode(this);
+    }
+
     /**
      * @return NodeTag the type of node
      */
@@ -113,16 +165,96 @@ public class Node implements Cloneable {
         return type;
     }
 
+    /**
+     * @return String just the class name to be represented in an XML structure for debugging purposes
+     */
+    @XmlAttribute(name = "class")
+    String getClassName() {
+        return getClass().getSimpleName();
+    }
+
     /**
      * @return String returns the location as String to be represented in an XML structure for debugging purposes
      */
     @XmlAttribute(name = "location")
-    private String getLocationString() {
+    String getLocationString() {
         return location == null ? null : location.toString();
     }
 
+    /**
+     * Appends the sql text of this node to the buffer.
+     * <p>
+     * Node classes that override this method render themselves and their children into the one buffer that is passed
+     * down, so a large statement doesn't produce an intermediate String per node. toString() is just a wrapper around
+     * appendSql(StringBuilder). All node classes of the parser override this method. The default implementation,
+     * which appends toString(), is there for Node subclasses elsewhere that only override toString().
+     * </p>
+     *
+     * @param result
+     *            The buffer to append the sql text to
+     * @since 19.0
+     */
+    public void appendSql(StringBuilder result) {
+        result.append(toString());
+    }
+
+    /**
+     * Writes the sql text of this node to out, for example a Writer that a script is written to.
+     * <p>
+     * The sql text is rendered by {@link #appendSql(StringBuilder)}. If out is a StringBuilder it is rendered into out
+     * directly. Any other Appendable is not streamed into: the complete sql text of the node is first rendered into a
+     * temporary StringBuilder, which is then appended to out in one call. So the sql text of the node is held in memory
+     * as a whole, and nothing is written to out if rendering fails halfway. Write a script statement by statement to
+     * keep the buffer small.
+     * </p>
+     *
+     * @param out
+     *            The Appendable to write the sql text to
+     * @throws IOException
+     *             if out throws it
+     * @since 19.0
+     */
+    public void appendSql(Appendable out) throws IOException {
+        if (out instanceof StringBuilder result) {
+            appendSql(result);
+            return;
+        }
+        StringBuilder result = new StringBuilder();
+        appendSql(result);
+        out.append(result);
+    }
+
+    /**
+     * Appends the sql text of the node to the buffer, or "null" if node is null, just like StringBuilder.append(Object)
+     * would, but without creating an intermediate String for Nodes that implement {@link #appendSql(StringBuilder)}.
+     *
+     * @param result
+     *            The buffer to append to
+     * @param node
+     *            The node (or other object) to append. May be null.
+     * @return StringBuilder result
+     * @since 19.0
+     */
+    protected static StringBuilder append(StringBuilder result, Object node) {
+        if (node instanceof Node) {
+            ((Node) node).appendSql(result);
+        } else {
+            result.append(node);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sql text of this node as produced by {@link #appendSql(StringBuilder)} if the class overrides that
+     * method.
+     */
     @Override
     public String toString() {
+        if (RENDERS_IN_APPEND_SQL.get(getClass()).booleanValue()) {
+            StringBuilder result = new StringBuilder();
+            appendSql(result);
+            return result.toString();
+        }
         return new StringBuilder().append("????? please implement ").append(getClass().getName()).append(".toString()")
                 .toString();
     }
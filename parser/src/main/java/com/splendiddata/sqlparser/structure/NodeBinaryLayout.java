@@ -0,0 +1,19040 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser.structure;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+import com.splendiddata.sqlparser.enums.A_Expr_Kind;
+import com.splendiddata.sqlparser.enums.AlterDomainType;
+import com.splendiddata.sqlparser.enums.AlterPropGraphElementKind;
+import com.splendiddata.sqlparser.enums.AlterPublicationAction;
+import com.splendiddata.sqlparser.enums.AlterSubscriptionType;
+import com.splendiddata.sqlparser.enums.AlterTSConfigType;
+import com.splendiddata.sqlparser.enums.AlterTableType;
+import com.splendiddata.sqlparser.enums.AttributeIdentity;
+import com.splendiddata.sqlparser.enums.BoolExprType;
+import com.splendiddata.sqlparser.enums.BoolTestType;
+import com.splendiddata.sqlparser.enums.CTEMaterialize;
+import com.splendiddata.sqlparser.enums.CmdType;
+import com.splendiddata.sqlparser.enums.CoercionForm;
+import com.splendiddata.sqlparser.enums.ConstrType;
+import com.splendiddata.sqlparser.enums.DefElemAction;
+import com.splendiddata.sqlparser.enums.DiscardMode;
+import com.splendiddata.sqlparser.enums.DropBehavior;
+import com.splendiddata.sqlparser.enums.FetchDirection;
+import com.splendiddata.sqlparser.enums.FetchDirectionKeywords;
+import com.splendiddata.sqlparser.enums.FkConstrMatch;
+import com.splendiddata.sqlparser.enums.GeneratedKind;
+import com.splendiddata.sqlparser.enums.GrantTargetType;
+import com.splendiddata.sqlparser.enums.GraphElementPatternKind;
+import com.splendiddata.sqlparser.enums.GroupingSetKind;
+import com.splendiddata.sqlparser.enums.ImportForeignSchemaType;
+import com.splendiddata.sqlparser.enums.JoinType;
+import com.splendiddata.sqlparser.enums.JsonBehaviorType;
+import com.splendiddata.sqlparser.enums.JsonEncoding;
+import com.splendiddata.sqlparser.enums.JsonExprOp;
+import com.splendiddata.sqlparser.enums.JsonFormatType;
+import com.splendiddata.sqlparser.enums.JsonQuotes;
+import com.splendiddata.sqlparser.enums.JsonTableColumnType;
+import com.splendiddata.sqlparser.enums.JsonTablePlanType;
+import com.splendiddata.sqlparser.enums.JsonValueType;
+import com.splendiddata.sqlparser.enums.JsonWrapper;
+import com.splendiddata.sqlparser.enums.LimitOption;
+import com.splendiddata.sqlparser.enums.LockClauseStrength;
+import com.splendiddata.sqlparser.enums.LockWaitPolicy;
+import com.splendiddata.sqlparser.enums.MergeMatchKind;
+import com.splendiddata.sqlparser.enums.MinMaxOp;
+import com.splendiddata.sqlparser.enums.NodeTag;
+import com.splendiddata.sqlparser.enums.NullTestType;
+import com.splendiddata.sqlparser.enums.NullTreatment;
+import com.splendiddata.sqlparser.enums.ObjectType;
+import com.splendiddata.sqlparser.enums.OnCommitAction;
+import com.splendiddata.sqlparser.enums.OnConflictAction;
+import com.splendiddata.sqlparser.enums.OverridingKind;
+import com.splendiddata.sqlparser.enums.PartitionRangeDatumKind;
+import com.splendiddata.sqlparser.enums.PartitionStrategy;
+import com.splendiddata.sqlparser.enums.PublicationAllObjType;
+import com.splendiddata.sqlparser.enums.PublicationObjSpecType;
+import com.splendiddata.sqlparser.enums.ReindexObjectType;
+import com.splendiddata.sqlparser.enums.RelPersistence;
+import com.splendiddata.sqlparser.enums.RepackCommand;
+import com.splendiddata.sqlparser.enums.ReplicaIdentityType;
+import com.splendiddata.sqlparser.enums.ReturningOptionKind;
+import com.splendiddata.sqlparser.enums.RoleSpecType;
+import com.splendiddata.sqlparser.enums.RoleStmtType;
+import com.splendiddata.sqlparser.enums.SQLValueFunctionOp;
+import com.splendiddata.sqlparser.enums.SetOperation;
+import com.splendiddata.sqlparser.enums.SortByDir;
+import com.splendiddata.sqlparser.enums.SortByNulls;
+import com.splendiddata.sqlparser.enums.SubLinkType;
+import com.splendiddata.sqlparser.enums.TransactionStmtKind;
+import com.splendiddata.sqlparser.enums.VariableSetKind;
+import com.splendiddata.sqlparser.enums.ViewCheckOption;
+import com.splendiddata.sqlparser.enums.XmlExprOp;
+import com.splendiddata.sqlparser.enums.XmlOptionType;
+
+/**
+ * The binary layout of the classes of the structure package: the fields that are written for a class, in the order in
+ * which they are written, and the fingerprint of that layout.
+ * <p>
+ * {@link com.splendiddata.sqlparser.NodeBinaryWriter} and {@link com.splendiddata.sqlparser.NodeBinaryReader} write and
+ * read a node by calling {@link #write(int, Object, int, Output)} and {@link #read(int, Object, int, Input)}, which
+ * access the fields of the node directly. Neither of them descends into a child node or list. They return after a
+ * field that holds one, so that the caller can write or read the child first and then resume the node at the step that
+ * was returned. That way the depth of a tree is limited by the stack that the caller keeps, not by the call stack.
+ * </p>
+ * <p>
+ * This class is generated by NodeBinaryLayoutGenerator in the test sources. Do not edit it by hand.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeBinaryLayout {
+    /**
+     * Returned by {@link #write(int, Object, int, Output)} and {@link #read(int, Object, int, Input)} when all
+     * fields of the node are done
+     */
+    public static final int DONE = -1;
+
+    /**
+     * Receives the fields of a node
+     */
+    public interface Output {
+        /**
+         * Writes a boolean field
+         *
+         * @param value
+         *            The value of the field
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeBoolean(boolean value) throws IOException;
+
+        /**
+         * Writes a byte, short, int or long field
+         *
+         * @param value
+         *            The value of the field
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeZigzag(long value) throws IOException;
+
+        /**
+         * Writes a char field
+         *
+         * @param value
+         *            The value of the field
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeChar(char value) throws IOException;
+
+        /**
+         * Writes a float field
+         *
+         * @param value
+         *            The value of the field
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeFloat(float value) throws IOException;
+
+        /**
+         * Writes a double field
+         *
+         * @param value
+         *            The value of the field
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeDouble(double value) throws IOException;
+
+        /**
+         * Writes a String field
+         *
+         * @param value
+         *            The value of the field, may be null
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeString(String value) throws IOException;
+
+        /**
+         * Writes a field of an enum type
+         *
+         * @param value
+         *            The value of the field, may be null
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeEnum(Enum<?> value) throws IOException;
+
+        /**
+         * Writes a Location field
+         *
+         * @param value
+         *            The value of the field, may be null
+         * @throws IOException
+         *             If writing fails
+         */
+        void writeLocation(Location value) throws IOException;
+
+        /**
+         * Writes any other field as a tagged value
+         *
+         * @param value
+         *            The value of the field, may be null
+         * @return boolean true if the value is a node or list of which the content is still to be written,
+         *         before the next field of the current node
+         * @throws IOException
+         *             If writing fails
+         */
+        boolean writeValue(Object value) throws IOException;
+    }
+
+    /**
+     * Provides the fields of a node
+     */
+    public interface Input {
+        /**
+         * Reads a boolean field
+         *
+         * @return boolean The value of the field
+         * @throws IOException
+         *             If reading fails
+         */
+        boolean readBoolean() throws IOException;
+
+        /**
+         * Reads a byte, short, int or long field
+         *
+         * @return long The value of the field
+         * @throws IOException
+         *             If reading fails
+         */
+        long readZigzag() throws IOException;
+
+        /**
+         * Reads a char field
+         *
+         * @return char The value of the field
+         * @throws IOException
+         *             If reading fails
+         */
+        char readChar() throws IOException;
+
+        /**
+         * Reads a float field
+         *
+         * @return float The value of the field
+         * @throws IOException
+         *             If reading fails
+         */
+        float readFloat() throws IOException;
+
+        /**
+         * Reads a double field
+         *
+         * @return double The value of the field
+         * @throws IOException
+         *             If reading fails
+         */
+        double readDouble() throws IOException;
+
+        /**
+         * Reads a String field
+         *
+         * @return String The value of the field, may be null
+         * @throws IOException
+         *             If reading fails
+         */
+        String readString() throws IOException;
+
+        /**
+         * Reads a field of an enum type
+         *
+         * @param <E>
+         *            The enum type
+         * @param constants
+         *            The constants of the enum
+         * @return E The value of the field, may be null
+         * @throws IOException
+         *             If reading fails
+         */
+        <E> E readEnum(E[] constants) throws IOException;
+
+        /**
+         * Reads a Location field
+         *
+         * @return Location The value of the field, may be null
+         * @throws IOException
+         *             If reading fails
+         */
+        Location readLocation() throws IOException;
+
+        /**
+         * Reads any other field as a tagged value
+         *
+         * @return Object The value of the field, may be null
+         * @throws IOException
+         *             If reading fails
+         */
+        Object readValue() throws IOException;
+
+        /**
+         * Tells if the value that was just read is a node or list of which the content is still to be read,
+         * before the next field of the current node
+         *
+         * @return boolean true if the content of the last value is still to be read
+         */
+        boolean descended();
+    }
+
+    /**
+     * The known classes. The index of a class in this array is its case in the switch statements.
+     */
+    private static final Class<?>[] CLASSES = {
+            ATAlterConstraint.class,
+            A_ArrayExpr.class,
+            A_Const.class,
+            A_Expr.class,
+            A_Indices.class,
+            A_Indirection.class,
+            A_Star.class,
+            AccessPriv.class,
+            Alias.class,
+            AlterCollationStmt.class,
+            AlterDatabaseRefreshCollStmt.class,
+            AlterDatabaseSetStmt.class,
+            AlterDatabaseStmt.class,
+            AlterDefaultPrivilegesStmt.class,
+            AlterDomainStmt.class,
+            AlterEnumStmt.class,
+            AlterEventTrigStmt.class,
+            AlterExtensionContentsStmt.class,
+            AlterExtensionStmt.class,
+            AlterFdwStmt.class,
+            AlterForeignServerStmt.class,
+            AlterFunctionStmt.class,
+            AlterObjectDependsStmt.class,
+            AlterObjectSchemaStmt.class,
+            AlterOpFamilyStmt.class,
+            AlterOperatorStmt.class,
+            AlterOwnerStmt.class,
+            AlterPolicyStmt.class,
+            AlterPropGraphStmt.class,
+            AlterPublicationStmt.class,
+            AlterRoleSetStmt.class,
+            AlterRoleStmt.class,
+            AlterSeqStmt.class,
+            AlterStatsStmt.class,
+            AlterSubscriptionStmt.class,
+            AlterSystemStmt.class,
+            AlterTSConfigurationStmt.class,
+            AlterTSDictionaryStmt.class,
+            AlterTableCmd.class,
+            AlterTableMoveAllStmt.class,
+            AlterTableSpaceOptionsStmt.class,
+            AlterTableStmt.class,
+            AlterTypeStmt.class,
+            AlterUserMappingStmt.class,
+            BoolExpr.class,
+            BooleanTest.class,
+            CTECycleClause.class,
+            CTESearchClause.class,
+            CallStmt.class,
+            CaseExpr.class,
+            CaseWhen.class,
+            CheckPointStmt.class,
+            ClosePortalStmt.class,
+            ClusterStmt.class,
+            CoalesceExpr.class,
+            CollateClause.class,
+            ColumnDef.class,
+            ColumnRef.class,
+            CommentStmt.class,
+            CommonTableExpr.class,
+            CompositeTypeStmt.class,
+            Constraint.class,
+            ConstraintsSetStmt.class,
+            CopyStmt.class,
+            CreateAmStmt.class,
+            CreateCastStmt.class,
+            CreateConversionStmt.class,
+            CreateDomainStmt.class,
+            CreateEnumStmt.class,
+            CreateEventTrigStmt.class,
+            CreateExtensionStmt.class,
+            CreateFdwStmt.class,
+            CreateForeignServerStmt.class,
+            CreateForeignTableStmt.class,
+            CreateFunctionStmt.class,
+            CreateOpClassItem.class,
+            CreateOpClassStmt.class,
+            CreateOpFamilyStmt.class,
+            CreatePLangStmt.class,
+            CreatePolicyStmt.class,
+            CreatePropGraphStmt.class,
+            CreatePublicationStmt.class,
+            CreateRangeStmt.class,
+            CreateRoleStmt.class,
+            CreateSchemaStmt.class,
+            CreateSeqStmt.class,
+            CreateStatsStmt.class,
+            CreateStmt.class,
+            CreateSubscriptionStmt.class,
+            CreateTableAsStmt.class,
+            CreateTableSpaceStmt.class,
+            CreateTransformStmt.class,
+            CreateTrigStmt.class,
+            CreateUserMappingStmt.class,
+            CreatedbStmt.class,
+            CurrentOfExpr.class,
+            DeallocateStmt.class,
+            DeclareCursorStmt.class,
+            DefElem.class,
+            DefineStmt.class,
+            DeleteStmt.class,
+            DiscardStmt.class,
+            DoStmt.class,
+            DropOwnedStmt.class,
+            DropRoleStmt.class,
+            DropStmt.class,
+            DropSubscriptionStmt.class,
+            DropTableSpaceStmt.class,
+            DropUserMappingStmt.class,
+            DropdbStmt.class,
+            ErrorData.class,
+            ErrorSaveContext.class,
+            ExecuteStmt.class,
+            ExplainStmt.class,
+            FetchStmt.class,
+            ForPortionOfClause.class,
+            FuncCall.class,
+            FunctionParameter.class,
+            GrantRoleStmt.class,
+            GrantStmt.class,
+            GraphElementPattern.class,
+            GraphPattern.class,
+            GroupClause.class,
+            GroupingFunc.class,
+            GroupingSet.class,
+            ImportForeignSchemaStmt.class,
+            ImportQual.class,
+            IndexElem.class,
+            IndexStmt.class,
+            InferClause.class,
+            InsertStmt.class,
+            IntoClause.class,
+            JoinExpr.class,
+            JsonAggConstructor.class,
+            JsonArgument.class,
+            JsonArrayAgg.class,
+            JsonArrayConstructor.class,
+            JsonArrayQueryConstructor.class,
+            JsonBehavior.class,
+            JsonFormat.class,
+            JsonFuncExpr.class,
+            JsonIsPredicate.class,
+            JsonKeyValue.class,
+            JsonObjectAgg.class,
+            JsonObjectConstructor.class,
+            JsonOutput.class,
+            JsonParseExpr.class,
+            JsonReturning.class,
+            JsonScalarExpr.class,
+            JsonSerializeExpr.class,
+            JsonTable.class,
+            JsonTableColumn.class,
+            JsonTablePathSpec.class,
+            JsonTablePlanSpec.class,
+            JsonValueExpr.class,
+            KeyAction.class,
+            KeyActions.class,
+            ListenStmt.class,
+            LoadStmt.class,
+            LockStmt.class,
+            LockingClause.class,
+            MergeStmt.class,
+            MergeSupportFunc.class,
+            MergeWhenClause.class,
+            MinMaxExpr.class,
+            MultiAssignRef.class,
+            NamedArgExpr.class,
+            Node.class,
+            NotifyStmt.class,
+            NullTest.class,
+            ObjectWithArgs.class,
+            Oid.class,
+            OnConflictClause.class,
+            PLAssignStmt.class,
+            ParamRef.class,
+            PartitionBoundSpec.class,
+            PartitionCmd.class,
+            PartitionElem.class,
+            PartitionRangeDatum.class,
+            PartitionSpec.class,
+            PrepareStmt.class,
+            PrivTarget.class,
+            PropGraphEdge.class,
+            PropGraphLabelAndProperties.class,
+            PropGraphProperties.class,
+            PropGraphVertex.class,
+            PublicationAllObjSpec.class,
+            PublicationObjSpec.class,
+            PublicationTable.class,
+            RangeFunction.class,
+            RangeGraphTable.class,
+            RangeSubselect.class,
+            RangeTableFunc.class,
+            RangeTableFuncCol.class,
+            RangeTableSample.class,
+            RangeVar.class,
+            RawStmt.class,
+            ReassignOwnedStmt.class,
+            RefreshMatViewStmt.class,
+            ReindexStmt.class,
+            RelFileNumber.class,
+            RenameStmt.class,
+            RepackStmt.class,
+            ReplicaIdentityStmt.class,
+            ResTarget.class,
+            ReturnStmt.class,
+            ReturningClause.class,
+            ReturningOption.class,
+            RoleSpec.class,
+            RowExpr.class,
+            RuleStmt.class,
+            SQLValueFunction.class,
+            SecLabelStmt.class,
+            SelectLimit.class,
+            SelectStmt.class,
+            SetToDefault.class,
+            SinglePartitionSpec.class,
+            SortBy.class,
+            StatsElem.class,
+            Stmt.class,
+            SubLink.class,
+            TableLikeClause.class,
+            TransactionStmt.class,
+            TriggerTransition.class,
+            TruncateStmt.class,
+            TypeCast.class,
+            TypeName.class,
+            UnlistenStmt.class,
+            UpdateStmt.class,
+            VacuumRelation.class,
+            VacuumStmt.class,
+            ValUnion.class,
+            Value.class,
+            VariableSetStmt.class,
+            VariableShowStmt.class,
+            ViewStmt.class,
+            WaitStmt.class,
+            WindowDef.class,
+            WithClause.class,
+            XmlExpr.class,
+            XmlSerialize.class,
+            core_yy_extra_type.class,
+            core_yyscan_t.class,
+    };
+
+    /**
+     * The fingerprints of the fields of the known classes
+     */
+    private static final long[] FINGERPRINTS = {
+            0x513d71cc3fe9a4f3L,
+            0x22582e49daf0e6adL,
+            0x0df35f13c1c80498L,
+            0xda2b90e4823cd8d3L,
+            0xedc81ee88907dbc6L,
+            0xd3ab5715d7f83b54L,
+            0xfdddec193ba18a5cL,
+            0x0529fe20a6765a94L,
+            0x0b806738b62946a3L,
+            0xde3d83e7e7e55e06L,
+            0xfb49e7fb964cfc4fL,
+            0xfb5626ae4535e543L,
+            0xfcf9d6d08c0b9519L,
+            0x09c9397af175c1f9L,
+            0xfb2e5f8c4d2de49cL,
+            0x3482bdf7957b4652L,
+            0x70b18e98f17772beL,
+            0x23238767f6ef212bL,
+            0xbeebeacd3dcffc22L,
+            0x00f39ac3251f7f04L,
+            0x54dd6d2ea58ba470L,
+            0x162b4b1e0a68c715L,
+            0xb0e6cad4453cb15eL,
+            0xb3356265a65a670eL,
+            0x647dd027f53bcfddL,
+            0x1a3d2e236630923fL,
+            0x94af40bee4456f64L,
+            0x69b604dd2d0b36c2L,
+            0xc27edaf564663cffL,
+            0xeab3b23d9a7c4b42L,
+            0xc301862bee22709bL,
+            0x3cdf3799c58fd2f4L,
+            0xb07994b635394ab0L,
+            0x368bf3e330b6c991L,
+            0x0057fbd632d510b7L,
+            0xd2bc3d5d19a8f4f4L,
+            0xc37f46fa193683e1L,
+            0x21ba85615f773d09L,
+            0x9eb0e8d7bb609c2bL,
+            0x0d907375ac9823baL,
+            0x7149dafc1ec56b38L,
+            0x183ca33453fdbdc9L,
+            0x0cdb21effc3294a4L,
+            0xe39bca36c0276a4aL,
+            0x7fa95eedf5924828L,
+            0xa5ec9cea71dd79a2L,
+            0x3ca3d21caa556ae9L,
+            0x434225e14812cb9fL,
+            0x86d09de5db54fb1bL,
+            0x98ab8c2459a37c16L,
+            0x422a9a884b82aad0L,
+            0xf9b6bf08c9be4365L,
+            0xcc2fa9e0a9112f95L,
+            0x3c30c4c5210bc6e9L,
+            0xb197acea26b79676L,
+            0x155e43b40b76dfb3L,
+            0x371ccb96f89ad6edL,
+            0x1cb8256e79d569c9L,
+            0x328d77be537d579cL,
+            0xb3a747e75e3033abL,
+            0xc6fd0dee9c5f115eL,
+            0xa135a6809f2854a8L,
+            0xd8d5e3dae7b4b9f7L,
+            0x85f4ff1d1014a760L,
+            0xc9a1e432e3622899L,
+            0xae3646dcf93e9ca4L,
+            0xbaa7d768ea1fee08L,
+            0x12bf21c961a47756L,
+            0x9b010162aebc6d68L,
+            0x4d6f927e54ecd9a1L,
+            0xa315a34a168757b7L,
+            0xf05fcad3ec525f9eL,
+            0xa943737990f84b38L,
+            0x0a9b959c1527e513L,
+            0x98a1d2a40b1b327aL,
+            0x4b1cae82f3b30aa6L,
+            0xeb7b24e1532212efL,
+            0xda95e10af40aeb76L,
+            0x124f23596880b443L,
+            0x30d2ccb78c40f23aL,
+            0xc955c9b527acb756L,
+            0xa79423f1b433149aL,
+            0x2fd9d2f8a4127375L,
+            0x5da968b03152c011L,
+            0xae29ca56e0231f3bL,
+            0x072b506f72a3b7e8L,
+            0xfcfa36075e17bfdeL,
+            0x4fe7d95822a79d4aL,
+            0x2eb5619f7c64c441L,
+            0xc4a17b1d10c3bab7L,
+            0xa61179dae5d6d2b9L,
+            0x92a5e508b5abc86aL,
+            0xb05968fca582552fL,
+            0x5e11a8a441794ac7L,
+            0xb12e4843f12208a8L,
+            0xa9a97ccdb043d55fL,
+            0x17827a24f9e03841L,
+            0xbdb720f454734524L,
+            0x83e7df773c140bf2L,
+            0xe603bb39a95d0d90L,
+            0x715fbe34f0415d52L,
+            0x07d1cd3fe9f977f5L,
+            0xcadc856ca48d5cb3L,
+            0x11cc94b01ea0dd28L,
+            0x75f7d0ef7ca3bd90L,
+            0x58a3f317ead7146eL,
+            0x60cf6807bc1ac6e6L,
+            0x80102b7076265068L,
+            0x8df9980712ca0240L,
+            0x6bf2e445a207c1cfL,
+            0xadc97b83f586a7b4L,
+            0x5ceeb3d77c11a90aL,
+            0x6cd0d0c852da4a91L,
+            0xb66a9b5a83fce983L,
+            0x666b366ca13ae85bL,
+            0x95da959c790e6a0bL,
+            0xaa7aa7891a2e01e3L,
+            0xfc4d3ac5a9425d3fL,
+            0x61b7ecf40acdf7d4L,
+            0xe48eb3edffc04d97L,
+            0x2244987d46bbc671L,
+            0x5460a2a68f574817L,
+            0x4063a94c9360dc46L,
+            0x0b84b007f8194e81L,
+            0x7f0257030f6c78baL,
+            0x377fed22335b9831L,
+            0x4898cb980c98a3ffL,
+            0x48cec034270c77ccL,
+            0x7e80e6887ed6099bL,
+            0xbdc0e472f4581d8fL,
+            0x37cfb9dea00e1b7fL,
+            0xf81428add7e5e104L,
+            0x0d8e5ed18b841462L,
+            0x629556a8da72edd4L,
+            0x1ed4d847e152fc38L,
+            0x6a26468ef91e040fL,
+            0x3067f11c009e0527L,
+            0x9c34d58f895fe86eL,
+            0x037c2b4a0e9561b6L,
+            0x402282bd1b2e78efL,
+            0xaa2d4dadd1f8ab57L,
+            0xd02a38ccb8062345L,
+            0xc5d592748559c35dL,
+            0x285ab162e29d260dL,
+            0x7ed7a5da5a3ae8ddL,
+            0x79254e815cc2a9f9L,
+            0x65ed2b9024ac541aL,
+            0x5ecf9e9f60534147L,
+            0x3e2843fc46c5c0b7L,
+            0xbfb40bf1d5391aacL,
+            0x4a77ecfc63648b00L,
+            0xbc2ad8c9f9719b18L,
+            0x762effd001559b8eL,
+            0x6909a57b354d6223L,
+            0x7b4edd1853c2b8d9L,
+            0x9e8e5f9ee7c4c3cbL,
+            0x01c26930ba9a1fb6L,
+            0x4bcc89406a080a69L,
+            0xefc9e68bc56d1e1bL,
+            0xacd4852f4a3a0973L,
+            0x57920f27b5b8f2fcL,
+            0x0a5c976bce64a8feL,
+            0xccd820ffc58526eaL,
+            0xe6937a69f8e03fc3L,
+            0xd6aa5287d9a89f91L,
+            0x740cd5e4a2cfa7d1L,
+            0x14ae15ce49b54fb2L,
+            0x277461600f6c3f5eL,
+            0xfbd88cff7bf274b1L,
+            0x27c16c7740fb627dL,
+            0xb07f60d6f46addf2L,
+            0xb13ab6d6d44fd36eL,
+            0x4d0879eb0b702bb6L,
+            0xa45ac34f864e4482L,
+            0x1920ef430c65b9a9L,
+            0xd09476f0af10285bL,
+            0xce7d1fc24d661c9eL,
+            0x9fc07b797bb19350L,
+            0x3897f03720080a18L,
+            0x7653483a1824d78eL,
+            0x21dc7b8041fc9fa0L,
+            0xd8feb2581e156051L,
+            0x8d20f10f9b345479L,
+            0x93ca18d6a0dde131L,
+            0x32c7402bacfbdd87L,
+            0x92fd939e603d80ceL,
+            0x5d0b821c00711aeeL,
+            0x9b2b77e05166f5dbL,
+            0xf3784dce60186a5dL,
+            0x2ea7c51319cfce04L,
+            0xe1cf384000e1b872L,
+            0xdde533de0209ca8dL,
+            0xbcafe00d09db383bL,
+            0xe89faf4fc6ddc50aL,
+            0x0d788d3e11deac54L,
+            0x4eea4b4f6450d95bL,
+            0xd864fbf4533b8e26L,
+            0xfa5eaf2537dc909fL,
+            0x35a69f64cc7d04d7L,
+            0xff9775039b60c553L,
+            0xd9e253afb3bd6b92L,
+            0x063c9040e9753224L,
+            0xff827a9f7a4eb916L,
+            0xc25d38f789af9237L,
+            0x16a9643995757991L,
+            0xdd8918ff77fa0442L,
+            0x4ad11ab9e8acf8e3L,
+            0x765def80a9989be7L,
+            0x7e46d93104747d43L,
+            0x713eb381d58ac074L,
+            0xae8af1965bdacbedL,
+            0x96df0827fec4fdbaL,
+            0x8e3b37997f3913b4L,
+            0xb250f73491ffebf4L,
+            0x75319c52021af291L,
+            0xf8ecb18ec057018cL,
+            0xd9f80bd6ba295271L,
+            0x5027ff42ffe6acd3L,
+            0xa6af2d4e969749fbL,
+            0x6fde9c24fb2272cdL,
+            0xe200a34b67319f37L,
+            0x7b091c7f6f598c66L,
+            0x2b3123366d6747e0L,
+            0xd3b324167c8222b8L,
+            0xefa3e914f8e20548L,
+            0x95ea96630216c89fL,
+            0x02ed9f839572e6d4L,
+            0x17b9564b788f60e2L,
+            0x8250691699bd4a2dL,
+            0x95e02791d4661f35L,
+            0x493a4e44eefe9483L,
+            0x7a926e2d919eb195L,
+            0x2b60b3524d76542fL,
+            0x6da8afa47d3b0e0cL,
+            0x5f929c0a10bc34aeL,
+            0xd3430d1e2ff1a41eL,
+            0x98e6e7f2d45ed625L,
+            0x1f7617de4d72a5c1L,
+            0x5746919a8829fd2aL,
+            0x8324f38658f07749L,
+            0x100b5c39a0b3ba3fL,
+            0xd1665053cd047985L,
+            0xbeabfbcf72e9b2c4L,
+    };
+
+    /*
+     * The constants of the enum types of the fields, as values() returns a new array on every call
+     */
+    private static final AlterDomainType[] ALTER_DOMAIN_TYPE_VALUES = AlterDomainType.values();
+    private static final AlterPropGraphElementKind[] ALTER_PROP_GRAPH_ELEMENT_KIND_VALUES =
+            AlterPropGraphElementKind.values();
+    private static final AlterPublicationAction[] ALTER_PUBLICATION_ACTION_VALUES = AlterPublicationAction.values();
+    private static final AlterSubscriptionType[] ALTER_SUBSCRIPTION_TYPE_VALUES = AlterSubscriptionType.values();
+    private static final AlterTableType[] ALTER_TABLE_TYPE_VALUES = AlterTableType.values();
+    private static final AlterTSConfigType[] ALTER_TSCONFIG_TYPE_VALUES = AlterTSConfigType.values();
+    private static final AttributeIdentity[] ATTRIBUTE_IDENTITY_VALUES = AttributeIdentity.values();
+    private static final A_Expr_Kind[] A_EXPR_KIND_VALUES = A_Expr_Kind.values();
+    private static final BoolExprType[] BOOL_EXPR_TYPE_VALUES = BoolExprType.values();
+    private static final BoolTestType[] BOOL_TEST_TYPE_VALUES = BoolTestType.values();
+    private static final CmdType[] CMD_TYPE_VALUES = CmdType.values();
+    private static final CoercionContext[] COERCION_CONTEXT_VALUES = CoercionContext.values();
+    private static final CoercionForm[] COERCION_FORM_VALUES = CoercionForm.values();
+    private static final ConstrType[] CONSTR_TYPE_VALUES = ConstrType.values();
+    private static final CTEMaterialize[] CTEMATERIALIZE_VALUES = CTEMaterialize.values();
+    private static final DefElemAction[] DEF_ELEM_ACTION_VALUES = DefElemAction.values();
+    private static final DiscardMode[] DISCARD_MODE_VALUES = DiscardMode.values();
+    private static final DropBehavior[] DROP_BEHAVIOR_VALUES = DropBehavior.values();
+    private static final FetchDirectionKeywords[] FETCH_DIRECTION_KEYWORDS_VALUES = FetchDirectionKeywords.values();
+    private static final FetchDirection[] FETCH_DIRECTION_VALUES = FetchDirection.values();
+    private static final FkConstrMatch[] FK_CONSTR_MATCH_VALUES = FkConstrMatch.values();
+    private static final GeneratedKind[] GENERATED_KIND_VALUES = GeneratedKind.values();
+    private static final GrantTargetType[] GRANT_TARGET_TYPE_VALUES = GrantTargetType.values();
+    private static final GraphElementPatternKind[] GRAPH_ELEMENT_PATTERN_KIND_VALUES = GraphElementPatternKind.values();
+    private static final GroupingSetKind[] GROUPING_SET_KIND_VALUES = GroupingSetKind.values();
+    private static final ImportForeignSchemaType[] IMPORT_FOREIGN_SCHEMA_TYPE_VALUES = ImportForeignSchemaType.values();
+    private static final JoinType[] JOIN_TYPE_VALUES = JoinType.values();
+    private static final JsonBehaviorType[] JSON_BEHAVIOR_TYPE_VALUES = JsonBehaviorType.values();
+    private static final JsonEncoding[] JSON_ENCODING_VALUES = JsonEncoding.values();
+    private static final JsonExprOp[] JSON_EXPR_OP_VALUES = JsonExprOp.values();
+    private static final JsonFormatType[] JSON_FORMAT_TYPE_VALUES = JsonFormatType.values();
+    private static final JsonQuotes[] JSON_QUOTES_VALUES = JsonQuotes.values();
+    private static final JsonTableColumnType[] JSON_TABLE_COLUMN_TYPE_VALUES = JsonTableColumnType.values();
+    private static final JsonTablePlanType[] JSON_TABLE_PLAN_TYPE_VALUES = JsonTablePlanType.values();
+    private static final JsonValueType[] JSON_VALUE_TYPE_VALUES = JsonValueType.values();
+    private static final JsonWrapper[] JSON_WRAPPER_VALUES = JsonWrapper.values();
+    private static final LimitOption[] LIMIT_OPTION_VALUES = LimitOption.values();
+    private static final LockClauseStrength[] LOCK_CLAUSE_STRENGTH_VALUES = LockClauseStrength.values();
+    private static final LockWaitPolicy[] LOCK_WAIT_POLICY_VALUES = LockWaitPolicy.values();
+    private static final MergeMatchKind[] MERGE_MATCH_KIND_VALUES = MergeMatchKind.values();
+    private static final MinMaxOp[] MIN_MAX_OP_VALUES = MinMaxOp.values();
+    private static final NodeTag[] NODE_TAG_VALUES = NodeTag.values();
+    private static final NullTestType[] NULL_TEST_TYPE_VALUES = NullTestType.values();
+    private static final NullTreatment[] NULL_TREATMENT_VALUES = NullTreatment.values();
+    private static final ObjectType[] OBJECT_TYPE_VALUES = ObjectType.values();
+    private static final OnCommitAction[] ON_COMMIT_ACTION_VALUES = OnCommitAction.values();
+    private static final OnConflictAction[] ON_CONFLICT_ACTION_VALUES = OnConflictAction.values();
+    private static final OverridingKind[] OVERRIDING_KIND_VALUES = OverridingKind.values();
+    private static final PartitionRangeDatumKind[] PARTITION_RANGE_DATUM_KIND_VALUES = PartitionRangeDatumKind.values();
+    private static final PartitionStrategy[] PARTITION_STRATEGY_VALUES = PartitionStrategy.values();
+    private static final PublicationAllObjType[] PUBLICATION_ALL_OBJ_TYPE_VALUES = PublicationAllObjType.values();
+    private static final PublicationObjSpecType[] PUBLICATION_OBJ_SPEC_TYPE_VALUES = PublicationObjSpecType.values();
+    private static final ReindexObjectType[] REINDEX_OBJECT_TYPE_VALUES = ReindexObjectType.values();
+    private static final RelPersistence[] REL_PERSISTENCE_VALUES = RelPersistence.values();
+    private static final RepackCommand[] REPACK_COMMAND_VALUES = RepackCommand.values();
+    private static final ReplicaIdentityType[] REPLICA_IDENTITY_TYPE_VALUES = ReplicaIdentityType.values();
+    private static final ReturningOptionKind[] RETURNING_OPTION_KIND_VALUES = ReturningOptionKind.values();
+    private static final RoleSpecType[] ROLE_SPEC_TYPE_VALUES = RoleSpecType.values();
+    private static final RoleStmtType[] ROLE_STMT_TYPE_VALUES = RoleStmtType.values();
+    private static final SetOperation[] SET_OPERATION_VALUES = SetOperation.values();
+    private static final SortByDir[] SORT_BY_DIR_VALUES = SortByDir.values();
+    private static final SortByNulls[] SORT_BY_NULLS_VALUES = SortByNulls.values();
+    private static final SQLValueFunctionOp[] SQLVALUE_FUNCTION_OP_VALUES = SQLValueFunctionOp.values();
+    private static final SubLinkType[] SUB_LINK_TYPE_VALUES = SubLinkType.values();
+    private static final TransactionStmtKind[] TRANSACTION_STMT_KIND_VALUES = TransactionStmtKind.values();
+    private static final VariableSetKind[] VARIABLE_SET_KIND_VALUES = VariableSetKind.values();
+    private static final ViewCheckOption[] VIEW_CHECK_OPTION_VALUES = ViewCheckOption.values();
+    private static final XmlExprOp[] XML_EXPR_OP_VALUES = XmlExprOp.values();
+    private static final XmlOptionType[] XML_OPTION_TYPE_VALUES = XmlOptionType.values();
+
+    /**
+     * The index in {@link #CLASSES} of a class, -1 if it is not known
+     */
+    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < CLASSES.length; i++) {
+                if (CLASSES[i].equals(type)) {
+                    return Integer.valueOf(i);
+                }
+            }
+            return Integer.valueOf(-1);
+        }
+    };
+
+    /**
+     * The index in {@link #CLASSES} by class name
+     */
+    private static final HashMap<String, Integer> NAMES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < CLASSES.length; i++) {
+            NAMES.put(CLASSES[i].getName(), Integer.valueOf(i));
+        }
+    }
+
+    /**
+     * No instances
+     */
+    private NodeBinaryLayout() {
+        // static methods only
+    }
+
+    /**
+     * Returns the index of the layout of a class
+     *
+     * @param type
+     *            The class
+     * @return int The index of the class, -1 if it cannot be written field by field. Subclasses of the known
+     *         classes cannot either.
+     */
+    public static int indexOf(Class<?> type) {
+        return INDEXES.get(type).intValue();
+    }
+
+    /**
+     * Returns the index of the layout of a class
+     *
+     * @param className
+     *            The name of the class
+     * @return int The index of the class, -1 if it is not known
+     */
+    public static int indexOf(String className) {
+        Integer index = NAMES.get(className);
+        return index == null ? -1 : index.intValue();
+    }
+
+    /**
+     * Returns the class of a layout
+     *
+     * @param index
+     *            The index of the class
+     * @return Class&lt;?&gt; The class
+     */
+    public static Class<?> type(int index) {
+        return CLASSES[index];
+    }
+
+    /**
+     * Returns the fingerprint of the layout of a class, which covers the names and generic types of its fields
+     * in the order in which they are written, and the constants of the enum types among them
+     *
+     * @param index
+     *            The index of the class
+     * @return long The fingerprint
+     */
+    public static long fingerprint(int index) {
+        return FINGERPRINTS[index];
+    }
+
+    /**
+     * Creates an instance of a class, to be filled by {@link #read(int, Object, int, Input)}
+     *
+     * @param index
+     *            The index of the class
+     * @return Object The new instance
+     */
+    public static Object newInstance(int index) {
+        switch (index) {
+        case 0:
+            return new ATAlterConstraint();
+        case 1:
+            return new A_ArrayExpr();
+        case 2:
+            return new A_Const();
+        case 3:
+            return new A_Expr();
+        case 4:
+            return new A_Indices();
+        case 5:
+            return new A_Indirection();
+        case 6:
+            return new A_Star();
+        case 7:
+            return new AccessPriv();
+        case 8:
+            return new Alias();
+        case 9:
+            return new AlterCollationStmt();
+        case 10:
+            return new AlterDatabaseRefreshCollStmt();
+        case 11:
+            return new AlterDatabaseSetStmt();
+        case 12:
+            return new AlterDatabaseStmt();
+        case 13:
+            return new AlterDefaultPrivilegesStmt();
+        case 14:
+            return new AlterDomainStmt();
+        case 15:
+            return new AlterEnumStmt();
+        case 16:
+            return new AlterEventTrigStmt();
+        case 17:
+            return new AlterExtensionContentsStmt();
+        case 18:
+            return new AlterExtensionStmt();
+        case 19:
+            return new AlterFdwStmt();
+        case 20:
+            return new AlterForeignServerStmt();
+        case 21:
+            return new AlterFunctionStmt();
+        case 22:
+            return new AlterObjectDependsStmt();
+        case 23:
+            return new AlterObjectSchemaStmt();
+        case 24:
+            return new AlterOpFamilyStmt();
+        case 25:
+            return new AlterOperatorStmt();
+        case 26:
+            return new AlterOwnerStmt();
+        case 27:
+            return new AlterPolicyStmt();
+        case 28:
+            return new AlterPropGraphStmt();
+        case 29:
+            return new AlterPublicationStmt();
+        case 30:
+            return new AlterRoleSetStmt();
+        case 31:
+            return new AlterRoleStmt();
+        case 32:
+            return new AlterSeqStmt();
+        case 33:
+            return new AlterStatsStmt();
+        case 34:
+            return new AlterSubscriptionStmt();
+        case 35:
+            return new AlterSystemStmt();
+        case 36:
+            return new AlterTSConfigurationStmt();
+        case 37:
+            return new AlterTSDictionaryStmt();
+        case 38:
+            return new AlterTableCmd();
+        case 39:
+            return new AlterTableMoveAllStmt();
+        case 40:
+            return new AlterTableSpaceOptionsStmt();
+        case 41:
+            return new AlterTableStmt();
+        case 42:
+            return new AlterTypeStmt();
+        case 43:
+            return new AlterUserMappingStmt();
+        case 44:
+            return new BoolExpr();
+        case 45:
+            return new BooleanTest();
+        case 46:
+            return new CTECycleClause();
+        case 47:
+            return new CTESearchClause();
+        case 48:
+            return new CallStmt();
+        case 49:
+            return new CaseExpr();
+        case 50:
+            return new CaseWhen();
+        case 51:
+            return new CheckPointStmt();
+        case 52:
+            return new ClosePortalStmt();
+        case 53:
+            return new ClusterStmt();
+        case 54:
+            return new CoalesceExpr();
+        case 55:
+            return new CollateClause();
+        case 56:
+            return new ColumnDef();
+        case 57:
+            return new ColumnRef();
+        case 58:
+            return new CommentStmt();
+        case 59:
+            return new CommonTableExpr();
+        case 60:
+            return new CompositeTypeStmt();
+        case 61:
+            return new Constraint();
+        case 62:
+            return new ConstraintsSetStmt();
+        case 63:
+            return new CopyStmt();
+        case 64:
+            return new CreateAmStmt();
+        case 65:
+            return new CreateCastStmt();
+        case 66:
+            return new CreateConversionStmt();
+        case 67:
+            return new CreateDomainStmt();
+        case 68:
+            return new CreateEnumStmt();
+        case 69:
+            return new CreateEventTrigStmt();
+        case 70:
+            return new CreateExtensionStmt();
+        case 71:
+            return new CreateFdwStmt();
+        case 72:
+            return new CreateForeignServerStmt();
+        case 73:
+            return new CreateForeignTableStmt();
+        case 74:
+            return new CreateFunctionStmt();
+        case 75:
+            return new CreateOpClassItem();
+        case 76:
+            return new CreateOpClassStmt();
+        case 77:
+            return new CreateOpFamilyStmt();
+        case 78:
+            return new CreatePLangStmt();
+        case 79:
+            return new CreatePolicyStmt();
+        case 80:
+            return new CreatePropGraphStmt();
+        case 81:
+            return new CreatePublicationStmt();
+        case 82:
+            return new CreateRangeStmt();
+        case 83:
+            return new CreateRoleStmt();
+        case 84:
+            return new CreateSchemaStmt();
+        case 85:
+            return new CreateSeqStmt();
+        case 86:
+            return new CreateStatsStmt();
+        case 87:
+            return new CreateStmt();
+        case 88:
+            return new CreateSubscriptionStmt();
+        case 89:
+            return new CreateTableAsStmt();
+        case 90:
+            return new CreateTableSpaceStmt();
+        case 91:
+            return new CreateTransformStmt();
+        case 92:
+            return new CreateTrigStmt();
+        case 93:
+            return new CreateUserMappingStmt();
+        case 94:
+            return new CreatedbStmt();
+        case 95:
+            return new CurrentOfExpr();
+        case 96:
+            return new DeallocateStmt();
+        case 97:
+            return new DeclareCursorStmt();
+        case 98:
+            return new DefElem();
+        case 99:
+            return new DefineStmt();
+        case 100:
+            return new DeleteStmt();
+        case 101:
+            return new DiscardStmt();
+        case 102:
+            return new DoStmt();
+        case 103:
+            return new DropOwnedStmt();
+        case 104:
+            return new DropRoleStmt();
+        case 105:
+            return new DropStmt();
+        case 106:
+            return new DropSubscriptionStmt();
+        case 107:
+            return new DropTableSpaceStmt();
+        case 108:
+            return new DropUserMappingStmt();
+        case 109:
+            return new DropdbStmt();
+        case 110:
+            return new ErrorData();
+        case 111:
+            return new ErrorSaveContext();
+        case 112:
+            return new ExecuteStmt();
+        case 113:
+            return new ExplainStmt();
+        case 114:
+            return new FetchStmt();
+        case 115:
+            return new ForPortionOfClause();
+        case 116:
+            return new FuncCall();
+        case 117:
+            return new FunctionParameter();
+        case 118:
+            return new GrantRoleStmt();
+        case 119:
+            return new GrantStmt();
+        case 120:
+            return new GraphElementPattern();
+        case 121:
+            return new GraphPattern();
+        case 122:
+            return new GroupClause();
+        case 123:
+            return new GroupingFunc();
+        case 124:
+            return new GroupingSet();
+        case 125:
+            return new ImportForeignSchemaStmt();
+        case 126:
+            return new ImportQual();
+        case 127:
+            return new IndexElem();
+        case 128:
+            return new IndexStmt();
+        case 129:
+            return new InferClause();
+        case 130:
+            return new InsertStmt();
+        case 131:
+            return new IntoClause();
+        case 132:
+            return new JoinExpr();
+        case 133:
+            return new JsonAggConstructor();
+        case 134:
+            return new JsonArgument();
+        case 135:
+            return new JsonArrayAgg();
+        case 136:
+            return new JsonArrayConstructor();
+        case 137:
+            return new JsonArrayQueryConstructor();
+        case 138:
+            return new JsonBehavior();
+        case 139:
+            return new JsonFormat();
+        case 140:
+            return new JsonFuncExpr();
+        case 141:
+            return new JsonIsPredicate();
+        case 142:
+            return new JsonKeyValue();
+        case 143:
+            return new JsonObjectAgg();
+        case 144:
+            return new JsonObjectConstructor();
+        case 145:
+            return new JsonOutput();
+        case 146:
+            return new JsonParseExpr();
+        case 147:
+            return new JsonReturning();
+        case 148:
+            return new JsonScalarExpr();
+        case 149:
+            return new JsonSerializeExpr();
+        case 150:
+            return new JsonTable();
+        case 151:
+            return new JsonTableColumn();
+        case 152:
+            return new JsonTablePathSpec();
+        case 153:
+            return new JsonTablePlanSpec();
+        case 154:
+            return new JsonValueExpr();
+        case 155:
+            return new KeyAction();
+        case 156:
+            return new KeyActions();
+        case 157:
+            return new ListenStmt();
+        case 158:
+            return new LoadStmt();
+        case 159:
+            return new LockStmt();
+        case 160:
+            return new LockingClause();
+        case 161:
+            return new MergeStmt();
+        case 162:
+            return new MergeSupportFunc();
+        case 163:
+            return new MergeWhenClause();
+        case 164:
+            return new MinMaxExpr();
+        case 165:
+            return new MultiAssignRef();
+        case 166:
+            return new NamedArgExpr();
+        case 167:
+            return new Node();
+        case 168:
+            return new NotifyStmt();
+        case 169:
+            return new NullTest();
+        case 170:
+            return new ObjectWithArgs();
+        case 171:
+            return new Oid();
+        case 172:
+            return new OnConflictClause();
+        case 173:
+            return new PLAssignStmt();
+        case 174:
+            return new ParamRef();
+        case 175:
+            return new PartitionBoundSpec();
+        case 176:
+            return new PartitionCmd();
+        case 177:
+            return new PartitionElem();
+        case 178:
+            return new PartitionRangeDatum();
+        case 179:
+            return new PartitionSpec();
+        case 180:
+            return new PrepareStmt();
+        case 181:
+            return new PrivTarget();
+        case 182:
+            return new PropGraphEdge();
+        case 183:
+            return new PropGraphLabelAndProperties();
+        case 184:
+            return new PropGraphProperties();
+        case 185:
+            return new PropGraphVertex();
+        case 186:
+            return new PublicationAllObjSpec();
+        case 187:
+            return new PublicationObjSpec();
+        case 188:
+            return new PublicationTable();
+        case 189:
+            return new RangeFunction();
+        case 190:
+            return new RangeGraphTable();
+        case 191:
+            return new RangeSubselect();
+        case 192:
+            return new RangeTableFunc();
+        case 193:
+            return new RangeTableFuncCol();
+        case 194:
+            return new RangeTableSample();
+        case 195:
+            return new RangeVar();
+        case 196:
+            return new RawStmt();
+        case 197:
+            return new ReassignOwnedStmt();
+        case 198:
+            return new RefreshMatViewStmt();
+        case 199:
+            return new ReindexStmt();
+        case 200:
+            return new RelFileNumber();
+        case 201:
+            return new RenameStmt();
+        case 202:
+            return new RepackStmt();
+        case 203:
+            return new ReplicaIdentityStmt();
+        case 204:
+            return new ResTarget();
+        case 205:
+            return new ReturnStmt();
+        case 206:
+            return new ReturningClause();
+        case 207:
+            return new ReturningOption();
+        case 208:
+            return new RoleSpec();
+        case 209:
+            return new RowExpr();
+        case 210:
+            return new RuleStmt();
+        case 211:
+            return new SQLValueFunction();
+        case 212:
+            return new SecLabelStmt();
+        case 213:
+            return new SelectLimit();
+        case 214:
+            return new SelectStmt();
+        case 215:
+            return new SetToDefault();
+        case 216:
+            return new SinglePartitionSpec();
+        case 217:
+            return new SortBy();
+        case 218:
+            return new StatsElem();
+        case 219:
+            return new Stmt();
+        case 220:
+            return new SubLink();
+        case 221:
+            return new TableLikeClause();
+        case 222:
+            return new TransactionStmt();
+        case 223:
+            return new TriggerTransition();
+        case 224:
+            return new TruncateStmt();
+        case 225:
+            return new TypeCast();
+        case 226:
+            return new TypeName();
+        case 227:
+            return new UnlistenStmt();
+        case 228:
+            return new UpdateStmt();
+        case 229:
+            return new VacuumRelation();
+        case 230:
+            return new VacuumStmt();
+        case 231:
+            return new ValUnion();
+        case 232:
+            return new Value();
+        case 233:
+            return new VariableSetStmt();
+        case 234:
+            return new VariableShowStmt();
+        case 235:
+            return new ViewStmt();
+        case 236:
+            return new WaitStmt();
+        case 237:
+            return new WindowDef();
+        case 238:
+            return new WithClause();
+        case 239:
+            return new XmlExpr();
+        case 240:
+            return new XmlSerialize();
+        case 241:
+            return new core_yy_extra_type();
+        case 242:
+            return new core_yyscan_t();
+        default:
+            throw new IllegalArgumentException("No class with index " + index);
+        }
+    }
+
+    /**
+     * Writes the fields of a node, until a field holds a child node or list of which the content is to be written
+     * first
+     *
+     * @param index
+     *            The index of the class of the node
+     * @param node
+     *            The node
+     * @param step
+     *            0 to start with the first field, otherwise the step that was returned by the previous call for
+     *            the node
+     * @param out
+     *            The output to write to
+     * @return int The step to resume the node at after the content of the child, or {@link #DONE}
+     * @throws IOException
+     *             If writing fails
+     */
+    public static int write(int index, Object node, int step, Output out) throws IOException {
+        switch (index) {
+        case 0:
+            return writeATAlterConstraint((ATAlterConstraint) node, step, out);
+        case 1:
+            return writeA_ArrayExpr((A_ArrayExpr) node, step, out);
+        case 2:
+            return writeA_Const((A_Const) node, step, out);
+        case 3:
+            return writeA_Expr((A_Expr) node, step, out);
+        case 4:
+            return writeA_Indices((A_Indices) node, step, out);
+        case 5:
+            return writeA_Indirection((A_Indirection) node, step, out);
+        case 6:
+            return writeA_Star((A_Star) node, step, out);
+        case 7:
+            return writeAccessPriv((AccessPriv) node, step, out);
+        case 8:
+            return writeAlias((Alias) node, step, out);
+        case 9:
+            return writeAlterCollationStmt((AlterCollationStmt) node, step, out);
+        case 10:
+            return writeAlterDatabaseRefreshCollStmt((AlterDatabaseRefreshCollStmt) node, step, out);
+        case 11:
+            return writeAlterDatabaseSetStmt((AlterDatabaseSetStmt) node, step, out);
+        case 12:
+            return writeAlterDatabaseStmt((AlterDatabaseStmt) node, step, out);
+        case 13:
+            return writeAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node, step, out);
+        case 14:
+            return writeAlterDomainStmt((AlterDomainStmt) node, step, out);
+        case 15:
+            return writeAlterEnumStmt((AlterEnumStmt) node, step, out);
+        case 16:
+            return writeAlterEventTrigStmt((AlterEventTrigStmt) node, step, out);
+        case 17:
+            return writeAlterExtensionContentsStmt((AlterExtensionContentsStmt) node, step, out);
+        case 18:
+            return writeAlterExtensionStmt((AlterExtensionStmt) node, step, out);
+        case 19:
+            return writeAlterFdwStmt((AlterFdwStmt) node, step, out);
+        case 20:
+            return writeAlterForeignServerStmt((AlterForeignServerStmt) node, step, out);
+        case 21:
+            return writeAlterFunctionStmt((AlterFunctionStmt) node, step, out);
+        case 22:
+            return writeAlterObjectDependsStmt((AlterObjectDependsStmt) node, step, out);
+        case 23:
+            return writeAlterObjectSchemaStmt((AlterObjectSchemaStmt) node, step, out);
+        case 24:
+            return writeAlterOpFamilyStmt((AlterOpFamilyStmt) node, step, out);
+        case 25:
+            return writeAlterOperatorStmt((AlterOperatorStmt) node, step, out);
+        case 26:
+            return writeAlterOwnerStmt((AlterOwnerStmt) node, step, out);
+        case 27:
+            return writeAlterPolicyStmt((AlterPolicyStmt) node, step, out);
+        case 28:
+            return writeAlterPropGraphStmt((AlterPropGraphStmt) node, step, out);
+        case 29:
+            return writeAlterPublicationStmt((AlterPublicationStmt) node, step, out);
+        case 30:
+            return writeAlterRoleSetStmt((AlterRoleSetStmt) node, step, out);
+        case 31:
+            return writeAlterRoleStmt((AlterRoleStmt) node, step, out);
+        case 32:
+            return writeAlterSeqStmt((AlterSeqStmt) node, step, out);
+        case 33:
+            return writeAlterStatsStmt((AlterStatsStmt) node, step, out);
+        case 34:
+            return writeAlterSubscriptionStmt((AlterSubscriptionStmt) node, step, out);
+        case 35:
+            return writeAlterSystemStmt((AlterSystemStmt) node, step, out);
+        case 36:
+            return writeAlterTSConfigurationStmt((AlterTSConfigurationStmt) node, step, out);
+        case 37:
+            return writeAlterTSDictionaryStmt((AlterTSDictionaryStmt) node, step, out);
+        case 38:
+            return writeAlterTableCmd((AlterTableCmd) node, step, out);
+        case 39:
+            return writeAlterTableMoveAllStmt((AlterTableMoveAllStmt) node, step, out);
+        case 40:
+            return writeAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node, step, out);
+        case 41:
+            return writeAlterTableStmt((AlterTableStmt) node, step, out);
+        case 42:
+            return writeAlterTypeStmt((AlterTypeStmt) node, step, out);
+        case 43:
+            return writeAlterUserMappingStmt((AlterUserMappingStmt) node, step, out);
+        case 44:
+            return writeBoolExpr((BoolExpr) node, step, out);
+        case 45:
+            return writeBooleanTest((BooleanTest) node, step, out);
+        case 46:
+            return writeCTECycleClause((CTECycleClause) node, step, out);
+        case 47:
+            return writeCTESearchClause((CTESearchClause) node, step, out);
+        case 48:
+            return writeCallStmt((CallStmt) node, step, out);
+        case 49:
+            return writeCaseExpr((CaseExpr) node, step, out);
+        case 50:
+            return writeCaseWhen((CaseWhen) node, step, out);
+        case 51:
+            return writeCheckPointStmt((CheckPointStmt) node, step, out);
+        case 52:
+            return writeClosePortalStmt((ClosePortalStmt) node, step, out);
+        case 53:
+            return writeClusterStmt((ClusterStmt) node, step, out);
+        case 54:
+            return writeCoalesceExpr((CoalesceExpr) node, step, out);
+        case 55:
+            return writeCollateClause((CollateClause) node, step, out);
+        case 56:
+            return writeColumnDef((ColumnDef) node, step, out);
+        case 57:
+            return writeColumnRef((ColumnRef) node, step, out);
+        case 58:
+            return writeCommentStmt((CommentStmt) node, step, out);
+        case 59:
+            return writeCommonTableExpr((CommonTableExpr) node, step, out);
+        case 60:
+            return writeCompositeTypeStmt((CompositeTypeStmt) node, step, out);
+        case 61:
+            return writeConstraint((Constraint) node, step, out);
+        case 62:
+            return writeConstraintsSetStmt((ConstraintsSetStmt) node, step, out);
+        case 63:
+            return writeCopyStmt((CopyStmt) node, step, out);
+        case 64:
+            return writeCreateAmStmt((CreateAmStmt) node, step, out);
+        case 65:
+            return writeCreateCastStmt((CreateCastStmt) node, step, out);
+        case 66:
+            return writeCreateConversionStmt((CreateConversionStmt) node, step, out);
+        case 67:
+            return writeCreateDomainStmt((CreateDomainStmt) node, step, out);
+        case 68:
+            return writeCreateEnumStmt((CreateEnumStmt) node, step, out);
+        case 69:
+            return writeCreateEventTrigStmt((CreateEventTrigStmt) node, step, out);
+        case 70:
+            return writeCreateExtensionStmt((CreateExtensionStmt) node, step, out);
+        case 71:
+            return writeCreateFdwStmt((CreateFdwStmt) node, step, out);
+        case 72:
+            return writeCreateForeignServerStmt((CreateForeignServerStmt) node, step, out);
+        case 73:
+            return writeCreateForeignTableStmt((CreateForeignTableStmt) node, step, out);
+        case 74:
+            return writeCreateFunctionStmt((CreateFunctionStmt) node, step, out);
+        case 75:
+            return writeCreateOpClassItem((CreateOpClassItem) node, step, out);
+        case 76:
+            return writeCreateOpClassStmt((CreateOpClassStmt) node, step, out);
+        case 77:
+            return writeCreateOpFamilyStmt((CreateOpFamilyStmt) node, step, out);
+        case 78:
+            return writeCreatePLangStmt((CreatePLangStmt) node, step, out);
+        case 79:
+            return writeCreatePolicyStmt((CreatePolicyStmt) node, step, out);
+        case 80:
+            return writeCreatePropGraphStmt((CreatePropGraphStmt) node, step, out);
+        case 81:
+            return writeCreatePublicationStmt((CreatePublicationStmt) node, step, out);
+        case 82:
+            return writeCreateRangeStmt((CreateRangeStmt) node, step, out);
+        case 83:
+            return writeCreateRoleStmt((CreateRoleStmt) node, step, out);
+        case 84:
+            return writeCreateSchemaStmt((CreateSchemaStmt) node, step, out);
+        case 85:
+            return writeCreateSeqStmt((CreateSeqStmt) node, step, out);
+        case 86:
+            return writeCreateStatsStmt((CreateStatsStmt) node, step, out);
+        case 87:
+            return writeCreateStmt((CreateStmt) node, step, out);
+        case 88:
+            return writeCreateSubscriptionStmt((CreateSubscriptionStmt) node, step, out);
+        case 89:
+            return writeCreateTableAsStmt((CreateTableAsStmt) node, step, out);
+        case 90:
+            return writeCreateTableSpaceStmt((CreateTableSpaceStmt) node, step, out);
+        case 91:
+            return writeCreateTransformStmt((CreateTransformStmt) node, step, out);
+        case 92:
+            return writeCreateTrigStmt((CreateTrigStmt) node, step, out);
+        case 93:
+            return writeCreateUserMappingStmt((CreateUserMappingStmt) node, step, out);
+        case 94:
+            return writeCreatedbStmt((CreatedbStmt) node, step, out);
+        case 95:
+            return writeCurrentOfExpr((CurrentOfExpr) node, step, out);
+        case 96:
+            return writeDeallocateStmt((DeallocateStmt) node, step, out);
+        case 97:
+            return writeDeclareCursorStmt((DeclareCursorStmt) node, step, out);
+        case 98:
+            return writeDefElem((DefElem) node, step, out);
+        case 99:
+            return writeDefineStmt((DefineStmt) node, step, out);
+        case 100:
+            return writeDeleteStmt((DeleteStmt) node, step, out);
+        case 101:
+            return writeDiscardStmt((DiscardStmt) node, step, out);
+        case 102:
+            return writeDoStmt((DoStmt) node, step, out);
+        case 103:
+            return writeDropOwnedStmt((DropOwnedStmt) node, step, out);
+        case 104:
+            return writeDropRoleStmt((DropRoleStmt) node, step, out);
+        case 105:
+            return writeDropStmt((DropStmt) node, step, out);
+        case 106:
+            return writeDropSubscriptionStmt((DropSubscriptionStmt) node, step, out);
+        case 107:
+            return writeDropTableSpaceStmt((DropTableSpaceStmt) node, step, out);
+        case 108:
+            return writeDropUserMappingStmt((DropUserMappingStmt) node, step, out);
+        case 109:
+            return writeDropdbStmt((DropdbStmt) node, step, out);
+        case 111:
+            return writeErrorSaveContext((ErrorSaveContext) node, step, out);
+        case 112:
+            return writeExecuteStmt((ExecuteStmt) node, step, out);
+        case 113:
+            return writeExplainStmt((ExplainStmt) node, step, out);
+        case 114:
+            return writeFetchStmt((FetchStmt) node, step, out);
+        case 115:
+            return writeForPortionOfClause((ForPortionOfClause) node, step, out);
+        case 116:
+            return writeFuncCall((FuncCall) node, step, out);
+        case 117:
+            return writeFunctionParameter((FunctionParameter) node, step, out);
+        case 118:
+            return writeGrantRoleStmt((GrantRoleStmt) node, step, out);
+        case 119:
+            return writeGrantStmt((GrantStmt) node, step, out);
+        case 120:
+            return writeGraphElementPattern((GraphElementPattern) node, step, out);
+        case 121:
+            return writeGraphPattern((GraphPattern) node, step, out);
+        case 122:
+            return writeGroupClause((GroupClause) node, step, out);
+        case 123:
+            return writeGroupingFunc((GroupingFunc) node, step, out);
+        case 124:
+            return writeGroupingSet((GroupingSet) node, step, out);
+        case 125:
+            return writeImportForeignSchemaStmt((ImportForeignSchemaStmt) node, step, out);
+        case 126:
+            return writeImportQual((ImportQual) node, step, out);
+        case 127:
+            return writeIndexElem((IndexElem) node, step, out);
+        case 128:
+            return writeIndexStmt((IndexStmt) node, step, out);
+        case 129:
+            return writeInferClause((InferClause) node, step, out);
+        case 130:
+            return writeInsertStmt((InsertStmt) node, step, out);
+        case 131:
+            return writeIntoClause((IntoClause) node, step, out);
+        case 132:
+            return writeJoinExpr((JoinExpr) node, step, out);
+        case 133:
+            return writeJsonAggConstructor((JsonAggConstructor) node, step, out);
+        case 134:
+            return writeJsonArgument((JsonArgument) node, step, out);
+        case 135:
+            return writeJsonArrayAgg((JsonArrayAgg) node, step, out);
+        case 136:
+            return writeJsonArrayConstructor((JsonArrayConstructor) node, step, out);
+        case 137:
+            return writeJsonArrayQueryConstructor((JsonArrayQueryConstructor) node, step, out);
+        case 138:
+            return writeJsonBehavior((JsonBehavior) node, step, out);
+        case 139:
+            return writeJsonFormat((JsonFormat) node, step, out);
+        case 140:
+            return writeJsonFuncExpr((JsonFuncExpr) node, step, out);
+        case 141:
+            return writeJsonIsPredicate((JsonIsPredicate) node, step, out);
+        case 142:
+            return writeJsonKeyValue((JsonKeyValue) node, step, out);
+        case 143:
+            return writeJsonObjectAgg((JsonObjectAgg) node, step, out);
+        case 144:
+            return writeJsonObjectConstructor((JsonObjectConstructor) node, step, out);
+        case 145:
+            return writeJsonOutput((JsonOutput) node, step, out);
+        case 146:
+            return writeJsonParseExpr((JsonParseExpr) node, step, out);
+        case 147:
+            return writeJsonReturning((JsonReturning) node, step, out);
+        case 148:
+            return writeJsonScalarExpr((JsonScalarExpr) node, step, out);
+        case 149:
+            return writeJsonSerializeExpr((JsonSerializeExpr) node, step, out);
+        case 150:
+            return writeJsonTable((JsonTable) node, step, out);
+        case 151:
+            return writeJsonTableColumn((JsonTableColumn) node, step, out);
+        case 152:
+            return writeJsonTablePathSpec((JsonTablePathSpec) node, step, out);
+        case 153:
+            return writeJsonTablePlanSpec((JsonTablePlanSpec) node, step, out);
+        case 154:
+            return writeJsonValueExpr((JsonValueExpr) node, step, out);
+        case 155:
+            return writeKeyAction((KeyAction) node, step, out);
+        case 156:
+            return writeKeyActions((KeyActions) node, step, out);
+        case 157:
+            return writeListenStmt((ListenStmt) node, step, out);
+        case 158:
+            return writeLoadStmt((LoadStmt) node, step, out);
+        case 159:
+            return writeLockStmt((LockStmt) node, step, out);
+        case 160:
+            return writeLockingClause((LockingClause) node, step, out);
+        case 161:
+            return writeMergeStmt((MergeStmt) node, step, out);
+        case 162:
+            return writeMergeSupportFunc((MergeSupportFunc) node, step, out);
+        case 163:
+            return writeMergeWhenClause((MergeWhenClause) node, step, out);
+        case 164:
+            return writeMinMaxExpr((MinMaxExpr) node, step, out);
+        case 165:
+            return writeMultiAssignRef((MultiAssignRef) node, step, out);
+        case 166:
+            return writeNamedArgExpr((NamedArgExpr) node, step, out);
+        case 167:
+            return writeNode((Node) node, step, out);
+        case 168:
+            return writeNotifyStmt((NotifyStmt) node, step, out);
+        case 169:
+            return writeNullTest((NullTest) node, step, out);
+        case 170:
+            return writeObjectWithArgs((ObjectWithArgs) node, step, out);
+        case 172:
+            return writeOnConflictClause((OnConflictClause) node, step, out);
+        case 173:
+            return writePLAssignStmt((PLAssignStmt) node, step, out);
+        case 174:
+            return writeParamRef((ParamRef) node, step, out);
+        case 175:
+            return writePartitionBoundSpec((PartitionBoundSpec) node, step, out);
+        case 176:
+            return writePartitionCmd((PartitionCmd) node, step, out);
+        case 177:
+            return writePartitionElem((PartitionElem) node, step, out);
+        case 178:
+            return writePartitionRangeDatum((PartitionRangeDatum) node, step, out);
+        case 179:
+            return writePartitionSpec((PartitionSpec) node, step, out);
+        case 180:
+            return writePrepareStmt((PrepareStmt) node, step, out);
+        case 181:
+            return writePrivTarget((PrivTarget) node, step, out);
+        case 182:
+            return writePropGraphEdge((PropGraphEdge) node, step, out);
+        case 183:
+            return writePropGraphLabelAndProperties((PropGraphLabelAndProperties) node, step, out);
+        case 184:
+            return writePropGraphProperties((PropGraphProperties) node, step, out);
+        case 185:
+            return writePropGraphVertex((PropGraphVertex) node, step, out);
+        case 186:
+            return writePublicationAllObjSpec((PublicationAllObjSpec) node, step, out);
+        case 187:
+            return writePublicationObjSpec((PublicationObjSpec) node, step, out);
+        case 188:
+            return writePublicationTable((PublicationTable) node, step, out);
+        case 189:
+            return writeRangeFunction((RangeFunction) node, step, out);
+        case 190:
+            return writeRangeGraphTable((RangeGraphTable) node, step, out);
+        case 191:
+            return writeRangeSubselect((RangeSubselect) node, step, out);
+        case 192:
+            return writeRangeTableFunc((RangeTableFunc) node, step, out);
+        case 193:
+            return writeRangeTableFuncCol((RangeTableFuncCol) node, step, out);
+        case 194:
+            return writeRangeTableSample((RangeTableSample) node, step, out);
+        case 195:
+            return writeRangeVar((RangeVar) node, step, out);
+        case 196:
+            return writeRawStmt((RawStmt) node, step, out);
+        case 197:
+            return writeReassignOwnedStmt((ReassignOwnedStmt) node, step, out);
+        case 198:
+            return writeRefreshMatViewStmt((RefreshMatViewStmt) node, step, out);
+        case 199:
+            return writeReindexStmt((ReindexStmt) node, step, out);
+        case 201:
+            return writeRenameStmt((RenameStmt) node, step, out);
+        case 202:
+            return writeRepackStmt((RepackStmt) node, step, out);
+        case 203:
+            return writeReplicaIdentityStmt((ReplicaIdentityStmt) node, step, out);
+        case 204:
+            return writeResTarget((ResTarget) node, step, out);
+        case 205:
+            return writeReturnStmt((ReturnStmt) node, step, out);
+        case 206:
+            return writeReturningClause((ReturningClause) node, step, out);
+        case 207:
+            return writeReturningOption((ReturningOption) node, step, out);
+        case 208:
+            return writeRoleSpec((RoleSpec) node, step, out);
+        case 209:
+            return writeRowExpr((RowExpr) node, step, out);
+        case 210:
+            return writeRuleStmt((RuleStmt) node, step, out);
+        case 211:
+            return writeSQLValueFunction((SQLValueFunction) node, step, out);
+        case 212:
+            return writeSecLabelStmt((SecLabelStmt) node, step, out);
+        case 213:
+            return writeSelectLimit((SelectLimit) node, step, out);
+        case 214:
+            return writeSelectStmt((SelectStmt) node, step, out);
+        case 215:
+            return writeSetToDefault((SetToDefault) node, step, out);
+        case 216:
+            return writeSinglePartitionSpec((SinglePartitionSpec) node, step, out);
+        case 217:
+            return writeSortBy((SortBy) node, step, out);
+        case 218:
+            return writeStatsElem((StatsElem) node, step, out);
+        case 219:
+            return writeStmt((Stmt) node, step, out);
+        case 220:
+            return writeSubLink((SubLink) node, step, out);
+        case 221:
+            return writeTableLikeClause((TableLikeClause) node, step, out);
+        case 222:
+            return writeTransactionStmt((TransactionStmt) node, step, out);
+        case 223:
+            return writeTriggerTransition((TriggerTransition) node, step, out);
+        case 224:
+            return writeTruncateStmt((TruncateStmt) node, step, out);
+        case 225:
+            return writeTypeCast((TypeCast) node, step, out);
+        case 226:
+            return writeTypeName((TypeName) node, step, out);
+        case 227:
+            return writeUnlistenStmt((UnlistenStmt) node, step, out);
+        case 228:
+            return writeUpdateStmt((UpdateStmt) node, step, out);
+        case 229:
+            return writeVacuumRelation((VacuumRelation) node, step, out);
+        case 230:
+            return writeVacuumStmt((VacuumStmt) node, step, out);
+        case 231:
+            return writeValUnion((ValUnion) node, step, out);
+        case 232:
+            return writeValue((Value) node, step, out);
+        case 233:
+            return writeVariableSetStmt((VariableSetStmt) node, step, out);
+        case 234:
+            return writeVariableShowStmt((VariableShowStmt) node, step, out);
+        case 235:
+            return writeViewStmt((ViewStmt) node, step, out);
+        case 236:
+            return writeWaitStmt((WaitStmt) node, step, out);
+        case 237:
+            return writeWindowDef((WindowDef) node, step, out);
+        case 238:
+            return writeWithClause((WithClause) node, step, out);
+        case 239:
+            return writeXmlExpr((XmlExpr) node, step, out);
+        case 240:
+            return writeXmlSerialize((XmlSerialize) node, step, out);
+        case 241:
+            return writecore_yy_extra_type((core_yy_extra_type) node, step, out);
+        default:
+            return DONE;
+        }
+    }
+
+    /**
+     * Reads the fields of a node, until a field holds a child node or list of which the content is to be read
+     * first
+     *
+     * @param index
+     *            The index of the class of the node
+     * @param node
+     *            The node, as created by {@link #newInstance(int)}
+     * @param step
+     *            0 to start with the first field, otherwise the step that was returned by the previous call for
+     *            the node
+     * @param in
+     *            The input to read from
+     * @return int The step to resume the node at after the content of the child, or {@link #DONE}
+     * @throws IOException
+     *             If reading fails
+     * @throws ClassCastException
+     *             If a value is not of the type of the field
+     */
+    public static int read(int index, Object node, int step, Input in) throws IOException {
+        switch (index) {
+        case 0:
+            return readATAlterConstraint((ATAlterConstraint) node, step, in);
+        case 1:
+            return readA_ArrayExpr((A_ArrayExpr) node, step, in);
+        case 2:
+            return readA_Const((A_Const) node, step, in);
+        case 3:
+            return readA_Expr((A_Expr) node, step, in);
+        case 4:
+            return readA_Indices((A_Indices) node, step, in);
+        case 5:
+            return readA_Indirection((A_Indirection) node, step, in);
+        case 6:
+            return readA_Star((A_Star) node, step, in);
+        case 7:
+            return readAccessPriv((AccessPriv) node, step, in);
+        case 8:
+            return readAlias((Alias) node, step, in);
+        case 9:
+            return readAlterCollationStmt((AlterCollationStmt) node, step, in);
+        case 10:
+            return readAlterDatabaseRefreshCollStmt((AlterDatabaseRefreshCollStmt) node, step, in);
+        case 11:
+            return readAlterDatabaseSetStmt((AlterDatabaseSetStmt) node, step, in);
+        case 12:
+            return readAlterDatabaseStmt((AlterDatabaseStmt) node, step, in);
+        case 13:
+            return readAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node, step, in);
+        case 14:
+            return readAlterDomainStmt((AlterDomainStmt) node, step, in);
+        case 15:
+            return readAlterEnumStmt((AlterEnumStmt) node, step, in);
+        case 16:
+            return readAlterEventTrigStmt((AlterEventTrigStmt) node, step, in);
+        case 17:
+            return readAlterExtensionContentsStmt((AlterExtensionContentsStmt) node, step, in);
+        case 18:
+            return readAlterExtensionStmt((AlterExtensionStmt) node, step, in);
+        case 19:
+            return readAlterFdwStmt((AlterFdwStmt) node, step, in);
+        case 20:
+            return readAlterForeignServerStmt((AlterForeignServerStmt) node, step, in);
+        case 21:
+            return readAlterFunctionStmt((AlterFunctionStmt) node, step, in);
+        case 22:
+            return readAlterObjectDependsStmt((AlterObjectDependsStmt) node, step, in);
+        case 23:
+            return readAlterObjectSchemaStmt((AlterObjectSchemaStmt) node, step, in);
+        case 24:
+            return readAlterOpFamilyStmt((AlterOpFamilyStmt) node, step, in);
+        case 25:
+            return readAlterOperatorStmt((AlterOperatorStmt) node, step, in);
+        case 26:
+            return readAlterOwnerStmt((AlterOwnerStmt) node, step, in);
+        case 27:
+            return readAlterPolicyStmt((AlterPolicyStmt) node, step, in);
+        case 28:
+            return readAlterPropGraphStmt((AlterPropGraphStmt) node, step, in);
+        case 29:
+            return readAlterPublicationStmt((AlterPublicationStmt) node, step, in);
+        case 30:
+            return readAlterRoleSetStmt((AlterRoleSetStmt) node, step, in);
+        case 31:
+            return readAlterRoleStmt((AlterRoleStmt) node, step, in);
+        case 32:
+            return readAlterSeqStmt((AlterSeqStmt) node, step, in);
+        case 33:
+            return readAlterStatsStmt((AlterStatsStmt) node, step, in);
+        case 34:
+            return readAlterSubscriptionStmt((AlterSubscriptionStmt) node, step, in);
+        case 35:
+            return readAlterSystemStmt((AlterSystemStmt) node, step, in);
+        case 36:
+            return readAlterTSConfigurationStmt((AlterTSConfigurationStmt) node, step, in);
+        case 37:
+            return readAlterTSDictionaryStmt((AlterTSDictionaryStmt) node, step, in);
+        case 38:
+            return readAlterTableCmd((AlterTableCmd) node, step, in);
+        case 39:
+            return readAlterTableMoveAllStmt((AlterTableMoveAllStmt) node, step, in);
+        case 40:
+            return readAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node, step, in);
+        case 41:
+            return readAlterTableStmt((AlterTableStmt) node, step, in);
+        case 42:
+            return readAlterTypeStmt((AlterTypeStmt) node, step, in);
+        case 43:
+            return readAlterUserMappingStmt((AlterUserMappingStmt) node, step, in);
+        case 44:
+            return readBoolExpr((BoolExpr) node, step, in);
+        case 45:
+            return readBooleanTest((BooleanTest) node, step, in);
+        case 46:
+            return readCTECycleClause((CTECycleClause) node, step, in);
+        case 47:
+            return readCTESearchClause((CTESearchClause) node, step, in);
+        case 48:
+            return readCallStmt((CallStmt) node, step, in);
+        case 49:
+            return readCaseExpr((CaseExpr) node, step, in);
+        case 50:
+            return readCaseWhen((CaseWhen) node, step, in);
+        case 51:
+            return readCheckPointStmt((CheckPointStmt) node, step, in);
+        case 52:
+            return readClosePortalStmt((ClosePortalStmt) node, step, in);
+        case 53:
+            return readClusterStmt((ClusterStmt) node, step, in);
+        case 54:
+            return readCoalesceExpr((CoalesceExpr) node, step, in);
+        case 55:
+            return readCollateClause((CollateClause) node, step, in);
+        case 56:
+            return readColumnDef((ColumnDef) node, step, in);
+        case 57:
+            return readColumnRef((ColumnRef) node, step, in);
+        case 58:
+            return readCommentStmt((CommentStmt) node, step, in);
+        case 59:
+            return readCommonTableExpr((CommonTableExpr) node, step, in);
+        case 60:
+            return readCompositeTypeStmt((CompositeTypeStmt) node, step, in);
+        case 61:
+            return readConstraint((Constraint) node, step, in);
+        case 62:
+            return readConstraintsSetStmt((ConstraintsSetStmt) node, step, in);
+        case 63:
+            return readCopyStmt((CopyStmt) node, step, in);
+        case 64:
+            return readCreateAmStmt((CreateAmStmt) node, step, in);
+        case 65:
+            return readCreateCastStmt((CreateCastStmt) node, step, in);
+        case 66:
+            return readCreateConversionStmt((CreateConversionStmt) node, step, in);
+        case 67:
+            return readCreateDomainStmt((CreateDomainStmt) node, step, in);
+        case 68:
+            return readCreateEnumStmt((CreateEnumStmt) node, step, in);
+        case 69:
+            return readCreateEventTrigStmt((CreateEventTrigStmt) node, step, in);
+        case 70:
+            return readCreateExtensionStmt((CreateExtensionStmt) node, step, in);
+        case 71:
+            return readCreateFdwStmt((CreateFdwStmt) node, step, in);
+        case 72:
+            return readCreateForeignServerStmt((CreateForeignServerStmt) node, step, in);
+        case 73:
+            return readCreateForeignTableStmt((CreateForeignTableStmt) node, step, in);
+        case 74:
+            return readCreateFunctionStmt((CreateFunctionStmt) node, step, in);
+        case 75:
+            return readCreateOpClassItem((CreateOpClassItem) node, step, in);
+        case 76:
+            return readCreateOpClassStmt((CreateOpClassStmt) node, step, in);
+        case 77:
+            return readCreateOpFamilyStmt((CreateOpFamilyStmt) node, step, in);
+        case 78:
+            return readCreatePLangStmt((CreatePLangStmt) node, step, in);
+        case 79:
+            return readCreatePolicyStmt((CreatePolicyStmt) node, step, in);
+        case 80:
+            return readCreatePropGraphStmt((CreatePropGraphStmt) node, step, in);
+        case 81:
+            return readCreatePublicationStmt((CreatePublicationStmt) node, step, in);
+        case 82:
+            return readCreateRangeStmt((CreateRangeStmt) node, step, in);
+        case 83:
+            return readCreateRoleStmt((CreateRoleStmt) node, step, in);
+        case 84:
+            return readCreateSchemaStmt((CreateSchemaStmt) node, step, in);
+        case 85:
+            return readCreateSeqStmt((CreateSeqStmt) node, step, in);
+        case 86:
+            return readCreateStatsStmt((CreateStatsStmt) node, step, in);
+        case 87:
+            return readCreateStmt((CreateStmt) node, step, in);
+        case 88:
+            return readCreateSubscriptionStmt((CreateSubscriptionStmt) node, step, in);
+        case 89:
+            return readCreateTableAsStmt((CreateTableAsStmt) node, step, in);
+        case 90:
+            return readCreateTableSpaceStmt((CreateTableSpaceStmt) node, step, in);
+        case 91:
+            return readCreateTransformStmt((CreateTransformStmt) node, step, in);
+        case 92:
+            return readCreateTrigStmt((CreateTrigStmt) node, step, in);
+        case 93:
+            return readCreateUserMappingStmt((CreateUserMappingStmt) node, step, in);
+        case 94:
+            return readCreatedbStmt((CreatedbStmt) node, step, in);
+        case 95:
+            return readCurrentOfExpr((CurrentOfExpr) node, step, in);
+        case 96:
+            return readDeallocateStmt((DeallocateStmt) node, step, in);
+        case 97:
+            return readDeclareCursorStmt((DeclareCursorStmt) node, step, in);
+        case 98:
+            return readDefElem((DefElem) node, step, in);
+        case 99:
+            return readDefineStmt((DefineStmt) node, step, in);
+        case 100:
+            return readDeleteStmt((DeleteStmt) node, step, in);
+        case 101:
+            return readDiscardStmt((DiscardStmt) node, step, in);
+        case 102:
+            return readDoStmt((DoStmt) node, step, in);
+        case 103:
+            return readDropOwnedStmt((DropOwnedStmt) node, step, in);
+        case 104:
+            return readDropRoleStmt((DropRoleStmt) node, step, in);
+        case 105:
+            return readDropStmt((DropStmt) node, step, in);
+        case 106:
+            return readDropSubscriptionStmt((DropSubscriptionStmt) node, step, in);
+        case 107:
+            return readDropTableSpaceStmt((DropTableSpaceStmt) node, step, in);
+        case 108:
+            return readDropUserMappingStmt((DropUserMappingStmt) node, step, in);
+        case 109:
+            return readDropdbStmt((DropdbStmt) node, step, in);
+        case 111:
+            return readErrorSaveContext((ErrorSaveContext) node, step, in);
+        case 112:
+            return readExecuteStmt((ExecuteStmt) node, step, in);
+        case 113:
+            return readExplainStmt((ExplainStmt) node, step, in);
+        case 114:
+            return readFetchStmt((FetchStmt) node, step, in);
+        case 115:
+            return readForPortionOfClause((ForPortionOfClause) node, step, in);
+        case 116:
+            return readFuncCall((FuncCall) node, step, in);
+        case 117:
+            return readFunctionParameter((FunctionParameter) node, step, in);
+        case 118:
+            return readGrantRoleStmt((GrantRoleStmt) node, step, in);
+        case 119:
+            return readGrantStmt((GrantStmt) node, step, in);
+        case 120:
+            return readGraphElementPattern((GraphElementPattern) node, step, in);
+        case 121:
+            return readGraphPattern((GraphPattern) node, step, in);
+        case 122:
+            return readGroupClause((GroupClause) node, step, in);
+        case 123:
+            return readGroupingFunc((GroupingFunc) node, step, in);
+        case 124:
+            return readGroupingSet((GroupingSet) node, step, in);
+        case 125:
+            return readImportForeignSchemaStmt((ImportForeignSchemaStmt) node, step, in);
+        case 126:
+            return readImportQual((ImportQual) node, step, in);
+        case 127:
+            return readIndexElem((IndexElem) node, step, in);
+        case 128:
+            return readIndexStmt((IndexStmt) node, step, in);
+        case 129:
+            return readInferClause((InferClause) node, step, in);
+        case 130:
+            return readInsertStmt((InsertStmt) node, step, in);
+        case 131:
+            return readIntoClause((IntoClause) node, step, in);
+        case 132:
+            return readJoinExpr((JoinExpr) node, step, in);
+        case 133:
+            return readJsonAggConstructor((JsonAggConstructor) node, step, in);
+        case 134:
+            return readJsonArgument((JsonArgument) node, step, in);
+        case 135:
+            return readJsonArrayAgg((JsonArrayAgg) node, step, in);
+        case 136:
+            return readJsonArrayConstructor((JsonArrayConstructor) node, step, in);
+        case 137:
+            return readJsonArrayQueryConstructor((JsonArrayQueryConstructor) node, step, in);
+        case 138:
+            return readJsonBehavior((JsonBehavior) node, step, in);
+        case 139:
+            return readJsonFormat((JsonFormat) node, step, in);
+        case 140:
+            return readJsonFuncExpr((JsonFuncExpr) node, step, in);
+        case 141:
+            return readJsonIsPredicate((JsonIsPredicate) node, step, in);
+        case 142:
+            return readJsonKeyValue((JsonKeyValue) node, step, in);
+        case 143:
+            return readJsonObjectAgg((JsonObjectAgg) node, step, in);
+        case 144:
+            return readJsonObjectConstructor((JsonObjectConstructor) node, step, in);
+        case 145:
+            return readJsonOutput((JsonOutput) node, step, in);
+        case 146:
+            return readJsonParseExpr((JsonParseExpr) node, step, in);
+        case 147:
+            return readJsonReturning((JsonReturning) node, step, in);
+        case 148:
+            return readJsonScalarExpr((JsonScalarExpr) node, step, in);
+        case 149:
+            return readJsonSerializeExpr((JsonSerializeExpr) node, step, in);
+        case 150:
+            return readJsonTable((JsonTable) node, step, in);
+        case 151:
+            return readJsonTableColumn((JsonTableColumn) node, step, in);
+        case 152:
+            return readJsonTablePathSpec((JsonTablePathSpec) node, step, in);
+        case 153:
+            return readJsonTablePlanSpec((JsonTablePlanSpec) node, step, in);
+        case 154:
+            return readJsonValueExpr((JsonValueExpr) node, step, in);
+        case 155:
+            return readKeyAction((KeyAction) node, step, in);
+        case 156:
+            return readKeyActions((KeyActions) node, step, in);
+        case 157:
+            return readListenStmt((ListenStmt) node, step, in);
+        case 158:
+            return readLoadStmt((LoadStmt) node, step, in);
+        case 159:
+            return readLockStmt((LockStmt) node, step, in);
+        case 160:
+            return readLockingClause((LockingClause) node, step, in);
+        case 161:
+            return readMergeStmt((MergeStmt) node, step, in);
+        case 162:
+            return readMergeSupportFunc((MergeSupportFunc) node, step, in);
+        case 163:
+            return readMergeWhenClause((MergeWhenClause) node, step, in);
+        case 164:
+            return readMinMaxExpr((MinMaxExpr) node, step, in);
+        case 165:
+            return readMultiAssignRef((MultiAssignRef) node, step, in);
+        case 166:
+            return readNamedArgExpr((NamedArgExpr) node, step, in);
+        case 167:
+            return readNode((Node) node, step, in);
+        case 168:
+            return readNotifyStmt((NotifyStmt) node, step, in);
+        case 169:
+            return readNullTest((NullTest) node, step, in);
+        case 170:
+            return readObjectWithArgs((ObjectWithArgs) node, step, in);
+        case 172:
+            return readOnConflictClause((OnConflictClause) node, step, in);
+        case 173:
+            return readPLAssignStmt((PLAssignStmt) node, step, in);
+        case 174:
+            return readParamRef((ParamRef) node, step, in);
+        case 175:
+            return readPartitionBoundSpec((PartitionBoundSpec) node, step, in);
+        case 176:
+            return readPartitionCmd((PartitionCmd) node, step, in);
+        case 177:
+            return readPartitionElem((PartitionElem) node, step, in);
+        case 178:
+            return readPartitionRangeDatum((PartitionRangeDatum) node, step, in);
+        case 179:
+            return readPartitionSpec((PartitionSpec) node, step, in);
+        case 180:
+            return readPrepareStmt((PrepareStmt) node, step, in);
+        case 181:
+            return readPrivTarget((PrivTarget) node, step, in);
+        case 182:
+            return readPropGraphEdge((PropGraphEdge) node, step, in);
+        case 183:
+            return readPropGraphLabelAndProperties((PropGraphLabelAndProperties) node, step, in);
+        case 184:
+            return readPropGraphProperties((PropGraphProperties) node, step, in);
+        case 185:
+            return readPropGraphVertex((PropGraphVertex) node, step, in);
+        case 186:
+            return readPublicationAllObjSpec((PublicationAllObjSpec) node, step, in);
+        case 187:
+            return readPublicationObjSpec((PublicationObjSpec) node, step, in);
+        case 188:
+            return readPublicationTable((PublicationTable) node, step, in);
+        case 189:
+            return readRangeFunction((RangeFunction) node, step, in);
+        case 190:
+            return readRangeGraphTable((RangeGraphTable) node, step, in);
+        case 191:
+            return readRangeSubselect((RangeSubselect) node, step, in);
+        case 192:
+            return readRangeTableFunc((RangeTableFunc) node, step, in);
+        case 193:
+            return readRangeTableFuncCol((RangeTableFuncCol) node, step, in);
+        case 194:
+            return readRangeTableSample((RangeTableSample) node, step, in);
+        case 195:
+            return readRangeVar((RangeVar) node, step, in);
+        case 196:
+            return readRawStmt((RawStmt) node, step, in);
+        case 197:
+            return readReassignOwnedStmt((ReassignOwnedStmt) node, step, in);
+        case 198:
+            return readRefreshMatViewStmt((RefreshMatViewStmt) node, step, in);
+        case 199:
+            return readReindexStmt((ReindexStmt) node, step, in);
+        case 201:
+            return readRenameStmt((RenameStmt) node, step, in);
+        case 202:
+            return readRepackStmt((RepackStmt) node, step, in);
+        case 203:
+            return readReplicaIdentityStmt((ReplicaIdentityStmt) node, step, in);
+        case 204:
+            return readResTarget((ResTarget) node, step, in);
+        case 205:
+            return readReturnStmt((ReturnStmt) node, step, in);
+        case 206:
+            return readReturningClause((ReturningClause) node, step, in);
+        case 207:
+            return readReturningOption((ReturningOption) node, step, in);
+        case 208:
+            return readRoleSpec((RoleSpec) node, step, in);
+        case 209:
+            return readRowExpr((RowExpr) node, step, in);
+        case 210:
+            return readRuleStmt((RuleStmt) node, step, in);
+        case 211:
+            return readSQLValueFunction((SQLValueFunction) node, step, in);
+        case 212:
+            return readSecLabelStmt((SecLabelStmt) node, step, in);
+        case 213:
+            return readSelectLimit((SelectLimit) node, step, in);
+        case 214:
+            return readSelectStmt((SelectStmt) node, step, in);
+        case 215:
+            return readSetToDefault((SetToDefault) node, step, in);
+        case 216:
+            return readSinglePartitionSpec((SinglePartitionSpec) node, step, in);
+        case 217:
+            return readSortBy((SortBy) node, step, in);
+        case 218:
+            return readStatsElem((StatsElem) node, step, in);
+        case 219:
+            return readStmt((Stmt) node, step, in);
+        case 220:
+            return readSubLink((SubLink) node, step, in);
+        case 221:
+            return readTableLikeClause((TableLikeClause) node, step, in);
+        case 222:
+            return readTransactionStmt((TransactionStmt) node, step, in);
+        case 223:
+            return readTriggerTransition((TriggerTransition) node, step, in);
+        case 224:
+            return readTruncateStmt((TruncateStmt) node, step, in);
+        case 225:
+            return readTypeCast((TypeCast) node, step, in);
+        case 226:
+            return readTypeName((TypeName) node, step, in);
+        case 227:
+            return readUnlistenStmt((UnlistenStmt) node, step, in);
+        case 228:
+            return readUpdateStmt((UpdateStmt) node, step, in);
+        case 229:
+            return readVacuumRelation((VacuumRelation) node, step, in);
+        case 230:
+            return readVacuumStmt((VacuumStmt) node, step, in);
+        case 231:
+            return readValUnion((ValUnion) node, step, in);
+        case 232:
+            return readValue((Value) node, step, in);
+        case 233:
+            return readVariableSetStmt((VariableSetStmt) node, step, in);
+        case 234:
+            return readVariableShowStmt((VariableShowStmt) node, step, in);
+        case 235:
+            return readViewStmt((ViewStmt) node, step, in);
+        case 236:
+            return readWaitStmt((WaitStmt) node, step, in);
+        case 237:
+            return readWindowDef((WindowDef) node, step, in);
+        case 238:
+            return readWithClause((WithClause) node, step, in);
+        case 239:
+            return readXmlExpr((XmlExpr) node, step, in);
+        case 240:
+            return readXmlSerialize((XmlSerialize) node, step, in);
+        case 241:
+            return readcore_yy_extra_type((core_yy_extra_type) node, step, in);
+        default:
+            return DONE;
+        }
+    }
+
+    /**
+     * Writes the fields of a {@link ATAlterConstraint}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeATAlterConstraint(ATAlterConstraint node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeBoolean(node.alterDeferrability);
+        out.writeBoolean(node.alterEnforceability);
+        out.writeBoolean(node.alterInheritability);
+        out.writeString(node.conname);
+        out.writeBoolean(node.deferrable);
+        out.writeBoolean(node.initdeferred);
+        out.writeBoolean(node.is_enforced);
+        out.writeBoolean(node.noinherit);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ATAlterConstraint}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readATAlterConstraint(ATAlterConstraint node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.alterDeferrability = in.readBoolean();
+        node.alterEnforceability = in.readBoolean();
+        node.alterInheritability = in.readBoolean();
+        node.conname = in.readString();
+        node.deferrable = in.readBoolean();
+        node.initdeferred = in.readBoolean();
+        node.is_enforced = in.readBoolean();
+        node.noinherit = in.readBoolean();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeA_ArrayExpr(A_ArrayExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.elements)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeLocation(node.list_end);
+            out.writeLocation(node.list_start);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readA_ArrayExpr(A_ArrayExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.elements = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.list_end = in.readLocation();
+            node.list_start = in.readLocation();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link A_Const}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeA_Const(A_Const node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.isnull);
+            if (out.writeValue(node.val)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link A_Const}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readA_Const(A_Const node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.isnull = in.readBoolean();
+            node.val = (Value) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link A_Expr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeA_Expr(A_Expr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.kind);
+            if (out.writeValue(node.lexpr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.name)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.rexpr)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeLocation(node.rexpr_list_end);
+            out.writeLocation(node.rexpr_list_start);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link A_Expr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readA_Expr(A_Expr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.kind = in.readEnum(A_EXPR_KIND_VALUES);
+            node.lexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.name = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.rexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.rexpr_list_end = in.readLocation();
+            node.rexpr_list_start = in.readLocation();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link A_Indices}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeA_Indices(A_Indices node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.is_slice);
+            if (out.writeValue(node.lidx)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.uidx)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link A_Indices}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readA_Indices(A_Indices node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.is_slice = in.readBoolean();
+            node.lidx = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.uidx = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link A_Indirection}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeA_Indirection(A_Indirection node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.indirection)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link A_Indirection}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readA_Indirection(A_Indirection node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.indirection = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link A_Star}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeA_Star(A_Star node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link A_Star}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readA_Star(A_Star node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AccessPriv}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAccessPriv(AccessPriv node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.cols)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.priv_name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AccessPriv}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAccessPriv(AccessPriv node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.cols = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.priv_name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link Alias}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlias(Alias node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.aliasname);
+            if (out.writeValue(node.colnames)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link Alias}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlias(Alias node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.aliasname = in.readString();
+            node.colnames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterCollationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterCollationStmt(AlterCollationStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.collname)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterCollationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterCollationStmt(AlterCollationStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.collname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterDatabaseRefreshCollStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterDatabaseRefreshCollStmt(AlterDatabaseRefreshCollStmt node, int step, Output out)
+            throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.dbname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterDatabaseRefreshCollStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterDatabaseRefreshCollStmt(AlterDatabaseRefreshCollStmt node, int step, Input in)
+            throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.dbname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterDatabaseSetStmt(AlterDatabaseSetStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.dbname);
+            if (out.writeValue(node.setstmt)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterDatabaseSetStmt(AlterDatabaseSetStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.dbname = in.readString();
+            node.setstmt = (VariableSetStmt) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterDatabaseStmt(AlterDatabaseStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.dbname);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterDatabaseStmt(AlterDatabaseStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.dbname = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.action)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.action = (GrantStmt) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterDomainStmt(AlterDomainStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            if (out.writeValue(node.def)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.missing_ok);
+            out.writeString(node.name);
+            out.writeEnum(node.subtype);
+            if (out.writeValue(node.typeName)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterDomainStmt(AlterDomainStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.def = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.missing_ok = in.readBoolean();
+            node.name = in.readString();
+            node.subtype = in.readEnum(ALTER_DOMAIN_TYPE_VALUES);
+            node.typeName = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterEnumStmt(AlterEnumStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.newVal);
+            out.writeBoolean(node.newValIsAfter);
+            out.writeString(node.newValNeighbor);
+            out.writeString(node.oldVal);
+            out.writeBoolean(node.skipIfNewValExists);
+            if (out.writeValue(node.typeName)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterEnumStmt(AlterEnumStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.newVal = in.readString();
+            node.newValIsAfter = in.readBoolean();
+            node.newValNeighbor = in.readString();
+            node.oldVal = in.readString();
+            node.skipIfNewValExists = in.readBoolean();
+            node.typeName = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterEventTrigStmt(AlterEventTrigStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeChar(node.tgenabled);
+        out.writeString(node.trigname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterEventTrigStmt(AlterEventTrigStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.tgenabled = in.readChar();
+        node.trigname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterExtensionContentsStmt(AlterExtensionContentsStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.action);
+            out.writeString(node.extname);
+            if (out.writeValue(node.object)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.objtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterExtensionContentsStmt(AlterExtensionContentsStmt node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.action = (int) in.readZigzag();
+            node.extname = in.readString();
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterExtensionStmt(AlterExtensionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.extname);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterExtensionStmt(AlterExtensionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.extname = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterFdwStmt(AlterFdwStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.fdwname);
+            if (out.writeValue(node.func_options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterFdwStmt(AlterFdwStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.fdwname = in.readString();
+            node.func_options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterForeignServerStmt(AlterForeignServerStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.has_version);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.servername);
+            out.writeString(node.version);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterForeignServerStmt(AlterForeignServerStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.has_version = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.servername = in.readString();
+            node.version = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterFunctionStmt(AlterFunctionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.actions)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.func)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.objtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterFunctionStmt(AlterFunctionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.actions = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.func = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterObjectDependsStmt(AlterObjectDependsStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.extname)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.object)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.objectType);
+            if (out.writeValue(node.relation)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.remove);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterObjectDependsStmt(AlterObjectDependsStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.extname = (Value) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.objectType = in.readEnum(OBJECT_TYPE_VALUES);
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.remove = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterObjectSchemaStmt(AlterObjectSchemaStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.missing_ok);
+            out.writeString(node.newschema);
+            if (out.writeValue(node.object)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.objectType);
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterObjectSchemaStmt(AlterObjectSchemaStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.newschema = in.readString();
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.objectType = in.readEnum(OBJECT_TYPE_VALUES);
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterOpFamilyStmt(AlterOpFamilyStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.amname);
+            out.writeBoolean(node.isDrop);
+            if (out.writeValue(node.items)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.opfamilyname)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterOpFamilyStmt(AlterOpFamilyStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.amname = in.readString();
+            node.isDrop = in.readBoolean();
+            node.items = (List<CreateOpClassItem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.opfamilyname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterOperatorStmt(AlterOperatorStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.opername)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterOperatorStmt(AlterOperatorStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.opername = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterOwnerStmt(AlterOwnerStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.newowner)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.object)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.objectType);
+            if (out.writeValue(node.relation)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterOwnerStmt(AlterOwnerStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.newowner = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.objectType = in.readEnum(OBJECT_TYPE_VALUES);
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterPolicyStmt(AlterPolicyStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.policy_name);
+            if (out.writeValue(node.qual)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.roles)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.table)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.with_check)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterPolicyStmt(AlterPolicyStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.policy_name = in.readString();
+            node.qual = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.roles = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.table = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.with_check = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterPropGraphStmt(AlterPropGraphStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.add_edge_tables)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.add_labels)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.add_properties)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.add_vertex_tables)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeString(node.alter_label);
+            out.writeEnum(node.drop_behavior);
+            if (out.writeValue(node.drop_edge_tables)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            out.writeString(node.drop_label);
+            if (out.writeValue(node.drop_properties)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.drop_vertex_tables)) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            out.writeString(node.element_alias);
+            out.writeEnum(node.element_kind);
+            out.writeBoolean(node.missing_ok);
+            if (out.writeValue(node.pgname)) {
+                return 8;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterPropGraphStmt(AlterPropGraphStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.add_edge_tables = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.add_labels = (List<PropGraphLabelAndProperties>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.add_properties = (PropGraphProperties) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.add_vertex_tables = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.alter_label = in.readString();
+            node.drop_behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.drop_edge_tables = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.drop_label = in.readString();
+            node.drop_properties = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.drop_vertex_tables = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            node.element_alias = in.readString();
+            node.element_kind = in.readEnum(ALTER_PROP_GRAPH_ELEMENT_KIND_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.pgname = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 8;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterPublicationStmt(AlterPublicationStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.for_all_sequences);
+            out.writeBoolean(node.for_all_tables);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.pubname);
+            if (out.writeValue(node.pubobjects)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.action);
+            out.writeEnum(node.tableAction);
+            if (out.writeValue(node.tables)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterPublicationStmt(AlterPublicationStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.for_all_sequences = in.readBoolean();
+            node.for_all_tables = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.pubname = in.readString();
+            node.pubobjects = (List<PublicationObjSpec>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.action = in.readEnum(ALTER_PUBLICATION_ACTION_VALUES);
+            node.tableAction = in.readEnum(DEF_ELEM_ACTION_VALUES);
+            node.tables = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterRoleSetStmt(AlterRoleSetStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.database);
+            if (out.writeValue(node.role)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.setstmt)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterRoleSetStmt(AlterRoleSetStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.database = in.readString();
+            node.role = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.setstmt = (VariableSetStmt) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterRoleStmt(AlterRoleStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.action);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.role)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterRoleStmt(AlterRoleStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.action = (int) in.readZigzag();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.role = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterSeqStmt(AlterSeqStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.missing_ok);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.sequence)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterSeqStmt(AlterSeqStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.sequence = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterStatsStmt(AlterStatsStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.defnames)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.missing_ok);
+            if (out.writeValue(node.stxstattarget)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterStatsStmt(AlterStatsStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.defnames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.missing_ok = in.readBoolean();
+            node.stxstattarget = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterSubscriptionStmt(AlterSubscriptionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.conninfo);
+            out.writeEnum(node.kind);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.publication)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.servername);
+            out.writeString(node.subname);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterSubscriptionStmt(AlterSubscriptionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.conninfo = in.readString();
+            node.kind = in.readEnum(ALTER_SUBSCRIPTION_TYPE_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.publication = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.servername = in.readString();
+            node.subname = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterSystemStmt(AlterSystemStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.setstmt)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterSystemStmt(AlterSystemStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.setstmt = (VariableSetStmt) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTSConfigurationStmt(AlterTSConfigurationStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.cfgname)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.dicts)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.kind);
+            out.writeBoolean(node.missing_ok);
+            out.writeBoolean(node.override);
+            out.writeBoolean(node.replace);
+            if (out.writeValue(node.tokentype)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterTSConfigurationStmt(AlterTSConfigurationStmt node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.cfgname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.dicts = (List<List<Value>>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.kind = in.readEnum(ALTER_TSCONFIG_TYPE_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.override = in.readBoolean();
+            node.replace = in.readBoolean();
+            node.tokentype = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTSDictionaryStmt(AlterTSDictionaryStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.dictname)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterTSDictionaryStmt(AlterTSDictionaryStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.dictname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTableCmd(AlterTableCmd node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            if (out.writeValue(node.def)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.missing_ok);
+            out.writeString(node.name);
+            if (out.writeValue(node.newowner)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeZigzag(node.num);
+            out.writeEnum(node.subtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readAlterTableCmd(AlterTableCmd node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.def = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.missing_ok = in.readBoolean();
+            node.name = in.readString();
+            node.newowner = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.num = (int) in.readZigzag();
+            node.subtype = in.readEnum(ALTER_TABLE_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTableMoveAllStmt(AlterTableMoveAllStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.new_tablespacename);
+            out.writeBoolean(node.nowait);
+            out.writeEnum(node.objtype);
+            out.writeString(node.orig_tablespacename);
+            if (out.writeValue(node.roles)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterTableMoveAllStmt(AlterTableMoveAllStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.new_tablespacename = in.readString();
+            node.nowait = in.readBoolean();
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+            node.orig_tablespacename = in.readString();
+            node.roles = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.isReset);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.tablespacename);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.isReset = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.tablespacename = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTableStmt(AlterTableStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.cmds)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.missing_ok);
+            out.writeEnum(node.objtype);
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.relkind);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterTableStmt(AlterTableStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.cmds = (List<AlterTableCmd>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.missing_ok = in.readBoolean();
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relkind = in.readEnum(OBJECT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterTypeStmt(AlterTypeStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.typeName)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterTypeStmt(AlterTypeStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.typeName = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeAlterUserMappingStmt(AlterUserMappingStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.servername);
+            if (out.writeValue(node.user)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readAlterUserMappingStmt(AlterUserMappingStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.servername = in.readString();
+            node.user = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link BoolExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeBoolExpr(BoolExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.boolop);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link BoolExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readBoolExpr(BoolExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.boolop = in.readEnum(BOOL_EXPR_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link BooleanTest}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeBooleanTest(BooleanTest node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.booltesttype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link BooleanTest}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readBooleanTest(BooleanTest node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.booltesttype = in.readEnum(BOOL_TEST_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCTECycleClause(CTECycleClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.cycle_col_list)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.cycle_mark_column);
+            if (out.writeValue(node.cycle_mark_default)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.cycle_mark_value)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeString(node.cycle_path_column);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCTECycleClause(CTECycleClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.cycle_col_list = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.cycle_mark_column = in.readString();
+            node.cycle_mark_default = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.cycle_mark_value = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.cycle_path_column = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCTESearchClause(CTESearchClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.search_breadth_first);
+            if (out.writeValue(node.search_col_list)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.search_seq_column);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCTESearchClause(CTESearchClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.search_breadth_first = in.readBoolean();
+            node.search_col_list = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.search_seq_column = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CallStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCallStmt(CallStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.funccall)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CallStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCallStmt(CallStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.funccall = (FuncCall) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CaseExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCaseExpr(CaseExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.args)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.casetype)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.defresult)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CaseExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCaseExpr(CaseExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.args = (List<CaseWhen>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.casetype = (Oid) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.defresult = (Expr) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CaseWhen}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCaseWhen(CaseWhen node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.result)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CaseWhen}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCaseWhen(CaseWhen node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.result = (Expr) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCheckPointStmt(CheckPointStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCheckPointStmt(CheckPointStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ClosePortalStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeClosePortalStmt(ClosePortalStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.portalname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ClosePortalStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readClosePortalStmt(ClosePortalStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.portalname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeClusterStmt(ClusterStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.indexname);
+            if (out.writeValue(node.params)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readClusterStmt(ClusterStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.indexname = in.readString();
+            node.params = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCoalesceExpr(CoalesceExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCoalesceExpr(CoalesceExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CollateClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCollateClause(CollateClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.collname)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CollateClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCollateClause(CollateClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.collname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ColumnDef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeColumnDef(ColumnDef node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.collClause)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.collOid)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.colname);
+            out.writeString(node.compression);
+            if (out.writeValue(node.constraints)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.cooked_default)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.fdwoptions)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            out.writeZigzag(node.inhcount);
+            out.writeBoolean(node.is_from_parent);
+            out.writeBoolean(node.is_from_type);
+            out.writeBoolean(node.is_local);
+            out.writeBoolean(node.is_not_null);
+            if (out.writeValue(node.raw_default)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            out.writeChar(node.storage);
+            out.writeString(node.storage_name);
+            if (out.writeValue(node.typeName)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ColumnDef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readColumnDef(ColumnDef node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.collClause = (CollateClause) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.collOid = (Oid) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.colname = in.readString();
+            node.compression = in.readString();
+            node.constraints = (List<Constraint>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.cooked_default = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.fdwoptions = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.inhcount = (int) in.readZigzag();
+            node.is_from_parent = in.readBoolean();
+            node.is_from_type = in.readBoolean();
+            node.is_local = in.readBoolean();
+            node.is_not_null = in.readBoolean();
+            node.raw_default = (Node) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.storage = in.readChar();
+            node.storage_name = in.readString();
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ColumnRef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeColumnRef(ColumnRef node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.fields)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ColumnRef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readColumnRef(ColumnRef node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.fields = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CommentStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCommentStmt(CommentStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.comment);
+            if (out.writeValue(node.object)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.objtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CommentStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCommentStmt(CommentStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.comment = in.readString();
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCommonTableExpr(CommonTableExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.aliascolnames)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.ctematerialized);
+            out.writeString(node.ctename);
+            if (out.writeValue(node.ctequery)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.cycle_clause)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.search_clause)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCommonTableExpr(CommonTableExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.aliascolnames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.ctematerialized = in.readEnum(CTEMATERIALIZE_VALUES);
+            node.ctename = in.readString();
+            node.ctequery = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.cycle_clause = (CTECycleClause) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.search_clause = (CTESearchClause) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCompositeTypeStmt(CompositeTypeStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.coldeflist)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.typevar)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCompositeTypeStmt(CompositeTypeStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.coldeflist = (List<ColumnDef>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.typevar = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link Constraint}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeConstraint(Constraint node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.access_method);
+            out.writeString(node.conname);
+            out.writeEnum(node.contype);
+            out.writeString(node.cooked_expr);
+            out.writeBoolean(node.deferrable);
+            if (out.writeValue(node.exclusions)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.fk_attrs)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeZigzag(node.fk_del_action);
+            if (out.writeValue(node.fk_del_set_cols)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeEnum(node.fk_matchtype);
+            out.writeZigzag(node.fk_upd_action);
+            out.writeBoolean(node.fk_with_period);
+            out.writeEnum(node.generated_kind);
+            out.writeEnum(node.generated_when);
+            if (out.writeValue(node.including)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeString(node.indexname);
+            out.writeString(node.indexspace);
+            out.writeBoolean(node.initdeferred);
+            out.writeBoolean(node.initially_valid);
+            if (out.writeValue(node.is_enforced)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            out.writeBoolean(node.is_no_inherit);
+            if (out.writeValue(node.keys)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            out.writeBoolean(node.nulls_not_distinct);
+            if (out.writeValue(node.options)) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            if (out.writeValue(node.pk_attrs)) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            out.writeBoolean(node.pk_with_period);
+            if (out.writeValue(node.pktable)) {
+                return 9;
+            }
+        }
+        if (step <= 9) {
+            if (out.writeValue(node.raw_expr)) {
+                return 10;
+            }
+        }
+        if (step <= 10) {
+            out.writeBoolean(node.skip_validation);
+            if (out.writeValue(node.where_clause)) {
+                return 11;
+            }
+        }
+        if (step <= 11) {
+            out.writeBoolean(node.without_overlaps);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link Constraint}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readConstraint(Constraint node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.access_method = in.readString();
+            node.conname = in.readString();
+            node.contype = in.readEnum(CONSTR_TYPE_VALUES);
+            node.cooked_expr = in.readString();
+            node.deferrable = in.readBoolean();
+            node.exclusions = (List<List<Node>>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.fk_attrs = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.fk_del_action = (int) in.readZigzag();
+            node.fk_del_set_cols = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.fk_matchtype = in.readEnum(FK_CONSTR_MATCH_VALUES);
+            node.fk_upd_action = (int) in.readZigzag();
+            node.fk_with_period = in.readBoolean();
+            node.generated_kind = in.readEnum(GENERATED_KIND_VALUES);
+            node.generated_when = in.readEnum(ATTRIBUTE_IDENTITY_VALUES);
+            node.including = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.indexname = in.readString();
+            node.indexspace = in.readString();
+            node.initdeferred = in.readBoolean();
+            node.initially_valid = in.readBoolean();
+            node.is_enforced = (Boolean) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.is_no_inherit = in.readBoolean();
+            node.keys = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.nulls_not_distinct = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            node.pk_attrs = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            node.pk_with_period = in.readBoolean();
+            node.pktable = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 9;
+            }
+        }
+        if (step <= 9) {
+            node.raw_expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 10;
+            }
+        }
+        if (step <= 10) {
+            node.skip_validation = in.readBoolean();
+            node.where_clause = (Node) in.readValue();
+            if (in.descended()) {
+                return 11;
+            }
+        }
+        if (step <= 11) {
+            node.without_overlaps = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeConstraintsSetStmt(ConstraintsSetStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.constraints)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.deferred);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readConstraintsSetStmt(ConstraintsSetStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.constraints = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.deferred = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CopyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCopyStmt(CopyStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.attlist)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.filename);
+            out.writeBoolean(node.is_from);
+            out.writeBoolean(node.is_program);
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.query)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.relation)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.whereClause)) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CopyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCopyStmt(CopyStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.attlist = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.filename = in.readString();
+            node.is_from = in.readBoolean();
+            node.is_program = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateAmStmt(CreateAmStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.amname);
+            if (out.writeValue(node.amtype)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.handler_name)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateAmStmt(CreateAmStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.amname = in.readString();
+            node.amtype = (Character) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.handler_name = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateCastStmt(CreateCastStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.context);
+            if (out.writeValue(node.func)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.inout);
+            if (out.writeValue(node.sourcetype)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.targettype)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCreateCastStmt(CreateCastStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.context = in.readEnum(COERCION_CONTEXT_VALUES);
+            node.func = (ObjectWithArgs) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.inout = in.readBoolean();
+            node.sourcetype = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.targettype = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateConversionStmt(CreateConversionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.conversion_name)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.def);
+            out.writeString(node.for_encoding_name);
+            if (out.writeValue(node.func_name)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.to_encoding_name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateConversionStmt(CreateConversionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.conversion_name = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.def = in.readBoolean();
+            node.for_encoding_name = in.readString();
+            node.func_name = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.to_encoding_name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateDomainStmt(CreateDomainStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.collClause)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.constraints)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.domainname)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.typeName)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateDomainStmt(CreateDomainStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.collClause = (CollateClause) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.constraints = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.domainname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateEnumStmt(CreateEnumStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.typeName)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.vals)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateEnumStmt(CreateEnumStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.typeName = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.vals = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateEventTrigStmt(CreateEventTrigStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.eventname);
+            if (out.writeValue(node.funcname)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.trigname);
+            if (out.writeValue(node.whenclause)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateEventTrigStmt(CreateEventTrigStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.eventname = in.readString();
+            node.funcname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.trigname = in.readString();
+            node.whenclause = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateExtensionStmt(CreateExtensionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.extname);
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateExtensionStmt(CreateExtensionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.extname = in.readString();
+            node.if_not_exists = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateFdwStmt(CreateFdwStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.fdwname);
+            if (out.writeValue(node.func_options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateFdwStmt(CreateFdwStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.fdwname = in.readString();
+            node.func_options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateForeignServerStmt(CreateForeignServerStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.fdwname);
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.servername);
+            out.writeString(node.servertype);
+            out.writeString(node.version);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateForeignServerStmt(CreateForeignServerStmt node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.fdwname = in.readString();
+            node.if_not_exists = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.servername = in.readString();
+            node.servertype = in.readString();
+            node.version = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateForeignTableStmt(CreateForeignTableStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.base)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.servername);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateForeignTableStmt(CreateForeignTableStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.base = (CreateStmt) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.servername = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateFunctionStmt(CreateFunctionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.funcname)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.is_procedure);
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.parameters)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.replace);
+            if (out.writeValue(node.returnType)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.sql_body)) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateFunctionStmt(CreateFunctionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.funcname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.is_procedure = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.parameters = (List<FunctionParameter>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.replace = in.readBoolean();
+            node.returnType = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.sql_body = (Node) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateOpClassItem(CreateOpClassItem node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.class_args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeZigzag(node.itemtype);
+            if (out.writeValue(node.name)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeZigzag(node.number);
+            if (out.writeValue(node.order_family)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.storedtype)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateOpClassItem(CreateOpClassItem node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.class_args = (List<TypeName>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.itemtype = (int) in.readZigzag();
+            node.name = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.number = (int) in.readZigzag();
+            node.order_family = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.storedtype = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateOpClassStmt(CreateOpClassStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.amname);
+            if (out.writeValue(node.datatype)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.isDefault);
+            if (out.writeValue(node.items)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.opclassname)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.opfamilyname)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateOpClassStmt(CreateOpClassStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.amname = in.readString();
+            node.datatype = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.isDefault = in.readBoolean();
+            node.items = (List<CreateOpClassItem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.opclassname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.opfamilyname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateOpFamilyStmt(CreateOpFamilyStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.amname);
+            if (out.writeValue(node.opfamilyname)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateOpFamilyStmt(CreateOpFamilyStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.amname = in.readString();
+            node.opfamilyname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreatePLangStmt(CreatePLangStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.plhandler)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.plinline)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.plname);
+            out.writeBoolean(node.pltrusted);
+            if (out.writeValue(node.plvalidator)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.replace);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreatePLangStmt(CreatePLangStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.plhandler = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.plinline = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.plname = in.readString();
+            node.pltrusted = in.readBoolean();
+            node.plvalidator = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.replace = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreatePolicyStmt(CreatePolicyStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.cmd_name);
+            out.writeBoolean(node.permissive);
+            out.writeString(node.policy_name);
+            if (out.writeValue(node.qual)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.roles)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.table)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.with_check)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreatePolicyStmt(CreatePolicyStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.cmd_name = in.readString();
+            node.permissive = in.readBoolean();
+            node.policy_name = in.readString();
+            node.qual = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.roles = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.table = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.with_check = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreatePropGraphStmt(CreatePropGraphStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.edge_tables)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.pgname)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.vertex_tables)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreatePropGraphStmt(CreatePropGraphStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.edge_tables = (List<PropGraphEdge>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.pgname = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.vertex_tables = (List<PropGraphVertex>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreatePublicationStmt(CreatePublicationStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.for_all_sequences);
+            out.writeBoolean(node.for_all_tables);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.pubname);
+            if (out.writeValue(node.pubobjects)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.tables)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreatePublicationStmt(CreatePublicationStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.for_all_sequences = in.readBoolean();
+            node.for_all_tables = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.pubname = in.readString();
+            node.pubobjects = (List<PublicationObjSpec>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.tables = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateRangeStmt(CreateRangeStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.params)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.typeName)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateRangeStmt(CreateRangeStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.params = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.typeName = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateRoleStmt(CreateRoleStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.role)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.stmt_type);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateRoleStmt(CreateRoleStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.role = in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.stmt_type = in.readEnum(ROLE_STMT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateSchemaStmt(CreateSchemaStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.authrole)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.schemaElts)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.schemaname);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateSchemaStmt(CreateSchemaStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.authrole = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.if_not_exists = in.readBoolean();
+            node.schemaElts = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.schemaname = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateSeqStmt(CreateSeqStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.ownerId)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.sequence)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateSeqStmt(CreateSeqStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.if_not_exists = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.ownerId = (Oid) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.sequence = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateStatsStmt(CreateStatsStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.defnames)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.exprs)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.relations)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.stat_types)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeString(node.stxcomment);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateStatsStmt(CreateStatsStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.defnames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.exprs = (List<StatsElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.if_not_exists = in.readBoolean();
+            node.relations = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.stat_types = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.stxcomment = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateStmt(CreateStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.accessMethod);
+            if (out.writeValue(node.constraints)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.inhRelations)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.ofTypename)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeEnum(node.oncommit);
+            if (out.writeValue(node.options)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.partbound)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.partspec)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.relation)) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            if (out.writeValue(node.tableElts)) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            out.writeString(node.tablespacename);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateStmt(CreateStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.accessMethod = in.readString();
+            node.constraints = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.if_not_exists = in.readBoolean();
+            node.inhRelations = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.ofTypename = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.oncommit = in.readEnum(ON_COMMIT_ACTION_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.partbound = (PartitionBoundSpec) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.partspec = (PartitionSpec) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            node.tableElts = (List<ColumnDef>) in.readValue();
+            if (in.descended()) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            node.tablespacename = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateSubscriptionStmt(CreateSubscriptionStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.conninfo);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.publication)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.servername);
+            out.writeString(node.subname);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateSubscriptionStmt(CreateSubscriptionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.conninfo = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.publication = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.servername = in.readString();
+            node.subname = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateTableAsStmt(CreateTableAsStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.into)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.is_select_into);
+            out.writeEnum(node.objtype);
+            if (out.writeValue(node.query)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.relkind);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCreateTableAsStmt(CreateTableAsStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.if_not_exists = in.readBoolean();
+            node.into = (IntoClause) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.is_select_into = in.readBoolean();
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relkind = in.readEnum(OBJECT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateTableSpaceStmt(CreateTableSpaceStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(((Node) node).location);
+            out.writeEnum(node.type);
+            out.writeString(node.location);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.owner)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.tablespacename);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateTableSpaceStmt(CreateTableSpaceStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            ((Node) node).location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.location = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.owner = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.tablespacename = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateTransformStmt(CreateTransformStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.fromsql)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.lang);
+            out.writeBoolean(node.replace);
+            if (out.writeValue(node.tosql)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.type_name)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCreateTransformStmt(CreateTransformStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.fromsql = (ObjectWithArgs) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.lang = in.readString();
+            node.replace = in.readBoolean();
+            node.tosql = (ObjectWithArgs) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.type_name = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateTrigStmt(CreateTrigStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.columns)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.constrrel)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.deferrable);
+            out.writeZigzag(node.events);
+            if (out.writeValue(node.funcname)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeBoolean(node.initdeferred);
+            out.writeBoolean(node.isconstraint);
+            if (out.writeValue(node.relation)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            out.writeBoolean(node.replace);
+            out.writeBoolean(node.row);
+            out.writeZigzag(node.timing);
+            if (out.writeValue(node.transitionRels)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            out.writeString(node.trigname);
+            if (out.writeValue(node.whenClause)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateTrigStmt(CreateTrigStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.columns = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.constrrel = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.deferrable = in.readBoolean();
+            node.events = (int) in.readZigzag();
+            node.funcname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.initdeferred = in.readBoolean();
+            node.isconstraint = in.readBoolean();
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.replace = in.readBoolean();
+            node.row = in.readBoolean();
+            node.timing = (int) in.readZigzag();
+            node.transitionRels = (List<TriggerTransition>) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.trigname = in.readString();
+            node.whenClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreateUserMappingStmt(CreateUserMappingStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.servername);
+            if (out.writeValue(node.user)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreateUserMappingStmt(CreateUserMappingStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.if_not_exists = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.servername = in.readString();
+            node.user = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCreatedbStmt(CreatedbStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.dbname);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readCreatedbStmt(CreatedbStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.dbname = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link CurrentOfExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeCurrentOfExpr(CurrentOfExpr node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.cursor_name);
+        out.writeZigzag(node.cursor_param);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link CurrentOfExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readCurrentOfExpr(CurrentOfExpr node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.cursor_name = in.readString();
+        node.cursor_param = (int) in.readZigzag();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DeallocateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDeallocateStmt(DeallocateStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeBoolean(node.isall);
+        out.writeString(node.name);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DeallocateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDeallocateStmt(DeallocateStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.isall = in.readBoolean();
+        node.name = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDeclareCursorStmt(DeclareCursorStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.options);
+            out.writeString(node.portalname);
+            if (out.writeValue(node.query)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDeclareCursorStmt(DeclareCursorStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (int) in.readZigzag();
+            node.portalname = in.readString();
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DefElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDefElem(DefElem node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.defaction);
+            out.writeString(node.defname);
+            out.writeString(node.defnamespace);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DefElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDefElem(DefElem node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.defaction = in.readEnum(DEF_ELEM_ACTION_VALUES);
+            node.defname = in.readString();
+            node.defnamespace = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DefineStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDefineStmt(DefineStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.definition)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.defnames)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.if_not_exists);
+            out.writeEnum(node.kind);
+            out.writeBoolean(node.oldstyle);
+            out.writeBoolean(node.replace);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DefineStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDefineStmt(DefineStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.definition = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.defnames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.if_not_exists = in.readBoolean();
+            node.kind = in.readEnum(OBJECT_TYPE_VALUES);
+            node.oldstyle = in.readBoolean();
+            node.replace = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDeleteStmt(DeleteStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.stmt_len);
+            out.writeLocation(node.stmt_location);
+            if (out.writeValue(node.forPortionOf)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.returningClause)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.returningList)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.usingClause)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.whereClause)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.withClause)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDeleteStmt(DeleteStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.stmt_len = in.readZigzag();
+            node.stmt_location = in.readLocation();
+            node.forPortionOf = (ForPortionOfClause) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.returningClause = (ReturningClause) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.returningList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.usingClause = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.withClause = (WithClause) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DiscardStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDiscardStmt(DiscardStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.target);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DiscardStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDiscardStmt(DiscardStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.target = in.readEnum(DISCARD_MODE_VALUES);
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DoStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDoStmt(DoStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DoStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDoStmt(DoStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropOwnedStmt(DropOwnedStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            if (out.writeValue(node.roles)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDropOwnedStmt(DropOwnedStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.roles = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropRoleStmt(DropRoleStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.missing_ok);
+            if (out.writeValue(node.roles)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDropRoleStmt(DropRoleStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.roles = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropStmt(DropStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            out.writeBoolean(node.concurrent);
+            out.writeBoolean(node.missing_ok);
+            if (out.writeValue(node.objects)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.removeType);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDropStmt(DropStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.concurrent = in.readBoolean();
+            node.missing_ok = in.readBoolean();
+            node.objects = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.removeType = in.readEnum(OBJECT_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropSubscriptionStmt(DropSubscriptionStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.behavior);
+        out.writeBoolean(node.missing_ok);
+        out.writeString(node.subname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDropSubscriptionStmt(DropSubscriptionStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+        node.missing_ok = in.readBoolean();
+        node.subname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropTableSpaceStmt(DropTableSpaceStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeBoolean(node.missing_ok);
+        out.writeString(node.tablespacename);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDropTableSpaceStmt(DropTableSpaceStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.missing_ok = in.readBoolean();
+        node.tablespacename = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropUserMappingStmt(DropUserMappingStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.missing_ok);
+            out.writeString(node.servername);
+            if (out.writeValue(node.user)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readDropUserMappingStmt(DropUserMappingStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.servername = in.readString();
+            node.user = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeDropdbStmt(DropdbStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.dbname);
+            out.writeBoolean(node.missing_ok);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readDropdbStmt(DropdbStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.dbname = in.readString();
+            node.missing_ok = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ErrorSaveContext}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeErrorSaveContext(ErrorSaveContext node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.details_wanted);
+            if (out.writeValue(node.error_data)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.error_occurred);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ErrorSaveContext}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readErrorSaveContext(ErrorSaveContext node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.details_wanted = in.readBoolean();
+            node.error_data = (ErrorData) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.error_occurred = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeExecuteStmt(ExecuteStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.name);
+            if (out.writeValue(node.params)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readExecuteStmt(ExecuteStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.name = in.readString();
+            node.params = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeExplainStmt(ExplainStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.query)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readExplainStmt(ExplainStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link FetchStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeFetchStmt(FetchStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.direction);
+        out.writeEnum(node.direction_keyword);
+        out.writeZigzag(node.howMany);
+        out.writeBoolean(node.ismove);
+        out.writeString(node.portalname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link FetchStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readFetchStmt(FetchStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.direction = in.readEnum(FETCH_DIRECTION_VALUES);
+        node.direction_keyword = in.readEnum(FETCH_DIRECTION_KEYWORDS_VALUES);
+        node.howMany = in.readZigzag();
+        node.ismove = in.readBoolean();
+        node.portalname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeForPortionOfClause(ForPortionOfClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.range_name);
+            if (out.writeValue(node.target)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.target_end)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeLocation(node.target_location);
+            if (out.writeValue(node.target_start)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readForPortionOfClause(ForPortionOfClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.range_name = in.readString();
+            node.target = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.target_end = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.target_location = in.readLocation();
+            node.target_start = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link FuncCall}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeFuncCall(FuncCall node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.agg_distinct);
+            if (out.writeValue(node.agg_filter)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.agg_order)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.agg_star);
+            out.writeBoolean(node.agg_within_group);
+            if (out.writeValue(node.args)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.func_variadic);
+            out.writeEnum(node.funcformat);
+            if (out.writeValue(node.funcname)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeEnum(node.ignore_nulls);
+            if (out.writeValue(node.over)) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link FuncCall}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readFuncCall(FuncCall node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.agg_distinct = in.readBoolean();
+            node.agg_filter = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.agg_order = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.agg_star = in.readBoolean();
+            node.agg_within_group = in.readBoolean();
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.func_variadic = in.readBoolean();
+            node.funcformat = in.readEnum(COERCION_FORM_VALUES);
+            node.funcname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.ignore_nulls = in.readEnum(NULL_TREATMENT_VALUES);
+            node.over = (WindowDef) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeFunctionParameter(FunctionParameter node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.argType)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.defexpr)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeChar(node.mode);
+            out.writeString(node.name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readFunctionParameter(FunctionParameter node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.argType = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.defexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.mode = in.readChar();
+            node.name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGrantRoleStmt(GrantRoleStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.admin_opt);
+            out.writeEnum(node.behavior);
+            if (out.writeValue(node.granted_roles)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.grantee_roles)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.grantor)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.is_grant);
+            if (out.writeValue(node.opt)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGrantRoleStmt(GrantRoleStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.admin_opt = in.readBoolean();
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.granted_roles = (List<AccessPriv>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.grantee_roles = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.grantor = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.is_grant = in.readBoolean();
+            node.opt = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GrantStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGrantStmt(GrantStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            out.writeBoolean(node.grant_option);
+            if (out.writeValue(node.grantees)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.grantor)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.is_grant);
+            if (out.writeValue(node.objects)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeEnum(node.objtype);
+            if (out.writeValue(node.privileges)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeEnum(node.targtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GrantStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGrantStmt(GrantStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.grant_option = in.readBoolean();
+            node.grantees = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.grantor = (RoleSpec) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.is_grant = in.readBoolean();
+            node.objects = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+            node.privileges = (List<AccessPriv>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.targtype = in.readEnum(GRANT_TARGET_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGraphElementPattern(GraphElementPattern node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.kind);
+            if (out.writeValue(node.labelexpr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.quantifier)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.subexpr)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeString(node.variable);
+            if (out.writeValue(node.whereClause)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGraphElementPattern(GraphElementPattern node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.kind = in.readEnum(GRAPH_ELEMENT_PATTERN_KIND_VALUES);
+            node.labelexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.quantifier = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.subexpr = (List<GraphElementPattern>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.variable = in.readString();
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GraphPattern}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGraphPattern(GraphPattern node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.path_pattern_list)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.whereClause)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GraphPattern}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGraphPattern(GraphPattern node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.path_pattern_list = (List<List<GraphElementPattern>>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GroupClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGroupClause(GroupClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeBoolean(node.all);
+            out.writeBoolean(node.distinct);
+            if (out.writeValue(node.list)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GroupClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGroupClause(GroupClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.all = in.readBoolean();
+            node.distinct = in.readBoolean();
+            node.list = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGroupingFunc(GroupingFunc node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGroupingFunc(GroupingFunc node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link GroupingSet}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeGroupingSet(GroupingSet node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.content)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.kind);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link GroupingSet}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readGroupingSet(GroupingSet node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.content = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.kind = in.readEnum(GROUPING_SET_KIND_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeImportForeignSchemaStmt(ImportForeignSchemaStmt node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.list_type);
+            out.writeString(node.local_schema);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.remote_schema);
+            out.writeString(node.server_name);
+            if (out.writeValue(node.table_list)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readImportForeignSchemaStmt(ImportForeignSchemaStmt node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.list_type = in.readEnum(IMPORT_FOREIGN_SCHEMA_TYPE_VALUES);
+            node.local_schema = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.remote_schema = in.readString();
+            node.server_name = in.readString();
+            node.table_list = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ImportQual}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeImportQual(ImportQual node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            if (out.writeValue(node.table_names)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.type);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ImportQual}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readImportQual(ImportQual node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.table_names = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.type = in.readEnum(IMPORT_FOREIGN_SCHEMA_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link IndexElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeIndexElem(IndexElem node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.collation)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.expr)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.indexcolname);
+            out.writeString(node.name);
+            out.writeEnum(node.nulls_ordering);
+            if (out.writeValue(node.opclass)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.opclassopts)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeEnum(node.ordering);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link IndexElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readIndexElem(IndexElem node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.collation = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.indexcolname = in.readString();
+            node.name = in.readString();
+            node.nulls_ordering = in.readEnum(SORT_BY_NULLS_VALUES);
+            node.opclass = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.opclassopts = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.ordering = in.readEnum(SORT_BY_DIR_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link IndexStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeIndexStmt(IndexStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.accessMethod);
+            out.writeBoolean(node.concurrent);
+            out.writeBoolean(node.deferrable);
+            if (out.writeValue(node.excludeOpNames)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.idxcomment);
+            out.writeString(node.idxname);
+            out.writeBoolean(node.if_not_exists);
+            if (out.writeValue(node.indexIncludingParams)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.indexOid)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.indexParams)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeBoolean(node.initdeferred);
+            out.writeBoolean(node.isconstraint);
+            out.writeBoolean(node.nulls_not_distinct);
+            out.writeZigzag(node.oldCreateSubid);
+            out.writeZigzag(node.oldFirstRelfilelocatorSubid);
+            out.writeZigzag(node.oldFirstRelfilenodeSubid);
+            if (out.writeValue(node.oldNode)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.oldNumber)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.options)) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            out.writeBoolean(node.primary);
+            if (out.writeValue(node.relation)) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            if (out.writeValue(node.relationId)) {
+                return 9;
+            }
+        }
+        if (step <= 9) {
+            out.writeBoolean(node.reset_default_tblspc);
+            out.writeString(node.tableSpace);
+            out.writeBoolean(node.transformed);
+            out.writeBoolean(node.unique);
+            if (out.writeValue(node.whereClause)) {
+                return 10;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link IndexStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readIndexStmt(IndexStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.accessMethod = in.readString();
+            node.concurrent = in.readBoolean();
+            node.deferrable = in.readBoolean();
+            node.excludeOpNames = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.idxcomment = in.readString();
+            node.idxname = in.readString();
+            node.if_not_exists = in.readBoolean();
+            node.indexIncludingParams = (List<IndexElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.indexOid = (Oid) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.indexParams = (List<IndexElem>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.initdeferred = in.readBoolean();
+            node.isconstraint = in.readBoolean();
+            node.nulls_not_distinct = in.readBoolean();
+            node.oldCreateSubid = (int) in.readZigzag();
+            node.oldFirstRelfilelocatorSubid = (int) in.readZigzag();
+            node.oldFirstRelfilenodeSubid = (int) in.readZigzag();
+            node.oldNode = (Oid) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.oldNumber = (RelFileNumber) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            node.primary = in.readBoolean();
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            node.relationId = (Oid) in.readValue();
+            if (in.descended()) {
+                return 9;
+            }
+        }
+        if (step <= 9) {
+            node.reset_default_tblspc = in.readBoolean();
+            node.tableSpace = in.readString();
+            node.transformed = in.readBoolean();
+            node.unique = in.readBoolean();
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 10;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link InferClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeInferClause(InferClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.conname);
+            if (out.writeValue(node.indexElems)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.whereClause)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link InferClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readInferClause(InferClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.conname = in.readString();
+            node.indexElems = (List<IndexElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link InsertStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeInsertStmt(InsertStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.stmt_len);
+            out.writeLocation(node.stmt_location);
+            if (out.writeValue(node.cols)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.onConflictClause)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.override);
+            if (out.writeValue(node.relation)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.returningClause)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.returningList)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.selectStmt)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.withClause)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link InsertStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readInsertStmt(InsertStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.stmt_len = in.readZigzag();
+            node.stmt_location = in.readLocation();
+            node.cols = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.onConflictClause = (OnConflictClause) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.override = in.readEnum(OVERRIDING_KIND_VALUES);
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.returningClause = (ReturningClause) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.returningList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.selectStmt = (Node) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.withClause = (WithClause) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link IntoClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeIntoClause(IntoClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.accessMethod);
+            if (out.writeValue(node.colNames)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.onCommit);
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.rel)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.skipData);
+            out.writeString(node.tableSpaceName);
+            if (out.writeValue(node.viewQuery)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link IntoClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readIntoClause(IntoClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.accessMethod = in.readString();
+            node.colNames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.onCommit = in.readEnum(ON_COMMIT_ACTION_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.rel = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.skipData = in.readBoolean();
+            node.tableSpaceName = in.readString();
+            node.viewQuery = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JoinExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJoinExpr(JoinExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.isNatural);
+            if (out.writeValue(node.join_using_alias)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.jointype);
+            if (out.writeValue(node.larg)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.quals)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.rarg)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.usingClause)) {
+                return 6;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JoinExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJoinExpr(JoinExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.isNatural = in.readBoolean();
+            node.join_using_alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.jointype = in.readEnum(JOIN_TYPE_VALUES);
+            node.larg = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.quals = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.rarg = (Node) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.usingClause = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonAggConstructor(JsonAggConstructor node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.agg_filter)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.agg_order)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.output)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.over)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJsonAggConstructor(JsonAggConstructor node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.agg_filter = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.agg_order = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.over = (WindowDef) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonArgument}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonArgument(JsonArgument node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.name);
+            if (out.writeValue(node.val)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonArgument}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonArgument(JsonArgument node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.name = in.readString();
+            node.val = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonArrayAgg(JsonArrayAgg node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.absent_on_null);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.constructor)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonArrayAgg(JsonArrayAgg node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.absent_on_null = in.readBoolean();
+            node.arg = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.constructor = (JsonAggConstructor) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonArrayConstructor(JsonArrayConstructor node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.absent_on_null);
+            if (out.writeValue(node.exprs)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.output)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJsonArrayConstructor(JsonArrayConstructor node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.absent_on_null = in.readBoolean();
+            node.exprs = (List<JsonValueExpr>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonArrayQueryConstructor(JsonArrayQueryConstructor node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.absent_on_null);
+            if (out.writeValue(node.format)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.output)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.query)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonArrayQueryConstructor(JsonArrayQueryConstructor node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.absent_on_null = in.readBoolean();
+            node.format = (JsonFormat) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonBehavior(JsonBehavior node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.btype);
+            out.writeBoolean(node.coerce);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonBehavior(JsonBehavior node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.btype = in.readEnum(JSON_BEHAVIOR_TYPE_VALUES);
+            node.coerce = in.readBoolean();
+            node.expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonFormat}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonFormat(JsonFormat node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.encoding);
+        out.writeEnum(node.format_type);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonFormat}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonFormat(JsonFormat node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.encoding = in.readEnum(JSON_ENCODING_VALUES);
+        node.format_type = in.readEnum(JSON_FORMAT_TYPE_VALUES);
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonFuncExpr(JsonFuncExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.column_name);
+            if (out.writeValue(node.context_item)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.on_empty)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.on_error)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeEnum(node.op);
+            if (out.writeValue(node.output)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.passing)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.pathspec)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            out.writeEnum(node.quotes);
+            out.writeEnum(node.wrapper);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJsonFuncExpr(JsonFuncExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.column_name = in.readString();
+            node.context_item = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.on_empty = (JsonBehavior) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.on_error = (JsonBehavior) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.op = in.readEnum(JSON_EXPR_OP_VALUES);
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.passing = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.pathspec = (Node) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.quotes = in.readEnum(JSON_QUOTES_VALUES);
+            node.wrapper = in.readEnum(JSON_WRAPPER_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonIsPredicate(JsonIsPredicate node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.exprBaseType)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.format)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeEnum(node.item_type);
+            out.writeBoolean(node.unique_keys);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonIsPredicate(JsonIsPredicate node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.exprBaseType = (Oid) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.format = (JsonFormat) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.item_type = in.readEnum(JSON_VALUE_TYPE_VALUES);
+            node.unique_keys = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonKeyValue(JsonKeyValue node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.key)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.value)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonKeyValue(JsonKeyValue node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.key = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.value = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonObjectAgg(JsonObjectAgg node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.absent_on_null);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.constructor)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.unique);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonObjectAgg(JsonObjectAgg node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.absent_on_null = in.readBoolean();
+            node.arg = (JsonKeyValue) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.constructor = (JsonAggConstructor) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.unique = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonObjectConstructor(JsonObjectConstructor node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.absent_on_null);
+            if (out.writeValue(node.exprs)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.output)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.unique);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJsonObjectConstructor(JsonObjectConstructor node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.absent_on_null = in.readBoolean();
+            node.exprs = (List<JsonKeyValue>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.unique = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonOutput}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonOutput(JsonOutput node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.returning)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.typeName)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonOutput}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonOutput(JsonOutput node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.returning = (JsonReturning) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonParseExpr(JsonParseExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.output)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.unique_keys);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonParseExpr(JsonParseExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.unique_keys = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonReturning}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonReturning(JsonReturning node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.format)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.typid)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeZigzag(node.typmod);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonReturning}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonReturning(JsonReturning node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.format = (JsonFormat) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.typid = (Oid) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.typmod = (int) in.readZigzag();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonScalarExpr(JsonScalarExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.output)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonScalarExpr(JsonScalarExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonSerializeExpr(JsonSerializeExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.output)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonSerializeExpr(JsonSerializeExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.output = (JsonOutput) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonTable}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonTable(JsonTable node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.columns)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.context_item)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.lateral);
+            if (out.writeValue(node.on_error)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.passing)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.pathspec)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.planspec)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonTable}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJsonTable(JsonTable node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.columns = (List<JsonTableColumn>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.context_item = (JsonValueExpr) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.lateral = in.readBoolean();
+            node.on_error = (JsonBehavior) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.passing = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.pathspec = (JsonTablePathSpec) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.planspec = (JsonTablePlanSpec) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonTableColumn(JsonTableColumn node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.coltype);
+            if (out.writeValue(node.columns)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.format)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.name);
+            if (out.writeValue(node.on_empty)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.on_error)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.pathspec)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            out.writeEnum(node.quotes);
+            if (out.writeValue(node.typeName)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            out.writeEnum(node.wrapper);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readJsonTableColumn(JsonTableColumn node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.coltype = in.readEnum(JSON_TABLE_COLUMN_TYPE_VALUES);
+            node.columns = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.format = (JsonFormat) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.name = in.readString();
+            node.on_empty = (JsonBehavior) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.on_error = (JsonBehavior) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.pathspec = (JsonTablePathSpec) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.quotes = in.readEnum(JSON_QUOTES_VALUES);
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.wrapper = in.readEnum(JSON_WRAPPER_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonTablePathSpec(JsonTablePathSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.name);
+            out.writeLocation(node.name_location);
+            if (out.writeValue(node.string)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonTablePathSpec(JsonTablePathSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.name = in.readString();
+            node.name_location = in.readLocation();
+            node.string = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonTablePlanSpec(JsonTablePlanSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.join_type);
+            out.writeString(node.pathname);
+            if (out.writeValue(node.plan1)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.plan2)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.plan_type);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonTablePlanSpec(JsonTablePlanSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.join_type = (int) in.readZigzag();
+            node.pathname = in.readString();
+            node.plan1 = (JsonTablePlanSpec) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.plan2 = (JsonTablePlanSpec) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.plan_type = in.readEnum(JSON_TABLE_PLAN_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeJsonValueExpr(JsonValueExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.format)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.formatted_expr)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.raw_expr)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readJsonValueExpr(JsonValueExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.format = (JsonFormat) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.formatted_expr = (Expr) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.raw_expr = (Expr) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link KeyAction}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeKeyAction(KeyAction node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeZigzag(node.action);
+            if (out.writeValue(node.cols)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link KeyAction}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readKeyAction(KeyAction node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.action = (int) in.readZigzag();
+            node.cols = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link KeyActions}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeKeyActions(KeyActions node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            if (out.writeValue(node.deleteAction)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.updateAction)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link KeyActions}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readKeyActions(KeyActions node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.deleteAction = (KeyAction) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.updateAction = (KeyAction) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ListenStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeListenStmt(ListenStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.conditionname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ListenStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readListenStmt(ListenStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.conditionname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link LoadStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeLoadStmt(LoadStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.filename);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link LoadStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readLoadStmt(LoadStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.filename = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link LockStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeLockStmt(LockStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.mode);
+            out.writeBoolean(node.nowait);
+            if (out.writeValue(node.relations)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link LockStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readLockStmt(LockStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.mode = (int) in.readZigzag();
+            node.nowait = in.readBoolean();
+            node.relations = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link LockingClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeLockingClause(LockingClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.lockedRels)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.strength);
+            out.writeEnum(node.waitPolicy);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link LockingClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readLockingClause(LockingClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.lockedRels = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.strength = in.readEnum(LOCK_CLAUSE_STRENGTH_VALUES);
+            node.waitPolicy = in.readEnum(LOCK_WAIT_POLICY_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link MergeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeMergeStmt(MergeStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.stmt_len);
+            out.writeLocation(node.stmt_location);
+            if (out.writeValue(node.joinCondition)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.mergeWhenClauses)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.relation)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.returningClause)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.returningList)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.sourceRelation)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.withClause)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link MergeStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readMergeStmt(MergeStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.stmt_len = in.readZigzag();
+            node.stmt_location = in.readLocation();
+            node.joinCondition = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.mergeWhenClauses = (List<MergeWhenClause>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.returningClause = (ReturningClause) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.returningList = (List<Expr>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.sourceRelation = (Node) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.withClause = (WithClause) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeMergeSupportFunc(MergeSupportFunc node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.msfcollid)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.msftype)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.xpr)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readMergeSupportFunc(MergeSupportFunc node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.msfcollid = (Oid) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.msftype = (Oid) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.xpr = (Expr) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeMergeWhenClause(MergeWhenClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.commandType);
+            if (out.writeValue(node.condition)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.matchKind);
+            out.writeBoolean(node.matched);
+            out.writeEnum(node.override);
+            if (out.writeValue(node.targetList)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.values)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readMergeWhenClause(MergeWhenClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.commandType = in.readEnum(CMD_TYPE_VALUES);
+            node.condition = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.matchKind = in.readEnum(MERGE_MATCH_KIND_VALUES);
+            node.matched = in.readBoolean();
+            node.override = in.readEnum(OVERRIDING_KIND_VALUES);
+            node.targetList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.values = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeMinMaxExpr(MinMaxExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.op);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readMinMaxExpr(MinMaxExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.op = in.readEnum(MIN_MAX_OP_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeMultiAssignRef(MultiAssignRef node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.colno);
+            out.writeZigzag(node.ncolumns);
+            if (out.writeValue(node.source)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readMultiAssignRef(MultiAssignRef node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.colno = (int) in.readZigzag();
+            node.ncolumns = (int) in.readZigzag();
+            node.source = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeNamedArgExpr(NamedArgExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeZigzag(node.argnumber);
+            out.writeString(node.name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readNamedArgExpr(NamedArgExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.argnumber = (int) in.readZigzag();
+            node.name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link Node}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeNode(Node node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link Node}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readNode(Node node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link NotifyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeNotifyStmt(NotifyStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.conditionname);
+        out.writeString(node.payload);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link NotifyStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readNotifyStmt(NotifyStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.conditionname = in.readString();
+        node.payload = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link NullTest}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeNullTest(NullTest node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.nulltesttype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link NullTest}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readNullTest(NullTest node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Expr) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.nulltesttype = in.readEnum(NULL_TEST_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeObjectWithArgs(ObjectWithArgs node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.args_unspecified);
+            if (out.writeValue(node.objargs)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.objfuncargs)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.objname)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readObjectWithArgs(ObjectWithArgs node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args_unspecified = in.readBoolean();
+            node.objargs = (List<TypeName>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.objfuncargs = (List<FunctionParameter>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.objname = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeOnConflictClause(OnConflictClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.action);
+            if (out.writeValue(node.infer)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.lockStrength);
+            if (out.writeValue(node.targetList)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.whereClause)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readOnConflictClause(OnConflictClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.action = in.readEnum(ON_CONFLICT_ACTION_VALUES);
+            node.infer = (InferClause) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.lockStrength = in.readEnum(LOCK_CLAUSE_STRENGTH_VALUES);
+            node.targetList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePLAssignStmt(PLAssignStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.indirection)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.name);
+            out.writeZigzag(node.nnames);
+            if (out.writeValue(node.val)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPLAssignStmt(PLAssignStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.indirection = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.name = in.readString();
+            node.nnames = (int) in.readZigzag();
+            node.val = (SelectStmt) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ParamRef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeParamRef(ParamRef node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeZigzag(node.number);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ParamRef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readParamRef(ParamRef node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.number = (int) in.readZigzag();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePartitionBoundSpec(PartitionBoundSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.is_default);
+            if (out.writeValue(node.listdatums)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.lowerdatums)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeZigzag(node.modulus);
+            out.writeZigzag(node.remainder);
+            out.writeEnum(node.strategy);
+            if (out.writeValue(node.upperdatums)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPartitionBoundSpec(PartitionBoundSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.is_default = in.readBoolean();
+            node.listdatums = (List<A_Const>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.lowerdatums = (List<PartitionRangeDatum>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.modulus = (int) in.readZigzag();
+            node.remainder = (int) in.readZigzag();
+            node.strategy = in.readEnum(PARTITION_STRATEGY_VALUES);
+            node.upperdatums = (List<PartitionRangeDatum>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePartitionCmd(PartitionCmd node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.bound)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.concurrent);
+            if (out.writeValue(node.name)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.partlist)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPartitionCmd(PartitionCmd node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.bound = (PartitionBoundSpec) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.concurrent = in.readBoolean();
+            node.name = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.partlist = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PartitionElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePartitionElem(PartitionElem node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.collation)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.expr)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.name);
+            if (out.writeValue(node.opclass)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PartitionElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPartitionElem(PartitionElem node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.collation = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.name = in.readString();
+            node.opclass = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePartitionRangeDatum(PartitionRangeDatum node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.kind);
+            if (out.writeValue(node.value)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readPartitionRangeDatum(PartitionRangeDatum node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.kind = in.readEnum(PARTITION_RANGE_DATUM_KIND_VALUES);
+            node.value = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePartitionSpec(PartitionSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.partParams)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.strategy);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPartitionSpec(PartitionSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.partParams = (List<PartitionElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.strategy = in.readEnum(PARTITION_STRATEGY_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePrepareStmt(PrepareStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.argtypes)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.name);
+            if (out.writeValue(node.query)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPrepareStmt(PrepareStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.argtypes = (List<TypeName>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.name = in.readString();
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PrivTarget}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePrivTarget(PrivTarget node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            if (out.writeValue(node.objs)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.objtype);
+            out.writeEnum(node.targtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PrivTarget}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPrivTarget(PrivTarget node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.objs = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+            node.targtype = in.readEnum(GRANT_TARGET_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePropGraphEdge(PropGraphEdge node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.edestkey)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.edestvertex);
+            if (out.writeValue(node.edestvertexcols)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.ekey)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.esrckey)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeString(node.esrcvertex);
+            if (out.writeValue(node.esrcvertexcols)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.etable)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.labels)) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPropGraphEdge(PropGraphEdge node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.edestkey = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.edestvertex = in.readString();
+            node.edestvertexcols = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.ekey = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.esrckey = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.esrcvertex = in.readString();
+            node.esrcvertexcols = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.etable = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.labels = (List<PropGraphLabelAndProperties>) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePropGraphLabelAndProperties(PropGraphLabelAndProperties node, int step, Output out)
+            throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.label);
+            if (out.writeValue(node.properties)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readPropGraphLabelAndProperties(PropGraphLabelAndProperties node, int step, Input in)
+            throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.label = in.readString();
+            node.properties = (PropGraphProperties) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePropGraphProperties(PropGraphProperties node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.all);
+            if (out.writeValue(node.properties)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPropGraphProperties(PropGraphProperties node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.all = in.readBoolean();
+            node.properties = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePropGraphVertex(PropGraphVertex node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.labels)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.vkey)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.vtable)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPropGraphVertex(PropGraphVertex node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.labels = (List<PropGraphLabelAndProperties>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.vkey = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.vtable = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePublicationAllObjSpec(PublicationAllObjSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.except_tables)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.pubobjtype);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPublicationAllObjSpec(PublicationAllObjSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.except_tables = (List<PublicationObjSpec>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.pubobjtype = in.readEnum(PUBLICATION_ALL_OBJ_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePublicationObjSpec(PublicationObjSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.name);
+            out.writeEnum(node.pubobjtype);
+            if (out.writeValue(node.pubtable)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readPublicationObjSpec(PublicationObjSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.name = in.readString();
+            node.pubobjtype = in.readEnum(PUBLICATION_OBJ_SPEC_TYPE_VALUES);
+            node.pubtable = (PublicationTable) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link PublicationTable}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writePublicationTable(PublicationTable node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.columns)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.except);
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.whereClause)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link PublicationTable}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readPublicationTable(PublicationTable node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.columns = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.except = in.readBoolean();
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeFunction}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeFunction(RangeFunction node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.coldeflist)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.functions)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.is_rowsfrom);
+            out.writeBoolean(node.lateral);
+            out.writeBoolean(node.ordinality);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeFunction}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRangeFunction(RangeFunction node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.coldeflist = (List<ColumnDef>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.functions = (List<List<Node>>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.is_rowsfrom = in.readBoolean();
+            node.lateral = in.readBoolean();
+            node.ordinality = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeGraphTable(RangeGraphTable node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.columns)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.graph_name)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.graph_pattern)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRangeGraphTable(RangeGraphTable node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.columns = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.graph_name = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.graph_pattern = (GraphPattern) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeSubselect(RangeSubselect node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.lateral);
+            if (out.writeValue(node.subquery)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRangeSubselect(RangeSubselect node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.lateral = in.readBoolean();
+            node.subquery = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeTableFunc(RangeTableFunc node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.columns)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.docexpr)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.lateral);
+            if (out.writeValue(node.namespaces)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.rowexpr)) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRangeTableFunc(RangeTableFunc node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.columns = (List<RangeTableFuncCol>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.docexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.lateral = in.readBoolean();
+            node.namespaces = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.rowexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeTableFuncCol(RangeTableFuncCol node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.coldefexpr)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.colexpr)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeString(node.colname);
+            out.writeBoolean(node.for_ordinality);
+            out.writeBoolean(node.is_not_null);
+            if (out.writeValue(node.typeName)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRangeTableFuncCol(RangeTableFuncCol node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.coldefexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.colexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.colname = in.readString();
+            node.for_ordinality = in.readBoolean();
+            node.is_not_null = in.readBoolean();
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeTableSample(RangeTableSample node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.method)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.relation)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.repeatable)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRangeTableSample(RangeTableSample node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.method = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relation = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.repeatable = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RangeVar}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRangeVar(RangeVar node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.alias)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.catalogname);
+            if (out.writeValue(node.inh)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.relname);
+            out.writeEnum(node.relpersistence);
+            out.writeString(node.schemaname);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RangeVar}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRangeVar(RangeVar node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.alias = (Alias) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.catalogname = in.readString();
+            node.inh = (Boolean) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relname = in.readString();
+            node.relpersistence = in.readEnum(REL_PERSISTENCE_VALUES);
+            node.schemaname = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RawStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRawStmt(RawStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.stmt)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeZigzag(node.stmt_len);
+            out.writeLocation(node.stmt_location);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RawStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRawStmt(RawStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.stmt = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.stmt_len = in.readZigzag();
+            node.stmt_location = in.readLocation();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeReassignOwnedStmt(ReassignOwnedStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.newrole)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.roles)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readReassignOwnedStmt(ReassignOwnedStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.newrole = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.roles = (List<RoleSpec>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRefreshMatViewStmt(RefreshMatViewStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.concurrent);
+            if (out.writeValue(node.relation)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.skipData);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRefreshMatViewStmt(RefreshMatViewStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.concurrent = in.readBoolean();
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.skipData = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeReindexStmt(ReindexStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.concurrent);
+            out.writeEnum(node.kind);
+            out.writeString(node.name);
+            out.writeZigzag(node.options);
+            if (out.writeValue(node.params)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readReindexStmt(ReindexStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.concurrent = in.readBoolean();
+            node.kind = in.readEnum(REINDEX_OBJECT_TYPE_VALUES);
+            node.name = in.readString();
+            node.options = (int) in.readZigzag();
+            node.params = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RenameStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRenameStmt(RenameStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            out.writeBoolean(node.missing_ok);
+            out.writeString(node.newname);
+            if (out.writeValue(node.object)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.relationType);
+            out.writeEnum(node.renameType);
+            out.writeString(node.subname);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RenameStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRenameStmt(RenameStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.missing_ok = in.readBoolean();
+            node.newname = in.readString();
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relationType = in.readEnum(OBJECT_TYPE_VALUES);
+            node.renameType = in.readEnum(OBJECT_TYPE_VALUES);
+            node.subname = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RepackStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRepackStmt(RepackStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.command);
+            out.writeString(node.indexname);
+            if (out.writeValue(node.params)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.usingindex);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RepackStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRepackStmt(RepackStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.command = in.readEnum(REPACK_COMMAND_VALUES);
+            node.indexname = in.readString();
+            node.params = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.relation = (VacuumRelation) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.usingindex = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ReplicaIdentityStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeReplicaIdentityStmt(ReplicaIdentityStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.identity_type);
+        out.writeString(node.name);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ReplicaIdentityStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readReplicaIdentityStmt(ReplicaIdentityStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.identity_type = in.readEnum(REPLICA_IDENTITY_TYPE_VALUES);
+        node.name = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ResTarget}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeResTarget(ResTarget node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.indirection)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.name);
+            if (out.writeValue(node.val)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ResTarget}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readResTarget(ResTarget node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.indirection = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.name = in.readString();
+            node.val = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeReturnStmt(ReturnStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.returnval)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readReturnStmt(ReturnStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.returnval = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ReturningClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeReturningClause(ReturningClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.exprs)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ReturningClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readReturningClause(ReturningClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.exprs = (List<Expr>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<ReturningOption>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ReturningOption}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeReturningOption(ReturningOption node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.option);
+        out.writeString(node.value);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ReturningOption}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readReturningOption(ReturningOption node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.option = in.readEnum(RETURNING_OPTION_KIND_VALUES);
+        node.value = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RoleSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRoleSpec(RoleSpec node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.rolename);
+        out.writeEnum(node.roletype);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RoleSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readRoleSpec(RoleSpec node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.rolename = in.readString();
+        node.roletype = in.readEnum(ROLE_SPEC_TYPE_VALUES);
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RowExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRowExpr(RowExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.colnames)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.row_format);
+            if (out.writeValue(node.row_typeid)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RowExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRowExpr(RowExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.colnames = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.row_format = in.readEnum(COERCION_FORM_VALUES);
+            node.row_typeid = (Oid) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link RuleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeRuleStmt(RuleStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.actions)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.event);
+            out.writeBoolean(node.instead);
+            if (out.writeValue(node.relation)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.replace);
+            out.writeString(node.rulename);
+            if (out.writeValue(node.whereClause)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link RuleStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readRuleStmt(RuleStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.actions = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.event = in.readEnum(CMD_TYPE_VALUES);
+            node.instead = in.readBoolean();
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.replace = in.readBoolean();
+            node.rulename = in.readString();
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SQLValueFunction}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSQLValueFunction(SQLValueFunction node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeEnum(node.op);
+        out.writeZigzag(node.typmod);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SQLValueFunction}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readSQLValueFunction(SQLValueFunction node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.op = in.readEnum(SQLVALUE_FUNCTION_OP_VALUES);
+        node.typmod = (int) in.readZigzag();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSecLabelStmt(SecLabelStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.label);
+            if (out.writeValue(node.object)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.objtype);
+            out.writeString(node.provider);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readSecLabelStmt(SecLabelStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.label = in.readString();
+            node.object = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.objtype = in.readEnum(OBJECT_TYPE_VALUES);
+            node.provider = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SelectLimit}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSelectLimit(SelectLimit node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.countLoc);
+            if (out.writeValue(node.limitCount)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.limitOffset)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.limitOption);
+            out.writeLocation(node.offsetLoc);
+            out.writeLocation(node.optionLoc);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SelectLimit}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readSelectLimit(SelectLimit node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.countLoc = in.readLocation();
+            node.limitCount = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.limitOffset = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.limitOption = in.readEnum(LIMIT_OPTION_VALUES);
+            node.offsetLoc = in.readLocation();
+            node.optionLoc = in.readLocation();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SelectStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSelectStmt(SelectStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.all);
+            if (out.writeValue(node.distinctClause)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.fromClause)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.groupByAll);
+            if (out.writeValue(node.groupClause)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.groupDistinct);
+            if (out.writeValue(node.havingClause)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.intoClause)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.larg)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.limitCount)) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            if (out.writeValue(node.limitOffset)) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            out.writeEnum(node.limitOption);
+            if (out.writeValue(node.lockingClause)) {
+                return 9;
+            }
+        }
+        if (step <= 9) {
+            out.writeEnum(node.op);
+            if (out.writeValue(node.rarg)) {
+                return 10;
+            }
+        }
+        if (step <= 10) {
+            if (out.writeValue(node.sortClause)) {
+                return 11;
+            }
+        }
+        if (step <= 11) {
+            out.writeZigzag(node.stmt_len);
+            out.writeLocation(node.stmt_location);
+            if (out.writeValue(node.targetList)) {
+                return 12;
+            }
+        }
+        if (step <= 12) {
+            if (out.writeValue(node.valuesLists)) {
+                return 13;
+            }
+        }
+        if (step <= 13) {
+            if (out.writeValue(node.whereClause)) {
+                return 14;
+            }
+        }
+        if (step <= 14) {
+            if (out.writeValue(node.windowClause)) {
+                return 15;
+            }
+        }
+        if (step <= 15) {
+            if (out.writeValue(node.withClause)) {
+                return 16;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SelectStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readSelectStmt(SelectStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.all = in.readBoolean();
+            node.distinctClause = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.fromClause = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.groupByAll = in.readBoolean();
+            node.groupClause = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.groupDistinct = in.readBoolean();
+            node.havingClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.intoClause = (IntoClause) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.larg = (SelectStmt) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.limitCount = (Node) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            node.limitOffset = (Node) in.readValue();
+            if (in.descended()) {
+                return 8;
+            }
+        }
+        if (step <= 8) {
+            node.limitOption = in.readEnum(LIMIT_OPTION_VALUES);
+            node.lockingClause = (List<LockingClause>) in.readValue();
+            if (in.descended()) {
+                return 9;
+            }
+        }
+        if (step <= 9) {
+            node.op = in.readEnum(SET_OPERATION_VALUES);
+            node.rarg = (SelectStmt) in.readValue();
+            if (in.descended()) {
+                return 10;
+            }
+        }
+        if (step <= 10) {
+            node.sortClause = (List<SortBy>) in.readValue();
+            if (in.descended()) {
+                return 11;
+            }
+        }
+        if (step <= 11) {
+            node.stmt_len = in.readZigzag();
+            node.stmt_location = in.readLocation();
+            node.targetList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 12;
+            }
+        }
+        if (step <= 12) {
+            node.valuesLists = (List<List<Node>>) in.readValue();
+            if (in.descended()) {
+                return 13;
+            }
+        }
+        if (step <= 13) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 14;
+            }
+        }
+        if (step <= 14) {
+            node.windowClause = (List<WindowDef>) in.readValue();
+            if (in.descended()) {
+                return 15;
+            }
+        }
+        if (step <= 15) {
+            node.withClause = (WithClause) in.readValue();
+            if (in.descended()) {
+                return 16;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SetToDefault}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSetToDefault(SetToDefault node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SetToDefault}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readSetToDefault(SetToDefault node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSinglePartitionSpec(SinglePartitionSpec node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.bound)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.name)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readSinglePartitionSpec(SinglePartitionSpec node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.bound = (PartitionBoundSpec) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.name = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SortBy}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSortBy(SortBy node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.node)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeEnum(node.sortby_dir);
+            out.writeEnum(node.sortby_nulls);
+            if (out.writeValue(node.useOp)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SortBy}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readSortBy(SortBy node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.node = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.sortby_dir = in.readEnum(SORT_BY_DIR_VALUES);
+            node.sortby_nulls = in.readEnum(SORT_BY_NULLS_VALUES);
+            node.useOp = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link StatsElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeStatsElem(StatsElem node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link StatsElem}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readStatsElem(StatsElem node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link Stmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeStmt(Stmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeZigzag(node.stmt_len);
+        out.writeLocation(node.stmt_location);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link Stmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readStmt(Stmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.stmt_len = in.readZigzag();
+        node.stmt_location = in.readLocation();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link SubLink}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeSubLink(SubLink node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.operName)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeZigzag(node.subLinkId);
+            out.writeEnum(node.subLinkType);
+            if (out.writeValue(node.subselect)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.testexpr)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link SubLink}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readSubLink(SubLink node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.operName = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.subLinkId = (int) in.readZigzag();
+            node.subLinkType = in.readEnum(SUB_LINK_TYPE_VALUES);
+            node.subselect = (Node) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.testexpr = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeTableLikeClause(TableLikeClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.options);
+            if (out.writeValue(node.relation)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.relationOid)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readTableLikeClause(TableLikeClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.options = (int) in.readZigzag();
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.relationOid = (Oid) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeTransactionStmt(TransactionStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.chain);
+            out.writeString(node.gid);
+            out.writeEnum(node.kind);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeString(node.savepoint_name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readTransactionStmt(TransactionStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.chain = in.readBoolean();
+            node.gid = in.readString();
+            node.kind = in.readEnum(TRANSACTION_STMT_KIND_VALUES);
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.savepoint_name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link TriggerTransition}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeTriggerTransition(TriggerTransition node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeBoolean(node.isNew);
+        out.writeBoolean(node.isTable);
+        out.writeString(node.name);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link TriggerTransition}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readTriggerTransition(TriggerTransition node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.isNew = in.readBoolean();
+        node.isTable = in.readBoolean();
+        node.name = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeTruncateStmt(TruncateStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeEnum(node.behavior);
+            if (out.writeValue(node.relations)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.restart_seqs);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readTruncateStmt(TruncateStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.behavior = in.readEnum(DROP_BEHAVIOR_VALUES);
+            node.relations = (List<RangeVar>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.restart_seqs = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link TypeCast}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeTypeCast(TypeCast node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arg)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.typeName)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link TypeCast}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readTypeCast(TypeCast node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arg = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link TypeName}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeTypeName(TypeName node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.arrayBounds)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.names)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeBoolean(node.pct_type);
+            out.writeBoolean(node.setof);
+            if (out.writeValue(node.typmods)) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link TypeName}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readTypeName(TypeName node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.arrayBounds = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.names = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.pct_type = in.readBoolean();
+            node.setof = in.readBoolean();
+            node.typmods = (List<A_Const>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link UnlistenStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeUnlistenStmt(UnlistenStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.conditionname);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link UnlistenStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readUnlistenStmt(UnlistenStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.conditionname = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeUpdateStmt(UpdateStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeZigzag(node.stmt_len);
+            out.writeLocation(node.stmt_location);
+            if (out.writeValue(node.forPortionOf)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.fromClause)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.relation)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            if (out.writeValue(node.returningClause)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            if (out.writeValue(node.returningList)) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            if (out.writeValue(node.targetList)) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            if (out.writeValue(node.whereClause)) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            if (out.writeValue(node.withClause)) {
+                return 8;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readUpdateStmt(UpdateStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.stmt_len = in.readZigzag();
+            node.stmt_location = in.readLocation();
+            node.forPortionOf = (ForPortionOfClause) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.fromClause = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.returningClause = (ReturningClause) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.returningList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 5;
+            }
+        }
+        if (step <= 5) {
+            node.targetList = (List<ResTarget>) in.readValue();
+            if (in.descended()) {
+                return 6;
+            }
+        }
+        if (step <= 6) {
+            node.whereClause = (Node) in.readValue();
+            if (in.descended()) {
+                return 7;
+            }
+        }
+        if (step <= 7) {
+            node.withClause = (WithClause) in.readValue();
+            if (in.descended()) {
+                return 8;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeVacuumRelation(VacuumRelation node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.relation)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.va_cols)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readVacuumRelation(VacuumRelation node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.relation = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.va_cols = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeVacuumStmt(VacuumStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeBoolean(node.is_vacuumcmd);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.rels)) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readVacuumStmt(VacuumStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.is_vacuumcmd = in.readBoolean();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.rels = (List<VacuumRelation>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ValUnion}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeValUnion(ValUnion node, int step, Output out) throws IOException {
+        out.writeBoolean(node.boolval);
+        out.writeZigzag(node.ival);
+        out.writeString(node.str);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ValUnion}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readValUnion(ValUnion node, int step, Input in) throws IOException {
+        node.boolval = in.readBoolean();
+        node.ival = (int) in.readZigzag();
+        node.str = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link Value}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeValue(Value node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.val)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link Value}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readValue(Value node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.val = (ValUnion) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeVariableSetStmt(VariableSetStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.args)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.is_local);
+            out.writeBoolean(node.jumble_args);
+            out.writeEnum(node.kind);
+            out.writeString(node.name);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readVariableSetStmt(VariableSetStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.is_local = in.readBoolean();
+            node.jumble_args = in.readBoolean();
+            node.kind = in.readEnum(VARIABLE_SET_KIND_VALUES);
+            node.name = in.readString();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link VariableShowStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeVariableShowStmt(VariableShowStmt node, int step, Output out) throws IOException {
+        out.writeLocation(node.location);
+        out.writeEnum(node.type);
+        out.writeString(node.name);
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link VariableShowStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readVariableShowStmt(VariableShowStmt node, int step, Input in) throws IOException {
+        node.location = in.readLocation();
+        node.type = in.readEnum(NODE_TAG_VALUES);
+        node.name = in.readString();
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link ViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeViewStmt(ViewStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.aliases)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.options)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.query)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeBoolean(node.replace);
+            if (out.writeValue(node.view)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeEnum(node.withCheckOption);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link ViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readViewStmt(ViewStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.aliases = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.query = (Node) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.replace = in.readBoolean();
+            node.view = (RangeVar) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.withCheckOption = in.readEnum(VIEW_CHECK_OPTION_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link WaitStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeWaitStmt(WaitStmt node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            out.writeString(node.lsn_literal);
+            if (out.writeValue(node.options)) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link WaitStmt}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readWaitStmt(WaitStmt node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.lsn_literal = in.readString();
+            node.options = (List<DefElem>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link WindowDef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeWindowDef(WindowDef node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.endOffset)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeZigzag(node.frameOptions);
+            out.writeString(node.name);
+            if (out.writeValue(node.orderClause)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            if (out.writeValue(node.partitionClause)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeString(node.refname);
+            if (out.writeValue(node.startOffset)) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link WindowDef}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readWindowDef(WindowDef node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.endOffset = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.frameOptions = (int) in.readZigzag();
+            node.name = in.readString();
+            node.orderClause = (List<SortBy>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.partitionClause = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.refname = in.readString();
+            node.startOffset = (Node) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link WithClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeWithClause(WithClause node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.ctes)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.recursive);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link WithClause}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readWithClause(WithClause node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.ctes = (List<CommonTableExpr>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.recursive = in.readBoolean();
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link XmlExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeXmlExpr(XmlExpr node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(((Node) node).type);
+            if (out.writeValue(node.arg_names)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            if (out.writeValue(node.args)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeString(node.name);
+            if (out.writeValue(node.named_args)) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            out.writeEnum(node.op);
+            if (out.writeValue(node.type)) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            out.writeZigzag(node.typmod);
+            out.writeEnum(node.xmloption);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link XmlExpr}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    @SuppressWarnings("unchecked")
+    private static int readXmlExpr(XmlExpr node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            ((Node) node).type = in.readEnum(NODE_TAG_VALUES);
+            node.arg_names = (List<Value>) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.name = in.readString();
+            node.named_args = (List<Node>) in.readValue();
+            if (in.descended()) {
+                return 3;
+            }
+        }
+        if (step <= 3) {
+            node.op = in.readEnum(XML_EXPR_OP_VALUES);
+            node.type = (Oid) in.readValue();
+            if (in.descended()) {
+                return 4;
+            }
+        }
+        if (step <= 4) {
+            node.typmod = (int) in.readZigzag();
+            node.xmloption = in.readEnum(XML_OPTION_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writeXmlSerialize(XmlSerialize node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeLocation(node.location);
+            out.writeEnum(node.type);
+            if (out.writeValue(node.expr)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeBoolean(node.indent);
+            if (out.writeValue(node.typeName)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeEnum(node.xmloption);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readXmlSerialize(XmlSerialize node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.location = in.readLocation();
+            node.type = in.readEnum(NODE_TAG_VALUES);
+            node.expr = (Node) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.indent = in.readBoolean();
+            node.typeName = (TypeName) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.xmloption = in.readEnum(XML_OPTION_TYPE_VALUES);
+        }
+        return DONE;
+    }
+
+    /**
+     * Writes the fields of a {@link core_yy_extra_type}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were written already
+     * @param out
+     *            The output to write to
+     * @return int The number of child values that were written if the content of the last one is to be written first,
+     *         or DONE
+     * @throws IOException
+     *             If writing fails
+     */
+    private static int writecore_yy_extra_type(core_yy_extra_type node, int step, Output out) throws IOException {
+        if (step <= 0) {
+            out.writeString(node.dolqstart);
+            if (out.writeValue(node.literalbuf)) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            out.writeZigzag(node.save_yylloc);
+            out.writeBoolean(node.saw_non_ascii);
+            if (out.writeValue(node.scanbuf)) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            out.writeZigzag(node.scanbuflen);
+            out.writeZigzag(node.state_before_str_stop);
+            out.writeZigzag(node.utf16_first_part);
+            out.writeBoolean(node.warn_on_first_escape);
+            out.writeZigzag(node.xcdepth);
+        }
+        return DONE;
+    }
+
+    /**
+     * Reads the fields of a {@link core_yy_extra_type}
+     *
+     * @param node
+     *            The node
+     * @param step
+     *            The number of child values that were read already
+     * @param in
+     *            The input to read from
+     * @return int The number of child values that were read if the content of the last one is to be read first, or DONE
+     * @throws IOException
+     *             If reading fails
+     */
+    private static int readcore_yy_extra_type(core_yy_extra_type node, int step, Input in) throws IOException {
+        if (step <= 0) {
+            node.dolqstart = in.readString();
+            node.literalbuf = (StringBuilder) in.readValue();
+            if (in.descended()) {
+                return 1;
+            }
+        }
+        if (step <= 1) {
+            node.save_yylloc = in.readZigzag();
+            node.saw_non_ascii = in.readBoolean();
+            node.scanbuf = (char[]) in.readValue();
+            if (in.descended()) {
+                return 2;
+            }
+        }
+        if (step <= 2) {
+            node.scanbuflen = (int) in.readZigzag();
+            node.state_before_str_stop = (int) in.readZigzag();
+            node.utf16_first_part = (int) in.readZigzag();
+            node.warn_on_first_escape = in.readBoolean();
+            node.xcdepth = (int) in.readZigzag();
+        }
+        return DONE;
+    }
+}
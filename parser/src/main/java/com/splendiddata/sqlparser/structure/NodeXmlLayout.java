@@ -0,0 +1,13673 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser.structure;
+
+import java.util.Collection;
+
+import javax.xml.stream.XMLStreamException;
+
+import com.splendiddata.sqlparser.enums.AlterPublicationAction;
+import com.splendiddata.sqlparser.enums.SetOperation;
+
+/**
+ * The xml layout of the classes of the structure package, as derived from their JAXB annotations: the name and
+ * namespace of the root element of a class and the attributes and elements that its instances are written with.
+ * <p>
+ * {@link com.splendiddata.sqlparser.NodeXmlWriter} writes a node by calling {@link #writeAttributes(int, Object, Sink)}
+ * and {@link #writeElements(int, Object, Sink, int)}, which read the fields and getters of the node directly and pass
+ * their values on to a {@link Sink}. Nodes of a class that is not known here, such as a subclass of a structure class,
+ * are written with the layout of their nearest known super class.
+ * </p>
+ * <p>
+ * This class is generated by NodeXmlLayoutGenerator in the test sources. Do not edit it by hand.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+public final class NodeXmlLayout {
+    /**
+     * Receives the attributes and elements of a node
+     */
+    public interface Sink {
+        /**
+         * Writes an attribute of the element that was just started
+         *
+         * @param name
+         *            The name of the attribute
+         * @param value
+         *            The value of the attribute. Nothing is written if it is null.
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void attribute(String name, Object value) throws XMLStreamException;
+
+        /**
+         * Writes a single valued element property
+         *
+         * @param wrapper
+         *            The name of the wrapper element, null if none
+         * @param name
+         *            The name of the element
+         * @param declaredType
+         *            The declared type of the value
+         * @param any
+         *            true if the value is to be written as an element that is named after its class
+         * @param value
+         *            The value. Nothing is written if it is null.
+         * @param depth
+         *            The nesting depth of the element
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void element(String wrapper, String name, Class<?> declaredType, boolean any, Object value, int depth)
+                throws XMLStreamException;
+
+        /**
+         * Writes an element per item of a collection property
+         *
+         * @param wrapper
+         *            The name of the wrapper element, null if none
+         * @param name
+         *            The name of the item elements
+         * @param declaredType
+         *            The declared type of the items
+         * @param any
+         *            true if the items are to be written as elements that are named after their class
+         * @param values
+         *            The items. Nothing is written if it is null.
+         * @param depth
+         *            The nesting depth of the (wrapper) element
+         * @throws XMLStreamException
+         *             If writing fails
+         */
+        void elements(String wrapper, String name, Class<?> declaredType, boolean any, Collection<?> values,
+                int depth) throws XMLStreamException;
+    }
+
+    /**
+     * The known classes. The index of a class in this array is its case in the switch statements.
+     */
+    private static final Class<?>[] CLASSES = {
+            ATAlterConstraint.class,
+            A_ArrayExpr.class,
+            A_Const.class,
+            A_Expr.class,
+            A_Indices.class,
+            A_Indirection.class,
+            A_Star.class,
+            AbstractPublicationStmt.class,
+            AccessPriv.class,
+            Alias.class,
+            AlterCollationStmt.class,
+            AlterDatabaseRefreshCollStmt.class,
+            AlterDatabaseSetStmt.class,
+            AlterDatabaseStmt.class,
+            AlterDefaultPrivilegesStmt.class,
+            AlterDomainStmt.class,
+            AlterEnumStmt.class,
+            AlterEventTrigStmt.class,
+            AlterExtensionContentsStmt.class,
+            AlterExtensionStmt.class,
+            AlterFdwStmt.class,
+            AlterForeignServerStmt.class,
+            AlterFunctionStmt.class,
+            AlterObjectDependsStmt.class,
+            AlterObjectSchemaStmt.class,
+            AlterOpFamilyStmt.class,
+            AlterOperatorStmt.class,
+            AlterOwnerStmt.class,
+            AlterPolicyStmt.class,
+            AlterPropGraphStmt.class,
+            AlterPublicationStmt.class,
+            AlterRoleSetStmt.class,
+            AlterRoleStmt.class,
+            AlterSeqStmt.class,
+            AlterStatsStmt.class,
+            AlterSubscriptionStmt.class,
+            AlterSystemStmt.class,
+            AlterTSConfigurationStmt.class,
+            AlterTSDictionaryStmt.class,
+            AlterTableCmd.class,
+            AlterTableMoveAllStmt.class,
+            AlterTableSpaceOptionsStmt.class,
+            AlterTableStmt.class,
+            AlterTypeStmt.class,
+            AlterUserMappingStmt.class,
+            BoolExpr.class,
+            BooleanTest.class,
+            CTECycleClause.class,
+            CTESearchClause.class,
+            CallStmt.class,
+            CaseExpr.class,
+            CaseWhen.class,
+            CheckPointStmt.class,
+            ClosePortalStmt.class,
+            ClusterStmt.class,
+            CoalesceExpr.class,
+            CollateClause.class,
+            ColumnDef.class,
+            ColumnRef.class,
+            CommentStmt.class,
+            CommonTableExpr.class,
+            CompositeTypeStmt.class,
+            ConditionalExpr.class,
+            Constraint.class,
+            ConstraintsSetStmt.class,
+            CopyStmt.class,
+            CreateAmStmt.class,
+            CreateCastStmt.class,
+            CreateConversionStmt.class,
+            CreateDomainStmt.class,
+            CreateEnumStmt.class,
+            CreateEventTrigStmt.class,
+            CreateExtensionStmt.class,
+            CreateFdwStmt.class,
+            CreateForeignServerStmt.class,
+            CreateForeignTableStmt.class,
+            CreateFunctionStmt.class,
+            CreateOpClassItem.class,
+            CreateOpClassStmt.class,
+            CreateOpFamilyStmt.class,
+            CreatePLangStmt.class,
+            CreatePolicyStmt.class,
+            CreatePropGraphStmt.class,
+            CreatePublicationStmt.class,
+            CreateRangeStmt.class,
+            CreateRoleStmt.class,
+            CreateSchemaStmt.class,
+            CreateSeqStmt.class,
+            CreateStatsStmt.class,
+            CreateStmt.class,
+            CreateSubscriptionStmt.class,
+            CreateTableAsStmt.class,
+            CreateTableSpaceStmt.class,
+            CreateTransformStmt.class,
+            CreateTrigStmt.class,
+            CreateUserMappingStmt.class,
+            CreatedbStmt.class,
+            CurrentOfExpr.class,
+            DeallocateStmt.class,
+            DeclareCursorStmt.class,
+            DefElem.class,
+            DefineStmt.class,
+            DeleteStmt.class,
+            DiscardStmt.class,
+            DoStmt.class,
+            DropOwnedStmt.class,
+            DropRoleStmt.class,
+            DropStmt.class,
+            DropSubscriptionStmt.class,
+            DropTableSpaceStmt.class,
+            DropUserMappingStmt.class,
+            DropdbStmt.class,
+            ErrDetail.class,
+            ErrHint.class,
+            ErrorData.class,
+            ErrorSaveContext.class,
+            ExecuteStmt.class,
+            ExplainStmt.class,
+            Expr.class,
+            FetchStmt.class,
+            ForPortionOfClause.class,
+            FuncCall.class,
+            FunctionParameter.class,
+            GrantRoleStmt.class,
+            GrantStmt.class,
+            GraphElementPattern.class,
+            GraphPattern.class,
+            GroupClause.class,
+            GroupingFunc.class,
+            GroupingSet.class,
+            ImportForeignSchemaStmt.class,
+            ImportQual.class,
+            IndexElem.class,
+            IndexStmt.class,
+            InferClause.class,
+            InsertStmt.class,
+            IntoClause.class,
+            JoinExpr.class,
+            JsonAggConstructor.class,
+            JsonArgument.class,
+            JsonArrayAgg.class,
+            JsonArrayConstructor.class,
+            JsonArrayQueryConstructor.class,
+            JsonBehavior.class,
+            JsonFormat.class,
+            JsonFuncExpr.class,
+            JsonIsPredicate.class,
+            JsonKeyValue.class,
+            JsonObjectAgg.class,
+            JsonObjectConstructor.class,
+            JsonOutput.class,
+            JsonParseExpr.class,
+            JsonReturning.class,
+            JsonScalarExpr.class,
+            JsonSerializeExpr.class,
+            JsonTable.class,
+            JsonTableColumn.class,
+            JsonTablePathSpec.class,
+            JsonTablePlanSpec.class,
+            JsonValueExpr.class,
+            KeyAction.class,
+            KeyActions.class,
+            List.class,
+            ListCell.class,
+            ListenStmt.class,
+            LoadStmt.class,
+            Location.class,
+            LockStmt.class,
+            LockingClause.class,
+            MergeStmt.class,
+            MergeSupportFunc.class,
+            MergeWhenClause.class,
+            MinMaxExpr.class,
+            MultiAssignRef.class,
+            NamedArgExpr.class,
+            Node.class,
+            NotifyStmt.class,
+            NullTest.class,
+            ObjectWithArgs.class,
+            Oid.class,
+            OnConflictClause.class,
+            PLAssignStmt.class,
+            ParamRef.class,
+            PartitionBoundSpec.class,
+            PartitionCmd.class,
+            PartitionElem.class,
+            PartitionRangeDatum.class,
+            PartitionSpec.class,
+            Position.class,
+            PrepareStmt.class,
+            PrivTarget.class,
+            PropGraphEdge.class,
+            PropGraphLabelAndProperties.class,
+            PropGraphProperties.class,
+            PropGraphVertex.class,
+            PublicationAllObjSpec.class,
+            PublicationObjSpec.class,
+            PublicationTable.class,
+            RangeFunction.class,
+            RangeGraphTable.class,
+            RangeSubselect.class,
+            RangeTableFunc.class,
+            RangeTableFuncCol.class,
+            RangeTableSample.class,
+            RangeVar.class,
+            RawStmt.class,
+            ReassignOwnedStmt.class,
+            RefreshMatViewStmt.class,
+            ReindexStmt.class,
+            RelFileNumber.class,
+            RenameStmt.class,
+            RepackStmt.class,
+            ReplicaIdentityStmt.class,
+            ResTarget.class,
+            ReturnStmt.class,
+            ReturningClause.class,
+            ReturningOption.class,
+            RoleSpec.class,
+            RowExpr.class,
+            RuleStmt.class,
+            SQLValueFunction.class,
+            SecLabelStmt.class,
+            SelectLimit.class,
+            SelectStmt.class,
+            SetToDefault.class,
+            SinglePartitionSpec.class,
+            SortBy.class,
+            StatsElem.class,
+            Stmt.class,
+            StructuralComparison.class,
+            SubLink.class,
+            TableLikeClause.class,
+            TransactionStmt.class,
+            TriggerTransition.class,
+            TruncateStmt.class,
+            TypeCast.class,
+            TypeName.class,
+            UnlistenStmt.class,
+            UpdateStmt.class,
+            VacuumRelation.class,
+            VacuumStmt.class,
+            ValUnion.class,
+            Value.class,
+            VariableSetStmt.class,
+            VariableShowStmt.class,
+            ViewStmt.class,
+            WaitStmt.class,
+            WindowDef.class,
+            WithClause.class,
+            XmlExpr.class,
+            XmlSerialize.class,
+            core_yy_extra_type.class,
+            core_yyscan_t.class,
+    };
+
+    /**
+     * The namespaces of the root elements of the known classes, null for no namespace
+     */
+    private static final String[] ROOT_NAMESPACES = {
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            null,
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+            "parser",
+    };
+
+    /**
+     * The names of the root elements of the known classes
+     */
+    private static final String[] ROOT_NAMES = {
+            "atAlterConstraint",
+            "aArrayExpr",
+            "aConst",
+            "aExpr",
+            "aIndices",
+            "aIndirection",
+            "aStar",
+            "abstractPublicationStmt",
+            "accessPriv",
+            "alias",
+            "alterCollationStmt",
+            "alterDatabaseRefreshCollStmt",
+            "alterDatabaseSetStmt",
+            "alterDatabaseStmt",
+            "alterDefaultPrivilegesStmt",
+            "alterDomainStmt",
+            "alterEnumStmt",
+            "alterEventTrigStmt",
+            "alterExtensionContentsStmt",
+            "alterExtensionStmt",
+            "alterFdwStmt",
+            "alterForeignServerStmt",
+            "alterFunctionStmt",
+            "alterObjectDependsStmt",
+            "alterObjectSchemaStmt",
+            "alterOpFamilyStmt",
+            "alterOperatorStmt",
+            "alterOwnerStmt",
+            "alterPolicyStmt",
+            "alterPropGraphStmt",
+            "alterPublicationStmt",
+            "alterRoleSetStmt",
+            "alterRoleStmt",
+            "alterSeqStmt",
+            "alterStatsStmt",
+            "alterSubscriptionStmt",
+            "alterSystemStmt",
+            "alterTSConfigurationStmt",
+            "alterTSDictionaryStmt",
+            "alterTableCmd",
+            "alterTableMoveAllStmt",
+            "alterTableSpaceOptionsStmt",
+            "alterTableStmt",
+            "alterTypeStmt",
+            "alterUserMappingStmt",
+            "boolExpr",
+            "booleanTest",
+            "cteCycleClause",
+            "cteSearchClause",
+            "callStmt",
+            "caseExpr",
+            "caseWhen",
+            "checkPointStmt",
+            "closePortalStmt",
+            "clusterStmt",
+            "coalesceExpr",
+            "collateClause",
+            "columnDef",
+            "columnRef",
+            "commentStmt",
+            "commonTableExpr",
+            "compositeTypeStmt",
+            "conditionalExpr",
+            "constraint",
+            "constraintsSetStmt",
+            "copyStmt",
+            "createAmStmt",
+            "createCastStmt",
+            "createConversionStmt",
+            "createDomainStmt",
+            "createEnumStmt",
+            "createEventTrigStmt",
+            "createExtensionStmt",
+            "createFdwStmt",
+            "createForeignServerStmt",
+            "createForeignTableStmt",
+            "createFunctionStmt",
+            "createOpClassItem",
+            "createOpClassStmt",
+            "createOpFamilyStmt",
+            "createPLangStmt",
+            "createPolicyStmt",
+            "createPropGraphStmt",
+            "createPublicationStmt",
+            "createRangeStmt",
+            "createRoleStmt",
+            "createSchemaStmt",
+            "createSeqStmt",
+            "createStatsStmt",
+            "createStmt",
+            "createSubscriptionStmt",
+            "createTableAsStmt",
+            "createTableSpaceStmt",
+            "createTransformStmt",
+            "createTrigStmt",
+            "createUserMappingStmt",
+            "createdbStmt",
+            "currentOfExpr",
+            "deallocateStmt",
+            "declareCursorStmt",
+            "defElem",
+            "defineStmt",
+            "deleteStmt",
+            "discardStmt",
+            "doStmt",
+            "dropOwnedStmt",
+            "dropRoleStmt",
+            "dropStmt",
+            "dropSubscriptionStmt",
+            "dropTableSpaceStmt",
+            "dropUserMappingStmt",
+            "dropdbStmt",
+            "errDetail",
+            "errHint",
+            "errorData",
+            "errorSaveContext",
+            "executeStmt",
+            "explainStmt",
+            "expr",
+            "fetchStmt",
+            "forPortionOfClause",
+            "funcCall",
+            "functionParameter",
+            "grantRoleStmt",
+            "grantStmt",
+            "graphElementPattern",
+            "graphPattern",
+            "groupClause",
+            "groupingFunc",
+            "groupingSet",
+            "importForeignSchemaStmt",
+            "importQual",
+            "indexElem",
+            "indexStmt",
+            "inferClause",
+            "insertStmt",
+            "intoClause",
+            "joinExpr",
+            "jsonAggConstructor",
+            "jsonArgument",
+            "jsonArrayAgg",
+            "jsonArrayConstructor",
+            "jsonArrayQueryConstructor",
+            "jsonBehavior",
+            "jsonFormat",
+            "jsonFuncExpr",
+            "jsonIsPredicate",
+            "jsonKeyValue",
+            "jsonObjectAgg",
+            "jsonObjectConstructor",
+            "jsonOutput",
+            "jsonParseExpr",
+            "jsonReturning",
+            "jsonScalarExpr",
+            "jsonSerializeExpr",
+            "jsonTable",
+            "jsonTableColumn",
+            "jsonTablePathSpec",
+            "jsonTablePlanSpec",
+            "jsonValueExpr",
+            "keyAction",
+            "keyActions",
+            "list",
+            "listCell",
+            "listenStmt",
+            "loadStmt",
+            "location",
+            "lockStmt",
+            "lockingClause",
+            "mergeStmt",
+            "mergeSupportFunc",
+            "mergeWhenClause",
+            "minMaxExpr",
+            "multiAssignRef",
+            "namedArgExpr",
+            "node",
+            "notifyStmt",
+            "nullTest",
+            "objectWithArgs",
+            "oid",
+            "onConflictClause",
+            "plAssignStmt",
+            "paramRef",
+            "partitionBoundSpec",
+            "partitionCmd",
+            "partitionElem",
+            "partitionRangeDatum",
+            "partitionSpec",
+            "position",
+            "prepareStmt",
+            "privTarget",
+            "propGraphEdge",
+            "propGraphLabelAndProperties",
+            "propGraphProperties",
+            "propGraphVertex",
+            "publicationAllObjSpec",
+            "publicationObjSpec",
+            "publicationTable",
+            "rangeFunction",
+            "rangeGraphTable",
+            "rangeSubselect",
+            "rangeTableFunc",
+            "rangeTableFuncCol",
+            "rangeTableSample",
+            "rangeVar",
+            "rawStmt",
+            "reassignOwnedStmt",
+            "refreshMatViewStmt",
+            "reindexStmt",
+            "relFileNumber",
+            "renameStmt",
+            "repackStmt",
+            "replicaIdentityStmt",
+            "resTarget",
+            "returnStmt",
+            "returningClause",
+            "returningOption",
+            "roleSpec",
+            "rowExpr",
+            "ruleStmt",
+            "sqlValueFunction",
+            "secLabelStmt",
+            "selectLimit",
+            "selectStmt",
+            "setToDefault",
+            "singlePartitionSpec",
+            "sortBy",
+            "statsElem",
+            "stmt",
+            "structuralComparison",
+            "subLink",
+            "tableLikeClause",
+            "transactionStmt",
+            "triggerTransition",
+            "truncateStmt",
+            "typeCast",
+            "typeName",
+            "unlistenStmt",
+            "updateStmt",
+            "vacuumRelation",
+            "vacuumStmt",
+            "valUnion",
+            "value",
+            "variableSetStmt",
+            "variableShowStmt",
+            "viewStmt",
+            "waitStmt",
+            "windowDef",
+            "withClause",
+            "xmlExpr",
+            "xmlSerialize",
+            "coreYyExtraType",
+            "coreYyscanT",
+    };
+
+    /**
+     * The index in {@link #CLASSES} of a class or of its nearest known super class, -1 if there is none
+     */
+    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < CLASSES.length; i++) {
+                if (CLASSES[i].equals(type)) {
+                    return Integer.valueOf(i);
+                }
+            }
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null) {
+                return get(superclass);
+            }
+            return Integer.valueOf(-1);
+        }
+    };
+
+    /**
+     * No instances
+     */
+    private NodeXmlLayout() {
+        // static methods only
+    }
+
+    /**
+     * Returns the index of the layout of a class
+     *
+     * @param type
+     *            The class
+     * @return int The index of the class or of its nearest known super class, -1 if there is none
+     */
+    public static int indexOf(Class<?> type) {
+        return INDEXES.get(type).intValue();
+    }
+
+    /**
+     * Tells if a class has a layout of its own
+     *
+     * @param index
+     *            The index as returned by {@link #indexOf(Class)}
+     * @param type
+     *            The class
+     * @return boolean true if the index is that of the class itself, false if it is that of a super class
+     */
+    public static boolean isLayoutOf(int index, Class<?> type) {
+        return index >= 0 && CLASSES[index].equals(type);
+    }
+
+    /**
+     * Returns the namespace of the root element of a class
+     *
+     * @param index
+     *            The index of the class
+     * @return String The namespace, null for no namespace
+     */
+    public static String rootNamespace(int index) {
+        return ROOT_NAMESPACES[index];
+    }
+
+    /**
+     * Returns the name of the root element of a class
+     *
+     * @param index
+     *            The index of the class
+     * @return String The element name
+     */
+    public static String rootName(int index) {
+        return ROOT_NAMES[index];
+    }
+
+    /**
+     * Tells if there is at least one non-null item in a collection
+     *
+     * @param values
+     *            The collection, may be null
+     * @return boolean true if an element will be written for one of the items
+     */
+    private static boolean hasItem(Collection<?> values) {
+        if (values != null) {
+            for (Object value : values) {
+                if (value != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells if a node has child elements
+     *
+     * @param index
+     *            The index of the class of the node
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written for the node
+     */
+    public static boolean hasContent(int index, Object node) {
+        switch (index) {
+        case 1:
+            return hasContentA_ArrayExpr((A_ArrayExpr) node);
+        case 2:
+            return hasContentA_Const((A_Const) node);
+        case 3:
+            return hasContentA_Expr((A_Expr) node);
+        case 4:
+            return hasContentA_Indices((A_Indices) node);
+        case 5:
+            return hasContentA_Indirection((A_Indirection) node);
+        case 7:
+            return hasContentAbstractPublicationStmt((AbstractPublicationStmt) node);
+        case 8:
+            return hasContentAccessPriv((AccessPriv) node);
+        case 9:
+            return hasContentAlias((Alias) node);
+        case 12:
+            return hasContentAlterDatabaseSetStmt((AlterDatabaseSetStmt) node);
+        case 13:
+            return hasContentAlterDatabaseStmt((AlterDatabaseStmt) node);
+        case 14:
+            return hasContentAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node);
+        case 15:
+            return hasContentAlterDomainStmt((AlterDomainStmt) node);
+        case 18:
+            return hasContentAlterExtensionContentsStmt((AlterExtensionContentsStmt) node);
+        case 19:
+            return hasContentAlterExtensionStmt((AlterExtensionStmt) node);
+        case 20:
+            return hasContentAlterFdwStmt((AlterFdwStmt) node);
+        case 21:
+            return hasContentAlterForeignServerStmt((AlterForeignServerStmt) node);
+        case 22:
+            return hasContentAlterFunctionStmt((AlterFunctionStmt) node);
+        case 23:
+            return hasContentAlterObjectDependsStmt((AlterObjectDependsStmt) node);
+        case 24:
+            return hasContentAlterObjectSchemaStmt((AlterObjectSchemaStmt) node);
+        case 25:
+            return hasContentAlterOpFamilyStmt((AlterOpFamilyStmt) node);
+        case 26:
+            return hasContentAlterOperatorStmt((AlterOperatorStmt) node);
+        case 27:
+            return hasContentAlterOwnerStmt((AlterOwnerStmt) node);
+        case 28:
+            return hasContentAlterPolicyStmt((AlterPolicyStmt) node);
+        case 29:
+            return hasContentAlterPropGraphStmt((AlterPropGraphStmt) node);
+        case 30:
+            return hasContentAlterPublicationStmt((AlterPublicationStmt) node);
+        case 31:
+            return hasContentAlterRoleSetStmt((AlterRoleSetStmt) node);
+        case 32:
+            return hasContentAlterRoleStmt((AlterRoleStmt) node);
+        case 33:
+            return hasContentAlterSeqStmt((AlterSeqStmt) node);
+        case 34:
+            return hasContentAlterStatsStmt((AlterStatsStmt) node);
+        case 35:
+            return hasContentAlterSubscriptionStmt((AlterSubscriptionStmt) node);
+        case 36:
+            return hasContentAlterSystemStmt((AlterSystemStmt) node);
+        case 37:
+            return hasContentAlterTSConfigurationStmt((AlterTSConfigurationStmt) node);
+        case 38:
+            return hasContentAlterTSDictionaryStmt((AlterTSDictionaryStmt) node);
+        case 39:
+            return hasContentAlterTableCmd((AlterTableCmd) node);
+        case 40:
+            return hasContentAlterTableMoveAllStmt((AlterTableMoveAllStmt) node);
+        case 41:
+            return hasContentAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node);
+        case 42:
+            return hasContentAlterTableStmt((AlterTableStmt) node);
+        case 43:
+            return hasContentAlterTypeStmt((AlterTypeStmt) node);
+        case 44:
+            return hasContentAlterUserMappingStmt((AlterUserMappingStmt) node);
+        case 45:
+            return hasContentBoolExpr((BoolExpr) node);
+        case 46:
+            return hasContentBooleanTest((BooleanTest) node);
+        case 47:
+            return hasContentCTECycleClause((CTECycleClause) node);
+        case 48:
+            return hasContentCTESearchClause((CTESearchClause) node);
+        case 49:
+            return hasContentCallStmt((CallStmt) node);
+        case 50:
+            return hasContentCaseExpr((CaseExpr) node);
+        case 51:
+            return hasContentCaseWhen((CaseWhen) node);
+        case 52:
+            return hasContentCheckPointStmt((CheckPointStmt) node);
+        case 54:
+            return hasContentClusterStmt((ClusterStmt) node);
+        case 55:
+            return hasContentCoalesceExpr((CoalesceExpr) node);
+        case 56:
+            return hasContentCollateClause((CollateClause) node);
+        case 57:
+            return hasContentColumnDef((ColumnDef) node);
+        case 58:
+            return hasContentColumnRef((ColumnRef) node);
+        case 59:
+            return hasContentCommentStmt((CommentStmt) node);
+        case 60:
+            return hasContentCommonTableExpr((CommonTableExpr) node);
+        case 61:
+            return hasContentCompositeTypeStmt((CompositeTypeStmt) node);
+        case 63:
+            return hasContentConstraint((Constraint) node);
+        case 64:
+            return hasContentConstraintsSetStmt((ConstraintsSetStmt) node);
+        case 65:
+            return hasContentCopyStmt((CopyStmt) node);
+        case 66:
+            return hasContentCreateAmStmt((CreateAmStmt) node);
+        case 67:
+            return hasContentCreateCastStmt((CreateCastStmt) node);
+        case 68:
+            return hasContentCreateConversionStmt((CreateConversionStmt) node);
+        case 69:
+            return hasContentCreateDomainStmt((CreateDomainStmt) node);
+        case 70:
+            return hasContentCreateEnumStmt((CreateEnumStmt) node);
+        case 71:
+            return hasContentCreateEventTrigStmt((CreateEventTrigStmt) node);
+        case 72:
+            return hasContentCreateExtensionStmt((CreateExtensionStmt) node);
+        case 73:
+            return hasContentCreateFdwStmt((CreateFdwStmt) node);
+        case 74:
+            return hasContentCreateForeignServerStmt((CreateForeignServerStmt) node);
+        case 75:
+            return hasContentCreateForeignTableStmt((CreateForeignTableStmt) node);
+        case 76:
+            return hasContentCreateFunctionStmt((CreateFunctionStmt) node);
+        case 77:
+            return hasContentCreateOpClassItem((CreateOpClassItem) node);
+        case 78:
+            return hasContentCreateOpClassStmt((CreateOpClassStmt) node);
+        case 79:
+            return hasContentCreateOpFamilyStmt((CreateOpFamilyStmt) node);
+        case 80:
+            return hasContentCreatePLangStmt((CreatePLangStmt) node);
+        case 81:
+            return hasContentCreatePolicyStmt((CreatePolicyStmt) node);
+        case 82:
+            return hasContentCreatePropGraphStmt((CreatePropGraphStmt) node);
+        case 83:
+            return hasContentCreatePublicationStmt((CreatePublicationStmt) node);
+        case 84:
+            return hasContentCreateRangeStmt((CreateRangeStmt) node);
+        case 85:
+            return hasContentCreateRoleStmt((CreateRoleStmt) node);
+        case 86:
+            return hasContentCreateSchemaStmt((CreateSchemaStmt) node);
+        case 87:
+            return hasContentCreateSeqStmt((CreateSeqStmt) node);
+        case 88:
+            return hasContentCreateStatsStmt((CreateStatsStmt) node);
+        case 89:
+            return hasContentCreateStmt((CreateStmt) node);
+        case 90:
+            return hasContentCreateSubscriptionStmt((CreateSubscriptionStmt) node);
+        case 91:
+            return hasContentCreateTableAsStmt((CreateTableAsStmt) node);
+        case 92:
+            return hasContentCreateTableSpaceStmt((CreateTableSpaceStmt) node);
+        case 93:
+            return hasContentCreateTransformStmt((CreateTransformStmt) node);
+        case 94:
+            return hasContentCreateTrigStmt((CreateTrigStmt) node);
+        case 95:
+            return hasContentCreateUserMappingStmt((CreateUserMappingStmt) node);
+        case 96:
+            return hasContentCreatedbStmt((CreatedbStmt) node);
+        case 99:
+            return hasContentDeclareCursorStmt((DeclareCursorStmt) node);
+        case 100:
+            return hasContentDefElem((DefElem) node);
+        case 101:
+            return hasContentDefineStmt((DefineStmt) node);
+        case 102:
+            return hasContentDeleteStmt((DeleteStmt) node);
+        case 104:
+            return hasContentDoStmt((DoStmt) node);
+        case 105:
+            return hasContentDropOwnedStmt((DropOwnedStmt) node);
+        case 106:
+            return hasContentDropRoleStmt((DropRoleStmt) node);
+        case 107:
+            return hasContentDropStmt((DropStmt) node);
+        case 110:
+            return hasContentDropUserMappingStmt((DropUserMappingStmt) node);
+        case 111:
+            return hasContentDropdbStmt((DropdbStmt) node);
+        case 115:
+            return hasContentErrorSaveContext((ErrorSaveContext) node);
+        case 116:
+            return hasContentExecuteStmt((ExecuteStmt) node);
+        case 117:
+            return hasContentExplainStmt((ExplainStmt) node);
+        case 120:
+            return hasContentForPortionOfClause((ForPortionOfClause) node);
+        case 121:
+            return hasContentFuncCall((FuncCall) node);
+        case 122:
+            return hasContentFunctionParameter((FunctionParameter) node);
+        case 123:
+            return hasContentGrantRoleStmt((GrantRoleStmt) node);
+        case 124:
+            return hasContentGrantStmt((GrantStmt) node);
+        case 125:
+            return hasContentGraphElementPattern((GraphElementPattern) node);
+        case 126:
+            return hasContentGraphPattern((GraphPattern) node);
+        case 127:
+            return hasContentGroupClause((GroupClause) node);
+        case 128:
+            return hasContentGroupingFunc((GroupingFunc) node);
+        case 129:
+            return hasContentGroupingSet((GroupingSet) node);
+        case 130:
+            return hasContentImportForeignSchemaStmt((ImportForeignSchemaStmt) node);
+        case 131:
+            return hasContentImportQual((ImportQual) node);
+        case 132:
+            return hasContentIndexElem((IndexElem) node);
+        case 133:
+            return hasContentIndexStmt((IndexStmt) node);
+        case 134:
+            return hasContentInferClause((InferClause) node);
+        case 135:
+            return hasContentInsertStmt((InsertStmt) node);
+        case 136:
+            return hasContentIntoClause((IntoClause) node);
+        case 137:
+            return hasContentJoinExpr((JoinExpr) node);
+        case 138:
+            return hasContentJsonAggConstructor((JsonAggConstructor) node);
+        case 139:
+            return hasContentJsonArgument((JsonArgument) node);
+        case 140:
+            return hasContentJsonArrayAgg((JsonArrayAgg) node);
+        case 141:
+            return hasContentJsonArrayConstructor((JsonArrayConstructor) node);
+        case 142:
+            return hasContentJsonArrayQueryConstructor((JsonArrayQueryConstructor) node);
+        case 143:
+            return hasContentJsonBehavior((JsonBehavior) node);
+        case 145:
+            return hasContentJsonFuncExpr((JsonFuncExpr) node);
+        case 146:
+            return hasContentJsonIsPredicate((JsonIsPredicate) node);
+        case 147:
+            return hasContentJsonKeyValue((JsonKeyValue) node);
+        case 148:
+            return hasContentJsonObjectAgg((JsonObjectAgg) node);
+        case 149:
+            return hasContentJsonObjectConstructor((JsonObjectConstructor) node);
+        case 150:
+            return hasContentJsonOutput((JsonOutput) node);
+        case 151:
+            return hasContentJsonParseExpr((JsonParseExpr) node);
+        case 152:
+            return hasContentJsonReturning((JsonReturning) node);
+        case 153:
+            return hasContentJsonScalarExpr((JsonScalarExpr) node);
+        case 154:
+            return hasContentJsonSerializeExpr((JsonSerializeExpr) node);
+        case 155:
+            return hasContentJsonTable((JsonTable) node);
+        case 156:
+            return hasContentJsonTableColumn((JsonTableColumn) node);
+        case 157:
+            return hasContentJsonTablePathSpec((JsonTablePathSpec) node);
+        case 158:
+            return hasContentJsonTablePlanSpec((JsonTablePlanSpec) node);
+        case 159:
+            return hasContentJsonValueExpr((JsonValueExpr) node);
+        case 160:
+            return hasContentKeyAction((KeyAction) node);
+        case 161:
+            return hasContentKeyActions((KeyActions) node);
+        case 162:
+            return hasContentList((List<?>) node);
+        case 163:
+            return hasContentListCell((ListCell<?>) node);
+        case 166:
+            return hasContentLocation((Location) node);
+        case 167:
+            return hasContentLockStmt((LockStmt) node);
+        case 168:
+            return hasContentLockingClause((LockingClause) node);
+        case 169:
+            return hasContentMergeStmt((MergeStmt) node);
+        case 170:
+            return hasContentMergeSupportFunc((MergeSupportFunc) node);
+        case 171:
+            return hasContentMergeWhenClause((MergeWhenClause) node);
+        case 172:
+            return hasContentMinMaxExpr((MinMaxExpr) node);
+        case 173:
+            return hasContentMultiAssignRef((MultiAssignRef) node);
+        case 174:
+            return hasContentNamedArgExpr((NamedArgExpr) node);
+        case 177:
+            return hasContentNullTest((NullTest) node);
+        case 178:
+            return hasContentObjectWithArgs((ObjectWithArgs) node);
+        case 180:
+            return hasContentOnConflictClause((OnConflictClause) node);
+        case 181:
+            return hasContentPLAssignStmt((PLAssignStmt) node);
+        case 183:
+            return hasContentPartitionBoundSpec((PartitionBoundSpec) node);
+        case 184:
+            return hasContentPartitionCmd((PartitionCmd) node);
+        case 185:
+            return hasContentPartitionElem((PartitionElem) node);
+        case 186:
+            return hasContentPartitionRangeDatum((PartitionRangeDatum) node);
+        case 187:
+            return hasContentPartitionSpec((PartitionSpec) node);
+        case 189:
+            return hasContentPrepareStmt((PrepareStmt) node);
+        case 190:
+            return hasContentPrivTarget((PrivTarget) node);
+        case 191:
+            return hasContentPropGraphEdge((PropGraphEdge) node);
+        case 192:
+            return hasContentPropGraphLabelAndProperties((PropGraphLabelAndProperties) node);
+        case 193:
+            return hasContentPropGraphProperties((PropGraphProperties) node);
+        case 194:
+            return hasContentPropGraphVertex((PropGraphVertex) node);
+        case 195:
+            return hasContentPublicationAllObjSpec((PublicationAllObjSpec) node);
+        case 196:
+            return hasContentPublicationObjSpec((PublicationObjSpec) node);
+        case 197:
+            return hasContentPublicationTable((PublicationTable) node);
+        case 198:
+            return hasContentRangeFunction((RangeFunction) node);
+        case 199:
+            return hasContentRangeGraphTable((RangeGraphTable) node);
+        case 200:
+            return hasContentRangeSubselect((RangeSubselect) node);
+        case 201:
+            return hasContentRangeTableFunc((RangeTableFunc) node);
+        case 202:
+            return hasContentRangeTableFuncCol((RangeTableFuncCol) node);
+        case 203:
+            return hasContentRangeTableSample((RangeTableSample) node);
+        case 204:
+            return hasContentRangeVar((RangeVar) node);
+        case 205:
+            return hasContentRawStmt((RawStmt) node);
+        case 206:
+            return hasContentReassignOwnedStmt((ReassignOwnedStmt) node);
+        case 207:
+            return hasContentRefreshMatViewStmt((RefreshMatViewStmt) node);
+        case 208:
+            return hasContentReindexStmt((ReindexStmt) node);
+        case 210:
+            return hasContentRenameStmt((RenameStmt) node);
+        case 211:
+            return hasContentRepackStmt((RepackStmt) node);
+        case 213:
+            return hasContentResTarget((ResTarget) node);
+        case 214:
+            return hasContentReturnStmt((ReturnStmt) node);
+        case 215:
+            return hasContentReturningClause((ReturningClause) node);
+        case 218:
+            return hasContentRowExpr((RowExpr) node);
+        case 219:
+            return hasContentRuleStmt((RuleStmt) node);
+        case 221:
+            return hasContentSecLabelStmt((SecLabelStmt) node);
+        case 222:
+            return hasContentSelectLimit((SelectLimit) node);
+        case 223:
+            return hasContentSelectStmt((SelectStmt) node);
+        case 225:
+            return hasContentSinglePartitionSpec((SinglePartitionSpec) node);
+        case 226:
+            return hasContentSortBy((SortBy) node);
+        case 227:
+            return hasContentStatsElem((StatsElem) node);
+        case 230:
+            return hasContentSubLink((SubLink) node);
+        case 231:
+            return hasContentTableLikeClause((TableLikeClause) node);
+        case 232:
+            return hasContentTransactionStmt((TransactionStmt) node);
+        case 234:
+            return hasContentTruncateStmt((TruncateStmt) node);
+        case 235:
+            return hasContentTypeCast((TypeCast) node);
+        case 236:
+            return hasContentTypeName((TypeName) node);
+        case 238:
+            return hasContentUpdateStmt((UpdateStmt) node);
+        case 239:
+            return hasContentVacuumRelation((VacuumRelation) node);
+        case 240:
+            return hasContentVacuumStmt((VacuumStmt) node);
+        case 242:
+            return hasContentValue((Value) node);
+        case 243:
+            return hasContentVariableSetStmt((VariableSetStmt) node);
+        case 245:
+            return hasContentViewStmt((ViewStmt) node);
+        case 246:
+            return hasContentWaitStmt((WaitStmt) node);
+        case 247:
+            return hasContentWindowDef((WindowDef) node);
+        case 248:
+            return hasContentWithClause((WithClause) node);
+        case 249:
+            return hasContentXmlExpr((XmlExpr) node);
+        case 250:
+            return hasContentXmlSerialize((XmlSerialize) node);
+        case 251:
+            return hasContentcore_yy_extra_type((core_yy_extra_type) node);
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Writes the attributes of a node
+     *
+     * @param index
+     *            The index of the class of the node
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    public static void writeAttributes(int index, Object node, Sink sink) throws XMLStreamException {
+        switch (index) {
+        case 0:
+            writeAttributesATAlterConstraint((ATAlterConstraint) node, sink);
+            break;
+        case 1:
+            writeAttributesA_ArrayExpr((A_ArrayExpr) node, sink);
+            break;
+        case 2:
+            writeAttributesA_Const((A_Const) node, sink);
+            break;
+        case 3:
+            writeAttributesA_Expr((A_Expr) node, sink);
+            break;
+        case 4:
+            writeAttributesA_Indices((A_Indices) node, sink);
+            break;
+        case 5:
+            writeAttributesA_Indirection((A_Indirection) node, sink);
+            break;
+        case 6:
+            writeAttributesA_Star((A_Star) node, sink);
+            break;
+        case 7:
+            writeAttributesAbstractPublicationStmt((AbstractPublicationStmt) node, sink);
+            break;
+        case 8:
+            writeAttributesAccessPriv((AccessPriv) node, sink);
+            break;
+        case 9:
+            writeAttributesAlias((Alias) node, sink);
+            break;
+        case 10:
+            writeAttributesAlterCollationStmt((AlterCollationStmt) node, sink);
+            break;
+        case 11:
+            writeAttributesAlterDatabaseRefreshCollStmt((AlterDatabaseRefreshCollStmt) node, sink);
+            break;
+        case 12:
+            writeAttributesAlterDatabaseSetStmt((AlterDatabaseSetStmt) node, sink);
+            break;
+        case 13:
+            writeAttributesAlterDatabaseStmt((AlterDatabaseStmt) node, sink);
+            break;
+        case 14:
+            writeAttributesAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node, sink);
+            break;
+        case 15:
+            writeAttributesAlterDomainStmt((AlterDomainStmt) node, sink);
+            break;
+        case 16:
+            writeAttributesAlterEnumStmt((AlterEnumStmt) node, sink);
+            break;
+        case 17:
+            writeAttributesAlterEventTrigStmt((AlterEventTrigStmt) node, sink);
+            break;
+        case 18:
+            writeAttributesAlterExtensionContentsStmt((AlterExtensionContentsStmt) node, sink);
+            break;
+        case 19:
+            writeAttributesAlterExtensionStmt((AlterExtensionStmt) node, sink);
+            break;
+        case 20:
+            writeAttributesAlterFdwStmt((AlterFdwStmt) node, sink);
+            break;
+        case 21:
+            writeAttributesAlterForeignServerStmt((AlterForeignServerStmt) node, sink);
+            break;
+        case 22:
+            writeAttributesAlterFunctionStmt((AlterFunctionStmt) node, sink);
+            break;
+        case 23:
+            writeAttributesAlterObjectDependsStmt((AlterObjectDependsStmt) node, sink);
+            break;
+        case 24:
+            writeAttributesAlterObjectSchemaStmt((AlterObjectSchemaStmt) node, sink);
+            break;
+        case 25:
+            writeAttributesAlterOpFamilyStmt((AlterOpFamilyStmt) node, sink);
+            break;
+        case 26:
+            writeAttributesAlterOperatorStmt((AlterOperatorStmt) node, sink);
+            break;
+        case 27:
+            writeAttributesAlterOwnerStmt((AlterOwnerStmt) node, sink);
+            break;
+        case 28:
+            writeAttributesAlterPolicyStmt((AlterPolicyStmt) node, sink);
+            break;
+        case 29:
+            writeAttributesAlterPropGraphStmt((AlterPropGraphStmt) node, sink);
+            break;
+        case 30:
+            writeAttributesAlterPublicationStmt((AlterPublicationStmt) node, sink);
+            break;
+        case 31:
+            writeAttributesAlterRoleSetStmt((AlterRoleSetStmt) node, sink);
+            break;
+        case 32:
+            writeAttributesAlterRoleStmt((AlterRoleStmt) node, sink);
+            break;
+        case 33:
+            writeAttributesAlterSeqStmt((AlterSeqStmt) node, sink);
+            break;
+        case 34:
+            writeAttributesAlterStatsStmt((AlterStatsStmt) node, sink);
+            break;
+        case 35:
+            writeAttributesAlterSubscriptionStmt((AlterSubscriptionStmt) node, sink);
+            break;
+        case 36:
+            writeAttributesAlterSystemStmt((AlterSystemStmt) node, sink);
+            break;
+        case 37:
+            writeAttributesAlterTSConfigurationStmt((AlterTSConfigurationStmt) node, sink);
+            break;
+        case 38:
+            writeAttributesAlterTSDictionaryStmt((AlterTSDictionaryStmt) node, sink);
+            break;
+        case 39:
+            writeAttributesAlterTableCmd((AlterTableCmd) node, sink);
+            break;
+        case 40:
+            writeAttributesAlterTableMoveAllStmt((AlterTableMoveAllStmt) node, sink);
+            break;
+        case 41:
+            writeAttributesAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node, sink);
+            break;
+        case 42:
+            writeAttributesAlterTableStmt((AlterTableStmt) node, sink);
+            break;
+        case 43:
+            writeAttributesAlterTypeStmt((AlterTypeStmt) node, sink);
+            break;
+        case 44:
+            writeAttributesAlterUserMappingStmt((AlterUserMappingStmt) node, sink);
+            break;
+        case 45:
+            writeAttributesBoolExpr((BoolExpr) node, sink);
+            break;
+        case 46:
+            writeAttributesBooleanTest((BooleanTest) node, sink);
+            break;
+        case 47:
+            writeAttributesCTECycleClause((CTECycleClause) node, sink);
+            break;
+        case 48:
+            writeAttributesCTESearchClause((CTESearchClause) node, sink);
+            break;
+        case 49:
+            writeAttributesCallStmt((CallStmt) node, sink);
+            break;
+        case 50:
+            writeAttributesCaseExpr((CaseExpr) node, sink);
+            break;
+        case 51:
+            writeAttributesCaseWhen((CaseWhen) node, sink);
+            break;
+        case 52:
+            writeAttributesCheckPointStmt((CheckPointStmt) node, sink);
+            break;
+        case 53:
+            writeAttributesClosePortalStmt((ClosePortalStmt) node, sink);
+            break;
+        case 54:
+            writeAttributesClusterStmt((ClusterStmt) node, sink);
+            break;
+        case 55:
+            writeAttributesCoalesceExpr((CoalesceExpr) node, sink);
+            break;
+        case 56:
+            writeAttributesCollateClause((CollateClause) node, sink);
+            break;
+        case 57:
+            writeAttributesColumnDef((ColumnDef) node, sink);
+            break;
+        case 58:
+            writeAttributesColumnRef((ColumnRef) node, sink);
+            break;
+        case 59:
+            writeAttributesCommentStmt((CommentStmt) node, sink);
+            break;
+        case 60:
+            writeAttributesCommonTableExpr((CommonTableExpr) node, sink);
+            break;
+        case 61:
+            writeAttributesCompositeTypeStmt((CompositeTypeStmt) node, sink);
+            break;
+        case 62:
+            writeAttributesConditionalExpr((ConditionalExpr) node, sink);
+            break;
+        case 63:
+            writeAttributesConstraint((Constraint) node, sink);
+            break;
+        case 64:
+            writeAttributesConstraintsSetStmt((ConstraintsSetStmt) node, sink);
+            break;
+        case 65:
+            writeAttributesCopyStmt((CopyStmt) node, sink);
+            break;
+        case 66:
+            writeAttributesCreateAmStmt((CreateAmStmt) node, sink);
+            break;
+        case 67:
+            writeAttributesCreateCastStmt((CreateCastStmt) node, sink);
+            break;
+        case 68:
+            writeAttributesCreateConversionStmt((CreateConversionStmt) node, sink);
+            break;
+        case 69:
+            writeAttributesCreateDomainStmt((CreateDomainStmt) node, sink);
+            break;
+        case 70:
+            writeAttributesCreateEnumStmt((CreateEnumStmt) node, sink);
+            break;
+        case 71:
+            writeAttributesCreateEventTrigStmt((CreateEventTrigStmt) node, sink);
+            break;
+        case 72:
+            writeAttributesCreateExtensionStmt((CreateExtensionStmt) node, sink);
+            break;
+        case 73:
+            writeAttributesCreateFdwStmt((CreateFdwStmt) node, sink);
+            break;
+        case 74:
+            writeAttributesCreateForeignServerStmt((CreateForeignServerStmt) node, sink);
+            break;
+        case 75:
+            writeAttributesCreateForeignTableStmt((CreateForeignTableStmt) node, sink);
+            break;
+        case 76:
+            writeAttributesCreateFunctionStmt((CreateFunctionStmt) node, sink);
+            break;
+        case 77:
+            writeAttributesCreateOpClassItem((CreateOpClassItem) node, sink);
+            break;
+        case 78:
+            writeAttributesCreateOpClassStmt((CreateOpClassStmt) node, sink);
+            break;
+        case 79:
+            writeAttributesCreateOpFamilyStmt((CreateOpFamilyStmt) node, sink);
+            break;
+        case 80:
+            writeAttributesCreatePLangStmt((CreatePLangStmt) node, sink);
+            break;
+        case 81:
+            writeAttributesCreatePolicyStmt((CreatePolicyStmt) node, sink);
+            break;
+        case 82:
+            writeAttributesCreatePropGraphStmt((CreatePropGraphStmt) node, sink);
+            break;
+        case 83:
+            writeAttributesCreatePublicationStmt((CreatePublicationStmt) node, sink);
+            break;
+        case 84:
+            writeAttributesCreateRangeStmt((CreateRangeStmt) node, sink);
+            break;
+        case 85:
+            writeAttributesCreateRoleStmt((CreateRoleStmt) node, sink);
+            break;
+        case 86:
+            writeAttributesCreateSchemaStmt((CreateSchemaStmt) node, sink);
+            break;
+        case 87:
+            writeAttributesCreateSeqStmt((CreateSeqStmt) node, sink);
+            break;
+        case 88:
+            writeAttributesCreateStatsStmt((CreateStatsStmt) node, sink);
+            break;
+        case 89:
+            writeAttributesCreateStmt((CreateStmt) node, sink);
+            break;
+        case 90:
+            writeAttributesCreateSubscriptionStmt((CreateSubscriptionStmt) node, sink);
+            break;
+        case 91:
+            writeAttributesCreateTableAsStmt((CreateTableAsStmt) node, sink);
+            break;
+        case 92:
+            writeAttributesCreateTableSpaceStmt((CreateTableSpaceStmt) node, sink);
+            break;
+        case 93:
+            writeAttributesCreateTransformStmt((CreateTransformStmt) node, sink);
+            break;
+        case 94:
+            writeAttributesCreateTrigStmt((CreateTrigStmt) node, sink);
+            break;
+        case 95:
+            writeAttributesCreateUserMappingStmt((CreateUserMappingStmt) node, sink);
+            break;
+        case 96:
+            writeAttributesCreatedbStmt((CreatedbStmt) node, sink);
+            break;
+        case 97:
+            writeAttributesCurrentOfExpr((CurrentOfExpr) node, sink);
+            break;
+        case 98:
+            writeAttributesDeallocateStmt((DeallocateStmt) node, sink);
+            break;
+        case 99:
+            writeAttributesDeclareCursorStmt((DeclareCursorStmt) node, sink);
+            break;
+        case 100:
+            writeAttributesDefElem((DefElem) node, sink);
+            break;
+        case 101:
+            writeAttributesDefineStmt((DefineStmt) node, sink);
+            break;
+        case 102:
+            writeAttributesDeleteStmt((DeleteStmt) node, sink);
+            break;
+        case 103:
+            writeAttributesDiscardStmt((DiscardStmt) node, sink);
+            break;
+        case 104:
+            writeAttributesDoStmt((DoStmt) node, sink);
+            break;
+        case 105:
+            writeAttributesDropOwnedStmt((DropOwnedStmt) node, sink);
+            break;
+        case 106:
+            writeAttributesDropRoleStmt((DropRoleStmt) node, sink);
+            break;
+        case 107:
+            writeAttributesDropStmt((DropStmt) node, sink);
+            break;
+        case 108:
+            writeAttributesDropSubscriptionStmt((DropSubscriptionStmt) node, sink);
+            break;
+        case 109:
+            writeAttributesDropTableSpaceStmt((DropTableSpaceStmt) node, sink);
+            break;
+        case 110:
+            writeAttributesDropUserMappingStmt((DropUserMappingStmt) node, sink);
+            break;
+        case 111:
+            writeAttributesDropdbStmt((DropdbStmt) node, sink);
+            break;
+        case 115:
+            writeAttributesErrorSaveContext((ErrorSaveContext) node, sink);
+            break;
+        case 116:
+            writeAttributesExecuteStmt((ExecuteStmt) node, sink);
+            break;
+        case 117:
+            writeAttributesExplainStmt((ExplainStmt) node, sink);
+            break;
+        case 118:
+            writeAttributesExpr((Expr) node, sink);
+            break;
+        case 119:
+            writeAttributesFetchStmt((FetchStmt) node, sink);
+            break;
+        case 120:
+            writeAttributesForPortionOfClause((ForPortionOfClause) node, sink);
+            break;
+        case 121:
+            writeAttributesFuncCall((FuncCall) node, sink);
+            break;
+        case 122:
+            writeAttributesFunctionParameter((FunctionParameter) node, sink);
+            break;
+        case 123:
+            writeAttributesGrantRoleStmt((GrantRoleStmt) node, sink);
+            break;
+        case 124:
+            writeAttributesGrantStmt((GrantStmt) node, sink);
+            break;
+        case 125:
+            writeAttributesGraphElementPattern((GraphElementPattern) node, sink);
+            break;
+        case 126:
+            writeAttributesGraphPattern((GraphPattern) node, sink);
+            break;
+        case 127:
+            writeAttributesGroupClause((GroupClause) node, sink);
+            break;
+        case 128:
+            writeAttributesGroupingFunc((GroupingFunc) node, sink);
+            break;
+        case 129:
+            writeAttributesGroupingSet((GroupingSet) node, sink);
+            break;
+        case 130:
+            writeAttributesImportForeignSchemaStmt((ImportForeignSchemaStmt) node, sink);
+            break;
+        case 131:
+            writeAttributesImportQual((ImportQual) node, sink);
+            break;
+        case 132:
+            writeAttributesIndexElem((IndexElem) node, sink);
+            break;
+        case 133:
+            writeAttributesIndexStmt((IndexStmt) node, sink);
+            break;
+        case 134:
+            writeAttributesInferClause((InferClause) node, sink);
+            break;
+        case 135:
+            writeAttributesInsertStmt((InsertStmt) node, sink);
+            break;
+        case 136:
+            writeAttributesIntoClause((IntoClause) node, sink);
+            break;
+        case 137:
+            writeAttributesJoinExpr((JoinExpr) node, sink);
+            break;
+        case 138:
+            writeAttributesJsonAggConstructor((JsonAggConstructor) node, sink);
+            break;
+        case 139:
+            writeAttributesJsonArgument((JsonArgument) node, sink);
+            break;
+        case 140:
+            writeAttributesJsonArrayAgg((JsonArrayAgg) node, sink);
+            break;
+        case 141:
+            writeAttributesJsonArrayConstructor((JsonArrayConstructor) node, sink);
+            break;
+        case 142:
+            writeAttributesJsonArrayQueryConstructor((JsonArrayQueryConstructor) node, sink);
+            break;
+        case 143:
+            writeAttributesJsonBehavior((JsonBehavior) node, sink);
+            break;
+        case 144:
+            writeAttributesJsonFormat((JsonFormat) node, sink);
+            break;
+        case 145:
+            writeAttributesJsonFuncExpr((JsonFuncExpr) node, sink);
+            break;
+        case 146:
+            writeAttributesJsonIsPredicate((JsonIsPredicate) node, sink);
+            break;
+        case 147:
+            writeAttributesJsonKeyValue((JsonKeyValue) node, sink);
+            break;
+        case 148:
+            writeAttributesJsonObjectAgg((JsonObjectAgg) node, sink);
+            break;
+        case 149:
+            writeAttributesJsonObjectConstructor((JsonObjectConstructor) node, sink);
+            break;
+        case 150:
+            writeAttributesJsonOutput((JsonOutput) node, sink);
+            break;
+        case 151:
+            writeAttributesJsonParseExpr((JsonParseExpr) node, sink);
+            break;
+        case 152:
+            writeAttributesJsonReturning((JsonReturning) node, sink);
+            break;
+        case 153:
+            writeAttributesJsonScalarExpr((JsonScalarExpr) node, sink);
+            break;
+        case 154:
+            writeAttributesJsonSerializeExpr((JsonSerializeExpr) node, sink);
+            break;
+        case 155:
+            writeAttributesJsonTable((JsonTable) node, sink);
+            break;
+        case 156:
+            writeAttributesJsonTableColumn((JsonTableColumn) node, sink);
+            break;
+        case 157:
+            writeAttributesJsonTablePathSpec((JsonTablePathSpec) node, sink);
+            break;
+        case 158:
+            writeAttributesJsonTablePlanSpec((JsonTablePlanSpec) node, sink);
+            break;
+        case 159:
+            writeAttributesJsonValueExpr((JsonValueExpr) node, sink);
+            break;
+        case 160:
+            writeAttributesKeyAction((KeyAction) node, sink);
+            break;
+        case 162:
+            writeAttributesList((List<?>) node, sink);
+            break;
+        case 164:
+            writeAttributesListenStmt((ListenStmt) node, sink);
+            break;
+        case 165:
+            writeAttributesLoadStmt((LoadStmt) node, sink);
+            break;
+        case 167:
+            writeAttributesLockStmt((LockStmt) node, sink);
+            break;
+        case 168:
+            writeAttributesLockingClause((LockingClause) node, sink);
+            break;
+        case 169:
+            writeAttributesMergeStmt((MergeStmt) node, sink);
+            break;
+        case 170:
+            writeAttributesMergeSupportFunc((MergeSupportFunc) node, sink);
+            break;
+        case 171:
+            writeAttributesMergeWhenClause((MergeWhenClause) node, sink);
+            break;
+        case 172:
+            writeAttributesMinMaxExpr((MinMaxExpr) node, sink);
+            break;
+        case 173:
+            writeAttributesMultiAssignRef((MultiAssignRef) node, sink);
+            break;
+        case 174:
+            writeAttributesNamedArgExpr((NamedArgExpr) node, sink);
+            break;
+        case 175:
+            writeAttributesNode((Node) node, sink);
+            break;
+        case 176:
+            writeAttributesNotifyStmt((NotifyStmt) node, sink);
+            break;
+        case 177:
+            writeAttributesNullTest((NullTest) node, sink);
+            break;
+        case 178:
+            writeAttributesObjectWithArgs((ObjectWithArgs) node, sink);
+            break;
+        case 180:
+            writeAttributesOnConflictClause((OnConflictClause) node, sink);
+            break;
+        case 181:
+            writeAttributesPLAssignStmt((PLAssignStmt) node, sink);
+            break;
+        case 182:
+            writeAttributesParamRef((ParamRef) node, sink);
+            break;
+        case 183:
+            writeAttributesPartitionBoundSpec((PartitionBoundSpec) node, sink);
+            break;
+        case 184:
+            writeAttributesPartitionCmd((PartitionCmd) node, sink);
+            break;
+        case 185:
+            writeAttributesPartitionElem((PartitionElem) node, sink);
+            break;
+        case 186:
+            writeAttributesPartitionRangeDatum((PartitionRangeDatum) node, sink);
+            break;
+        case 187:
+            writeAttributesPartitionSpec((PartitionSpec) node, sink);
+            break;
+        case 189:
+            writeAttributesPrepareStmt((PrepareStmt) node, sink);
+            break;
+        case 190:
+            writeAttributesPrivTarget((PrivTarget) node, sink);
+            break;
+        case 191:
+            writeAttributesPropGraphEdge((PropGraphEdge) node, sink);
+            break;
+        case 192:
+            writeAttributesPropGraphLabelAndProperties((PropGraphLabelAndProperties) node, sink);
+            break;
+        case 193:
+            writeAttributesPropGraphProperties((PropGraphProperties) node, sink);
+            break;
+        case 194:
+            writeAttributesPropGraphVertex((PropGraphVertex) node, sink);
+            break;
+        case 195:
+            writeAttributesPublicationAllObjSpec((PublicationAllObjSpec) node, sink);
+            break;
+        case 196:
+            writeAttributesPublicationObjSpec((PublicationObjSpec) node, sink);
+            break;
+        case 197:
+            writeAttributesPublicationTable((PublicationTable) node, sink);
+            break;
+        case 198:
+            writeAttributesRangeFunction((RangeFunction) node, sink);
+            break;
+        case 199:
+            writeAttributesRangeGraphTable((RangeGraphTable) node, sink);
+            break;
+        case 200:
+            writeAttributesRangeSubselect((RangeSubselect) node, sink);
+            break;
+        case 201:
+            writeAttributesRangeTableFunc((RangeTableFunc) node, sink);
+            break;
+        case 202:
+            writeAttributesRangeTableFuncCol((RangeTableFuncCol) node, sink);
+            break;
+        case 203:
+            writeAttributesRangeTableSample((RangeTableSample) node, sink);
+            break;
+        case 204:
+            writeAttributesRangeVar((RangeVar) node, sink);
+            break;
+        case 205:
+            writeAttributesRawStmt((RawStmt) node, sink);
+            break;
+        case 206:
+            writeAttributesReassignOwnedStmt((ReassignOwnedStmt) node, sink);
+            break;
+        case 207:
+            writeAttributesRefreshMatViewStmt((RefreshMatViewStmt) node, sink);
+            break;
+        case 208:
+            writeAttributesReindexStmt((ReindexStmt) node, sink);
+            break;
+        case 210:
+            writeAttributesRenameStmt((RenameStmt) node, sink);
+            break;
+        case 211:
+            writeAttributesRepackStmt((RepackStmt) node, sink);
+            break;
+        case 212:
+            writeAttributesReplicaIdentityStmt((ReplicaIdentityStmt) node, sink);
+            break;
+        case 213:
+            writeAttributesResTarget((ResTarget) node, sink);
+            break;
+        case 214:
+            writeAttributesReturnStmt((ReturnStmt) node, sink);
+            break;
+        case 215:
+            writeAttributesReturningClause((ReturningClause) node, sink);
+            break;
+        case 216:
+            writeAttributesReturningOption((ReturningOption) node, sink);
+            break;
+        case 217:
+            writeAttributesRoleSpec((RoleSpec) node, sink);
+            break;
+        case 218:
+            writeAttributesRowExpr((RowExpr) node, sink);
+            break;
+        case 219:
+            writeAttributesRuleStmt((RuleStmt) node, sink);
+            break;
+        case 220:
+            writeAttributesSQLValueFunction((SQLValueFunction) node, sink);
+            break;
+        case 221:
+            writeAttributesSecLabelStmt((SecLabelStmt) node, sink);
+            break;
+        case 222:
+            writeAttributesSelectLimit((SelectLimit) node, sink);
+            break;
+        case 223:
+            writeAttributesSelectStmt((SelectStmt) node, sink);
+            break;
+        case 224:
+            writeAttributesSetToDefault((SetToDefault) node, sink);
+            break;
+        case 225:
+            writeAttributesSinglePartitionSpec((SinglePartitionSpec) node, sink);
+            break;
+        case 226:
+            writeAttributesSortBy((SortBy) node, sink);
+            break;
+        case 227:
+            writeAttributesStatsElem((StatsElem) node, sink);
+            break;
+        case 228:
+            writeAttributesStmt((Stmt) node, sink);
+            break;
+        case 230:
+            writeAttributesSubLink((SubLink) node, sink);
+            break;
+        case 231:
+            writeAttributesTableLikeClause((TableLikeClause) node, sink);
+            break;
+        case 232:
+            writeAttributesTransactionStmt((TransactionStmt) node, sink);
+            break;
+        case 233:
+            writeAttributesTriggerTransition((TriggerTransition) node, sink);
+            break;
+        case 234:
+            writeAttributesTruncateStmt((TruncateStmt) node, sink);
+            break;
+        case 235:
+            writeAttributesTypeCast((TypeCast) node, sink);
+            break;
+        case 236:
+            writeAttributesTypeName((TypeName) node, sink);
+            break;
+        case 237:
+            writeAttributesUnlistenStmt((UnlistenStmt) node, sink);
+            break;
+        case 238:
+            writeAttributesUpdateStmt((UpdateStmt) node, sink);
+            break;
+        case 239:
+            writeAttributesVacuumRelation((VacuumRelation) node, sink);
+            break;
+        case 240:
+            writeAttributesVacuumStmt((VacuumStmt) node, sink);
+            break;
+        case 241:
+            writeAttributesValUnion((ValUnion) node, sink);
+            break;
+        case 242:
+            writeAttributesValue((Value) node, sink);
+            break;
+        case 243:
+            writeAttributesVariableSetStmt((VariableSetStmt) node, sink);
+            break;
+        case 244:
+            writeAttributesVariableShowStmt((VariableShowStmt) node, sink);
+            break;
+        case 245:
+            writeAttributesViewStmt((ViewStmt) node, sink);
+            break;
+        case 246:
+            writeAttributesWaitStmt((WaitStmt) node, sink);
+            break;
+        case 247:
+            writeAttributesWindowDef((WindowDef) node, sink);
+            break;
+        case 248:
+            writeAttributesWithClause((WithClause) node, sink);
+            break;
+        case 249:
+            writeAttributesXmlExpr((XmlExpr) node, sink);
+            break;
+        case 250:
+            writeAttributesXmlSerialize((XmlSerialize) node, sink);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Writes the child elements of a node
+     *
+     * @param index
+     *            The index of the class of the node
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    public static void writeElements(int index, Object node, Sink sink, int depth) throws XMLStreamException {
+        switch (index) {
+        case 1:
+            writeElementsA_ArrayExpr((A_ArrayExpr) node, sink, depth);
+            break;
+        case 2:
+            writeElementsA_Const((A_Const) node, sink, depth);
+            break;
+        case 3:
+            writeElementsA_Expr((A_Expr) node, sink, depth);
+            break;
+        case 4:
+            writeElementsA_Indices((A_Indices) node, sink, depth);
+            break;
+        case 5:
+            writeElementsA_Indirection((A_Indirection) node, sink, depth);
+            break;
+        case 7:
+            writeElementsAbstractPublicationStmt((AbstractPublicationStmt) node, sink, depth);
+            break;
+        case 8:
+            writeElementsAccessPriv((AccessPriv) node, sink, depth);
+            break;
+        case 9:
+            writeElementsAlias((Alias) node, sink, depth);
+            break;
+        case 12:
+            writeElementsAlterDatabaseSetStmt((AlterDatabaseSetStmt) node, sink, depth);
+            break;
+        case 13:
+            writeElementsAlterDatabaseStmt((AlterDatabaseStmt) node, sink, depth);
+            break;
+        case 14:
+            writeElementsAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node, sink, depth);
+            break;
+        case 15:
+            writeElementsAlterDomainStmt((AlterDomainStmt) node, sink, depth);
+            break;
+        case 18:
+            writeElementsAlterExtensionContentsStmt((AlterExtensionContentsStmt) node, sink, depth);
+            break;
+        case 19:
+            writeElementsAlterExtensionStmt((AlterExtensionStmt) node, sink, depth);
+            break;
+        case 20:
+            writeElementsAlterFdwStmt((AlterFdwStmt) node, sink, depth);
+            break;
+        case 21:
+            writeElementsAlterForeignServerStmt((AlterForeignServerStmt) node, sink, depth);
+            break;
+        case 22:
+            writeElementsAlterFunctionStmt((AlterFunctionStmt) node, sink, depth);
+            break;
+        case 23:
+            writeElementsAlterObjectDependsStmt((AlterObjectDependsStmt) node, sink, depth);
+            break;
+        case 24:
+            writeElementsAlterObjectSchemaStmt((AlterObjectSchemaStmt) node, sink, depth);
+            break;
+        case 25:
+            writeElementsAlterOpFamilyStmt((AlterOpFamilyStmt) node, sink, depth);
+            break;
+        case 26:
+            writeElementsAlterOperatorStmt((AlterOperatorStmt) node, sink, depth);
+            break;
+        case 27:
+            writeElementsAlterOwnerStmt((AlterOwnerStmt) node, sink, depth);
+            break;
+        case 28:
+            writeElementsAlterPolicyStmt((AlterPolicyStmt) node, sink, depth);
+            break;
+        case 29:
+            writeElementsAlterPropGraphStmt((AlterPropGraphStmt) node, sink, depth);
+            break;
+        case 30:
+            writeElementsAlterPublicationStmt((AlterPublicationStmt) node, sink, depth);
+            break;
+        case 31:
+            writeElementsAlterRoleSetStmt((AlterRoleSetStmt) node, sink, depth);
+            break;
+        case 32:
+            writeElementsAlterRoleStmt((AlterRoleStmt) node, sink, depth);
+            break;
+        case 33:
+            writeElementsAlterSeqStmt((AlterSeqStmt) node, sink, depth);
+            break;
+        case 34:
+            writeElementsAlterStatsStmt((AlterStatsStmt) node, sink, depth);
+            break;
+        case 35:
+            writeElementsAlterSubscriptionStmt((AlterSubscriptionStmt) node, sink, depth);
+            break;
+        case 36:
+            writeElementsAlterSystemStmt((AlterSystemStmt) node, sink, depth);
+            break;
+        case 37:
+            writeElementsAlterTSConfigurationStmt((AlterTSConfigurationStmt) node, sink, depth);
+            break;
+        case 38:
+            writeElementsAlterTSDictionaryStmt((AlterTSDictionaryStmt) node, sink, depth);
+            break;
+        case 39:
+            writeElementsAlterTableCmd((AlterTableCmd) node, sink, depth);
+            break;
+        case 40:
+            writeElementsAlterTableMoveAllStmt((AlterTableMoveAllStmt) node, sink, depth);
+            break;
+        case 41:
+            writeElementsAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node, sink, depth);
+            break;
+        case 42:
+            writeElementsAlterTableStmt((AlterTableStmt) node, sink, depth);
+            break;
+        case 43:
+            writeElementsAlterTypeStmt((AlterTypeStmt) node, sink, depth);
+            break;
+        case 44:
+            writeElementsAlterUserMappingStmt((AlterUserMappingStmt) node, sink, depth);
+            break;
+        case 45:
+            writeElementsBoolExpr((BoolExpr) node, sink, depth);
+            break;
+        case 46:
+            writeElementsBooleanTest((BooleanTest) node, sink, depth);
+            break;
+        case 47:
+            writeElementsCTECycleClause((CTECycleClause) node, sink, depth);
+            break;
+        case 48:
+            writeElementsCTESearchClause((CTESearchClause) node, sink, depth);
+            break;
+        case 49:
+            writeElementsCallStmt((CallStmt) node, sink, depth);
+            break;
+        case 50:
+            writeElementsCaseExpr((CaseExpr) node, sink, depth);
+            break;
+        case 51:
+            writeElementsCaseWhen((CaseWhen) node, sink, depth);
+            break;
+        case 52:
+            writeElementsCheckPointStmt((CheckPointStmt) node, sink, depth);
+            break;
+        case 54:
+            writeElementsClusterStmt((ClusterStmt) node, sink, depth);
+            break;
+        case 55:
+            writeElementsCoalesceExpr((CoalesceExpr) node, sink, depth);
+            break;
+        case 56:
+            writeElementsCollateClause((CollateClause) node, sink, depth);
+            break;
+        case 57:
+            writeElementsColumnDef((ColumnDef) node, sink, depth);
+            break;
+        case 58:
+            writeElementsColumnRef((ColumnRef) node, sink, depth);
+            break;
+        case 59:
+            writeElementsCommentStmt((CommentStmt) node, sink, depth);
+            break;
+        case 60:
+            writeElementsCommonTableExpr((CommonTableExpr) node, sink, depth);
+            break;
+        case 61:
+            writeElementsCompositeTypeStmt((CompositeTypeStmt) node, sink, depth);
+            break;
+        case 63:
+            writeElementsConstraint((Constraint) node, sink, depth);
+            break;
+        case 64:
+            writeElementsConstraintsSetStmt((ConstraintsSetStmt) node, sink, depth);
+            break;
+        case 65:
+            writeElementsCopyStmt((CopyStmt) node, sink, depth);
+            break;
+        case 66:
+            writeElementsCreateAmStmt((CreateAmStmt) node, sink, depth);
+            break;
+        case 67:
+            writeElementsCreateCastStmt((CreateCastStmt) node, sink, depth);
+            break;
+        case 68:
+            writeElementsCreateConversionStmt((CreateConversionStmt) node, sink, depth);
+            break;
+        case 69:
+            writeElementsCreateDomainStmt((CreateDomainStmt) node, sink, depth);
+            break;
+        case 70:
+            writeElementsCreateEnumStmt((CreateEnumStmt) node, sink, depth);
+            break;
+        case 71:
+            writeElementsCreateEventTrigStmt((CreateEventTrigStmt) node, sink, depth);
+            break;
+        case 72:
+            writeElementsCreateExtensionStmt((CreateExtensionStmt) node, sink, depth);
+            break;
+        case 73:
+            writeElementsCreateFdwStmt((CreateFdwStmt) node, sink, depth);
+            break;
+        case 74:
+            writeElementsCreateForeignServerStmt((CreateForeignServerStmt) node, sink, depth);
+            break;
+        case 75:
+            writeElementsCreateForeignTableStmt((CreateForeignTableStmt) node, sink, depth);
+            break;
+        case 76:
+            writeElementsCreateFunctionStmt((CreateFunctionStmt) node, sink, depth);
+            break;
+        case 77:
+            writeElementsCreateOpClassItem((CreateOpClassItem) node, sink, depth);
+            break;
+        case 78:
+            writeElementsCreateOpClassStmt((CreateOpClassStmt) node, sink, depth);
+            break;
+        case 79:
+            writeElementsCreateOpFamilyStmt((CreateOpFamilyStmt) node, sink, depth);
+            break;
+        case 80:
+            writeElementsCreatePLangStmt((CreatePLangStmt) node, sink, depth);
+            break;
+        case 81:
+            writeElementsCreatePolicyStmt((CreatePolicyStmt) node, sink, depth);
+            break;
+        case 82:
+            writeElementsCreatePropGraphStmt((CreatePropGraphStmt) node, sink, depth);
+            break;
+        case 83:
+            writeElementsCreatePublicationStmt((CreatePublicationStmt) node, sink, depth);
+            break;
+        case 84:
+            writeElementsCreateRangeStmt((CreateRangeStmt) node, sink, depth);
+            break;
+        case 85:
+            writeElementsCreateRoleStmt((CreateRoleStmt) node, sink, depth);
+            break;
+        case 86:
+            writeElementsCreateSchemaStmt((CreateSchemaStmt) node, sink, depth);
+            break;
+        case 87:
+            writeElementsCreateSeqStmt((CreateSeqStmt) node, sink, depth);
+            break;
+        case 88:
+            writeElementsCreateStatsStmt((CreateStatsStmt) node, sink, depth);
+            break;
+        case 89:
+            writeElementsCreateStmt((CreateStmt) node, sink, depth);
+            break;
+        case 90:
+            writeElementsCreateSubscriptionStmt((CreateSubscriptionStmt) node, sink, depth);
+            break;
+        case 91:
+            writeElementsCreateTableAsStmt((CreateTableAsStmt) node, sink, depth);
+            break;
+        case 92:
+            writeElementsCreateTableSpaceStmt((CreateTableSpaceStmt) node, sink, depth);
+            break;
+        case 93:
+            writeElementsCreateTransformStmt((CreateTransformStmt) node, sink, depth);
+            break;
+        case 94:
+            writeElementsCreateTrigStmt((CreateTrigStmt) node, sink, depth);
+            break;
+        case 95:
+            writeElementsCreateUserMappingStmt((CreateUserMappingStmt) node, sink, depth);
+            break;
+        case 96:
+            writeElementsCreatedbStmt((CreatedbStmt) node, sink, depth);
+            break;
+        case 99:
+            writeElementsDeclareCursorStmt((DeclareCursorStmt) node, sink, depth);
+            break;
+        case 100:
+            writeElementsDefElem((DefElem) node, sink, depth);
+            break;
+        case 101:
+            writeElementsDefineStmt((DefineStmt) node, sink, depth);
+            break;
+        case 102:
+            writeElementsDeleteStmt((DeleteStmt) node, sink, depth);
+            break;
+        case 104:
+            writeElementsDoStmt((DoStmt) node, sink, depth);
+            break;
+        case 105:
+            writeElementsDropOwnedStmt((DropOwnedStmt) node, sink, depth);
+            break;
+        case 106:
+            writeElementsDropRoleStmt((DropRoleStmt) node, sink, depth);
+            break;
+        case 107:
+            writeElementsDropStmt((DropStmt) node, sink, depth);
+            break;
+        case 110:
+            writeElementsDropUserMappingStmt((DropUserMappingStmt) node, sink, depth);
+            break;
+        case 111:
+            writeElementsDropdbStmt((DropdbStmt) node, sink, depth);
+            break;
+        case 115:
+            writeElementsErrorSaveContext((ErrorSaveContext) node, sink, depth);
+            break;
+        case 116:
+            writeElementsExecuteStmt((ExecuteStmt) node, sink, depth);
+            break;
+        case 117:
+            writeElementsExplainStmt((ExplainStmt) node, sink, depth);
+            break;
+        case 120:
+            writeElementsForPortionOfClause((ForPortionOfClause) node, sink, depth);
+            break;
+        case 121:
+            writeElementsFuncCall((FuncCall) node, sink, depth);
+            break;
+        case 122:
+            writeElementsFunctionParameter((FunctionParameter) node, sink, depth);
+            break;
+        case 123:
+            writeElementsGrantRoleStmt((GrantRoleStmt) node, sink, depth);
+            break;
+        case 124:
+            writeElementsGrantStmt((GrantStmt) node, sink, depth);
+            break;
+        case 125:
+            writeElementsGraphElementPattern((GraphElementPattern) node, sink, depth);
+            break;
+        case 126:
+            writeElementsGraphPattern((GraphPattern) node, sink, depth);
+            break;
+        case 127:
+            writeElementsGroupClause((GroupClause) node, sink, depth);
+            break;
+        case 128:
+            writeElementsGroupingFunc((GroupingFunc) node, sink, depth);
+            break;
+        case 129:
+            writeElementsGroupingSet((GroupingSet) node, sink, depth);
+            break;
+        case 130:
+            writeElementsImportForeignSchemaStmt((ImportForeignSchemaStmt) node, sink, depth);
+            break;
+        case 131:
+            writeElementsImportQual((ImportQual) node, sink, depth);
+            break;
+        case 132:
+            writeElementsIndexElem((IndexElem) node, sink, depth);
+            break;
+        case 133:
+            writeElementsIndexStmt((IndexStmt) node, sink, depth);
+            break;
+        case 134:
+            writeElementsInferClause((InferClause) node, sink, depth);
+            break;
+        case 135:
+            writeElementsInsertStmt((InsertStmt) node, sink, depth);
+            break;
+        case 136:
+            writeElementsIntoClause((IntoClause) node, sink, depth);
+            break;
+        case 137:
+            writeElementsJoinExpr((JoinExpr) node, sink, depth);
+            break;
+        case 138:
+            writeElementsJsonAggConstructor((JsonAggConstructor) node, sink, depth);
+            break;
+        case 139:
+            writeElementsJsonArgument((JsonArgument) node, sink, depth);
+            break;
+        case 140:
+            writeElementsJsonArrayAgg((JsonArrayAgg) node, sink, depth);
+            break;
+        case 141:
+            writeElementsJsonArrayConstructor((JsonArrayConstructor) node, sink, depth);
+            break;
+        case 142:
+            writeElementsJsonArrayQueryConstructor((JsonArrayQueryConstructor) node, sink, depth);
+            break;
+        case 143:
+            writeElementsJsonBehavior((JsonBehavior) node, sink, depth);
+            break;
+        case 145:
+            writeElementsJsonFuncExpr((JsonFuncExpr) node, sink, depth);
+            break;
+        case 146:
+            writeElementsJsonIsPredicate((JsonIsPredicate) node, sink, depth);
+            break;
+        case 147:
+            writeElementsJsonKeyValue((JsonKeyValue) node, sink, depth);
+            break;
+        case 148:
+            writeElementsJsonObjectAgg((JsonObjectAgg) node, sink, depth);
+            break;
+        case 149:
+            writeElementsJsonObjectConstructor((JsonObjectConstructor) node, sink, depth);
+            break;
+        case 150:
+            writeElementsJsonOutput((JsonOutput) node, sink, depth);
+            break;
+        case 151:
+            writeElementsJsonParseExpr((JsonParseExpr) node, sink, depth);
+            break;
+        case 152:
+            writeElementsJsonReturning((JsonReturning) node, sink, depth);
+            break;
+        case 153:
+            writeElementsJsonScalarExpr((JsonScalarExpr) node, sink, depth);
+            break;
+        case 154:
+            writeElementsJsonSerializeExpr((JsonSerializeExpr) node, sink, depth);
+            break;
+        case 155:
+            writeElementsJsonTable((JsonTable) node, sink, depth);
+            break;
+        case 156:
+            writeElementsJsonTableColumn((JsonTableColumn) node, sink, depth);
+            break;
+        case 157:
+            writeElementsJsonTablePathSpec((JsonTablePathSpec) node, sink, depth);
+            break;
+        case 158:
+            writeElementsJsonTablePlanSpec((JsonTablePlanSpec) node, sink, depth);
+            break;
+        case 159:
+            writeElementsJsonValueExpr((JsonValueExpr) node, sink, depth);
+            break;
+        case 160:
+            writeElementsKeyAction((KeyAction) node, sink, depth);
+            break;
+        case 161:
+            writeElementsKeyActions((KeyActions) node, sink, depth);
+            break;
+        case 162:
+            writeElementsList((List<?>) node, sink, depth);
+            break;
+        case 163:
+            writeElementsListCell((ListCell<?>) node, sink, depth);
+            break;
+        case 166:
+            writeElementsLocation((Location) node, sink, depth);
+            break;
+        case 167:
+            writeElementsLockStmt((LockStmt) node, sink, depth);
+            break;
+        case 168:
+            writeElementsLockingClause((LockingClause) node, sink, depth);
+            break;
+        case 169:
+            writeElementsMergeStmt((MergeStmt) node, sink, depth);
+            break;
+        case 170:
+            writeElementsMergeSupportFunc((MergeSupportFunc) node, sink, depth);
+            break;
+        case 171:
+            writeElementsMergeWhenClause((MergeWhenClause) node, sink, depth);
+            break;
+        case 172:
+            writeElementsMinMaxExpr((MinMaxExpr) node, sink, depth);
+            break;
+        case 173:
+            writeElementsMultiAssignRef((MultiAssignRef) node, sink, depth);
+            break;
+        case 174:
+            writeElementsNamedArgExpr((NamedArgExpr) node, sink, depth);
+            break;
+        case 177:
+            writeElementsNullTest((NullTest) node, sink, depth);
+            break;
+        case 178:
+            writeElementsObjectWithArgs((ObjectWithArgs) node, sink, depth);
+            break;
+        case 180:
+            writeElementsOnConflictClause((OnConflictClause) node, sink, depth);
+            break;
+        case 181:
+            writeElementsPLAssignStmt((PLAssignStmt) node, sink, depth);
+            break;
+        case 183:
+            writeElementsPartitionBoundSpec((PartitionBoundSpec) node, sink, depth);
+            break;
+        case 184:
+            writeElementsPartitionCmd((PartitionCmd) node, sink, depth);
+            break;
+        case 185:
+            writeElementsPartitionElem((PartitionElem) node, sink, depth);
+            break;
+        case 186:
+            writeElementsPartitionRangeDatum((PartitionRangeDatum) node, sink, depth);
+            break;
+        case 187:
+            writeElementsPartitionSpec((PartitionSpec) node, sink, depth);
+            break;
+        case 189:
+            writeElementsPrepareStmt((PrepareStmt) node, sink, depth);
+            break;
+        case 190:
+            writeElementsPrivTarget((PrivTarget) node, sink, depth);
+            break;
+        case 191:
+            writeElementsPropGraphEdge((PropGraphEdge) node, sink, depth);
+            break;
+        case 192:
+            writeElementsPropGraphLabelAndProperties((PropGraphLabelAndProperties) node, sink, depth);
+            break;
+        case 193:
+            writeElementsPropGraphProperties((PropGraphProperties) node, sink, depth);
+            break;
+        case 194:
+            writeElementsPropGraphVertex((PropGraphVertex) node, sink, depth);
+            break;
+        case 195:
+            writeElementsPublicationAllObjSpec((PublicationAllObjSpec) node, sink, depth);
+            break;
+        case 196:
+            writeElementsPublicationObjSpec((PublicationObjSpec) node, sink, depth);
+            break;
+        case 197:
+            writeElementsPublicationTable((PublicationTable) node, sink, depth);
+            break;
+        case 198:
+            writeElementsRangeFunction((RangeFunction) node, sink, depth);
+            break;
+        case 199:
+            writeElementsRangeGraphTable((RangeGraphTable) node, sink, depth);
+            break;
+        case 200:
+            writeElementsRangeSubselect((RangeSubselect) node, sink, depth);
+            break;
+        case 201:
+            writeElementsRangeTableFunc((RangeTableFunc) node, sink, depth);
+            break;
+        case 202:
+            writeElementsRangeTableFuncCol((RangeTableFuncCol) node, sink, depth);
+            break;
+        case 203:
+            writeElementsRangeTableSample((RangeTableSample) node, sink, depth);
+            break;
+        case 204:
+            writeElementsRangeVar((RangeVar) node, sink, depth);
+            break;
+        case 205:
+            writeElementsRawStmt((RawStmt) node, sink, depth);
+            break;
+        case 206:
+            writeElementsReassignOwnedStmt((ReassignOwnedStmt) node, sink, depth);
+            break;
+        case 207:
+            writeElementsRefreshMatViewStmt((RefreshMatViewStmt) node, sink, depth);
+            break;
+        case 208:
+            writeElementsReindexStmt((ReindexStmt) node, sink, depth);
+            break;
+        case 210:
+            writeElementsRenameStmt((RenameStmt) node, sink, depth);
+            break;
+        case 211:
+            writeElementsRepackStmt((RepackStmt) node, sink, depth);
+            break;
+        case 213:
+            writeElementsResTarget((ResTarget) node, sink, depth);
+            break;
+        case 214:
+            writeElementsReturnStmt((ReturnStmt) node, sink, depth);
+            break;
+        case 215:
+            writeElementsReturningClause((ReturningClause) node, sink, depth);
+            break;
+        case 218:
+            writeElementsRowExpr((RowExpr) node, sink, depth);
+            break;
+        case 219:
+            writeElementsRuleStmt((RuleStmt) node, sink, depth);
+            break;
+        case 221:
+            writeElementsSecLabelStmt((SecLabelStmt) node, sink, depth);
+            break;
+        case 222:
+            writeElementsSelectLimit((SelectLimit) node, sink, depth);
+            break;
+        case 223:
+            writeElementsSelectStmt((SelectStmt) node, sink, depth);
+            break;
+        case 225:
+            writeElementsSinglePartitionSpec((SinglePartitionSpec) node, sink, depth);
+            break;
+        case 226:
+            writeElementsSortBy((SortBy) node, sink, depth);
+            break;
+        case 227:
+            writeElementsStatsElem((StatsElem) node, sink, depth);
+            break;
+        case 230:
+            writeElementsSubLink((SubLink) node, sink, depth);
+            break;
+        case 231:
+            writeElementsTableLikeClause((TableLikeClause) node, sink, depth);
+            break;
+        case 232:
+            writeElementsTransactionStmt((TransactionStmt) node, sink, depth);
+            break;
+        case 234:
+            writeElementsTruncateStmt((TruncateStmt) node, sink, depth);
+            break;
+        case 235:
+            writeElementsTypeCast((TypeCast) node, sink, depth);
+            break;
+        case 236:
+            writeElementsTypeName((TypeName) node, sink, depth);
+            break;
+        case 238:
+            writeElementsUpdateStmt((UpdateStmt) node, sink, depth);
+            break;
+        case 239:
+            writeElementsVacuumRelation((VacuumRelation) node, sink, depth);
+            break;
+        case 240:
+            writeElementsVacuumStmt((VacuumStmt) node, sink, depth);
+            break;
+        case 242:
+            writeElementsValue((Value) node, sink, depth);
+            break;
+        case 243:
+            writeElementsVariableSetStmt((VariableSetStmt) node, sink, depth);
+            break;
+        case 245:
+            writeElementsViewStmt((ViewStmt) node, sink, depth);
+            break;
+        case 246:
+            writeElementsWaitStmt((WaitStmt) node, sink, depth);
+            break;
+        case 247:
+            writeElementsWindowDef((WindowDef) node, sink, depth);
+            break;
+        case 248:
+            writeElementsWithClause((WithClause) node, sink, depth);
+            break;
+        case 249:
+            writeElementsXmlExpr((XmlExpr) node, sink, depth);
+            break;
+        case 250:
+            writeElementsXmlSerialize((XmlSerialize) node, sink, depth);
+            break;
+        case 251:
+            writeElementscore_yy_extra_type((core_yy_extra_type) node, sink, depth);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Writes the attributes of a {@link ATAlterConstraint}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesATAlterConstraint(ATAlterConstraint node, Sink sink) throws XMLStreamException {
+        sink.attribute("conname", node.conname);
+        sink.attribute("alterEnforceability", node.alterEnforceability);
+        sink.attribute("isEnforced", node.is_enforced);
+        sink.attribute("alterDeferrability", node.alterDeferrability);
+        sink.attribute("deferrable", node.deferrable);
+        sink.attribute("initdeferred", node.initdeferred);
+        sink.attribute("alterInheritability", node.alterInheritability);
+        sink.attribute("noinherit", node.noinherit);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link A_ArrayExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentA_ArrayExpr(A_ArrayExpr node) {
+        return node.elements != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesA_ArrayExpr(A_ArrayExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsA_ArrayExpr(A_ArrayExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("elements", "element", Node.class, false, node.elements, depth);
+    }
+
+    /**
+     * Tells if a {@link A_Const} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentA_Const(A_Const node) {
+        return node.val != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link A_Const}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesA_Const(A_Const node, Sink sink) throws XMLStreamException {
+        sink.attribute("isnull", node.isnull);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link A_Const}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsA_Const(A_Const node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "val", Value.class, false, node.val, depth);
+    }
+
+    /**
+     * Tells if a {@link A_Expr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentA_Expr(A_Expr node) {
+        return node.name != null
+                || node.lexpr != null
+                || node.rexpr != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link A_Expr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesA_Expr(A_Expr node, Sink sink) throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link A_Expr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsA_Expr(A_Expr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("name", "nameNode", Value.class, false, node.name, depth);
+        sink.element(null, "lexpr", Node.class, false, node.lexpr, depth);
+        sink.element(null, "rexpr", Node.class, false, node.rexpr, depth);
+    }
+
+    /**
+     * Tells if a {@link A_Indices} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentA_Indices(A_Indices node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link A_Indices}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesA_Indices(A_Indices node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link A_Indices}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsA_Indices(A_Indices node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "lidx", Node.class, false, node.lidx, depth);
+        sink.element(null, "uidx", Node.class, false, node.uidx, depth);
+        sink.element(null, "is_slice", boolean.class, false, node.is_slice, depth);
+    }
+
+    /**
+     * Tells if a {@link A_Indirection} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentA_Indirection(A_Indirection node) {
+        return node.arg != null
+                || node.indirection != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link A_Indirection}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesA_Indirection(A_Indirection node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link A_Indirection}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsA_Indirection(A_Indirection node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Node.class, false, node.arg, depth);
+        sink.elements("indirection", "subscriptOrfieldName", Node.class, false, node.indirection, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link A_Star}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesA_Star(A_Star node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link AbstractPublicationStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAbstractPublicationStmt(AbstractPublicationStmt node) {
+        return node.options != null
+                || node.pubobjects != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AbstractPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAbstractPublicationStmt(AbstractPublicationStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("pubname", node.pubname);
+        sink.attribute("forAllTables", node.for_all_tables);
+        sink.attribute("forAllSequences", node.for_all_sequences);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AbstractPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAbstractPublicationStmt(AbstractPublicationStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.elements("pubobjects", "pubobject", PublicationObjSpec.class, false, node.pubobjects, depth);
+    }
+
+    /**
+     * Tells if a {@link AccessPriv} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAccessPriv(AccessPriv node) {
+        return node.cols != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AccessPriv}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAccessPriv(AccessPriv node, Sink sink) throws XMLStreamException {
+        sink.attribute("privName", node.priv_name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AccessPriv}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAccessPriv(AccessPriv node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("cols", "col", Node.class, false, node.cols, depth);
+    }
+
+    /**
+     * Tells if a {@link Alias} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlias(Alias node) {
+        return node.colnames != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link Alias}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlias(Alias node, Sink sink) throws XMLStreamException {
+        sink.attribute("aliasname", node.aliasname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link Alias}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlias(Alias node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("colnames", "colname", Value.class, false, node.colnames, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterCollationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterCollationStmt(AlterCollationStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("collname", node.getQualifiedCollationName());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterDatabaseRefreshCollStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterDatabaseRefreshCollStmt(AlterDatabaseRefreshCollStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("dbname", node.dbname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link AlterDatabaseSetStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterDatabaseSetStmt(AlterDatabaseSetStmt node) {
+        return node.setstmt != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterDatabaseSetStmt(AlterDatabaseSetStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("dbname", node.dbname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterDatabaseSetStmt(AlterDatabaseSetStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "setstmt", VariableSetStmt.class, false, node.setstmt, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterDatabaseStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterDatabaseStmt(AlterDatabaseStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterDatabaseStmt(AlterDatabaseStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("dbname", node.dbname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterDatabaseStmt(AlterDatabaseStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterDefaultPrivilegesStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node) {
+        return node.options != null
+                || node.action != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "action", GrantStmt.class, false, node.action, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterDomainStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterDomainStmt(AlterDomainStmt node) {
+        return node.typeName != null
+                || node.def != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterDomainStmt(AlterDomainStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("subtype", node.subtype);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("name", node.name);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterDomainStmt(AlterDomainStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("typeName", "nameNode", Value.class, false, node.typeName, depth);
+        sink.element(null, "def", Node.class, false, node.def, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterEnumStmt(AlterEnumStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("oldVal", node.oldVal);
+        sink.attribute("newVal", node.newVal);
+        sink.attribute("newValNeighbor", node.newValNeighbor);
+        sink.attribute("newValIsAfter", node.newValIsAfter);
+        sink.attribute("skipIfNewValExists", node.skipIfNewValExists);
+        sink.attribute("typeName", node.getQualifiedTypeName());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterEventTrigStmt(AlterEventTrigStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("trigname", node.trigname);
+        sink.attribute("tgenabled", node.tgenabled);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link AlterExtensionContentsStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterExtensionContentsStmt(AlterExtensionContentsStmt node) {
+        return node.object != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterExtensionContentsStmt(AlterExtensionContentsStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("extname", node.extname);
+        sink.attribute("action", node.action);
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterExtensionContentsStmt(AlterExtensionContentsStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "object", Node.class, false, node.object, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterExtensionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterExtensionStmt(AlterExtensionStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterExtensionStmt(AlterExtensionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("extname", node.extname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterExtensionStmt(AlterExtensionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterFdwStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterFdwStmt(AlterFdwStmt node) {
+        return node.func_options != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterFdwStmt(AlterFdwStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("fdwname", node.fdwname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterFdwStmt(AlterFdwStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("func_options", "func_option", DefElem.class, false, node.func_options, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterForeignServerStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterForeignServerStmt(AlterForeignServerStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterForeignServerStmt(AlterForeignServerStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("servername", node.servername);
+        sink.attribute("version", node.version);
+        sink.attribute("hasVersion", node.has_version);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterForeignServerStmt(AlterForeignServerStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterFunctionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterFunctionStmt(AlterFunctionStmt node) {
+        return node.func != null
+                || node.actions != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterFunctionStmt(AlterFunctionStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterFunctionStmt(AlterFunctionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "func", Node.class, false, node.func, depth);
+        sink.elements("actions", "action", DefElem.class, false, node.actions, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterObjectDependsStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterObjectDependsStmt(AlterObjectDependsStmt node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterObjectDependsStmt(AlterObjectDependsStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("objectType", node.objectType);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterObjectDependsStmt(AlterObjectDependsStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "object", Node.class, false, node.object, depth);
+        sink.element(null, "extname", Value.class, false, node.extname, depth);
+        sink.element(null, "remove", boolean.class, false, node.remove, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterObjectSchemaStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterObjectSchemaStmt(AlterObjectSchemaStmt node) {
+        return node.relation != null
+                || node.object != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterObjectSchemaStmt(AlterObjectSchemaStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("objectType", node.objectType);
+        sink.attribute("newschema", node.newschema);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterObjectSchemaStmt(AlterObjectSchemaStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "object", Node.class, false, node.object, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterOpFamilyStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterOpFamilyStmt(AlterOpFamilyStmt node) {
+        return node.opfamilyname != null
+                || node.items != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterOpFamilyStmt(AlterOpFamilyStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("amname", node.amname);
+        sink.attribute("isDrop", node.isDrop);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterOpFamilyStmt(AlterOpFamilyStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("opfamilyname", "nameNode", Value.class, false, node.opfamilyname, depth);
+        sink.elements("items", "item", CreateOpClassItem.class, false, node.items, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterOperatorStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterOperatorStmt(AlterOperatorStmt node) {
+        return node.opername != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterOperatorStmt(AlterOperatorStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterOperatorStmt(AlterOperatorStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "opername", Node.class, false, node.opername, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterOwnerStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterOwnerStmt(AlterOwnerStmt node) {
+        return node.relation != null
+                || node.object != null
+                || node.newowner != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterOwnerStmt(AlterOwnerStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("objectType", node.objectType);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterOwnerStmt(AlterOwnerStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "object", Node.class, false, node.object, depth);
+        sink.element(null, "newowner", Node.class, false, node.newowner, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterPolicyStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterPolicyStmt(AlterPolicyStmt node) {
+        return node.table != null
+                || node.roles != null
+                || node.qual != null
+                || node.with_check != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterPolicyStmt(AlterPolicyStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("policyName", node.policy_name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterPolicyStmt(AlterPolicyStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "table", RangeVar.class, false, node.table, depth);
+        sink.elements("roles", "role", RoleSpec.class, false, node.roles, depth);
+        sink.element(null, "qual", Node.class, false, node.qual, depth);
+        sink.element(null, "with_check", Node.class, false, node.with_check, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterPropGraphStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterPropGraphStmt(AlterPropGraphStmt node) {
+        return node.pgname != null
+                || node.add_vertex_tables != null
+                || node.add_edge_tables != null
+                || node.drop_vertex_tables != null
+                || node.drop_edge_tables != null
+                || node.add_labels != null
+                || node.add_properties != null
+                || node.drop_properties != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterPropGraphStmt(AlterPropGraphStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("dropBehavior", node.drop_behavior);
+        sink.attribute("elementKind", node.element_kind);
+        sink.attribute("elementAlias", node.element_alias);
+        sink.attribute("dropLabel", node.drop_label);
+        sink.attribute("alterLabel", node.alter_label);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterPropGraphStmt(AlterPropGraphStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "pgname", RangeVar.class, false, node.pgname, depth);
+        sink.elements("add_vertex_tables", "add_vertex_table", Node.class, false, node.add_vertex_tables, depth);
+        sink.elements("add_edge_tables", "add_edge_table", Node.class, false, node.add_edge_tables, depth);
+        sink.elements("drop_vertex_tables", "drop_vertex_table", Node.class, false, node.drop_vertex_tables, depth);
+        sink.elements("drop_edge_tables", "drop_edge_table", Node.class, false, node.drop_edge_tables, depth);
+        sink.elements("add_labels", "add_label", PropGraphLabelAndProperties.class, false, node.add_labels, depth);
+        sink.element(null, "add_properties", PropGraphProperties.class, false, node.add_properties, depth);
+        sink.elements("drop_properties", "drop_propertie", Node.class, false, node.drop_properties, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterPublicationStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterPublicationStmt(AlterPublicationStmt node) {
+        return node.options != null
+                || node.pubobjects != null
+                || node.action != null
+                || node.tables != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterPublicationStmt(AlterPublicationStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("tableAction", node.tableAction);
+        sink.attribute("pubname", node.pubname);
+        sink.attribute("forAllTables", node.for_all_tables);
+        sink.attribute("forAllSequences", node.for_all_sequences);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterPublicationStmt(AlterPublicationStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.elements("pubobjects", "pubobject", PublicationObjSpec.class, false, node.pubobjects, depth);
+        sink.element(null, "action", AlterPublicationAction.class, false, node.action, depth);
+        sink.elements("tables", "table", Node.class, false, node.tables, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterRoleSetStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterRoleSetStmt(AlterRoleSetStmt node) {
+        return node.role != null
+                || node.setstmt != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterRoleSetStmt(AlterRoleSetStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("database", node.database);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterRoleSetStmt(AlterRoleSetStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "role", Node.class, false, node.role, depth);
+        sink.element(null, "setstmt", VariableSetStmt.class, false, node.setstmt, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterRoleStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterRoleStmt(AlterRoleStmt node) {
+        return node.role != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterRoleStmt(AlterRoleStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("action", node.action);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterRoleStmt(AlterRoleStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "role", Node.class, false, node.role, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterSeqStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterSeqStmt(AlterSeqStmt node) {
+        return node.sequence != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterSeqStmt(AlterSeqStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterSeqStmt(AlterSeqStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "sequence", RangeVar.class, false, node.sequence, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterStatsStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterStatsStmt(AlterStatsStmt node) {
+        return node.defnames != null
+                || node.stxstattarget != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterStatsStmt(AlterStatsStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterStatsStmt(AlterStatsStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("defnames", "defname", Value.class, false, node.defnames, depth);
+        sink.element(null, "stxstattarget", Node.class, false, node.stxstattarget, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterSubscriptionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterSubscriptionStmt(AlterSubscriptionStmt node) {
+        return node.publication != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterSubscriptionStmt(AlterSubscriptionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("subname", node.subname);
+        sink.attribute("servername", node.servername);
+        sink.attribute("conninfo", node.conninfo);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterSubscriptionStmt(AlterSubscriptionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("publication", "publication", Value.class, false, node.publication, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterSystemStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterSystemStmt(AlterSystemStmt node) {
+        return node.setstmt != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterSystemStmt(AlterSystemStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterSystemStmt(AlterSystemStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "setstmt", VariableSetStmt.class, false, node.setstmt, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTSConfigurationStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTSConfigurationStmt(AlterTSConfigurationStmt node) {
+        return node.cfgname != null
+                || node.tokentype != null
+                || node.dicts != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTSConfigurationStmt(AlterTSConfigurationStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("override", node.override);
+        sink.attribute("replace", node.replace);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTSConfigurationStmt(AlterTSConfigurationStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("cfgname", "cfgNameNode", Value.class, false, node.cfgname, depth);
+        sink.elements("tokentype", "tokenTypeNode", Value.class, false, node.tokentype, depth);
+        sink.elements("dicts", "dict", List.class, false, node.dicts, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTSDictionaryStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTSDictionaryStmt(AlterTSDictionaryStmt node) {
+        return node.dictname != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTSDictionaryStmt(AlterTSDictionaryStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTSDictionaryStmt(AlterTSDictionaryStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("dictname", "nameNode", Value.class, false, node.dictname, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTableCmd} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTableCmd(AlterTableCmd node) {
+        return node.newowner != null
+                || node.def != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTableCmd(AlterTableCmd node, Sink sink) throws XMLStreamException {
+        sink.attribute("subtype", node.subtype);
+        sink.attribute("name", node.name);
+        sink.attribute("num", node.num);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTableCmd(AlterTableCmd node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "newowner", Node.class, false, node.newowner, depth);
+        sink.element(null, "def", Node.class, false, node.def, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTableMoveAllStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTableMoveAllStmt(AlterTableMoveAllStmt node) {
+        return node.roles != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTableMoveAllStmt(AlterTableMoveAllStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("origTablespacename", node.orig_tablespacename);
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("newTablespacename", node.new_tablespacename);
+        sink.attribute("nowait", node.nowait);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTableMoveAllStmt(AlterTableMoveAllStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("roles", "role", Node.class, false, node.roles, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTableSpaceOptionsStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("tablespacename", node.tablespacename);
+        sink.attribute("isReset", node.isReset);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTableStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTableStmt(AlterTableStmt node) {
+        return node.relation != null
+                || node.cmds != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTableStmt(AlterTableStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTableStmt(AlterTableStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("cmds", "cmd_name", AlterTableCmd.class, false, node.cmds, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterTypeStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterTypeStmt(AlterTypeStmt node) {
+        return node.typeName != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterTypeStmt(AlterTypeStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterTypeStmt(AlterTypeStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("typeName", "typeNameNode", Value.class, false, node.typeName, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link AlterUserMappingStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentAlterUserMappingStmt(AlterUserMappingStmt node) {
+        return node.user != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesAlterUserMappingStmt(AlterUserMappingStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("servername", node.servername);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsAlterUserMappingStmt(AlterUserMappingStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "user", Node.class, false, node.user, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link BoolExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentBoolExpr(BoolExpr node) {
+        return node.args != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link BoolExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesBoolExpr(BoolExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("boolop", node.boolop);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link BoolExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsBoolExpr(BoolExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+    }
+
+    /**
+     * Tells if a {@link BooleanTest} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentBooleanTest(BooleanTest node) {
+        return node.arg != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link BooleanTest}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesBooleanTest(BooleanTest node, Sink sink) throws XMLStreamException {
+        sink.attribute("booltesttype", node.booltesttype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link BooleanTest}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsBooleanTest(BooleanTest node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Expr.class, false, node.arg, depth);
+    }
+
+    /**
+     * Tells if a {@link CTECycleClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCTECycleClause(CTECycleClause node) {
+        return node.cycle_col_list != null
+                || node.cycle_mark_value != null
+                || node.cycle_mark_default != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCTECycleClause(CTECycleClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("cycleMarkColumn", node.cycle_mark_column);
+        sink.attribute("cyclePathColumn", node.cycle_path_column);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCTECycleClause(CTECycleClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("search_col_list", "search_col", Value.class, false, node.cycle_col_list, depth);
+        sink.element(null, "cycle_mark_value", Node.class, false, node.cycle_mark_value, depth);
+        sink.element(null, "cycle_mark_default", Node.class, false, node.cycle_mark_default, depth);
+    }
+
+    /**
+     * Tells if a {@link CTESearchClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCTESearchClause(CTESearchClause node) {
+        return node.search_col_list != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCTESearchClause(CTESearchClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("searchBreadthFirst", node.search_breadth_first);
+        sink.attribute("searchSeqColumn", node.search_seq_column);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCTESearchClause(CTESearchClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("search_col_list", "search_col", Value.class, false, node.search_col_list, depth);
+    }
+
+    /**
+     * Tells if a {@link CallStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCallStmt(CallStmt node) {
+        return node.funccall != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CallStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCallStmt(CallStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CallStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCallStmt(CallStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "funccall", FuncCall.class, false, node.funccall, depth);
+    }
+
+    /**
+     * Tells if a {@link CaseExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCaseExpr(CaseExpr node) {
+        return node.casetype != null
+                || node.arg != null
+                || node.args != null
+                || node.defresult != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CaseExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCaseExpr(CaseExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CaseExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCaseExpr(CaseExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "casetype", Oid.class, false, node.casetype, depth);
+        sink.element(null, "arg", Expr.class, false, node.arg, depth);
+        sink.elements("args", "arg", CaseWhen.class, false, node.args, depth);
+        sink.element(null, "defresult", Expr.class, false, node.defresult, depth);
+    }
+
+    /**
+     * Tells if a {@link CaseWhen} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCaseWhen(CaseWhen node) {
+        return node.expr != null
+                || node.result != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CaseWhen}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCaseWhen(CaseWhen node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CaseWhen}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCaseWhen(CaseWhen node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", Expr.class, false, node.expr, depth);
+        sink.element(null, "result", Expr.class, false, node.result, depth);
+    }
+
+    /**
+     * Tells if a {@link CheckPointStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCheckPointStmt(CheckPointStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCheckPointStmt(CheckPointStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCheckPointStmt(CheckPointStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ClosePortalStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesClosePortalStmt(ClosePortalStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("portalname", node.portalname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link ClusterStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentClusterStmt(ClusterStmt node) {
+        return node.relation != null
+                || node.params != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesClusterStmt(ClusterStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("indexname", node.indexname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsClusterStmt(ClusterStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("params", "param", DefElem.class, false, node.params, depth);
+    }
+
+    /**
+     * Tells if a {@link CoalesceExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCoalesceExpr(CoalesceExpr node) {
+        return node.args != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCoalesceExpr(CoalesceExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCoalesceExpr(CoalesceExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+    }
+
+    /**
+     * Tells if a {@link CollateClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCollateClause(CollateClause node) {
+        return node.arg != null
+                || node.collname != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CollateClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCollateClause(CollateClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CollateClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCollateClause(CollateClause node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Node.class, false, node.arg, depth);
+        sink.elements("collname", "nameNode", Value.class, false, node.collname, depth);
+    }
+
+    /**
+     * Tells if a {@link ColumnDef} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentColumnDef(ColumnDef node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link ColumnDef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesColumnDef(ColumnDef node, Sink sink) throws XMLStreamException {
+        sink.attribute("colname", node.colname);
+        sink.attribute("compression", node.compression);
+        sink.attribute("inhcount", node.inhcount);
+        sink.attribute("isLocal", node.is_local);
+        sink.attribute("isNotNull", node.is_not_null);
+        sink.attribute("isFromType", node.is_from_type);
+        sink.attribute("isFromParent", node.is_from_parent);
+        sink.attribute("storageName", node.storage_name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ColumnDef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsColumnDef(ColumnDef node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+        sink.element(null, "storage", char.class, false, node.storage, depth);
+        sink.element(null, "raw_default", Node.class, false, node.raw_default, depth);
+        sink.element(null, "cooked_default", Node.class, false, node.cooked_default, depth);
+        sink.element(null, "collClause", CollateClause.class, false, node.collClause, depth);
+        sink.element(null, "collOid", Oid.class, false, node.collOid, depth);
+        sink.elements("constraints", "constraint", Constraint.class, false, node.constraints, depth);
+        sink.elements("fdwoptions", "fdwoption", DefElem.class, false, node.fdwoptions, depth);
+    }
+
+    /**
+     * Tells if a {@link ColumnRef} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentColumnRef(ColumnRef node) {
+        return node.fields != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ColumnRef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesColumnRef(ColumnRef node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ColumnRef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsColumnRef(ColumnRef node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("fields", "field", Node.class, false, node.fields, depth);
+    }
+
+    /**
+     * Tells if a {@link CommentStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCommentStmt(CommentStmt node) {
+        return node.object != null
+                || node.comment != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CommentStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCommentStmt(CommentStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CommentStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCommentStmt(CommentStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "object", Node.class, false, node.object, depth);
+        sink.element(null, "comment", String.class, false, node.comment, depth);
+    }
+
+    /**
+     * Tells if a {@link CommonTableExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCommonTableExpr(CommonTableExpr node) {
+        return node.aliascolnames != null
+                || node.ctequery != null
+                || node.search_clause != null
+                || node.cycle_clause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCommonTableExpr(CommonTableExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("ctename", node.ctename);
+        sink.attribute("ctematerialized", node.ctematerialized);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCommonTableExpr(CommonTableExpr node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("aliascolnames", "aliascolname", Value.class, false, node.aliascolnames, depth);
+        sink.element(null, "ctequery", Node.class, false, node.ctequery, depth);
+        sink.element(null, "search_clause", CTESearchClause.class, false, node.search_clause, depth);
+        sink.element(null, "cycle_clause", CTECycleClause.class, false, node.cycle_clause, depth);
+    }
+
+    /**
+     * Tells if a {@link CompositeTypeStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCompositeTypeStmt(CompositeTypeStmt node) {
+        return node.typevar != null
+                || node.coldeflist != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCompositeTypeStmt(CompositeTypeStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCompositeTypeStmt(CompositeTypeStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "typevar", RangeVar.class, false, node.typevar, depth);
+        sink.elements("coldeflist", "coldef", ColumnDef.class, false, node.coldeflist, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ConditionalExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesConditionalExpr(ConditionalExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link Constraint} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentConstraint(Constraint node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link Constraint}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesConstraint(Constraint node, Sink sink) throws XMLStreamException {
+        sink.attribute("contype", node.contype);
+        sink.attribute("conname", node.conname);
+        sink.attribute("deferrable", node.deferrable);
+        sink.attribute("initdeferred", node.initdeferred);
+        sink.attribute("isEnforced", node.is_enforced);
+        sink.attribute("isNoInherit", node.is_no_inherit);
+        sink.attribute("cookedExpr", node.cooked_expr);
+        sink.attribute("generatedWhen", node.generated_when);
+        sink.attribute("generatedKind", node.generated_kind);
+        sink.attribute("nullsNotDistinct", node.nulls_not_distinct);
+        sink.attribute("indexname", node.indexname);
+        sink.attribute("indexspace", node.indexspace);
+        sink.attribute("accessMethod", node.access_method);
+        sink.attribute("fkWithPeriod", node.fk_with_period);
+        sink.attribute("pkWithPeriod", node.pk_with_period);
+        sink.attribute("fkMatchtype", node.fk_matchtype);
+        sink.attribute("fkUpdAction", node.fk_upd_action);
+        sink.attribute("fkDelAction", node.fk_del_action);
+        sink.attribute("skipValidation", node.skip_validation);
+        sink.attribute("initiallyValid", node.initially_valid);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link Constraint}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsConstraint(Constraint node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "raw_expr", Node.class, false, node.raw_expr, depth);
+        sink.elements("keys", "key", Value.class, false, node.keys, depth);
+        sink.element(null, "without_overlaps", boolean.class, false, node.without_overlaps, depth);
+        sink.elements("including", "including", Value.class, false, node.including, depth);
+        sink.elements("exclusions", "exclusion", List.class, false, node.exclusions, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "where_clause", Node.class, false, node.where_clause, depth);
+        sink.element(null, "pktable", RangeVar.class, false, node.pktable, depth);
+        sink.elements("fk_attrs", "fk_attr", Value.class, false, node.fk_attrs, depth);
+        sink.elements("pk_attrs", "pk_attr", Value.class, false, node.pk_attrs, depth);
+        sink.elements(null, "fk_del_set_cols", Node.class, false, node.fk_del_set_cols, depth);
+    }
+
+    /**
+     * Tells if a {@link ConstraintsSetStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentConstraintsSetStmt(ConstraintsSetStmt node) {
+        return node.constraints != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesConstraintsSetStmt(ConstraintsSetStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("deferred", node.deferred);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsConstraintsSetStmt(ConstraintsSetStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("constraints", "constraint", RangeVar.class, false, node.constraints, depth);
+    }
+
+    /**
+     * Tells if a {@link CopyStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCopyStmt(CopyStmt node) {
+        return node.relation != null
+                || node.query != null
+                || node.attlist != null
+                || node.options != null
+                || node.whereClause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CopyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCopyStmt(CopyStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("isFrom", node.is_from);
+        sink.attribute("isProgram", node.is_program);
+        sink.attribute("filename", node.filename);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CopyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCopyStmt(CopyStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "query", Node.class, false, node.query, depth);
+        sink.elements("attlist", "attribute", Node.class, false, node.attlist, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateAmStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateAmStmt(CreateAmStmt node) {
+        return node.amname != null
+                || node.handler_name != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateAmStmt(CreateAmStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("amtype", node.amtype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateAmStmt(CreateAmStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "amname", String.class, false, node.amname, depth);
+        sink.elements("handlerName", "handlerNameNode", Value.class, false, node.handler_name, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateCastStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateCastStmt(CreateCastStmt node) {
+        return node.sourcetype != null
+                || node.targettype != null
+                || node.func != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateCastStmt(CreateCastStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("context", node.context);
+        sink.attribute("inout", node.inout);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateCastStmt(CreateCastStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "sourcetype", TypeName.class, false, node.sourcetype, depth);
+        sink.element(null, "targettype", TypeName.class, false, node.targettype, depth);
+        sink.element(null, "func", ObjectWithArgs.class, false, node.func, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateConversionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateConversionStmt(CreateConversionStmt node) {
+        return node.conversion_name != null
+                || node.func_name != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateConversionStmt(CreateConversionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("forEncodingName", node.for_encoding_name);
+        sink.attribute("toEncodingName", node.to_encoding_name);
+        sink.attribute("def", node.def);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateConversionStmt(CreateConversionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("conversion_name", "nameNode", Value.class, false, node.conversion_name, depth);
+        sink.elements("func_name", "funcNameNode", Value.class, false, node.func_name, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateDomainStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateDomainStmt(CreateDomainStmt node) {
+        return node.domainname != null
+                || node.typeName != null
+                || node.collClause != null
+                || node.constraints != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateDomainStmt(CreateDomainStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateDomainStmt(CreateDomainStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("domainname", "nameNode", Value.class, false, node.domainname, depth);
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+        sink.element(null, "collClause", CollateClause.class, false, node.collClause, depth);
+        sink.elements("constraints", "constraint", Node.class, false, node.constraints, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateEnumStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateEnumStmt(CreateEnumStmt node) {
+        return node.typeName != null
+                || node.vals != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateEnumStmt(CreateEnumStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateEnumStmt(CreateEnumStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("typeName", "namenode", Value.class, false, node.typeName, depth);
+        sink.elements("vals", "val", Value.class, false, node.vals, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateEventTrigStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateEventTrigStmt(CreateEventTrigStmt node) {
+        return node.whenclause != null
+                || node.funcname != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateEventTrigStmt(CreateEventTrigStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("trigname", node.trigname);
+        sink.attribute("eventname", node.eventname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateEventTrigStmt(CreateEventTrigStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("whenclause", "when", DefElem.class, false, node.whenclause, depth);
+        sink.elements("funcname", "nameNode", Value.class, false, node.funcname, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateExtensionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateExtensionStmt(CreateExtensionStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateExtensionStmt(CreateExtensionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("extname", node.extname);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateExtensionStmt(CreateExtensionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateFdwStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateFdwStmt(CreateFdwStmt node) {
+        return node.func_options != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateFdwStmt(CreateFdwStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("fdwname", node.fdwname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateFdwStmt(CreateFdwStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("func_options", "func_option", DefElem.class, false, node.func_options, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateForeignServerStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateForeignServerStmt(CreateForeignServerStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateForeignServerStmt(CreateForeignServerStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("servername", node.servername);
+        sink.attribute("servertype", node.servertype);
+        sink.attribute("version", node.version);
+        sink.attribute("fdwname", node.fdwname);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateForeignServerStmt(CreateForeignServerStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateForeignTableStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateForeignTableStmt(CreateForeignTableStmt node) {
+        return node.base != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateForeignTableStmt(CreateForeignTableStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("servername", node.servername);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateForeignTableStmt(CreateForeignTableStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "base", CreateStmt.class, false, node.base, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateFunctionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateFunctionStmt(CreateFunctionStmt node) {
+        return node.funcname != null
+                || node.parameters != null
+                || node.returnType != null
+                || node.options != null
+                || node.sql_body != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateFunctionStmt(CreateFunctionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("isProcedure", node.is_procedure);
+        sink.attribute("replace", node.replace);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateFunctionStmt(CreateFunctionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("funcname", "nameNode", Value.class, false, node.funcname, depth);
+        sink.elements("parameters", "parameter", FunctionParameter.class, false, node.parameters, depth);
+        sink.element(null, "returnType", TypeName.class, false, node.returnType, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "sql_body", Node.class, false, node.sql_body, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateOpClassItem} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateOpClassItem(CreateOpClassItem node) {
+        return node.name != null
+                || node.order_family != null
+                || node.class_args != null
+                || node.storedtype != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateOpClassItem(CreateOpClassItem node, Sink sink) throws XMLStreamException {
+        sink.attribute("itemtype", node.itemtype);
+        sink.attribute("number", node.number);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateOpClassItem(CreateOpClassItem node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "name", Node.class, false, node.name, depth);
+        sink.elements("order_family", "orderFamilyNode", Value.class, false, node.order_family, depth);
+        sink.elements("class_args", "class_arg", TypeName.class, false, node.class_args, depth);
+        sink.element(null, "storedtype", TypeName.class, false, node.storedtype, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateOpClassStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateOpClassStmt(CreateOpClassStmt node) {
+        return node.opclassname != null
+                || node.opfamilyname != null
+                || node.datatype != null
+                || node.items != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateOpClassStmt(CreateOpClassStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("amname", node.amname);
+        sink.attribute("isDefault", node.isDefault);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateOpClassStmt(CreateOpClassStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("opclassname", "opClassNameNode", Value.class, false, node.opclassname, depth);
+        sink.elements("opfamilyname", "familyNameNode", Value.class, false, node.opfamilyname, depth);
+        sink.element(null, "datatype", TypeName.class, false, node.datatype, depth);
+        sink.elements("items", "item", CreateOpClassItem.class, false, node.items, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateOpFamilyStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateOpFamilyStmt(CreateOpFamilyStmt node) {
+        return node.opfamilyname != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateOpFamilyStmt(CreateOpFamilyStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("amname", node.amname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateOpFamilyStmt(CreateOpFamilyStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("opfamilyname", "nameNode", Value.class, false, node.opfamilyname, depth);
+    }
+
+    /**
+     * Tells if a {@link CreatePLangStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreatePLangStmt(CreatePLangStmt node) {
+        return node.plhandler != null
+                || node.plinline != null
+                || node.plvalidator != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreatePLangStmt(CreatePLangStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("replace", node.replace);
+        sink.attribute("plname", node.plname);
+        sink.attribute("pltrusted", node.pltrusted);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreatePLangStmt(CreatePLangStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("plhandler", "plhandlerNameNode", Value.class, false, node.plhandler, depth);
+        sink.elements("plinline", "plinlineNameNode", Value.class, false, node.plinline, depth);
+        sink.elements("plvalidator", "plvalidatorNameNode", Value.class, false, node.plvalidator, depth);
+    }
+
+    /**
+     * Tells if a {@link CreatePolicyStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreatePolicyStmt(CreatePolicyStmt node) {
+        return node.table != null
+                || node.roles != null
+                || node.qual != null
+                || node.with_check != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreatePolicyStmt(CreatePolicyStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("policyName", node.policy_name);
+        sink.attribute("cmdName", node.cmd_name);
+        sink.attribute("permissive", node.permissive);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreatePolicyStmt(CreatePolicyStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "table", RangeVar.class, false, node.table, depth);
+        sink.elements("roles", "role", RoleSpec.class, false, node.roles, depth);
+        sink.element(null, "qual", Node.class, false, node.qual, depth);
+        sink.element(null, "with_check", Node.class, false, node.with_check, depth);
+    }
+
+    /**
+     * Tells if a {@link CreatePropGraphStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreatePropGraphStmt(CreatePropGraphStmt node) {
+        return node.pgname != null
+                || node.vertex_tables != null
+                || node.edge_tables != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreatePropGraphStmt(CreatePropGraphStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreatePropGraphStmt(CreatePropGraphStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "pgname", RangeVar.class, false, node.pgname, depth);
+        sink.elements("vertex_tables", "vertex_table", PropGraphVertex.class, false, node.vertex_tables, depth);
+        sink.elements("edge_tables", "edge_table", PropGraphEdge.class, false, node.edge_tables, depth);
+    }
+
+    /**
+     * Tells if a {@link CreatePublicationStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreatePublicationStmt(CreatePublicationStmt node) {
+        return node.options != null
+                || node.pubobjects != null
+                || node.tables != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreatePublicationStmt(CreatePublicationStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("pubname", node.pubname);
+        sink.attribute("forAllTables", node.for_all_tables);
+        sink.attribute("forAllSequences", node.for_all_sequences);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreatePublicationStmt(CreatePublicationStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.elements("pubobjects", "pubobject", PublicationObjSpec.class, false, node.pubobjects, depth);
+        sink.elements("tables", "table", RangeVar.class, false, node.tables, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateRangeStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateRangeStmt(CreateRangeStmt node) {
+        return node.typeName != null
+                || node.params != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateRangeStmt(CreateRangeStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateRangeStmt(CreateRangeStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("typeName", "nameNode", Value.class, false, node.typeName, depth);
+        sink.elements("params", "param", DefElem.class, false, node.params, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateRoleStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateRoleStmt(CreateRoleStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateRoleStmt(CreateRoleStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stmtType", node.stmt_type);
+        sink.attribute("role", node.getRole());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateRoleStmt(CreateRoleStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateSchemaStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateSchemaStmt(CreateSchemaStmt node) {
+        return node.authrole != null
+                || node.schemaElts != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateSchemaStmt(CreateSchemaStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("schemaname", node.schemaname);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateSchemaStmt(CreateSchemaStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "authrole", Node.class, false, node.authrole, depth);
+        sink.elements("schemaElts", "schemaElt", Node.class, false, node.schemaElts, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateSeqStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateSeqStmt(CreateSeqStmt node) {
+        return node.sequence != null
+                || node.options != null
+                || node.ownerId != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateSeqStmt(CreateSeqStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateSeqStmt(CreateSeqStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "sequence", RangeVar.class, false, node.sequence, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "ownerId", Oid.class, false, node.ownerId, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateStatsStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateStatsStmt(CreateStatsStmt node) {
+        return node.stat_types != null
+                || node.exprs != null
+                || node.relations != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateStatsStmt(CreateStatsStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stxcomment", node.stxcomment);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("defnames", node.getQualifiedName());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateStatsStmt(CreateStatsStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("stat_types", "stat_type", Value.class, false, node.stat_types, depth);
+        sink.elements("exprs", "expr", StatsElem.class, false, node.exprs, depth);
+        sink.elements("relations", "relation", Node.class, false, node.relations, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateStmt(CreateStmt node) {
+        return node.relation != null
+                || node.tableElts != null
+                || node.inhRelations != null
+                || node.partbound != null
+                || node.partspec != null
+                || node.ofTypename != null
+                || node.constraints != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateStmt(CreateStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("oncommit", node.oncommit);
+        sink.attribute("tablespacename", node.tablespacename);
+        sink.attribute("accessMethod", node.accessMethod);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateStmt(CreateStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("tableElts", "tableElt", ColumnDef.class, false, node.tableElts, depth);
+        sink.elements("inhRelations", "inhRelation", RangeVar.class, false, node.inhRelations, depth);
+        sink.element(null, "partbound", PartitionBoundSpec.class, false, node.partbound, depth);
+        sink.element(null, "partspec", PartitionSpec.class, false, node.partspec, depth);
+        sink.element(null, "ofTypename", TypeName.class, false, node.ofTypename, depth);
+        sink.elements("constraints", "constraint", Node.class, false, node.constraints, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateSubscriptionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateSubscriptionStmt(CreateSubscriptionStmt node) {
+        return node.publication != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateSubscriptionStmt(CreateSubscriptionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("subname", node.subname);
+        sink.attribute("servername", node.servername);
+        sink.attribute("conninfo", node.conninfo);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateSubscriptionStmt(CreateSubscriptionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("publication", "publication", Value.class, false, node.publication, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateTableAsStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateTableAsStmt(CreateTableAsStmt node) {
+        return node.query != null
+                || node.into != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateTableAsStmt(CreateTableAsStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("isSelectInto", node.is_select_into);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateTableAsStmt(CreateTableAsStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "query", Node.class, false, node.query, depth);
+        sink.element(null, "into", IntoClause.class, false, node.into, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateTableSpaceStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateTableSpaceStmt(CreateTableSpaceStmt node) {
+        return node.owner != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateTableSpaceStmt(CreateTableSpaceStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("tablespacename", node.tablespacename);
+        sink.attribute("location", node.location);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateTableSpaceStmt(CreateTableSpaceStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "owner", Node.class, false, node.owner, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateTransformStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateTransformStmt(CreateTransformStmt node) {
+        return node.type_name != null
+                || node.fromsql != null
+                || node.tosql != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateTransformStmt(CreateTransformStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("replace", node.replace);
+        sink.attribute("lang", node.lang);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateTransformStmt(CreateTransformStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "type_name", TypeName.class, false, node.type_name, depth);
+        sink.element(null, "fromsql", ObjectWithArgs.class, false, node.fromsql, depth);
+        sink.element(null, "tosql", ObjectWithArgs.class, false, node.tosql, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateTrigStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateTrigStmt(CreateTrigStmt node) {
+        return node.relation != null
+                || node.funcname != null
+                || node.args != null
+                || node.columns != null
+                || node.whenClause != null
+                || node.transitionRels != null
+                || node.constrrel != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateTrigStmt(CreateTrigStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("replace", node.replace);
+        sink.attribute("trigname", node.trigname);
+        sink.attribute("row", node.row);
+        sink.attribute("timing", node.timing);
+        sink.attribute("events", node.events);
+        sink.attribute("isconstraint", node.isconstraint);
+        sink.attribute("deferrable", node.deferrable);
+        sink.attribute("initdeferred", node.initdeferred);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateTrigStmt(CreateTrigStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("funcname", "nameNode", Value.class, false, node.funcname, depth);
+        sink.elements("args", "arg", Value.class, false, node.args, depth);
+        sink.elements("columns", "column", Value.class, false, node.columns, depth);
+        sink.element(null, "whenClause", Node.class, false, node.whenClause, depth);
+        sink.elements("transitionRels", "transitionRel", TriggerTransition.class, false, node.transitionRels, depth);
+        sink.element(null, "constrrel", RangeVar.class, false, node.constrrel, depth);
+    }
+
+    /**
+     * Tells if a {@link CreateUserMappingStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreateUserMappingStmt(CreateUserMappingStmt node) {
+        return node.user != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreateUserMappingStmt(CreateUserMappingStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("servername", node.servername);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreateUserMappingStmt(CreateUserMappingStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "user", Node.class, false, node.user, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link CreatedbStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentCreatedbStmt(CreatedbStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCreatedbStmt(CreatedbStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("dbname", node.dbname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsCreatedbStmt(CreatedbStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link CurrentOfExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesCurrentOfExpr(CurrentOfExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("cursorName", node.cursor_name);
+        sink.attribute("cursorParam", node.cursor_param);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link DeallocateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDeallocateStmt(DeallocateStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("isall", node.isall);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link DeclareCursorStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDeclareCursorStmt(DeclareCursorStmt node) {
+        return node.query != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDeclareCursorStmt(DeclareCursorStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("portalname", node.portalname);
+        sink.attribute("options", node.options);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDeclareCursorStmt(DeclareCursorStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "query", Node.class, false, node.query, depth);
+    }
+
+    /**
+     * Tells if a {@link DefElem} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDefElem(DefElem node) {
+        return node.arg != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DefElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDefElem(DefElem node, Sink sink) throws XMLStreamException {
+        sink.attribute("defnamespace", node.defnamespace);
+        sink.attribute("defname", node.defname);
+        sink.attribute("defaction", node.defaction);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DefElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDefElem(DefElem node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Node.class, false, node.arg, depth);
+    }
+
+    /**
+     * Tells if a {@link DefineStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDefineStmt(DefineStmt node) {
+        return node.defnames != null
+                || node.args != null
+                || node.definition != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DefineStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDefineStmt(DefineStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("oldstyle", node.oldstyle);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("replace", node.replace);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DefineStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDefineStmt(DefineStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("defnames", "defnames", Value.class, true, node.defnames, depth);
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+        sink.elements("definition", "definitionNode", DefElem.class, false, node.definition, depth);
+    }
+
+    /**
+     * Tells if a {@link DeleteStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDeleteStmt(DeleteStmt node) {
+        return node.relation != null
+                || node.usingClause != null
+                || node.whereClause != null
+                || node.returningList != null
+                || node.returningClause != null
+                || node.withClause != null
+                || node.forPortionOf != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDeleteStmt(DeleteStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stmtLen", node.stmt_len);
+        sink.attribute("stmt_location", node.getStmtLocationString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDeleteStmt(DeleteStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("usingClause", "using", Node.class, false, node.usingClause, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("returninglist", "returning", ResTarget.class, false, node.returningList, depth);
+        sink.element(null, "returningClause", ReturningClause.class, false, node.returningClause, depth);
+        sink.element(null, "withClause", WithClause.class, false, node.withClause, depth);
+        sink.element(null, "forPortionOf", ForPortionOfClause.class, false, node.forPortionOf, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link DiscardStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDiscardStmt(DiscardStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("target", node.target);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link DoStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDoStmt(DoStmt node) {
+        return node.args != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DoStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDoStmt(DoStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DoStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDoStmt(DoStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("args", "arg", DefElem.class, false, node.args, depth);
+    }
+
+    /**
+     * Tells if a {@link DropOwnedStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDropOwnedStmt(DropOwnedStmt node) {
+        return node.roles != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropOwnedStmt(DropOwnedStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDropOwnedStmt(DropOwnedStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("roles", "role", RoleSpec.class, false, node.roles, depth);
+    }
+
+    /**
+     * Tells if a {@link DropRoleStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDropRoleStmt(DropRoleStmt node) {
+        return node.roles != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropRoleStmt(DropRoleStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDropRoleStmt(DropRoleStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("roles", "role", RoleSpec.class, false, node.roles, depth);
+    }
+
+    /**
+     * Tells if a {@link DropStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDropStmt(DropStmt node) {
+        return node.objects != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DropStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropStmt(DropStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("removeType", node.removeType);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("concurrent", node.concurrent);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DropStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDropStmt(DropStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("objects", "object", Node.class, false, node.objects, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link DropSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropSubscriptionStmt(DropSubscriptionStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("subname", node.subname);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link DropTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropTableSpaceStmt(DropTableSpaceStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("tablespacename", node.tablespacename);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link DropUserMappingStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDropUserMappingStmt(DropUserMappingStmt node) {
+        return node.user != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropUserMappingStmt(DropUserMappingStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("servername", node.servername);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDropUserMappingStmt(DropUserMappingStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "user", Node.class, false, node.user, depth);
+    }
+
+    /**
+     * Tells if a {@link DropdbStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentDropdbStmt(DropdbStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesDropdbStmt(DropdbStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("dbname", node.dbname);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsDropdbStmt(DropdbStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link ErrorSaveContext} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentErrorSaveContext(ErrorSaveContext node) {
+        return node.error_data != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ErrorSaveContext}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesErrorSaveContext(ErrorSaveContext node, Sink sink) throws XMLStreamException {
+        sink.attribute("errorOccurred", node.error_occurred);
+        sink.attribute("detailsWanted", node.details_wanted);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ErrorSaveContext}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsErrorSaveContext(ErrorSaveContext node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "error_data", ErrorData.class, false, node.error_data, depth);
+    }
+
+    /**
+     * Tells if a {@link ExecuteStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentExecuteStmt(ExecuteStmt node) {
+        return node.params != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesExecuteStmt(ExecuteStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsExecuteStmt(ExecuteStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("params", "param", Node.class, false, node.params, depth);
+    }
+
+    /**
+     * Tells if a {@link ExplainStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentExplainStmt(ExplainStmt node) {
+        return node.query != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesExplainStmt(ExplainStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsExplainStmt(ExplainStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "query", Node.class, false, node.query, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link Expr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesExpr(Expr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link FetchStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesFetchStmt(FetchStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("direction", node.direction);
+        sink.attribute("howMany", node.howMany);
+        sink.attribute("portalname", node.portalname);
+        sink.attribute("ismove", node.ismove);
+        sink.attribute("directionKeyword", node.direction_keyword);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link ForPortionOfClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentForPortionOfClause(ForPortionOfClause node) {
+        return node.target_location != null
+                || node.target != null
+                || node.target_start != null
+                || node.target_end != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesForPortionOfClause(ForPortionOfClause node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("rangeName", node.range_name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsForPortionOfClause(ForPortionOfClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "target_location", Location.class, false, node.target_location, depth);
+        sink.element(null, "target", Node.class, false, node.target, depth);
+        sink.element(null, "target_start", Node.class, false, node.target_start, depth);
+        sink.element(null, "target_end", Node.class, false, node.target_end, depth);
+    }
+
+    /**
+     * Tells if a {@link FuncCall} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentFuncCall(FuncCall node) {
+        return node.funcname != null
+                || node.args != null
+                || node.agg_order != null
+                || node.agg_filter != null
+                || node.over != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link FuncCall}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesFuncCall(FuncCall node, Sink sink) throws XMLStreamException {
+        sink.attribute("ignoreNulls", node.ignore_nulls);
+        sink.attribute("aggWithinGroup", node.agg_within_group);
+        sink.attribute("aggStar", node.agg_star);
+        sink.attribute("aggDistinct", node.agg_distinct);
+        sink.attribute("funcVariadic", node.func_variadic);
+        sink.attribute("funcformat", node.funcformat);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link FuncCall}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsFuncCall(FuncCall node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("funcname", "nameNode", Value.class, false, node.funcname, depth);
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+        sink.elements("agg_order", "orderBy", Node.class, false, node.agg_order, depth);
+        sink.element(null, "agg_filter", Node.class, false, node.agg_filter, depth);
+        sink.element(null, "over", WindowDef.class, false, node.over, depth);
+    }
+
+    /**
+     * Tells if a {@link FunctionParameter} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentFunctionParameter(FunctionParameter node) {
+        return node.argType != null
+                || node.defexpr != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesFunctionParameter(FunctionParameter node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("mode", node.mode);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsFunctionParameter(FunctionParameter node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "argType", TypeName.class, false, node.argType, depth);
+        sink.element(null, "defexpr", Node.class, false, node.defexpr, depth);
+    }
+
+    /**
+     * Tells if a {@link GrantRoleStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGrantRoleStmt(GrantRoleStmt node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGrantRoleStmt(GrantRoleStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("isGrant", node.is_grant);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGrantRoleStmt(GrantRoleStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("grant_roles", "grant_role", AccessPriv.class, false, node.granted_roles, depth);
+        sink.elements("grantee_roles", "grantee_role", RoleSpec.class, false, node.grantee_roles, depth);
+        sink.elements("opt", "option", DefElem.class, false, node.opt, depth);
+        sink.element(null, "admin_opt", boolean.class, false, node.admin_opt, depth);
+        sink.element(null, "grantor", Node.class, false, node.grantor, depth);
+    }
+
+    /**
+     * Tells if a {@link GrantStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGrantStmt(GrantStmt node) {
+        return node.objects != null
+                || node.privileges != null
+                || node.grantees != null
+                || node.grantor != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link GrantStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGrantStmt(GrantStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("isGrant", node.is_grant);
+        sink.attribute("targtype", node.targtype);
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("grantOption", node.grant_option);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link GrantStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGrantStmt(GrantStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("objects", "object", Node.class, false, node.objects, depth);
+        sink.elements("privileges", "privilege", AccessPriv.class, false, node.privileges, depth);
+        sink.elements("grantees", "grantee", RoleSpec.class, false, node.grantees, depth);
+        sink.element(null, "grantor", RoleSpec.class, false, node.grantor, depth);
+    }
+
+    /**
+     * Tells if a {@link GraphElementPattern} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGraphElementPattern(GraphElementPattern node) {
+        return node.labelexpr != null
+                || node.subexpr != null
+                || node.whereClause != null
+                || node.quantifier != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGraphElementPattern(GraphElementPattern node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("variable", node.variable);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGraphElementPattern(GraphElementPattern node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "labelexpr", Node.class, false, node.labelexpr, depth);
+        sink.elements("subexpr", "subexprElement", GraphElementPattern.class, false, node.subexpr, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("quantifier", "quantifierElement", Node.class, false, node.quantifier, depth);
+    }
+
+    /**
+     * Tells if a {@link GraphPattern} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGraphPattern(GraphPattern node) {
+        return node.path_pattern_list != null
+                || node.whereClause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link GraphPattern}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGraphPattern(GraphPattern node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link GraphPattern}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGraphPattern(GraphPattern node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("path_pattern_list", "path_pattern", List.class, false, node.path_pattern_list, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+    }
+
+    /**
+     * Tells if a {@link GroupClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGroupClause(GroupClause node) {
+        return node.list != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link GroupClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGroupClause(GroupClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("distinct", node.distinct);
+        sink.attribute("all", node.all);
+    }
+
+    /**
+     * Writes the child elements of a {@link GroupClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGroupClause(GroupClause node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("list", "elem", Node.class, false, node.list, depth);
+    }
+
+    /**
+     * Tells if a {@link GroupingFunc} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGroupingFunc(GroupingFunc node) {
+        return node.args != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGroupingFunc(GroupingFunc node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGroupingFunc(GroupingFunc node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+    }
+
+    /**
+     * Tells if a {@link GroupingSet} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentGroupingSet(GroupingSet node) {
+        return node.content != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link GroupingSet}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesGroupingSet(GroupingSet node, Sink sink) throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link GroupingSet}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsGroupingSet(GroupingSet node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("content", "contentNode", Node.class, false, node.content, depth);
+    }
+
+    /**
+     * Tells if a {@link ImportForeignSchemaStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentImportForeignSchemaStmt(ImportForeignSchemaStmt node) {
+        return node.table_list != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesImportForeignSchemaStmt(ImportForeignSchemaStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("serverName", node.server_name);
+        sink.attribute("remoteSchema", node.remote_schema);
+        sink.attribute("localSchema", node.local_schema);
+        sink.attribute("listType", node.list_type);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsImportForeignSchemaStmt(ImportForeignSchemaStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("table_list", "table", RangeVar.class, false, node.table_list, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link ImportQual} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentImportQual(ImportQual node) {
+        return node.table_names != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ImportQual}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesImportQual(ImportQual node, Sink sink) throws XMLStreamException {
+        sink.attribute("type", node.type);
+    }
+
+    /**
+     * Writes the child elements of a {@link ImportQual}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsImportQual(ImportQual node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("table_names", "table_name", RangeVar.class, false, node.table_names, depth);
+    }
+
+    /**
+     * Tells if a {@link IndexElem} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentIndexElem(IndexElem node) {
+        return node.expr != null
+                || node.collation != null
+                || node.opclass != null
+                || node.opclassopts != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link IndexElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesIndexElem(IndexElem node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("indexcolname", node.indexcolname);
+        sink.attribute("ordering", node.ordering);
+        sink.attribute("nullsOrdering", node.nulls_ordering);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link IndexElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsIndexElem(IndexElem node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", Node.class, false, node.expr, depth);
+        sink.elements("collation", "collationNameNode", Value.class, false, node.collation, depth);
+        sink.elements("opclass", "opclassNameNode", Value.class, false, node.opclass, depth);
+        sink.elements("opclassopts", "opclassopt", DefElem.class, false, node.opclassopts, depth);
+    }
+
+    /**
+     * Tells if a {@link IndexStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentIndexStmt(IndexStmt node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link IndexStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesIndexStmt(IndexStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("idxname", node.idxname);
+        sink.attribute("accessMethod", node.accessMethod);
+        sink.attribute("tableSpace", node.tableSpace);
+        sink.attribute("idxcomment", node.idxcomment);
+        sink.attribute("oldCreateSubid", node.oldCreateSubid);
+        sink.attribute("oldFirstRelfilelocatorSubid", node.oldFirstRelfilelocatorSubid);
+        sink.attribute("unique", node.unique);
+        sink.attribute("nullsNotDistinct", node.nulls_not_distinct);
+        sink.attribute("primary", node.primary);
+        sink.attribute("isconstraint", node.isconstraint);
+        sink.attribute("deferrable", node.deferrable);
+        sink.attribute("initdeferred", node.initdeferred);
+        sink.attribute("transformed", node.transformed);
+        sink.attribute("concurrent", node.concurrent);
+        sink.attribute("ifNotExists", node.if_not_exists);
+        sink.attribute("resetDefaultTblspc", node.reset_default_tblspc);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link IndexStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsIndexStmt(IndexStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "relationId", Oid.class, false, node.relationId, depth);
+        sink.elements("indexParams", "indexParam", IndexElem.class, false, node.indexParams, depth);
+        sink.elements("indexIncludingParams", "indexIncludingParam", IndexElem.class, false,
+                node.indexIncludingParams, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("excludeOpNames", "excludeOpName", Node.class, false, node.excludeOpNames, depth);
+        sink.element(null, "indexOid", Oid.class, false, node.indexOid, depth);
+        sink.element(null, "oldNumber", RelFileNumber.class, false, node.oldNumber, depth);
+        sink.element(null, "oldFirstRelfilenodeSubid", int.class, false, node.oldFirstRelfilenodeSubid, depth);
+    }
+
+    /**
+     * Tells if a {@link InferClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentInferClause(InferClause node) {
+        return node.indexElems != null
+                || node.whereClause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link InferClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesInferClause(InferClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("conname", node.conname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link InferClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsInferClause(InferClause node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("indexElems", "indexElem", IndexElem.class, false, node.indexElems, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+    }
+
+    /**
+     * Tells if a {@link InsertStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentInsertStmt(InsertStmt node) {
+        return node.relation != null
+                || node.cols != null
+                || node.selectStmt != null
+                || node.onConflictClause != null
+                || node.returningList != null
+                || node.returningClause != null
+                || node.withClause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link InsertStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesInsertStmt(InsertStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("override", node.override);
+        sink.attribute("stmtLen", node.stmt_len);
+        sink.attribute("stmt_location", node.getStmtLocationString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link InsertStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsInsertStmt(InsertStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("cols", "col", ResTarget.class, false, node.cols, depth);
+        sink.element(null, "selectStmt", Node.class, false, node.selectStmt, depth);
+        sink.element(null, "onConflictClause", OnConflictClause.class, false, node.onConflictClause, depth);
+        sink.elements("returningList", "returningList", ResTarget.class, true, node.returningList, depth);
+        sink.element(null, "returningClause", ReturningClause.class, false, node.returningClause, depth);
+        sink.element(null, "withClause", WithClause.class, false, node.withClause, depth);
+    }
+
+    /**
+     * Tells if a {@link IntoClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentIntoClause(IntoClause node) {
+        return node.rel != null
+                || node.colNames != null
+                || node.options != null
+                || node.tableSpaceName != null
+                || node.viewQuery != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link IntoClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesIntoClause(IntoClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("accessMethod", node.accessMethod);
+        sink.attribute("onCommit", node.onCommit);
+        sink.attribute("skipData", node.skipData);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link IntoClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsIntoClause(IntoClause node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "rel", RangeVar.class, false, node.rel, depth);
+        sink.elements("colnames", "colname", Value.class, false, node.colNames, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.element(null, "tableSpaceName", String.class, false, node.tableSpaceName, depth);
+        sink.element(null, "viewQuery", Node.class, false, node.viewQuery, depth);
+    }
+
+    /**
+     * Tells if a {@link JoinExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJoinExpr(JoinExpr node) {
+        return node.larg != null
+                || node.rarg != null
+                || node.usingClause != null
+                || node.join_using_alias != null
+                || node.quals != null
+                || node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JoinExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJoinExpr(JoinExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("jointype", node.jointype);
+        sink.attribute("isNatural", node.isNatural);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JoinExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJoinExpr(JoinExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "larg", Node.class, false, node.larg, depth);
+        sink.element(null, "rarg", Node.class, false, node.rarg, depth);
+        sink.elements("usingClause", "using", Value.class, false, node.usingClause, depth);
+        sink.element(null, "join_using_alias", Alias.class, false, node.join_using_alias, depth);
+        sink.element(null, "quals", Node.class, false, node.quals, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonAggConstructor} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonAggConstructor(JsonAggConstructor node) {
+        return node.output != null
+                || node.agg_filter != null
+                || node.agg_order != null
+                || node.over != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonAggConstructor(JsonAggConstructor node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonAggConstructor(JsonAggConstructor node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+        sink.element(null, "agg_filter", Node.class, false, node.agg_filter, depth);
+        sink.elements("agg_order", "agg_order_element", Node.class, false, node.agg_order, depth);
+        sink.element(null, "over", WindowDef.class, false, node.over, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonArgument} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonArgument(JsonArgument node) {
+        return node.val != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonArgument}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonArgument(JsonArgument node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonArgument}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonArgument(JsonArgument node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "val", JsonValueExpr.class, false, node.val, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonArrayAgg} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonArrayAgg(JsonArrayAgg node) {
+        return node.constructor != null
+                || node.arg != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonArrayAgg(JsonArrayAgg node, Sink sink) throws XMLStreamException {
+        sink.attribute("absentOnNull", node.absent_on_null);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonArrayAgg(JsonArrayAgg node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "constructor", JsonAggConstructor.class, false, node.constructor, depth);
+        sink.element(null, "arg", JsonValueExpr.class, false, node.arg, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonArrayConstructor} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonArrayConstructor(JsonArrayConstructor node) {
+        return node.exprs != null
+                || node.output != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonArrayConstructor(JsonArrayConstructor node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("absentOnNull", node.absent_on_null);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonArrayConstructor(JsonArrayConstructor node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("exprs", "expr", JsonValueExpr.class, false, node.exprs, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonArrayQueryConstructor} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonArrayQueryConstructor(JsonArrayQueryConstructor node) {
+        return node.query != null
+                || node.output != null
+                || node.format != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonArrayQueryConstructor(JsonArrayQueryConstructor node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("absentOnNull", node.absent_on_null);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonArrayQueryConstructor(JsonArrayQueryConstructor node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "query", Node.class, false, node.query, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+        sink.element(null, "format", JsonFormat.class, false, node.format, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonBehavior} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonBehavior(JsonBehavior node) {
+        return node.expr != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonBehavior(JsonBehavior node, Sink sink) throws XMLStreamException {
+        sink.attribute("btype", node.btype);
+        sink.attribute("coerce", node.coerce);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonBehavior(JsonBehavior node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", Node.class, false, node.expr, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonFormat}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonFormat(JsonFormat node, Sink sink) throws XMLStreamException {
+        sink.attribute("formatType", node.format_type);
+        sink.attribute("encoding", node.encoding);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link JsonFuncExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonFuncExpr(JsonFuncExpr node) {
+        return node.context_item != null
+                || node.pathspec != null
+                || node.passing != null
+                || node.output != null
+                || node.on_empty != null
+                || node.on_error != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonFuncExpr(JsonFuncExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("op", node.op);
+        sink.attribute("columnName", node.column_name);
+        sink.attribute("wrapper", node.wrapper);
+        sink.attribute("quotes", node.quotes);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonFuncExpr(JsonFuncExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "context_item", JsonValueExpr.class, false, node.context_item, depth);
+        sink.element(null, "pathspec", Node.class, false, node.pathspec, depth);
+        sink.elements("passingList", "passingElement", Node.class, false, node.passing, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+        sink.element(null, "on_empty", JsonBehavior.class, false, node.on_empty, depth);
+        sink.element(null, "on_error", JsonBehavior.class, false, node.on_error, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonIsPredicate} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonIsPredicate(JsonIsPredicate node) {
+        return node.expr != null
+                || node.format != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonIsPredicate(JsonIsPredicate node, Sink sink) throws XMLStreamException {
+        sink.attribute("itemType", node.item_type);
+        sink.attribute("uniqueKeys", node.unique_keys);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonIsPredicate(JsonIsPredicate node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "expr", Node.class, false, node.expr, depth);
+        sink.element(null, "format", JsonFormat.class, false, node.format, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonKeyValue} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonKeyValue(JsonKeyValue node) {
+        return node.key != null
+                || node.value != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonKeyValue(JsonKeyValue node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonKeyValue(JsonKeyValue node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "key", Expr.class, false, node.key, depth);
+        sink.element(null, "value", JsonValueExpr.class, false, node.value, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonObjectAgg} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonObjectAgg(JsonObjectAgg node) {
+        return node.constructor != null
+                || node.arg != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonObjectAgg(JsonObjectAgg node, Sink sink) throws XMLStreamException {
+        sink.attribute("absentOnNull", node.absent_on_null);
+        sink.attribute("unique", node.unique);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonObjectAgg(JsonObjectAgg node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "constructor", JsonAggConstructor.class, false, node.constructor, depth);
+        sink.element(null, "arg", JsonKeyValue.class, false, node.arg, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonObjectConstructor} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonObjectConstructor(JsonObjectConstructor node) {
+        return node.exprs != null
+                || node.output != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonObjectConstructor(JsonObjectConstructor node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("absentOnNull", node.absent_on_null);
+        sink.attribute("unique", node.unique);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonObjectConstructor(JsonObjectConstructor node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("exprs", "expr", JsonKeyValue.class, false, node.exprs, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonOutput} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonOutput(JsonOutput node) {
+        return node.typeName != null
+                || node.returning != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonOutput}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonOutput(JsonOutput node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonOutput}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonOutput(JsonOutput node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+        sink.element(null, "returning", JsonReturning.class, false, node.returning, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonParseExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonParseExpr(JsonParseExpr node) {
+        return node.expr != null
+                || node.output != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonParseExpr(JsonParseExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("uniqueKeys", node.unique_keys);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonParseExpr(JsonParseExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", JsonValueExpr.class, false, node.expr, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonReturning} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonReturning(JsonReturning node) {
+        return node.format != null
+                || node.typid != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonReturning}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonReturning(JsonReturning node, Sink sink) throws XMLStreamException {
+        sink.attribute("typmod", node.typmod);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonReturning}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonReturning(JsonReturning node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "format", JsonFormat.class, false, node.format, depth);
+        sink.element(null, "typid", Oid.class, false, node.typid, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonScalarExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonScalarExpr(JsonScalarExpr node) {
+        return node.expr != null
+                || node.output != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonScalarExpr(JsonScalarExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonScalarExpr(JsonScalarExpr node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "expr", Expr.class, false, node.expr, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonSerializeExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonSerializeExpr(JsonSerializeExpr node) {
+        return node.expr != null
+                || node.output != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonSerializeExpr(JsonSerializeExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonSerializeExpr(JsonSerializeExpr node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "expr", JsonValueExpr.class, false, node.expr, depth);
+        sink.element(null, "output", JsonOutput.class, false, node.output, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonTable} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonTable(JsonTable node) {
+        return node.context_item != null
+                || node.pathspec != null
+                || node.passing != null
+                || node.columns != null
+                || node.planspec != null
+                || node.on_error != null
+                || node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonTable}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonTable(JsonTable node, Sink sink) throws XMLStreamException {
+        sink.attribute("lateral", node.lateral);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonTable}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonTable(JsonTable node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "context_item", JsonValueExpr.class, false, node.context_item, depth);
+        sink.element(null, "pathspec", JsonTablePathSpec.class, false, node.pathspec, depth);
+        sink.elements("passingList", "passing", Node.class, false, node.passing, depth);
+        sink.elements("columns", "column", JsonTableColumn.class, false, node.columns, depth);
+        sink.element(null, "planspec", JsonTablePlanSpec.class, false, node.planspec, depth);
+        sink.element(null, "on_error", JsonBehavior.class, false, node.on_error, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonTableColumn} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonTableColumn(JsonTableColumn node) {
+        return node.typeName != null
+                || node.pathspec != null
+                || node.format != null
+                || node.columns != null
+                || node.on_empty != null
+                || node.on_error != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonTableColumn(JsonTableColumn node, Sink sink) throws XMLStreamException {
+        sink.attribute("coltype", node.coltype);
+        sink.attribute("name", node.name);
+        sink.attribute("wrapper", node.wrapper);
+        sink.attribute("quotes", node.quotes);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonTableColumn(JsonTableColumn node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+        sink.element(null, "pathspec", JsonTablePathSpec.class, false, node.pathspec, depth);
+        sink.element(null, "format", JsonFormat.class, false, node.format, depth);
+        sink.elements("columns", "column", Node.class, false, node.columns, depth);
+        sink.element(null, "on_empty", JsonBehavior.class, false, node.on_empty, depth);
+        sink.element(null, "on_error", JsonBehavior.class, false, node.on_error, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonTablePathSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonTablePathSpec(JsonTablePathSpec node) {
+        return node.string != null
+                || node.name_location != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonTablePathSpec(JsonTablePathSpec node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonTablePathSpec(JsonTablePathSpec node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "string", Node.class, false, node.string, depth);
+        sink.element(null, "name_location", Location.class, false, node.name_location, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonTablePlanSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonTablePlanSpec(JsonTablePlanSpec node) {
+        return node.plan1 != null
+                || node.plan2 != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonTablePlanSpec(JsonTablePlanSpec node, Sink sink) throws XMLStreamException {
+        sink.attribute("planType", node.plan_type);
+        sink.attribute("pathname", node.pathname);
+        sink.attribute("join_type", node.getjoinType());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonTablePlanSpec(JsonTablePlanSpec node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "plan1", JsonTablePlanSpec.class, false, node.plan1, depth);
+        sink.element(null, "plan2", JsonTablePlanSpec.class, false, node.plan2, depth);
+    }
+
+    /**
+     * Tells if a {@link JsonValueExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentJsonValueExpr(JsonValueExpr node) {
+        return node.raw_expr != null
+                || node.formatted_expr != null
+                || node.format != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesJsonValueExpr(JsonValueExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsJsonValueExpr(JsonValueExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "raw_expr", Expr.class, false, node.raw_expr, depth);
+        sink.element(null, "formatted_expr", Expr.class, false, node.formatted_expr, depth);
+        sink.element(null, "format", JsonFormat.class, false, node.format, depth);
+    }
+
+    /**
+     * Tells if a {@link KeyAction} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentKeyAction(KeyAction node) {
+        return node.cols != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link KeyAction}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesKeyAction(KeyAction node, Sink sink) throws XMLStreamException {
+        sink.attribute("action", node.action);
+    }
+
+    /**
+     * Writes the child elements of a {@link KeyAction}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsKeyAction(KeyAction node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("cols", "col", Node.class, false, node.cols, depth);
+    }
+
+    /**
+     * Tells if a {@link KeyActions} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentKeyActions(KeyActions node) {
+        return node.updateAction != null
+                || node.deleteAction != null;
+    }
+
+    /**
+     * Writes the child elements of a {@link KeyActions}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsKeyActions(KeyActions node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "updateAction", KeyAction.class, false, node.updateAction, depth);
+        sink.element(null, "deleteAction", KeyAction.class, false, node.deleteAction, depth);
+    }
+
+    /**
+     * Tells if a {@link List} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentList(List<?> node) {
+        return hasItem(node.getThis());
+    }
+
+    /**
+     * Writes the attributes of a {@link List}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesList(List<?> node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link List}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsList(List<?> node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements(null, "this", Object.class, true, node.getThis(), depth);
+    }
+
+    /**
+     * Tells if a {@link ListCell} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentListCell(ListCell<?> node) {
+        return node.data != null
+                || node.next != null;
+    }
+
+    /**
+     * Writes the child elements of a {@link ListCell}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsListCell(ListCell<?> node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "data", Object.class, false, node.data, depth);
+        sink.element(null, "next", ListCell.class, false, node.next, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ListenStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesListenStmt(ListenStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("conditionname", node.conditionname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link LoadStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesLoadStmt(LoadStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("filename", node.filename);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link Location} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentLocation(Location node) {
+        return node.begin != null
+                || node.end != null;
+    }
+
+    /**
+     * Writes the child elements of a {@link Location}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsLocation(Location node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "begin", Position.class, false, node.begin, depth);
+        sink.element(null, "end", Position.class, false, node.end, depth);
+    }
+
+    /**
+     * Tells if a {@link LockStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentLockStmt(LockStmt node) {
+        return node.relations != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link LockStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesLockStmt(LockStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("mode", node.mode);
+        sink.attribute("nowait", node.nowait);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link LockStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsLockStmt(LockStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("relations", "relation", RangeVar.class, false, node.relations, depth);
+    }
+
+    /**
+     * Tells if a {@link LockingClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentLockingClause(LockingClause node) {
+        return node.lockedRels != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link LockingClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesLockingClause(LockingClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("strength", node.strength);
+        sink.attribute("waitPolicy", node.waitPolicy);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link LockingClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsLockingClause(LockingClause node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("lockedRels", "lockedRel", RangeVar.class, false, node.lockedRels, depth);
+    }
+
+    /**
+     * Tells if a {@link MergeStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentMergeStmt(MergeStmt node) {
+        return node.relation != null
+                || node.sourceRelation != null
+                || node.joinCondition != null
+                || node.mergeWhenClauses != null
+                || node.returningList != null
+                || node.returningClause != null
+                || node.withClause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link MergeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesMergeStmt(MergeStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stmtLen", node.stmt_len);
+        sink.attribute("stmt_location", node.getStmtLocationString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link MergeStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsMergeStmt(MergeStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "sourceRelation", Node.class, false, node.sourceRelation, depth);
+        sink.element(null, "joinCondition", Node.class, false, node.joinCondition, depth);
+        sink.elements("indirection", "indirectionNode", MergeWhenClause.class, false, node.mergeWhenClauses, depth);
+        sink.elements("returningList", "returningNode", Expr.class, false, node.returningList, depth);
+        sink.element(null, "returningClause", ReturningClause.class, false, node.returningClause, depth);
+        sink.element(null, "withClause", WithClause.class, false, node.withClause, depth);
+    }
+
+    /**
+     * Tells if a {@link MergeSupportFunc} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentMergeSupportFunc(MergeSupportFunc node) {
+        return node.xpr != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesMergeSupportFunc(MergeSupportFunc node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsMergeSupportFunc(MergeSupportFunc node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "xpr", Expr.class, false, node.xpr, depth);
+    }
+
+    /**
+     * Tells if a {@link MergeWhenClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentMergeWhenClause(MergeWhenClause node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesMergeWhenClause(MergeWhenClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("matchKind", node.matchKind);
+        sink.attribute("commandType", node.commandType);
+        sink.attribute("override", node.override);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsMergeWhenClause(MergeWhenClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "matched", boolean.class, false, node.matched, depth);
+        sink.element(null, "condition", Node.class, false, node.condition, depth);
+        sink.elements("targetList", "target", ResTarget.class, false, node.targetList, depth);
+        sink.elements("values", "value", Value.class, false, node.values, depth);
+    }
+
+    /**
+     * Tells if a {@link MinMaxExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentMinMaxExpr(MinMaxExpr node) {
+        return node.args != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesMinMaxExpr(MinMaxExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("op", node.op);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsMinMaxExpr(MinMaxExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+    }
+
+    /**
+     * Tells if a {@link MultiAssignRef} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentMultiAssignRef(MultiAssignRef node) {
+        return node.source != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesMultiAssignRef(MultiAssignRef node, Sink sink) throws XMLStreamException {
+        sink.attribute("colno", node.colno);
+        sink.attribute("ncolumns", node.ncolumns);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsMultiAssignRef(MultiAssignRef node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "source", Node.class, false, node.source, depth);
+    }
+
+    /**
+     * Tells if a {@link NamedArgExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentNamedArgExpr(NamedArgExpr node) {
+        return node.arg != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesNamedArgExpr(NamedArgExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("argnumber", node.argnumber);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsNamedArgExpr(NamedArgExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Expr.class, false, node.arg, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link Node}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesNode(Node node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link NotifyStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesNotifyStmt(NotifyStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("conditionname", node.conditionname);
+        sink.attribute("payload", node.payload);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link NullTest} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentNullTest(NullTest node) {
+        return node.arg != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link NullTest}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesNullTest(NullTest node, Sink sink) throws XMLStreamException {
+        sink.attribute("nulltesttype", node.nulltesttype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link NullTest}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsNullTest(NullTest node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Expr.class, false, node.arg, depth);
+    }
+
+    /**
+     * Tells if a {@link ObjectWithArgs} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentObjectWithArgs(ObjectWithArgs node) {
+        return node.objargs != null
+                || node.objfuncargs != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesObjectWithArgs(ObjectWithArgs node, Sink sink) throws XMLStreamException {
+        sink.attribute("argsUnspecified", node.args_unspecified);
+        sink.attribute("objname", node.getQualifiedName());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsObjectWithArgs(ObjectWithArgs node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("objargs", "objarg", TypeName.class, false, node.objargs, depth);
+        sink.elements("objfuncargs", "objfuncarg", FunctionParameter.class, false, node.objfuncargs, depth);
+    }
+
+    /**
+     * Tells if a {@link OnConflictClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentOnConflictClause(OnConflictClause node) {
+        return node.infer != null
+                || node.targetList != null
+                || node.whereClause != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesOnConflictClause(OnConflictClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("action", node.action);
+        sink.attribute("lockStrength", node.lockStrength);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsOnConflictClause(OnConflictClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "infer", InferClause.class, false, node.infer, depth);
+        sink.elements("targetList", "resTarget", ResTarget.class, false, node.targetList, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+    }
+
+    /**
+     * Tells if a {@link PLAssignStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPLAssignStmt(PLAssignStmt node) {
+        return node.indirection != null
+                || node.val != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPLAssignStmt(PLAssignStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nnames", node.nnames);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPLAssignStmt(PLAssignStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("indirection", "indirectionNode", Value.class, false, node.indirection, depth);
+        sink.element(null, "val", SelectStmt.class, false, node.val, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ParamRef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesParamRef(ParamRef node, Sink sink) throws XMLStreamException {
+        sink.attribute("number", node.number);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link PartitionBoundSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPartitionBoundSpec(PartitionBoundSpec node) {
+        return node.listdatums != null
+                || node.lowerdatums != null
+                || node.upperdatums != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPartitionBoundSpec(PartitionBoundSpec node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("strategy", node.strategy);
+        sink.attribute("isDefault", node.is_default);
+        sink.attribute("modulus", node.modulus);
+        sink.attribute("remainder", node.remainder);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPartitionBoundSpec(PartitionBoundSpec node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("listdatums", "listdatum", A_Const.class, false, node.listdatums, depth);
+        sink.elements("lowerdatums", "lowerdatum", PartitionRangeDatum.class, false, node.lowerdatums, depth);
+        sink.elements("upperdatums", "upperdatum", PartitionRangeDatum.class, false, node.upperdatums, depth);
+    }
+
+    /**
+     * Tells if a {@link PartitionCmd} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPartitionCmd(PartitionCmd node) {
+        return node.name != null
+                || node.bound != null
+                || node.partlist != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPartitionCmd(PartitionCmd node, Sink sink) throws XMLStreamException {
+        sink.attribute("concurrent", node.concurrent);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPartitionCmd(PartitionCmd node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "name", RangeVar.class, false, node.name, depth);
+        sink.element(null, "bound", PartitionBoundSpec.class, false, node.bound, depth);
+        sink.elements("partlist", "part", Node.class, false, node.partlist, depth);
+    }
+
+    /**
+     * Tells if a {@link PartitionElem} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPartitionElem(PartitionElem node) {
+        return node.expr != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PartitionElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPartitionElem(PartitionElem node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("collation", node.getCollationQualifiedName());
+        sink.attribute("opclass", node.getOpClassQualifiedName());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PartitionElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPartitionElem(PartitionElem node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", Node.class, false, node.expr, depth);
+    }
+
+    /**
+     * Tells if a {@link PartitionRangeDatum} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPartitionRangeDatum(PartitionRangeDatum node) {
+        return node.value != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPartitionRangeDatum(PartitionRangeDatum node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPartitionRangeDatum(PartitionRangeDatum node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "value", Node.class, false, node.value, depth);
+    }
+
+    /**
+     * Tells if a {@link PartitionSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPartitionSpec(PartitionSpec node) {
+        return node.partParams != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPartitionSpec(PartitionSpec node, Sink sink) throws XMLStreamException {
+        sink.attribute("strategy", node.strategy);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPartitionSpec(PartitionSpec node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("partParams", "partParam", PartitionElem.class, false, node.partParams, depth);
+    }
+
+    /**
+     * Tells if a {@link PrepareStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPrepareStmt(PrepareStmt node) {
+        return node.argtypes != null
+                || node.query != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPrepareStmt(PrepareStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPrepareStmt(PrepareStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("argtypes", "argtype", TypeName.class, false, node.argtypes, depth);
+        sink.element(null, "query", Node.class, false, node.query, depth);
+    }
+
+    /**
+     * Tells if a {@link PrivTarget} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPrivTarget(PrivTarget node) {
+        return node.objs != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PrivTarget}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPrivTarget(PrivTarget node, Sink sink) throws XMLStreamException {
+        sink.attribute("targtype", node.targtype);
+        sink.attribute("objtype", node.objtype);
+    }
+
+    /**
+     * Writes the child elements of a {@link PrivTarget}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPrivTarget(PrivTarget node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("objs", "obj", Node.class, false, node.objs, depth);
+    }
+
+    /**
+     * Tells if a {@link PropGraphEdge} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPropGraphEdge(PropGraphEdge node) {
+        return node.etable != null
+                || node.ekey != null
+                || node.esrckey != null
+                || node.esrcvertexcols != null
+                || node.edestkey != null
+                || node.edestvertexcols != null
+                || node.labels != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPropGraphEdge(PropGraphEdge node, Sink sink) throws XMLStreamException {
+        sink.attribute("esrcvertex", node.esrcvertex);
+        sink.attribute("edestvertex", node.edestvertex);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPropGraphEdge(PropGraphEdge node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "etable", RangeVar.class, false, node.etable, depth);
+        sink.elements("ekey", "ekeyElement", Value.class, false, node.ekey, depth);
+        sink.elements("esrckey", "esrckeyElement", Value.class, false, node.esrckey, depth);
+        sink.elements("esrcvertexcols", "esrcvertexcol", Value.class, false, node.esrcvertexcols, depth);
+        sink.elements("edestkey", "edestkeyElement", Value.class, false, node.edestkey, depth);
+        sink.elements("edestvertexcols", "edestvertexcol", Value.class, false, node.edestvertexcols, depth);
+        sink.elements("labels", "label", PropGraphLabelAndProperties.class, false, node.labels, depth);
+    }
+
+    /**
+     * Tells if a {@link PropGraphLabelAndProperties} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPropGraphLabelAndProperties(PropGraphLabelAndProperties node) {
+        return node.properties != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPropGraphLabelAndProperties(PropGraphLabelAndProperties node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("label", node.label);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPropGraphLabelAndProperties(PropGraphLabelAndProperties node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "properties", PropGraphProperties.class, false, node.properties, depth);
+    }
+
+    /**
+     * Tells if a {@link PropGraphProperties} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPropGraphProperties(PropGraphProperties node) {
+        return node.properties != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPropGraphProperties(PropGraphProperties node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("all", node.all);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPropGraphProperties(PropGraphProperties node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("properties", "property", ResTarget.class, false, node.properties, depth);
+    }
+
+    /**
+     * Tells if a {@link PropGraphVertex} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPropGraphVertex(PropGraphVertex node) {
+        return node.vtable != null
+                || node.vkey != null
+                || node.labels != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPropGraphVertex(PropGraphVertex node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPropGraphVertex(PropGraphVertex node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "vtable", RangeVar.class, false, node.vtable, depth);
+        sink.elements("vkey", "vkeyElement", Value.class, false, node.vkey, depth);
+        sink.elements("labels", "label", PropGraphLabelAndProperties.class, false, node.labels, depth);
+    }
+
+    /**
+     * Tells if a {@link PublicationAllObjSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPublicationAllObjSpec(PublicationAllObjSpec node) {
+        return node.except_tables != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPublicationAllObjSpec(PublicationAllObjSpec node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("pubobjtype", node.pubobjtype);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPublicationAllObjSpec(PublicationAllObjSpec node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("except_tables", "except_table", PublicationObjSpec.class, false, node.except_tables, depth);
+    }
+
+    /**
+     * Tells if a {@link PublicationObjSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPublicationObjSpec(PublicationObjSpec node) {
+        return node.pubtable != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPublicationObjSpec(PublicationObjSpec node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("pubobjtype", node.pubobjtype);
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPublicationObjSpec(PublicationObjSpec node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "pubtable", PublicationTable.class, false, node.pubtable, depth);
+    }
+
+    /**
+     * Tells if a {@link PublicationTable} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentPublicationTable(PublicationTable node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link PublicationTable}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesPublicationTable(PublicationTable node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link PublicationTable}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsPublicationTable(PublicationTable node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("columns", "column", Value.class, false, node.columns, depth);
+        sink.element(null, "except", boolean.class, false, node.except, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeFunction} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeFunction(RangeFunction node) {
+        return node.functions != null
+                || node.alias != null
+                || node.coldeflist != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeFunction}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeFunction(RangeFunction node, Sink sink) throws XMLStreamException {
+        sink.attribute("lateral", node.lateral);
+        sink.attribute("ordinality", node.ordinality);
+        sink.attribute("isRowsfrom", node.is_rowsfrom);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeFunction}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeFunction(RangeFunction node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("functions", "function", List.class, false, node.functions, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+        sink.elements("coldeflist", "coldeflist", ColumnDef.class, true, node.coldeflist, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeGraphTable} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeGraphTable(RangeGraphTable node) {
+        return node.graph_name != null
+                || node.graph_pattern != null
+                || node.columns != null
+                || node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeGraphTable(RangeGraphTable node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeGraphTable(RangeGraphTable node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "graph_name", RangeVar.class, false, node.graph_name, depth);
+        sink.element(null, "graph_pattern", GraphPattern.class, false, node.graph_pattern, depth);
+        sink.elements("columns", "column", ResTarget.class, false, node.columns, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeSubselect} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeSubselect(RangeSubselect node) {
+        return node.subquery != null
+                || node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeSubselect(RangeSubselect node, Sink sink) throws XMLStreamException {
+        sink.attribute("lateral", node.lateral);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeSubselect(RangeSubselect node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "subquery", Node.class, false, node.subquery, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeTableFunc} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeTableFunc(RangeTableFunc node) {
+        return node.docexpr != null
+                || node.rowexpr != null
+                || node.namespaces != null
+                || node.columns != null
+                || node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeTableFunc(RangeTableFunc node, Sink sink) throws XMLStreamException {
+        sink.attribute("lateral", node.lateral);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeTableFunc(RangeTableFunc node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "docexpr", Node.class, false, node.docexpr, depth);
+        sink.element(null, "rowexpr", Node.class, false, node.rowexpr, depth);
+        sink.elements("namespaces", "namespace", ResTarget.class, false, node.namespaces, depth);
+        sink.elements("columns", "column", RangeTableFuncCol.class, false, node.columns, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeTableFuncCol} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeTableFuncCol(RangeTableFuncCol node) {
+        return node.typeName != null
+                || node.colexpr != null
+                || node.coldefexpr != null
+                || node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeTableFuncCol(RangeTableFuncCol node, Sink sink) throws XMLStreamException {
+        sink.attribute("colname", node.colname);
+        sink.attribute("forOrdinality", node.for_ordinality);
+        sink.attribute("isNotNull", node.is_not_null);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeTableFuncCol(RangeTableFuncCol node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+        sink.element(null, "colexpr", Node.class, false, node.colexpr, depth);
+        sink.element(null, "coldefexpr", Node.class, false, node.coldefexpr, depth);
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeTableSample} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeTableSample(RangeTableSample node) {
+        return node.relation != null
+                || node.method != null
+                || node.args != null
+                || node.repeatable != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeTableSample(RangeTableSample node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeTableSample(RangeTableSample node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", Node.class, false, node.relation, depth);
+        sink.elements("method", "methodNameNode", Node.class, false, node.method, depth);
+        sink.elements("args", "arg", DefElem.class, false, node.args, depth);
+        sink.element(null, "repeatable", Node.class, false, node.repeatable, depth);
+    }
+
+    /**
+     * Tells if a {@link RangeVar} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRangeVar(RangeVar node) {
+        return node.alias != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RangeVar}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRangeVar(RangeVar node, Sink sink) throws XMLStreamException {
+        sink.attribute("catalogname", node.catalogname);
+        sink.attribute("schemaname", node.schemaname);
+        sink.attribute("relname", node.relname);
+        sink.attribute("inh", node.inh);
+        sink.attribute("relpersistence", node.relpersistence);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RangeVar}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRangeVar(RangeVar node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "alias", Alias.class, false, node.alias, depth);
+    }
+
+    /**
+     * Tells if a {@link RawStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRawStmt(RawStmt node) {
+        return node.stmt != null
+                || node.stmt_location != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RawStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRawStmt(RawStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stmtLen", node.stmt_len);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RawStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRawStmt(RawStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "stmt", Node.class, false, node.stmt, depth);
+        sink.element(null, "stmt_location", Location.class, false, node.stmt_location, depth);
+    }
+
+    /**
+     * Tells if a {@link ReassignOwnedStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentReassignOwnedStmt(ReassignOwnedStmt node) {
+        return node.roles != null
+                || node.newrole != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesReassignOwnedStmt(ReassignOwnedStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsReassignOwnedStmt(ReassignOwnedStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("roles", "role", RoleSpec.class, false, node.roles, depth);
+        sink.element(null, "newrole", Node.class, false, node.newrole, depth);
+    }
+
+    /**
+     * Tells if a {@link RefreshMatViewStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRefreshMatViewStmt(RefreshMatViewStmt node) {
+        return node.relation != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRefreshMatViewStmt(RefreshMatViewStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("concurrent", node.concurrent);
+        sink.attribute("skipData", node.skipData);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRefreshMatViewStmt(RefreshMatViewStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+    }
+
+    /**
+     * Tells if a {@link ReindexStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentReindexStmt(ReindexStmt node) {
+        return true;
+    }
+
+    /**
+     * Writes the attributes of a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesReindexStmt(ReindexStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsReindexStmt(ReindexStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("params", "param", DefElem.class, false, node.params, depth);
+        sink.element(null, "options", int.class, false, node.options, depth);
+        sink.element(null, "concurrent", boolean.class, false, node.concurrent, depth);
+    }
+
+    /**
+     * Tells if a {@link RenameStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRenameStmt(RenameStmt node) {
+        return node.relation != null
+                || node.object != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RenameStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRenameStmt(RenameStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("renameType", node.renameType);
+        sink.attribute("relationType", node.relationType);
+        sink.attribute("subname", node.subname);
+        sink.attribute("newname", node.newname);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("missingOk", node.missing_ok);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RenameStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRenameStmt(RenameStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "object", Node.class, false, node.object, depth);
+    }
+
+    /**
+     * Tells if a {@link RepackStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRepackStmt(RepackStmt node) {
+        return node.relation != null
+                || node.params != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RepackStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRepackStmt(RepackStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("command", node.command);
+        sink.attribute("indexname", node.indexname);
+        sink.attribute("usingindex", node.usingindex);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RepackStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRepackStmt(RepackStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", VacuumRelation.class, false, node.relation, depth);
+        sink.elements("params", "param", DefElem.class, false, node.params, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ReplicaIdentityStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesReplicaIdentityStmt(ReplicaIdentityStmt node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("identityType", node.identity_type);
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link ResTarget} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentResTarget(ResTarget node) {
+        return node.indirection != null
+                || node.val != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ResTarget}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesResTarget(ResTarget node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ResTarget}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsResTarget(ResTarget node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("indirection", "indirectionNode", Node.class, false, node.indirection, depth);
+        sink.element(null, "val", Node.class, false, node.val, depth);
+    }
+
+    /**
+     * Tells if a {@link ReturnStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentReturnStmt(ReturnStmt node) {
+        return node.returnval != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesReturnStmt(ReturnStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsReturnStmt(ReturnStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "returnval", Node.class, false, node.returnval, depth);
+    }
+
+    /**
+     * Tells if a {@link ReturningClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentReturningClause(ReturningClause node) {
+        return node.options != null
+                || node.exprs != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ReturningClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesReturningClause(ReturningClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ReturningClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsReturningClause(ReturningClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", ReturningOption.class, false, node.options, depth);
+        sink.elements("exprs", "expr", Expr.class, false, node.exprs, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ReturningOption}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesReturningOption(ReturningOption node, Sink sink) throws XMLStreamException {
+        sink.attribute("option", node.option);
+        sink.attribute("value", node.value);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the attributes of a {@link RoleSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRoleSpec(RoleSpec node, Sink sink) throws XMLStreamException {
+        sink.attribute("roletype", node.roletype);
+        sink.attribute("rolename", node.rolename);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link RowExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRowExpr(RowExpr node) {
+        return node.args != null
+                || node.row_typeid != null
+                || node.colnames != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RowExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRowExpr(RowExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("rowFormat", node.row_format);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RowExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRowExpr(RowExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+        sink.element(null, "row_typeid", Oid.class, false, node.row_typeid, depth);
+        sink.elements("colnames", "colname", Value.class, false, node.colnames, depth);
+    }
+
+    /**
+     * Tells if a {@link RuleStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentRuleStmt(RuleStmt node) {
+        return node.relation != null
+                || node.whereClause != null
+                || node.actions != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link RuleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesRuleStmt(RuleStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("rulename", node.rulename);
+        sink.attribute("event", node.event);
+        sink.attribute("instead", node.instead);
+        sink.attribute("replace", node.replace);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link RuleStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsRuleStmt(RuleStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("actions", "action", Node.class, false, node.actions, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link SQLValueFunction}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSQLValueFunction(SQLValueFunction node, Sink sink) throws XMLStreamException {
+        sink.attribute("op", node.op);
+        sink.attribute("typmod", node.typmod);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link SecLabelStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentSecLabelStmt(SecLabelStmt node) {
+        return node.object != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSecLabelStmt(SecLabelStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("objtype", node.objtype);
+        sink.attribute("provider", node.provider);
+        sink.attribute("label", node.label);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsSecLabelStmt(SecLabelStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "object", Node.class, false, node.object, depth);
+    }
+
+    /**
+     * Tells if a {@link SelectLimit} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentSelectLimit(SelectLimit node) {
+        return node.limitOffset != null
+                || node.limitCount != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link SelectLimit}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSelectLimit(SelectLimit node, Sink sink) throws XMLStreamException {
+        sink.attribute("limitOption", node.limitOption);
+        sink.attribute("countLoc", node.getCountLocString());
+        sink.attribute("offsetLoc", node.getOffsetLocString());
+        sink.attribute("optionLoc", node.getOptionLocString());
+    }
+
+    /**
+     * Writes the child elements of a {@link SelectLimit}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsSelectLimit(SelectLimit node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "limitOffset", Node.class, false, node.limitOffset, depth);
+        sink.element(null, "limitCount", Node.class, false, node.limitCount, depth);
+    }
+
+    /**
+     * Tells if a {@link SelectStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentSelectStmt(SelectStmt node) {
+        return node.distinctClause != null
+                || node.intoClause != null
+                || node.targetList != null
+                || node.fromClause != null
+                || node.whereClause != null
+                || node.groupClause != null
+                || node.havingClause != null
+                || node.windowClause != null
+                || node.valuesLists != null
+                || node.sortClause != null
+                || node.limitOffset != null
+                || node.limitCount != null
+                || node.lockingClause != null
+                || node.withClause != null
+                || node.op != null
+                || node.larg != null
+                || node.rarg != null
+                || node.stmt_location != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link SelectStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSelectStmt(SelectStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("groupDistinct", node.groupDistinct);
+        sink.attribute("groupByAll", node.groupByAll);
+        sink.attribute("limitOption", node.limitOption);
+        sink.attribute("all", node.all);
+        sink.attribute("stmtlen", node.getStmtLenString());
+        sink.attribute("stmt_location", node.getStmtLocationString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link SelectStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsSelectStmt(SelectStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("distinctClause", "distinct", Node.class, false, node.distinctClause, depth);
+        sink.element(null, "intoClause", IntoClause.class, false, node.intoClause, depth);
+        sink.elements("targetList", "target", ResTarget.class, false, node.targetList, depth);
+        sink.elements("fromClause", "from", Node.class, false, node.fromClause, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("groupClause", "groupBy", Node.class, false, node.groupClause, depth);
+        sink.element(null, "havingClause", Node.class, false, node.havingClause, depth);
+        sink.elements("windowClause", "window", WindowDef.class, false, node.windowClause, depth);
+        sink.elements("valuesLists", "values", List.class, false, node.valuesLists, depth);
+        sink.elements("sortClause", "sortBy", SortBy.class, false, node.sortClause, depth);
+        sink.element(null, "limitOffset", Node.class, false, node.limitOffset, depth);
+        sink.element(null, "limitCount", Node.class, false, node.limitCount, depth);
+        sink.elements("lockingClause", "lock", LockingClause.class, false, node.lockingClause, depth);
+        sink.element(null, "withClause", WithClause.class, false, node.withClause, depth);
+        sink.element(null, "op", SetOperation.class, false, node.op, depth);
+        sink.element(null, "larg", SelectStmt.class, false, node.larg, depth);
+        sink.element(null, "rarg", SelectStmt.class, false, node.rarg, depth);
+        sink.element(null, "stmt_location", Location.class, false, node.stmt_location, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link SetToDefault}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSetToDefault(SetToDefault node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link SinglePartitionSpec} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentSinglePartitionSpec(SinglePartitionSpec node) {
+        return node.name != null
+                || node.bound != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSinglePartitionSpec(SinglePartitionSpec node, Sink sink)
+            throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsSinglePartitionSpec(SinglePartitionSpec node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "name", RangeVar.class, false, node.name, depth);
+        sink.element(null, "bound", PartitionBoundSpec.class, false, node.bound, depth);
+    }
+
+    /**
+     * Tells if a {@link SortBy} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentSortBy(SortBy node) {
+        return node.node != null
+                || node.useOp != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link SortBy}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSortBy(SortBy node, Sink sink) throws XMLStreamException {
+        sink.attribute("sortbyDir", node.sortby_dir);
+        sink.attribute("sortbyNulls", node.sortby_nulls);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link SortBy}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsSortBy(SortBy node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "node", Node.class, false, node.node, depth);
+        sink.elements("useOp", "operator", Value.class, false, node.useOp, depth);
+    }
+
+    /**
+     * Tells if a {@link StatsElem} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentStatsElem(StatsElem node) {
+        return node.expr != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link StatsElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesStatsElem(StatsElem node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link StatsElem}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsStatsElem(StatsElem node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", Node.class, false, node.expr, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link Stmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesStmt(Stmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stmtLen", node.stmt_len);
+        sink.attribute("stmt_location", node.getStmtLocationString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link SubLink} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentSubLink(SubLink node) {
+        return node.testexpr != null
+                || node.operName != null
+                || node.subselect != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link SubLink}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesSubLink(SubLink node, Sink sink) throws XMLStreamException {
+        sink.attribute("subLinkType", node.subLinkType);
+        sink.attribute("subLinkId", node.subLinkId);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link SubLink}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsSubLink(SubLink node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "testexpr", Node.class, false, node.testexpr, depth);
+        sink.elements("operName", "nameNode", Value.class, false, node.operName, depth);
+        sink.element(null, "subselect", Node.class, false, node.subselect, depth);
+    }
+
+    /**
+     * Tells if a {@link TableLikeClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentTableLikeClause(TableLikeClause node) {
+        return node.relation != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesTableLikeClause(TableLikeClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("options", node.options);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsTableLikeClause(TableLikeClause node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+    }
+
+    /**
+     * Tells if a {@link TransactionStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentTransactionStmt(TransactionStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesTransactionStmt(TransactionStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("savepointName", node.savepoint_name);
+        sink.attribute("gid", node.gid);
+        sink.attribute("chain", node.chain);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsTransactionStmt(TransactionStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link TriggerTransition}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesTriggerTransition(TriggerTransition node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("isNew", node.isNew);
+        sink.attribute("isTable", node.isTable);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link TruncateStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentTruncateStmt(TruncateStmt node) {
+        return node.relations != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesTruncateStmt(TruncateStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("restartSeqs", node.restart_seqs);
+        sink.attribute("behavior", node.behavior);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsTruncateStmt(TruncateStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("relations", "relation", RangeVar.class, false, node.relations, depth);
+    }
+
+    /**
+     * Tells if a {@link TypeCast} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentTypeCast(TypeCast node) {
+        return node.arg != null
+                || node.typeName != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link TypeCast}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesTypeCast(TypeCast node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link TypeCast}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsTypeCast(TypeCast node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "arg", Node.class, false, node.arg, depth);
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+    }
+
+    /**
+     * Tells if a {@link TypeName} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentTypeName(TypeName node) {
+        return node.names != null
+                || node.typmods != null
+                || node.arrayBounds != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link TypeName}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesTypeName(TypeName node, Sink sink) throws XMLStreamException {
+        sink.attribute("setof", node.setof);
+        sink.attribute("pctType", node.pct_type);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link TypeName}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsTypeName(TypeName node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("names", "name", Value.class, false, node.names, depth);
+        sink.elements("typmods", "typmod", A_Const.class, false, node.typmods, depth);
+        sink.elements("arrayBounds", "arrayBound", Value.class, false, node.arrayBounds, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link UnlistenStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesUnlistenStmt(UnlistenStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("conditionname", node.conditionname);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link UpdateStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentUpdateStmt(UpdateStmt node) {
+        return node.relation != null
+                || node.targetList != null
+                || node.whereClause != null
+                || node.fromClause != null
+                || node.returningList != null
+                || node.returningClause != null
+                || node.withClause != null
+                || node.forPortionOf != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesUpdateStmt(UpdateStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("stmtLen", node.stmt_len);
+        sink.attribute("stmt_location", node.getStmtLocationString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsUpdateStmt(UpdateStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("targetList", "resTarget", ResTarget.class, false, node.targetList, depth);
+        sink.element(null, "whereClause", Node.class, false, node.whereClause, depth);
+        sink.elements("fromClause", "from", Node.class, false, node.fromClause, depth);
+        sink.elements("returninglist", "returning", ResTarget.class, false, node.returningList, depth);
+        sink.element(null, "returningClause", ReturningClause.class, false, node.returningClause, depth);
+        sink.element(null, "withClause", WithClause.class, false, node.withClause, depth);
+        sink.element(null, "forPortionOf", ForPortionOfClause.class, false, node.forPortionOf, depth);
+    }
+
+    /**
+     * Tells if a {@link VacuumRelation} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentVacuumRelation(VacuumRelation node) {
+        return node.relation != null
+                || node.va_cols != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesVacuumRelation(VacuumRelation node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsVacuumRelation(VacuumRelation node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "relation", RangeVar.class, false, node.relation, depth);
+        sink.elements("va_cols", "va_col", Value.class, false, node.va_cols, depth);
+    }
+
+    /**
+     * Tells if a {@link VacuumStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentVacuumStmt(VacuumStmt node) {
+        return node.options != null
+                || node.rels != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesVacuumStmt(VacuumStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("isVacuumcmd", node.is_vacuumcmd);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsVacuumStmt(VacuumStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+        sink.elements("rels", "rel", VacuumRelation.class, false, node.rels, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link ValUnion}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesValUnion(ValUnion node, Sink sink) throws XMLStreamException {
+        sink.attribute("ival", node.ival);
+        sink.attribute("str", node.str);
+        sink.attribute("boolval", node.boolval);
+    }
+
+    /**
+     * Tells if a {@link Value} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentValue(Value node) {
+        return node.val != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link Value}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesValue(Value node, Sink sink) throws XMLStreamException {
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link Value}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsValue(Value node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "val", ValUnion.class, false, node.val, depth);
+    }
+
+    /**
+     * Tells if a {@link VariableSetStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentVariableSetStmt(VariableSetStmt node) {
+        return node.args != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesVariableSetStmt(VariableSetStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("kind", node.kind);
+        sink.attribute("name", node.name);
+        sink.attribute("jumbleArgs", node.jumble_args);
+        sink.attribute("isLocal", node.is_local);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsVariableSetStmt(VariableSetStmt node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+    }
+
+    /**
+     * Writes the attributes of a {@link VariableShowStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesVariableShowStmt(VariableShowStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Tells if a {@link ViewStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentViewStmt(ViewStmt node) {
+        return node.view != null
+                || node.aliases != null
+                || node.query != null
+                || node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link ViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesViewStmt(ViewStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("replace", node.replace);
+        sink.attribute("withCheckOption", node.withCheckOption);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link ViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsViewStmt(ViewStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "view", RangeVar.class, false, node.view, depth);
+        sink.elements("aliases", "alias", Value.class, false, node.aliases, depth);
+        sink.element(null, "query", Node.class, false, node.query, depth);
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link WaitStmt} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentWaitStmt(WaitStmt node) {
+        return node.options != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link WaitStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesWaitStmt(WaitStmt node, Sink sink) throws XMLStreamException {
+        sink.attribute("lsnLiteral", node.lsn_literal);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link WaitStmt}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsWaitStmt(WaitStmt node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("options", "option", DefElem.class, false, node.options, depth);
+    }
+
+    /**
+     * Tells if a {@link WindowDef} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentWindowDef(WindowDef node) {
+        return node.partitionClause != null
+                || node.orderClause != null
+                || node.startOffset != null
+                || node.endOffset != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link WindowDef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesWindowDef(WindowDef node, Sink sink) throws XMLStreamException {
+        sink.attribute("name", node.name);
+        sink.attribute("refname", node.refname);
+        sink.attribute("frameOptions", node.getFrameOptionsString());
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link WindowDef}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsWindowDef(WindowDef node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("partitionClause", "partitionBy", Node.class, false, node.partitionClause, depth);
+        sink.elements("orderClause", "sortBy", SortBy.class, false, node.orderClause, depth);
+        sink.element(null, "startOffset", Node.class, false, node.startOffset, depth);
+        sink.element(null, "endOffset", Node.class, false, node.endOffset, depth);
+    }
+
+    /**
+     * Tells if a {@link WithClause} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentWithClause(WithClause node) {
+        return node.ctes != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link WithClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesWithClause(WithClause node, Sink sink) throws XMLStreamException {
+        sink.attribute("recursive", node.recursive);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link WithClause}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsWithClause(WithClause node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("ctes", "cte", CommonTableExpr.class, false, node.ctes, depth);
+    }
+
+    /**
+     * Tells if a {@link XmlExpr} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentXmlExpr(XmlExpr node) {
+        return node.named_args != null
+                || node.arg_names != null
+                || node.args != null
+                || node.type != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link XmlExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesXmlExpr(XmlExpr node, Sink sink) throws XMLStreamException {
+        sink.attribute("op", node.op);
+        sink.attribute("name", node.name);
+        sink.attribute("xmloption", node.xmloption);
+        sink.attribute("typmod", node.typmod);
+        sink.attribute("nodeType", ((Node) node).type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link XmlExpr}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsXmlExpr(XmlExpr node, Sink sink, int depth) throws XMLStreamException {
+        sink.elements("named_args", "named_arg", Node.class, false, node.named_args, depth);
+        sink.elements("arg_names", "arg_name", Value.class, false, node.arg_names, depth);
+        sink.elements("args", "arg", Node.class, false, node.args, depth);
+        sink.element(null, "type", Oid.class, false, node.type, depth);
+    }
+
+    /**
+     * Tells if a {@link XmlSerialize} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentXmlSerialize(XmlSerialize node) {
+        return node.expr != null
+                || node.typeName != null;
+    }
+
+    /**
+     * Writes the attributes of a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeAttributesXmlSerialize(XmlSerialize node, Sink sink) throws XMLStreamException {
+        sink.attribute("xmloption", node.xmloption);
+        sink.attribute("indent", node.indent);
+        sink.attribute("nodeType", node.type);
+        sink.attribute("class", node.getClassName());
+        sink.attribute("location", node.getLocationString());
+    }
+
+    /**
+     * Writes the child elements of a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementsXmlSerialize(XmlSerialize node, Sink sink, int depth) throws XMLStreamException {
+        sink.element(null, "expr", Node.class, false, node.expr, depth);
+        sink.element(null, "typeName", TypeName.class, false, node.typeName, depth);
+    }
+
+    /**
+     * Tells if a {@link core_yy_extra_type} has child elements
+     *
+     * @param node
+     *            The node
+     * @return boolean true if at least one element will be written
+     */
+    private static boolean hasContentcore_yy_extra_type(core_yy_extra_type node) {
+        return true;
+    }
+
+    /**
+     * Writes the child elements of a {@link core_yy_extra_type}
+     *
+     * @param node
+     *            The node
+     * @param sink
+     *            The sink to write to
+     * @param depth
+     *            The nesting depth of the child elements
+     * @throws XMLStreamException
+     *             If writing fails
+     */
+    private static void writeElementscore_yy_extra_type(core_yy_extra_type node, Sink sink, int depth)
+            throws XMLStreamException {
+        sink.element(null, "scanbuf", char[].class, false, node.scanbuf, depth);
+        sink.element(null, "scanbuflen", int.class, false, node.scanbuflen, depth);
+        sink.element(null, "literalbuf", StringBuilder.class, false, node.literalbuf, depth);
+        sink.element(null, "state_before_str_stop", int.class, false, node.state_before_str_stop, depth);
+        sink.element(null, "xcdepth", int.class, false, node.xcdepth, depth);
+        sink.element(null, "dolqstart", String.class, false, node.dolqstart, depth);
+        sink.element(null, "save_yylloc", long.class, false, node.save_yylloc, depth);
+        sink.element(null, "utf16_first_part", int.class, false, node.utf16_first_part, depth);
+        sink.element(null, "warn_on_first_escape", boolean.class, false, node.warn_on_first_escape, depth);
+        sink.element(null, "saw_non_ascii", boolean.class, false, node.saw_non_ascii, depth);
+    }
+}
@@ -61,15 +61,12 @@ public class NotifyStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("notify ").append(ParserUtil.identifierToSql(conditionname));
 
         if (payload != null) {
             result.append(", ").append(ParserUtil.toSqlTextString(payload));
         }
-
-        return result.toString();
     }
 }
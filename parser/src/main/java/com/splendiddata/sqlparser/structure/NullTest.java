@@ -61,13 +61,13 @@ public class NullTest extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-
+    public void appendSql(StringBuilder result) {
         if (arg instanceof A_Expr) {
-            result.append('(').append(arg).append(')');
+            result.append('(');
+            arg.appendSql(result);
+            result.append(')');
         } else {
-            result.append(arg);
+            append(result, arg);
         }
         switch (nulltesttype) {
         case IS_NOT_NULL:
@@ -79,8 +79,6 @@ public class NullTest extends Expr {
         default:
             throw new AssertionError("Unsipported NullTestType: " + nulltesttype);
         }
-
-        return result.toString();
     }
 
     @Override
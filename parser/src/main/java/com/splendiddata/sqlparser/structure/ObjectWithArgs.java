@@ -112,8 +112,7 @@ public class ObjectWithArgs extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (objname != null) {
             result.append(ParserUtil.operatorNameToSql(objname));
         }
@@ -125,7 +124,7 @@ public class ObjectWithArgs extends Node {
                 if (arg == null) {
                     result.append("none");
                 } else {
-                    result.append(arg);
+                    append(result, arg);
                 }
             }
             result.append(')');
@@ -137,12 +136,11 @@ public class ObjectWithArgs extends Node {
                 if (arg == null) {
                     result.append("none");
                 } else {
-                    result.append(arg);
+                    append(result, arg);
                 }
             }
             result.append(')');
         }
-        return result.toString();
     }
 
     /**
@@ -151,7 +149,7 @@ public class ObjectWithArgs extends Node {
      * @return String the (qualified) name or null if not filled
      */
     @XmlAttribute(name = "objname")
-    private String getQualifiedName() {
+    String getQualifiedName() {
         return ParserUtil.operatorNameToSql(objname);
     }
 }
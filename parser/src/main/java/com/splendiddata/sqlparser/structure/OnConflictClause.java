@@ -106,8 +106,7 @@ public class OnConflictClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
 
         switch (action) {
@@ -116,7 +115,7 @@ public class OnConflictClause extends Node {
         case ONCONFLICT_NOTHING:
             result.append("on conflict ");
             if (infer != null) {
-                result.append(infer);
+                append(result, infer);
                 separator = " ";
             }
             result.append(separator).append("do nothing");
@@ -124,7 +123,7 @@ public class OnConflictClause extends Node {
         case ONCONFLICT_UPDATE:
             result.append("on conflict ");
             if (infer != null) {
-                result.append(infer);
+                append(result, infer);
                 separator = " ";
             }
             result.append(separator).append("do update set ");
@@ -133,7 +132,7 @@ public class OnConflictClause extends Node {
         case ONCONFLICT_SELECT:
             result.append("on conflict ");
             if (infer != null) {
-                result.append(infer);
+                append(result, infer);
                 separator = " ";
             }
             result.append(separator).append("do select");
@@ -166,16 +165,14 @@ public class OnConflictClause extends Node {
 
         if (targetList != null) {
             for (ResTarget target : targetList) {
-                result.append(separator).append(ParserUtil.identifierToSql(target.name)).append(" = ")
-                        .append(target.val);
+                append(result.append(separator).append(ParserUtil.identifierToSql(target.name)).append(" = "),
+                        target.val);
                 separator = ", ";
             }
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
-
-        return result.toString();
     }
 }
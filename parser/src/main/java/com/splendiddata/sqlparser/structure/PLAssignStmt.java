@@ -92,7 +92,7 @@ public class PLAssignStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "Please implement " + getClass().getName() + ".toString()";
+    public void appendSql(StringBuilder result) {
+        result.append("Please implement " + getClass().getName() + ".toString()");
     }
 }
@@ -52,8 +52,8 @@ public class ParamRef extends Expr {
     }
 
     @Override
-    public String toString() {
-        return "$" + number;
+    public void appendSql(StringBuilder result) {
+        result.append('$').append(number);
     }
 
     @Override
@@ -121,26 +121,30 @@ public class PartitionBoundSpec extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (is_default) {
-            return " default";
+            result.append(" default");
+            return;
         }
         if (strategy != null) {
             switch (strategy) {
             case PARTITION_STRATEGY_HASH:
-                return new StringBuilder().append(" for values with (modulus ").append(modulus).append(", remainder ")
-                        .append(remainder).append(")").toString();
+                result.append(" for values with (modulus ").append(modulus).append(", remainder ")
+                        .append(remainder).append(")");
+                return;
             case PARTITION_STRATEGY_LIST:
-                return " for values in " + listdatums.toString();
+                append(result.append(" for values in "), listdatums);
+                return;
             case PARTITION_STRATEGY_RANGE:
-                return new StringBuilder().append(" for values from ").append(lowerdatums).append(" to ").append(upperdatums)
-                        .toString();
+                append(append(result.append(" for values from "), lowerdatums).append(" to "), upperdatums);
+                return;
             default:
-                return ("Unknown " + PartitionStrategy.class.getName() + "." + strategy + " found in "
+                result.append("Unknown " + PartitionStrategy.class.getName() + "." + strategy + " found in "
                         + ParserUtil.stmtToXml(this));
+                return;
             }
         }
-        return ("PartitionBoundSpec: no strategy present in "
-                + ParserUtil.stmtToXml(this));
+        result.append(("PartitionBoundSpec: no strategy present in "
+                + ParserUtil.stmtToXml(this)));
     }
 }
@@ -91,15 +91,13 @@ public class PartitionCmd extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append(name);
+    public void appendSql(StringBuilder result) {
+        append(result, name);
         if (concurrent) {
             result.append(" concurrently");
         }
         if (bound != null) {
-            result.append(bound);
+            append(result, bound);
         }
-        return result.toString();
     }
 }
@@ -102,7 +102,7 @@ public class PartitionElem extends Node {
      * @return String the qualified name of the collation if specified
      */
     @XmlAttribute(name = "collation")
-    private String getCollationQualifiedName() {
+    String getCollationQualifiedName() {
         if (collation == null) {
             return null;
         }
@@ -115,7 +115,7 @@ public class PartitionElem extends Node {
      * @return String the qualified name of the opclass if specified
      */
     @XmlAttribute(name = "opclass")
-    private String getOpClassQualifiedName() {
+    String getOpClassQualifiedName() {
         if (opclass == null) {
             return null;
         }
@@ -123,15 +123,14 @@ public class PartitionElem extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "";
         if (name != null) {
             result.append(name);
             separator = " ";
         }
         if (expr != null) {
-            result.append(separator).append('(').append(expr).append(')');
+            append(result.append(separator).append('('), expr).append(')');
             separator = " ";
         }
         if (collation != null) {
@@ -141,6 +140,5 @@ public class PartitionElem extends Node {
         if (opclass != null) {
             result.append(separator).append(getOpClassQualifiedName());
         }
-        return result.toString();
     }
 }
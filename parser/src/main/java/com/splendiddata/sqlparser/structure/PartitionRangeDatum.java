@@ -80,19 +80,24 @@ public class PartitionRangeDatum extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (kind != null) {
             switch (kind) {
             case PARTITION_RANGE_DATUM_MAXVALUE:
-                return "maxvalue";
+                result.append("maxvalue");
+                return;
             case PARTITION_RANGE_DATUM_MINVALUE:
-                return "minvalue";
+                result.append("minvalue");
+                return;
             case PARTITION_RANGE_DATUM_VALUE:
-                return value.toString();
+                append(result, value);
+                return;
             default:
-                return "Unknown " + PartitionRangeDatumKind.class.getName() + "." + kind + " in " + getClass().getName() + ".kind";
+                result.append("Unknown ").append(PartitionRangeDatumKind.class.getName()).append(".").append(kind)
+                        .append(" in ").append(getClass().getName()).append(".kind");
+                return;
             }
         }
-        return ("Please implement " + getClass().getName() + ".toString()");
+        result.append("Please implement " + getClass().getName() + ".toString()");
     }
 }
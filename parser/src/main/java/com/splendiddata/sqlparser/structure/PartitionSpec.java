@@ -83,9 +83,7 @@ public class PartitionSpec extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append("partition by ").append(strategy).append(' ').append(partParams);
-        return result.toString();
+    public void appendSql(StringBuilder result) {
+        append(result.append("partition by ").append(strategy).append(' '), partParams);
     }
 }
@@ -80,16 +80,13 @@ public class PrepareStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("prepare ").append(ParserUtil.identifierToSql(name));
         if (argtypes != null) {
-            result.append(' ').append(argtypes);
+            append(result.append(' '), argtypes);
         }
 
-        result.append(" as ").append(query);
-
-        return result.toString();
+        append(result.append(" as "), query);
     }
 }
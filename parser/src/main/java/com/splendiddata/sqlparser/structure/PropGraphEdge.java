@@ -131,35 +131,34 @@ public class PropGraphEdge extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (etable != null) {
-            result.append(etable);
+            append(result, etable);
         }
         if (ekey != null && !ekey.isEmpty()) {
-            result.append(" key ").append(ekey);
+            append(result.append(" key "), ekey);
         }
         String separator = " source ";
         if (esrckey != null && !esrckey.isEmpty()) {
-            result.append(separator).append("key ").append(esrckey);
+            append(result.append(separator).append("key "), esrckey);
             separator=" references ";
         }
         if (esrcvertex != null) {
             result.append(separator).append(esrcvertex);
         }
         if (esrcvertexcols != null && !esrcvertexcols.isEmpty()) {
-            result.append(' ').append(esrcvertexcols);
+            append(result.append(' '), esrcvertexcols);
         }
         separator = " destination ";
         if (edestkey != null && !edestkey.isEmpty()) {
-            result.append(separator).append("key ").append(edestkey);
+            append(result.append(separator).append("key "), edestkey);
             separator=" references ";
         }
         if (edestvertex != null) {
             result.append(separator).append(edestvertex);
         }
         if (edestvertexcols != null && !edestvertexcols.isEmpty()) {
-            result.append(' ').append(edestvertexcols);
+            append(result.append(' '), edestvertexcols);
         }
         if (labels != null && !labels.isEmpty()) {
             for (PropGraphLabelAndProperties label : labels) {
@@ -169,7 +168,6 @@ public class PropGraphEdge extends Node {
                 }
             }
         }
-        return result.toString();
     }
 
 }
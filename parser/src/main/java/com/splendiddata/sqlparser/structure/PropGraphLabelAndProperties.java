@@ -66,16 +66,14 @@ public class PropGraphLabelAndProperties extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (label == null) {
             result.append("default label");
         } else {
             result.append("label ").append(label);
         }
         if (properties != null) {
-            result.append(' ').append(properties);
+            append(result.append(' '), properties);
         }
-        return result.toString();
     }
 }
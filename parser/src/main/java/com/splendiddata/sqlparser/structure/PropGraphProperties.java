@@ -68,8 +68,7 @@ public class PropGraphProperties extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (properties == null || properties.isEmpty()) {
             if (all) {
                 result.append("properties all columns");
@@ -77,8 +76,7 @@ public class PropGraphProperties extends Node {
                 result.append("no properties");
             }
         } else {
-            result.append("properties ").append(properties);
+            append(result.append("properties "), properties);
         }
-        return result.toString();
     }
 }
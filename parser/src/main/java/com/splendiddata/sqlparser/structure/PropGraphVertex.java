@@ -81,19 +81,17 @@ public class PropGraphVertex extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (vtable != null) {
-            result.append(vtable);
+            append(result, vtable);
         }
         if (vkey != null && !vkey.isEmpty()) {
-            result.append(" key ").append(vkey);
+            append(result.append(" key "), vkey);
         }
         if (labels != null && !labels.isEmpty()) {
             for (PropGraphLabelAndProperties label : labels) {
-                result.append(' ').append(label);
+                append(result.append(' '), label);
             }
         }
-        return result.toString();
     }
 }
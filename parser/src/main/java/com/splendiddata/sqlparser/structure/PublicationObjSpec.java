@@ -65,7 +65,7 @@ public class PublicationObjSpec extends Node {
 
     @Override
     public PublicationObjSpec clone() {
-        PublicationObjSpec clone = this.clone();
+        PublicationObjSpec clone = (PublicationObjSpec) super.clone();
         if (pubtable != null) {
             clone.pubtable = pubtable.clone();
         }
@@ -73,20 +73,22 @@ public class PublicationObjSpec extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         switch (pubobjtype) {
         case PUBLICATIONOBJ_TABLE:
         case PUBLICATIONOBJ_EXCEPT_TABLE:
-            return pubtable.toString();
+            append(result, pubtable);
+            return;
         case PUBLICATIONOBJ_TABLES_IN_CUR_SCHEMA:
-            return "tables in schema current_schema";
+            result.append("tables in schema current_schema");
+            return;
         case PUBLICATIONOBJ_TABLES_IN_SCHEMA:
-            return "tables in schema " + ParserUtil.identifierToSql(name);
+            result.append("tables in schema ").append(ParserUtil.identifierToSql(name));
+            return;
         case PUBLICATIONOBJ_CONTINUATION:
         default:
             break;
         }
-        return new StringBuilder().append(ParserUtil.reportUnknownValue("pubobjtype", pubobjtype.name(), getClass()))
-                .toString();
+        result.append(ParserUtil.reportUnknownValue("pubobjtype", pubobjtype.name(), getClass()));
     }
 }
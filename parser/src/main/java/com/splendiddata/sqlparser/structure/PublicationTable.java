@@ -79,7 +79,7 @@ public class PublicationTable extends Node {
 
     @Override
     public PublicationTable clone() {
-        PublicationTable clone = this.clone();
+        PublicationTable clone = (PublicationTable) super.clone();
         if (relation != null) {
             clone.relation = relation.clone();
         }
@@ -93,21 +93,19 @@ public class PublicationTable extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("table ");
-        result.append(relation);
+        append(result, relation);
         if (columns != null && !columns.isEmpty()) {
             String sep = "(";
             for (Value column : columns) {
-                result.append(sep).append(column);
+                append(result.append(sep), column);
                 sep = ", ";
             }
             result.append(')');
         }
         if (whereClause != null) {
-            result.append(" where (").append(whereClause).append(')');
+            append(result.append(" where ("), whereClause).append(')');
         }
-        return result.toString();
     }
 }
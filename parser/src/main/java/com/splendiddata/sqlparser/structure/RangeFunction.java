@@ -92,8 +92,7 @@ public class RangeFunction extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (lateral) {
             result.append("lateral ");
         }
@@ -123,7 +122,7 @@ public class RangeFunction extends Node {
                 if (it.hasNext()) {
                     Node next = it.next();
                     if (next != null) {
-                        result.append(" as ").append(next);
+                        append(result.append(" as "), next);
                     }
                 }
             }
@@ -139,15 +138,13 @@ public class RangeFunction extends Node {
 
         String separator = " as ";
         if (alias != null) {
-            result.append(separator).append(alias);
+            append(result.append(separator), alias);
             separator = " ";
         }
 
         if (coldeflist != null) {
-            result.append(separator).append(coldeflist);
+            append(result.append(separator), coldeflist);
         }
-
-        return result.toString();
     }
 
     @Override
@@ -94,18 +94,17 @@ public class RangeGraphTable extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append("graph_table(").append(graph_name);
+    public void appendSql(StringBuilder result) {
+        append(result.append("graph_table("), graph_name);
         if (graph_pattern != null) {
-            result.append(' ').append(graph_pattern);
+            append(result.append(' '), graph_pattern);
         }
         if (columns != null && !columns.isEmpty()) {
-            result.append(" columns ").append(columns);
+            append(result.append(" columns "), columns);
         }
         result.append(')');
         if (alias != null) {
-            result.append(' ').append(alias);
+            append(result.append(' '), alias);
         }
-        return result.toString();
     }
 }
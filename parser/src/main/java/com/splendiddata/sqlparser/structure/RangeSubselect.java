@@ -64,16 +64,14 @@ public class RangeSubselect extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (lateral) {
             result.append("lateral ");
         }
-        result.append("(").append(subquery).append(")");
+        append(result.append("("), subquery).append(")");
         if (alias != null) {
-            result.append(' ').append(alias);
+            append(result.append(' '), alias);
         }
-        return result.toString();
     }
 
     @Override
@@ -118,8 +118,7 @@ public class RangeTableFunc extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String space = "";
         if (lateral) {
             result.append("lateral ");
@@ -134,7 +133,7 @@ public class RangeTableFunc extends Node {
                 if (namespace.name == null) {
                     result.append("default ");
                 }
-                result.append(namespace);
+                append(result, namespace);
             }
             result.append("),");
             space = " ";
@@ -142,28 +141,27 @@ public class RangeTableFunc extends Node {
         if (rowexpr != null) {
             result.append(space);
             if (rowexpr instanceof A_Expr) {
-                result.append('(').append(rowexpr).append(')');
+                append(result.append('('), rowexpr).append(')');
             } else {
-                result.append(rowexpr);
+                append(result, rowexpr);
             }
             space = " ";
         }
         if (docexpr != null) {
-            result.append(space).append("passing ").append(docexpr);
+            append(result.append(space).append("passing "), docexpr);
             space = " ";
         }
 
         if (columns != null) {
             String comma = " columns ";
             for (RangeTableFuncCol column : columns) {
-                result.append(comma).append(column);
+                append(result.append(comma), column);
                 comma = ", ";
             }
         }
         result.append(')');
         if (alias != null) {
-            result.append(" as ").append(alias);
+            append(result.append(" as "), alias);
         }
-        return result.toString();
     }
 }
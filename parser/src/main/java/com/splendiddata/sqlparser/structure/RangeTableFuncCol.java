@@ -115,16 +115,16 @@ public class RangeTableFuncCol extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder().append(ParserUtil.identifierToSql(colname));
+    public void appendSql(StringBuilder result) {
+        result.append(ParserUtil.identifierToSql(colname));
         if (typeName != null) {
-            result.append(' ').append(typeName);
+            append(result.append(' '), typeName);
         }
         if (colexpr != null) {
-            result.append(" path ").append(colexpr);
+            append(result.append(" path "), colexpr);
         }
         if (coldefexpr != null) {
-            result.append(" default ").append(coldefexpr);
+            append(result.append(" default "), coldefexpr);
         }
         if (is_not_null) {
             result.append(" not null");
@@ -132,7 +132,5 @@ public class RangeTableFuncCol extends Node {
         if (for_ordinality) {
             result.append(" for ordinality");
         }
-
-        return result.toString();
     }
 }
@@ -73,22 +73,19 @@ public class RangeTableSample extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append(relation).append(" tablesample");
+        append(result, relation).append(" tablesample");
 
         if (method != null) {
             result.append(' ').append(ParserUtil.nameToSql(method));
             if (args != null) {
-                result.append(args);
+                append(result, args);
             }
         }
 
         if (repeatable != null) {
-            result.append(" repeatable(").append(repeatable).append(')');
+            append(result.append(" repeatable("), repeatable).append(')');
         }
-
-        return result.toString();
     }
 }
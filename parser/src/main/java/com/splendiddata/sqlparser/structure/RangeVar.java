@@ -91,18 +91,18 @@ public class RangeVar extends Node {
     /**
      * To be used in " normal" statements, that do not have anything to do with a {@link ForPortionOfClause} object.
      * 
-     * @see com.splendiddata.sqlparser.structure.Node#toString()
+     * @see com.splendiddata.sqlparser.structure.Node#appendSql(StringBuilder)
      *
-     * @return String the qualified name and, if present, the alias
+     * @param result
+     *            The StringBuilder to append the qualified name and, if present, the alias to
      */
     @Override
-    public String toString() {
-        StringBuilder result = toStringPartOne();
+    public void appendSql(StringBuilder result) {
+        appendRelationName(result);
 
         if (alias != null) {
-            result.append(" as ").append(alias);
+            alias.appendSql(result.append(" as "));
         }
-        return result.toString();
     }
 
     /**
@@ -117,24 +117,38 @@ public class RangeVar extends Node {
      * @since Postgres 19beta1
      */
     public String toString(ForPortionOfClause forPortionOf) {
-        StringBuilder result = toStringPartOne();
+        StringBuilder result = new StringBuilder();
+        appendSql(result, forPortionOf);
+        return result.toString();
+    }
+
+    /**
+     * Appends the qualified name followed (if present) by a for portion of clause, followed (if present) by the alias.
+     *
+     * @param result
+     *            The StringBuilder to append to
+     * @param forPortionOf
+     *            The ForPortionOfClause to append between the table and its alias. May be null.
+     * @since 19.0
+     */
+    public void appendSql(StringBuilder result, ForPortionOfClause forPortionOf) {
+        appendRelationName(result);
         if (forPortionOf != null) {
-            result.append(" ").append(forPortionOf);
+            forPortionOf.appendSql(result.append(" "));
         }
         if (alias != null) {
-            result.append(" as ").append(alias);
+            alias.appendSql(result.append(" as "));
         }
-        return result.toString();
     }
 
     /**
-     * Creates a StringBuilder and strings the (qualified) relation name into it, but not the alias (if any).
+     * Appends the (qualified) relation name to the StringBuilder, but not the alias (if any).
      *
-     * @return StringBuilder with the relation name
+     * @param result
+     *            The StringBuilder to append the relation name to
      * @since Postgres 19beta1
      */
-    private StringBuilder toStringPartOne() {
-        StringBuilder result = new StringBuilder();
+    private void appendRelationName(StringBuilder result) {
         if (Boolean.FALSE.equals(inh)) {
             result.append("only ");
         }
@@ -150,7 +164,6 @@ public class RangeVar extends Node {
         if (relname != null) {
             result.append(separator).append(ParserUtil.identifierToSql(relname));
         }
-        return result;
     }
 
     @Override
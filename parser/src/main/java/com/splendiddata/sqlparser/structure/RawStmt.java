@@ -88,10 +88,11 @@ public class RawStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (stmt == null) {
-            return "RawStmt.stmt is null";
+            result.append("RawStmt.stmt is null");
+            return;
         }
-        return stmt.toString();
+        stmt.appendSql(result);
     }
 }
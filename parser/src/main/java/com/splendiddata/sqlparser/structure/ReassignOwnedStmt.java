@@ -70,19 +70,16 @@ public class ReassignOwnedStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("reassign owned by");
 
         String separator = " ";
         for (RoleSpec role : roles) {
-            result.append(separator).append(role);
+            append(result.append(separator), role);
             separator = ", ";
         }
 
-        result.append(" to ").append(newrole);
-
-        return result.toString();
+        append(result.append(" to "), newrole);
     }
 }
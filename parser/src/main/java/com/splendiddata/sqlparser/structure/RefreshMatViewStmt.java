@@ -71,8 +71,7 @@ public class RefreshMatViewStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("refresh materialized view ");
 
@@ -80,12 +79,10 @@ public class RefreshMatViewStmt extends Node {
             result.append("concurrently ");
         }
 
-        result.append(relation);
+        append(result, relation);
 
         if (skipData) {
             result.append(" with no data");
         }
-
-        return result.toString();
     }
 }
@@ -106,8 +106,7 @@ public class ReindexStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("reindex ");
 
@@ -125,10 +124,10 @@ public class ReindexStmt extends Node {
                     result.append("concurrently");
                     break;
                 case "tablespace":
-                    result.append("tablespace ").append(param.arg);
+                    append(result.append("tablespace "), param.arg);
                     break;
                 default:
-                    result.append(param); // This will fail, but at least the error will explain itself
+                    append(result, param); // This will fail, but at least the error will explain itself
                 }
             }
             result.append(") ");
@@ -150,13 +149,11 @@ public class ReindexStmt extends Node {
             break;
         case REINDEX_OBJECT_TABLE:
         case REINDEX_OBJECT_INDEX:
-            result.append(kind).append(' ').append(relation);
+            append(result.append(kind).append(' '), relation);
             break;
         default:
             result.append(ParserUtil.reportUnknownValue("kind", kind.name(), getClass()));
             break;
         }
-
-        return result.toString();
     }
 }
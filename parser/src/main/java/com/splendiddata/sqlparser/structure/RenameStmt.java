@@ -118,8 +118,7 @@ public class RenameStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("alter");
 
@@ -131,26 +130,26 @@ public class RenameStmt extends Node {
             switch (renameType) {
             case OBJECT_CONSTRAINT:
                 if (object == null) {
-                    result.append(' ').append(relation);
+                    append(result.append(' '), relation);
                 } else {
                     result.append(' ').append(ParserUtil.nameToSql(object));
                 }
 
                 result.append(" rename ").append(renameType).append(' ').append(ParserUtil.identifierToSql(subname))
-                        .append(" to ").append(ParserUtil.identifierToSql(newname)).toString();
+                        .append(" to ").append(ParserUtil.identifierToSql(newname));
 
-                return result.toString();
+                return;
             case OBJECT_ATTRIBUTE:
             case OBJECT_COLUMN:
-                result.append(' ').append(relation).append(" rename ").append(renameType).append(' ')
+                append(result.append(' '), relation).append(" rename ").append(renameType).append(' ')
                         .append(ParserUtil.identifierToSql(subname)).append(" to ")
                         .append(ParserUtil.identifierToSql(newname)).toString();
                 if (DropBehavior.DROP_CASCADE.equals(behavior)) {
                     result.append(" cascade");
                 }
-                return result.toString();
+                return;
             default:
-                result.append(' ').append(relation);
+                append(result.append(' '), relation);
                 break;
             }
         } else {
@@ -173,7 +172,7 @@ public class RenameStmt extends Node {
                 break;
             case OBJECT_RULE:
             case OBJECT_TRIGGER:
-                result.append(' ').append(ParserUtil.identifierToSql(subname)).append(" on ").append(relation);
+                append(result.append(' ').append(ParserUtil.identifierToSql(subname)).append(" on "), relation);
                 break;
             case OBJECT_FOREIGN_TABLE:
             case OBJECT_INDEX:
@@ -181,12 +180,13 @@ public class RenameStmt extends Node {
             case OBJECT_SEQUENCE:
             case OBJECT_TABLE:
             case OBJECT_VIEW:
-                result.append(' ').append(relation);
+                append(result.append(' '), relation);
                 break;
             case OBJECT_TABCONSTRAINT:
-                return result.append(' ').append(relation).append(" rename constraint ")
+                append(result.append(' '), relation).append(" rename constraint ")
                         .append(ParserUtil.identifierToSql(subname)).append(" to ")
-                        .append(ParserUtil.identifierToSql(newname)).toString();
+                        .append(ParserUtil.identifierToSql(newname));
+                return;
             case OBJECT_ROLE:
             case OBJECT_DATABASE:
             case OBJECT_SCHEMA:
@@ -194,14 +194,15 @@ public class RenameStmt extends Node {
                 result.append(' ').append(ParserUtil.identifierToSql(subname));
                 break;
             case OBJECT_DOMCONSTRAINT:
-                return result.append("domain ").append(ParserUtil.nameToSql(object)).append(" rename constraint ")
+                result.append("domain ").append(ParserUtil.nameToSql(object)).append(" rename constraint ")
                         .append(ParserUtil.identifierToSql(subname)).append(" to ")
-                        .append(ParserUtil.identifierToSql(newname)).toString();
+                        .append(ParserUtil.identifierToSql(newname));
+                return;
             case OBJECT_POLICY:
-                result.append(' ').append(ParserUtil.identifierToSql(subname)).append(" on ").append(relation);
+                append(result.append(' ').append(ParserUtil.identifierToSql(subname)).append(" on "), relation);
                 break;
             case OBJECT_PROPGRAPH:
-                result.append(' ').append(relation);
+                append(result.append(' '), relation);
                 break;
             default:
                 result.append(' ').append(ParserUtil.nameToSql(object));
@@ -210,7 +211,5 @@ public class RenameStmt extends Node {
         }
 
         result.append(" rename to ").append(ParserUtil.identifierToSql(newname));
-
-        return result.toString();
     }
 }
@@ -92,8 +92,7 @@ public class RepackStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (command != null) {
             switch (command) {
             case REPACK_COMMAND_CLUSTER -> result.append("cluster");
@@ -108,13 +107,13 @@ public class RepackStmt extends Node {
                 result.append(separator).append(param.defname);
                 separator = ", ";
                 if (param.arg != null) {
-                    result.append(' ').append(param.arg);
+                    append(result.append(' '), param.arg);
                 }
             }
             result.append(')');
         }
         if (relation != null) {
-            result.append(" ").append(relation);
+            append(result.append(" "), relation);
         }
         if (command != null) {
             switch (command) {
@@ -136,6 +135,5 @@ public class RepackStmt extends Node {
             default -> result.append(ParserUtil.reportUnknownValue("command", command, getClass()));
             }
         }
-        return result.toString();
     }
 }
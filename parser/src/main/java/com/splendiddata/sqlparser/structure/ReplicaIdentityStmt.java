@@ -42,8 +42,7 @@ public class ReplicaIdentityStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("replica identity ");
         
@@ -69,7 +68,5 @@ public class ReplicaIdentityStmt extends Node {
         if (name != null) {
             result.append(' ').append(ParserUtil.identifierToSql(name));
         }
-
-        return result.toString();
     }
 }
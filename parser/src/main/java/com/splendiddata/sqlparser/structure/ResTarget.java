@@ -68,15 +68,16 @@ public class ResTarget extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
+        int start = result.length();
         String leadingSpace = "";
         if (val != null) {
-            result.append(leadingSpace).append(val);
+            result.append(leadingSpace);
+            val.appendSql(result);
             leadingSpace = " ";
         }
         if (name != null) {
-            if (result.length() != 0) {
+            if (result.length() != start) {
                 result.append(" as ");
             }
             if ("*".equals(name)) {
@@ -92,14 +93,13 @@ public class ResTarget extends Expr {
                 if (!(ind instanceof A_Indices)) {
                     result.append('.');
                 }
-                result.append(ind);
+                append(result, ind);
             }
 
         }
         if ("".equals(leadingSpace)) {
             result.append("???");
         }
-        return result.toString();
     }
 
     @Override
@@ -63,7 +63,7 @@ public class ReturnStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        return "return " + returnval;
+    public void appendSql(StringBuilder result) {
+        append(result.append("return "), returnval);
     }
 }
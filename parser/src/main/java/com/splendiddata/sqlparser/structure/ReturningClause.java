@@ -77,14 +77,13 @@ public class ReturningClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append("returning");
         String separator = " ";
         if (options != null && !options.isEmpty()) {
             separator = " with (";
             for (ReturningOption option : options) {
-                result.append(separator).append(option);
+                append(result.append(separator), option);
                 separator = ", ";
             }
             result.append(')');
@@ -92,12 +91,10 @@ public class ReturningClause extends Node {
         }
         if (exprs != null && !exprs.isEmpty()) {
             for (Expr expr : exprs) {
-                result.append(separator).append(expr);
+                append(result.append(separator), expr);
                 separator = ", ";
             }
             separator = " ";
         }
-
-        return result.toString();
     }
 }
@@ -66,9 +66,7 @@ public class ReturningOption extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         result.append(option).append(" as ").append(ParserUtil.identifierToSql(value));
-        return result.toString();
     }
 }
@@ -64,15 +64,17 @@ public class RoleSpec extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         switch (roletype) {
         case ROLESPEC_CSTRING:
-            return ParserUtil.identifierToSql(rolename);
+            result.append(ParserUtil.identifierToSql(rolename));
+            return;
         case ROLESPEC_CURRENT_USER:
         case ROLESPEC_PUBLIC:
         case ROLESPEC_SESSION_USER:
         case ROLESPEC_CURRENT_ROLE:
-            return roletype.toString();
+            result.append(roletype);
+            return;
         default:
             throw new AssertionError("RoleSpecType " + roletype
                     + " not implemented in com.splendiddata.sqlparser.structure.RoleSpec.toString()");
@@ -77,19 +77,19 @@ public class RowExpr extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (args == null) {
-            return "row()";
+            result.append("row()");
+            return;
         }
 
         String separator = "";
-        StringBuilder result = new StringBuilder("row(");
+        result.append("row(");
         for (Node node : args) {
-            result.append(separator).append(node);
+            append(result.append(separator), node);
             separator = ", ";
         }
         result.append(")");
-        return result.toString();
     }
 
     @Override
@@ -108,8 +108,7 @@ public class RuleStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create ");
 
@@ -117,11 +116,11 @@ public class RuleStmt extends Node {
             result.append("or replace ");
         }
 
-        result.append("rule ").append(ParserUtil.identifierToSql(rulename)).append(" as on ").append(event)
-                .append(" to ").append(relation);
+        append(result.append("rule ").append(ParserUtil.identifierToSql(rulename)).append(" as on ").append(event)
+                .append(" to "), relation);
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
 
         result.append(" do ");
@@ -138,12 +137,10 @@ public class RuleStmt extends Node {
             result.append('(');
             String separator = "";
             for (Node action : actions) {
-                result.append(separator).append(action);
+                append(result.append(separator), action);
                 separator = "; ";
             }
             result.append(')');
         }
-
-        return result.toString();
     }
 }
@@ -63,18 +63,20 @@ public class SQLValueFunction extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (op != null) {
             switch (op) {
             case SVFOP_CURRENT_TIMESTAMP_N:
             case SVFOP_CURRENT_TIME_N:
             case SVFOP_LOCALTIMESTAMP_N:
             case SVFOP_LOCALTIME_N:
-                return new StringBuilder().append(op.toString()).append('(').append(typmod).append(')').toString();
+                result.append(op).append('(').append(typmod).append(')');
+                return;
             default:
-                return op.toString();
+                result.append(op);
+                return;
             }
         }
-        return "Empty " + getClass().getName();
+        result.append("Empty " + getClass().getName());
     }
 }
@@ -79,8 +79,7 @@ public class SecLabelStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("security label");
 
@@ -90,7 +89,5 @@ public class SecLabelStmt extends Node {
 
         result.append(" on ").append(objtype).append(' ').append(ParserUtil.nameToSql(object)).append(" is ")
                 .append(ParserUtil.toSqlTextString(label));
-
-        return result.toString();
     }
 }
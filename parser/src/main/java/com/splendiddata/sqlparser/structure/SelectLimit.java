@@ -164,7 +164,7 @@ public class SelectLimit {
      * @return String returns the offsetLoc as String to be represented in an XML structure for debugging purposes
      */
     @XmlAttribute(name = "offsetLoc")
-    private String getOffsetLocString() {
+    String getOffsetLocString() {
         return offsetLoc == null ? null : offsetLoc.toString();
     }
 
@@ -172,7 +172,7 @@ public class SelectLimit {
      * @return String returns the countLoc as String to be represented in an XML structure for debugging purposes
      */
     @XmlAttribute(name = "countLoc")
-    private String getCountLocString() {
+    String getCountLocString() {
         return countLoc == null ? null : countLoc.toString();
     }
 
@@ -180,7 +180,7 @@ public class SelectLimit {
      * @return String returns the optionLoc as String to be represented in an XML structure for debugging purposes
      */
     @XmlAttribute(name = "optionLoc")
-    private String getOptionLocString() {
+    String getOptionLocString() {
         return optionLoc == null ? null : optionLoc.toString();
     }
 }
@@ -241,12 +241,11 @@ public class SelectStmt extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         String leadingSpace = "";
-        StringBuilder result = new StringBuilder();
 
         if (withClause != null) {
-            result.append(withClause);
+            append(result, withClause);
             leadingSpace = " ";
         }
 
@@ -263,9 +262,9 @@ public class SelectStmt extends Expr {
                         /*
                          * Lists print brackets themselves
                          */
-                        result.append(value);
+                        append(result, value);
                     } else {
-                        result.append('(').append(value).append(')');
+                        append(result.append('('), value).append(')');
                     }
                     separator = ", ";
                 }
@@ -274,9 +273,9 @@ public class SelectStmt extends Expr {
             if (larg != null) {
                 result.append(leadingSpace);
                 if (larg.sortClause == null && larg.limitOffset == null && larg.withClause == null) {
-                    result.append(larg);
+                    append(result, larg);
                 } else {
-                    result.append('(').append(larg).append(')');
+                    append(result.append('('), larg).append(')');
                 }
                 leadingSpace = " ";
             }
@@ -305,9 +304,9 @@ public class SelectStmt extends Expr {
 
             if (rarg != null) {
                 if (rarg.sortClause == null && rarg.limitOffset == null && rarg.withClause == null) {
-                    result.append(rarg);
+                    append(result, rarg);
                 } else {
-                    result.append('(').append(rarg).append(')');
+                    append(result.append('('), rarg).append(')');
                 }
             }
         }
@@ -318,7 +317,7 @@ public class SelectStmt extends Expr {
             } else {
                 String separator = " distinct on (";
                 for (Node distinct : distinctClause) {
-                    result.append(separator).append(distinct);
+                    append(result.append(separator), distinct);
                     separator = ", ";
                 }
                 result.append(')');
@@ -328,7 +327,7 @@ public class SelectStmt extends Expr {
         if (targetList != null) {
             String separator = " ";
             for (Object target : targetList) {
-                result.append(separator).append(target);
+                append(result.append(separator), target);
                 separator = ", ";
             }
         }
@@ -352,19 +351,19 @@ public class SelectStmt extends Expr {
                 }
             }
 
-            result.append(intoClause);
+            append(result, intoClause);
         }
 
         if (fromClause != null) {
             String separator = " from ";
             for (Object target : fromClause) {
-                result.append(separator).append(target);
+                append(result.append(separator), target);
                 separator = ", ";
             }
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
 
         if (groupClause == null || groupClause.isEmpty()) {
@@ -380,19 +379,19 @@ public class SelectStmt extends Expr {
                 result.append(" distinct");
             }
             for (Object target : groupClause) {
-                result.append(separator).append(target);
+                append(result.append(separator), target);
                 separator = ", ";
             }
         }
 
         if (havingClause != null) {
-            result.append(" having ").append(havingClause);
+            append(result.append(" having "), havingClause);
         }
 
         if (windowClause != null) {
             String separator = " window ";
             for (WindowDef window : windowClause) {
-                result.append(separator).append(window.name).append(" as (").append(window).append(')');
+                append(result.append(separator).append(window.name).append(" as ("), window).append(')');
                 separator = ", ";
             }
         }
@@ -400,26 +399,24 @@ public class SelectStmt extends Expr {
         if (sortClause != null) {
             String separator = " order by ";
             for (Object value : sortClause) {
-                result.append(separator).append(value);
+                append(result.append(separator), value);
                 separator = ", ";
             }
         }
 
         if (limitCount != null) {
-            result.append(" limit ").append(limitCount);
+            append(result.append(" limit "), limitCount);
         }
 
         if (limitOffset != null) {
-            result.append(" offset ").append(limitOffset);
+            append(result.append(" offset "), limitOffset);
         }
 
         if (lockingClause != null) {
             for (LockingClause value : lockingClause) {
-                result.append(' ').append(value);
+                append(result.append(' '), value);
             }
         }
-
-        return result.toString();
     }
 
     @Override
@@ -513,7 +510,7 @@ public class SelectStmt extends Expr {
      * @since Postgres 18
      */
     @XmlAttribute(name = "stmt_location")
-    private String getLocationString() {
+    String getStmtLocationString() {
         if (stmt_location == null) {
             if (location == null) { // For backward compatibility since Postgres 18
                 return null;
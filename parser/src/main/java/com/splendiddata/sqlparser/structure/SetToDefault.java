@@ -53,7 +53,7 @@ public class SetToDefault extends Node {
     }
 
     @Override
-    public String toString() {
-        return "default";
+    public void appendSql(StringBuilder result) {
+        result.append("default");
     }
 }
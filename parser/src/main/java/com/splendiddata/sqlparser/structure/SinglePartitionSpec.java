@@ -73,14 +73,12 @@ public class SinglePartitionSpec extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append("partition ").append(name);
+    public void appendSql(StringBuilder result) {
+        append(result.append("partition "), name);
         if (bound == null) {
             result.append(" default");
         } else {
-            result.append(' ').append(bound);
+            append(result.append(' '), bound);
         }
-        return result.toString();
     }
 }
@@ -76,9 +76,8 @@ public class SortBy extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
-        result.append(node);
+    public void appendSql(StringBuilder result) {
+        append(result, node);
         switch (sortby_dir) {
         case SORTBY_ASC:
             result.append(" asc");
@@ -115,8 +114,6 @@ public class SortBy extends Node {
         default:
             break;
         }
-
-        return result.toString();
     }
 
     @Override
@@ -75,10 +75,11 @@ public class StatsElem extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (expr != null) {
-            return new StringBuilder().append("(").append(expr).append(")").toString();
+            append(result.append("("), expr).append(")");
+            return;
         }
-        return name;
+        result.append(name);
     }
 }
\ No newline at end of file
@@ -97,7 +97,7 @@ public class Stmt extends Node {
      * @return String returns the stmt_location as String to be represented in an XML structure for debugging purposes
      */
     @XmlAttribute(name = "stmt_location")
-    private String getLocationString() {
+    String getStmtLocationString() {
         if (stmt_location == null) {
             if (location == null) { // For backward compatibility since Postgres 18
                 return null;
@@ -0,0 +1,13544 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser.structure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Structural equals and hashCode for parse trees, as used by {@link Node#equals(Object)} and {@link Node#hashCode()}
+ * <p>
+ * Two nodes are equal if they are of the same class and all their fields are equal, except the {@link Location}s. The
+ * fields of a node and of the other classes in this package (like {@link ValUnion} and {@link Oid}) are compared field
+ * by field, two Lists of the same class (and NodeTag, for structure Lists) element by element. Other objects, like
+ * Strings and enums, are compared by their own equals method.
+ * </p>
+ * <p>
+ * The fields are accessed directly, by a method per class. Those methods do not descend into a child node or list. They
+ * push it onto an explicit stack instead of recursing, so a deeply nested expression cannot cause a StackOverflowError.
+ * The hash code is not cached, as nodes can be changed at any time via their public fields. It is computed in a single
+ * pass over the tree.
+ * </p>
+ * <p>
+ * This class is generated by StructuralComparisonGenerator in the test sources. Do not edit it by hand.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ * @since 19.0
+ */
+final class StructuralComparison {
+    /**
+     * The classes that are compared field by field. The index of a class in this array is its case in the switch
+     * statements.
+     */
+    private static final Class<?>[] CLASSES = {
+            ATAlterConstraint.class,
+            A_ArrayExpr.class,
+            A_Const.class,
+            A_Expr.class,
+            A_Indices.class,
+            A_Indirection.class,
+            A_Star.class,
+            AbstractPublicationStmt.class,
+            AccessPriv.class,
+            Alias.class,
+            AlterCollationStmt.class,
+            AlterDatabaseRefreshCollStmt.class,
+            AlterDatabaseSetStmt.class,
+            AlterDatabaseStmt.class,
+            AlterDefaultPrivilegesStmt.class,
+            AlterDomainStmt.class,
+            AlterEnumStmt.class,
+            AlterEventTrigStmt.class,
+            AlterExtensionContentsStmt.class,
+            AlterExtensionStmt.class,
+            AlterFdwStmt.class,
+            AlterForeignServerStmt.class,
+            AlterFunctionStmt.class,
+            AlterObjectDependsStmt.class,
+            AlterObjectSchemaStmt.class,
+            AlterOpFamilyStmt.class,
+            AlterOperatorStmt.class,
+            AlterOwnerStmt.class,
+            AlterPolicyStmt.class,
+            AlterPropGraphStmt.class,
+            AlterPublicationStmt.class,
+            AlterRoleSetStmt.class,
+            AlterRoleStmt.class,
+            AlterSeqStmt.class,
+            AlterStatsStmt.class,
+            AlterSubscriptionStmt.class,
+            AlterSystemStmt.class,
+            AlterTSConfigurationStmt.class,
+            AlterTSDictionaryStmt.class,
+            AlterTableCmd.class,
+            AlterTableMoveAllStmt.class,
+            AlterTableSpaceOptionsStmt.class,
+            AlterTableStmt.class,
+            AlterTypeStmt.class,
+            AlterUserMappingStmt.class,
+            BoolExpr.class,
+            BooleanTest.class,
+            CTECycleClause.class,
+            CTESearchClause.class,
+            CallStmt.class,
+            CaseExpr.class,
+            CaseWhen.class,
+            CheckPointStmt.class,
+            ClosePortalStmt.class,
+            ClusterStmt.class,
+            CoalesceExpr.class,
+            CollateClause.class,
+            ColumnDef.class,
+            ColumnRef.class,
+            CommentStmt.class,
+            CommonTableExpr.class,
+            CompositeTypeStmt.class,
+            Constraint.class,
+            ConstraintsSetStmt.class,
+            CopyStmt.class,
+            CreateAmStmt.class,
+            CreateCastStmt.class,
+            CreateConversionStmt.class,
+            CreateDomainStmt.class,
+            CreateEnumStmt.class,
+            CreateEventTrigStmt.class,
+            CreateExtensionStmt.class,
+            CreateFdwStmt.class,
+            CreateForeignServerStmt.class,
+            CreateForeignTableStmt.class,
+            CreateFunctionStmt.class,
+            CreateOpClassItem.class,
+            CreateOpClassStmt.class,
+            CreateOpFamilyStmt.class,
+            CreatePLangStmt.class,
+            CreatePolicyStmt.class,
+            CreatePropGraphStmt.class,
+            CreatePublicationStmt.class,
+            CreateRangeStmt.class,
+            CreateRoleStmt.class,
+            CreateSchemaStmt.class,
+            CreateSeqStmt.class,
+            CreateStatsStmt.class,
+            CreateStmt.class,
+            CreateSubscriptionStmt.class,
+            CreateTableAsStmt.class,
+            CreateTableSpaceStmt.class,
+            CreateTransformStmt.class,
+            CreateTrigStmt.class,
+            CreateUserMappingStmt.class,
+            CreatedbStmt.class,
+            CurrentOfExpr.class,
+            DeallocateStmt.class,
+            DeclareCursorStmt.class,
+            DefElem.class,
+            DefineStmt.class,
+            DeleteStmt.class,
+            DiscardStmt.class,
+            DoStmt.class,
+            DropOwnedStmt.class,
+            DropRoleStmt.class,
+            DropStmt.class,
+            DropSubscriptionStmt.class,
+            DropTableSpaceStmt.class,
+            DropUserMappingStmt.class,
+            DropdbStmt.class,
+            ErrorData.class,
+            ErrorSaveContext.class,
+            ExecuteStmt.class,
+            ExplainStmt.class,
+            FetchStmt.class,
+            ForPortionOfClause.class,
+            FuncCall.class,
+            FunctionParameter.class,
+            GrantRoleStmt.class,
+            GrantStmt.class,
+            GraphElementPattern.class,
+            GraphPattern.class,
+            GroupClause.class,
+            GroupingFunc.class,
+            GroupingSet.class,
+            ImportForeignSchemaStmt.class,
+            ImportQual.class,
+            IndexElem.class,
+            IndexStmt.class,
+            InferClause.class,
+            InsertStmt.class,
+            IntoClause.class,
+            JoinExpr.class,
+            JsonAggConstructor.class,
+            JsonArgument.class,
+            JsonArrayAgg.class,
+            JsonArrayConstructor.class,
+            JsonArrayQueryConstructor.class,
+            JsonBehavior.class,
+            JsonFormat.class,
+            JsonFuncExpr.class,
+            JsonIsPredicate.class,
+            JsonKeyValue.class,
+            JsonObjectAgg.class,
+            JsonObjectConstructor.class,
+            JsonOutput.class,
+            JsonParseExpr.class,
+            JsonReturning.class,
+            JsonScalarExpr.class,
+            JsonSerializeExpr.class,
+            JsonTable.class,
+            JsonTableColumn.class,
+            JsonTablePathSpec.class,
+            JsonTablePlanSpec.class,
+            JsonValueExpr.class,
+            KeyAction.class,
+            KeyActions.class,
+            ListenStmt.class,
+            LoadStmt.class,
+            Location.class,
+            LockStmt.class,
+            LockingClause.class,
+            MergeStmt.class,
+            MergeSupportFunc.class,
+            MergeWhenClause.class,
+            MinMaxExpr.class,
+            MultiAssignRef.class,
+            NamedArgExpr.class,
+            Node.class,
+            NotifyStmt.class,
+            NullTest.class,
+            ObjectWithArgs.class,
+            Oid.class,
+            OnConflictClause.class,
+            PLAssignStmt.class,
+            ParamRef.class,
+            PartitionBoundSpec.class,
+            PartitionCmd.class,
+            PartitionElem.class,
+            PartitionRangeDatum.class,
+            PartitionSpec.class,
+            PrepareStmt.class,
+            PrivTarget.class,
+            PropGraphEdge.class,
+            PropGraphLabelAndProperties.class,
+            PropGraphProperties.class,
+            PropGraphVertex.class,
+            PublicationAllObjSpec.class,
+            PublicationObjSpec.class,
+            PublicationTable.class,
+            RangeFunction.class,
+            RangeGraphTable.class,
+            RangeSubselect.class,
+            RangeTableFunc.class,
+            RangeTableFuncCol.class,
+            RangeTableSample.class,
+            RangeVar.class,
+            RawStmt.class,
+            ReassignOwnedStmt.class,
+            RefreshMatViewStmt.class,
+            ReindexStmt.class,
+            RelFileNumber.class,
+            RenameStmt.class,
+            RepackStmt.class,
+            ReplicaIdentityStmt.class,
+            ResTarget.class,
+            ReturnStmt.class,
+            ReturningClause.class,
+            ReturningOption.class,
+            RoleSpec.class,
+            RowExpr.class,
+            RuleStmt.class,
+            SQLValueFunction.class,
+            SecLabelStmt.class,
+            SelectLimit.class,
+            SelectStmt.class,
+            SetToDefault.class,
+            SinglePartitionSpec.class,
+            SortBy.class,
+            StatsElem.class,
+            Stmt.class,
+            SubLink.class,
+            TableLikeClause.class,
+            TransactionStmt.class,
+            TriggerTransition.class,
+            TruncateStmt.class,
+            TypeCast.class,
+            TypeName.class,
+            UnlistenStmt.class,
+            UpdateStmt.class,
+            VacuumRelation.class,
+            VacuumStmt.class,
+            ValUnion.class,
+            Value.class,
+            VariableSetStmt.class,
+            VariableShowStmt.class,
+            ViewStmt.class,
+            WaitStmt.class,
+            WindowDef.class,
+            WithClause.class,
+            XmlExpr.class,
+            XmlSerialize.class,
+            core_yy_extra_type.class,
+            core_yyscan_t.class,
+    };
+
+    /**
+     * The index in {@link #CLASSES} of a class, -1 if it is not known
+     */
+    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < CLASSES.length; i++) {
+                if (CLASSES[i].equals(type)) {
+                    return Integer.valueOf(i);
+                }
+            }
+            return Integer.valueOf(-1);
+        }
+    };
+
+    /**
+     * No instances
+     */
+    private StructuralComparison() {
+        // static methods only
+    }
+
+    /**
+     * Compares two (sub)trees
+     *
+     * @param one
+     *            A node, list or value
+     * @param other
+     *            The node, list or value to compare with
+     * @return boolean true if one and other are structurally equal
+     */
+    static boolean equals(Object one, Object other) {
+        /*
+         * Pairs of objects that still have to be compared. An ArrayDeque would not accept nulls.
+         */
+        ArrayList<Object> todo = new ArrayList<>();
+        todo.add(one);
+        todo.add(other);
+        while (!todo.isEmpty()) {
+            Object b = todo.remove(todo.size() - 1);
+            Object a = todo.remove(todo.size() - 1);
+            if (a == b) {
+                continue;
+            }
+            if (a == null || b == null || !a.getClass().equals(b.getClass())) {
+                return false;
+            }
+            if (a instanceof java.util.List<?> listA) {
+                java.util.List<?> listB = (java.util.List<?>) b;
+                if (listA.size() != listB.size()
+                        || a instanceof List<?> structureList && structureList.type != ((List<?>) b).type) {
+                    return false;
+                }
+                for (Iterator<?> itA = listA.iterator(), itB = listB.iterator(); itA.hasNext();) {
+                    todo.add(itA.next());
+                    todo.add(itB.next());
+                }
+                continue;
+            }
+            int index = indexOf(a.getClass());
+            if (index >= 0) {
+                if (!equalFields(index, a, b, todo)) {
+                    return false;
+                }
+            } else if (a.getClass().isArray() ? !Arrays.deepEquals(new Object[] { a }, new Object[] { b })
+                    : !a.equals(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the structural hash code of a (sub)tree
+     *
+     * @param root
+     *            A node, list or value
+     * @return int The hash code, which is equal for structurally equal trees
+     */
+    static int hashCode(Object root) {
+        int hash = 1;
+        ArrayList<Object> todo = new ArrayList<>();
+        todo.add(root);
+        while (!todo.isEmpty()) {
+            Object object = todo.remove(todo.size() - 1);
+            if (object == null) {
+                hash = 31 * hash;
+            } else if (object instanceof java.util.List<?> list) {
+                hash = 31 * hash + list.size();
+                if (object instanceof List<?> structureList) {
+                    hash = 31 * hash + ordinal(structureList.type);
+                }
+                todo.addAll(list);
+            } else {
+                int index = indexOf(object.getClass());
+                if (index >= 0) {
+                    hash = hashFields(index, object, 31 * hash + index, todo);
+                } else if (object.getClass().isArray()) {
+                    hash = 31 * hash + Arrays.deepHashCode(new Object[] { object });
+                } else {
+                    hash = 31 * hash + object.hashCode();
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the index of a class that is compared field by field
+     *
+     * @param type
+     *            The class
+     * @return int The index in {@link #CLASSES}, -1 if objects of the class are compared by their own equals
+     *         method
+     * @throws IllegalArgumentException
+     *             If the class is a Node subclass that is not known
+     */
+    private static int indexOf(Class<?> type) {
+        int index = INDEXES.get(type).intValue();
+        if (index < 0 && Node.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(type.getName() + " cannot be compared field by field");
+        }
+        return index;
+    }
+
+    /**
+     * Returns a hash code of an enum constant that is the same in every run
+     *
+     * @param value
+     *            The constant, may be null
+     * @return int 0 for null, otherwise the ordinal plus one
+     */
+    private static int ordinal(Enum<?> value) {
+        return value == null ? 0 : value.ordinal() + 1;
+    }
+
+    /**
+     * Compares the primitive, String and enum fields of two nodes of the same class and pushes the other
+     * fields onto the stack
+     *
+     * @param index
+     *            The index of the class of the nodes
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalFields(int index, Object one, Object other, ArrayList<Object> todo) {
+        switch (index) {
+        case 0:
+            return equalsATAlterConstraint((ATAlterConstraint) one, (ATAlterConstraint) other, todo);
+        case 1:
+            return equalsA_ArrayExpr((A_ArrayExpr) one, (A_ArrayExpr) other, todo);
+        case 2:
+            return equalsA_Const((A_Const) one, (A_Const) other, todo);
+        case 3:
+            return equalsA_Expr((A_Expr) one, (A_Expr) other, todo);
+        case 4:
+            return equalsA_Indices((A_Indices) one, (A_Indices) other, todo);
+        case 5:
+            return equalsA_Indirection((A_Indirection) one, (A_Indirection) other, todo);
+        case 6:
+            return equalsA_Star((A_Star) one, (A_Star) other, todo);
+        case 7:
+            return equalsAbstractPublicationStmt((AbstractPublicationStmt) one, (AbstractPublicationStmt) other, todo);
+        case 8:
+            return equalsAccessPriv((AccessPriv) one, (AccessPriv) other, todo);
+        case 9:
+            return equalsAlias((Alias) one, (Alias) other, todo);
+        case 10:
+            return equalsAlterCollationStmt((AlterCollationStmt) one, (AlterCollationStmt) other, todo);
+        case 11:
+            return equalsAlterDatabaseRefreshCollStmt((AlterDatabaseRefreshCollStmt) one,
+                    (AlterDatabaseRefreshCollStmt) other, todo);
+        case 12:
+            return equalsAlterDatabaseSetStmt((AlterDatabaseSetStmt) one, (AlterDatabaseSetStmt) other, todo);
+        case 13:
+            return equalsAlterDatabaseStmt((AlterDatabaseStmt) one, (AlterDatabaseStmt) other, todo);
+        case 14:
+            return equalsAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) one,
+                    (AlterDefaultPrivilegesStmt) other, todo);
+        case 15:
+            return equalsAlterDomainStmt((AlterDomainStmt) one, (AlterDomainStmt) other, todo);
+        case 16:
+            return equalsAlterEnumStmt((AlterEnumStmt) one, (AlterEnumStmt) other, todo);
+        case 17:
+            return equalsAlterEventTrigStmt((AlterEventTrigStmt) one, (AlterEventTrigStmt) other, todo);
+        case 18:
+            return equalsAlterExtensionContentsStmt((AlterExtensionContentsStmt) one,
+                    (AlterExtensionContentsStmt) other, todo);
+        case 19:
+            return equalsAlterExtensionStmt((AlterExtensionStmt) one, (AlterExtensionStmt) other, todo);
+        case 20:
+            return equalsAlterFdwStmt((AlterFdwStmt) one, (AlterFdwStmt) other, todo);
+        case 21:
+            return equalsAlterForeignServerStmt((AlterForeignServerStmt) one, (AlterForeignServerStmt) other, todo);
+        case 22:
+            return equalsAlterFunctionStmt((AlterFunctionStmt) one, (AlterFunctionStmt) other, todo);
+        case 23:
+            return equalsAlterObjectDependsStmt((AlterObjectDependsStmt) one, (AlterObjectDependsStmt) other, todo);
+        case 24:
+            return equalsAlterObjectSchemaStmt((AlterObjectSchemaStmt) one, (AlterObjectSchemaStmt) other, todo);
+        case 25:
+            return equalsAlterOpFamilyStmt((AlterOpFamilyStmt) one, (AlterOpFamilyStmt) other, todo);
+        case 26:
+            return equalsAlterOperatorStmt((AlterOperatorStmt) one, (AlterOperatorStmt) other, todo);
+        case 27:
+            return equalsAlterOwnerStmt((AlterOwnerStmt) one, (AlterOwnerStmt) other, todo);
+        case 28:
+            return equalsAlterPolicyStmt((AlterPolicyStmt) one, (AlterPolicyStmt) other, todo);
+        case 29:
+            return equalsAlterPropGraphStmt((AlterPropGraphStmt) one, (AlterPropGraphStmt) other, todo);
+        case 30:
+            return equalsAlterPublicationStmt((AlterPublicationStmt) one, (AlterPublicationStmt) other, todo);
+        case 31:
+            return equalsAlterRoleSetStmt((AlterRoleSetStmt) one, (AlterRoleSetStmt) other, todo);
+        case 32:
+            return equalsAlterRoleStmt((AlterRoleStmt) one, (AlterRoleStmt) other, todo);
+        case 33:
+            return equalsAlterSeqStmt((AlterSeqStmt) one, (AlterSeqStmt) other, todo);
+        case 34:
+            return equalsAlterStatsStmt((AlterStatsStmt) one, (AlterStatsStmt) other, todo);
+        case 35:
+            return equalsAlterSubscriptionStmt((AlterSubscriptionStmt) one, (AlterSubscriptionStmt) other, todo);
+        case 36:
+            return equalsAlterSystemStmt((AlterSystemStmt) one, (AlterSystemStmt) other, todo);
+        case 37:
+            return equalsAlterTSConfigurationStmt((AlterTSConfigurationStmt) one,
+                    (AlterTSConfigurationStmt) other, todo);
+        case 38:
+            return equalsAlterTSDictionaryStmt((AlterTSDictionaryStmt) one, (AlterTSDictionaryStmt) other, todo);
+        case 39:
+            return equalsAlterTableCmd((AlterTableCmd) one, (AlterTableCmd) other, todo);
+        case 40:
+            return equalsAlterTableMoveAllStmt((AlterTableMoveAllStmt) one, (AlterTableMoveAllStmt) other, todo);
+        case 41:
+            return equalsAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) one,
+                    (AlterTableSpaceOptionsStmt) other, todo);
+        case 42:
+            return equalsAlterTableStmt((AlterTableStmt) one, (AlterTableStmt) other, todo);
+        case 43:
+            return equalsAlterTypeStmt((AlterTypeStmt) one, (AlterTypeStmt) other, todo);
+        case 44:
+            return equalsAlterUserMappingStmt((AlterUserMappingStmt) one, (AlterUserMappingStmt) other, todo);
+        case 45:
+            return equalsBoolExpr((BoolExpr) one, (BoolExpr) other, todo);
+        case 46:
+            return equalsBooleanTest((BooleanTest) one, (BooleanTest) other, todo);
+        case 47:
+            return equalsCTECycleClause((CTECycleClause) one, (CTECycleClause) other, todo);
+        case 48:
+            return equalsCTESearchClause((CTESearchClause) one, (CTESearchClause) other, todo);
+        case 49:
+            return equalsCallStmt((CallStmt) one, (CallStmt) other, todo);
+        case 50:
+            return equalsCaseExpr((CaseExpr) one, (CaseExpr) other, todo);
+        case 51:
+            return equalsCaseWhen((CaseWhen) one, (CaseWhen) other, todo);
+        case 52:
+            return equalsCheckPointStmt((CheckPointStmt) one, (CheckPointStmt) other, todo);
+        case 53:
+            return equalsClosePortalStmt((ClosePortalStmt) one, (ClosePortalStmt) other, todo);
+        case 54:
+            return equalsClusterStmt((ClusterStmt) one, (ClusterStmt) other, todo);
+        case 55:
+            return equalsCoalesceExpr((CoalesceExpr) one, (CoalesceExpr) other, todo);
+        case 56:
+            return equalsCollateClause((CollateClause) one, (CollateClause) other, todo);
+        case 57:
+            return equalsColumnDef((ColumnDef) one, (ColumnDef) other, todo);
+        case 58:
+            return equalsColumnRef((ColumnRef) one, (ColumnRef) other, todo);
+        case 59:
+            return equalsCommentStmt((CommentStmt) one, (CommentStmt) other, todo);
+        case 60:
+            return equalsCommonTableExpr((CommonTableExpr) one, (CommonTableExpr) other, todo);
+        case 61:
+            return equalsCompositeTypeStmt((CompositeTypeStmt) one, (CompositeTypeStmt) other, todo);
+        case 62:
+            return equalsConstraint((Constraint) one, (Constraint) other, todo);
+        case 63:
+            return equalsConstraintsSetStmt((ConstraintsSetStmt) one, (ConstraintsSetStmt) other, todo);
+        case 64:
+            return equalsCopyStmt((CopyStmt) one, (CopyStmt) other, todo);
+        case 65:
+            return equalsCreateAmStmt((CreateAmStmt) one, (CreateAmStmt) other, todo);
+        case 66:
+            return equalsCreateCastStmt((CreateCastStmt) one, (CreateCastStmt) other, todo);
+        case 67:
+            return equalsCreateConversionStmt((CreateConversionStmt) one, (CreateConversionStmt) other, todo);
+        case 68:
+            return equalsCreateDomainStmt((CreateDomainStmt) one, (CreateDomainStmt) other, todo);
+        case 69:
+            return equalsCreateEnumStmt((CreateEnumStmt) one, (CreateEnumStmt) other, todo);
+        case 70:
+            return equalsCreateEventTrigStmt((CreateEventTrigStmt) one, (CreateEventTrigStmt) other, todo);
+        case 71:
+            return equalsCreateExtensionStmt((CreateExtensionStmt) one, (CreateExtensionStmt) other, todo);
+        case 72:
+            return equalsCreateFdwStmt((CreateFdwStmt) one, (CreateFdwStmt) other, todo);
+        case 73:
+            return equalsCreateForeignServerStmt((CreateForeignServerStmt) one, (CreateForeignServerStmt) other, todo);
+        case 74:
+            return equalsCreateForeignTableStmt((CreateForeignTableStmt) one, (CreateForeignTableStmt) other, todo);
+        case 75:
+            return equalsCreateFunctionStmt((CreateFunctionStmt) one, (CreateFunctionStmt) other, todo);
+        case 76:
+            return equalsCreateOpClassItem((CreateOpClassItem) one, (CreateOpClassItem) other, todo);
+        case 77:
+            return equalsCreateOpClassStmt((CreateOpClassStmt) one, (CreateOpClassStmt) other, todo);
+        case 78:
+            return equalsCreateOpFamilyStmt((CreateOpFamilyStmt) one, (CreateOpFamilyStmt) other, todo);
+        case 79:
+            return equalsCreatePLangStmt((CreatePLangStmt) one, (CreatePLangStmt) other, todo);
+        case 80:
+            return equalsCreatePolicyStmt((CreatePolicyStmt) one, (CreatePolicyStmt) other, todo);
+        case 81:
+            return equalsCreatePropGraphStmt((CreatePropGraphStmt) one, (CreatePropGraphStmt) other, todo);
+        case 82:
+            return equalsCreatePublicationStmt((CreatePublicationStmt) one, (CreatePublicationStmt) other, todo);
+        case 83:
+            return equalsCreateRangeStmt((CreateRangeStmt) one, (CreateRangeStmt) other, todo);
+        case 84:
+            return equalsCreateRoleStmt((CreateRoleStmt) one, (CreateRoleStmt) other, todo);
+        case 85:
+            return equalsCreateSchemaStmt((CreateSchemaStmt) one, (CreateSchemaStmt) other, todo);
+        case 86:
+            return equalsCreateSeqStmt((CreateSeqStmt) one, (CreateSeqStmt) other, todo);
+        case 87:
+            return equalsCreateStatsStmt((CreateStatsStmt) one, (CreateStatsStmt) other, todo);
+        case 88:
+            return equalsCreateStmt((CreateStmt) one, (CreateStmt) other, todo);
+        case 89:
+            return equalsCreateSubscriptionStmt((CreateSubscriptionStmt) one, (CreateSubscriptionStmt) other, todo);
+        case 90:
+            return equalsCreateTableAsStmt((CreateTableAsStmt) one, (CreateTableAsStmt) other, todo);
+        case 91:
+            return equalsCreateTableSpaceStmt((CreateTableSpaceStmt) one, (CreateTableSpaceStmt) other, todo);
+        case 92:
+            return equalsCreateTransformStmt((CreateTransformStmt) one, (CreateTransformStmt) other, todo);
+        case 93:
+            return equalsCreateTrigStmt((CreateTrigStmt) one, (CreateTrigStmt) other, todo);
+        case 94:
+            return equalsCreateUserMappingStmt((CreateUserMappingStmt) one, (CreateUserMappingStmt) other, todo);
+        case 95:
+            return equalsCreatedbStmt((CreatedbStmt) one, (CreatedbStmt) other, todo);
+        case 96:
+            return equalsCurrentOfExpr((CurrentOfExpr) one, (CurrentOfExpr) other, todo);
+        case 97:
+            return equalsDeallocateStmt((DeallocateStmt) one, (DeallocateStmt) other, todo);
+        case 98:
+            return equalsDeclareCursorStmt((DeclareCursorStmt) one, (DeclareCursorStmt) other, todo);
+        case 99:
+            return equalsDefElem((DefElem) one, (DefElem) other, todo);
+        case 100:
+            return equalsDefineStmt((DefineStmt) one, (DefineStmt) other, todo);
+        case 101:
+            return equalsDeleteStmt((DeleteStmt) one, (DeleteStmt) other, todo);
+        case 102:
+            return equalsDiscardStmt((DiscardStmt) one, (DiscardStmt) other, todo);
+        case 103:
+            return equalsDoStmt((DoStmt) one, (DoStmt) other, todo);
+        case 104:
+            return equalsDropOwnedStmt((DropOwnedStmt) one, (DropOwnedStmt) other, todo);
+        case 105:
+            return equalsDropRoleStmt((DropRoleStmt) one, (DropRoleStmt) other, todo);
+        case 106:
+            return equalsDropStmt((DropStmt) one, (DropStmt) other, todo);
+        case 107:
+            return equalsDropSubscriptionStmt((DropSubscriptionStmt) one, (DropSubscriptionStmt) other, todo);
+        case 108:
+            return equalsDropTableSpaceStmt((DropTableSpaceStmt) one, (DropTableSpaceStmt) other, todo);
+        case 109:
+            return equalsDropUserMappingStmt((DropUserMappingStmt) one, (DropUserMappingStmt) other, todo);
+        case 110:
+            return equalsDropdbStmt((DropdbStmt) one, (DropdbStmt) other, todo);
+        case 111:
+            return equalsErrorData((ErrorData) one, (ErrorData) other, todo);
+        case 112:
+            return equalsErrorSaveContext((ErrorSaveContext) one, (ErrorSaveContext) other, todo);
+        case 113:
+            return equalsExecuteStmt((ExecuteStmt) one, (ExecuteStmt) other, todo);
+        case 114:
+            return equalsExplainStmt((ExplainStmt) one, (ExplainStmt) other, todo);
+        case 115:
+            return equalsFetchStmt((FetchStmt) one, (FetchStmt) other, todo);
+        case 116:
+            return equalsForPortionOfClause((ForPortionOfClause) one, (ForPortionOfClause) other, todo);
+        case 117:
+            return equalsFuncCall((FuncCall) one, (FuncCall) other, todo);
+        case 118:
+            return equalsFunctionParameter((FunctionParameter) one, (FunctionParameter) other, todo);
+        case 119:
+            return equalsGrantRoleStmt((GrantRoleStmt) one, (GrantRoleStmt) other, todo);
+        case 120:
+            return equalsGrantStmt((GrantStmt) one, (GrantStmt) other, todo);
+        case 121:
+            return equalsGraphElementPattern((GraphElementPattern) one, (GraphElementPattern) other, todo);
+        case 122:
+            return equalsGraphPattern((GraphPattern) one, (GraphPattern) other, todo);
+        case 123:
+            return equalsGroupClause((GroupClause) one, (GroupClause) other, todo);
+        case 124:
+            return equalsGroupingFunc((GroupingFunc) one, (GroupingFunc) other, todo);
+        case 125:
+            return equalsGroupingSet((GroupingSet) one, (GroupingSet) other, todo);
+        case 126:
+            return equalsImportForeignSchemaStmt((ImportForeignSchemaStmt) one, (ImportForeignSchemaStmt) other, todo);
+        case 127:
+            return equalsImportQual((ImportQual) one, (ImportQual) other, todo);
+        case 128:
+            return equalsIndexElem((IndexElem) one, (IndexElem) other, todo);
+        case 129:
+            return equalsIndexStmt((IndexStmt) one, (IndexStmt) other, todo);
+        case 130:
+            return equalsInferClause((InferClause) one, (InferClause) other, todo);
+        case 131:
+            return equalsInsertStmt((InsertStmt) one, (InsertStmt) other, todo);
+        case 132:
+            return equalsIntoClause((IntoClause) one, (IntoClause) other, todo);
+        case 133:
+            return equalsJoinExpr((JoinExpr) one, (JoinExpr) other, todo);
+        case 134:
+            return equalsJsonAggConstructor((JsonAggConstructor) one, (JsonAggConstructor) other, todo);
+        case 135:
+            return equalsJsonArgument((JsonArgument) one, (JsonArgument) other, todo);
+        case 136:
+            return equalsJsonArrayAgg((JsonArrayAgg) one, (JsonArrayAgg) other, todo);
+        case 137:
+            return equalsJsonArrayConstructor((JsonArrayConstructor) one, (JsonArrayConstructor) other, todo);
+        case 138:
+            return equalsJsonArrayQueryConstructor((JsonArrayQueryConstructor) one,
+                    (JsonArrayQueryConstructor) other, todo);
+        case 139:
+            return equalsJsonBehavior((JsonBehavior) one, (JsonBehavior) other, todo);
+        case 140:
+            return equalsJsonFormat((JsonFormat) one, (JsonFormat) other, todo);
+        case 141:
+            return equalsJsonFuncExpr((JsonFuncExpr) one, (JsonFuncExpr) other, todo);
+        case 142:
+            return equalsJsonIsPredicate((JsonIsPredicate) one, (JsonIsPredicate) other, todo);
+        case 143:
+            return equalsJsonKeyValue((JsonKeyValue) one, (JsonKeyValue) other, todo);
+        case 144:
+            return equalsJsonObjectAgg((JsonObjectAgg) one, (JsonObjectAgg) other, todo);
+        case 145:
+            return equalsJsonObjectConstructor((JsonObjectConstructor) one, (JsonObjectConstructor) other, todo);
+        case 146:
+            return equalsJsonOutput((JsonOutput) one, (JsonOutput) other, todo);
+        case 147:
+            return equalsJsonParseExpr((JsonParseExpr) one, (JsonParseExpr) other, todo);
+        case 148:
+            return equalsJsonReturning((JsonReturning) one, (JsonReturning) other, todo);
+        case 149:
+            return equalsJsonScalarExpr((JsonScalarExpr) one, (JsonScalarExpr) other, todo);
+        case 150:
+            return equalsJsonSerializeExpr((JsonSerializeExpr) one, (JsonSerializeExpr) other, todo);
+        case 151:
+            return equalsJsonTable((JsonTable) one, (JsonTable) other, todo);
+        case 152:
+            return equalsJsonTableColumn((JsonTableColumn) one, (JsonTableColumn) other, todo);
+        case 153:
+            return equalsJsonTablePathSpec((JsonTablePathSpec) one, (JsonTablePathSpec) other, todo);
+        case 154:
+            return equalsJsonTablePlanSpec((JsonTablePlanSpec) one, (JsonTablePlanSpec) other, todo);
+        case 155:
+            return equalsJsonValueExpr((JsonValueExpr) one, (JsonValueExpr) other, todo);
+        case 156:
+            return equalsKeyAction((KeyAction) one, (KeyAction) other, todo);
+        case 157:
+            return equalsKeyActions((KeyActions) one, (KeyActions) other, todo);
+        case 158:
+            return equalsListenStmt((ListenStmt) one, (ListenStmt) other, todo);
+        case 159:
+            return equalsLoadStmt((LoadStmt) one, (LoadStmt) other, todo);
+        case 160:
+            return equalsLocation((Location) one, (Location) other, todo);
+        case 161:
+            return equalsLockStmt((LockStmt) one, (LockStmt) other, todo);
+        case 162:
+            return equalsLockingClause((LockingClause) one, (LockingClause) other, todo);
+        case 163:
+            return equalsMergeStmt((MergeStmt) one, (MergeStmt) other, todo);
+        case 164:
+            return equalsMergeSupportFunc((MergeSupportFunc) one, (MergeSupportFunc) other, todo);
+        case 165:
+            return equalsMergeWhenClause((MergeWhenClause) one, (MergeWhenClause) other, todo);
+        case 166:
+            return equalsMinMaxExpr((MinMaxExpr) one, (MinMaxExpr) other, todo);
+        case 167:
+            return equalsMultiAssignRef((MultiAssignRef) one, (MultiAssignRef) other, todo);
+        case 168:
+            return equalsNamedArgExpr((NamedArgExpr) one, (NamedArgExpr) other, todo);
+        case 169:
+            return equalsNode((Node) one, (Node) other, todo);
+        case 170:
+            return equalsNotifyStmt((NotifyStmt) one, (NotifyStmt) other, todo);
+        case 171:
+            return equalsNullTest((NullTest) one, (NullTest) other, todo);
+        case 172:
+            return equalsObjectWithArgs((ObjectWithArgs) one, (ObjectWithArgs) other, todo);
+        case 173:
+            return equalsOid((Oid) one, (Oid) other, todo);
+        case 174:
+            return equalsOnConflictClause((OnConflictClause) one, (OnConflictClause) other, todo);
+        case 175:
+            return equalsPLAssignStmt((PLAssignStmt) one, (PLAssignStmt) other, todo);
+        case 176:
+            return equalsParamRef((ParamRef) one, (ParamRef) other, todo);
+        case 177:
+            return equalsPartitionBoundSpec((PartitionBoundSpec) one, (PartitionBoundSpec) other, todo);
+        case 178:
+            return equalsPartitionCmd((PartitionCmd) one, (PartitionCmd) other, todo);
+        case 179:
+            return equalsPartitionElem((PartitionElem) one, (PartitionElem) other, todo);
+        case 180:
+            return equalsPartitionRangeDatum((PartitionRangeDatum) one, (PartitionRangeDatum) other, todo);
+        case 181:
+            return equalsPartitionSpec((PartitionSpec) one, (PartitionSpec) other, todo);
+        case 182:
+            return equalsPrepareStmt((PrepareStmt) one, (PrepareStmt) other, todo);
+        case 183:
+            return equalsPrivTarget((PrivTarget) one, (PrivTarget) other, todo);
+        case 184:
+            return equalsPropGraphEdge((PropGraphEdge) one, (PropGraphEdge) other, todo);
+        case 185:
+            return equalsPropGraphLabelAndProperties((PropGraphLabelAndProperties) one,
+                    (PropGraphLabelAndProperties) other, todo);
+        case 186:
+            return equalsPropGraphProperties((PropGraphProperties) one, (PropGraphProperties) other, todo);
+        case 187:
+            return equalsPropGraphVertex((PropGraphVertex) one, (PropGraphVertex) other, todo);
+        case 188:
+            return equalsPublicationAllObjSpec((PublicationAllObjSpec) one, (PublicationAllObjSpec) other, todo);
+        case 189:
+            return equalsPublicationObjSpec((PublicationObjSpec) one, (PublicationObjSpec) other, todo);
+        case 190:
+            return equalsPublicationTable((PublicationTable) one, (PublicationTable) other, todo);
+        case 191:
+            return equalsRangeFunction((RangeFunction) one, (RangeFunction) other, todo);
+        case 192:
+            return equalsRangeGraphTable((RangeGraphTable) one, (RangeGraphTable) other, todo);
+        case 193:
+            return equalsRangeSubselect((RangeSubselect) one, (RangeSubselect) other, todo);
+        case 194:
+            return equalsRangeTableFunc((RangeTableFunc) one, (RangeTableFunc) other, todo);
+        case 195:
+            return equalsRangeTableFuncCol((RangeTableFuncCol) one, (RangeTableFuncCol) other, todo);
+        case 196:
+            return equalsRangeTableSample((RangeTableSample) one, (RangeTableSample) other, todo);
+        case 197:
+            return equalsRangeVar((RangeVar) one, (RangeVar) other, todo);
+        case 198:
+            return equalsRawStmt((RawStmt) one, (RawStmt) other, todo);
+        case 199:
+            return equalsReassignOwnedStmt((ReassignOwnedStmt) one, (ReassignOwnedStmt) other, todo);
+        case 200:
+            return equalsRefreshMatViewStmt((RefreshMatViewStmt) one, (RefreshMatViewStmt) other, todo);
+        case 201:
+            return equalsReindexStmt((ReindexStmt) one, (ReindexStmt) other, todo);
+        case 202:
+            return equalsRelFileNumber((RelFileNumber) one, (RelFileNumber) other, todo);
+        case 203:
+            return equalsRenameStmt((RenameStmt) one, (RenameStmt) other, todo);
+        case 204:
+            return equalsRepackStmt((RepackStmt) one, (RepackStmt) other, todo);
+        case 205:
+            return equalsReplicaIdentityStmt((ReplicaIdentityStmt) one, (ReplicaIdentityStmt) other, todo);
+        case 206:
+            return equalsResTarget((ResTarget) one, (ResTarget) other, todo);
+        case 207:
+            return equalsReturnStmt((ReturnStmt) one, (ReturnStmt) other, todo);
+        case 208:
+            return equalsReturningClause((ReturningClause) one, (ReturningClause) other, todo);
+        case 209:
+            return equalsReturningOption((ReturningOption) one, (ReturningOption) other, todo);
+        case 210:
+            return equalsRoleSpec((RoleSpec) one, (RoleSpec) other, todo);
+        case 211:
+            return equalsRowExpr((RowExpr) one, (RowExpr) other, todo);
+        case 212:
+            return equalsRuleStmt((RuleStmt) one, (RuleStmt) other, todo);
+        case 213:
+            return equalsSQLValueFunction((SQLValueFunction) one, (SQLValueFunction) other, todo);
+        case 214:
+            return equalsSecLabelStmt((SecLabelStmt) one, (SecLabelStmt) other, todo);
+        case 215:
+            return equalsSelectLimit((SelectLimit) one, (SelectLimit) other, todo);
+        case 216:
+            return equalsSelectStmt((SelectStmt) one, (SelectStmt) other, todo);
+        case 217:
+            return equalsSetToDefault((SetToDefault) one, (SetToDefault) other, todo);
+        case 218:
+            return equalsSinglePartitionSpec((SinglePartitionSpec) one, (SinglePartitionSpec) other, todo);
+        case 219:
+            return equalsSortBy((SortBy) one, (SortBy) other, todo);
+        case 220:
+            return equalsStatsElem((StatsElem) one, (StatsElem) other, todo);
+        case 221:
+            return equalsStmt((Stmt) one, (Stmt) other, todo);
+        case 222:
+            return equalsSubLink((SubLink) one, (SubLink) other, todo);
+        case 223:
+            return equalsTableLikeClause((TableLikeClause) one, (TableLikeClause) other, todo);
+        case 224:
+            return equalsTransactionStmt((TransactionStmt) one, (TransactionStmt) other, todo);
+        case 225:
+            return equalsTriggerTransition((TriggerTransition) one, (TriggerTransition) other, todo);
+        case 226:
+            return equalsTruncateStmt((TruncateStmt) one, (TruncateStmt) other, todo);
+        case 227:
+            return equalsTypeCast((TypeCast) one, (TypeCast) other, todo);
+        case 228:
+            return equalsTypeName((TypeName) one, (TypeName) other, todo);
+        case 229:
+            return equalsUnlistenStmt((UnlistenStmt) one, (UnlistenStmt) other, todo);
+        case 230:
+            return equalsUpdateStmt((UpdateStmt) one, (UpdateStmt) other, todo);
+        case 231:
+            return equalsVacuumRelation((VacuumRelation) one, (VacuumRelation) other, todo);
+        case 232:
+            return equalsVacuumStmt((VacuumStmt) one, (VacuumStmt) other, todo);
+        case 233:
+            return equalsValUnion((ValUnion) one, (ValUnion) other, todo);
+        case 234:
+            return equalsValue((Value) one, (Value) other, todo);
+        case 235:
+            return equalsVariableSetStmt((VariableSetStmt) one, (VariableSetStmt) other, todo);
+        case 236:
+            return equalsVariableShowStmt((VariableShowStmt) one, (VariableShowStmt) other, todo);
+        case 237:
+            return equalsViewStmt((ViewStmt) one, (ViewStmt) other, todo);
+        case 238:
+            return equalsWaitStmt((WaitStmt) one, (WaitStmt) other, todo);
+        case 239:
+            return equalsWindowDef((WindowDef) one, (WindowDef) other, todo);
+        case 240:
+            return equalsWithClause((WithClause) one, (WithClause) other, todo);
+        case 241:
+            return equalsXmlExpr((XmlExpr) one, (XmlExpr) other, todo);
+        case 242:
+            return equalsXmlSerialize((XmlSerialize) one, (XmlSerialize) other, todo);
+        case 243:
+            return equalscore_yy_extra_type((core_yy_extra_type) one, (core_yy_extra_type) other, todo);
+        case 244:
+            return equalscore_yyscan_t((core_yyscan_t) one, (core_yyscan_t) other, todo);
+        default:
+            throw new IllegalArgumentException("No class with index " + index);
+        }
+    }
+
+    /**
+     * Hashes the primitive, String and enum fields of a node and pushes the other fields onto the stack
+     *
+     * @param index
+     *            The index of the class of the node
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the fields of the node
+     */
+    private static int hashFields(int index, Object node, int hash, ArrayList<Object> todo) {
+        switch (index) {
+        case 0:
+            return hashATAlterConstraint((ATAlterConstraint) node, hash, todo);
+        case 1:
+            return hashA_ArrayExpr((A_ArrayExpr) node, hash, todo);
+        case 2:
+            return hashA_Const((A_Const) node, hash, todo);
+        case 3:
+            return hashA_Expr((A_Expr) node, hash, todo);
+        case 4:
+            return hashA_Indices((A_Indices) node, hash, todo);
+        case 5:
+            return hashA_Indirection((A_Indirection) node, hash, todo);
+        case 6:
+            return hashA_Star((A_Star) node, hash, todo);
+        case 7:
+            return hashAbstractPublicationStmt((AbstractPublicationStmt) node, hash, todo);
+        case 8:
+            return hashAccessPriv((AccessPriv) node, hash, todo);
+        case 9:
+            return hashAlias((Alias) node, hash, todo);
+        case 10:
+            return hashAlterCollationStmt((AlterCollationStmt) node, hash, todo);
+        case 11:
+            return hashAlterDatabaseRefreshCollStmt((AlterDatabaseRefreshCollStmt) node, hash, todo);
+        case 12:
+            return hashAlterDatabaseSetStmt((AlterDatabaseSetStmt) node, hash, todo);
+        case 13:
+            return hashAlterDatabaseStmt((AlterDatabaseStmt) node, hash, todo);
+        case 14:
+            return hashAlterDefaultPrivilegesStmt((AlterDefaultPrivilegesStmt) node, hash, todo);
+        case 15:
+            return hashAlterDomainStmt((AlterDomainStmt) node, hash, todo);
+        case 16:
+            return hashAlterEnumStmt((AlterEnumStmt) node, hash, todo);
+        case 17:
+            return hashAlterEventTrigStmt((AlterEventTrigStmt) node, hash, todo);
+        case 18:
+            return hashAlterExtensionContentsStmt((AlterExtensionContentsStmt) node, hash, todo);
+        case 19:
+            return hashAlterExtensionStmt((AlterExtensionStmt) node, hash, todo);
+        case 20:
+            return hashAlterFdwStmt((AlterFdwStmt) node, hash, todo);
+        case 21:
+            return hashAlterForeignServerStmt((AlterForeignServerStmt) node, hash, todo);
+        case 22:
+            return hashAlterFunctionStmt((AlterFunctionStmt) node, hash, todo);
+        case 23:
+            return hashAlterObjectDependsStmt((AlterObjectDependsStmt) node, hash, todo);
+        case 24:
+            return hashAlterObjectSchemaStmt((AlterObjectSchemaStmt) node, hash, todo);
+        case 25:
+            return hashAlterOpFamilyStmt((AlterOpFamilyStmt) node, hash, todo);
+        case 26:
+            return hashAlterOperatorStmt((AlterOperatorStmt) node, hash, todo);
+        case 27:
+            return hashAlterOwnerStmt((AlterOwnerStmt) node, hash, todo);
+        case 28:
+            return hashAlterPolicyStmt((AlterPolicyStmt) node, hash, todo);
+        case 29:
+            return hashAlterPropGraphStmt((AlterPropGraphStmt) node, hash, todo);
+        case 30:
+            return hashAlterPublicationStmt((AlterPublicationStmt) node, hash, todo);
+        case 31:
+            return hashAlterRoleSetStmt((AlterRoleSetStmt) node, hash, todo);
+        case 32:
+            return hashAlterRoleStmt((AlterRoleStmt) node, hash, todo);
+        case 33:
+            return hashAlterSeqStmt((AlterSeqStmt) node, hash, todo);
+        case 34:
+            return hashAlterStatsStmt((AlterStatsStmt) node, hash, todo);
+        case 35:
+            return hashAlterSubscriptionStmt((AlterSubscriptionStmt) node, hash, todo);
+        case 36:
+            return hashAlterSystemStmt((AlterSystemStmt) node, hash, todo);
+        case 37:
+            return hashAlterTSConfigurationStmt((AlterTSConfigurationStmt) node, hash, todo);
+        case 38:
+            return hashAlterTSDictionaryStmt((AlterTSDictionaryStmt) node, hash, todo);
+        case 39:
+            return hashAlterTableCmd((AlterTableCmd) node, hash, todo);
+        case 40:
+            return hashAlterTableMoveAllStmt((AlterTableMoveAllStmt) node, hash, todo);
+        case 41:
+            return hashAlterTableSpaceOptionsStmt((AlterTableSpaceOptionsStmt) node, hash, todo);
+        case 42:
+            return hashAlterTableStmt((AlterTableStmt) node, hash, todo);
+        case 43:
+            return hashAlterTypeStmt((AlterTypeStmt) node, hash, todo);
+        case 44:
+            return hashAlterUserMappingStmt((AlterUserMappingStmt) node, hash, todo);
+        case 45:
+            return hashBoolExpr((BoolExpr) node, hash, todo);
+        case 46:
+            return hashBooleanTest((BooleanTest) node, hash, todo);
+        case 47:
+            return hashCTECycleClause((CTECycleClause) node, hash, todo);
+        case 48:
+            return hashCTESearchClause((CTESearchClause) node, hash, todo);
+        case 49:
+            return hashCallStmt((CallStmt) node, hash, todo);
+        case 50:
+            return hashCaseExpr((CaseExpr) node, hash, todo);
+        case 51:
+            return hashCaseWhen((CaseWhen) node, hash, todo);
+        case 52:
+            return hashCheckPointStmt((CheckPointStmt) node, hash, todo);
+        case 53:
+            return hashClosePortalStmt((ClosePortalStmt) node, hash, todo);
+        case 54:
+            return hashClusterStmt((ClusterStmt) node, hash, todo);
+        case 55:
+            return hashCoalesceExpr((CoalesceExpr) node, hash, todo);
+        case 56:
+            return hashCollateClause((CollateClause) node, hash, todo);
+        case 57:
+            return hashColumnDef((ColumnDef) node, hash, todo);
+        case 58:
+            return hashColumnRef((ColumnRef) node, hash, todo);
+        case 59:
+            return hashCommentStmt((CommentStmt) node, hash, todo);
+        case 60:
+            return hashCommonTableExpr((CommonTableExpr) node, hash, todo);
+        case 61:
+            return hashCompositeTypeStmt((CompositeTypeStmt) node, hash, todo);
+        case 62:
+            return hashConstraint((Constraint) node, hash, todo);
+        case 63:
+            return hashConstraintsSetStmt((ConstraintsSetStmt) node, hash, todo);
+        case 64:
+            return hashCopyStmt((CopyStmt) node, hash, todo);
+        case 65:
+            return hashCreateAmStmt((CreateAmStmt) node, hash, todo);
+        case 66:
+            return hashCreateCastStmt((CreateCastStmt) node, hash, todo);
+        case 67:
+            return hashCreateConversionStmt((CreateConversionStmt) node, hash, todo);
+        case 68:
+            return hashCreateDomainStmt((CreateDomainStmt) node, hash, todo);
+        case 69:
+            return hashCreateEnumStmt((CreateEnumStmt) node, hash, todo);
+        case 70:
+            return hashCreateEventTrigStmt((CreateEventTrigStmt) node, hash, todo);
+        case 71:
+            return hashCreateExtensionStmt((CreateExtensionStmt) node, hash, todo);
+        case 72:
+            return hashCreateFdwStmt((CreateFdwStmt) node, hash, todo);
+        case 73:
+            return hashCreateForeignServerStmt((CreateForeignServerStmt) node, hash, todo);
+        case 74:
+            return hashCreateForeignTableStmt((CreateForeignTableStmt) node, hash, todo);
+        case 75:
+            return hashCreateFunctionStmt((CreateFunctionStmt) node, hash, todo);
+        case 76:
+            return hashCreateOpClassItem((CreateOpClassItem) node, hash, todo);
+        case 77:
+            return hashCreateOpClassStmt((CreateOpClassStmt) node, hash, todo);
+        case 78:
+            return hashCreateOpFamilyStmt((CreateOpFamilyStmt) node, hash, todo);
+        case 79:
+            return hashCreatePLangStmt((CreatePLangStmt) node, hash, todo);
+        case 80:
+            return hashCreatePolicyStmt((CreatePolicyStmt) node, hash, todo);
+        case 81:
+            return hashCreatePropGraphStmt((CreatePropGraphStmt) node, hash, todo);
+        case 82:
+            return hashCreatePublicationStmt((CreatePublicationStmt) node, hash, todo);
+        case 83:
+            return hashCreateRangeStmt((CreateRangeStmt) node, hash, todo);
+        case 84:
+            return hashCreateRoleStmt((CreateRoleStmt) node, hash, todo);
+        case 85:
+            return hashCreateSchemaStmt((CreateSchemaStmt) node, hash, todo);
+        case 86:
+            return hashCreateSeqStmt((CreateSeqStmt) node, hash, todo);
+        case 87:
+            return hashCreateStatsStmt((CreateStatsStmt) node, hash, todo);
+        case 88:
+            return hashCreateStmt((CreateStmt) node, hash, todo);
+        case 89:
+            return hashCreateSubscriptionStmt((CreateSubscriptionStmt) node, hash, todo);
+        case 90:
+            return hashCreateTableAsStmt((CreateTableAsStmt) node, hash, todo);
+        case 91:
+            return hashCreateTableSpaceStmt((CreateTableSpaceStmt) node, hash, todo);
+        case 92:
+            return hashCreateTransformStmt((CreateTransformStmt) node, hash, todo);
+        case 93:
+            return hashCreateTrigStmt((CreateTrigStmt) node, hash, todo);
+        case 94:
+            return hashCreateUserMappingStmt((CreateUserMappingStmt) node, hash, todo);
+        case 95:
+            return hashCreatedbStmt((CreatedbStmt) node, hash, todo);
+        case 96:
+            return hashCurrentOfExpr((CurrentOfExpr) node, hash, todo);
+        case 97:
+            return hashDeallocateStmt((DeallocateStmt) node, hash, todo);
+        case 98:
+            return hashDeclareCursorStmt((DeclareCursorStmt) node, hash, todo);
+        case 99:
+            return hashDefElem((DefElem) node, hash, todo);
+        case 100:
+            return hashDefineStmt((DefineStmt) node, hash, todo);
+        case 101:
+            return hashDeleteStmt((DeleteStmt) node, hash, todo);
+        case 102:
+            return hashDiscardStmt((DiscardStmt) node, hash, todo);
+        case 103:
+            return hashDoStmt((DoStmt) node, hash, todo);
+        case 104:
+            return hashDropOwnedStmt((DropOwnedStmt) node, hash, todo);
+        case 105:
+            return hashDropRoleStmt((DropRoleStmt) node, hash, todo);
+        case 106:
+            return hashDropStmt((DropStmt) node, hash, todo);
+        case 107:
+            return hashDropSubscriptionStmt((DropSubscriptionStmt) node, hash, todo);
+        case 108:
+            return hashDropTableSpaceStmt((DropTableSpaceStmt) node, hash, todo);
+        case 109:
+            return hashDropUserMappingStmt((DropUserMappingStmt) node, hash, todo);
+        case 110:
+            return hashDropdbStmt((DropdbStmt) node, hash, todo);
+        case 111:
+            return hashErrorData((ErrorData) node, hash, todo);
+        case 112:
+            return hashErrorSaveContext((ErrorSaveContext) node, hash, todo);
+        case 113:
+            return hashExecuteStmt((ExecuteStmt) node, hash, todo);
+        case 114:
+            return hashExplainStmt((ExplainStmt) node, hash, todo);
+        case 115:
+            return hashFetchStmt((FetchStmt) node, hash, todo);
+        case 116:
+            return hashForPortionOfClause((ForPortionOfClause) node, hash, todo);
+        case 117:
+            return hashFuncCall((FuncCall) node, hash, todo);
+        case 118:
+            return hashFunctionParameter((FunctionParameter) node, hash, todo);
+        case 119:
+            return hashGrantRoleStmt((GrantRoleStmt) node, hash, todo);
+        case 120:
+            return hashGrantStmt((GrantStmt) node, hash, todo);
+        case 121:
+            return hashGraphElementPattern((GraphElementPattern) node, hash, todo);
+        case 122:
+            return hashGraphPattern((GraphPattern) node, hash, todo);
+        case 123:
+            return hashGroupClause((GroupClause) node, hash, todo);
+        case 124:
+            return hashGroupingFunc((GroupingFunc) node, hash, todo);
+        case 125:
+            return hashGroupingSet((GroupingSet) node, hash, todo);
+        case 126:
+            return hashImportForeignSchemaStmt((ImportForeignSchemaStmt) node, hash, todo);
+        case 127:
+            return hashImportQual((ImportQual) node, hash, todo);
+        case 128:
+            return hashIndexElem((IndexElem) node, hash, todo);
+        case 129:
+            return hashIndexStmt((IndexStmt) node, hash, todo);
+        case 130:
+            return hashInferClause((InferClause) node, hash, todo);
+        case 131:
+            return hashInsertStmt((InsertStmt) node, hash, todo);
+        case 132:
+            return hashIntoClause((IntoClause) node, hash, todo);
+        case 133:
+            return hashJoinExpr((JoinExpr) node, hash, todo);
+        case 134:
+            return hashJsonAggConstructor((JsonAggConstructor) node, hash, todo);
+        case 135:
+            return hashJsonArgument((JsonArgument) node, hash, todo);
+        case 136:
+            return hashJsonArrayAgg((JsonArrayAgg) node, hash, todo);
+        case 137:
+            return hashJsonArrayConstructor((JsonArrayConstructor) node, hash, todo);
+        case 138:
+            return hashJsonArrayQueryConstructor((JsonArrayQueryConstructor) node, hash, todo);
+        case 139:
+            return hashJsonBehavior((JsonBehavior) node, hash, todo);
+        case 140:
+            return hashJsonFormat((JsonFormat) node, hash, todo);
+        case 141:
+            return hashJsonFuncExpr((JsonFuncExpr) node, hash, todo);
+        case 142:
+            return hashJsonIsPredicate((JsonIsPredicate) node, hash, todo);
+        case 143:
+            return hashJsonKeyValue((JsonKeyValue) node, hash, todo);
+        case 144:
+            return hashJsonObjectAgg((JsonObjectAgg) node, hash, todo);
+        case 145:
+            return hashJsonObjectConstructor((JsonObjectConstructor) node, hash, todo);
+        case 146:
+            return hashJsonOutput((JsonOutput) node, hash, todo);
+        case 147:
+            return hashJsonParseExpr((JsonParseExpr) node, hash, todo);
+        case 148:
+            return hashJsonReturning((JsonReturning) node, hash, todo);
+        case 149:
+            return hashJsonScalarExpr((JsonScalarExpr) node, hash, todo);
+        case 150:
+            return hashJsonSerializeExpr((JsonSerializeExpr) node, hash, todo);
+        case 151:
+            return hashJsonTable((JsonTable) node, hash, todo);
+        case 152:
+            return hashJsonTableColumn((JsonTableColumn) node, hash, todo);
+        case 153:
+            return hashJsonTablePathSpec((JsonTablePathSpec) node, hash, todo);
+        case 154:
+            return hashJsonTablePlanSpec((JsonTablePlanSpec) node, hash, todo);
+        case 155:
+            return hashJsonValueExpr((JsonValueExpr) node, hash, todo);
+        case 156:
+            return hashKeyAction((KeyAction) node, hash, todo);
+        case 157:
+            return hashKeyActions((KeyActions) node, hash, todo);
+        case 158:
+            return hashListenStmt((ListenStmt) node, hash, todo);
+        case 159:
+            return hashLoadStmt((LoadStmt) node, hash, todo);
+        case 160:
+            return hashLocation((Location) node, hash, todo);
+        case 161:
+            return hashLockStmt((LockStmt) node, hash, todo);
+        case 162:
+            return hashLockingClause((LockingClause) node, hash, todo);
+        case 163:
+            return hashMergeStmt((MergeStmt) node, hash, todo);
+        case 164:
+            return hashMergeSupportFunc((MergeSupportFunc) node, hash, todo);
+        case 165:
+            return hashMergeWhenClause((MergeWhenClause) node, hash, todo);
+        case 166:
+            return hashMinMaxExpr((MinMaxExpr) node, hash, todo);
+        case 167:
+            return hashMultiAssignRef((MultiAssignRef) node, hash, todo);
+        case 168:
+            return hashNamedArgExpr((NamedArgExpr) node, hash, todo);
+        case 169:
+            return hashNode((Node) node, hash, todo);
+        case 170:
+            return hashNotifyStmt((NotifyStmt) node, hash, todo);
+        case 171:
+            return hashNullTest((NullTest) node, hash, todo);
+        case 172:
+            return hashObjectWithArgs((ObjectWithArgs) node, hash, todo);
+        case 173:
+            return hashOid((Oid) node, hash, todo);
+        case 174:
+            return hashOnConflictClause((OnConflictClause) node, hash, todo);
+        case 175:
+            return hashPLAssignStmt((PLAssignStmt) node, hash, todo);
+        case 176:
+            return hashParamRef((ParamRef) node, hash, todo);
+        case 177:
+            return hashPartitionBoundSpec((PartitionBoundSpec) node, hash, todo);
+        case 178:
+            return hashPartitionCmd((PartitionCmd) node, hash, todo);
+        case 179:
+            return hashPartitionElem((PartitionElem) node, hash, todo);
+        case 180:
+            return hashPartitionRangeDatum((PartitionRangeDatum) node, hash, todo);
+        case 181:
+            return hashPartitionSpec((PartitionSpec) node, hash, todo);
+        case 182:
+            return hashPrepareStmt((PrepareStmt) node, hash, todo);
+        case 183:
+            return hashPrivTarget((PrivTarget) node, hash, todo);
+        case 184:
+            return hashPropGraphEdge((PropGraphEdge) node, hash, todo);
+        case 185:
+            return hashPropGraphLabelAndProperties((PropGraphLabelAndProperties) node, hash, todo);
+        case 186:
+            return hashPropGraphProperties((PropGraphProperties) node, hash, todo);
+        case 187:
+            return hashPropGraphVertex((PropGraphVertex) node, hash, todo);
+        case 188:
+            return hashPublicationAllObjSpec((PublicationAllObjSpec) node, hash, todo);
+        case 189:
+            return hashPublicationObjSpec((PublicationObjSpec) node, hash, todo);
+        case 190:
+            return hashPublicationTable((PublicationTable) node, hash, todo);
+        case 191:
+            return hashRangeFunction((RangeFunction) node, hash, todo);
+        case 192:
+            return hashRangeGraphTable((RangeGraphTable) node, hash, todo);
+        case 193:
+            return hashRangeSubselect((RangeSubselect) node, hash, todo);
+        case 194:
+            return hashRangeTableFunc((RangeTableFunc) node, hash, todo);
+        case 195:
+            return hashRangeTableFuncCol((RangeTableFuncCol) node, hash, todo);
+        case 196:
+            return hashRangeTableSample((RangeTableSample) node, hash, todo);
+        case 197:
+            return hashRangeVar((RangeVar) node, hash, todo);
+        case 198:
+            return hashRawStmt((RawStmt) node, hash, todo);
+        case 199:
+            return hashReassignOwnedStmt((ReassignOwnedStmt) node, hash, todo);
+        case 200:
+            return hashRefreshMatViewStmt((RefreshMatViewStmt) node, hash, todo);
+        case 201:
+            return hashReindexStmt((ReindexStmt) node, hash, todo);
+        case 202:
+            return hashRelFileNumber((RelFileNumber) node, hash, todo);
+        case 203:
+            return hashRenameStmt((RenameStmt) node, hash, todo);
+        case 204:
+            return hashRepackStmt((RepackStmt) node, hash, todo);
+        case 205:
+            return hashReplicaIdentityStmt((ReplicaIdentityStmt) node, hash, todo);
+        case 206:
+            return hashResTarget((ResTarget) node, hash, todo);
+        case 207:
+            return hashReturnStmt((ReturnStmt) node, hash, todo);
+        case 208:
+            return hashReturningClause((ReturningClause) node, hash, todo);
+        case 209:
+            return hashReturningOption((ReturningOption) node, hash, todo);
+        case 210:
+            return hashRoleSpec((RoleSpec) node, hash, todo);
+        case 211:
+            return hashRowExpr((RowExpr) node, hash, todo);
+        case 212:
+            return hashRuleStmt((RuleStmt) node, hash, todo);
+        case 213:
+            return hashSQLValueFunction((SQLValueFunction) node, hash, todo);
+        case 214:
+            return hashSecLabelStmt((SecLabelStmt) node, hash, todo);
+        case 215:
+            return hashSelectLimit((SelectLimit) node, hash, todo);
+        case 216:
+            return hashSelectStmt((SelectStmt) node, hash, todo);
+        case 217:
+            return hashSetToDefault((SetToDefault) node, hash, todo);
+        case 218:
+            return hashSinglePartitionSpec((SinglePartitionSpec) node, hash, todo);
+        case 219:
+            return hashSortBy((SortBy) node, hash, todo);
+        case 220:
+            return hashStatsElem((StatsElem) node, hash, todo);
+        case 221:
+            return hashStmt((Stmt) node, hash, todo);
+        case 222:
+            return hashSubLink((SubLink) node, hash, todo);
+        case 223:
+            return hashTableLikeClause((TableLikeClause) node, hash, todo);
+        case 224:
+            return hashTransactionStmt((TransactionStmt) node, hash, todo);
+        case 225:
+            return hashTriggerTransition((TriggerTransition) node, hash, todo);
+        case 226:
+            return hashTruncateStmt((TruncateStmt) node, hash, todo);
+        case 227:
+            return hashTypeCast((TypeCast) node, hash, todo);
+        case 228:
+            return hashTypeName((TypeName) node, hash, todo);
+        case 229:
+            return hashUnlistenStmt((UnlistenStmt) node, hash, todo);
+        case 230:
+            return hashUpdateStmt((UpdateStmt) node, hash, todo);
+        case 231:
+            return hashVacuumRelation((VacuumRelation) node, hash, todo);
+        case 232:
+            return hashVacuumStmt((VacuumStmt) node, hash, todo);
+        case 233:
+            return hashValUnion((ValUnion) node, hash, todo);
+        case 234:
+            return hashValue((Value) node, hash, todo);
+        case 235:
+            return hashVariableSetStmt((VariableSetStmt) node, hash, todo);
+        case 236:
+            return hashVariableShowStmt((VariableShowStmt) node, hash, todo);
+        case 237:
+            return hashViewStmt((ViewStmt) node, hash, todo);
+        case 238:
+            return hashWaitStmt((WaitStmt) node, hash, todo);
+        case 239:
+            return hashWindowDef((WindowDef) node, hash, todo);
+        case 240:
+            return hashWithClause((WithClause) node, hash, todo);
+        case 241:
+            return hashXmlExpr((XmlExpr) node, hash, todo);
+        case 242:
+            return hashXmlSerialize((XmlSerialize) node, hash, todo);
+        case 243:
+            return hashcore_yy_extra_type((core_yy_extra_type) node, hash, todo);
+        case 244:
+            return hashcore_yyscan_t((core_yyscan_t) node, hash, todo);
+        default:
+            throw new IllegalArgumentException("No class with index " + index);
+        }
+    }
+
+    /**
+     * Compares the fields of two {@link ATAlterConstraint}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsATAlterConstraint(ATAlterConstraint one,
+            ATAlterConstraint other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.alterDeferrability != other.alterDeferrability) {
+            return false;
+        }
+        if (one.alterEnforceability != other.alterEnforceability) {
+            return false;
+        }
+        if (one.alterInheritability != other.alterInheritability) {
+            return false;
+        }
+        if (!Objects.equals(one.conname, other.conname)) {
+            return false;
+        }
+        if (one.deferrable != other.deferrable) {
+            return false;
+        }
+        if (one.initdeferred != other.initdeferred) {
+            return false;
+        }
+        if (one.is_enforced != other.is_enforced) {
+            return false;
+        }
+        if (one.noinherit != other.noinherit) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ATAlterConstraint}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashATAlterConstraint(ATAlterConstraint node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.alterDeferrability);
+        result = 31 * result + Boolean.hashCode(node.alterEnforceability);
+        result = 31 * result + Boolean.hashCode(node.alterInheritability);
+        result = 31 * result + Objects.hashCode(node.conname);
+        result = 31 * result + Boolean.hashCode(node.deferrable);
+        result = 31 * result + Boolean.hashCode(node.initdeferred);
+        result = 31 * result + Boolean.hashCode(node.is_enforced);
+        result = 31 * result + Boolean.hashCode(node.noinherit);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link A_ArrayExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsA_ArrayExpr(A_ArrayExpr one, A_ArrayExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.elements);
+        todo.add(other.elements);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link A_ArrayExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashA_ArrayExpr(A_ArrayExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.elements);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link A_Const}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsA_Const(A_Const one, A_Const other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.isnull != other.isnull) {
+            return false;
+        }
+        todo.add(one.val);
+        todo.add(other.val);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link A_Const}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashA_Const(A_Const node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.isnull);
+        todo.add(node.val);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link A_Expr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsA_Expr(A_Expr one, A_Expr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        todo.add(one.lexpr);
+        todo.add(other.lexpr);
+        todo.add(one.name);
+        todo.add(other.name);
+        todo.add(one.rexpr);
+        todo.add(other.rexpr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link A_Expr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashA_Expr(A_Expr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.kind);
+        todo.add(node.lexpr);
+        todo.add(node.name);
+        todo.add(node.rexpr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link A_Indices}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsA_Indices(A_Indices one, A_Indices other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.is_slice != other.is_slice) {
+            return false;
+        }
+        todo.add(one.lidx);
+        todo.add(other.lidx);
+        todo.add(one.uidx);
+        todo.add(other.uidx);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link A_Indices}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashA_Indices(A_Indices node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.is_slice);
+        todo.add(node.lidx);
+        todo.add(node.uidx);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link A_Indirection}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsA_Indirection(A_Indirection one, A_Indirection other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        todo.add(one.indirection);
+        todo.add(other.indirection);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link A_Indirection}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashA_Indirection(A_Indirection node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.arg);
+        todo.add(node.indirection);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link A_Star}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsA_Star(A_Star one, A_Star other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link A_Star}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashA_Star(A_Star node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AbstractPublicationStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAbstractPublicationStmt(AbstractPublicationStmt one,
+            AbstractPublicationStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.for_all_sequences != other.for_all_sequences) {
+            return false;
+        }
+        if (one.for_all_tables != other.for_all_tables) {
+            return false;
+        }
+        if (!Objects.equals(one.pubname, other.pubname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.pubobjects);
+        todo.add(other.pubobjects);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AbstractPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAbstractPublicationStmt(AbstractPublicationStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.for_all_sequences);
+        result = 31 * result + Boolean.hashCode(node.for_all_tables);
+        result = 31 * result + Objects.hashCode(node.pubname);
+        todo.add(node.options);
+        todo.add(node.pubobjects);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AccessPriv}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAccessPriv(AccessPriv one, AccessPriv other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.priv_name, other.priv_name)) {
+            return false;
+        }
+        todo.add(one.cols);
+        todo.add(other.cols);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AccessPriv}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAccessPriv(AccessPriv node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.priv_name);
+        todo.add(node.cols);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Alias}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlias(Alias one, Alias other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.aliasname, other.aliasname)) {
+            return false;
+        }
+        todo.add(one.colnames);
+        todo.add(other.colnames);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Alias}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlias(Alias node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.aliasname);
+        todo.add(node.colnames);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterCollationStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterCollationStmt(AlterCollationStmt one,
+            AlterCollationStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.collname);
+        todo.add(other.collname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterCollationStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterCollationStmt(AlterCollationStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.collname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterDatabaseRefreshCollStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterDatabaseRefreshCollStmt(AlterDatabaseRefreshCollStmt one,
+            AlterDatabaseRefreshCollStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.dbname, other.dbname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterDatabaseRefreshCollStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterDatabaseRefreshCollStmt(AlterDatabaseRefreshCollStmt node,
+            int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.dbname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterDatabaseSetStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterDatabaseSetStmt(AlterDatabaseSetStmt one,
+            AlterDatabaseSetStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.dbname, other.dbname)) {
+            return false;
+        }
+        todo.add(one.setstmt);
+        todo.add(other.setstmt);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterDatabaseSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterDatabaseSetStmt(AlterDatabaseSetStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.dbname);
+        todo.add(node.setstmt);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterDatabaseStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterDatabaseStmt(AlterDatabaseStmt one,
+            AlterDatabaseStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.dbname, other.dbname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterDatabaseStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterDatabaseStmt(AlterDatabaseStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.dbname);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterDefaultPrivilegesStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt one,
+            AlterDefaultPrivilegesStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.action);
+        todo.add(other.action);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterDefaultPrivilegesStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterDefaultPrivilegesStmt(AlterDefaultPrivilegesStmt node,
+            int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.action);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterDomainStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterDomainStmt(AlterDomainStmt one, AlterDomainStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.subtype != other.subtype) {
+            return false;
+        }
+        todo.add(one.def);
+        todo.add(other.def);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterDomainStmt(AlterDomainStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + ordinal(node.subtype);
+        todo.add(node.def);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterEnumStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterEnumStmt(AlterEnumStmt one, AlterEnumStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.newVal, other.newVal)) {
+            return false;
+        }
+        if (one.newValIsAfter != other.newValIsAfter) {
+            return false;
+        }
+        if (!Objects.equals(one.newValNeighbor, other.newValNeighbor)) {
+            return false;
+        }
+        if (!Objects.equals(one.oldVal, other.oldVal)) {
+            return false;
+        }
+        if (one.skipIfNewValExists != other.skipIfNewValExists) {
+            return false;
+        }
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterEnumStmt(AlterEnumStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.newVal);
+        result = 31 * result + Boolean.hashCode(node.newValIsAfter);
+        result = 31 * result + Objects.hashCode(node.newValNeighbor);
+        result = 31 * result + Objects.hashCode(node.oldVal);
+        result = 31 * result + Boolean.hashCode(node.skipIfNewValExists);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterEventTrigStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterEventTrigStmt(AlterEventTrigStmt one,
+            AlterEventTrigStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.tgenabled != other.tgenabled) {
+            return false;
+        }
+        if (!Objects.equals(one.trigname, other.trigname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterEventTrigStmt(AlterEventTrigStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Character.hashCode(node.tgenabled);
+        result = 31 * result + Objects.hashCode(node.trigname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterExtensionContentsStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterExtensionContentsStmt(AlterExtensionContentsStmt one,
+            AlterExtensionContentsStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.action != other.action) {
+            return false;
+        }
+        if (!Objects.equals(one.extname, other.extname)) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        todo.add(one.object);
+        todo.add(other.object);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterExtensionContentsStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterExtensionContentsStmt(AlterExtensionContentsStmt node,
+            int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.action;
+        result = 31 * result + Objects.hashCode(node.extname);
+        result = 31 * result + ordinal(node.objtype);
+        todo.add(node.object);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterExtensionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterExtensionStmt(AlterExtensionStmt one,
+            AlterExtensionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.extname, other.extname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterExtensionStmt(AlterExtensionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.extname);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterFdwStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterFdwStmt(AlterFdwStmt one, AlterFdwStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.fdwname, other.fdwname)) {
+            return false;
+        }
+        todo.add(one.func_options);
+        todo.add(other.func_options);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterFdwStmt(AlterFdwStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.fdwname);
+        todo.add(node.func_options);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterForeignServerStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterForeignServerStmt(AlterForeignServerStmt one,
+            AlterForeignServerStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.has_version != other.has_version) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        if (!Objects.equals(one.version, other.version)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterForeignServerStmt(AlterForeignServerStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.has_version);
+        result = 31 * result + Objects.hashCode(node.servername);
+        result = 31 * result + Objects.hashCode(node.version);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterFunctionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterFunctionStmt(AlterFunctionStmt one,
+            AlterFunctionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        todo.add(one.actions);
+        todo.add(other.actions);
+        todo.add(one.func);
+        todo.add(other.func);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterFunctionStmt(AlterFunctionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.objtype);
+        todo.add(node.actions);
+        todo.add(node.func);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterObjectDependsStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterObjectDependsStmt(AlterObjectDependsStmt one,
+            AlterObjectDependsStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.objectType != other.objectType) {
+            return false;
+        }
+        if (one.remove != other.remove) {
+            return false;
+        }
+        todo.add(one.extname);
+        todo.add(other.extname);
+        todo.add(one.object);
+        todo.add(other.object);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterObjectDependsStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterObjectDependsStmt(AlterObjectDependsStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.objectType);
+        result = 31 * result + Boolean.hashCode(node.remove);
+        todo.add(node.extname);
+        todo.add(node.object);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterObjectSchemaStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterObjectSchemaStmt(AlterObjectSchemaStmt one,
+            AlterObjectSchemaStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.newschema, other.newschema)) {
+            return false;
+        }
+        if (one.objectType != other.objectType) {
+            return false;
+        }
+        todo.add(one.object);
+        todo.add(other.object);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterObjectSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterObjectSchemaStmt(AlterObjectSchemaStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.newschema);
+        result = 31 * result + ordinal(node.objectType);
+        todo.add(node.object);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterOpFamilyStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterOpFamilyStmt(AlterOpFamilyStmt one,
+            AlterOpFamilyStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.amname, other.amname)) {
+            return false;
+        }
+        if (one.isDrop != other.isDrop) {
+            return false;
+        }
+        todo.add(one.items);
+        todo.add(other.items);
+        todo.add(one.opfamilyname);
+        todo.add(other.opfamilyname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterOpFamilyStmt(AlterOpFamilyStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.amname);
+        result = 31 * result + Boolean.hashCode(node.isDrop);
+        todo.add(node.items);
+        todo.add(node.opfamilyname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterOperatorStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterOperatorStmt(AlterOperatorStmt one,
+            AlterOperatorStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.opername);
+        todo.add(other.opername);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterOperatorStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterOperatorStmt(AlterOperatorStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.opername);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterOwnerStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterOwnerStmt(AlterOwnerStmt one, AlterOwnerStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.objectType != other.objectType) {
+            return false;
+        }
+        todo.add(one.newowner);
+        todo.add(other.newowner);
+        todo.add(one.object);
+        todo.add(other.object);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterOwnerStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterOwnerStmt(AlterOwnerStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.objectType);
+        todo.add(node.newowner);
+        todo.add(node.object);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterPolicyStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterPolicyStmt(AlterPolicyStmt one, AlterPolicyStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.policy_name, other.policy_name)) {
+            return false;
+        }
+        todo.add(one.qual);
+        todo.add(other.qual);
+        todo.add(one.roles);
+        todo.add(other.roles);
+        todo.add(one.table);
+        todo.add(other.table);
+        todo.add(one.with_check);
+        todo.add(other.with_check);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterPolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterPolicyStmt(AlterPolicyStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.policy_name);
+        todo.add(node.qual);
+        todo.add(node.roles);
+        todo.add(node.table);
+        todo.add(node.with_check);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterPropGraphStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterPropGraphStmt(AlterPropGraphStmt one,
+            AlterPropGraphStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.alter_label, other.alter_label)) {
+            return false;
+        }
+        if (one.drop_behavior != other.drop_behavior) {
+            return false;
+        }
+        if (!Objects.equals(one.drop_label, other.drop_label)) {
+            return false;
+        }
+        if (!Objects.equals(one.element_alias, other.element_alias)) {
+            return false;
+        }
+        if (one.element_kind != other.element_kind) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        todo.add(one.add_edge_tables);
+        todo.add(other.add_edge_tables);
+        todo.add(one.add_labels);
+        todo.add(other.add_labels);
+        todo.add(one.add_properties);
+        todo.add(other.add_properties);
+        todo.add(one.add_vertex_tables);
+        todo.add(other.add_vertex_tables);
+        todo.add(one.drop_edge_tables);
+        todo.add(other.drop_edge_tables);
+        todo.add(one.drop_properties);
+        todo.add(other.drop_properties);
+        todo.add(one.drop_vertex_tables);
+        todo.add(other.drop_vertex_tables);
+        todo.add(one.pgname);
+        todo.add(other.pgname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterPropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterPropGraphStmt(AlterPropGraphStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.alter_label);
+        result = 31 * result + ordinal(node.drop_behavior);
+        result = 31 * result + Objects.hashCode(node.drop_label);
+        result = 31 * result + Objects.hashCode(node.element_alias);
+        result = 31 * result + ordinal(node.element_kind);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        todo.add(node.add_edge_tables);
+        todo.add(node.add_labels);
+        todo.add(node.add_properties);
+        todo.add(node.add_vertex_tables);
+        todo.add(node.drop_edge_tables);
+        todo.add(node.drop_properties);
+        todo.add(node.drop_vertex_tables);
+        todo.add(node.pgname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterPublicationStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterPublicationStmt(AlterPublicationStmt one,
+            AlterPublicationStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.for_all_sequences != other.for_all_sequences) {
+            return false;
+        }
+        if (one.for_all_tables != other.for_all_tables) {
+            return false;
+        }
+        if (!Objects.equals(one.pubname, other.pubname)) {
+            return false;
+        }
+        if (one.action != other.action) {
+            return false;
+        }
+        if (one.tableAction != other.tableAction) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.pubobjects);
+        todo.add(other.pubobjects);
+        todo.add(one.tables);
+        todo.add(other.tables);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterPublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterPublicationStmt(AlterPublicationStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.for_all_sequences);
+        result = 31 * result + Boolean.hashCode(node.for_all_tables);
+        result = 31 * result + Objects.hashCode(node.pubname);
+        result = 31 * result + ordinal(node.action);
+        result = 31 * result + ordinal(node.tableAction);
+        todo.add(node.options);
+        todo.add(node.pubobjects);
+        todo.add(node.tables);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterRoleSetStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterRoleSetStmt(AlterRoleSetStmt one,
+            AlterRoleSetStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.database, other.database)) {
+            return false;
+        }
+        todo.add(one.role);
+        todo.add(other.role);
+        todo.add(one.setstmt);
+        todo.add(other.setstmt);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterRoleSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterRoleSetStmt(AlterRoleSetStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.database);
+        todo.add(node.role);
+        todo.add(node.setstmt);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterRoleStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterRoleStmt(AlterRoleStmt one, AlterRoleStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.action != other.action) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.role);
+        todo.add(other.role);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterRoleStmt(AlterRoleStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.action;
+        todo.add(node.options);
+        todo.add(node.role);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterSeqStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterSeqStmt(AlterSeqStmt one, AlterSeqStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.sequence);
+        todo.add(other.sequence);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterSeqStmt(AlterSeqStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        todo.add(node.options);
+        todo.add(node.sequence);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterStatsStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterStatsStmt(AlterStatsStmt one, AlterStatsStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        todo.add(one.defnames);
+        todo.add(other.defnames);
+        todo.add(one.stxstattarget);
+        todo.add(other.stxstattarget);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterStatsStmt(AlterStatsStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        todo.add(node.defnames);
+        todo.add(node.stxstattarget);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterSubscriptionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterSubscriptionStmt(AlterSubscriptionStmt one,
+            AlterSubscriptionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.conninfo, other.conninfo)) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        if (!Objects.equals(one.subname, other.subname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.publication);
+        todo.add(other.publication);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterSubscriptionStmt(AlterSubscriptionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.conninfo);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Objects.hashCode(node.servername);
+        result = 31 * result + Objects.hashCode(node.subname);
+        todo.add(node.options);
+        todo.add(node.publication);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterSystemStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterSystemStmt(AlterSystemStmt one, AlterSystemStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.setstmt);
+        todo.add(other.setstmt);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterSystemStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterSystemStmt(AlterSystemStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.setstmt);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTSConfigurationStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTSConfigurationStmt(AlterTSConfigurationStmt one,
+            AlterTSConfigurationStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (one.override != other.override) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        todo.add(one.cfgname);
+        todo.add(other.cfgname);
+        todo.add(one.dicts);
+        todo.add(other.dicts);
+        todo.add(one.tokentype);
+        todo.add(other.tokentype);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTSConfigurationStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTSConfigurationStmt(AlterTSConfigurationStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Boolean.hashCode(node.override);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        todo.add(node.cfgname);
+        todo.add(node.dicts);
+        todo.add(node.tokentype);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTSDictionaryStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTSDictionaryStmt(AlterTSDictionaryStmt one,
+            AlterTSDictionaryStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.dictname);
+        todo.add(other.dictname);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTSDictionaryStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTSDictionaryStmt(AlterTSDictionaryStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.dictname);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTableCmd}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTableCmd(AlterTableCmd one, AlterTableCmd other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.num != other.num) {
+            return false;
+        }
+        if (one.subtype != other.subtype) {
+            return false;
+        }
+        todo.add(one.def);
+        todo.add(other.def);
+        todo.add(one.newowner);
+        todo.add(other.newowner);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTableCmd}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTableCmd(AlterTableCmd node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + node.num;
+        result = 31 * result + ordinal(node.subtype);
+        todo.add(node.def);
+        todo.add(node.newowner);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTableMoveAllStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTableMoveAllStmt(AlterTableMoveAllStmt one,
+            AlterTableMoveAllStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.new_tablespacename, other.new_tablespacename)) {
+            return false;
+        }
+        if (one.nowait != other.nowait) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        if (!Objects.equals(one.orig_tablespacename, other.orig_tablespacename)) {
+            return false;
+        }
+        todo.add(one.roles);
+        todo.add(other.roles);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTableMoveAllStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTableMoveAllStmt(AlterTableMoveAllStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.new_tablespacename);
+        result = 31 * result + Boolean.hashCode(node.nowait);
+        result = 31 * result + ordinal(node.objtype);
+        result = 31 * result + Objects.hashCode(node.orig_tablespacename);
+        todo.add(node.roles);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTableSpaceOptionsStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt one,
+            AlterTableSpaceOptionsStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.isReset != other.isReset) {
+            return false;
+        }
+        if (!Objects.equals(one.tablespacename, other.tablespacename)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTableSpaceOptionsStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTableSpaceOptionsStmt(AlterTableSpaceOptionsStmt node,
+            int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.isReset);
+        result = 31 * result + Objects.hashCode(node.tablespacename);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTableStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTableStmt(AlterTableStmt one, AlterTableStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        if (one.relkind != other.relkind) {
+            return false;
+        }
+        todo.add(one.cmds);
+        todo.add(other.cmds);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTableStmt(AlterTableStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + ordinal(node.objtype);
+        result = 31 * result + ordinal(node.relkind);
+        todo.add(node.cmds);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterTypeStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterTypeStmt(AlterTypeStmt one, AlterTypeStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterTypeStmt(AlterTypeStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.options);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link AlterUserMappingStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsAlterUserMappingStmt(AlterUserMappingStmt one,
+            AlterUserMappingStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.user);
+        todo.add(other.user);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link AlterUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashAlterUserMappingStmt(AlterUserMappingStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.servername);
+        todo.add(node.options);
+        todo.add(node.user);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link BoolExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsBoolExpr(BoolExpr one, BoolExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.boolop != other.boolop) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link BoolExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashBoolExpr(BoolExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.boolop);
+        todo.add(node.args);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link BooleanTest}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsBooleanTest(BooleanTest one, BooleanTest other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.booltesttype != other.booltesttype) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link BooleanTest}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashBooleanTest(BooleanTest node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.booltesttype);
+        todo.add(node.arg);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CTECycleClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCTECycleClause(CTECycleClause one, CTECycleClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.cycle_mark_column, other.cycle_mark_column)) {
+            return false;
+        }
+        if (!Objects.equals(one.cycle_path_column, other.cycle_path_column)) {
+            return false;
+        }
+        todo.add(one.cycle_col_list);
+        todo.add(other.cycle_col_list);
+        todo.add(one.cycle_mark_default);
+        todo.add(other.cycle_mark_default);
+        todo.add(one.cycle_mark_value);
+        todo.add(other.cycle_mark_value);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CTECycleClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCTECycleClause(CTECycleClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.cycle_mark_column);
+        result = 31 * result + Objects.hashCode(node.cycle_path_column);
+        todo.add(node.cycle_col_list);
+        todo.add(node.cycle_mark_default);
+        todo.add(node.cycle_mark_value);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CTESearchClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCTESearchClause(CTESearchClause one, CTESearchClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.search_breadth_first != other.search_breadth_first) {
+            return false;
+        }
+        if (!Objects.equals(one.search_seq_column, other.search_seq_column)) {
+            return false;
+        }
+        todo.add(one.search_col_list);
+        todo.add(other.search_col_list);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CTESearchClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCTESearchClause(CTESearchClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.search_breadth_first);
+        result = 31 * result + Objects.hashCode(node.search_seq_column);
+        todo.add(node.search_col_list);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CallStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCallStmt(CallStmt one, CallStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.funccall);
+        todo.add(other.funccall);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CallStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCallStmt(CallStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.funccall);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CaseExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCaseExpr(CaseExpr one, CaseExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.casetype);
+        todo.add(other.casetype);
+        todo.add(one.defresult);
+        todo.add(other.defresult);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CaseExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCaseExpr(CaseExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.arg);
+        todo.add(node.args);
+        todo.add(node.casetype);
+        todo.add(node.defresult);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CaseWhen}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCaseWhen(CaseWhen one, CaseWhen other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.result);
+        todo.add(other.result);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CaseWhen}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCaseWhen(CaseWhen node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.expr);
+        todo.add(node.result);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CheckPointStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCheckPointStmt(CheckPointStmt one, CheckPointStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CheckPointStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCheckPointStmt(CheckPointStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ClosePortalStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsClosePortalStmt(ClosePortalStmt one, ClosePortalStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.portalname, other.portalname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ClosePortalStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashClosePortalStmt(ClosePortalStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.portalname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ClusterStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsClusterStmt(ClusterStmt one, ClusterStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.indexname, other.indexname)) {
+            return false;
+        }
+        todo.add(one.params);
+        todo.add(other.params);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ClusterStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashClusterStmt(ClusterStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.indexname);
+        todo.add(node.params);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CoalesceExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCoalesceExpr(CoalesceExpr one, CoalesceExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CoalesceExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCoalesceExpr(CoalesceExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.args);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CollateClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCollateClause(CollateClause one, CollateClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        todo.add(one.collname);
+        todo.add(other.collname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CollateClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCollateClause(CollateClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.arg);
+        todo.add(node.collname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ColumnDef}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsColumnDef(ColumnDef one, ColumnDef other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.colname, other.colname)) {
+            return false;
+        }
+        if (!Objects.equals(one.compression, other.compression)) {
+            return false;
+        }
+        if (one.inhcount != other.inhcount) {
+            return false;
+        }
+        if (one.is_from_parent != other.is_from_parent) {
+            return false;
+        }
+        if (one.is_from_type != other.is_from_type) {
+            return false;
+        }
+        if (one.is_local != other.is_local) {
+            return false;
+        }
+        if (one.is_not_null != other.is_not_null) {
+            return false;
+        }
+        if (one.storage != other.storage) {
+            return false;
+        }
+        if (!Objects.equals(one.storage_name, other.storage_name)) {
+            return false;
+        }
+        todo.add(one.collClause);
+        todo.add(other.collClause);
+        todo.add(one.collOid);
+        todo.add(other.collOid);
+        todo.add(one.constraints);
+        todo.add(other.constraints);
+        todo.add(one.cooked_default);
+        todo.add(other.cooked_default);
+        todo.add(one.fdwoptions);
+        todo.add(other.fdwoptions);
+        todo.add(one.raw_default);
+        todo.add(other.raw_default);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ColumnDef}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashColumnDef(ColumnDef node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.colname);
+        result = 31 * result + Objects.hashCode(node.compression);
+        result = 31 * result + node.inhcount;
+        result = 31 * result + Boolean.hashCode(node.is_from_parent);
+        result = 31 * result + Boolean.hashCode(node.is_from_type);
+        result = 31 * result + Boolean.hashCode(node.is_local);
+        result = 31 * result + Boolean.hashCode(node.is_not_null);
+        result = 31 * result + Character.hashCode(node.storage);
+        result = 31 * result + Objects.hashCode(node.storage_name);
+        todo.add(node.collClause);
+        todo.add(node.collOid);
+        todo.add(node.constraints);
+        todo.add(node.cooked_default);
+        todo.add(node.fdwoptions);
+        todo.add(node.raw_default);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ColumnRef}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsColumnRef(ColumnRef one, ColumnRef other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.fields);
+        todo.add(other.fields);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ColumnRef}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashColumnRef(ColumnRef node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.fields);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CommentStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCommentStmt(CommentStmt one, CommentStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.comment, other.comment)) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        todo.add(one.object);
+        todo.add(other.object);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CommentStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCommentStmt(CommentStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.comment);
+        result = 31 * result + ordinal(node.objtype);
+        todo.add(node.object);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CommonTableExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCommonTableExpr(CommonTableExpr one, CommonTableExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.ctematerialized != other.ctematerialized) {
+            return false;
+        }
+        if (!Objects.equals(one.ctename, other.ctename)) {
+            return false;
+        }
+        todo.add(one.aliascolnames);
+        todo.add(other.aliascolnames);
+        todo.add(one.ctequery);
+        todo.add(other.ctequery);
+        todo.add(one.cycle_clause);
+        todo.add(other.cycle_clause);
+        todo.add(one.search_clause);
+        todo.add(other.search_clause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CommonTableExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCommonTableExpr(CommonTableExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.ctematerialized);
+        result = 31 * result + Objects.hashCode(node.ctename);
+        todo.add(node.aliascolnames);
+        todo.add(node.ctequery);
+        todo.add(node.cycle_clause);
+        todo.add(node.search_clause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CompositeTypeStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCompositeTypeStmt(CompositeTypeStmt one,
+            CompositeTypeStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.coldeflist);
+        todo.add(other.coldeflist);
+        todo.add(one.typevar);
+        todo.add(other.typevar);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CompositeTypeStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCompositeTypeStmt(CompositeTypeStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.coldeflist);
+        todo.add(node.typevar);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Constraint}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsConstraint(Constraint one, Constraint other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.access_method, other.access_method)) {
+            return false;
+        }
+        if (!Objects.equals(one.conname, other.conname)) {
+            return false;
+        }
+        if (one.contype != other.contype) {
+            return false;
+        }
+        if (!Objects.equals(one.cooked_expr, other.cooked_expr)) {
+            return false;
+        }
+        if (one.deferrable != other.deferrable) {
+            return false;
+        }
+        if (one.fk_del_action != other.fk_del_action) {
+            return false;
+        }
+        if (one.fk_matchtype != other.fk_matchtype) {
+            return false;
+        }
+        if (one.fk_upd_action != other.fk_upd_action) {
+            return false;
+        }
+        if (one.fk_with_period != other.fk_with_period) {
+            return false;
+        }
+        if (one.generated_kind != other.generated_kind) {
+            return false;
+        }
+        if (one.generated_when != other.generated_when) {
+            return false;
+        }
+        if (!Objects.equals(one.indexname, other.indexname)) {
+            return false;
+        }
+        if (!Objects.equals(one.indexspace, other.indexspace)) {
+            return false;
+        }
+        if (one.initdeferred != other.initdeferred) {
+            return false;
+        }
+        if (one.initially_valid != other.initially_valid) {
+            return false;
+        }
+        if (one.is_no_inherit != other.is_no_inherit) {
+            return false;
+        }
+        if (one.nulls_not_distinct != other.nulls_not_distinct) {
+            return false;
+        }
+        if (one.pk_with_period != other.pk_with_period) {
+            return false;
+        }
+        if (one.skip_validation != other.skip_validation) {
+            return false;
+        }
+        if (one.without_overlaps != other.without_overlaps) {
+            return false;
+        }
+        todo.add(one.exclusions);
+        todo.add(other.exclusions);
+        todo.add(one.fk_attrs);
+        todo.add(other.fk_attrs);
+        todo.add(one.fk_del_set_cols);
+        todo.add(other.fk_del_set_cols);
+        todo.add(one.including);
+        todo.add(other.including);
+        todo.add(one.is_enforced);
+        todo.add(other.is_enforced);
+        todo.add(one.keys);
+        todo.add(other.keys);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.pk_attrs);
+        todo.add(other.pk_attrs);
+        todo.add(one.pktable);
+        todo.add(other.pktable);
+        todo.add(one.raw_expr);
+        todo.add(other.raw_expr);
+        todo.add(one.where_clause);
+        todo.add(other.where_clause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Constraint}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashConstraint(Constraint node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.access_method);
+        result = 31 * result + Objects.hashCode(node.conname);
+        result = 31 * result + ordinal(node.contype);
+        result = 31 * result + Objects.hashCode(node.cooked_expr);
+        result = 31 * result + Boolean.hashCode(node.deferrable);
+        result = 31 * result + node.fk_del_action;
+        result = 31 * result + ordinal(node.fk_matchtype);
+        result = 31 * result + node.fk_upd_action;
+        result = 31 * result + Boolean.hashCode(node.fk_with_period);
+        result = 31 * result + ordinal(node.generated_kind);
+        result = 31 * result + ordinal(node.generated_when);
+        result = 31 * result + Objects.hashCode(node.indexname);
+        result = 31 * result + Objects.hashCode(node.indexspace);
+        result = 31 * result + Boolean.hashCode(node.initdeferred);
+        result = 31 * result + Boolean.hashCode(node.initially_valid);
+        result = 31 * result + Boolean.hashCode(node.is_no_inherit);
+        result = 31 * result + Boolean.hashCode(node.nulls_not_distinct);
+        result = 31 * result + Boolean.hashCode(node.pk_with_period);
+        result = 31 * result + Boolean.hashCode(node.skip_validation);
+        result = 31 * result + Boolean.hashCode(node.without_overlaps);
+        todo.add(node.exclusions);
+        todo.add(node.fk_attrs);
+        todo.add(node.fk_del_set_cols);
+        todo.add(node.including);
+        todo.add(node.is_enforced);
+        todo.add(node.keys);
+        todo.add(node.options);
+        todo.add(node.pk_attrs);
+        todo.add(node.pktable);
+        todo.add(node.raw_expr);
+        todo.add(node.where_clause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ConstraintsSetStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsConstraintsSetStmt(ConstraintsSetStmt one,
+            ConstraintsSetStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.deferred != other.deferred) {
+            return false;
+        }
+        todo.add(one.constraints);
+        todo.add(other.constraints);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ConstraintsSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashConstraintsSetStmt(ConstraintsSetStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.deferred);
+        todo.add(node.constraints);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CopyStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCopyStmt(CopyStmt one, CopyStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.filename, other.filename)) {
+            return false;
+        }
+        if (one.is_from != other.is_from) {
+            return false;
+        }
+        if (one.is_program != other.is_program) {
+            return false;
+        }
+        todo.add(one.attlist);
+        todo.add(other.attlist);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.query);
+        todo.add(other.query);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CopyStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCopyStmt(CopyStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.filename);
+        result = 31 * result + Boolean.hashCode(node.is_from);
+        result = 31 * result + Boolean.hashCode(node.is_program);
+        todo.add(node.attlist);
+        todo.add(node.options);
+        todo.add(node.query);
+        todo.add(node.relation);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateAmStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateAmStmt(CreateAmStmt one, CreateAmStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.amname, other.amname)) {
+            return false;
+        }
+        todo.add(one.amtype);
+        todo.add(other.amtype);
+        todo.add(one.handler_name);
+        todo.add(other.handler_name);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateAmStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateAmStmt(CreateAmStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.amname);
+        todo.add(node.amtype);
+        todo.add(node.handler_name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateCastStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateCastStmt(CreateCastStmt one, CreateCastStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.context != other.context) {
+            return false;
+        }
+        if (one.inout != other.inout) {
+            return false;
+        }
+        todo.add(one.func);
+        todo.add(other.func);
+        todo.add(one.sourcetype);
+        todo.add(other.sourcetype);
+        todo.add(one.targettype);
+        todo.add(other.targettype);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateCastStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateCastStmt(CreateCastStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.context);
+        result = 31 * result + Boolean.hashCode(node.inout);
+        todo.add(node.func);
+        todo.add(node.sourcetype);
+        todo.add(node.targettype);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateConversionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateConversionStmt(CreateConversionStmt one,
+            CreateConversionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.def != other.def) {
+            return false;
+        }
+        if (!Objects.equals(one.for_encoding_name, other.for_encoding_name)) {
+            return false;
+        }
+        if (!Objects.equals(one.to_encoding_name, other.to_encoding_name)) {
+            return false;
+        }
+        todo.add(one.conversion_name);
+        todo.add(other.conversion_name);
+        todo.add(one.func_name);
+        todo.add(other.func_name);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateConversionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateConversionStmt(CreateConversionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.def);
+        result = 31 * result + Objects.hashCode(node.for_encoding_name);
+        result = 31 * result + Objects.hashCode(node.to_encoding_name);
+        todo.add(node.conversion_name);
+        todo.add(node.func_name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateDomainStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateDomainStmt(CreateDomainStmt one,
+            CreateDomainStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.collClause);
+        todo.add(other.collClause);
+        todo.add(one.constraints);
+        todo.add(other.constraints);
+        todo.add(one.domainname);
+        todo.add(other.domainname);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateDomainStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateDomainStmt(CreateDomainStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.collClause);
+        todo.add(node.constraints);
+        todo.add(node.domainname);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateEnumStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateEnumStmt(CreateEnumStmt one, CreateEnumStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        todo.add(one.vals);
+        todo.add(other.vals);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateEnumStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateEnumStmt(CreateEnumStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.typeName);
+        todo.add(node.vals);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateEventTrigStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateEventTrigStmt(CreateEventTrigStmt one,
+            CreateEventTrigStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.eventname, other.eventname)) {
+            return false;
+        }
+        if (!Objects.equals(one.trigname, other.trigname)) {
+            return false;
+        }
+        todo.add(one.funcname);
+        todo.add(other.funcname);
+        todo.add(one.whenclause);
+        todo.add(other.whenclause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateEventTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateEventTrigStmt(CreateEventTrigStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.eventname);
+        result = 31 * result + Objects.hashCode(node.trigname);
+        todo.add(node.funcname);
+        todo.add(node.whenclause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateExtensionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateExtensionStmt(CreateExtensionStmt one,
+            CreateExtensionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.extname, other.extname)) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateExtensionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateExtensionStmt(CreateExtensionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.extname);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateFdwStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateFdwStmt(CreateFdwStmt one, CreateFdwStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.fdwname, other.fdwname)) {
+            return false;
+        }
+        todo.add(one.func_options);
+        todo.add(other.func_options);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateFdwStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateFdwStmt(CreateFdwStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.fdwname);
+        todo.add(node.func_options);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateForeignServerStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateForeignServerStmt(CreateForeignServerStmt one,
+            CreateForeignServerStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.fdwname, other.fdwname)) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        if (!Objects.equals(one.servertype, other.servertype)) {
+            return false;
+        }
+        if (!Objects.equals(one.version, other.version)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateForeignServerStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateForeignServerStmt(CreateForeignServerStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.fdwname);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + Objects.hashCode(node.servername);
+        result = 31 * result + Objects.hashCode(node.servertype);
+        result = 31 * result + Objects.hashCode(node.version);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateForeignTableStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateForeignTableStmt(CreateForeignTableStmt one,
+            CreateForeignTableStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        todo.add(one.base);
+        todo.add(other.base);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateForeignTableStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateForeignTableStmt(CreateForeignTableStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.servername);
+        todo.add(node.base);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateFunctionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateFunctionStmt(CreateFunctionStmt one,
+            CreateFunctionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.is_procedure != other.is_procedure) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        todo.add(one.funcname);
+        todo.add(other.funcname);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.parameters);
+        todo.add(other.parameters);
+        todo.add(one.returnType);
+        todo.add(other.returnType);
+        todo.add(one.sql_body);
+        todo.add(other.sql_body);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateFunctionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateFunctionStmt(CreateFunctionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.is_procedure);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        todo.add(node.funcname);
+        todo.add(node.options);
+        todo.add(node.parameters);
+        todo.add(node.returnType);
+        todo.add(node.sql_body);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateOpClassItem}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateOpClassItem(CreateOpClassItem one,
+            CreateOpClassItem other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.itemtype != other.itemtype) {
+            return false;
+        }
+        if (one.number != other.number) {
+            return false;
+        }
+        todo.add(one.class_args);
+        todo.add(other.class_args);
+        todo.add(one.name);
+        todo.add(other.name);
+        todo.add(one.order_family);
+        todo.add(other.order_family);
+        todo.add(one.storedtype);
+        todo.add(other.storedtype);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateOpClassItem}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateOpClassItem(CreateOpClassItem node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.itemtype;
+        result = 31 * result + node.number;
+        todo.add(node.class_args);
+        todo.add(node.name);
+        todo.add(node.order_family);
+        todo.add(node.storedtype);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateOpClassStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateOpClassStmt(CreateOpClassStmt one,
+            CreateOpClassStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.amname, other.amname)) {
+            return false;
+        }
+        if (one.isDefault != other.isDefault) {
+            return false;
+        }
+        todo.add(one.datatype);
+        todo.add(other.datatype);
+        todo.add(one.items);
+        todo.add(other.items);
+        todo.add(one.opclassname);
+        todo.add(other.opclassname);
+        todo.add(one.opfamilyname);
+        todo.add(other.opfamilyname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateOpClassStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateOpClassStmt(CreateOpClassStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.amname);
+        result = 31 * result + Boolean.hashCode(node.isDefault);
+        todo.add(node.datatype);
+        todo.add(node.items);
+        todo.add(node.opclassname);
+        todo.add(node.opfamilyname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateOpFamilyStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateOpFamilyStmt(CreateOpFamilyStmt one,
+            CreateOpFamilyStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.amname, other.amname)) {
+            return false;
+        }
+        todo.add(one.opfamilyname);
+        todo.add(other.opfamilyname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateOpFamilyStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateOpFamilyStmt(CreateOpFamilyStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.amname);
+        todo.add(node.opfamilyname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreatePLangStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreatePLangStmt(CreatePLangStmt one, CreatePLangStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.plname, other.plname)) {
+            return false;
+        }
+        if (one.pltrusted != other.pltrusted) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        todo.add(one.plhandler);
+        todo.add(other.plhandler);
+        todo.add(one.plinline);
+        todo.add(other.plinline);
+        todo.add(one.plvalidator);
+        todo.add(other.plvalidator);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreatePLangStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreatePLangStmt(CreatePLangStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.plname);
+        result = 31 * result + Boolean.hashCode(node.pltrusted);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        todo.add(node.plhandler);
+        todo.add(node.plinline);
+        todo.add(node.plvalidator);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreatePolicyStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreatePolicyStmt(CreatePolicyStmt one,
+            CreatePolicyStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.cmd_name, other.cmd_name)) {
+            return false;
+        }
+        if (one.permissive != other.permissive) {
+            return false;
+        }
+        if (!Objects.equals(one.policy_name, other.policy_name)) {
+            return false;
+        }
+        todo.add(one.qual);
+        todo.add(other.qual);
+        todo.add(one.roles);
+        todo.add(other.roles);
+        todo.add(one.table);
+        todo.add(other.table);
+        todo.add(one.with_check);
+        todo.add(other.with_check);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreatePolicyStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreatePolicyStmt(CreatePolicyStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.cmd_name);
+        result = 31 * result + Boolean.hashCode(node.permissive);
+        result = 31 * result + Objects.hashCode(node.policy_name);
+        todo.add(node.qual);
+        todo.add(node.roles);
+        todo.add(node.table);
+        todo.add(node.with_check);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreatePropGraphStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreatePropGraphStmt(CreatePropGraphStmt one,
+            CreatePropGraphStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.edge_tables);
+        todo.add(other.edge_tables);
+        todo.add(one.pgname);
+        todo.add(other.pgname);
+        todo.add(one.vertex_tables);
+        todo.add(other.vertex_tables);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreatePropGraphStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreatePropGraphStmt(CreatePropGraphStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.edge_tables);
+        todo.add(node.pgname);
+        todo.add(node.vertex_tables);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreatePublicationStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreatePublicationStmt(CreatePublicationStmt one,
+            CreatePublicationStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.for_all_sequences != other.for_all_sequences) {
+            return false;
+        }
+        if (one.for_all_tables != other.for_all_tables) {
+            return false;
+        }
+        if (!Objects.equals(one.pubname, other.pubname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.pubobjects);
+        todo.add(other.pubobjects);
+        todo.add(one.tables);
+        todo.add(other.tables);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreatePublicationStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreatePublicationStmt(CreatePublicationStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.for_all_sequences);
+        result = 31 * result + Boolean.hashCode(node.for_all_tables);
+        result = 31 * result + Objects.hashCode(node.pubname);
+        todo.add(node.options);
+        todo.add(node.pubobjects);
+        todo.add(node.tables);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateRangeStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateRangeStmt(CreateRangeStmt one, CreateRangeStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.params);
+        todo.add(other.params);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateRangeStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateRangeStmt(CreateRangeStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.params);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateRoleStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateRoleStmt(CreateRoleStmt one, CreateRoleStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_type != other.stmt_type) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.role);
+        todo.add(other.role);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateRoleStmt(CreateRoleStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.stmt_type);
+        todo.add(node.options);
+        todo.add(node.role);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateSchemaStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateSchemaStmt(CreateSchemaStmt one,
+            CreateSchemaStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (!Objects.equals(one.schemaname, other.schemaname)) {
+            return false;
+        }
+        todo.add(one.authrole);
+        todo.add(other.authrole);
+        todo.add(one.schemaElts);
+        todo.add(other.schemaElts);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateSchemaStmt(CreateSchemaStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + Objects.hashCode(node.schemaname);
+        todo.add(node.authrole);
+        todo.add(node.schemaElts);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateSeqStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateSeqStmt(CreateSeqStmt one, CreateSeqStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.ownerId);
+        todo.add(other.ownerId);
+        todo.add(one.sequence);
+        todo.add(other.sequence);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateSeqStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateSeqStmt(CreateSeqStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        todo.add(node.options);
+        todo.add(node.ownerId);
+        todo.add(node.sequence);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateStatsStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateStatsStmt(CreateStatsStmt one, CreateStatsStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (!Objects.equals(one.stxcomment, other.stxcomment)) {
+            return false;
+        }
+        todo.add(one.defnames);
+        todo.add(other.defnames);
+        todo.add(one.exprs);
+        todo.add(other.exprs);
+        todo.add(one.relations);
+        todo.add(other.relations);
+        todo.add(one.stat_types);
+        todo.add(other.stat_types);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateStatsStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateStatsStmt(CreateStatsStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + Objects.hashCode(node.stxcomment);
+        todo.add(node.defnames);
+        todo.add(node.exprs);
+        todo.add(node.relations);
+        todo.add(node.stat_types);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateStmt(CreateStmt one, CreateStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.accessMethod, other.accessMethod)) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (one.oncommit != other.oncommit) {
+            return false;
+        }
+        if (!Objects.equals(one.tablespacename, other.tablespacename)) {
+            return false;
+        }
+        todo.add(one.constraints);
+        todo.add(other.constraints);
+        todo.add(one.inhRelations);
+        todo.add(other.inhRelations);
+        todo.add(one.ofTypename);
+        todo.add(other.ofTypename);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.partbound);
+        todo.add(other.partbound);
+        todo.add(one.partspec);
+        todo.add(other.partspec);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.tableElts);
+        todo.add(other.tableElts);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateStmt(CreateStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.accessMethod);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + ordinal(node.oncommit);
+        result = 31 * result + Objects.hashCode(node.tablespacename);
+        todo.add(node.constraints);
+        todo.add(node.inhRelations);
+        todo.add(node.ofTypename);
+        todo.add(node.options);
+        todo.add(node.partbound);
+        todo.add(node.partspec);
+        todo.add(node.relation);
+        todo.add(node.tableElts);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateSubscriptionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateSubscriptionStmt(CreateSubscriptionStmt one,
+            CreateSubscriptionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.conninfo, other.conninfo)) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        if (!Objects.equals(one.subname, other.subname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.publication);
+        todo.add(other.publication);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateSubscriptionStmt(CreateSubscriptionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.conninfo);
+        result = 31 * result + Objects.hashCode(node.servername);
+        result = 31 * result + Objects.hashCode(node.subname);
+        todo.add(node.options);
+        todo.add(node.publication);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateTableAsStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateTableAsStmt(CreateTableAsStmt one,
+            CreateTableAsStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (one.is_select_into != other.is_select_into) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        if (one.relkind != other.relkind) {
+            return false;
+        }
+        todo.add(one.into);
+        todo.add(other.into);
+        todo.add(one.query);
+        todo.add(other.query);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateTableAsStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateTableAsStmt(CreateTableAsStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + Boolean.hashCode(node.is_select_into);
+        result = 31 * result + ordinal(node.objtype);
+        result = 31 * result + ordinal(node.relkind);
+        todo.add(node.into);
+        todo.add(node.query);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateTableSpaceStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateTableSpaceStmt(CreateTableSpaceStmt one,
+            CreateTableSpaceStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.location, other.location)) {
+            return false;
+        }
+        if (!Objects.equals(one.tablespacename, other.tablespacename)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.owner);
+        todo.add(other.owner);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateTableSpaceStmt(CreateTableSpaceStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.location);
+        result = 31 * result + Objects.hashCode(node.tablespacename);
+        todo.add(node.options);
+        todo.add(node.owner);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateTransformStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateTransformStmt(CreateTransformStmt one,
+            CreateTransformStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.lang, other.lang)) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        todo.add(one.fromsql);
+        todo.add(other.fromsql);
+        todo.add(one.tosql);
+        todo.add(other.tosql);
+        todo.add(one.type_name);
+        todo.add(other.type_name);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateTransformStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateTransformStmt(CreateTransformStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.lang);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        todo.add(node.fromsql);
+        todo.add(node.tosql);
+        todo.add(node.type_name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateTrigStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateTrigStmt(CreateTrigStmt one, CreateTrigStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.deferrable != other.deferrable) {
+            return false;
+        }
+        if (one.events != other.events) {
+            return false;
+        }
+        if (one.initdeferred != other.initdeferred) {
+            return false;
+        }
+        if (one.isconstraint != other.isconstraint) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        if (one.row != other.row) {
+            return false;
+        }
+        if (one.timing != other.timing) {
+            return false;
+        }
+        if (!Objects.equals(one.trigname, other.trigname)) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.columns);
+        todo.add(other.columns);
+        todo.add(one.constrrel);
+        todo.add(other.constrrel);
+        todo.add(one.funcname);
+        todo.add(other.funcname);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.transitionRels);
+        todo.add(other.transitionRels);
+        todo.add(one.whenClause);
+        todo.add(other.whenClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateTrigStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateTrigStmt(CreateTrigStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.deferrable);
+        result = 31 * result + node.events;
+        result = 31 * result + Boolean.hashCode(node.initdeferred);
+        result = 31 * result + Boolean.hashCode(node.isconstraint);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        result = 31 * result + Boolean.hashCode(node.row);
+        result = 31 * result + node.timing;
+        result = 31 * result + Objects.hashCode(node.trigname);
+        todo.add(node.args);
+        todo.add(node.columns);
+        todo.add(node.constrrel);
+        todo.add(node.funcname);
+        todo.add(node.relation);
+        todo.add(node.transitionRels);
+        todo.add(node.whenClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreateUserMappingStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreateUserMappingStmt(CreateUserMappingStmt one,
+            CreateUserMappingStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.user);
+        todo.add(other.user);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreateUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreateUserMappingStmt(CreateUserMappingStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + Objects.hashCode(node.servername);
+        todo.add(node.options);
+        todo.add(node.user);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CreatedbStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCreatedbStmt(CreatedbStmt one, CreatedbStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.dbname, other.dbname)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CreatedbStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCreatedbStmt(CreatedbStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.dbname);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link CurrentOfExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsCurrentOfExpr(CurrentOfExpr one, CurrentOfExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.cursor_name, other.cursor_name)) {
+            return false;
+        }
+        if (one.cursor_param != other.cursor_param) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link CurrentOfExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashCurrentOfExpr(CurrentOfExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.cursor_name);
+        result = 31 * result + node.cursor_param;
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DeallocateStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDeallocateStmt(DeallocateStmt one, DeallocateStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.isall != other.isall) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DeallocateStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDeallocateStmt(DeallocateStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.isall);
+        result = 31 * result + Objects.hashCode(node.name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DeclareCursorStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDeclareCursorStmt(DeclareCursorStmt one,
+            DeclareCursorStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.options != other.options) {
+            return false;
+        }
+        if (!Objects.equals(one.portalname, other.portalname)) {
+            return false;
+        }
+        todo.add(one.query);
+        todo.add(other.query);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DeclareCursorStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDeclareCursorStmt(DeclareCursorStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.options;
+        result = 31 * result + Objects.hashCode(node.portalname);
+        todo.add(node.query);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DefElem}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDefElem(DefElem one, DefElem other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.defaction != other.defaction) {
+            return false;
+        }
+        if (!Objects.equals(one.defname, other.defname)) {
+            return false;
+        }
+        if (!Objects.equals(one.defnamespace, other.defnamespace)) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DefElem}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDefElem(DefElem node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.defaction);
+        result = 31 * result + Objects.hashCode(node.defname);
+        result = 31 * result + Objects.hashCode(node.defnamespace);
+        todo.add(node.arg);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DefineStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDefineStmt(DefineStmt one, DefineStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (one.oldstyle != other.oldstyle) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.definition);
+        todo.add(other.definition);
+        todo.add(one.defnames);
+        todo.add(other.defnames);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DefineStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDefineStmt(DefineStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Boolean.hashCode(node.oldstyle);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        todo.add(node.args);
+        todo.add(node.definition);
+        todo.add(node.defnames);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DeleteStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDeleteStmt(DeleteStmt one, DeleteStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        todo.add(one.forPortionOf);
+        todo.add(other.forPortionOf);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.returningClause);
+        todo.add(other.returningClause);
+        todo.add(one.returningList);
+        todo.add(other.returningList);
+        todo.add(one.usingClause);
+        todo.add(other.usingClause);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        todo.add(one.withClause);
+        todo.add(other.withClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DeleteStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDeleteStmt(DeleteStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        todo.add(node.forPortionOf);
+        todo.add(node.relation);
+        todo.add(node.returningClause);
+        todo.add(node.returningList);
+        todo.add(node.usingClause);
+        todo.add(node.whereClause);
+        todo.add(node.withClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DiscardStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDiscardStmt(DiscardStmt one, DiscardStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.target != other.target) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DiscardStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDiscardStmt(DiscardStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.target);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DoStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDoStmt(DoStmt one, DoStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DoStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDoStmt(DoStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.args);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropOwnedStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropOwnedStmt(DropOwnedStmt one, DropOwnedStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        todo.add(one.roles);
+        todo.add(other.roles);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropOwnedStmt(DropOwnedStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        todo.add(node.roles);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropRoleStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropRoleStmt(DropRoleStmt one, DropRoleStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        todo.add(one.roles);
+        todo.add(other.roles);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropRoleStmt(DropRoleStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        todo.add(node.roles);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropStmt(DropStmt one, DropStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.concurrent != other.concurrent) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (one.removeType != other.removeType) {
+            return false;
+        }
+        todo.add(one.objects);
+        todo.add(other.objects);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropStmt(DropStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.concurrent);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + ordinal(node.removeType);
+        todo.add(node.objects);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropSubscriptionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropSubscriptionStmt(DropSubscriptionStmt one,
+            DropSubscriptionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.subname, other.subname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropSubscriptionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropSubscriptionStmt(DropSubscriptionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.subname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropTableSpaceStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropTableSpaceStmt(DropTableSpaceStmt one,
+            DropTableSpaceStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.tablespacename, other.tablespacename)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropTableSpaceStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropTableSpaceStmt(DropTableSpaceStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.tablespacename);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropUserMappingStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropUserMappingStmt(DropUserMappingStmt one,
+            DropUserMappingStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.servername, other.servername)) {
+            return false;
+        }
+        todo.add(one.user);
+        todo.add(other.user);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropUserMappingStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropUserMappingStmt(DropUserMappingStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.servername);
+        todo.add(node.user);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link DropdbStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsDropdbStmt(DropdbStmt one, DropdbStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.dbname, other.dbname)) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link DropdbStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashDropdbStmt(DropdbStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.dbname);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ErrorData}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsErrorData(ErrorData one, ErrorData other, ArrayList<Object> todo) {
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ErrorData}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashErrorData(ErrorData node, int hash, ArrayList<Object> todo) {
+        return hash;
+    }
+
+    /**
+     * Compares the fields of two {@link ErrorSaveContext}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsErrorSaveContext(ErrorSaveContext one,
+            ErrorSaveContext other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.details_wanted != other.details_wanted) {
+            return false;
+        }
+        if (one.error_occurred != other.error_occurred) {
+            return false;
+        }
+        todo.add(one.error_data);
+        todo.add(other.error_data);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ErrorSaveContext}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashErrorSaveContext(ErrorSaveContext node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.details_wanted);
+        result = 31 * result + Boolean.hashCode(node.error_occurred);
+        todo.add(node.error_data);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ExecuteStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsExecuteStmt(ExecuteStmt one, ExecuteStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.params);
+        todo.add(other.params);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ExecuteStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashExecuteStmt(ExecuteStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.params);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ExplainStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsExplainStmt(ExplainStmt one, ExplainStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.query);
+        todo.add(other.query);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ExplainStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashExplainStmt(ExplainStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.options);
+        todo.add(node.query);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link FetchStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsFetchStmt(FetchStmt one, FetchStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.direction != other.direction) {
+            return false;
+        }
+        if (one.direction_keyword != other.direction_keyword) {
+            return false;
+        }
+        if (one.howMany != other.howMany) {
+            return false;
+        }
+        if (one.ismove != other.ismove) {
+            return false;
+        }
+        if (!Objects.equals(one.portalname, other.portalname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link FetchStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashFetchStmt(FetchStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.direction);
+        result = 31 * result + ordinal(node.direction_keyword);
+        result = 31 * result + Long.hashCode(node.howMany);
+        result = 31 * result + Boolean.hashCode(node.ismove);
+        result = 31 * result + Objects.hashCode(node.portalname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ForPortionOfClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsForPortionOfClause(ForPortionOfClause one,
+            ForPortionOfClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.range_name, other.range_name)) {
+            return false;
+        }
+        todo.add(one.target);
+        todo.add(other.target);
+        todo.add(one.target_end);
+        todo.add(other.target_end);
+        todo.add(one.target_start);
+        todo.add(other.target_start);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ForPortionOfClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashForPortionOfClause(ForPortionOfClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.range_name);
+        todo.add(node.target);
+        todo.add(node.target_end);
+        todo.add(node.target_start);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link FuncCall}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsFuncCall(FuncCall one, FuncCall other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.agg_distinct != other.agg_distinct) {
+            return false;
+        }
+        if (one.agg_star != other.agg_star) {
+            return false;
+        }
+        if (one.agg_within_group != other.agg_within_group) {
+            return false;
+        }
+        if (one.func_variadic != other.func_variadic) {
+            return false;
+        }
+        if (one.funcformat != other.funcformat) {
+            return false;
+        }
+        if (one.ignore_nulls != other.ignore_nulls) {
+            return false;
+        }
+        todo.add(one.agg_filter);
+        todo.add(other.agg_filter);
+        todo.add(one.agg_order);
+        todo.add(other.agg_order);
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.funcname);
+        todo.add(other.funcname);
+        todo.add(one.over);
+        todo.add(other.over);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link FuncCall}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashFuncCall(FuncCall node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.agg_distinct);
+        result = 31 * result + Boolean.hashCode(node.agg_star);
+        result = 31 * result + Boolean.hashCode(node.agg_within_group);
+        result = 31 * result + Boolean.hashCode(node.func_variadic);
+        result = 31 * result + ordinal(node.funcformat);
+        result = 31 * result + ordinal(node.ignore_nulls);
+        todo.add(node.agg_filter);
+        todo.add(node.agg_order);
+        todo.add(node.args);
+        todo.add(node.funcname);
+        todo.add(node.over);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link FunctionParameter}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsFunctionParameter(FunctionParameter one,
+            FunctionParameter other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.mode != other.mode) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.argType);
+        todo.add(other.argType);
+        todo.add(one.defexpr);
+        todo.add(other.defexpr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link FunctionParameter}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashFunctionParameter(FunctionParameter node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Character.hashCode(node.mode);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.argType);
+        todo.add(node.defexpr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GrantRoleStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGrantRoleStmt(GrantRoleStmt one, GrantRoleStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.admin_opt != other.admin_opt) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.is_grant != other.is_grant) {
+            return false;
+        }
+        todo.add(one.granted_roles);
+        todo.add(other.granted_roles);
+        todo.add(one.grantee_roles);
+        todo.add(other.grantee_roles);
+        todo.add(one.grantor);
+        todo.add(other.grantor);
+        todo.add(one.opt);
+        todo.add(other.opt);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GrantRoleStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGrantRoleStmt(GrantRoleStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.admin_opt);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.is_grant);
+        todo.add(node.granted_roles);
+        todo.add(node.grantee_roles);
+        todo.add(node.grantor);
+        todo.add(node.opt);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GrantStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGrantStmt(GrantStmt one, GrantStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.grant_option != other.grant_option) {
+            return false;
+        }
+        if (one.is_grant != other.is_grant) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        if (one.targtype != other.targtype) {
+            return false;
+        }
+        todo.add(one.grantees);
+        todo.add(other.grantees);
+        todo.add(one.grantor);
+        todo.add(other.grantor);
+        todo.add(one.objects);
+        todo.add(other.objects);
+        todo.add(one.privileges);
+        todo.add(other.privileges);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GrantStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGrantStmt(GrantStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.grant_option);
+        result = 31 * result + Boolean.hashCode(node.is_grant);
+        result = 31 * result + ordinal(node.objtype);
+        result = 31 * result + ordinal(node.targtype);
+        todo.add(node.grantees);
+        todo.add(node.grantor);
+        todo.add(node.objects);
+        todo.add(node.privileges);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GraphElementPattern}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGraphElementPattern(GraphElementPattern one,
+            GraphElementPattern other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (!Objects.equals(one.variable, other.variable)) {
+            return false;
+        }
+        todo.add(one.labelexpr);
+        todo.add(other.labelexpr);
+        todo.add(one.quantifier);
+        todo.add(other.quantifier);
+        todo.add(one.subexpr);
+        todo.add(other.subexpr);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GraphElementPattern}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGraphElementPattern(GraphElementPattern node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Objects.hashCode(node.variable);
+        todo.add(node.labelexpr);
+        todo.add(node.quantifier);
+        todo.add(node.subexpr);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GraphPattern}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGraphPattern(GraphPattern one, GraphPattern other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.path_pattern_list);
+        todo.add(other.path_pattern_list);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GraphPattern}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGraphPattern(GraphPattern node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.path_pattern_list);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GroupClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGroupClause(GroupClause one, GroupClause other, ArrayList<Object> todo) {
+        if (one.all != other.all) {
+            return false;
+        }
+        if (one.distinct != other.distinct) {
+            return false;
+        }
+        todo.add(one.list);
+        todo.add(other.list);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GroupClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGroupClause(GroupClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + Boolean.hashCode(node.all);
+        result = 31 * result + Boolean.hashCode(node.distinct);
+        todo.add(node.list);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GroupingFunc}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGroupingFunc(GroupingFunc one, GroupingFunc other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GroupingFunc}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGroupingFunc(GroupingFunc node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.args);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link GroupingSet}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsGroupingSet(GroupingSet one, GroupingSet other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        todo.add(one.content);
+        todo.add(other.content);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link GroupingSet}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashGroupingSet(GroupingSet node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.kind);
+        todo.add(node.content);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ImportForeignSchemaStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsImportForeignSchemaStmt(ImportForeignSchemaStmt one,
+            ImportForeignSchemaStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.list_type != other.list_type) {
+            return false;
+        }
+        if (!Objects.equals(one.local_schema, other.local_schema)) {
+            return false;
+        }
+        if (!Objects.equals(one.remote_schema, other.remote_schema)) {
+            return false;
+        }
+        if (!Objects.equals(one.server_name, other.server_name)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.table_list);
+        todo.add(other.table_list);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ImportForeignSchemaStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashImportForeignSchemaStmt(ImportForeignSchemaStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.list_type);
+        result = 31 * result + Objects.hashCode(node.local_schema);
+        result = 31 * result + Objects.hashCode(node.remote_schema);
+        result = 31 * result + Objects.hashCode(node.server_name);
+        todo.add(node.options);
+        todo.add(node.table_list);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ImportQual}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsImportQual(ImportQual one, ImportQual other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.table_names);
+        todo.add(other.table_names);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ImportQual}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashImportQual(ImportQual node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.table_names);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link IndexElem}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsIndexElem(IndexElem one, IndexElem other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.indexcolname, other.indexcolname)) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.nulls_ordering != other.nulls_ordering) {
+            return false;
+        }
+        if (one.ordering != other.ordering) {
+            return false;
+        }
+        todo.add(one.collation);
+        todo.add(other.collation);
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.opclass);
+        todo.add(other.opclass);
+        todo.add(one.opclassopts);
+        todo.add(other.opclassopts);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link IndexElem}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashIndexElem(IndexElem node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.indexcolname);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + ordinal(node.nulls_ordering);
+        result = 31 * result + ordinal(node.ordering);
+        todo.add(node.collation);
+        todo.add(node.expr);
+        todo.add(node.opclass);
+        todo.add(node.opclassopts);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link IndexStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsIndexStmt(IndexStmt one, IndexStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.accessMethod, other.accessMethod)) {
+            return false;
+        }
+        if (one.concurrent != other.concurrent) {
+            return false;
+        }
+        if (one.deferrable != other.deferrable) {
+            return false;
+        }
+        if (!Objects.equals(one.idxcomment, other.idxcomment)) {
+            return false;
+        }
+        if (!Objects.equals(one.idxname, other.idxname)) {
+            return false;
+        }
+        if (one.if_not_exists != other.if_not_exists) {
+            return false;
+        }
+        if (one.initdeferred != other.initdeferred) {
+            return false;
+        }
+        if (one.isconstraint != other.isconstraint) {
+            return false;
+        }
+        if (one.nulls_not_distinct != other.nulls_not_distinct) {
+            return false;
+        }
+        if (one.oldCreateSubid != other.oldCreateSubid) {
+            return false;
+        }
+        if (one.oldFirstRelfilelocatorSubid != other.oldFirstRelfilelocatorSubid) {
+            return false;
+        }
+        if (one.oldFirstRelfilenodeSubid != other.oldFirstRelfilenodeSubid) {
+            return false;
+        }
+        if (one.primary != other.primary) {
+            return false;
+        }
+        if (one.reset_default_tblspc != other.reset_default_tblspc) {
+            return false;
+        }
+        if (!Objects.equals(one.tableSpace, other.tableSpace)) {
+            return false;
+        }
+        if (one.transformed != other.transformed) {
+            return false;
+        }
+        if (one.unique != other.unique) {
+            return false;
+        }
+        todo.add(one.excludeOpNames);
+        todo.add(other.excludeOpNames);
+        todo.add(one.indexIncludingParams);
+        todo.add(other.indexIncludingParams);
+        todo.add(one.indexOid);
+        todo.add(other.indexOid);
+        todo.add(one.indexParams);
+        todo.add(other.indexParams);
+        todo.add(one.oldNode);
+        todo.add(other.oldNode);
+        todo.add(one.oldNumber);
+        todo.add(other.oldNumber);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.relationId);
+        todo.add(other.relationId);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link IndexStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashIndexStmt(IndexStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.accessMethod);
+        result = 31 * result + Boolean.hashCode(node.concurrent);
+        result = 31 * result + Boolean.hashCode(node.deferrable);
+        result = 31 * result + Objects.hashCode(node.idxcomment);
+        result = 31 * result + Objects.hashCode(node.idxname);
+        result = 31 * result + Boolean.hashCode(node.if_not_exists);
+        result = 31 * result + Boolean.hashCode(node.initdeferred);
+        result = 31 * result + Boolean.hashCode(node.isconstraint);
+        result = 31 * result + Boolean.hashCode(node.nulls_not_distinct);
+        result = 31 * result + node.oldCreateSubid;
+        result = 31 * result + node.oldFirstRelfilelocatorSubid;
+        result = 31 * result + node.oldFirstRelfilenodeSubid;
+        result = 31 * result + Boolean.hashCode(node.primary);
+        result = 31 * result + Boolean.hashCode(node.reset_default_tblspc);
+        result = 31 * result + Objects.hashCode(node.tableSpace);
+        result = 31 * result + Boolean.hashCode(node.transformed);
+        result = 31 * result + Boolean.hashCode(node.unique);
+        todo.add(node.excludeOpNames);
+        todo.add(node.indexIncludingParams);
+        todo.add(node.indexOid);
+        todo.add(node.indexParams);
+        todo.add(node.oldNode);
+        todo.add(node.oldNumber);
+        todo.add(node.options);
+        todo.add(node.relation);
+        todo.add(node.relationId);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link InferClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsInferClause(InferClause one, InferClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.conname, other.conname)) {
+            return false;
+        }
+        todo.add(one.indexElems);
+        todo.add(other.indexElems);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link InferClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashInferClause(InferClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.conname);
+        todo.add(node.indexElems);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link InsertStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsInsertStmt(InsertStmt one, InsertStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        if (one.override != other.override) {
+            return false;
+        }
+        todo.add(one.cols);
+        todo.add(other.cols);
+        todo.add(one.onConflictClause);
+        todo.add(other.onConflictClause);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.returningClause);
+        todo.add(other.returningClause);
+        todo.add(one.returningList);
+        todo.add(other.returningList);
+        todo.add(one.selectStmt);
+        todo.add(other.selectStmt);
+        todo.add(one.withClause);
+        todo.add(other.withClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link InsertStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashInsertStmt(InsertStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        result = 31 * result + ordinal(node.override);
+        todo.add(node.cols);
+        todo.add(node.onConflictClause);
+        todo.add(node.relation);
+        todo.add(node.returningClause);
+        todo.add(node.returningList);
+        todo.add(node.selectStmt);
+        todo.add(node.withClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link IntoClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsIntoClause(IntoClause one, IntoClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.accessMethod, other.accessMethod)) {
+            return false;
+        }
+        if (one.onCommit != other.onCommit) {
+            return false;
+        }
+        if (one.skipData != other.skipData) {
+            return false;
+        }
+        if (!Objects.equals(one.tableSpaceName, other.tableSpaceName)) {
+            return false;
+        }
+        todo.add(one.colNames);
+        todo.add(other.colNames);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.rel);
+        todo.add(other.rel);
+        todo.add(one.viewQuery);
+        todo.add(other.viewQuery);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link IntoClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashIntoClause(IntoClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.accessMethod);
+        result = 31 * result + ordinal(node.onCommit);
+        result = 31 * result + Boolean.hashCode(node.skipData);
+        result = 31 * result + Objects.hashCode(node.tableSpaceName);
+        todo.add(node.colNames);
+        todo.add(node.options);
+        todo.add(node.rel);
+        todo.add(node.viewQuery);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JoinExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJoinExpr(JoinExpr one, JoinExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.isNatural != other.isNatural) {
+            return false;
+        }
+        if (one.jointype != other.jointype) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.join_using_alias);
+        todo.add(other.join_using_alias);
+        todo.add(one.larg);
+        todo.add(other.larg);
+        todo.add(one.quals);
+        todo.add(other.quals);
+        todo.add(one.rarg);
+        todo.add(other.rarg);
+        todo.add(one.usingClause);
+        todo.add(other.usingClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JoinExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJoinExpr(JoinExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.isNatural);
+        result = 31 * result + ordinal(node.jointype);
+        todo.add(node.alias);
+        todo.add(node.join_using_alias);
+        todo.add(node.larg);
+        todo.add(node.quals);
+        todo.add(node.rarg);
+        todo.add(node.usingClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonAggConstructor}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonAggConstructor(JsonAggConstructor one,
+            JsonAggConstructor other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.agg_filter);
+        todo.add(other.agg_filter);
+        todo.add(one.agg_order);
+        todo.add(other.agg_order);
+        todo.add(one.output);
+        todo.add(other.output);
+        todo.add(one.over);
+        todo.add(other.over);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonAggConstructor}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonAggConstructor(JsonAggConstructor node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.agg_filter);
+        todo.add(node.agg_order);
+        todo.add(node.output);
+        todo.add(node.over);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonArgument}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonArgument(JsonArgument one, JsonArgument other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.val);
+        todo.add(other.val);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonArgument}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonArgument(JsonArgument node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.val);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonArrayAgg}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonArrayAgg(JsonArrayAgg one, JsonArrayAgg other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.absent_on_null != other.absent_on_null) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        todo.add(one.constructor);
+        todo.add(other.constructor);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonArrayAgg}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonArrayAgg(JsonArrayAgg node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.absent_on_null);
+        todo.add(node.arg);
+        todo.add(node.constructor);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonArrayConstructor}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonArrayConstructor(JsonArrayConstructor one,
+            JsonArrayConstructor other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.absent_on_null != other.absent_on_null) {
+            return false;
+        }
+        todo.add(one.exprs);
+        todo.add(other.exprs);
+        todo.add(one.output);
+        todo.add(other.output);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonArrayConstructor}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonArrayConstructor(JsonArrayConstructor node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.absent_on_null);
+        todo.add(node.exprs);
+        todo.add(node.output);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonArrayQueryConstructor}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonArrayQueryConstructor(JsonArrayQueryConstructor one,
+            JsonArrayQueryConstructor other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.absent_on_null != other.absent_on_null) {
+            return false;
+        }
+        todo.add(one.format);
+        todo.add(other.format);
+        todo.add(one.output);
+        todo.add(other.output);
+        todo.add(one.query);
+        todo.add(other.query);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonArrayQueryConstructor}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonArrayQueryConstructor(JsonArrayQueryConstructor node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.absent_on_null);
+        todo.add(node.format);
+        todo.add(node.output);
+        todo.add(node.query);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonBehavior}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonBehavior(JsonBehavior one, JsonBehavior other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.btype != other.btype) {
+            return false;
+        }
+        if (one.coerce != other.coerce) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonBehavior}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonBehavior(JsonBehavior node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.btype);
+        result = 31 * result + Boolean.hashCode(node.coerce);
+        todo.add(node.expr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonFormat}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonFormat(JsonFormat one, JsonFormat other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.encoding != other.encoding) {
+            return false;
+        }
+        if (one.format_type != other.format_type) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonFormat}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonFormat(JsonFormat node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.encoding);
+        result = 31 * result + ordinal(node.format_type);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonFuncExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonFuncExpr(JsonFuncExpr one, JsonFuncExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.column_name, other.column_name)) {
+            return false;
+        }
+        if (one.op != other.op) {
+            return false;
+        }
+        if (one.quotes != other.quotes) {
+            return false;
+        }
+        if (one.wrapper != other.wrapper) {
+            return false;
+        }
+        todo.add(one.context_item);
+        todo.add(other.context_item);
+        todo.add(one.on_empty);
+        todo.add(other.on_empty);
+        todo.add(one.on_error);
+        todo.add(other.on_error);
+        todo.add(one.output);
+        todo.add(other.output);
+        todo.add(one.passing);
+        todo.add(other.passing);
+        todo.add(one.pathspec);
+        todo.add(other.pathspec);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonFuncExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonFuncExpr(JsonFuncExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.column_name);
+        result = 31 * result + ordinal(node.op);
+        result = 31 * result + ordinal(node.quotes);
+        result = 31 * result + ordinal(node.wrapper);
+        todo.add(node.context_item);
+        todo.add(node.on_empty);
+        todo.add(node.on_error);
+        todo.add(node.output);
+        todo.add(node.passing);
+        todo.add(node.pathspec);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonIsPredicate}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonIsPredicate(JsonIsPredicate one, JsonIsPredicate other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.item_type != other.item_type) {
+            return false;
+        }
+        if (one.unique_keys != other.unique_keys) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.exprBaseType);
+        todo.add(other.exprBaseType);
+        todo.add(one.format);
+        todo.add(other.format);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonIsPredicate}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonIsPredicate(JsonIsPredicate node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.item_type);
+        result = 31 * result + Boolean.hashCode(node.unique_keys);
+        todo.add(node.expr);
+        todo.add(node.exprBaseType);
+        todo.add(node.format);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonKeyValue}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonKeyValue(JsonKeyValue one, JsonKeyValue other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.key);
+        todo.add(other.key);
+        todo.add(one.value);
+        todo.add(other.value);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonKeyValue}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonKeyValue(JsonKeyValue node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.key);
+        todo.add(node.value);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonObjectAgg}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonObjectAgg(JsonObjectAgg one, JsonObjectAgg other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.absent_on_null != other.absent_on_null) {
+            return false;
+        }
+        if (one.unique != other.unique) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        todo.add(one.constructor);
+        todo.add(other.constructor);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonObjectAgg}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonObjectAgg(JsonObjectAgg node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.absent_on_null);
+        result = 31 * result + Boolean.hashCode(node.unique);
+        todo.add(node.arg);
+        todo.add(node.constructor);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonObjectConstructor}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonObjectConstructor(JsonObjectConstructor one,
+            JsonObjectConstructor other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.absent_on_null != other.absent_on_null) {
+            return false;
+        }
+        if (one.unique != other.unique) {
+            return false;
+        }
+        todo.add(one.exprs);
+        todo.add(other.exprs);
+        todo.add(one.output);
+        todo.add(other.output);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonObjectConstructor}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonObjectConstructor(JsonObjectConstructor node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.absent_on_null);
+        result = 31 * result + Boolean.hashCode(node.unique);
+        todo.add(node.exprs);
+        todo.add(node.output);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonOutput}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonOutput(JsonOutput one, JsonOutput other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.returning);
+        todo.add(other.returning);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonOutput}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonOutput(JsonOutput node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.returning);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonParseExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonParseExpr(JsonParseExpr one, JsonParseExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.unique_keys != other.unique_keys) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.output);
+        todo.add(other.output);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonParseExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonParseExpr(JsonParseExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.unique_keys);
+        todo.add(node.expr);
+        todo.add(node.output);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonReturning}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonReturning(JsonReturning one, JsonReturning other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.typmod != other.typmod) {
+            return false;
+        }
+        todo.add(one.format);
+        todo.add(other.format);
+        todo.add(one.typid);
+        todo.add(other.typid);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonReturning}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonReturning(JsonReturning node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.typmod;
+        todo.add(node.format);
+        todo.add(node.typid);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonScalarExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonScalarExpr(JsonScalarExpr one, JsonScalarExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.output);
+        todo.add(other.output);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonScalarExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonScalarExpr(JsonScalarExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.expr);
+        todo.add(node.output);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonSerializeExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonSerializeExpr(JsonSerializeExpr one,
+            JsonSerializeExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.output);
+        todo.add(other.output);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonSerializeExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonSerializeExpr(JsonSerializeExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.expr);
+        todo.add(node.output);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonTable}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonTable(JsonTable one, JsonTable other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.lateral != other.lateral) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.columns);
+        todo.add(other.columns);
+        todo.add(one.context_item);
+        todo.add(other.context_item);
+        todo.add(one.on_error);
+        todo.add(other.on_error);
+        todo.add(one.passing);
+        todo.add(other.passing);
+        todo.add(one.pathspec);
+        todo.add(other.pathspec);
+        todo.add(one.planspec);
+        todo.add(other.planspec);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonTable}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonTable(JsonTable node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.lateral);
+        todo.add(node.alias);
+        todo.add(node.columns);
+        todo.add(node.context_item);
+        todo.add(node.on_error);
+        todo.add(node.passing);
+        todo.add(node.pathspec);
+        todo.add(node.planspec);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonTableColumn}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonTableColumn(JsonTableColumn one, JsonTableColumn other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.coltype != other.coltype) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.quotes != other.quotes) {
+            return false;
+        }
+        if (one.wrapper != other.wrapper) {
+            return false;
+        }
+        todo.add(one.columns);
+        todo.add(other.columns);
+        todo.add(one.format);
+        todo.add(other.format);
+        todo.add(one.on_empty);
+        todo.add(other.on_empty);
+        todo.add(one.on_error);
+        todo.add(other.on_error);
+        todo.add(one.pathspec);
+        todo.add(other.pathspec);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonTableColumn}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonTableColumn(JsonTableColumn node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.coltype);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + ordinal(node.quotes);
+        result = 31 * result + ordinal(node.wrapper);
+        todo.add(node.columns);
+        todo.add(node.format);
+        todo.add(node.on_empty);
+        todo.add(node.on_error);
+        todo.add(node.pathspec);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonTablePathSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonTablePathSpec(JsonTablePathSpec one,
+            JsonTablePathSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.string);
+        todo.add(other.string);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonTablePathSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonTablePathSpec(JsonTablePathSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.string);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonTablePlanSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonTablePlanSpec(JsonTablePlanSpec one,
+            JsonTablePlanSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.join_type != other.join_type) {
+            return false;
+        }
+        if (!Objects.equals(one.pathname, other.pathname)) {
+            return false;
+        }
+        if (one.plan_type != other.plan_type) {
+            return false;
+        }
+        todo.add(one.plan1);
+        todo.add(other.plan1);
+        todo.add(one.plan2);
+        todo.add(other.plan2);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonTablePlanSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonTablePlanSpec(JsonTablePlanSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.join_type;
+        result = 31 * result + Objects.hashCode(node.pathname);
+        result = 31 * result + ordinal(node.plan_type);
+        todo.add(node.plan1);
+        todo.add(node.plan2);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link JsonValueExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsJsonValueExpr(JsonValueExpr one, JsonValueExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.format);
+        todo.add(other.format);
+        todo.add(one.formatted_expr);
+        todo.add(other.formatted_expr);
+        todo.add(one.raw_expr);
+        todo.add(other.raw_expr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link JsonValueExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashJsonValueExpr(JsonValueExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.format);
+        todo.add(node.formatted_expr);
+        todo.add(node.raw_expr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link KeyAction}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsKeyAction(KeyAction one, KeyAction other, ArrayList<Object> todo) {
+        if (one.action != other.action) {
+            return false;
+        }
+        todo.add(one.cols);
+        todo.add(other.cols);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link KeyAction}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashKeyAction(KeyAction node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + node.action;
+        todo.add(node.cols);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link KeyActions}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsKeyActions(KeyActions one, KeyActions other, ArrayList<Object> todo) {
+        todo.add(one.deleteAction);
+        todo.add(other.deleteAction);
+        todo.add(one.updateAction);
+        todo.add(other.updateAction);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link KeyActions}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashKeyActions(KeyActions node, int hash, ArrayList<Object> todo) {
+        todo.add(node.deleteAction);
+        todo.add(node.updateAction);
+        return hash;
+    }
+
+    /**
+     * Compares the fields of two {@link ListenStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsListenStmt(ListenStmt one, ListenStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.conditionname, other.conditionname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ListenStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashListenStmt(ListenStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.conditionname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link LoadStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsLoadStmt(LoadStmt one, LoadStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.filename, other.filename)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link LoadStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashLoadStmt(LoadStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.filename);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Location}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsLocation(Location one, Location other, ArrayList<Object> todo) {
+        todo.add(one.begin);
+        todo.add(other.begin);
+        todo.add(one.end);
+        todo.add(other.end);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Location}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashLocation(Location node, int hash, ArrayList<Object> todo) {
+        todo.add(node.begin);
+        todo.add(node.end);
+        return hash;
+    }
+
+    /**
+     * Compares the fields of two {@link LockStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsLockStmt(LockStmt one, LockStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.mode != other.mode) {
+            return false;
+        }
+        if (one.nowait != other.nowait) {
+            return false;
+        }
+        todo.add(one.relations);
+        todo.add(other.relations);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link LockStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashLockStmt(LockStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.mode;
+        result = 31 * result + Boolean.hashCode(node.nowait);
+        todo.add(node.relations);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link LockingClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsLockingClause(LockingClause one, LockingClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.strength != other.strength) {
+            return false;
+        }
+        if (one.waitPolicy != other.waitPolicy) {
+            return false;
+        }
+        todo.add(one.lockedRels);
+        todo.add(other.lockedRels);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link LockingClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashLockingClause(LockingClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.strength);
+        result = 31 * result + ordinal(node.waitPolicy);
+        todo.add(node.lockedRels);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link MergeStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsMergeStmt(MergeStmt one, MergeStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        todo.add(one.joinCondition);
+        todo.add(other.joinCondition);
+        todo.add(one.mergeWhenClauses);
+        todo.add(other.mergeWhenClauses);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.returningClause);
+        todo.add(other.returningClause);
+        todo.add(one.returningList);
+        todo.add(other.returningList);
+        todo.add(one.sourceRelation);
+        todo.add(other.sourceRelation);
+        todo.add(one.withClause);
+        todo.add(other.withClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link MergeStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashMergeStmt(MergeStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        todo.add(node.joinCondition);
+        todo.add(node.mergeWhenClauses);
+        todo.add(node.relation);
+        todo.add(node.returningClause);
+        todo.add(node.returningList);
+        todo.add(node.sourceRelation);
+        todo.add(node.withClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link MergeSupportFunc}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsMergeSupportFunc(MergeSupportFunc one,
+            MergeSupportFunc other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.msfcollid);
+        todo.add(other.msfcollid);
+        todo.add(one.msftype);
+        todo.add(other.msftype);
+        todo.add(one.xpr);
+        todo.add(other.xpr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link MergeSupportFunc}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashMergeSupportFunc(MergeSupportFunc node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.msfcollid);
+        todo.add(node.msftype);
+        todo.add(node.xpr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link MergeWhenClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsMergeWhenClause(MergeWhenClause one, MergeWhenClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.commandType != other.commandType) {
+            return false;
+        }
+        if (one.matchKind != other.matchKind) {
+            return false;
+        }
+        if (one.matched != other.matched) {
+            return false;
+        }
+        if (one.override != other.override) {
+            return false;
+        }
+        todo.add(one.condition);
+        todo.add(other.condition);
+        todo.add(one.targetList);
+        todo.add(other.targetList);
+        todo.add(one.values);
+        todo.add(other.values);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link MergeWhenClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashMergeWhenClause(MergeWhenClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.commandType);
+        result = 31 * result + ordinal(node.matchKind);
+        result = 31 * result + Boolean.hashCode(node.matched);
+        result = 31 * result + ordinal(node.override);
+        todo.add(node.condition);
+        todo.add(node.targetList);
+        todo.add(node.values);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link MinMaxExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsMinMaxExpr(MinMaxExpr one, MinMaxExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.op != other.op) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link MinMaxExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashMinMaxExpr(MinMaxExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.op);
+        todo.add(node.args);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link MultiAssignRef}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsMultiAssignRef(MultiAssignRef one, MultiAssignRef other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.colno != other.colno) {
+            return false;
+        }
+        if (one.ncolumns != other.ncolumns) {
+            return false;
+        }
+        todo.add(one.source);
+        todo.add(other.source);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link MultiAssignRef}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashMultiAssignRef(MultiAssignRef node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.colno;
+        result = 31 * result + node.ncolumns;
+        todo.add(node.source);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link NamedArgExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsNamedArgExpr(NamedArgExpr one, NamedArgExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.argnumber != other.argnumber) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link NamedArgExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashNamedArgExpr(NamedArgExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.argnumber;
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.arg);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Node}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsNode(Node one, Node other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Node}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashNode(Node node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link NotifyStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsNotifyStmt(NotifyStmt one, NotifyStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.conditionname, other.conditionname)) {
+            return false;
+        }
+        if (!Objects.equals(one.payload, other.payload)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link NotifyStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashNotifyStmt(NotifyStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.conditionname);
+        result = 31 * result + Objects.hashCode(node.payload);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link NullTest}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsNullTest(NullTest one, NullTest other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.nulltesttype != other.nulltesttype) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link NullTest}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashNullTest(NullTest node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.nulltesttype);
+        todo.add(node.arg);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ObjectWithArgs}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsObjectWithArgs(ObjectWithArgs one, ObjectWithArgs other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.args_unspecified != other.args_unspecified) {
+            return false;
+        }
+        todo.add(one.objargs);
+        todo.add(other.objargs);
+        todo.add(one.objfuncargs);
+        todo.add(other.objfuncargs);
+        todo.add(one.objname);
+        todo.add(other.objname);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ObjectWithArgs}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashObjectWithArgs(ObjectWithArgs node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.args_unspecified);
+        todo.add(node.objargs);
+        todo.add(node.objfuncargs);
+        todo.add(node.objname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Oid}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsOid(Oid one, Oid other, ArrayList<Object> todo) {
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Oid}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashOid(Oid node, int hash, ArrayList<Object> todo) {
+        return hash;
+    }
+
+    /**
+     * Compares the fields of two {@link OnConflictClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsOnConflictClause(OnConflictClause one,
+            OnConflictClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.action != other.action) {
+            return false;
+        }
+        if (one.lockStrength != other.lockStrength) {
+            return false;
+        }
+        todo.add(one.infer);
+        todo.add(other.infer);
+        todo.add(one.targetList);
+        todo.add(other.targetList);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link OnConflictClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashOnConflictClause(OnConflictClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.action);
+        result = 31 * result + ordinal(node.lockStrength);
+        todo.add(node.infer);
+        todo.add(node.targetList);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PLAssignStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPLAssignStmt(PLAssignStmt one, PLAssignStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.nnames != other.nnames) {
+            return false;
+        }
+        todo.add(one.indirection);
+        todo.add(other.indirection);
+        todo.add(one.val);
+        todo.add(other.val);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PLAssignStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPLAssignStmt(PLAssignStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + node.nnames;
+        todo.add(node.indirection);
+        todo.add(node.val);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ParamRef}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsParamRef(ParamRef one, ParamRef other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.number != other.number) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ParamRef}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashParamRef(ParamRef node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.number;
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PartitionBoundSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPartitionBoundSpec(PartitionBoundSpec one,
+            PartitionBoundSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.is_default != other.is_default) {
+            return false;
+        }
+        if (one.modulus != other.modulus) {
+            return false;
+        }
+        if (one.remainder != other.remainder) {
+            return false;
+        }
+        if (one.strategy != other.strategy) {
+            return false;
+        }
+        todo.add(one.listdatums);
+        todo.add(other.listdatums);
+        todo.add(one.lowerdatums);
+        todo.add(other.lowerdatums);
+        todo.add(one.upperdatums);
+        todo.add(other.upperdatums);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PartitionBoundSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPartitionBoundSpec(PartitionBoundSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.is_default);
+        result = 31 * result + node.modulus;
+        result = 31 * result + node.remainder;
+        result = 31 * result + ordinal(node.strategy);
+        todo.add(node.listdatums);
+        todo.add(node.lowerdatums);
+        todo.add(node.upperdatums);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PartitionCmd}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPartitionCmd(PartitionCmd one, PartitionCmd other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.concurrent != other.concurrent) {
+            return false;
+        }
+        todo.add(one.bound);
+        todo.add(other.bound);
+        todo.add(one.name);
+        todo.add(other.name);
+        todo.add(one.partlist);
+        todo.add(other.partlist);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PartitionCmd}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPartitionCmd(PartitionCmd node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.concurrent);
+        todo.add(node.bound);
+        todo.add(node.name);
+        todo.add(node.partlist);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PartitionElem}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPartitionElem(PartitionElem one, PartitionElem other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.collation);
+        todo.add(other.collation);
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.opclass);
+        todo.add(other.opclass);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PartitionElem}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPartitionElem(PartitionElem node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.collation);
+        todo.add(node.expr);
+        todo.add(node.opclass);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PartitionRangeDatum}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPartitionRangeDatum(PartitionRangeDatum one,
+            PartitionRangeDatum other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        todo.add(one.value);
+        todo.add(other.value);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PartitionRangeDatum}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPartitionRangeDatum(PartitionRangeDatum node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.kind);
+        todo.add(node.value);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PartitionSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPartitionSpec(PartitionSpec one, PartitionSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.strategy != other.strategy) {
+            return false;
+        }
+        todo.add(one.partParams);
+        todo.add(other.partParams);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPartitionSpec(PartitionSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.strategy);
+        todo.add(node.partParams);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PrepareStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPrepareStmt(PrepareStmt one, PrepareStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.argtypes);
+        todo.add(other.argtypes);
+        todo.add(one.query);
+        todo.add(other.query);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PrepareStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPrepareStmt(PrepareStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.argtypes);
+        todo.add(node.query);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PrivTarget}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPrivTarget(PrivTarget one, PrivTarget other, ArrayList<Object> todo) {
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        if (one.targtype != other.targtype) {
+            return false;
+        }
+        todo.add(one.objs);
+        todo.add(other.objs);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PrivTarget}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPrivTarget(PrivTarget node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.objtype);
+        result = 31 * result + ordinal(node.targtype);
+        todo.add(node.objs);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PropGraphEdge}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPropGraphEdge(PropGraphEdge one, PropGraphEdge other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.edestvertex, other.edestvertex)) {
+            return false;
+        }
+        if (!Objects.equals(one.esrcvertex, other.esrcvertex)) {
+            return false;
+        }
+        todo.add(one.edestkey);
+        todo.add(other.edestkey);
+        todo.add(one.edestvertexcols);
+        todo.add(other.edestvertexcols);
+        todo.add(one.ekey);
+        todo.add(other.ekey);
+        todo.add(one.esrckey);
+        todo.add(other.esrckey);
+        todo.add(one.esrcvertexcols);
+        todo.add(other.esrcvertexcols);
+        todo.add(one.etable);
+        todo.add(other.etable);
+        todo.add(one.labels);
+        todo.add(other.labels);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PropGraphEdge}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPropGraphEdge(PropGraphEdge node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.edestvertex);
+        result = 31 * result + Objects.hashCode(node.esrcvertex);
+        todo.add(node.edestkey);
+        todo.add(node.edestvertexcols);
+        todo.add(node.ekey);
+        todo.add(node.esrckey);
+        todo.add(node.esrcvertexcols);
+        todo.add(node.etable);
+        todo.add(node.labels);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PropGraphLabelAndProperties}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPropGraphLabelAndProperties(PropGraphLabelAndProperties one,
+            PropGraphLabelAndProperties other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.label, other.label)) {
+            return false;
+        }
+        todo.add(one.properties);
+        todo.add(other.properties);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PropGraphLabelAndProperties}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPropGraphLabelAndProperties(PropGraphLabelAndProperties node,
+            int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.label);
+        todo.add(node.properties);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PropGraphProperties}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPropGraphProperties(PropGraphProperties one,
+            PropGraphProperties other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.all != other.all) {
+            return false;
+        }
+        todo.add(one.properties);
+        todo.add(other.properties);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PropGraphProperties}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPropGraphProperties(PropGraphProperties node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.all);
+        todo.add(node.properties);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PropGraphVertex}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPropGraphVertex(PropGraphVertex one, PropGraphVertex other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.labels);
+        todo.add(other.labels);
+        todo.add(one.vkey);
+        todo.add(other.vkey);
+        todo.add(one.vtable);
+        todo.add(other.vtable);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PropGraphVertex}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPropGraphVertex(PropGraphVertex node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.labels);
+        todo.add(node.vkey);
+        todo.add(node.vtable);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PublicationAllObjSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPublicationAllObjSpec(PublicationAllObjSpec one,
+            PublicationAllObjSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.pubobjtype != other.pubobjtype) {
+            return false;
+        }
+        todo.add(one.except_tables);
+        todo.add(other.except_tables);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PublicationAllObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPublicationAllObjSpec(PublicationAllObjSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.pubobjtype);
+        todo.add(node.except_tables);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PublicationObjSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPublicationObjSpec(PublicationObjSpec one,
+            PublicationObjSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.pubobjtype != other.pubobjtype) {
+            return false;
+        }
+        todo.add(one.pubtable);
+        todo.add(other.pubtable);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PublicationObjSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPublicationObjSpec(PublicationObjSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + ordinal(node.pubobjtype);
+        todo.add(node.pubtable);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link PublicationTable}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsPublicationTable(PublicationTable one,
+            PublicationTable other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.except != other.except) {
+            return false;
+        }
+        todo.add(one.columns);
+        todo.add(other.columns);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link PublicationTable}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashPublicationTable(PublicationTable node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.except);
+        todo.add(node.columns);
+        todo.add(node.relation);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeFunction}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeFunction(RangeFunction one, RangeFunction other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.is_rowsfrom != other.is_rowsfrom) {
+            return false;
+        }
+        if (one.lateral != other.lateral) {
+            return false;
+        }
+        if (one.ordinality != other.ordinality) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.coldeflist);
+        todo.add(other.coldeflist);
+        todo.add(one.functions);
+        todo.add(other.functions);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeFunction}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeFunction(RangeFunction node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.is_rowsfrom);
+        result = 31 * result + Boolean.hashCode(node.lateral);
+        result = 31 * result + Boolean.hashCode(node.ordinality);
+        todo.add(node.alias);
+        todo.add(node.coldeflist);
+        todo.add(node.functions);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeGraphTable}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeGraphTable(RangeGraphTable one, RangeGraphTable other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.columns);
+        todo.add(other.columns);
+        todo.add(one.graph_name);
+        todo.add(other.graph_name);
+        todo.add(one.graph_pattern);
+        todo.add(other.graph_pattern);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeGraphTable}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeGraphTable(RangeGraphTable node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.alias);
+        todo.add(node.columns);
+        todo.add(node.graph_name);
+        todo.add(node.graph_pattern);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeSubselect}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeSubselect(RangeSubselect one, RangeSubselect other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.lateral != other.lateral) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.subquery);
+        todo.add(other.subquery);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeSubselect}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeSubselect(RangeSubselect node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.lateral);
+        todo.add(node.alias);
+        todo.add(node.subquery);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeTableFunc}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeTableFunc(RangeTableFunc one, RangeTableFunc other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.lateral != other.lateral) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.columns);
+        todo.add(other.columns);
+        todo.add(one.docexpr);
+        todo.add(other.docexpr);
+        todo.add(one.namespaces);
+        todo.add(other.namespaces);
+        todo.add(one.rowexpr);
+        todo.add(other.rowexpr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeTableFunc}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeTableFunc(RangeTableFunc node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.lateral);
+        todo.add(node.alias);
+        todo.add(node.columns);
+        todo.add(node.docexpr);
+        todo.add(node.namespaces);
+        todo.add(node.rowexpr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeTableFuncCol}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeTableFuncCol(RangeTableFuncCol one,
+            RangeTableFuncCol other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.colname, other.colname)) {
+            return false;
+        }
+        if (one.for_ordinality != other.for_ordinality) {
+            return false;
+        }
+        if (one.is_not_null != other.is_not_null) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.coldefexpr);
+        todo.add(other.coldefexpr);
+        todo.add(one.colexpr);
+        todo.add(other.colexpr);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeTableFuncCol}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeTableFuncCol(RangeTableFuncCol node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.colname);
+        result = 31 * result + Boolean.hashCode(node.for_ordinality);
+        result = 31 * result + Boolean.hashCode(node.is_not_null);
+        todo.add(node.alias);
+        todo.add(node.coldefexpr);
+        todo.add(node.colexpr);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeTableSample}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeTableSample(RangeTableSample one,
+            RangeTableSample other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.method);
+        todo.add(other.method);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.repeatable);
+        todo.add(other.repeatable);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeTableSample}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeTableSample(RangeTableSample node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.args);
+        todo.add(node.method);
+        todo.add(node.relation);
+        todo.add(node.repeatable);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RangeVar}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRangeVar(RangeVar one, RangeVar other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.catalogname, other.catalogname)) {
+            return false;
+        }
+        if (!Objects.equals(one.relname, other.relname)) {
+            return false;
+        }
+        if (one.relpersistence != other.relpersistence) {
+            return false;
+        }
+        if (!Objects.equals(one.schemaname, other.schemaname)) {
+            return false;
+        }
+        todo.add(one.alias);
+        todo.add(other.alias);
+        todo.add(one.inh);
+        todo.add(other.inh);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RangeVar}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRangeVar(RangeVar node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.catalogname);
+        result = 31 * result + Objects.hashCode(node.relname);
+        result = 31 * result + ordinal(node.relpersistence);
+        result = 31 * result + Objects.hashCode(node.schemaname);
+        todo.add(node.alias);
+        todo.add(node.inh);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RawStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRawStmt(RawStmt one, RawStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        todo.add(one.stmt);
+        todo.add(other.stmt);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RawStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRawStmt(RawStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        todo.add(node.stmt);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ReassignOwnedStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsReassignOwnedStmt(ReassignOwnedStmt one,
+            ReassignOwnedStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.newrole);
+        todo.add(other.newrole);
+        todo.add(one.roles);
+        todo.add(other.roles);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ReassignOwnedStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashReassignOwnedStmt(ReassignOwnedStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.newrole);
+        todo.add(node.roles);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RefreshMatViewStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRefreshMatViewStmt(RefreshMatViewStmt one,
+            RefreshMatViewStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.concurrent != other.concurrent) {
+            return false;
+        }
+        if (one.skipData != other.skipData) {
+            return false;
+        }
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RefreshMatViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRefreshMatViewStmt(RefreshMatViewStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.concurrent);
+        result = 31 * result + Boolean.hashCode(node.skipData);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ReindexStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsReindexStmt(ReindexStmt one, ReindexStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.concurrent != other.concurrent) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.options != other.options) {
+            return false;
+        }
+        todo.add(one.params);
+        todo.add(other.params);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ReindexStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashReindexStmt(ReindexStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.concurrent);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + node.options;
+        todo.add(node.params);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RelFileNumber}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRelFileNumber(RelFileNumber one, RelFileNumber other, ArrayList<Object> todo) {
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RelFileNumber}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRelFileNumber(RelFileNumber node, int hash, ArrayList<Object> todo) {
+        return hash;
+    }
+
+    /**
+     * Compares the fields of two {@link RenameStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRenameStmt(RenameStmt one, RenameStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.missing_ok != other.missing_ok) {
+            return false;
+        }
+        if (!Objects.equals(one.newname, other.newname)) {
+            return false;
+        }
+        if (one.relationType != other.relationType) {
+            return false;
+        }
+        if (one.renameType != other.renameType) {
+            return false;
+        }
+        if (!Objects.equals(one.subname, other.subname)) {
+            return false;
+        }
+        todo.add(one.object);
+        todo.add(other.object);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RenameStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRenameStmt(RenameStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.missing_ok);
+        result = 31 * result + Objects.hashCode(node.newname);
+        result = 31 * result + ordinal(node.relationType);
+        result = 31 * result + ordinal(node.renameType);
+        result = 31 * result + Objects.hashCode(node.subname);
+        todo.add(node.object);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RepackStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRepackStmt(RepackStmt one, RepackStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.command != other.command) {
+            return false;
+        }
+        if (!Objects.equals(one.indexname, other.indexname)) {
+            return false;
+        }
+        if (one.usingindex != other.usingindex) {
+            return false;
+        }
+        todo.add(one.params);
+        todo.add(other.params);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RepackStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRepackStmt(RepackStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.command);
+        result = 31 * result + Objects.hashCode(node.indexname);
+        result = 31 * result + Boolean.hashCode(node.usingindex);
+        todo.add(node.params);
+        todo.add(node.relation);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ReplicaIdentityStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsReplicaIdentityStmt(ReplicaIdentityStmt one,
+            ReplicaIdentityStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.identity_type != other.identity_type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ReplicaIdentityStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashReplicaIdentityStmt(ReplicaIdentityStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.identity_type);
+        result = 31 * result + Objects.hashCode(node.name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ResTarget}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsResTarget(ResTarget one, ResTarget other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.indirection);
+        todo.add(other.indirection);
+        todo.add(one.val);
+        todo.add(other.val);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ResTarget}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashResTarget(ResTarget node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.indirection);
+        todo.add(node.val);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ReturnStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsReturnStmt(ReturnStmt one, ReturnStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.returnval);
+        todo.add(other.returnval);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ReturnStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashReturnStmt(ReturnStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.returnval);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ReturningClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsReturningClause(ReturningClause one, ReturningClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.exprs);
+        todo.add(other.exprs);
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ReturningClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashReturningClause(ReturningClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.exprs);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ReturningOption}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsReturningOption(ReturningOption one, ReturningOption other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.option != other.option) {
+            return false;
+        }
+        if (!Objects.equals(one.value, other.value)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ReturningOption}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashReturningOption(ReturningOption node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.option);
+        result = 31 * result + Objects.hashCode(node.value);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RoleSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRoleSpec(RoleSpec one, RoleSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.rolename, other.rolename)) {
+            return false;
+        }
+        if (one.roletype != other.roletype) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RoleSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRoleSpec(RoleSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.rolename);
+        result = 31 * result + ordinal(node.roletype);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RowExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRowExpr(RowExpr one, RowExpr other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.row_format != other.row_format) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.colnames);
+        todo.add(other.colnames);
+        todo.add(one.row_typeid);
+        todo.add(other.row_typeid);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RowExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRowExpr(RowExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.row_format);
+        todo.add(node.args);
+        todo.add(node.colnames);
+        todo.add(node.row_typeid);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link RuleStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsRuleStmt(RuleStmt one, RuleStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.event != other.event) {
+            return false;
+        }
+        if (one.instead != other.instead) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        if (!Objects.equals(one.rulename, other.rulename)) {
+            return false;
+        }
+        todo.add(one.actions);
+        todo.add(other.actions);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link RuleStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashRuleStmt(RuleStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.event);
+        result = 31 * result + Boolean.hashCode(node.instead);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        result = 31 * result + Objects.hashCode(node.rulename);
+        todo.add(node.actions);
+        todo.add(node.relation);
+        todo.add(node.whereClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SQLValueFunction}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSQLValueFunction(SQLValueFunction one,
+            SQLValueFunction other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.op != other.op) {
+            return false;
+        }
+        if (one.typmod != other.typmod) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SQLValueFunction}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSQLValueFunction(SQLValueFunction node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.op);
+        result = 31 * result + node.typmod;
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SecLabelStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSecLabelStmt(SecLabelStmt one, SecLabelStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.label, other.label)) {
+            return false;
+        }
+        if (one.objtype != other.objtype) {
+            return false;
+        }
+        if (!Objects.equals(one.provider, other.provider)) {
+            return false;
+        }
+        todo.add(one.object);
+        todo.add(other.object);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SecLabelStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSecLabelStmt(SecLabelStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.label);
+        result = 31 * result + ordinal(node.objtype);
+        result = 31 * result + Objects.hashCode(node.provider);
+        todo.add(node.object);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SelectLimit}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSelectLimit(SelectLimit one, SelectLimit other, ArrayList<Object> todo) {
+        if (one.limitOption != other.limitOption) {
+            return false;
+        }
+        todo.add(one.limitCount);
+        todo.add(other.limitCount);
+        todo.add(one.limitOffset);
+        todo.add(other.limitOffset);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SelectLimit}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSelectLimit(SelectLimit node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.limitOption);
+        todo.add(node.limitCount);
+        todo.add(node.limitOffset);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SelectStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSelectStmt(SelectStmt one, SelectStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.all != other.all) {
+            return false;
+        }
+        if (one.groupByAll != other.groupByAll) {
+            return false;
+        }
+        if (one.groupDistinct != other.groupDistinct) {
+            return false;
+        }
+        if (one.limitOption != other.limitOption) {
+            return false;
+        }
+        if (one.op != other.op) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        todo.add(one.distinctClause);
+        todo.add(other.distinctClause);
+        todo.add(one.fromClause);
+        todo.add(other.fromClause);
+        todo.add(one.groupClause);
+        todo.add(other.groupClause);
+        todo.add(one.havingClause);
+        todo.add(other.havingClause);
+        todo.add(one.intoClause);
+        todo.add(other.intoClause);
+        todo.add(one.larg);
+        todo.add(other.larg);
+        todo.add(one.limitCount);
+        todo.add(other.limitCount);
+        todo.add(one.limitOffset);
+        todo.add(other.limitOffset);
+        todo.add(one.lockingClause);
+        todo.add(other.lockingClause);
+        todo.add(one.rarg);
+        todo.add(other.rarg);
+        todo.add(one.sortClause);
+        todo.add(other.sortClause);
+        todo.add(one.targetList);
+        todo.add(other.targetList);
+        todo.add(one.valuesLists);
+        todo.add(other.valuesLists);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        todo.add(one.windowClause);
+        todo.add(other.windowClause);
+        todo.add(one.withClause);
+        todo.add(other.withClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SelectStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSelectStmt(SelectStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.all);
+        result = 31 * result + Boolean.hashCode(node.groupByAll);
+        result = 31 * result + Boolean.hashCode(node.groupDistinct);
+        result = 31 * result + ordinal(node.limitOption);
+        result = 31 * result + ordinal(node.op);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        todo.add(node.distinctClause);
+        todo.add(node.fromClause);
+        todo.add(node.groupClause);
+        todo.add(node.havingClause);
+        todo.add(node.intoClause);
+        todo.add(node.larg);
+        todo.add(node.limitCount);
+        todo.add(node.limitOffset);
+        todo.add(node.lockingClause);
+        todo.add(node.rarg);
+        todo.add(node.sortClause);
+        todo.add(node.targetList);
+        todo.add(node.valuesLists);
+        todo.add(node.whereClause);
+        todo.add(node.windowClause);
+        todo.add(node.withClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SetToDefault}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSetToDefault(SetToDefault one, SetToDefault other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SetToDefault}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSetToDefault(SetToDefault node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SinglePartitionSpec}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSinglePartitionSpec(SinglePartitionSpec one,
+            SinglePartitionSpec other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.bound);
+        todo.add(other.bound);
+        todo.add(one.name);
+        todo.add(other.name);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SinglePartitionSpec}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSinglePartitionSpec(SinglePartitionSpec node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.bound);
+        todo.add(node.name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SortBy}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSortBy(SortBy one, SortBy other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.sortby_dir != other.sortby_dir) {
+            return false;
+        }
+        if (one.sortby_nulls != other.sortby_nulls) {
+            return false;
+        }
+        todo.add(one.node);
+        todo.add(other.node);
+        todo.add(one.useOp);
+        todo.add(other.useOp);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SortBy}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSortBy(SortBy node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.sortby_dir);
+        result = 31 * result + ordinal(node.sortby_nulls);
+        todo.add(node.node);
+        todo.add(node.useOp);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link StatsElem}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsStatsElem(StatsElem one, StatsElem other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link StatsElem}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashStatsElem(StatsElem node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.expr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Stmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsStmt(Stmt one, Stmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Stmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashStmt(Stmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link SubLink}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsSubLink(SubLink one, SubLink other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.subLinkId != other.subLinkId) {
+            return false;
+        }
+        if (one.subLinkType != other.subLinkType) {
+            return false;
+        }
+        todo.add(one.operName);
+        todo.add(other.operName);
+        todo.add(one.subselect);
+        todo.add(other.subselect);
+        todo.add(one.testexpr);
+        todo.add(other.testexpr);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link SubLink}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashSubLink(SubLink node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.subLinkId;
+        result = 31 * result + ordinal(node.subLinkType);
+        todo.add(node.operName);
+        todo.add(node.subselect);
+        todo.add(node.testexpr);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link TableLikeClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsTableLikeClause(TableLikeClause one, TableLikeClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.options != other.options) {
+            return false;
+        }
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.relationOid);
+        todo.add(other.relationOid);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link TableLikeClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashTableLikeClause(TableLikeClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.options;
+        todo.add(node.relation);
+        todo.add(node.relationOid);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link TransactionStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsTransactionStmt(TransactionStmt one, TransactionStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.chain != other.chain) {
+            return false;
+        }
+        if (!Objects.equals(one.gid, other.gid)) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (!Objects.equals(one.savepoint_name, other.savepoint_name)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link TransactionStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashTransactionStmt(TransactionStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.chain);
+        result = 31 * result + Objects.hashCode(node.gid);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Objects.hashCode(node.savepoint_name);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link TriggerTransition}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsTriggerTransition(TriggerTransition one,
+            TriggerTransition other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.isNew != other.isNew) {
+            return false;
+        }
+        if (one.isTable != other.isTable) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link TriggerTransition}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashTriggerTransition(TriggerTransition node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.isNew);
+        result = 31 * result + Boolean.hashCode(node.isTable);
+        result = 31 * result + Objects.hashCode(node.name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link TruncateStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsTruncateStmt(TruncateStmt one, TruncateStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.behavior != other.behavior) {
+            return false;
+        }
+        if (one.restart_seqs != other.restart_seqs) {
+            return false;
+        }
+        todo.add(one.relations);
+        todo.add(other.relations);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link TruncateStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashTruncateStmt(TruncateStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + ordinal(node.behavior);
+        result = 31 * result + Boolean.hashCode(node.restart_seqs);
+        todo.add(node.relations);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link TypeCast}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsTypeCast(TypeCast one, TypeCast other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.arg);
+        todo.add(other.arg);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link TypeCast}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashTypeCast(TypeCast node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.arg);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link TypeName}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsTypeName(TypeName one, TypeName other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.pct_type != other.pct_type) {
+            return false;
+        }
+        if (one.setof != other.setof) {
+            return false;
+        }
+        todo.add(one.arrayBounds);
+        todo.add(other.arrayBounds);
+        todo.add(one.names);
+        todo.add(other.names);
+        todo.add(one.typmods);
+        todo.add(other.typmods);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link TypeName}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashTypeName(TypeName node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.pct_type);
+        result = 31 * result + Boolean.hashCode(node.setof);
+        todo.add(node.arrayBounds);
+        todo.add(node.names);
+        todo.add(node.typmods);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link UnlistenStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsUnlistenStmt(UnlistenStmt one, UnlistenStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.conditionname, other.conditionname)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link UnlistenStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashUnlistenStmt(UnlistenStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.conditionname);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link UpdateStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsUpdateStmt(UpdateStmt one, UpdateStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.stmt_len != other.stmt_len) {
+            return false;
+        }
+        todo.add(one.forPortionOf);
+        todo.add(other.forPortionOf);
+        todo.add(one.fromClause);
+        todo.add(other.fromClause);
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.returningClause);
+        todo.add(other.returningClause);
+        todo.add(one.returningList);
+        todo.add(other.returningList);
+        todo.add(one.targetList);
+        todo.add(other.targetList);
+        todo.add(one.whereClause);
+        todo.add(other.whereClause);
+        todo.add(one.withClause);
+        todo.add(other.withClause);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link UpdateStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashUpdateStmt(UpdateStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Long.hashCode(node.stmt_len);
+        todo.add(node.forPortionOf);
+        todo.add(node.fromClause);
+        todo.add(node.relation);
+        todo.add(node.returningClause);
+        todo.add(node.returningList);
+        todo.add(node.targetList);
+        todo.add(node.whereClause);
+        todo.add(node.withClause);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link VacuumRelation}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsVacuumRelation(VacuumRelation one, VacuumRelation other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.relation);
+        todo.add(other.relation);
+        todo.add(one.va_cols);
+        todo.add(other.va_cols);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link VacuumRelation}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashVacuumRelation(VacuumRelation node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.relation);
+        todo.add(node.va_cols);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link VacuumStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsVacuumStmt(VacuumStmt one, VacuumStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.is_vacuumcmd != other.is_vacuumcmd) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.rels);
+        todo.add(other.rels);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link VacuumStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashVacuumStmt(VacuumStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.is_vacuumcmd);
+        todo.add(node.options);
+        todo.add(node.rels);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ValUnion}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsValUnion(ValUnion one, ValUnion other, ArrayList<Object> todo) {
+        if (one.boolval != other.boolval) {
+            return false;
+        }
+        if (one.ival != other.ival) {
+            return false;
+        }
+        if (!Objects.equals(one.str, other.str)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ValUnion}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashValUnion(ValUnion node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + Boolean.hashCode(node.boolval);
+        result = 31 * result + node.ival;
+        result = 31 * result + Objects.hashCode(node.str);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link Value}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsValue(Value one, Value other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        todo.add(one.val);
+        todo.add(other.val);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link Value}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashValue(Value node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        todo.add(node.val);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link VariableSetStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsVariableSetStmt(VariableSetStmt one, VariableSetStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.is_local != other.is_local) {
+            return false;
+        }
+        if (one.jumble_args != other.jumble_args) {
+            return false;
+        }
+        if (one.kind != other.kind) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        todo.add(one.args);
+        todo.add(other.args);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link VariableSetStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashVariableSetStmt(VariableSetStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.is_local);
+        result = 31 * result + Boolean.hashCode(node.jumble_args);
+        result = 31 * result + ordinal(node.kind);
+        result = 31 * result + Objects.hashCode(node.name);
+        todo.add(node.args);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link VariableShowStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsVariableShowStmt(VariableShowStmt one,
+            VariableShowStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link VariableShowStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashVariableShowStmt(VariableShowStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.name);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link ViewStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsViewStmt(ViewStmt one, ViewStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.replace != other.replace) {
+            return false;
+        }
+        if (one.withCheckOption != other.withCheckOption) {
+            return false;
+        }
+        todo.add(one.aliases);
+        todo.add(other.aliases);
+        todo.add(one.options);
+        todo.add(other.options);
+        todo.add(one.query);
+        todo.add(other.query);
+        todo.add(one.view);
+        todo.add(other.view);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link ViewStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashViewStmt(ViewStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.replace);
+        result = 31 * result + ordinal(node.withCheckOption);
+        todo.add(node.aliases);
+        todo.add(node.options);
+        todo.add(node.query);
+        todo.add(node.view);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link WaitStmt}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsWaitStmt(WaitStmt one, WaitStmt other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (!Objects.equals(one.lsn_literal, other.lsn_literal)) {
+            return false;
+        }
+        todo.add(one.options);
+        todo.add(other.options);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link WaitStmt}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashWaitStmt(WaitStmt node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Objects.hashCode(node.lsn_literal);
+        todo.add(node.options);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link WindowDef}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsWindowDef(WindowDef one, WindowDef other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.frameOptions != other.frameOptions) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (!Objects.equals(one.refname, other.refname)) {
+            return false;
+        }
+        todo.add(one.endOffset);
+        todo.add(other.endOffset);
+        todo.add(one.orderClause);
+        todo.add(other.orderClause);
+        todo.add(one.partitionClause);
+        todo.add(other.partitionClause);
+        todo.add(one.startOffset);
+        todo.add(other.startOffset);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link WindowDef}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashWindowDef(WindowDef node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + node.frameOptions;
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + Objects.hashCode(node.refname);
+        todo.add(node.endOffset);
+        todo.add(node.orderClause);
+        todo.add(node.partitionClause);
+        todo.add(node.startOffset);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link WithClause}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsWithClause(WithClause one, WithClause other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.recursive != other.recursive) {
+            return false;
+        }
+        todo.add(one.ctes);
+        todo.add(other.ctes);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link WithClause}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashWithClause(WithClause node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.recursive);
+        todo.add(node.ctes);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link XmlExpr}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsXmlExpr(XmlExpr one, XmlExpr other, ArrayList<Object> todo) {
+        if (((Node) one).type != ((Node) other).type) {
+            return false;
+        }
+        if (!Objects.equals(one.name, other.name)) {
+            return false;
+        }
+        if (one.op != other.op) {
+            return false;
+        }
+        if (one.typmod != other.typmod) {
+            return false;
+        }
+        if (one.xmloption != other.xmloption) {
+            return false;
+        }
+        todo.add(one.arg_names);
+        todo.add(other.arg_names);
+        todo.add(one.args);
+        todo.add(other.args);
+        todo.add(one.named_args);
+        todo.add(other.named_args);
+        todo.add(one.type);
+        todo.add(other.type);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link XmlExpr}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashXmlExpr(XmlExpr node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(((Node) node).type);
+        result = 31 * result + Objects.hashCode(node.name);
+        result = 31 * result + ordinal(node.op);
+        result = 31 * result + node.typmod;
+        result = 31 * result + ordinal(node.xmloption);
+        todo.add(node.arg_names);
+        todo.add(node.args);
+        todo.add(node.named_args);
+        todo.add(node.type);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link XmlSerialize}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalsXmlSerialize(XmlSerialize one, XmlSerialize other, ArrayList<Object> todo) {
+        if (one.type != other.type) {
+            return false;
+        }
+        if (one.indent != other.indent) {
+            return false;
+        }
+        if (one.xmloption != other.xmloption) {
+            return false;
+        }
+        todo.add(one.expr);
+        todo.add(other.expr);
+        todo.add(one.typeName);
+        todo.add(other.typeName);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link XmlSerialize}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashXmlSerialize(XmlSerialize node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + ordinal(node.type);
+        result = 31 * result + Boolean.hashCode(node.indent);
+        result = 31 * result + ordinal(node.xmloption);
+        todo.add(node.expr);
+        todo.add(node.typeName);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link core_yy_extra_type}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalscore_yy_extra_type(core_yy_extra_type one,
+            core_yy_extra_type other, ArrayList<Object> todo) {
+        if (!Objects.equals(one.dolqstart, other.dolqstart)) {
+            return false;
+        }
+        if (one.save_yylloc != other.save_yylloc) {
+            return false;
+        }
+        if (one.saw_non_ascii != other.saw_non_ascii) {
+            return false;
+        }
+        if (one.scanbuflen != other.scanbuflen) {
+            return false;
+        }
+        if (one.state_before_str_stop != other.state_before_str_stop) {
+            return false;
+        }
+        if (one.utf16_first_part != other.utf16_first_part) {
+            return false;
+        }
+        if (one.warn_on_first_escape != other.warn_on_first_escape) {
+            return false;
+        }
+        if (one.xcdepth != other.xcdepth) {
+            return false;
+        }
+        todo.add(one.literalbuf);
+        todo.add(other.literalbuf);
+        todo.add(one.scanbuf);
+        todo.add(other.scanbuf);
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link core_yy_extra_type}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashcore_yy_extra_type(core_yy_extra_type node, int hash, ArrayList<Object> todo) {
+        int result = hash;
+        result = 31 * result + Objects.hashCode(node.dolqstart);
+        result = 31 * result + Long.hashCode(node.save_yylloc);
+        result = 31 * result + Boolean.hashCode(node.saw_non_ascii);
+        result = 31 * result + node.scanbuflen;
+        result = 31 * result + node.state_before_str_stop;
+        result = 31 * result + node.utf16_first_part;
+        result = 31 * result + Boolean.hashCode(node.warn_on_first_escape);
+        result = 31 * result + node.xcdepth;
+        todo.add(node.literalbuf);
+        todo.add(node.scanbuf);
+        return result;
+    }
+
+    /**
+     * Compares the fields of two {@link core_yyscan_t}s
+     *
+     * @param one
+     *            A node
+     * @param other
+     *            The node to compare with
+     * @param todo
+     *            Receives the pairs of field values that are still to be compared
+     * @return boolean false if the nodes differ in a primitive, String or enum field
+     */
+    private static boolean equalscore_yyscan_t(core_yyscan_t one, core_yyscan_t other, ArrayList<Object> todo) {
+        return true;
+    }
+
+    /**
+     * Hashes the fields of a {@link core_yyscan_t}
+     *
+     * @param node
+     *            The node
+     * @param hash
+     *            The hash code so far
+     * @param todo
+     *            Receives the field values that are still to be hashed
+     * @return int The hash code including the primitive, String and enum fields of the node
+     */
+    private static int hashcore_yyscan_t(core_yyscan_t node, int hash, ArrayList<Object> todo) {
+        return hash;
+    }
+}
@@ -89,8 +89,7 @@ public class SubLink extends Expr {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         switch (subLinkType) {
         case EXPR_SUBLINK:
             break;
@@ -99,13 +98,13 @@ public class SubLink extends Expr {
             break;
         case ANY_SUBLINK:
             if (operName == null) {
-                result.append(testexpr).append(" in ");
+                append(result, testexpr).append(" in ");
             } else {
-                result.append(testexpr).append(' ').append(ParserUtil.operatorNameToSql(operName)).append(" any ");
+                append(result, testexpr).append(' ').append(ParserUtil.operatorNameToSql(operName)).append(" any ");
             }
             break;
         case ALL_SUBLINK:
-            result.append(testexpr).append(' ').append(ParserUtil.operatorNameToSql(operName)).append(" all ");
+            append(result, testexpr).append(' ').append(ParserUtil.operatorNameToSql(operName)).append(" all ");
             break;
         case ARRAY_SUBLINK:
             result.append("array");
@@ -121,8 +120,7 @@ public class SubLink extends Expr {
         default:
             throw new AssertionError("Unknown SubLinkType: " + subLinkType);
         }
-        result.append('(').append(subselect).append(')');
-        return result.toString();
+        append(result.append('('), subselect).append(')');
     }
 
     @Override
@@ -106,10 +106,9 @@ public class TableLikeClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
-        result.append("like ").append(relation);
+        append(result.append("like "), relation);
 
         if (options == CREATE_TABLE_LIKE_ALL) {
             result.append(" including all");
@@ -139,7 +138,5 @@ public class TableLikeClause extends Node {
                 result.append(" including comments");
             }
         }
-
-        return result.toString();
     }
 }
@@ -92,12 +92,11 @@ public class TransactionStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (options == null && gid == null && savepoint_name == null) {
-            return kind.toString();
+            result.append(kind);
+            return;
         }
-
-        StringBuilder result = new StringBuilder();
         result.append(kind);
 
         if (savepoint_name != null) {
@@ -138,7 +137,5 @@ public class TransactionStmt extends Node {
         if (chain) {
             result.append(" and chain");
         }
-
-        return result.toString();
     }
 }
@@ -72,15 +72,12 @@ public class TriggerTransition extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         if (isNew) {
             result.append("new ");
         } else {
             result.append("old ");
         }
         result.append("table as ").append(name);
-
-        return result.toString();
     }
 }
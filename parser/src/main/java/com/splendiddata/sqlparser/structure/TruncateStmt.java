@@ -77,14 +77,13 @@ public class TruncateStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("truncate");
 
         String separator = " ";
         for (RangeVar relation : relations) {
-            result.append(separator).append(relation);
+            append(result.append(separator), relation);
             separator = ", ";
         }
 
@@ -93,7 +92,5 @@ public class TruncateStmt extends Node {
         }
 
         result.append(behavior);
-
-        return result.toString();
     }
 }
@@ -55,51 +55,59 @@ public class TypeCast extends Expr {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (arg != null && typeName != null && typeName.names.size() == 2
                 && "pg_catalog".equals(typeName.names.get(0).val.str)) {
             if ("bool".equals(typeName.names.get(1).val.str)) {
                 switch (arg.toString()) {
                 case "'t'":
-                    return "true";
+                    result.append("true");
+                    return;
                 case "'f'":
-                    return "false";
+                    result.append("false");
+                    return;
                 default:
                     break;
                 }
             }
             if ("interval".equals(typeName.names.get(1).val.str)) {
-                StringBuilder result = new StringBuilder();
                 switch (arg.type) {
                 case T_A_Const:
                 case T_ColumnRef:
                 case T_TypeCast:
-                    result.append(arg);
+                    arg.appendSql(result);
                     break;
                 default:
-                    result.append('(').append(arg).append(')');
+                    arg.appendSql(result.append('('));
+                    result.append(')');
                     break;
                 }
-                result.append("::").append(typeName);
-                return result.toString();
+                append(result.append("::"), typeName);
+                return;
             }
         }
 
         if (arg instanceof A_Expr) {
-            return new StringBuilder().append("cast(").append(arg).append(" as ").append(typeName).append(')')
-                    .toString();
+            append(result.append("cast("), arg).append(" as ");
+            append(result, typeName).append(')');
+            return;
         }
 
         if (arg instanceof A_Const) {
             if (NodeTag.T_String.equals(((A_Const) arg).val.type) && "char".equals(typeName.toString())) {
-                return new StringBuilder().append(arg).append("::").append("\"char\"").toString();
+                arg.appendSql(result);
+                result.append("::").append("\"char\"");
+                return;
             }
             if (NodeTag.T_Integer.equals(((A_Const) arg).val.type) && ((A_Const) arg).val.val.ival < 0) {
-                return new StringBuilder().append('(').append(arg).append(')').append("::").append(typeName).toString();
+                arg.appendSql(result.append('('));
+                append(result.append(')').append("::"), typeName);
+                return;
             }
         }
 
-        return new StringBuilder().append(arg).append("::").append(typeName).toString();
+        append(result, arg).append("::");
+        append(result, typeName);
     }
 
     @Override
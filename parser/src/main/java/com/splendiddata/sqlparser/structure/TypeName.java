@@ -88,14 +88,17 @@ public class TypeName extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (names == null) {
-            return ParserUtil.stmtToXml(this);
+            result.append(ParserUtil.stmtToXml(this));
+            return;
         }
 
+        if (setof) {
+            result.append("setof ");
+        }
+        int start = result.length();
         boolean isPgCatalog = false;
-
-        StringBuilder result = new StringBuilder();
         if (names != null) {
             Iterator<Value> it = names.iterator();
             if (it.hasNext()) {
@@ -154,17 +157,15 @@ public class TypeName extends Node {
             }
         }
 
-        String typeName = result.toString();
-
         if (setof) {
-            return "setof " + typeName;
+            return;
         }
 
         if (typmods != null) {
-            if (isPgCatalog && "interval".equals(typeName)) {
+            if (isPgCatalog && "interval".contentEquals(result.subSequence(start, result.length()))) {
                 result.append(' ').append(timeIntervalToString());
             } else {
-                result.append(typmods);
+                append(result, typmods);
             }
         }
 
@@ -177,8 +178,6 @@ public class TypeName extends Node {
                 }
             }
         }
-
-        return result.toString();
     }
 
     /**
@@ -56,10 +56,11 @@ public class UnlistenStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (conditionname == null) {
-            return "unlisten *";
+            result.append("unlisten *");
+            return;
         }
-        return "unlisten " + ParserUtil.identifierToSql(conditionname);
+        result.append("unlisten ").append(ParserUtil.identifierToSql(conditionname));
     }
 }
@@ -149,15 +149,14 @@ public class UpdateStmt extends Stmt {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (withClause != null) {
-            result.append(withClause).append(' ');
+            append(result, withClause).append(' ');
         }
         result.append("update ");
         if (relation != null) {
-            result.append(relation.toString(forPortionOf));
+            relation.appendSql(result, forPortionOf);
         }
         /*
          * Walk through the target list. MultipleAssigment lists will be (re)combined.
@@ -170,7 +169,7 @@ public class UpdateStmt extends Stmt {
                 if (m.colno == 1) {
                     // colno 1 starts a new MultiAssingmentRef list
                     if (activeMultiAssingment != null) {
-                        result.append(") = ").append(activeMultiAssingment);
+                        append(result.append(") = "), activeMultiAssingment);
                     }
                     activeMultiAssingment = m;
                     result.append(separator);
@@ -180,7 +179,7 @@ public class UpdateStmt extends Stmt {
                 separator = ", ";
             } else {
                 if (activeMultiAssingment != null) {
-                    result.append(") = ").append(activeMultiAssingment);
+                    append(result.append(") = "), activeMultiAssingment);
                     activeMultiAssingment = null;
                     separator = ", ";
                 }
@@ -190,15 +189,15 @@ public class UpdateStmt extends Stmt {
                         if (!NodeTag.T_A_Indices.equals(ind.type)) {
                             result.append('.');
                         }
-                        result.append(ind);
+                        append(result, ind);
                     }
                 }
-                result.append(" = ").append(target.val);
+                append(result.append(" = "), target.val);
                 separator = ", ";
             }
         }
         if (activeMultiAssingment != null) {
-            result.append(") = ").append(activeMultiAssingment);
+            append(result.append(") = "), activeMultiAssingment);
             activeMultiAssingment = null;
 
         }
@@ -206,27 +205,25 @@ public class UpdateStmt extends Stmt {
         if (fromClause != null) {
             separator = " from ";
             for (Node from : fromClause) {
-                result.append(separator).append(from);
+                append(result.append(separator), from);
                 separator = ", ";
             }
         }
 
         if (whereClause != null) {
-            result.append(" where ").append(whereClause);
+            append(result.append(" where "), whereClause);
         }
 
         if (returningList != null) {
             separator = " returning ";
             for (Node returning : returningList) {
-                result.append(separator).append(returning);
+                append(result.append(separator), returning);
                 separator = ", ";
             }
         }
 
         if (returningClause != null) {
-            result.append(' ').append(returningClause);
+            append(result.append(' '), returningClause);
         }
-
-        return result.toString();
     }
 }
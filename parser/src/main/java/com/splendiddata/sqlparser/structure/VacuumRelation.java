@@ -76,11 +76,10 @@ public class VacuumRelation extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (relation != null) {
-            result.append(relation);
+            append(result, relation);
             if (va_cols != null) {
                 result.append('(');
                 String separator = "";
@@ -91,7 +90,5 @@ public class VacuumRelation extends Node {
                 result.append(')');
             }
         }
-
-        return result.toString();
     }
 }
@@ -94,8 +94,7 @@ public class VacuumStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (is_vacuumcmd) {
             result.append("vacuum");
@@ -110,11 +109,11 @@ public class VacuumStmt extends Node {
                 separator = ", ";
                 switch (option.defname) {
                 case "buffer_usage_limit":
-                    result.append(" '").append(option.arg).append('\'');
+                    append(result.append(" '"), option.arg).append('\'');
                     break;
                 default:
                     if (option.arg != null) {
-                        result.append(' ').append(option.arg);
+                        append(result.append(' '), option.arg);
                     }
                 }
             }
@@ -124,11 +123,9 @@ public class VacuumStmt extends Node {
         separator = " ";
         if (rels != null) {
             for (VacuumRelation rel : rels) {
-                result.append(separator).append(rel);
+                append(result.append(separator), rel);
                 separator = ", ";
             }
         }
-
-        return result.toString();
     }
 }
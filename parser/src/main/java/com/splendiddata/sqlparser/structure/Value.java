@@ -72,18 +72,21 @@ public class Value extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (NodeTag.T_Float.equals(type)) {
-            String result = val.toString();
-            if (FLOAT_NEEDS_PARENS_PATTERN.matcher(result).matches()) {
-                return new StringBuilder().append('(').append(result).append(')').toString();
+            String text = val.toString();
+            if (FLOAT_NEEDS_PARENS_PATTERN.matcher(text).matches()) {
+                result.append('(').append(text).append(')');
+            } else {
+                result.append(text);
             }
-            return result;
+            return;
         }
         if (NodeTag.T_Boolean.equals(type)) {
-            return Boolean.toString(val.boolval);
+            result.append(val.boolval);
+            return;
         }
-        return val.toString();
+        result.append(val.toString());
     }
 
     @Override
@@ -91,15 +91,15 @@ public class VariableSetStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         switch (kind) {
         case VAR_RESET:
             result.append("reset");
             break;
         case VAR_RESET_ALL:
-            return "reset all";
+            result.append("reset all");
+            return;
         case VAR_SET_CURRENT:
         case VAR_SET_DEFAULT:
         case VAR_SET_MULTI:
@@ -178,7 +178,7 @@ public class VariableSetStmt extends Node {
                             // TODO: Properly resolve.
                             result.append(ParserUtil.reportUnknownValue("arg", ParserUtil.stmtToXml(arg), getClass()));
                         } else {
-                            result.append(separator).append(arg);
+                            append(result.append(separator), arg);
                         }
                         separator = ", ";
                     }
@@ -194,8 +194,6 @@ public class VariableSetStmt extends Node {
         if (!jumble_args) {
             result.append(ParserUtil.reportUnknownValue("jumble_args", jumble_args, getClass()));
         }
-
-        return result.toString();
     }
 
     /**
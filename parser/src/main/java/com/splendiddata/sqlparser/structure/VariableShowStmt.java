@@ -54,16 +54,16 @@ public class VariableShowStmt extends Node {
     }
 
     @Override
-    public String toString() {
+    public void appendSql(StringBuilder result) {
         if (!name.contains(".")) {
-            return "show " + ParserUtil.identifierToSql(name);
+            result.append("show ").append(ParserUtil.identifierToSql(name));
+            return;
         }
-        StringBuilder result = new StringBuilder("show");
+        result.append("show");
         char delimiter = ' ';
         for (String part : name.split("\\.")) {
             result.append(delimiter).append(ParserUtil.identifierToSql(part));
             delimiter = '.';
         }
-        return result.toString();
     }
 }
@@ -107,8 +107,7 @@ public class ViewStmt extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("create");
 
@@ -129,7 +128,7 @@ public class ViewStmt extends Node {
             result.append(ParserUtil.reportUnknownValue("view.relpersistence", view.relpersistence, getClass()));
             break;
         }
-        result.append(" view ").append(view);
+        append(result.append(" view "), view);
 
         boolean cteExist = isRecursive();
 
@@ -149,20 +148,18 @@ public class ViewStmt extends Node {
             for (DefElem option : options) {
                 result.append(separator).append(option.defname);
                 if (option.arg != null) {
-                    result.append(" = ").append(option.arg);
+                    append(result.append(" = "), option.arg);
                 }
                 separator = ", ";
             }
             result.append(')');
         }
 
-        result.append(" as ").append(query);
+        append(result.append(" as "), query);
 
         if (withCheckOption != null) {
             result.append(' ').append(withCheckOption);
         }
-
-        return result.toString();
     }
 
     /**
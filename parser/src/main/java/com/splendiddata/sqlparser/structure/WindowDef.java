@@ -96,8 +96,7 @@ public class WindowDef extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String leadingSpace = "";
         if (refname != null) {
             result.append(refname);
@@ -109,7 +108,7 @@ public class WindowDef extends Node {
             leadingSpace = " ";
             String separator = " ";
             for (Node node : partitionClause) {
-                result.append(separator).append(node);
+                append(result.append(separator), node);
                 separator = ", ";
             }
         }
@@ -119,13 +118,13 @@ public class WindowDef extends Node {
             leadingSpace = " ";
             String separator = " ";
             for (SortBy sortBy : orderClause) {
-                result.append(separator).append(sortBy);
+                append(result.append(separator), sortBy);
                 separator = ", ";
             }
         }
 
         if (frameOptions == FrameOption.FRAMEOPTION_DEFAULTS) {
-            return result.toString();
+            return;
         }
 
         if ((frameOptions & FrameOption.FRAMEOPTION_RANGE) != 0) {
@@ -145,9 +144,9 @@ public class WindowDef extends Node {
         } else if ((frameOptions & FrameOption.FRAMEOPTION_START_CURRENT_ROW) != 0) {
             result.append(" current row");
         } else if ((frameOptions & FrameOption.FRAMEOPTION_START_OFFSET_PRECEDING) != 0) {
-            result.append(' ').append(startOffset).append(" preceding");
+            append(result.append(' '), startOffset).append(" preceding");
         } else if ((frameOptions & FrameOption.FRAMEOPTION_START_OFFSET_FOLLOWING) != 0) {
-            result.append(' ').append(startOffset).append(" following");
+            append(result.append(' '), startOffset).append(" following");
         }
         if ((frameOptions & FrameOption.FRAMEOPTION_BETWEEN) != 0) {
             result.append(" and");
@@ -158,12 +157,11 @@ public class WindowDef extends Node {
             } else if ((frameOptions & FrameOption.FRAMEOPTION_END_CURRENT_ROW) != 0) {
                 result.append(" current row");
             } else if ((frameOptions & FrameOption.FRAMEOPTION_END_OFFSET_PRECEDING) != 0) {
-                result.append(' ').append(endOffset).append(" preceding");
+                append(result.append(' '), endOffset).append(" preceding");
             } else if ((frameOptions & FrameOption.FRAMEOPTION_END_OFFSET_FOLLOWING) != 0) {
-                result.append(' ').append(endOffset).append(" following");
+                append(result.append(' '), endOffset).append(" following");
             }
         }
-        return result.toString();
     }
 
     @Override
@@ -190,7 +188,7 @@ public class WindowDef extends Node {
      * @return String The frame options
      */
     @XmlAttribute(name = "frameOptions")
-    private String getFrameOptionsString() {
+    String getFrameOptionsString() {
         StringBuilder result = new StringBuilder();
         char separator = '=';
         result.append(frameOptions);
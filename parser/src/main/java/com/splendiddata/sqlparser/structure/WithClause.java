@@ -63,17 +63,15 @@ public class WithClause extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
         String separator = "with ";
         if (recursive) {
             separator = "with recursive ";
         }
         for (CommonTableExpr obj : ctes) {
-            result.append(separator).append(obj);
+            append(result.append(separator), obj);
             separator = ", ";
         }
-        return result.toString();
     }
 
     @Override
@@ -94,17 +94,16 @@ public class XmlExpr extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         if (XmlExprOp.IS_DOCUMENT.equals(op)) {
             if (args != null) {
                 for (Node arg : args) {
-                    result.append(' ').append(arg);
+                    append(result.append(' '), arg);
                 }
             }
             result.append(" is document");
-            return result.toString();
+            return;
         }
 
         if (op != null) {
@@ -124,7 +123,7 @@ public class XmlExpr extends Node {
                 separator = "";
             }
             for (Node arg : named_args) {
-                result.append(separator).append(arg);
+                append(result.append(separator), arg);
                 separator = ", ";
             }
             if (XmlExprOp.IS_XMLELEMENT.equals(op)) {
@@ -165,7 +164,7 @@ public class XmlExpr extends Node {
                     if (NodeTag.T_Null.equals(n.type)) {
                         result.append(separator).append("version no value");
                     } else {
-                        result.append(separator).append("version ").append(n);
+                        append(result.append(separator).append("version "), n);
                     }
                 }
                 if (it.hasNext()) {
@@ -192,7 +191,7 @@ public class XmlExpr extends Node {
                 break;
             case IS_DOCUMENT:
                 for (Node arg : args) {
-                    result.append(separator).append(arg);
+                    append(result.append(separator), arg);
                     separator = ", ";
                 }
                 result.append(" is document");
@@ -203,7 +202,7 @@ public class XmlExpr extends Node {
             case IS_XMLPI:
             case IS_XMLSERIALIZE:
                 for (Node arg : args) {
-                    result.append(separator).append(arg);
+                    append(result.append(separator), arg);
                     separator = ", ";
                 }
                 break;
@@ -216,7 +215,5 @@ public class XmlExpr extends Node {
         if (!" (".equals(separator)) {
             result.append(')');
         }
-
-        return result.toString();
     }
 }
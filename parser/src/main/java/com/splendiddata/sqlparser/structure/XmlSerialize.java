@@ -81,8 +81,7 @@ public class XmlSerialize extends Node {
     }
 
     @Override
-    public String toString() {
-        StringBuilder result = new StringBuilder();
+    public void appendSql(StringBuilder result) {
 
         result.append("xmlserialize(");
 
@@ -99,10 +98,10 @@ public class XmlSerialize extends Node {
                 break;
             }
         }
-        result.append(expr);
+        append(result, expr);
 
         if (typeName != null) {
-            result.append(" as ").append(typeName);
+            append(result.append(" as "), typeName);
         }
 
         if (indent) {
@@ -110,7 +109,5 @@ public class XmlSerialize extends Node {
         }
         
         result.append(')');
-
-        return result.toString();
     }
 }
@@ -23,6 +23,7 @@ module com.splendiddata.sqlparser {
     opens com.splendiddata.sqlparser.structure;
     
     requires java.base;
+    requires java.xml;
     requires transitive jakarta.xml.bind;
     requires transitive org.apache.logging.log4j;
     requires transitive com.splendiddata.sqlparser.enums;
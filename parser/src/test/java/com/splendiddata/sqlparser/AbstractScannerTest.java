@@ -15,10 +15,20 @@
 package com.splendiddata.sqlparser;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import com.splendiddata.sqlparser.enums.Severity;
+import com.splendiddata.sqlparser.structure.ErrCode;
 import com.splendiddata.sqlparser.structure.ErrorSaveContext;
 
 /**
@@ -27,6 +37,9 @@ import com.splendiddata.sqlparser.structure.ErrorSaveContext;
  * @author Splendid Data Product Development B.V.
  */
 public class AbstractScannerTest extends AbstractScanner {
+    private static final Logger log = LogManager.getLogger(AbstractScannerTest.class);
+
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("(?i)^(\\+|\\-)?(0[xob])?(\\w+)$");
 
     @Test
     public void testStrtoul() {
@@ -50,6 +63,36 @@ public class AbstractScannerTest extends AbstractScanner {
         return 0;
     }
 
+    /**
+     * Doesn't do anything here.
+     *
+     * @see com.splendiddata.sqlparser.AbstractScanner#resetScanner(java.io.Reader)
+     */
+    @Override
+    void resetScanner(Reader in) {
+        // nothing to reset
+    }
+
+    /**
+     * Doesn't do anything here.
+     *
+     * @see com.splendiddata.sqlparser.AbstractScanner#resetScanner(char[], int, int)
+     */
+    @Override
+    void resetScanner(char[] buffer, int offset, int length) {
+        // nothing to reset
+    }
+
+    /**
+     * Doesn't do anything here.
+     *
+     * @see com.splendiddata.sqlparser.AbstractScanner#tokenEndOffset()
+     */
+    @Override
+    long tokenEndOffset() {
+        return 0;
+    }
+
     @Test
     public void testPg_strtoint_safe() {
         Assertions.assertEquals(0, pg_strtoint_safe("0", new ErrorSaveContext()), "0");
@@ -78,4 +121,147 @@ public class AbstractScannerTest extends AbstractScanner {
         pg_strtoint_safe("0B123", new ErrorSaveContext());
         Assertions.assertTrue(isErrorReported(), "expection error to be reported for \"0B123\"");
     }
+
+    @Test
+    public void testPg_strtoint_safeOnCharRange() {
+        char[] buffer = "$42, 0x7FFFFFFF".toCharArray();
+        Assertions.assertEquals(42, pg_strtoint_safe(buffer, 1, 3, new ErrorSaveContext()), "$42");
+        Assertions.assertEquals(0x7FFFFFFF, pg_strtoint_safe(buffer, 4, buffer.length, new ErrorSaveContext()),
+                "0x7FFFFFFF with leading space");
+
+        for (String valid : new String[] { " 12 ", "1_000_000", "+0b1", "0o7_7", "-2147483648", "0x1_2" }) {
+            ErrorSaveContext escontext = new ErrorSaveContext();
+            Assertions.assertEquals(regexPg_strtoint_safe(valid, escontext), pg_strtoint_safe(valid,
+                    new ErrorSaveContext()), valid);
+            Assertions.assertFalse(escontext.error_occurred, valid);
+        }
+        for (String invalid : new String[] { "", "-", "0x", "1__2", "_1", "1_", "0x_1", "0xA_1", "-0x80000000",
+                "2147483648", "99999999999x", "0o8" }) {
+            java.util.List<SqlParserErrorData> expected = new ArrayList<>();
+            setErrorReporter(expected::add);
+            regexPg_strtoint_safe(invalid, new ErrorSaveContext());
+            java.util.List<SqlParserErrorData> actual = new ArrayList<>();
+            setErrorReporter(actual::add);
+            ErrorSaveContext escontext = new ErrorSaveContext();
+            Assertions.assertEquals(0, pg_strtoint_safe(invalid, escontext), invalid);
+            Assertions.assertTrue(escontext.error_occurred, invalid);
+            Assertions.assertEquals(1, actual.size(), invalid);
+            Assertions.assertEquals(expected.get(0).getErrorCode(), actual.get(0).getErrorCode(), invalid);
+            Assertions.assertEquals(expected.get(0).getErrorText(), actual.get(0).getErrorText(), invalid);
+        }
+        setErrorReporter(this);
+    }
+
+    @Test
+    public void testProcess_integer_literal() {
+        char[] buffer = "(12, 2147483648, 0x1F, 1_000, 2147483647)".toCharArray();
+        Assertions.assertEquals(ScanKeyword.ICONST.value, process_integer_literal(buffer, 1, 3, 10), "12");
+        Assertions.assertEquals(Integer.valueOf(12), yylval, "12");
+        Assertions.assertEquals(ScanKeyword.FCONST.value, process_integer_literal(buffer, 5, 15, 10), "2147483648");
+        Assertions.assertEquals("2147483648", yylval, "2147483648");
+        Assertions.assertEquals(ScanKeyword.FCONST.value, process_integer_literal(buffer, 17, 21, 16), "0x1F");
+        Assertions.assertEquals("0x1F", yylval, "0x1F");
+        Assertions.assertEquals(ScanKeyword.FCONST.value, process_integer_literal(buffer, 23, 28, 10), "1_000");
+        Assertions.assertEquals("1_000", yylval, "1_000");
+        Assertions.assertEquals(ScanKeyword.ICONST.value, process_integer_literal(buffer, 30, 40, 10), "2147483647");
+        Assertions.assertEquals(Integer.valueOf(Integer.MAX_VALUE), yylval, "2147483647");
+    }
+
+    /**
+     * Compares the speed of {@link #pg_strtoint_safe(String, ErrorSaveContext)} with the regular expression based
+     * implementation that it replaced. There is no JMH in this project, so this is a simple warmed up loop that only
+     * runs when system property sqlparser.benchmark=true, for example:
+     * <code>mvn test -Dtest=AbstractScannerTest -Dsqlparser.benchmark=true</code>
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sqlparser.benchmark", matches = "true")
+    public void benchmarkPg_strtoint_safe() {
+        String[] literals = new String[1024];
+        Random random = new Random(1);
+        for (int i = 0; i < literals.length; i++) {
+            int value = random.nextInt(1 << random.nextInt(31));
+            literals[i] = switch (i % 4) {
+            case 0 -> Integer.toString(value);
+            case 1 -> "0x" + Integer.toHexString(value);
+            case 2 -> "-" + Integer.toString(value);
+            default -> "1_000_" + Integer.toString(value % 1000 + 1000).substring(1);
+            };
+        }
+        ErrorSaveContext escontext = new ErrorSaveContext();
+        for (int round = 0; round < 3; round++) {
+            long sum = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < 1_000_000; i++) {
+                sum += regexPg_strtoint_safe(literals[i & 1023], escontext);
+            }
+            long regexNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < 1_000_000; i++) {
+                sum -= pg_strtoint_safe(literals[i & 1023], escontext);
+            }
+            long singlePassNanos = System.nanoTime() - start;
+            Assertions.assertEquals(0, sum, "Both implementations are supposed to return the same values");
+            log.info(String.format("regex: %,6.1f ns/literal, single pass: %,6.1f ns/literal", regexNanos / 1e6,
+                    singlePassNanos / 1e6));
+        }
+    }
+
+    /**
+     * The regular expression based implementation of pg_strtoint_safe as it was before version 19.0, used as a
+     * reference for the single pass implementation
+     *
+     * @param s
+     *            input
+     * @param escontext
+     *            for error logging
+     * @return int
+     */
+    private int regexPg_strtoint_safe(String s, ErrorSaveContext escontext) {
+        String str = s.trim();
+        Matcher matcher = INTEGER_PATTERN.matcher(str.replaceAll("(?<=\\d)_(?=\\d)", ""));
+        if (!matcher.matches()) {
+            ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
+                    errmsg("invalid input syntax for type %s: \"%s\"", "integer", s));
+            escontext.error_occurred = true;
+            return 0;
+        }
+        String digits;
+        String validDigits;
+        int radix;
+        if (matcher.group(2) == null) {
+            digits = matcher.group(0);
+            validDigits = "^(\\+|\\-)?\\d+$";
+            radix = 10;
+        } else {
+            digits = matcher.group(3);
+            switch (matcher.group(2).toLowerCase()) {
+            case "0x" -> {
+                validDigits = "^[0-9A-Fa-f]+$";
+                radix = 16;
+            }
+            case "0o" -> {
+                validDigits = "^[0-7]+$";
+                radix = 8;
+            }
+            default -> {
+                validDigits = "^[01]+$";
+                radix = 2;
+            }
+            }
+        }
+        try {
+            int result = Integer.parseInt(digits, radix);
+            return radix != 10 && "-".equals(matcher.group(1)) ? -result : result;
+        } catch (NumberFormatException e) {
+            if (digits.matches(validDigits)) {
+                ereport(Severity.ERROR, ErrCode.ERRCODE_NUMERIC_VALUE_OUT_OF_RANGE,
+                        errmsg("value \"%s\" is out of range for type %s", str, "integer"));
+            } else {
+                ereport(Severity.ERROR, ErrCode.ERRCODE_INVALID_TEXT_REPRESENTATION,
+                        errmsg("invalid input syntax for type %s: \"%s\"", "integer", str));
+            }
+            escontext.error_occurred = true;
+            return 0;
+        }
+    }
 }
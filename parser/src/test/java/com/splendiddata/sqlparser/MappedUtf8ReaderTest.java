@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the MappedUtf8Reader
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class MappedUtf8ReaderTest {
+
+    private static String readAll(Path file, int windowSize, int bufferSize) throws IOException {
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        try (MappedUtf8Reader reader = new MappedUtf8Reader(file, windowSize)) {
+            for (int n = reader.read(buffer, 0, bufferSize); n >= 0; n = reader.read(buffer, 0, bufferSize)) {
+                result.append(buffer, 0, n);
+            }
+        }
+        return result.toString();
+    }
+
+    @Test
+    void decode() throws IOException {
+        String text = "select 'ŵǎʇ ᴚᶛᶉḙ', '😀 𝄞' from t;\n".repeat(50);
+        Path file = Files.createTempFile("MappedUtf8ReaderTest", ".sql");
+        try {
+            Files.writeString(file, text, StandardCharsets.UTF_8);
+            Assertions.assertEquals(text, readAll(file, MappedUtf8Reader.DEFAULT_WINDOW_SIZE, 8192));
+            for (int windowSize = 4; windowSize <= 9; windowSize++) {
+                Assertions.assertEquals(text, readAll(file, windowSize, 7),
+                        "UTF-8 sequences are supposed to be decoded across windows of " + windowSize + " bytes");
+            }
+            Assertions.assertEquals(text, readAll(file, 5, 1),
+                    "A surrogate pair is supposed to be returned one char at a time if needed");
+
+            Files.write(file, new byte[0]);
+            Assertions.assertEquals("", readAll(file, MappedUtf8Reader.DEFAULT_WINDOW_SIZE, 10));
+
+            Files.write(file, new byte[] { 's', 'e', 'l', (byte) 0xC3, ' ', '1' });
+            Assertions.assertThrows(CharacterCodingException.class,
+                    () -> readAll(file, MappedUtf8Reader.DEFAULT_WINDOW_SIZE, 10));
+            Files.write(file, new byte[] { 's', 'e', 'l', (byte) 0xE2, (byte) 0x82 });
+            Assertions.assertThrows(CharacterCodingException.class, () -> readAll(file, 4, 10),
+                    "A truncated UTF-8 sequence at the end of the file is supposed to be reported");
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,933 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.splendiddata.sqlparser.structure.Location;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Generates NodeBinaryLayout in the structure package, which {@link NodeBinaryWriter} and {@link NodeBinaryReader} use
+ * to write and read the fields of the nodes without reflection.
+ * <p>
+ * All instance fields of a class are written, those of the super classes first and within a class sorted by name. The
+ * classes that cannot be written field by field, because they have no no-arg constructor or have private or final
+ * fields, are left out. That is not allowed for Node subclasses, as they are to be found in parse trees. The classes
+ * with a private no-arg constructor, which are not meant to be instantiated, and the structure List, which is written
+ * as a list of values, are left out as well.
+ * </p>
+ * <p>
+ * Run the main method from the parser directory after a structure class has been added or changed:
+ * <code>mvn test-compile exec:java -Dexec.mainClass=com.splendiddata.sqlparser.NodeBinaryLayoutGenerator
+ * -Dexec.classpathScope=test</code>. NodeBinaryWriterTest fails as long as the generated source is out of date.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+final class NodeBinaryLayoutGenerator {
+    private static final String STRUCTURE_PACKAGE = Node.class.getPackageName();
+
+    /**
+     * No instances
+     */
+    private NodeBinaryLayoutGenerator() {
+        // static methods only
+    }
+
+    /**
+     * Writes NodeBinaryLayout.java
+     *
+     * @param args
+     *            Not used
+     * @throws IOException
+     *             If writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        Files.writeString(sourceFile(), generate(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the path of NodeBinaryLayout.java
+     *
+     * @return Path The source file
+     */
+    static Path sourceFile() {
+        return NodeVisitorGenerator.parserDirectory()
+                .resolve("src/main/java/com/splendiddata/sqlparser/structure/NodeBinaryLayout.java");
+    }
+
+    /**
+     * Returns the classes of the structure package that can be written field by field
+     *
+     * @return List&lt;Class&lt;?&gt;&gt; The classes, sorted by name
+     * @throws IllegalStateException
+     *             If a Node subclass cannot be written field by field
+     */
+    static List<Class<?>> layoutClasses() {
+        List<Class<?>> result = new ArrayList<>();
+        for (Class<?> type : NodeVisitorGenerator.structureClasses()) {
+            if (type.isInterface() || type.isEnum() || Modifier.isAbstract(type.getModifiers())
+                    || com.splendiddata.sqlparser.structure.List.class.equals(type) || isNotInstantiable(type)) {
+                continue;
+            }
+            String problem = getProblem(type);
+            if (problem == null) {
+                result.add(type);
+            } else if (Node.class.isAssignableFrom(type)) {
+                throw new IllegalStateException(type.getName() + " cannot be written by NodeBinaryWriter: " + problem);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells if a class is not meant to be instantiated, like a base class that hides its no-arg constructor
+     *
+     * @param type
+     *            The class
+     * @return boolean true if the class has a private no-arg constructor
+     */
+    private static boolean isNotInstantiable(Class<?> type) {
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return Modifier.isPrivate(constructor.getModifiers());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells why a class cannot be written and read field by field
+     *
+     * @param type
+     *            A concrete class of the structure package
+     * @return String The reason, null if the class can be written and read
+     */
+    private static String getProblem(Class<?> type) {
+        if (type.getTypeParameters().length != 0) {
+            return "it has type parameters";
+        }
+        try {
+            type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return "it has no no-arg constructor";
+        }
+        for (Field field : fields(type)) {
+            if (Modifier.isPrivate(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                return "field " + field.getName() + " is private or final";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the fields of a class that are written, in the order in which they are written
+     *
+     * @param type
+     *            The class
+     * @return List&lt;Field&gt; The instance fields of the class and its super classes in the structure package: those
+     *         of the super classes first and within a class sorted by name
+     */
+    static List<Field> fields(Class<?> type) {
+        List<Field> result = new ArrayList<>();
+        for (Class<?> cls = type; cls != null && STRUCTURE_PACKAGE.equals(cls.getPackageName()); cls = cls
+                .getSuperclass()) {
+            Field[] declared = cls.getDeclaredFields();
+            Arrays.sort(declared, Comparator.comparing(Field::getName));
+            int insertAt = 0;
+            for (Field field : declared) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    result.add(insertAt++, field);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Describes the fields of a class for its fingerprint
+     *
+     * @param type
+     *            The class
+     * @return String The name and generic type of every field that is written, in the order in which they are
+     *         written, and the constants of the enum types
+     */
+    static String describe(Class<?> type) {
+        StringBuilder result = new StringBuilder(type.getName()).append('(');
+        for (Field field : fields(type)) {
+            result.append(field.getName()).append(':').append(field.getGenericType().getTypeName());
+            if (field.getType().isEnum()) {
+                result.append('{').append(NodeBinaryFormat.describeEnum(field.getType())).append('}');
+            }
+            result.append(';');
+        }
+        return result.append(')').toString();
+    }
+
+    /**
+     * Tells if a field holds a value that is written with its tag and may be a node or a list, so the node is to be
+     * left to write or read that value first
+     *
+     * @param field
+     *            The field
+     * @return boolean false for the primitive, String, enum and Location fields
+     */
+    private static boolean isChild(Field field) {
+        Class<?> type = field.getType();
+        return !type.isPrimitive() && !String.class.equals(type) && !type.isEnum() && !Location.class.equals(type);
+    }
+
+    /**
+     * Returns the Java expression that accesses a field of a variable named node
+     *
+     * @param type
+     *            The class of the node
+     * @param field
+     *            The field
+     * @param imports
+     *            Receives the imports that the expression needs
+     * @return String node.field, or a cast of node to the declaring class if the field is hidden
+     */
+    private static String access(Class<?> type, Field field, Set<String> imports) {
+        if (NodeXmlLayoutGenerator.isHidden(type, field.getDeclaringClass(), field.getName())) {
+            return "((" + NodeXmlLayoutGenerator.javaName(field.getDeclaringClass(), imports) + ") node)."
+                    + field.getName();
+        }
+        return "node." + field.getName();
+    }
+
+    /**
+     * Returns the Java source of a type
+     *
+     * @param type
+     *            The generic type
+     * @param imports
+     *            Receives the imports that the type needs
+     * @return String The type as it is to be written in a cast
+     */
+    private static String typeName(Type type, Set<String> imports) {
+        if (type instanceof Class<?> cls) {
+            if (cls.isArray()) {
+                return typeName(cls.getComponentType(), imports) + "[]";
+            }
+            return NodeXmlLayoutGenerator.javaName(cls, imports);
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            StringBuilder result = new StringBuilder(typeName(parameterized.getRawType(), imports)).append('<');
+            String separator = "";
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                result.append(separator).append(typeName(argument, imports));
+                separator = ", ";
+            }
+            return result.append('>').toString();
+        }
+        if (type instanceof WildcardType wildcard) {
+            Type bound = wildcard.getUpperBounds()[0];
+            return Object.class.equals(bound) ? "?" : "? extends " + typeName(bound, imports);
+        }
+        throw new IllegalStateException("Unexpected field type " + type);
+    }
+
+    /**
+     * Returns the name of the constant that holds the constants of an enum
+     *
+     * @param type
+     *            The enum class
+     * @return String The simple name in upper case with underscores between the words, followed by _VALUES
+     */
+    private static String valuesConstant(Class<?> type) {
+        return type.getSimpleName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").replace("__", "_").toUpperCase()
+                + "_VALUES";
+    }
+
+    /**
+     * Generates the source of NodeBinaryLayout
+     *
+     * @return String The Java source
+     */
+    static String generate() {
+        List<Class<?>> classes = layoutClasses();
+        Set<String> imports = new TreeSet<>();
+        imports.add(IOException.class.getName());
+        imports.add(java.util.HashMap.class.getName());
+        Map<String, Class<?>> enumConstants = new TreeMap<>();
+        for (Class<?> type : classes) {
+            for (Field field : fields(type)) {
+                if (field.getType().isEnum()) {
+                    Class<?> previous = enumConstants.put(valuesConstant(field.getType()), field.getType());
+                    if (previous != null && !previous.equals(field.getType())) {
+                        throw new IllegalStateException(previous + " and " + field.getType() + " have the same name");
+                    }
+                }
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append("""
+                /*
+                 * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+                 *
+                 * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+                 * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+                 * version.
+                 *
+                 * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+                 * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+                 *
+                 * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+                 * obtain one via www.gnu.org/licenses/.
+                 */
+
+                package com.splendiddata.sqlparser.structure;
+
+                /**
+                 * The binary layout of the classes of the structure package: the fields that are written for a class, in the order in
+                 * which they are written, and the fingerprint of that layout.
+                 * <p>
+                 * {@link com.splendiddata.sqlparser.NodeBinaryWriter} and {@link com.splendiddata.sqlparser.NodeBinaryReader} write and
+                 * read a node by calling {@link #write(int, Object, int, Output)} and {@link #read(int, Object, int, Input)}, which
+                 * access the fields of the node directly. Neither of them descends into a child node or list. They return after a
+                 * field that holds one, so that the caller can write or read the child first and then resume the node at the step that
+                 * was returned. That way the depth of a tree is limited by the stack that the caller keeps, not by the call stack.
+                 * </p>
+                 * <p>
+                 * This class is generated by NodeBinaryLayoutGenerator in the test sources. Do not edit it by hand.
+                 * </p>
+                 *
+                 * @author Splendid Data Product Development B.V.
+                 * @since 19.0
+                 */
+                public final class NodeBinaryLayout {
+                    /**
+                     * Returned by {@link #write(int, Object, int, Output)} and {@link #read(int, Object, int, Input)} when all
+                     * fields of the node are done
+                     */
+                    public static final int DONE = -1;
+
+                    /**
+                     * Receives the fields of a node
+                     */
+                    public interface Output {
+                        /**
+                         * Writes a boolean field
+                         *
+                         * @param value
+                         *            The value of the field
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeBoolean(boolean value) throws IOException;
+
+                        /**
+                         * Writes a byte, short, int or long field
+                         *
+                         * @param value
+                         *            The value of the field
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeZigzag(long value) throws IOException;
+
+                        /**
+                         * Writes a char field
+                         *
+                         * @param value
+                         *            The value of the field
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeChar(char value) throws IOException;
+
+                        /**
+                         * Writes a float field
+                         *
+                         * @param value
+                         *            The value of the field
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeFloat(float value) throws IOException;
+
+                        /**
+                         * Writes a double field
+                         *
+                         * @param value
+                         *            The value of the field
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeDouble(double value) throws IOException;
+
+                        /**
+                         * Writes a String field
+                         *
+                         * @param value
+                         *            The value of the field, may be null
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeString(String value) throws IOException;
+
+                        /**
+                         * Writes a field of an enum type
+                         *
+                         * @param value
+                         *            The value of the field, may be null
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeEnum(Enum<?> value) throws IOException;
+
+                        /**
+                         * Writes a Location field
+                         *
+                         * @param value
+                         *            The value of the field, may be null
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        void writeLocation(Location value) throws IOException;
+
+                        /**
+                         * Writes any other field as a tagged value
+                         *
+                         * @param value
+                         *            The value of the field, may be null
+                         * @return boolean true if the value is a node or list of which the content is still to be written,
+                         *         before the next field of the current node
+                         * @throws IOException
+                         *             If writing fails
+                         */
+                        boolean writeValue(Object value) throws IOException;
+                    }
+
+                    /**
+                     * Provides the fields of a node
+                     */
+                    public interface Input {
+                        /**
+                         * Reads a boolean field
+                         *
+                         * @return boolean The value of the field
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        boolean readBoolean() throws IOException;
+
+                        /**
+                         * Reads a byte, short, int or long field
+                         *
+                         * @return long The value of the field
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        long readZigzag() throws IOException;
+
+                        /**
+                         * Reads a char field
+                         *
+                         * @return char The value of the field
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        char readChar() throws IOException;
+
+                        /**
+                         * Reads a float field
+                         *
+                         * @return float The value of the field
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        float readFloat() throws IOException;
+
+                        /**
+                         * Reads a double field
+                         *
+                         * @return double The value of the field
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        double readDouble() throws IOException;
+
+                        /**
+                         * Reads a String field
+                         *
+                         * @return String The value of the field, may be null
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        String readString() throws IOException;
+
+                        /**
+                         * Reads a field of an enum type
+                         *
+                         * @param <E>
+                         *            The enum type
+                         * @param constants
+                         *            The constants of the enum
+                         * @return E The value of the field, may be null
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        <E> E readEnum(E[] constants) throws IOException;
+
+                        /**
+                         * Reads a Location field
+                         *
+                         * @return Location The value of the field, may be null
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        Location readLocation() throws IOException;
+
+                        /**
+                         * Reads any other field as a tagged value
+                         *
+                         * @return Object The value of the field, may be null
+                         * @throws IOException
+                         *             If reading fails
+                         */
+                        Object readValue() throws IOException;
+
+                        /**
+                         * Tells if the value that was just read is a node or list of which the content is still to be read,
+                         * before the next field of the current node
+                         *
+                         * @return boolean true if the content of the last value is still to be read
+                         */
+                        boolean descended();
+                    }
+
+                    /**
+                     * The known classes. The index of a class in this array is its case in the switch statements.
+                     */
+                    private static final Class<?>[] CLASSES = {
+                """);
+        for (Class<?> type : classes) {
+            source.append("            ").append(type.getSimpleName()).append(".class,\n");
+        }
+        source.append("""
+                    };
+
+                    /**
+                     * The fingerprints of the fields of the known classes
+                     */
+                    private static final long[] FINGERPRINTS = {
+                """);
+        for (Class<?> type : classes) {
+            source.append("            ")
+                    .append(String.format("0x%016xL", Long.valueOf(NodeBinaryFormat.fingerprint(describe(type)))))
+                    .append(",\n");
+        }
+        source.append("""
+                    };
+
+                    /*
+                     * The constants of the enum types of the fields, as values() returns a new array on every call
+                     */
+                """);
+        for (Map.Entry<String, Class<?>> entry : enumConstants.entrySet()) {
+            String name = NodeXmlLayoutGenerator.javaName(entry.getValue(), imports);
+            String line = "    private static final " + name + "[] " + entry.getKey() + " =";
+            String value = name + ".values();";
+            source.append(line).append(line.length() + 1 + value.length() <= 120 ? " " : "\n            ")
+                    .append(value).append('\n');
+        }
+        source.append("""
+
+                    /**
+                     * The index in {@link #CLASSES} of a class, -1 if it is not known
+                     */
+                    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+                        @Override
+                        protected Integer computeValue(Class<?> type) {
+                            for (int i = 0; i < CLASSES.length; i++) {
+                                if (CLASSES[i].equals(type)) {
+                                    return Integer.valueOf(i);
+                                }
+                            }
+                            return Integer.valueOf(-1);
+                        }
+                    };
+
+                    /**
+                     * The index in {@link #CLASSES} by class name
+                     */
+                    private static final HashMap<String, Integer> NAMES = new HashMap<>();
+
+                    static {
+                        for (int i = 0; i < CLASSES.length; i++) {
+                            NAMES.put(CLASSES[i].getName(), Integer.valueOf(i));
+                        }
+                    }
+
+                    /**
+                     * No instances
+                     */
+                    private NodeBinaryLayout() {
+                        // static methods only
+                    }
+
+                    /**
+                     * Returns the index of the layout of a class
+                     *
+                     * @param type
+                     *            The class
+                     * @return int The index of the class, -1 if it cannot be written field by field. Subclasses of the known
+                     *         classes cannot either.
+                     */
+                    public static int indexOf(Class<?> type) {
+                        return INDEXES.get(type).intValue();
+                    }
+
+                    /**
+                     * Returns the index of the layout of a class
+                     *
+                     * @param className
+                     *            The name of the class
+                     * @return int The index of the class, -1 if it is not known
+                     */
+                    public static int indexOf(String className) {
+                        Integer index = NAMES.get(className);
+                        return index == null ? -1 : index.intValue();
+                    }
+
+                    /**
+                     * Returns the class of a layout
+                     *
+                     * @param index
+                     *            The index of the class
+                     * @return Class&lt;?&gt; The class
+                     */
+                    public static Class<?> type(int index) {
+                        return CLASSES[index];
+                    }
+
+                    /**
+                     * Returns the fingerprint of the layout of a class, which covers the names and generic types of its fields
+                     * in the order in which they are written, and the constants of the enum types among them
+                     *
+                     * @param index
+                     *            The index of the class
+                     * @return long The fingerprint
+                     */
+                    public static long fingerprint(int index) {
+                        return FINGERPRINTS[index];
+                    }
+
+                    /**
+                     * Creates an instance of a class, to be filled by {@link #read(int, Object, int, Input)}
+                     *
+                     * @param index
+                     *            The index of the class
+                     * @return Object The new instance
+                     */
+                    public static Object newInstance(int index) {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            source.append("        case ").append(i).append(":\n            return new ")
+                    .append(classes.get(i).getSimpleName()).append("();\n");
+        }
+        source.append("""
+                        default:
+                            throw new IllegalArgumentException("No class with index " + index);
+                        }
+                    }
+
+                    /**
+                     * Writes the fields of a node, until a field holds a child node or list of which the content is to be written
+                     * first
+                     *
+                     * @param index
+                     *            The index of the class of the node
+                     * @param node
+                     *            The node
+                     * @param step
+                     *            0 to start with the first field, otherwise the step that was returned by the previous call for
+                     *            the node
+                     * @param out
+                     *            The output to write to
+                     * @return int The step to resume the node at after the content of the child, or {@link #DONE}
+                     * @throws IOException
+                     *             If writing fails
+                     */
+                    public static int write(int index, Object node, int step, Output out) throws IOException {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            if (!fields(classes.get(i)).isEmpty()) {
+                appendCase(source, i, "write", classes.get(i), ", step, out");
+            }
+        }
+        source.append("""
+                        default:
+                            return DONE;
+                        }
+                    }
+
+                    /**
+                     * Reads the fields of a node, until a field holds a child node or list of which the content is to be read
+                     * first
+                     *
+                     * @param index
+                     *            The index of the class of the node
+                     * @param node
+                     *            The node, as created by {@link #newInstance(int)}
+                     * @param step
+                     *            0 to start with the first field, otherwise the step that was returned by the previous call for
+                     *            the node
+                     * @param in
+                     *            The input to read from
+                     * @return int The step to resume the node at after the content of the child, or {@link #DONE}
+                     * @throws IOException
+                     *             If reading fails
+                     * @throws ClassCastException
+                     *             If a value is not of the type of the field
+                     */
+                    public static int read(int index, Object node, int step, Input in) throws IOException {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            if (!fields(classes.get(i)).isEmpty()) {
+                appendCase(source, i, "read", classes.get(i), ", step, in");
+            }
+        }
+        source.append("""
+                        default:
+                            return DONE;
+                        }
+                    }
+                """);
+
+        for (Class<?> type : classes) {
+            List<Field> fields = fields(type);
+            if (!fields.isEmpty()) {
+                appendWriter(source, type, fields, imports);
+                appendReader(source, type, fields, imports);
+            }
+        }
+        source.append("}\n");
+        return NodeXmlLayoutGenerator.insertImports(source, imports);
+    }
+
+    /**
+     * Appends the method that writes the fields of a class
+     *
+     * @param source
+     *            The source to append to
+     * @param type
+     *            The class
+     * @param fields
+     *            Its fields
+     * @param imports
+     *            Receives the imports that the method needs
+     */
+    private static void appendWriter(StringBuilder source, Class<?> type, List<Field> fields, Set<String> imports) {
+        String name = type.getSimpleName();
+        source.append("\n    /**\n     * Writes the fields of a {@link ").append(name).append("}\n     *\n")
+                .append("     * @param node\n     *            The node\n")
+                .append("     * @param step\n     *            The number of child values that were written already\n")
+                .append("     * @param out\n     *            The output to write to\n")
+                .append("     * @return int The number of child values that were written if the content of the last one")
+                .append(" is to be written first,\n     *         or DONE\n")
+                .append("     * @throws IOException\n     *             If writing fails\n     */\n");
+        NodeXmlLayoutGenerator.appendSignature(source,
+                "private static int write" + name + "(" + name + " node, int step, Output out)", IOException.class);
+        int step = 0;
+        boolean open = false;
+        for (Field field : fields) {
+            String indent = "        ";
+            if (hasChild(fields)) {
+                if (!open) {
+                    source.append("        if (step <= ").append(step).append(") {\n");
+                    open = true;
+                }
+                indent = "            ";
+            }
+            String value = access(type, field, imports);
+            Class<?> fieldType = field.getType();
+            if (isChild(field)) {
+                step++;
+                source.append(indent).append("if (out.writeValue(").append(value).append(")) {\n").append(indent)
+                        .append("    return ").append(step).append(";\n").append(indent).append("}\n");
+                source.append("        }\n");
+                open = false;
+                continue;
+            }
+            String method;
+            if (boolean.class.equals(fieldType)) {
+                method = "writeBoolean";
+            } else if (char.class.equals(fieldType)) {
+                method = "writeChar";
+            } else if (float.class.equals(fieldType)) {
+                method = "writeFloat";
+            } else if (double.class.equals(fieldType)) {
+                method = "writeDouble";
+            } else if (fieldType.isPrimitive()) {
+                method = "writeZigzag";
+            } else if (String.class.equals(fieldType)) {
+                method = "writeString";
+            } else if (fieldType.isEnum()) {
+                method = "writeEnum";
+            } else {
+                method = "writeLocation";
+            }
+            source.append(indent).append("out.").append(method).append('(').append(value).append(");\n");
+        }
+        if (open) {
+            source.append("        }\n");
+        }
+        source.append("        return DONE;\n    }\n");
+    }
+
+    /**
+     * Appends the method that reads the fields of a class
+     *
+     * @param source
+     *            The source to append to
+     * @param type
+     *            The class
+     * @param fields
+     *            Its fields
+     * @param imports
+     *            Receives the imports that the method needs
+     */
+    private static void appendReader(StringBuilder source, Class<?> type, List<Field> fields, Set<String> imports) {
+        String name = type.getSimpleName();
+        source.append("\n    /**\n     * Reads the fields of a {@link ").append(name).append("}\n     *\n")
+                .append("     * @param node\n     *            The node\n")
+                .append("     * @param step\n     *            The number of child values that were read already\n")
+                .append("     * @param in\n     *            The input to read from\n")
+                .append("     * @return int The number of child values that were read if the content of the last one")
+                .append(" is to be read first, or DONE\n")
+                .append("     * @throws IOException\n     *             If reading fails\n     */\n");
+        for (Field field : fields) {
+            if (isChild(field) && field.getGenericType() instanceof ParameterizedType) {
+                source.append("    @SuppressWarnings(\"unchecked\")\n");
+                break;
+            }
+        }
+        NodeXmlLayoutGenerator.appendSignature(source,
+                "private static int read" + name + "(" + name + " node, int step, Input in)", IOException.class);
+        int step = 0;
+        boolean open = false;
+        for (Field field : fields) {
+            String indent = "        ";
+            if (hasChild(fields)) {
+                if (!open) {
+                    source.append("        if (step <= ").append(step).append(") {\n");
+                    open = true;
+                }
+                indent = "            ";
+            }
+            String target = access(type, field, imports);
+            Class<?> fieldType = field.getType();
+            String value;
+            if (isChild(field)) {
+                value = Object.class.equals(fieldType) ? "in.readValue();"
+                        : "(" + typeName(field.getGenericType(), imports) + ") in.readValue();";
+            } else if (boolean.class.equals(fieldType)) {
+                value = "in.readBoolean();";
+            } else if (char.class.equals(fieldType)) {
+                value = "in.readChar();";
+            } else if (float.class.equals(fieldType)) {
+                value = "in.readFloat();";
+            } else if (double.class.equals(fieldType)) {
+                value = "in.readDouble();";
+            } else if (long.class.equals(fieldType)) {
+                value = "in.readZigzag();";
+            } else if (fieldType.isPrimitive()) {
+                value = "(" + fieldType.getName() + ") in.readZigzag();";
+            } else if (String.class.equals(fieldType)) {
+                value = "in.readString();";
+            } else if (fieldType.isEnum()) {
+                value = "in.readEnum(" + valuesConstant(fieldType) + ");";
+            } else {
+                value = "in.readLocation();";
+            }
+            String line = indent + target + " =";
+            source.append(line).append(line.length() + 1 + value.length() <= 120 ? " " : "\n" + indent + "        ")
+                    .append(value).append('\n');
+            if (isChild(field)) {
+                step++;
+                source.append(indent).append("if (in.descended()) {\n").append(indent).append("    return ")
+                        .append(step).append(";\n").append(indent).append("}\n");
+                source.append("        }\n");
+                open = false;
+            }
+        }
+        if (open) {
+            source.append("        }\n");
+        }
+        source.append("        return DONE;\n    }\n");
+    }
+
+    /**
+     * Tells if any of the fields holds a value that may be a node or a list
+     *
+     * @param fields
+     *            The fields
+     * @return boolean true if the generated method is to be able to resume after a field
+     */
+    private static boolean hasChild(List<Field> fields) {
+        for (Field field : fields) {
+            if (isChild(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends a case of a switch statement that delegates to the method of a class
+     *
+     * @param source
+     *            The source to append to
+     * @param index
+     *            The index of the class
+     * @param method
+     *            The method name without the class name
+     * @param type
+     *            The class
+     * @param arguments
+     *            The arguments after the node
+     */
+    private static void appendCase(StringBuilder source, int index, String method, Class<?> type, String arguments) {
+        source.append("        case ").append(index).append(":\n            return ").append(method)
+                .append(type.getSimpleName()).append("((").append(type.getSimpleName()).append(") node")
+                .append(arguments).append(");\n");
+    }
+}
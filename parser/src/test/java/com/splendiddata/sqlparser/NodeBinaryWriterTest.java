@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+
+/**
+ * Tests the NodeBinaryWriter and the NodeBinaryReader
+ * <p>
+ * The comparison of the speed with xml only runs when system property sqlparser.benchmark=true, for example:
+ * <code>mvn test -Dtest=NodeBinaryWriterTest -Dsqlparser.benchmark=true</code>
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class NodeBinaryWriterTest {
+    private static final Logger log = LogManager.getLogger(NodeBinaryWriterTest.class);
+
+    /**
+     * Parses "select a from t where a = 'x'; select null", with a literal that needs more than one byte per character
+     * in utf-8
+     *
+     * @return List&lt;Node&gt; The statements, as the parser returns them
+     * @throws IOException
+     *             Not expected, the sql is read from a String
+     */
+    private static List<Node> createStatements() throws IOException {
+        return ParsedSql.parse("select a from t where a = 'xé€'; select null");
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        List<Node> statements = createStatements();
+        byte[] bytes = new NodeBinaryWriter().toBytes(statements);
+        Object copy = new NodeBinaryReader().fromBytes(bytes);
+        Assertions.assertEquals(statements, copy);
+        Assertions.assertEquals(statements.toString(), copy.toString());
+        Assertions.assertEquals(ParserUtil.stmtToXml(statements), ParserUtil.stmtToXml(copy),
+                "The xml shows the locations as well");
+        Assertions.assertArrayEquals(bytes, new NodeBinaryWriter().toBytes(copy));
+
+        byte[] withoutLocations = new NodeBinaryWriter(false).toBytes(statements);
+        Assertions.assertTrue(withoutLocations.length < bytes.length);
+        SelectStmt stmt = (SelectStmt) ((List<?>) new NodeBinaryReader().fromBytes(withoutLocations)).get(0);
+        Assertions.assertNull(stmt.location);
+        Assertions.assertNull(stmt.whereClause.location);
+        Assertions.assertEquals(statements.get(0), stmt, "Locations do not count in equals()");
+    }
+
+    @Test
+    void consecutiveTrees() throws IOException {
+        List<Node> statements = createStatements();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NodeBinaryWriter writer = new NodeBinaryWriter();
+        writer.write(statements.get(0), out);
+        writer.write(statements.get(1), out);
+        out.write(42);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        NodeBinaryReader reader = new NodeBinaryReader();
+        Assertions.assertEquals(statements.get(0), reader.read(in));
+        Assertions.assertEquals(statements.get(1), reader.read(in));
+        Assertions.assertEquals(42, in.read());
+    }
+
+    @Test
+    void invalidInput() throws IOException {
+        byte[] bytes = new NodeBinaryWriter().toBytes(createStatements());
+        NodeBinaryReader reader = new NodeBinaryReader();
+        Assertions.assertThrows(StreamCorruptedException.class, () -> reader.fromBytes("<xml/>".getBytes()));
+        Assertions.assertThrows(IOException.class, () -> reader.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+
+        byte[] otherVersion = bytes.clone();
+        otherVersion[NodeBinaryFormat.MAGIC.length]++;
+        Assertions.assertThrows(InvalidClassException.class, () -> reader.fromBytes(otherVersion));
+
+        byte[] otherClass = new byte[] { 'P', 'G', 'S', 'T', NodeBinaryFormat.FORMAT_VERSION, 0,
+                NodeBinaryFormat.OBJECT, 0, 17, 'j', 'a', 'v', 'a', '.', 'u', 't', 'i', 'l', '.', 'H', 'a', 's', 'h',
+                'M', 'a', 'p', 0, 0, 0, 0, 0, 0, 0, 0 };
+        Assertions.assertThrows(InvalidClassException.class, () -> reader.fromBytes(otherClass));
+
+        byte[] otherFields = bytes.clone();
+        byte[] className = SelectStmt.class.getName().getBytes(StandardCharsets.UTF_8);
+        int fingerprintAt = indexOf(otherFields, className) + className.length;
+        otherFields[fingerprintAt]++;
+        InvalidClassException e = Assertions.assertThrows(InvalidClassException.class,
+                () -> reader.fromBytes(otherFields));
+        Assertions.assertEquals(SelectStmt.class.getName(), e.classname);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new NodeBinaryWriter().toBytes(new List<>(Arrays.asList(new Object()))));
+    }
+
+    /**
+     * Returns the position of a sequence of bytes in an array
+     *
+     * @param bytes
+     *            The array to search
+     * @param sequence
+     *            The bytes to find
+     * @return int The position of the first occurrence, -1 if not found
+     */
+    private static int indexOf(byte[] bytes, byte[] sequence) {
+        for (int i = 0; i <= bytes.length - sequence.length; i++) {
+            if (Arrays.equals(bytes, i, i + sequence.length, sequence, 0, sequence.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A tree that is far deeper than the call stack allows for recursion is written and read on a thread with a small
+     * stack
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    void deepTree() throws Exception {
+        List<Node> statements = ParsedSql.parse("select 1" + " + 1".repeat(100_000));
+        Object[] copy = new Object[1];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                copy[0] = new NodeBinaryReader().fromBytes(new NodeBinaryWriter().toBytes(statements));
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }, "deepTree", 256 * 1024);
+        thread.start();
+        thread.join();
+        Assertions.assertNull(failure[0]);
+        Assertions.assertEquals(statements, copy[0]);
+    }
+
+    /**
+     * NodeBinaryLayout is generated from the fields of the structure classes, so it must be regenerated when they
+     * change
+     */
+    @Test
+    void generatedSourceIsUpToDate() throws Exception {
+        Assertions.assertEquals(NodeBinaryLayoutGenerator.generate(),
+                Files.readString(NodeBinaryLayoutGenerator.sourceFile(), StandardCharsets.UTF_8),
+                "Please run NodeBinaryLayoutGenerator");
+    }
+
+    /**
+     * Writes and reads the statements of the regression tests. The copy must be equal to the original and the binary
+     * format must be smaller than the xml of the {@link NodeXmlWriter}.
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    void corpusRoundTrip() throws Exception {
+        List<Node> corpus = new List<>(RegressionCorpus.statements());
+        byte[] bytes = new NodeBinaryWriter().toBytes(corpus);
+        Object copy = new NodeBinaryReader().fromBytes(bytes);
+        Assertions.assertEquals(corpus, copy);
+        Assertions.assertEquals(corpus.toString(), copy.toString());
+        CountingOutputStream xmlSize = new CountingOutputStream();
+        new NodeXmlWriter(false).write(corpus, xmlSize);
+        Assertions.assertTrue(bytes.length < xmlSize.count, "binary smaller than xml");
+    }
+
+    /**
+     * Compares the speed and size of the binary format with the xml of the {@link NodeXmlWriter} over the statements of
+     * the regression tests. Writing as well as reading the binary format must be faster than writing xml. Each is timed
+     * as the best of a few rounds over the whole corpus, to leave out the warming up of the JIT compiler.
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sqlparser.benchmark", matches = "true")
+    void corpusComparedToXml() throws Exception {
+        java.util.List<Node> statements = RegressionCorpus.statements();
+        List<Node> corpus = new List<>(statements);
+        NodeBinaryWriter writer = new NodeBinaryWriter();
+        NodeBinaryWriter writerWithoutLocations = new NodeBinaryWriter(false);
+        NodeBinaryReader reader = new NodeBinaryReader();
+        NodeXmlWriter xmlWriter = new NodeXmlWriter(false);
+
+        byte[] bytes = writer.toBytes(corpus);
+        int bytesWithoutLocations = writerWithoutLocations.toBytes(corpus).length;
+        CountingOutputStream xmlSize = new CountingOutputStream();
+        xmlWriter.write(corpus, xmlSize);
+
+        long xmlNanos = Long.MAX_VALUE;
+        long writeNanos = Long.MAX_VALUE;
+        long readNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            xmlWriter.write(corpus, OutputStream.nullOutputStream());
+            long afterXml = System.nanoTime();
+            writer.write(corpus, OutputStream.nullOutputStream());
+            long afterWrite = System.nanoTime();
+            reader.fromBytes(bytes);
+            long afterRead = System.nanoTime();
+            xmlNanos = Math.min(xmlNanos, afterXml - start);
+            writeNanos = Math.min(writeNanos, afterWrite - afterXml);
+            readNanos = Math.min(readNanos, afterRead - afterWrite);
+        }
+        log.info(String.format("%,d statements: xml %,d bytes written in %,d ms, binary %,d bytes (%,d without"
+                + " locations) written in %,d ms and read in %,d ms", Integer.valueOf(statements.size()),
+                Long.valueOf(xmlSize.count), Long.valueOf(xmlNanos / 1_000_000), Integer.valueOf(bytes.length),
+                Integer.valueOf(bytesWithoutLocations), Long.valueOf(writeNanos / 1_000_000),
+                Long.valueOf(readNanos / 1_000_000)));
+        Assertions.assertTrue(writeNanos < xmlNanos, "writing binary faster than writing xml");
+        Assertions.assertTrue(readNanos < xmlNanos, "reading binary faster than writing xml");
+    }
+
+    /**
+     * Counts the bytes that are written to it
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Location;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.Position;
+import com.splendiddata.sqlparser.structure.RawStmt;
+
+/**
+ * Tests the NodeJsonWriter against the output of libpg_query
+ * <p>
+ * The benchmark only runs when system property sqlparser.benchmark=true, for example:
+ * <code>mvn test -Dtest=NodeJsonWriterTest -Dsqlparser.benchmark=true</code>
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class NodeJsonWriterTest {
+    private static final Logger log = LogManager.getLogger(NodeJsonWriterTest.class);
+
+    /**
+     * Compares the output with the fixtures in src/test/resources/pg_query: each .json file holds what pg_query_parse()
+     * of libpg_query returns for the sql in the .sql file with the same name. Only the version differs, as that is the
+     * version of Postgres that libpg_query is built from.
+     *
+     * @throws IOException
+     *             If a fixture cannot be read
+     */
+    @Test
+    void libpgQueryFixtures() throws IOException {
+        Path projectDirectory = Paths.get("").toAbsolutePath();
+        if (!projectDirectory.endsWith("parser")) {
+            projectDirectory = projectDirectory.resolve("parser");
+        }
+        java.util.List<Path> fixtures;
+        try (Stream<Path> files = Files.list(projectDirectory.resolve("src/test/resources/pg_query"))) {
+            fixtures = files.filter(file -> file.toString().endsWith(".sql")).sorted().toList();
+        }
+        Assertions.assertFalse(fixtures.isEmpty());
+        String version = "\"version\":" + ParserUtil.getPostgresMajorVersion() * 10000L;
+        NodeJsonWriter writer = new NodeJsonWriter();
+        for (Path fixture : fixtures) {
+            String sql = Files.readString(fixture, StandardCharsets.UTF_8).strip();
+            String expected = Files
+                    .readString(Paths.get(fixture.toString().replaceFirst("\\.sql$", ".json")), StandardCharsets.UTF_8)
+                    .strip().replaceFirst("\"version\":\\d+", version);
+            Assertions.assertEquals(expected, writer.parseResultToJson(ParsedSql.parse(sql)),
+                    fixture.getFileName().toString());
+        }
+    }
+
+    /**
+     * The SqlParser strips the RawStmt that wraps every statement, so the second one is wrapped again like the
+     * grammar does to have a stmt_location and stmt_len
+     */
+    @Test
+    void parseResult() throws IOException {
+        String sql = "values (0, null); select 1";
+        List<Node> statements = ParsedSql.parse(sql);
+        RawStmt second = new RawStmt();
+        second.stmt = statements.get(1);
+        second.stmt_location = new Location(new Position(sql.indexOf("select")));
+        second.stmt_len = sql.length() - sql.indexOf("select");
+
+        Assertions.assertEquals("{\"version\":190000,\"stmts\":[{\"stmt\":{\"SelectStmt\":{\"valuesLists\":[{\"List\":"
+                + "{\"items\":[{\"A_Const\":{\"ival\":{},\"location\":8}},"
+                + "{\"A_Const\":{\"isnull\":true,\"location\":11}}]}}],"
+                + "\"limitOption\":\"LIMIT_OPTION_DEFAULT\",\"op\":\"SETOP_NONE\"}}},{\"stmt\":{\"SelectStmt\":"
+                + "{\"targetList\":[{\"ResTarget\":{\"val\":{\"A_Const\":{\"ival\":{\"ival\":1},\"location\":25}},"
+                + "\"location\":25}}],\"limitOption\":\"LIMIT_OPTION_DEFAULT\",\"op\":\"SETOP_NONE\"}},"
+                + "\"stmt_location\":18,\"stmt_len\":8}]}",
+                new NodeJsonWriter().parseResultToJson(Arrays.asList(statements.get(0), second)));
+    }
+
+    /**
+     * Compares the JSON with the xml of the {@link NodeXmlWriter} on the statements of the regression tests
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sqlparser.benchmark", matches = "true")
+    void corpusBenchmark() throws Exception {
+        java.util.List<Node> statements = RegressionCorpus.statements();
+        NodeJsonWriter jsonWriter = new NodeJsonWriter();
+        NodeXmlWriter xmlWriter = new NodeXmlWriter(false);
+        int jsonSize = jsonWriter.parseResultToJson(statements).length();
+
+        long xmlNanos = Long.MAX_VALUE;
+        long jsonNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            for (Node statement : statements) {
+                xmlWriter.write(statement, OutputStream.nullOutputStream());
+            }
+            long afterXml = System.nanoTime();
+            jsonWriter.writeParseResult(statements, OutputStream.nullOutputStream());
+            long afterJson = System.nanoTime();
+            xmlNanos = Math.min(xmlNanos, afterXml - start);
+            jsonNanos = Math.min(jsonNanos, afterJson - afterXml);
+        }
+        log.info(String.format("%,d statements: xml in %,d ms, json (%,d characters) in %,d ms",
+                Integer.valueOf(statements.size()), Long.valueOf(xmlNanos / 1_000_000), Integer.valueOf(jsonSize),
+                Long.valueOf(jsonNanos / 1_000_000)));
+    }
+}
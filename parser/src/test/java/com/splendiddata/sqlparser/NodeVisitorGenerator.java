@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Generates {@link NodeVisitor} and {@link NodeWalker} from the classes in the structure package.
+ * <p>
+ * Run the main method from the parser directory after a structure class has been added or changed:
+ * <code>mvn test-compile exec:java -Dexec.mainClass=com.splendiddata.sqlparser.NodeVisitorGenerator
+ * -Dexec.classpathScope=test</code>. NodeWalkerTest fails as long as the generated sources are out of date.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+final class NodeVisitorGenerator {
+    private static final String HEADER = """
+            /*
+             * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+             *
+             * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+             * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+             * version.
+             *
+             * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+             * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+             *
+             * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+             * obtain one via www.gnu.org/licenses/.
+             */
+
+            package com.splendiddata.sqlparser;
+
+            """;
+
+    private static final String STRUCTURE_PACKAGE = Node.class.getPackageName();
+
+    /**
+     * No instances
+     */
+    private NodeVisitorGenerator() {
+        // static methods only
+    }
+
+    /**
+     * Writes NodeVisitor.java and NodeWalker.java
+     *
+     * @param args
+     *            Not used
+     * @throws IOException
+     *             If writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        Files.writeString(sourceFile("NodeVisitor"), generateVisitor(), StandardCharsets.UTF_8);
+        Files.writeString(sourceFile("NodeWalker"), generateWalker(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the path of a source file in the com.splendiddata.sqlparser package
+     *
+     * @param className
+     *            The simple name of the class
+     * @return Path The source file
+     */
+    static Path sourceFile(String className) {
+        return parserDirectory().resolve("src/main/java/com/splendiddata/sqlparser/" + className + ".java");
+    }
+
+    /**
+     * Returns the directory of the parser project
+     *
+     * @return Path The parser directory
+     */
+    static Path parserDirectory() {
+        Path projectDirectory = Paths.get("").toAbsolutePath();
+        if (!projectDirectory.endsWith("parser")) {
+            projectDirectory = projectDirectory.resolve("parser");
+        }
+        return projectDirectory;
+    }
+
+    /**
+     * Returns the top level classes, interfaces and enums of the structure package
+     *
+     * @return List&lt;Class&lt;?&gt;&gt; The types, sorted by name
+     */
+    static List<Class<?>> structureClasses() {
+        List<Class<?>> result = new ArrayList<>();
+        try (Stream<Path> files = Files
+                .list(parserDirectory().resolve("src/main/java/com/splendiddata/sqlparser/structure"))) {
+            for (Path file : files.sorted().toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(".java")) {
+                    result.add(Class.forName(
+                            STRUCTURE_PACKAGE + "." + fileName.substring(0, fileName.length() - ".java".length())));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the concrete Node classes in the structure package, except List which the walker just looks through
+     *
+     * @return List&lt;Class&lt;?&gt;&gt; The classes, sorted by name
+     */
+    static List<Class<?>> nodeClasses() {
+        List<Class<?>> result = new ArrayList<>();
+        for (Class<?> type : structureClasses()) {
+            if (Node.class.isAssignableFrom(type) && !Node.class.equals(type)
+                    && !com.splendiddata.sqlparser.structure.List.class.equals(type)
+                    && !Modifier.isAbstract(type.getModifiers())) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fields of a Node class that may refer to other nodes: those of the super classes first, each class
+     * in declaration order
+     *
+     * @param type
+     *            The Node class
+     * @return List&lt;Field&gt; The fields
+     */
+    static List<Field> childFields(Class<?> type) {
+        List<Field> result = new ArrayList<>();
+        for (Class<?> cls = type; !Node.class.equals(cls); cls = cls.getSuperclass()) {
+            int insertAt = 0;
+            for (Field field : cls.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && (Node.class.isAssignableFrom(field.getType())
+                        || Object.class.equals(field.getType()) || List.class.isAssignableFrom(field.getType()))) {
+                    result.add(insertAt++, field);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the method of NodeVisitor that a visit method of a class delegates to by default
+     *
+     * @param type
+     *            The Node class
+     * @return String The name of the visit method of the nearest concrete super class, or visitNode
+     */
+    private static String superMethod(Class<?> type, List<Class<?>> nodeClasses) {
+        for (Class<?> cls = type.getSuperclass(); !Node.class.equals(cls); cls = cls.getSuperclass()) {
+            if (nodeClasses.contains(cls)) {
+                return "visit" + cls.getSimpleName();
+            }
+        }
+        return "visitNode";
+    }
+
+    /**
+     * Generates the source of NodeVisitor
+     *
+     * @return String The Java source
+     */
+    static String generateVisitor() {
+        List<Class<?>> nodeClasses = nodeClasses();
+        StringBuilder source = new StringBuilder(HEADER);
+        source.append("import com.splendiddata.sqlparser.structure.Node;\n");
+        for (Class<?> type : nodeClasses) {
+            source.append("import ").append(type.getName()).append(";\n");
+        }
+        source.append("""
+
+                /**
+                 * Visitor with a method per concrete Node class of the structure package. Each method delegates to the method of the
+                 * nearest concrete super class by default and in the end to {@link #visitNode(Node)}, so an implementation only needs
+                 * to override the methods of the classes it is interested in.
+                 * <p>
+                 * {@link NodeWalker#visit(Node, NodeVisitor)} calls the method that belongs to the class of a node and
+                 * {@link NodeWalker#walk(Object, NodeVisitor)} calls it for every node in a tree.
+                 * </p>
+                 * <p>
+                 * This interface is generated by NodeVisitorGenerator in the test sources. Do not edit it by hand.
+                 * </p>
+                 *
+                 * @author Splendid Data Product Development B.V.
+                 * @since 19.0
+                 * @param <R>
+                 *            The result type of the visit methods
+                 */
+                public interface NodeVisitor<R> {
+                    /**
+                     * Visits a node for which no more specific method is overridden
+                     *
+                     * @param node
+                     *            The node to visit
+                     * @return R null by default
+                     */
+                    default R visitNode(Node node) {
+                        return null;
+                    }
+                """);
+        for (Class<?> type : nodeClasses) {
+            String name = type.getSimpleName();
+            String superMethod = superMethod(type, nodeClasses);
+            source.append("\n    /**\n     * Visits a {@link ").append(name).append("}\n     *\n")
+                    .append("     * @param node\n     *            The node to visit\n")
+                    .append("     * @return R The result of {@link #").append(superMethod).append("(")
+                    .append("visitNode".equals(superMethod) ? "Node" : superMethod.substring("visit".length()))
+                    .append(")} by default\n     */\n    default R visit").append(name).append("(").append(name)
+                    .append(" node) {\n        return ").append(superMethod).append("(node);\n    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Generates the source of NodeWalker
+     *
+     * @return String The Java source
+     */
+    static String generateWalker() {
+        List<Class<?>> nodeClasses = nodeClasses();
+        StringBuilder source = new StringBuilder(HEADER);
+        source.append("import java.util.ArrayList;\n\n");
+        source.append("import com.splendiddata.sqlparser.structure.List;\n");
+        source.append("import com.splendiddata.sqlparser.structure.Node;\n");
+        for (Class<?> type : nodeClasses) {
+            source.append("import ").append(type.getName()).append(";\n");
+        }
+        source.append("""
+
+                /**
+                 * Walks a parse tree depth first and calls a {@link NodeVisitor} for every node in it.
+                 * <p>
+                 * The children of a node are reached by reading its fields directly, in a fixed order: the fields of the super
+                 * classes first, and within a class in declaration order. Lists are walked through: the visitor is called for the
+                 * elements of a List, not for the List itself. The result of the visit method of a node tells whether the walk goes on
+                 * into the children of the node, skips them, or stops altogether.
+                 * </p>
+                 * <p>
+                 * The walk keeps the nodes that are still to be walked on a stack of its own instead of recursing, so a deeply
+                 * nested tree, such as a long chain of operators, does not overflow the Java stack. That stack is the only object
+                 * that a walk allocates.
+                 * </p>
+                 * <p>
+                 * Nodes of a class that is not known to the walker, such as a subclass of a structure class, are visited and walked
+                 * as their nearest known super class.
+                 * </p>
+                 * <p>
+                 * This class is generated by NodeVisitorGenerator in the test sources. Do not edit it by hand.
+                 * </p>
+                 *
+                 * @author Splendid Data Product Development B.V.
+                 * @since 19.0
+                 */
+                public final class NodeWalker {
+                    /**
+                     * What the walk does after a node has been visited
+                     */
+                    public enum Action {
+                        /** Walk the children of the node, then go on with the rest of the tree */
+                        CONTINUE,
+                        /** Do not walk the children of the node, but go on with the rest of the tree */
+                        SKIP_CHILDREN,
+                        /** Stop walking */
+                        STOP
+                    }
+
+                    /**
+                     * The known classes. The index of a class in this array is its case in the switch statements.
+                     */
+                    private static final Class<?>[] CLASSES = {
+                """);
+        for (Class<?> type : nodeClasses) {
+            source.append("            ").append(type.getSimpleName()).append(".class,\n");
+        }
+        source.append("""
+                    };
+
+                    /**
+                     * The index in {@link #CLASSES} of a class or of its nearest known super class, -1 if there is none
+                     */
+                    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+                        @Override
+                        protected Integer computeValue(Class<?> type) {
+                            for (int i = 0; i < CLASSES.length; i++) {
+                                if (CLASSES[i].equals(type)) {
+                                    return Integer.valueOf(i);
+                                }
+                            }
+                            Class<?> superclass = type.getSuperclass();
+                            if (superclass != null && Node.class.isAssignableFrom(superclass)) {
+                                return get(superclass);
+                            }
+                            return Integer.valueOf(-1);
+                        }
+                    };
+
+                    /**
+                     * No instances
+                     */
+                    private NodeWalker() {
+                        // static methods only
+                    }
+
+                    /**
+                     * Calls the method of the visitor that belongs to the class of the node
+                     *
+                     * @param <R>
+                     *            The result type of the visitor
+                     * @param node
+                     *            The node to visit, not null
+                     * @param visitor
+                     *            The visitor
+                     * @return R The result of the visit method
+                     */
+                    public static <R> R visit(Node node, NodeVisitor<R> visitor) {
+                        return visit(INDEXES.get(node.getClass()).intValue(), node, visitor);
+                    }
+
+                    /**
+                     * Walks a tree depth first, visiting each node before its children. A null result of a visit method counts as
+                     * {@link Action#CONTINUE}.
+                     *
+                     * @param tree
+                     *            The tree to walk: a Node, a List of Nodes like a parse result, or null
+                     * @param visitor
+                     *            The visitor that is called for every node
+                     * @return boolean false if the walk was stopped by {@link Action#STOP}, true if it completed
+                     */
+                    public static boolean walk(Object tree, NodeVisitor<Action> visitor) {
+                        ArrayList<Node> stack = new ArrayList<>();
+                        push(tree, stack);
+                        while (!stack.isEmpty()) {
+                            Node node = stack.remove(stack.size() - 1);
+                            if (node instanceof List<?> list) {
+                                for (int i = list.size() - 1; i >= 0; i--) {
+                                    push(list.get(i), stack);
+                                }
+                                continue;
+                            }
+                            int index = INDEXES.get(node.getClass()).intValue();
+                            Action action = visit(index, node, visitor);
+                            if (action == Action.STOP) {
+                                return false;
+                            }
+                            if (action != Action.SKIP_CHILDREN) {
+                                pushChildren(index, node, stack);
+                            }
+                        }
+                        return true;
+                    }
+
+                    /**
+                     * Pushes a field or list element on the stack of nodes that are still to be walked if it is a node
+                     *
+                     * @param object
+                     *            The field or list element, may be null
+                     * @param stack
+                     *            The nodes that are still to be walked, the last one first
+                     */
+                    private static void push(Object object, ArrayList<Node> stack) {
+                        if (object instanceof Node node) {
+                            stack.add(node);
+                        }
+                    }
+
+                    /**
+                     * Calls the visit method for a class
+                     *
+                     * @param <R>
+                     *            The result type of the visitor
+                     * @param index
+                     *            The index of the class in {@link #CLASSES}
+                     * @param node
+                     *            The node to visit
+                     * @param visitor
+                     *            The visitor
+                     * @return R The result of the visit method
+                     */
+                    private static <R> R visit(int index, Node node, NodeVisitor<R> visitor) {
+                        switch (index) {
+                """);
+        for (int i = 0; i < nodeClasses.size(); i++) {
+            String name = nodeClasses.get(i).getSimpleName();
+            source.append("        case ").append(i).append(":\n            return visitor.visit").append(name)
+                    .append("((").append(name).append(") node);\n");
+        }
+        source.append("""
+                        default:
+                            return visitor.visitNode(node);
+                        }
+                    }
+
+                    /**
+                     * Pushes the children of a node on the stack, the last child first so that the first child is walked first
+                     *
+                     * @param index
+                     *            The index of the class of the node in {@link #CLASSES}
+                     * @param node
+                     *            The node of which the children are to be walked
+                     * @param stack
+                     *            The nodes that are still to be walked, the last one first
+                     */
+                    private static void pushChildren(int index, Node node, ArrayList<Node> stack) {
+                        switch (index) {
+                """);
+        for (int i = 0; i < nodeClasses.size(); i++) {
+            Class<?> type = nodeClasses.get(i);
+            if (!childFields(type).isEmpty()) {
+                source.append("        case ").append(i).append(":\n            push").append(type.getSimpleName())
+                        .append("((").append(type.getSimpleName()).append(") node, stack);\n            break;\n");
+            }
+        }
+        source.append("""
+                        default:
+                            break;
+                        }
+                    }
+                """);
+        for (Class<?> type : nodeClasses) {
+            List<Field> fields = childFields(type);
+            if (fields.isEmpty()) {
+                continue;
+            }
+            String name = type.getSimpleName();
+            source.append("\n    /**\n     * Pushes the children of a {@link ").append(name).append("}\n     *\n")
+                    .append("     * @param node\n     *            The node of which the children are to be walked\n")
+                    .append("     * @param stack\n     *            The nodes that are still to be walked\n     */\n")
+                    .append("    private static void push").append(name).append("(").append(name)
+                    .append(" node, ArrayList<Node> stack) {\n");
+            for (int i = fields.size() - 1; i >= 0; i--) {
+                source.append("        push(node.").append(fields.get(i).getName()).append(", stack);\n");
+            }
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.splendiddata.sqlparser.enums.NodeTag;
+import com.splendiddata.sqlparser.structure.A_Const;
+import com.splendiddata.sqlparser.structure.A_Expr;
+import com.splendiddata.sqlparser.structure.ColumnRef;
+import com.splendiddata.sqlparser.structure.DeleteStmt;
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.RangeVar;
+import com.splendiddata.sqlparser.structure.ResTarget;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+import com.splendiddata.sqlparser.structure.Stmt;
+import com.splendiddata.sqlparser.structure.Value;
+
+/**
+ * Tests the NodeWalker and the NodeVisitor
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class NodeWalkerTest {
+
+    private static Value string(String s) {
+        Value value = new Value(NodeTag.T_String);
+        value.val.str = s;
+        return value;
+    }
+
+    private static ColumnRef columnRef(String name) {
+        ColumnRef column = new ColumnRef();
+        column.fields = new List<>();
+        column.fields.add(string(name));
+        return column;
+    }
+
+    /**
+     * Builds "select a from t where a = 'x'" by hand
+     *
+     * @return SelectStmt The statement
+     */
+    private static SelectStmt createStatement() {
+        ResTarget target = new ResTarget();
+        target.val = columnRef("a");
+        RangeVar table = new RangeVar();
+        table.relname = "t";
+        A_Expr condition = new A_Expr();
+        condition.name = new List<>();
+        condition.name.add(string("="));
+        condition.lexpr = columnRef("a");
+        A_Const constant = new A_Const();
+        constant.val = string("x");
+        condition.rexpr = constant;
+        SelectStmt stmt = new SelectStmt();
+        stmt.targetList = new List<>();
+        stmt.targetList.add(target);
+        stmt.fromClause = new List<>();
+        stmt.fromClause.add(table);
+        stmt.whereClause = condition;
+        return stmt;
+    }
+
+    /**
+     * Records the nodes it visits, and stops at or skips the children of nodes of a class
+     */
+    private static final class Recorder implements NodeVisitor<NodeWalker.Action> {
+        final ArrayList<String> visited = new ArrayList<>();
+        private final Class<?> actOn;
+        private final NodeWalker.Action action;
+
+        Recorder(Class<?> actOn, NodeWalker.Action action) {
+            this.actOn = actOn;
+            this.action = action;
+        }
+
+        @Override
+        public NodeWalker.Action visitNode(Node node) {
+            visited.add(node instanceof Value ? node.toString() : node.getClass().getSimpleName());
+            return node.getClass().equals(actOn) ? action : NodeWalker.Action.CONTINUE;
+        }
+    }
+
+    @Test
+    void walkOrder() {
+        Recorder recorder = new Recorder(null, null);
+        Assertions.assertTrue(NodeWalker.walk(createStatement(), recorder));
+        Assertions.assertEquals("[SelectStmt, ResTarget, ColumnRef, a, RangeVar, A_Expr, =, ColumnRef, a, A_Const, x]",
+                recorder.visited.toString());
+
+        recorder = new Recorder(A_Expr.class, NodeWalker.Action.SKIP_CHILDREN);
+        Assertions.assertTrue(NodeWalker.walk(new List<>(Collections.singleton(createStatement())), recorder));
+        Assertions.assertEquals("[SelectStmt, ResTarget, ColumnRef, a, RangeVar, A_Expr]", recorder.visited.toString());
+
+        recorder = new Recorder(RangeVar.class, NodeWalker.Action.STOP);
+        Assertions.assertFalse(NodeWalker.walk(createStatement(), recorder));
+        Assertions.assertEquals("[SelectStmt, ResTarget, ColumnRef, a, RangeVar]", recorder.visited.toString());
+
+        Assertions.assertTrue(NodeWalker.walk(null, recorder));
+    }
+
+    /**
+     * Walks "select 1 + 1 + ... + 1" with 100,000 terms, a tree that is far deeper than a small Java stack can recurse
+     * into
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    void deepTree() throws Exception {
+        List<Node> statements = ParsedSql.parse("select 1" + " + 1".repeat(100_000));
+        int[] counts = new int[2];
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                NodeWalker.walk(statements, new NodeVisitor<NodeWalker.Action>() {
+                    @Override
+                    public NodeWalker.Action visitNode(Node node) {
+                        return NodeWalker.Action.CONTINUE;
+                    }
+
+                    @Override
+                    public NodeWalker.Action visitA_Expr(A_Expr node) {
+                        counts[0]++;
+                        return NodeWalker.Action.CONTINUE;
+                    }
+
+                    @Override
+                    public NodeWalker.Action visitA_Const(A_Const node) {
+                        counts[1]++;
+                        return NodeWalker.Action.CONTINUE;
+                    }
+                });
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }, "deepTree", 256 * 1024);
+        thread.start();
+        thread.join();
+        Assertions.assertNull(failure[0]);
+        Assertions.assertEquals(100_000, counts[0], "operators");
+        Assertions.assertEquals(100_001, counts[1], "constants");
+    }
+
+    @Test
+    void visit() {
+        NodeVisitor<String> visitor = new NodeVisitor<>() {
+            @Override
+            public String visitNode(Node node) {
+                return "node";
+            }
+
+            @Override
+            public String visitStmt(Stmt node) {
+                return "stmt";
+            }
+
+            @Override
+            public String visitColumnRef(ColumnRef node) {
+                return "columnRef";
+            }
+        };
+        Assertions.assertEquals("columnRef", NodeWalker.visit(columnRef("a"), visitor));
+        Assertions.assertEquals("columnRef", NodeWalker.visit(new ColumnRef() {
+            // A subclass is visited as its super class
+        }, visitor));
+        Assertions.assertEquals("stmt", NodeWalker.visit(new DeleteStmt(), visitor));
+        Assertions.assertEquals("node", NodeWalker.visit(new SelectStmt(), visitor));
+        Assertions.assertEquals("node", NodeWalker.visit(new Node(), visitor));
+    }
+
+    /**
+     * Fills in every field of every Node class that may refer to another node, and checks that the walker visits them
+     * all
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    void allChildrenAreWalked() throws Exception {
+        for (Class<?> type : NodeVisitorGenerator.nodeClasses()) {
+            Node node = newInstance(type);
+            if (node == null) {
+                continue;
+            }
+            Set<Node> children = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Field field : NodeVisitorGenerator.childFields(type)) {
+                Node child = createChild(field.getType());
+                if (child != null) {
+                    field.setAccessible(true);
+                    if (java.util.List.class.isAssignableFrom(field.getType())) {
+                        List<Node> list = new List<>();
+                        list.add(child);
+                        field.set(node, list);
+                    } else {
+                        field.set(node, child);
+                    }
+                    children.add(child);
+                }
+            }
+            NodeWalker.walk(node, new NodeVisitor<NodeWalker.Action>() {
+                @Override
+                public NodeWalker.Action visitNode(Node visited) {
+                    children.remove(visited);
+                    return visited == node ? NodeWalker.Action.CONTINUE : NodeWalker.Action.SKIP_CHILDREN;
+                }
+            });
+            Assertions.assertEquals(Collections.emptySet(), children, "Not walked in " + type.getSimpleName());
+        }
+    }
+
+    /**
+     * Creates a node that can be stored in a field of a type
+     *
+     * @param fieldType
+     *            The type of the field
+     * @return Node The node, or null if no node of the type can be created
+     */
+    private static Node createChild(Class<?> fieldType) {
+        if (java.util.List.class.isAssignableFrom(fieldType) || Object.class.equals(fieldType)
+                || Node.class.equals(fieldType)) {
+            return string("child");
+        }
+        for (Class<?> type : NodeVisitorGenerator.nodeClasses()) {
+            if (fieldType.isAssignableFrom(type)
+                    && (fieldType.equals(type) || Modifier.isAbstract(fieldType.getModifiers()))) {
+                Node child = newInstance(type);
+                if (child != null) {
+                    return child;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a node by its no-arg constructor
+     *
+     * @param type
+     *            The class of the node
+     * @return Node The node, or null if the class cannot be instantiated that way
+     */
+    private static Node newInstance(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return (Node) constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    @Test
+    void generatedSourcesAreUpToDate() throws Exception {
+        Assertions.assertEquals(NodeVisitorGenerator.generateVisitor(),
+                Files.readString(NodeVisitorGenerator.sourceFile("NodeVisitor"), StandardCharsets.UTF_8),
+                "Please run NodeVisitorGenerator");
+        Assertions.assertEquals(NodeVisitorGenerator.generateWalker(),
+                Files.readString(NodeVisitorGenerator.sourceFile("NodeWalker"), StandardCharsets.UTF_8),
+                "Please run NodeVisitorGenerator");
+    }
+}
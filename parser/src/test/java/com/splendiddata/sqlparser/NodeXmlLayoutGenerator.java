@@ -0,0 +1,864 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.xml.stream.XMLStreamException;
+
+import jakarta.xml.bind.annotation.XmlAnyElement;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
+
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Generates NodeXmlLayout in the structure package, which {@link NodeXmlWriter} uses to write the nodes without
+ * reflection.
+ * <p>
+ * The layout is derived from the JAXB annotations of the structure classes, the way the JAXB marshaller interpreted
+ * them: the root element name and namespace from {@link XmlRootElement}, the {@link XmlAttribute},
+ * {@link XmlElement}, {@link XmlElementWrapper} and {@link XmlAnyElement} annotated fields and getters plus the public
+ * fields that are not {@link XmlTransient}. Attributes are written for the class itself first and then for its super
+ * classes, elements for the super classes first.
+ * </p>
+ * <p>
+ * Run the main method from the parser directory after a structure class has been added or changed:
+ * <code>mvn test-compile exec:java -Dexec.mainClass=com.splendiddata.sqlparser.NodeXmlLayoutGenerator
+ * -Dexec.classpathScope=test</code>. NodeXmlWriterTest fails as long as the generated source is out of date.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+final class NodeXmlLayoutGenerator {
+    private static final String STRUCTURE_PACKAGE = Node.class.getPackageName();
+
+    private static final String ANNOTATION_DEFAULT = "##default";
+
+    /**
+     * The order of the groups of imports, as in the rest of the sources
+     */
+    private static final String[] IMPORT_GROUPS = { "java.", "javax.", "jakarta.", "org.", "com." };
+
+    /**
+     * No instances
+     */
+    private NodeXmlLayoutGenerator() {
+        // static methods only
+    }
+
+    /**
+     * Writes NodeXmlLayout.java
+     *
+     * @param args
+     *            Not used
+     * @throws IOException
+     *             If writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        Files.writeString(sourceFile(), generate(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the path of NodeXmlLayout.java
+     *
+     * @return Path The source file
+     */
+    static Path sourceFile() {
+        return NodeVisitorGenerator.parserDirectory()
+                .resolve("src/main/java/com/splendiddata/sqlparser/structure/NodeXmlLayout.java");
+    }
+
+    /**
+     * Returns the classes of the structure package that may be found in a tree: all but the interfaces, enums and the
+     * generated layouts
+     *
+     * @return List&lt;Class&lt;?&gt;&gt; The classes, sorted by name
+     */
+    static List<Class<?>> layoutClasses() {
+        List<Class<?>> result = new ArrayList<>();
+        for (Class<?> type : NodeVisitorGenerator.structureClasses()) {
+            if (!type.isInterface() && !type.isEnum() && !"NodeXmlLayout".equals(type.getSimpleName())
+                    && !"NodeBinaryLayout".equals(type.getSimpleName())) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A field or getter that is written as an attribute or as element(s)
+     *
+     * @param access
+     *            The Java expression that reads the property from a variable named node
+     * @param name
+     *            The attribute or element name
+     * @param wrapper
+     *            The name of the wrapper element, null if none
+     * @param attribute
+     *            The property is written as an attribute
+     * @param any
+     *            The items are written as elements named after their class
+     * @param collection
+     *            Every element of the collection value is written as an element
+     * @param primitive
+     *            The value is of a primitive type, so it is never null
+     * @param type
+     *            The declared type of the value, or of the items of a collection
+     */
+    private record Property(String access, String name, String wrapper, boolean attribute, boolean any,
+            boolean collection, boolean primitive, Class<?> type) {
+    }
+
+    /**
+     * Determines the attributes and elements of a class
+     *
+     * @param type
+     *            The class
+     * @param attributes
+     *            Receives the attribute properties, those of the class itself first
+     * @param elements
+     *            Receives the element properties, those of the super classes first
+     * @param imports
+     *            Receives the imports that the generated code needs
+     */
+    private static void properties(Class<?> type, List<Property> attributes, List<Property> elements,
+            Set<String> imports) {
+        for (Class<?> cls = type; cls != null && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+            List<Property> classElements = new ArrayList<>();
+            for (Field field : cls.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || field.isAnnotationPresent(XmlTransient.class)
+                        || !(Modifier.isPublic(modifiers) || isMapped(field))) {
+                    continue;
+                }
+                String access = "node." + field.getName();
+                if (isHidden(type, cls, field.getName())) {
+                    access = "((" + javaName(cls, imports) + ") node)." + field.getName();
+                }
+                addProperty(property(field, access, field.getName(), field.getType(), field.getGenericType()),
+                        attributes, classElements);
+            }
+            Method[] methods = cls.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method method : methods) {
+                if (Modifier.isStatic(method.getModifiers()) || method.isSynthetic() || method.getParameterCount() != 0
+                        || void.class.equals(method.getReturnType()) || !isMapped(method)
+                        || method.isAnnotationPresent(XmlTransient.class)) {
+                    continue;
+                }
+                if (Modifier.isPrivate(method.getModifiers())) {
+                    throw new IllegalStateException(method + " is to be package private to be called by NodeXmlLayout");
+                }
+                addProperty(property(method, "node." + method.getName() + "()", getPropertyName(method),
+                        method.getReturnType(), method.getGenericReturnType()), attributes, classElements);
+            }
+            elements.addAll(0, classElements);
+        }
+    }
+
+    /**
+     * Tells if a field is hidden by a field with the same name in a subclass
+     *
+     * @param type
+     *            The class that is being written
+     * @param declaringClass
+     *            The class that declares the field
+     * @param name
+     *            The name of the field
+     * @return boolean true if a class between type and declaringClass declares a field with the same name
+     */
+    static boolean isHidden(Class<?> type, Class<?> declaringClass, String name) {
+        for (Class<?> cls = type; !cls.equals(declaringClass); cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a property to either the attributes or the elements
+     *
+     * @param property
+     *            The property to add
+     * @param attributes
+     *            The attributes
+     * @param elements
+     *            The elements
+     */
+    private static void addProperty(Property property, List<Property> attributes, List<Property> elements) {
+        if (property.attribute()) {
+            attributes.add(property);
+        } else {
+            elements.add(property);
+        }
+    }
+
+    /**
+     * Creates a property from the annotations of a member
+     *
+     * @param member
+     *            The field or getter
+     * @param access
+     *            The Java expression that reads the property
+     * @param propertyName
+     *            The name of the field or the getter's property
+     * @param rawType
+     *            The declared type
+     * @param genericType
+     *            The generic declared type
+     * @return Property The property
+     */
+    private static Property property(AnnotatedElement member, String access, String propertyName, Class<?> rawType,
+            Type genericType) {
+        XmlAttribute xmlAttribute = member.getAnnotation(XmlAttribute.class);
+        XmlElement xmlElement = member.getAnnotation(XmlElement.class);
+        XmlElementWrapper xmlElementWrapper = member.getAnnotation(XmlElementWrapper.class);
+        boolean attribute = xmlAttribute != null;
+        String name;
+        if (xmlAttribute != null && !ANNOTATION_DEFAULT.equals(xmlAttribute.name())) {
+            name = xmlAttribute.name();
+        } else if (xmlElement != null && !ANNOTATION_DEFAULT.equals(xmlElement.name())) {
+            name = xmlElement.name();
+        } else if (attribute) {
+            name = NodeXmlWriter.toXmlName(propertyName);
+        } else {
+            name = propertyName;
+        }
+        String wrapper = null;
+        if (xmlElementWrapper != null) {
+            wrapper = ANNOTATION_DEFAULT.equals(xmlElementWrapper.name()) ? propertyName : xmlElementWrapper.name();
+        }
+        boolean collection = !attribute && Collection.class.isAssignableFrom(rawType);
+        return new Property(access, name, wrapper, attribute, member.isAnnotationPresent(XmlAnyElement.class),
+                collection, rawType.isPrimitive(), collection ? getItemType(genericType) : rawType);
+    }
+
+    /**
+     * Tells if a member is annotated to be mapped to xml
+     *
+     * @param member
+     *            The field or method
+     * @return boolean true if the member has an XmlAttribute, XmlElement, XmlElementWrapper or XmlAnyElement
+     *         annotation
+     */
+    private static boolean isMapped(AnnotatedElement member) {
+        return member.isAnnotationPresent(XmlAttribute.class) || member.isAnnotationPresent(XmlElement.class)
+                || member.isAnnotationPresent(XmlElementWrapper.class)
+                || member.isAnnotationPresent(XmlAnyElement.class);
+    }
+
+    /**
+     * Derives the property name from the name of a getter method
+     *
+     * @param method
+     *            The getter
+     * @return String The name without "get" or "is" and starting with a lower case letter
+     */
+    private static String getPropertyName(Method method) {
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            name = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2) {
+            name = name.substring(2);
+        }
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Determines the declared item type of a collection
+     *
+     * @param collectionType
+     *            The generic type of the collection
+     * @return Class&lt;?&gt; The item type, Object if not known
+     */
+    private static Class<?> getItemType(Type collectionType) {
+        if (collectionType instanceof ParameterizedType parameterized) {
+            return toClass(parameterized.getActualTypeArguments()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * Returns the class of a type
+     *
+     * @param type
+     *            The type
+     * @return Class&lt;?&gt; The class, or the bound of a wildcard or a type variable
+     */
+    private static Class<?> toClass(Type type) {
+        if (type instanceof Class<?> cls) {
+            return cls;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return toClass(parameterized.getRawType());
+        }
+        if (type instanceof WildcardType wildcard) {
+            return toClass(wildcard.getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable<?> variable) {
+            return toClass(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * Returns the name by which a class can be referred to in a class that is generated in the structure package
+     *
+     * @param type
+     *            The class
+     * @param imports
+     *            Receives the import that is needed for the class, if any
+     * @return String The simple name, or the canonical name if a class of the structure package has the same simple
+     *         name
+     */
+    static String javaName(Class<?> type, Set<String> imports) {
+        if (type.isPrimitive() || STRUCTURE_PACKAGE.equals(type.getPackageName()) && type.getEnclosingClass() == null) {
+            return type.getSimpleName();
+        }
+        try {
+            Class.forName(STRUCTURE_PACKAGE + "." + type.getSimpleName());
+            return type.getCanonicalName();
+        } catch (ClassNotFoundException e) {
+            if (!"java.lang".equals(type.getPackageName()) || type.getEnclosingClass() != null) {
+                imports.add(type.getCanonicalName());
+            }
+            return type.getSimpleName();
+        }
+    }
+
+    /**
+     * Returns the type of the node parameter of the generated methods for a class
+     *
+     * @param type
+     *            A class of the structure package
+     * @return String The name of the class, with wildcards for its type parameters
+     */
+    private static String parameterType(Class<?> type) {
+        int typeParameters = type.getTypeParameters().length;
+        if (typeParameters == 0) {
+            return type.getSimpleName();
+        }
+        return type.getSimpleName() + "<?" + ", ?".repeat(typeParameters - 1) + ">";
+    }
+
+    /**
+     * Returns a Java String literal, or null
+     *
+     * @param text
+     *            The text, may be null
+     * @return String The literal
+     */
+    private static String literal(String text) {
+        if (text == null) {
+            return "null";
+        }
+        return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    /**
+     * Generates the source of NodeXmlLayout
+     *
+     * @return String The Java source
+     */
+    static String generate() {
+        List<Class<?>> classes = layoutClasses();
+        List<List<Property>> attributesPerClass = new ArrayList<>();
+        List<List<Property>> elementsPerClass = new ArrayList<>();
+        Set<String> imports = new TreeSet<>();
+        imports.add(Collection.class.getName());
+        imports.add(XMLStreamException.class.getName());
+        for (Class<?> type : classes) {
+            List<Property> attributes = new ArrayList<>();
+            List<Property> elements = new ArrayList<>();
+            properties(type, attributes, elements, imports);
+            attributesPerClass.add(attributes);
+            elementsPerClass.add(elements);
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append("""
+                /*
+                 * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+                 *
+                 * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+                 * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+                 * version.
+                 *
+                 * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+                 * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+                 *
+                 * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+                 * obtain one via www.gnu.org/licenses/.
+                 */
+
+                package com.splendiddata.sqlparser.structure;
+
+                /**
+                 * The xml layout of the classes of the structure package, as derived from their JAXB annotations: the name and
+                 * namespace of the root element of a class and the attributes and elements that its instances are written with.
+                 * <p>
+                 * {@link com.splendiddata.sqlparser.NodeXmlWriter} writes a node by calling {@link #writeAttributes(int, Object, Sink)}
+                 * and {@link #writeElements(int, Object, Sink, int)}, which read the fields and getters of the node directly and pass
+                 * their values on to a {@link Sink}. Nodes of a class that is not known here, such as a subclass of a structure class,
+                 * are written with the layout of their nearest known super class.
+                 * </p>
+                 * <p>
+                 * This class is generated by NodeXmlLayoutGenerator in the test sources. Do not edit it by hand.
+                 * </p>
+                 *
+                 * @author Splendid Data Product Development B.V.
+                 * @since 19.0
+                 */
+                public final class NodeXmlLayout {
+                    /**
+                     * Receives the attributes and elements of a node
+                     */
+                    public interface Sink {
+                        /**
+                         * Writes an attribute of the element that was just started
+                         *
+                         * @param name
+                         *            The name of the attribute
+                         * @param value
+                         *            The value of the attribute. Nothing is written if it is null.
+                         * @throws XMLStreamException
+                         *             If writing fails
+                         */
+                        void attribute(String name, Object value) throws XMLStreamException;
+
+                        /**
+                         * Writes a single valued element property
+                         *
+                         * @param wrapper
+                         *            The name of the wrapper element, null if none
+                         * @param name
+                         *            The name of the element
+                         * @param declaredType
+                         *            The declared type of the value
+                         * @param any
+                         *            true if the value is to be written as an element that is named after its class
+                         * @param value
+                         *            The value. Nothing is written if it is null.
+                         * @param depth
+                         *            The nesting depth of the element
+                         * @throws XMLStreamException
+                         *             If writing fails
+                         */
+                        void element(String wrapper, String name, Class<?> declaredType, boolean any, Object value, int depth)
+                                throws XMLStreamException;
+
+                        /**
+                         * Writes an element per item of a collection property
+                         *
+                         * @param wrapper
+                         *            The name of the wrapper element, null if none
+                         * @param name
+                         *            The name of the item elements
+                         * @param declaredType
+                         *            The declared type of the items
+                         * @param any
+                         *            true if the items are to be written as elements that are named after their class
+                         * @param values
+                         *            The items. Nothing is written if it is null.
+                         * @param depth
+                         *            The nesting depth of the (wrapper) element
+                         * @throws XMLStreamException
+                         *             If writing fails
+                         */
+                        void elements(String wrapper, String name, Class<?> declaredType, boolean any, Collection<?> values,
+                                int depth) throws XMLStreamException;
+                    }
+
+                    /**
+                     * The known classes. The index of a class in this array is its case in the switch statements.
+                     */
+                    private static final Class<?>[] CLASSES = {
+                """);
+        for (Class<?> type : classes) {
+            source.append("            ").append(type.getSimpleName()).append(".class,\n");
+        }
+        source.append("""
+                    };
+
+                    /**
+                     * The namespaces of the root elements of the known classes, null for no namespace
+                     */
+                    private static final String[] ROOT_NAMESPACES = {
+                """);
+        for (Class<?> type : classes) {
+            XmlRootElement root = type.getAnnotation(XmlRootElement.class);
+            String namespace = root == null ? NodeXmlWriter.NAMESPACE : root.namespace();
+            source.append("            ")
+                    .append(literal(ANNOTATION_DEFAULT.equals(namespace) || namespace.isEmpty() ? null : namespace))
+                    .append(",\n");
+        }
+        source.append("""
+                    };
+
+                    /**
+                     * The names of the root elements of the known classes
+                     */
+                    private static final String[] ROOT_NAMES = {
+                """);
+        for (Class<?> type : classes) {
+            XmlRootElement root = type.getAnnotation(XmlRootElement.class);
+            source.append("            ")
+                    .append(literal(root == null || ANNOTATION_DEFAULT.equals(root.name())
+                            ? NodeXmlWriter.toXmlName(type.getSimpleName())
+                            : root.name()))
+                    .append(",\n");
+        }
+        source.append("""
+                    };
+
+                    /**
+                     * The index in {@link #CLASSES} of a class or of its nearest known super class, -1 if there is none
+                     */
+                    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+                        @Override
+                        protected Integer computeValue(Class<?> type) {
+                            for (int i = 0; i < CLASSES.length; i++) {
+                                if (CLASSES[i].equals(type)) {
+                                    return Integer.valueOf(i);
+                                }
+                            }
+                            Class<?> superclass = type.getSuperclass();
+                            if (superclass != null) {
+                                return get(superclass);
+                            }
+                            return Integer.valueOf(-1);
+                        }
+                    };
+
+                    /**
+                     * No instances
+                     */
+                    private NodeXmlLayout() {
+                        // static methods only
+                    }
+
+                    /**
+                     * Returns the index of the layout of a class
+                     *
+                     * @param type
+                     *            The class
+                     * @return int The index of the class or of its nearest known super class, -1 if there is none
+                     */
+                    public static int indexOf(Class<?> type) {
+                        return INDEXES.get(type).intValue();
+                    }
+
+                    /**
+                     * Tells if a class has a layout of its own
+                     *
+                     * @param index
+                     *            The index as returned by {@link #indexOf(Class)}
+                     * @param type
+                     *            The class
+                     * @return boolean true if the index is that of the class itself, false if it is that of a super class
+                     */
+                    public static boolean isLayoutOf(int index, Class<?> type) {
+                        return index >= 0 && CLASSES[index].equals(type);
+                    }
+
+                    /**
+                     * Returns the namespace of the root element of a class
+                     *
+                     * @param index
+                     *            The index of the class
+                     * @return String The namespace, null for no namespace
+                     */
+                    public static String rootNamespace(int index) {
+                        return ROOT_NAMESPACES[index];
+                    }
+
+                    /**
+                     * Returns the name of the root element of a class
+                     *
+                     * @param index
+                     *            The index of the class
+                     * @return String The element name
+                     */
+                    public static String rootName(int index) {
+                        return ROOT_NAMES[index];
+                    }
+
+                    /**
+                     * Tells if there is at least one non-null item in a collection
+                     *
+                     * @param values
+                     *            The collection, may be null
+                     * @return boolean true if an element will be written for one of the items
+                     */
+                    private static boolean hasItem(Collection<?> values) {
+                        if (values != null) {
+                            for (Object value : values) {
+                                if (value != null) {
+                                    return true;
+                                }
+                            }
+                        }
+                        return false;
+                    }
+
+                    /**
+                     * Tells if a node has child elements
+                     *
+                     * @param index
+                     *            The index of the class of the node
+                     * @param node
+                     *            The node
+                     * @return boolean true if at least one element will be written for the node
+                     */
+                    public static boolean hasContent(int index, Object node) {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            if (!elementsPerClass.get(i).isEmpty()) {
+                appendCase(source, i, "return hasContent", classes.get(i), "");
+            }
+        }
+        source.append("""
+                        default:
+                            return false;
+                        }
+                    }
+
+                    /**
+                     * Writes the attributes of a node
+                     *
+                     * @param index
+                     *            The index of the class of the node
+                     * @param node
+                     *            The node
+                     * @param sink
+                     *            The sink to write to
+                     * @throws XMLStreamException
+                     *             If writing fails
+                     */
+                    public static void writeAttributes(int index, Object node, Sink sink) throws XMLStreamException {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            if (!attributesPerClass.get(i).isEmpty()) {
+                appendCase(source, i, "writeAttributes", classes.get(i), ", sink");
+            }
+        }
+        source.append("""
+                        default:
+                            break;
+                        }
+                    }
+
+                    /**
+                     * Writes the child elements of a node
+                     *
+                     * @param index
+                     *            The index of the class of the node
+                     * @param node
+                     *            The node
+                     * @param sink
+                     *            The sink to write to
+                     * @param depth
+                     *            The nesting depth of the child elements
+                     * @throws XMLStreamException
+                     *             If writing fails
+                     */
+                    public static void writeElements(int index, Object node, Sink sink, int depth) throws XMLStreamException {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            if (!elementsPerClass.get(i).isEmpty()) {
+                appendCase(source, i, "writeElements", classes.get(i), ", sink, depth");
+            }
+        }
+        source.append("""
+                        default:
+                            break;
+                        }
+                    }
+                """);
+
+        for (int i = 0; i < classes.size(); i++) {
+            Class<?> type = classes.get(i);
+            String name = type.getSimpleName();
+            List<Property> attributes = attributesPerClass.get(i);
+            List<Property> elements = elementsPerClass.get(i);
+            if (!elements.isEmpty()) {
+                source.append("\n    /**\n     * Tells if a {@link ").append(name)
+                        .append("} has child elements\n     *\n")
+                        .append("     * @param node\n     *            The node\n")
+                        .append("     * @return boolean true if at least one element will be written\n     */\n")
+                        .append("    private static boolean hasContent").append(name).append("(")
+                        .append(parameterType(type)).append(" node) {\n        return ");
+                String separator = "";
+                boolean always = false;
+                for (Property element : elements) {
+                    if (element.primitive()) {
+                        always = true;
+                        break;
+                    }
+                }
+                if (always) {
+                    source.append("true");
+                } else {
+                    for (Property element : elements) {
+                        source.append(separator);
+                        separator = "\n                || ";
+                        if (element.collection() && element.wrapper() == null) {
+                            source.append("hasItem(").append(element.access()).append(")");
+                        } else {
+                            source.append(element.access()).append(" != null");
+                        }
+                    }
+                }
+                source.append(";\n    }\n");
+            }
+            if (!attributes.isEmpty()) {
+                source.append("\n    /**\n     * Writes the attributes of a {@link ").append(name).append("}\n     *\n")
+                        .append("     * @param node\n     *            The node\n")
+                        .append("     * @param sink\n     *            The sink to write to\n")
+                        .append("     * @throws XMLStreamException\n     *             If writing fails\n     */\n");
+                appendSignature(source, "private static void writeAttributes" + name + "(" + parameterType(type)
+                        + " node, Sink sink)", XMLStreamException.class);
+                for (Property attribute : attributes) {
+                    source.append("        sink.attribute(").append(literal(attribute.name())).append(", ")
+                            .append(attribute.access()).append(");\n");
+                }
+                source.append("    }\n");
+            }
+            if (!elements.isEmpty()) {
+                source.append("\n    /**\n     * Writes the child elements of a {@link ").append(name)
+                        .append("}\n     *\n")
+                        .append("     * @param node\n     *            The node\n")
+                        .append("     * @param sink\n     *            The sink to write to\n")
+                        .append("     * @param depth\n     *            The nesting depth of the child elements\n")
+                        .append("     * @throws XMLStreamException\n     *             If writing fails\n     */\n");
+                appendSignature(source, "private static void writeElements" + name + "(" + parameterType(type)
+                        + " node, Sink sink, int depth)", XMLStreamException.class);
+                for (Property element : elements) {
+                    String line = "        sink." + (element.collection() ? "elements(" : "element(")
+                            + literal(element.wrapper()) + ", " + literal(element.name()) + ", "
+                            + javaName(element.type(), imports) + ".class, " + element.any() + ",";
+                    String value = element.access() + ", depth);";
+                    source.append(line).append(line.length() + 1 + value.length() <= 120 ? " " : "\n                ")
+                            .append(value).append('\n');
+                }
+                source.append("    }\n");
+            }
+        }
+        source.append("}\n");
+        return insertImports(source, imports);
+    }
+
+    /**
+     * Inserts the import statements between the package statement and the class javadoc of a generated source
+     *
+     * @param source
+     *            The source without imports
+     * @param imports
+     *            The classes to import
+     * @return String The complete source
+     */
+    static String insertImports(StringBuilder source, Set<String> imports) {
+        String header = source.substring(0, source.indexOf("/**", source.indexOf("package ")));
+        StringBuilder importLines = new StringBuilder();
+        for (String group : IMPORT_GROUPS) {
+            boolean found = false;
+            for (String name : imports) {
+                if (name.startsWith(group)) {
+                    importLines.append("import ").append(name).append(";\n");
+                    found = true;
+                }
+            }
+            if (found) {
+                importLines.append('\n');
+            }
+        }
+        return source.insert(header.length(), importLines).toString();
+    }
+
+    /**
+     * Appends a method signature, with the throws clause on a line of its own if the signature is too long
+     *
+     * @param source
+     *            The source to append to
+     * @param signature
+     *            The signature up to the throws clause
+     * @param exception
+     *            The exception of the throws clause
+     */
+    static void appendSignature(StringBuilder source, String signature, Class<?> exception) {
+        String line = "    " + signature + " throws " + exception.getSimpleName() + " {";
+        if (line.length() <= 120) {
+            source.append(line).append('\n');
+        } else {
+            source.append("    ").append(signature).append("\n            throws ").append(exception.getSimpleName())
+                    .append(" {\n");
+        }
+    }
+
+    /**
+     * Appends a case of a switch statement that delegates to the method of a class
+     *
+     * @param source
+     *            The source to append to
+     * @param index
+     *            The index of the class
+     * @param method
+     *            The method name without the class name, preceded by "return " if the result is returned
+     * @param type
+     *            The class
+     * @param arguments
+     *            The arguments after the node
+     */
+    private static void appendCase(StringBuilder source, int index, String method, Class<?> type, String arguments) {
+        source.append("        case ").append(index).append(":\n            ").append(method)
+                .append(type.getSimpleName()).append("((").append(parameterType(type)).append(") node")
+                .append(arguments).append(");\n");
+        if (!method.startsWith("return ")) {
+            source.append("            break;\n");
+        }
+    }
+}
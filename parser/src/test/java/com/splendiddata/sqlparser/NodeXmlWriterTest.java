@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Tests the NodeXmlWriter
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class NodeXmlWriterTest {
+
+    /**
+     * The expected output is what the JAXB marshaller made of the statement. The quoted identifiers put characters
+     * that need escaping into the attributes.
+     */
+    @Test
+    void jaxbLayout() throws IOException {
+        Assertions.assertEquals(
+                """
+                        <ns2:selectStmt groupDistinct="false" groupByAll="false" all="false" nodeType="T_SelectStmt" class="SelectStmt" xmlns:ns2="parser">
+                            <targetList>
+                                <target name="a&#10;&lt;b&gt;" nodeType="T_ResTarget" class="ResTarget" location="7">
+                                    <val xsi:type="columnRef" nodeType="T_ColumnRef" class="ColumnRef" location="7" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance">
+                                        <fields>
+                                            <field xsi:type="value" nodeType="T_String" class="Value">
+                                                <val ival="0" str="c &amp; d" boolval="false"/>
+                                            </field>
+                                        </fields>
+                                    </val>
+                                </target>
+                            </targetList>
+                        </ns2:selectStmt>""",
+                ParserUtil.stmtToXml(ParsedSql.parse("select \"c & d\" as \"a\n<b>\"").get(0)));
+        Assertions.assertEquals("<ns2:list nodeType=\"T_List\" class=\"List\" xmlns:ns2=\"parser\">"
+                + "<ns2:selectStmt groupDistinct=\"false\" groupByAll=\"false\" all=\"false\" nodeType=\"T_SelectStmt\""
+                + " class=\"SelectStmt\"><targetList>"
+                + "<target nodeType=\"T_ResTarget\" class=\"ResTarget\" location=\"7\">"
+                + "<val xsi:type=\"aConst\" isnull=\"true\" nodeType=\"T_A_Const\" class=\"A_Const\" location=\"7\""
+                + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"><val nodeType=\"T_Null\" class=\"Value\">"
+                + "<val ival=\"0\" boolval=\"false\"/></val></val></target></targetList></ns2:selectStmt></ns2:list>",
+                new NodeXmlWriter(false).toXml(ParsedSql.parse("select null")));
+    }
+
+    /**
+     * Uses the JAXB marshaller, that the layout of the NodeXmlWriter is taken from, as oracle: both must produce the
+     * same xml for every statement of the regression tests
+     *
+     * @throws JAXBException
+     *             If the JAXBContext cannot be created or marshalling fails
+     */
+    @Test
+    void jaxbOracle() throws JAXBException {
+        java.util.List<Class<?>> classes = new ArrayList<>(NodeVisitorGenerator.nodeClasses());
+        classes.add(List.class);
+        Marshaller marshaller = JAXBContext.newInstance(classes.toArray(new Class<?>[classes.size()]))
+                .createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        NodeXmlWriter writer = new NodeXmlWriter();
+        for (Node statement : RegressionCorpus.statements()) {
+            StringWriter expected = new StringWriter();
+            marshaller.marshal(statement, expected);
+            Assertions.assertEquals(expected.toString(), writer.toXml(statement));
+        }
+    }
+
+    @Test
+    void streams() throws IOException, XMLStreamException {
+        Node stmt = ParsedSql.parse("select a from t where a = 'x'").get(0);
+        NodeXmlWriter writer = new NodeXmlWriter();
+        String expected = writer.toXml(stmt);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        writer.write(stmt, bytes);
+        Assertions.assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+
+        StringWriter stax = new StringWriter();
+        XMLStreamWriter xmlStreamWriter = XMLOutputFactory.newFactory().createXMLStreamWriter(stax);
+        writer.write(stmt, xmlStreamWriter);
+        xmlStreamWriter.close();
+        Assertions.assertEquals(expected, stax.toString());
+    }
+
+    @Test
+    void xmlNames() {
+        Assertions.assertEquals("selectStmt", NodeXmlWriter.toXmlName("SelectStmt"));
+        Assertions.assertEquals("aExpr", NodeXmlWriter.toXmlName("A_Expr"));
+        Assertions.assertEquals("sqlValueFunction", NodeXmlWriter.toXmlName("SQLValueFunction"));
+        Assertions.assertEquals("missingOk", NodeXmlWriter.toXmlName("missing_ok"));
+    }
+
+    /**
+     * NodeXmlLayout is generated from the JAXB annotations of the structure classes, so it must be regenerated when
+     * they change
+     */
+    @Test
+    void generatedSourceIsUpToDate() throws Exception {
+        Assertions.assertEquals(NodeXmlLayoutGenerator.generate(),
+                Files.readString(NodeXmlLayoutGenerator.sourceFile(), StandardCharsets.UTF_8),
+                "Please run NodeXmlLayoutGenerator");
+    }
+}
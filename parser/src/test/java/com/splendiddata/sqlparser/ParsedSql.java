@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Parses the sql of a test into the parse trees that the test works with
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+final class ParsedSql {
+
+    /**
+     * No instances
+     */
+    private ParsedSql() {
+        // static methods only
+    }
+
+    /**
+     * Parses the sql, which must be valid
+     *
+     * @param sql
+     *            The statements to parse
+     * @return List&lt;Node&gt; The parsed statements, as the parser returns them
+     * @throws IOException
+     *             Not expected, the sql is read from a String
+     */
+    static List<Node> parse(String sql) throws IOException {
+        SqlParser parser = new SqlParser();
+        Assertions.assertTrue(parser.parse(sql), sql);
+        return parser.getResult();
+    }
+}
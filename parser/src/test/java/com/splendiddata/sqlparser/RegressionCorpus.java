@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * The statements of the Postgres regression test scripts in src/test/resources/postgres/test/regress/sql, for
+ * benchmarks. The scripts are parsed as they are, statement by statement, so the psql meta commands in them just
+ * produce statements with errors that are left out.
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+final class RegressionCorpus {
+    private static List<String> scripts;
+    private static List<String> statementTexts;
+    private static List<Node> statements;
+
+    /**
+     * No instances
+     */
+    private RegressionCorpus() {
+        // static methods only
+    }
+
+    /**
+     * Returns the contents of the regression test scripts
+     *
+     * @return List&lt;String&gt; One String per script, sorted by file name
+     */
+    static synchronized List<String> scripts() {
+        if (scripts == null) {
+            Path projectDirectory = Paths.get("").toAbsolutePath();
+            if (!projectDirectory.endsWith("parser")) {
+                projectDirectory = projectDirectory.resolve("parser");
+            }
+            List<String> result = new ArrayList<>();
+            try (Stream<Path> files = Files
+                    .list(projectDirectory.resolve("src/test/resources/postgres/test/regress/sql"))) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    try {
+                        result.add(Files.readString(file, StandardCharsets.UTF_8));
+                    } catch (MalformedInputException e) {
+                        // collate.windows.win1252.sql is not UTF-8 encoded
+                        result.add(Files.readString(file, StandardCharsets.ISO_8859_1));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            scripts = Collections.unmodifiableList(result);
+        }
+        return scripts;
+    }
+
+    /**
+     * Returns the regression test scripts cut into separate statements by the {@link SqlScriptSplitter}
+     *
+     * @return List&lt;String&gt; The text of every statement, including the psql meta commands and the statements that
+     *         contain errors
+     */
+    static synchronized List<String> statementTexts() {
+        if (statementTexts == null) {
+            List<String> result = new ArrayList<>();
+            SqlScriptSplitter splitter = new SqlScriptSplitter();
+            for (String script : scripts()) {
+                int statementStart = 0;
+                for (int statementEnd : splitter.split(script)) {
+                    result.add(script.substring(statementStart, statementEnd));
+                    statementStart = statementEnd;
+                }
+            }
+            statementTexts = Collections.unmodifiableList(result);
+        }
+        return statementTexts;
+    }
+
+    /**
+     * Returns the parsed statements of the regression test scripts
+     *
+     * @return List&lt;Node&gt; The statements that could be parsed. Shared, so not to be modified.
+     */
+    static synchronized List<Node> statements() {
+        if (statements == null) {
+            List<Node> result = new ArrayList<>();
+            for (String script : scripts()) {
+                for (StatementOutcome outcome : SqlParserService.getInstance().parseWithRecovery(script)) {
+                    if (outcome.isValid()) {
+                        result.add(outcome.getStatement());
+                    }
+                }
+            }
+            statements = Collections.unmodifiableList(result);
+        }
+        return statements;
+    }
+}
@@ -247,6 +247,15 @@ public class SqlFileRegressionTest {
                 Assertions.assertEquals(sql, copiedStatement.toString(),
                         "The copied statement " + ParserUtil.stmtToXml(originallyParsedStatement)
                                 + " should give the same result in: " + fileName);
+
+                /*
+                 * Test binary round trip
+                 */
+                Object decodedStatement = new NodeBinaryReader()
+                        .fromBytes(new NodeBinaryWriter().toBytes(originallyParsedStatement));
+                Assertions.assertEquals(sql, decodedStatement.toString(),
+                        "The binary round trip of " + ParserUtil.stmtToXml(originallyParsedStatement)
+                                + " should give the same result in: " + fileName);
             }
         } catch (Throwable e) {
             log.error("file: " + fileName, e);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.splendiddata.sqlparser.structure.ColumnRef;
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+import com.splendiddata.sqlparser.structure.ResTarget;
+import com.splendiddata.sqlparser.structure.SelectStmt;
+import com.splendiddata.sqlparser.structure.Value;
+
+/**
+ * Tests the SqlParseCache
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class SqlParseCacheTest {
+
+    @Test
+    void copiesAreHandedOut() {
+        SqlParseCache cache = new SqlParseCache(10, 1000);
+        String sql = "select a, b from t where c = 1";
+        List<Node> first = cache.parse(sql);
+        String expected = first.toString();
+        ((SelectStmt) first.get(0)).whereClause = null;
+        first.clear();
+
+        List<Node> second = cache.parse(sql);
+        Assertions.assertEquals(expected, second.toString(),
+                "Changes by the caller are not supposed to affect the cache");
+        Assertions.assertNotSame(second.get(0), cache.parse(sql).get(0));
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(2, cache.getHitCount());
+
+        java.util.List<SqlParserErrorData> errors = new java.util.ArrayList<>();
+        Assertions.assertNull(cache.parse("select from where", errors::add));
+        int errorCount = errors.size();
+        Assertions.assertNotEquals(0, errorCount);
+        Assertions.assertNull(cache.parse("select from where", errors::add));
+        Assertions.assertEquals(2 * errorCount, errors.size(), "Errors are supposed to be reported every time");
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    /**
+     * The copies must be deep: changing a node inside a statement that came from the cache, such as the fields of a
+     * ColumnRef, is not supposed to change the cached statement
+     */
+    @Test
+    void nestedChangesDoNotAffectTheCache() {
+        SqlParseCache cache = new SqlParseCache(10, 1000);
+        String sql = "select t.a from t";
+        List<Node> miss = cache.parse(sql);
+        String expected = miss.toString();
+        columnRef(miss).fields.clear();
+
+        List<Node> hit = cache.parse(sql);
+        Assertions.assertEquals(expected, hit.toString());
+        ColumnRef column = columnRef(hit);
+        ((Value) column.fields.get(1)).val.str = "changed";
+        column.fields.remove(0);
+        Assertions.assertEquals(expected, cache.parse(sql).toString(),
+                "Changes by the caller are not supposed to affect the cache");
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(2, cache.getHitCount());
+    }
+
+    private static ColumnRef columnRef(List<Node> statements) {
+        return (ColumnRef) ((ResTarget) ((SelectStmt) statements.get(0)).targetList.get(0)).val;
+    }
+
+    /**
+     * A node that cannot be copied makes the copy of the list fail instead of ending up in it uncopied
+     */
+    @Test
+    void failingCloneIsNotHidden() {
+        List<Node> list = new List<>();
+        list.add(new Node() {
+            @Override
+            public Node clone() {
+                throw new UnsupportedOperationException("no copies");
+            }
+        });
+        Assertions.assertThrows(UnsupportedOperationException.class, list::clone);
+    }
+
+    @Test
+    void eviction() {
+        SqlParseCache cache = new SqlParseCache(2, 30);
+        cache.parse("select 1");
+        cache.parse("select 2");
+        cache.parse("select 1");
+        cache.parse("select 3");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        cache.parse("select 1");
+        Assertions.assertEquals(2, cache.getHitCount(), "select 1 was the most recently used, so select 2 was evicted");
+
+        cache.parse("select a from some_table_with_a_long_name");
+        Assertions.assertEquals(2, cache.size(), "A text that exceeds maxCharacters is not supposed to be cached");
+        cache.parse("select 4 from t");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(23, cache.getCachedCharacters());
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getCachedCharacters());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.splendiddata.sqlparser.structure.List;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Tests the SqlParserService from many threads at once.
+ * <p>
+ * The scaling benchmark only runs when system property sqlparser.benchmark=true, for example:
+ * <code>mvn test -Dtest=SqlParserServiceTest -Dsqlparser.benchmark=true</code>
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class SqlParserServiceTest {
+    private static final Logger log = LogManager.getLogger(SqlParserServiceTest.class);
+
+    private static final String[] STATEMENTS = { "select a, b, count(*) from t where c = 'x' group by a, b",
+            "update t set a = a + 1 where b not in (1, 2, 3) returning a",
+            "insert into t (a, b) values (1, 'one'), (2, 'two') on conflict do nothing",
+            "delete from t using u where t.a = u.a and u.b is not null",
+            "with w as (select * from t) select w.a from w join u on w.a = u.a order by 1 desc",
+            "select case when a between 1 and 10 then 'low' else 'high' end from t" };
+
+    @Test
+    void parseConcurrently() throws Exception {
+        String[] expected = new String[STATEMENTS.length];
+        for (int i = 0; i < STATEMENTS.length; i++) {
+            SqlParser parser = new SqlParser(new StringReader(STATEMENTS[i]));
+            Assertions.assertTrue(parser.parse());
+            expected[i] = parser.getResult().toString();
+        }
+
+        SqlParserService service = new SqlParserService(4);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            java.util.List<Future<?>> futures = new ArrayList<>();
+            for (int task = 0; task < 64; task++) {
+                int offset = task;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        int n = (offset + i) % STATEMENTS.length;
+                        List<Node> result = service.parse(STATEMENTS[n]);
+                        Assertions.assertNotNull(result, STATEMENTS[n]);
+                        Assertions.assertEquals(expected[n], result.toString());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        java.util.List<SqlParserErrorData> errors = new ArrayList<>();
+        Assertions.assertNull(service.parse("select from where", errors::add), "A syntax error is expected");
+        Assertions.assertFalse(errors.isEmpty(), "The syntax error is supposed to be reported");
+        Assertions.assertNotNull(service.parse("select 1"), "The pooled parser is supposed to be usable again");
+    }
+
+    @Test
+    void parseScript() throws Exception {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; script.length() < 4 * SqlParserService.MIN_CHARACTERS_PER_TASK; i++) {
+            script.append("-- statement ").append(i).append('\n').append(STATEMENTS[i % STATEMENTS.length])
+                    .append(";\n");
+        }
+        SqlParser parser = new SqlParser(new StringReader(script.toString()));
+        Assertions.assertTrue(parser.parse());
+        List<Node> expected = parser.getResult();
+
+        List<Node> result = SqlParserService.getInstance().parseScript(script, null);
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(expected.size(), result.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(ParserUtil.stmtToXml(expected.get(i)), ParserUtil.stmtToXml(result.get(i)),
+                    "The statement, including its locations, is supposed to be the same as in a sequential parse");
+        }
+
+        script.append("select from where;\nselect 1;");
+        java.util.List<SqlParserErrorData> errors = new ArrayList<>();
+        Assertions.assertNull(SqlParserService.getInstance().parseScript(script, errors::add));
+        Assertions.assertFalse(errors.isEmpty(), "The syntax error is supposed to be reported");
+        Assertions.assertTrue(errors.get(0).getErrorOffset().longValue() > script.lastIndexOf("select from where"),
+                "The error offset is supposed to be relative to the start of the script");
+    }
+
+    /**
+     * Measures the throughput of the SqlParserService with 1, 2, 4 ... available processors threads
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sqlparser.benchmark", matches = "true")
+    void scalingBenchmark() throws Exception {
+        SqlParserService service = SqlParserService.getInstance();
+        int processors = Runtime.getRuntime().availableProcessors();
+        long runNanos = TimeUnit.SECONDS.toNanos(3);
+
+        for (int i = 0; i < 20_000; i++) {
+            service.parse(STATEMENTS[i % STATEMENTS.length]);
+        }
+
+        double singleThreadThroughput = 0;
+        for (int threads = 1; threads <= processors; threads = threads < processors ? Math.min(threads * 2, processors)
+                : threads + 1) {
+            AtomicLong parsed = new AtomicLong();
+            long end = System.nanoTime() + runNanos;
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    executor.submit(() -> {
+                        long count = 0;
+                        while (System.nanoTime() < end) {
+                            service.parse(STATEMENTS[(int) (count % STATEMENTS.length)]);
+                            count++;
+                        }
+                        parsed.addAndGet(count);
+                    });
+                }
+            }
+            double throughput = parsed.get() * 1e9 / runNanos;
+            if (threads == 1) {
+                singleThreadThroughput = throughput;
+            }
+            log.info(String.format("%3d threads: %,10.0f statements/s, %,10.0f statements/s per thread, scaling %.2f",
+                    Integer.valueOf(threads), Double.valueOf(throughput), Double.valueOf(throughput / threads),
+                    Double.valueOf(throughput / singleThreadThroughput / threads)));
+        }
+    }
+}
@@ -19,13 +19,27 @@ package com.splendiddata.sqlparser;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import com.splendiddata.sqlparser.enums.NodeTag;
 import com.splendiddata.sqlparser.structure.A_Expr;
+import com.splendiddata.sqlparser.structure.CreatePublicationStmt;
+import com.splendiddata.sqlparser.structure.List;
 import com.splendiddata.sqlparser.structure.Node;
 import com.splendiddata.sqlparser.structure.ResTarget;
 import com.splendiddata.sqlparser.structure.SelectStmt;
@@ -209,4 +223,364 @@ public class SqlParserTest {
             }
         }
     }
+
+    @Test
+    void appendSql() throws IOException {
+        String[][] renderings = { //
+                { "DROP TABLE IF EXISTS a, s.b CASCADE", "drop table if exists a, s.b cascade" },
+                { "drop aggregate myavg(integer), max(*)", "drop aggregate myavg(integer), max(*)" },
+                { "drop policy p on s.t", "drop policy p on s.t" },
+                { "ALTER TABLE t ADD COLUMN c int, ALTER COLUMN c SET DEFAULT 1, DROP CONSTRAINT IF EXISTS k",
+                        "alter table t add column c integer, alter column c set default 1, "
+                                + "drop constraint if exists k" },
+                { "alter type ty add attribute x text", "alter type ty add attribute x text" },
+                { "create temporary table if not exists t (a int primary key, b text) with (fillfactor = 70) "
+                        + "on commit drop",
+                        "create temporary table if not exists t(a integer primary key, b text) with (fillfactor = 70) "
+                                + "on commit drop" },
+                { "select a, count(*) from t group by rollup (a, b), cube (c), grouping sets ((a), ())",
+                        "select a, count(*) from t group by rollup (a, b), cube (c), grouping sets (a, ())" },
+                { "delete from t as x where x.a = 1", "delete from t as x where x.a = 1" },
+                { "update t set a = greatest(a, 2) where current of c",
+                        "update t set a = greatest(a, 2) where current of c" },
+                { "comment on cast (int as text) is 'x'", "comment on cast (integer as text) is 'x'" },
+                { "alter role r connection limit 5", "alter role r with connection limit 5" },
+                { "alter group g add user u1, u2", "alter group g add user u1, u2" },
+                { "with w as (select 1) insert into t (a, b) values (1, 'x'), (2 + 3, null) returning a",
+                        "with w as (select 1) insert into t(a, b) values (1, 'x'), (2 + 3, null) returning a" },
+                { "close all", "close all" }, //
+                { "listen ch", "listen ch" }, //
+                { "show search_path", "show search_path" } };
+        SqlParser parser = new SqlParser();
+        StringBuilder all = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (String[] rendering : renderings) {
+            log.debug("source sql = " + rendering[0]);
+            Assertions.assertTrue(parser.parse(rendering[0]), rendering[0]);
+            Node stmt = parser.getResult().get(0);
+            Assertions.assertEquals(rendering[1], stmt.toString());
+            stmt.appendSql(all.append("; "));
+            expected.append("; ").append(rendering[1]);
+
+            StringWriter writer = new StringWriter();
+            stmt.appendSql(writer);
+            Assertions.assertEquals(rendering[1], writer.toString(), "appendSql(Appendable)");
+        }
+        Assertions.assertEquals(expected.toString(), all.toString(),
+                "appendSql(StringBuilder) is supposed to append to whatever the buffer already contains");
+    }
+
+    @Test
+    void reuseParser() throws IOException {
+        String[] statements = { "select a, b from t where c = 'x'", "select 'not' as closed",
+                "update t set a = 1 where b not in (1, 2)", "select $q$ with a dollar quote $q$",
+                "insert into t values (1)" };
+        SqlParser reused = new SqlParser();
+        for (int round = 0; round < 2; round++) {
+            for (String sql : statements) {
+                log.debug("source sql = " + sql);
+                SqlParser fresh = new SqlParser(new StringReader(sql));
+                Assertions.assertTrue(fresh.parse());
+                Assertions.assertTrue(reused.parse(sql), "A reused parser is supposed to parse " + sql);
+                Assertions.assertEquals(fresh.getResult().toString(), reused.getResult().toString(),
+                        "A reused parser is supposed to give the same result as a fresh one");
+            }
+        }
+
+        SqlParser threadParser = SqlParser.forCurrentThread();
+        Assertions.assertSame(threadParser, SqlParser.forCurrentThread(),
+                "The same thread is supposed to get the same parser");
+        Assertions.assertFalse(threadParser.parse("select from where"), "An error is supposed to be reported");
+        Assertions.assertTrue(threadParser.parse("select 1"), "The error state is supposed to be reset");
+        Assertions.assertEquals(1, threadParser.getResult().size());
+    }
+
+    @Test
+    void parseWithoutCopy() throws IOException {
+        String sql = "select a, 'ŵǎʇ' from t where b not in (1, 2); update t set a = 1";
+        SqlParser parser = new SqlParser();
+        Assertions.assertTrue(parser.parse(sql));
+        String expected = ParserUtil.stmtToXml(parser.getResult().get(1));
+
+        char[] buffer = ("/* a */ " + sql + " garbage").toCharArray();
+        char[] original = buffer.clone();
+        Assertions.assertTrue(parser.parse(buffer, 8, sql.length()));
+        Assertions.assertEquals(2, parser.getResult().size());
+        Assertions.assertArrayEquals(original, buffer, "The parser is not supposed to modify the array");
+        Assertions.assertTrue(parser.parse(new String(buffer), 8, 8 + sql.length()));
+        String expectedAtOffset = ParserUtil.stmtToXml(parser.getResult().get(1));
+        Assertions.assertTrue(parser.parse(buffer, 8, sql.length()));
+        Assertions.assertEquals(expectedAtOffset, ParserUtil.stmtToXml(parser.getResult().get(1)),
+                "Locations are supposed to be relative to the start of the array");
+
+        Assertions.assertTrue(parser.parse(CharBuffer.wrap(buffer, 8, sql.length())));
+        Assertions.assertEquals(expected, ParserUtil.stmtToXml(parser.getResult().get(1)),
+                "Locations are supposed to be relative to the start of the CharBuffer");
+        Assertions.assertTrue(parser.parse(CharBuffer.wrap(buffer), 8, 8 + sql.length()));
+        Assertions.assertEquals(expectedAtOffset, ParserUtil.stmtToXml(parser.getResult().get(1)));
+
+        Assertions.assertFalse(parser.parse(buffer, 0, buffer.length), "The garbage is supposed to be rejected");
+        Assertions.assertTrue(parser.parse(sql), "The parser is supposed to read from a CharSequence again");
+        Assertions.assertEquals(expected, ParserUtil.stmtToXml(parser.getResult().get(1)));
+    }
+
+    @Test
+    void parseFile() throws IOException {
+        String sql = "select a, 'ŵǎʇ 😀' from t where b not in (1, 2);\nupdate t set a = 1;\n";
+        SqlParser parser = new SqlParser();
+        Assertions.assertTrue(parser.parse(sql));
+        String expected = parser.getResult().toString();
+
+        Path file = Files.createTempFile("SqlParserTest", ".sql");
+        try {
+            Files.writeString(file, sql, StandardCharsets.UTF_8);
+            Assertions.assertTrue(parser.parse(file));
+            Assertions.assertEquals(expected, parser.getResult().toString());
+
+            Files.writeString(file, sql + "select from where;", StandardCharsets.UTF_8);
+            java.util.List<SqlParserErrorData> errors = new java.util.ArrayList<>();
+            parser.setErrorReporter(errors::add);
+            Assertions.assertFalse(parser.parse(file));
+            Assertions.assertEquals(sql.length() + "select from ".length(), errors.get(0).getErrorOffset().intValue(),
+                    "The error offset is supposed to be a character offset");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void validate() throws IOException {
+        String[] sqls = { "select a, count(*) from t where b not in (1, 2) group by a",
+                "select a from t order by a limit 10", "with x as (select 1) select * from x",
+                "create table t (a int primary key, b text not null)", "update t set a = 1 where b = 'x'",
+                "select from where", "select a from t limit 1 limit 2", "select a from t where a = U&'\\wrong'",
+                "select f(a order by b) within group (order by c) from t", "select 'unterminated" };
+        SqlParser parser = new SqlParser();
+        java.util.List<SqlParserErrorData> errors = new java.util.ArrayList<>();
+        parser.setErrorReporter(errors::add);
+        for (String sql : sqls) {
+            errors.clear();
+            boolean parsed = parser.parse(sql);
+            String parseErrors = errors.toString();
+            errors.clear();
+            Assertions.assertEquals(parsed, parser.validate(sql), sql);
+            Assertions.assertEquals(parseErrors, errors.toString(),
+                    "The validation is supposed to report the same errors as the parse of: " + sql);
+            Assertions.assertNull(parser.getResult(), "A validation is not supposed to leave a result");
+            Assertions.assertEquals(parsed, parser.validate(sql.toCharArray(), 0, sql.length()), sql);
+        }
+
+        Assertions.assertTrue(parser.parse(sqls[0]), "The parser is supposed to build a parse tree again");
+        Assertions.assertEquals(1, parser.getResult().size());
+        Assertions.assertTrue(SqlParserService.getInstance().validate(sqls[1], null));
+        Assertions.assertFalse(SqlParserService.getInstance().validate(sqls[5], errors::add));
+    }
+
+    @Test
+    void parseWithRecovery() throws IOException {
+        String script = "select 1;\nselect from where;\n-- comment\nupdate t set a = 'x;y';\n"
+                + "create function f() returns int language sql begin atomic select 1; select from; end;\n"
+                + "select 'unterminated; select 2;";
+        SqlParser parser = new SqlParser();
+        java.util.List<SqlParserErrorData> reported = new java.util.ArrayList<>();
+        parser.setErrorReporter(reported::add);
+        java.util.List<StatementOutcome> outcomes = parser.parseWithRecovery(script);
+        Assertions.assertEquals(5, outcomes.size(), outcomes::toString);
+        Assertions.assertTrue(outcomes.get(0).isValid());
+        Assertions.assertFalse(outcomes.get(1).isValid());
+        Assertions.assertFalse(outcomes.get(1).getErrors().isEmpty());
+        long errorOffset = outcomes.get(1).getErrors().get(0).getErrorOffset().longValue();
+        Assertions.assertTrue(
+                errorOffset >= outcomes.get(1).getStartOffset() && errorOffset < outcomes.get(1).getEndOffset(),
+                "The error offset is supposed to be relative to the start of the script");
+        Assertions.assertTrue(outcomes.get(2).isValid());
+        Assertions.assertEquals("UpdateStmt", outcomes.get(2).getStatement().getClass().getSimpleName());
+        Assertions.assertFalse(outcomes.get(3).isValid(), "The error is in the BEGIN ATOMIC body");
+        Assertions.assertFalse(outcomes.get(4).isValid());
+        Assertions.assertEquals(script.length(), outcomes.get(4).getEndOffset());
+        Assertions.assertTrue(reported.isEmpty(), "The errors are supposed to be in the outcomes only");
+        Assertions.assertEquals(5, SqlParserService.getInstance().parseWithRecovery(script).size());
+    }
+
+    @Test
+    void structuralEquality() throws IOException {
+        String sql = "select a, count(*) from t where b in (1, 2) group by a";
+        SqlParser parser = new SqlParser();
+        Assertions.assertTrue(parser.parse(sql + "; " + sql));
+        java.util.List<Node> statements = parser.getResult();
+        Assertions.assertNotSame(statements.get(0), statements.get(1));
+        Assertions.assertEquals(statements.get(0), statements.get(1),
+                "The Locations differ, but they are not supposed to be compared");
+        Assertions.assertEquals(statements.get(0).hashCode(), statements.get(1).hashCode());
+        Assertions.assertEquals(statements.get(0), statements.get(0).clone());
+
+        Assertions.assertTrue(parser.parse(sql.replace("2", "3")));
+        Node other = parser.getResult().get(0);
+        Assertions.assertNotEquals(statements.get(0), other);
+
+        java.util.Set<Node> distinct = new java.util.HashSet<>(statements);
+        distinct.add(other);
+        Assertions.assertEquals(2, distinct.size());
+    }
+
+    /**
+     * Lists in a tree are only equal to lists of the same class and NodeTag
+     *
+     * @throws IOException
+     *             If the test fails
+     */
+    @Test
+    void structuralEqualityOfLists() throws IOException {
+        SqlParser parser = new SqlParser();
+        Assertions.assertTrue(parser.parse("select a, b from t"));
+        List<ResTarget> targetList = ((SelectStmt) parser.getResult().get(0)).targetList;
+        List<ResTarget> copy = targetList.clone();
+        Assertions.assertEquals(targetList, copy);
+        copy.type = NodeTag.T_IntList;
+        Assertions.assertNotEquals(targetList, copy, "The NodeTag differs");
+
+        List<Object> structureLists = new List<>();
+        structureLists.add(targetList);
+        List<Object> arrayLists = new List<>();
+        arrayLists.add(new java.util.ArrayList<>(targetList));
+        Assertions.assertNotEquals(structureLists, arrayLists, "A structure List is not an ArrayList");
+    }
+
+    /**
+     * StructuralComparison is generated from the fields of the structure classes, so it must be regenerated when they
+     * change
+     *
+     * @throws IOException
+     *             If the source cannot be read
+     */
+    @Test
+    void structuralComparisonIsUpToDate() throws IOException {
+        Assertions.assertEquals(StructuralComparisonGenerator.generate(),
+                Files.readString(StructuralComparisonGenerator.sourceFile(), StandardCharsets.UTF_8),
+                "Please run StructuralComparisonGenerator");
+    }
+
+    /**
+     * The publication objects are deep copied when a publication statement is cloned
+     *
+     * @throws IOException
+     *             If the test fails
+     */
+    @Test
+    void clonePublication() throws IOException {
+        SqlParser parser = new SqlParser();
+        Assertions.assertTrue(
+                parser.parse("create publication p for table t1 (a, b) where (a > 1), tables in schema s"));
+        CreatePublicationStmt statement = (CreatePublicationStmt) parser.getResult().get(0);
+        CreatePublicationStmt clone = statement.clone();
+        Assertions.assertEquals(statement, clone);
+        Assertions.assertNotSame(statement.pubobjects.get(0), clone.pubobjects.get(0));
+        Assertions.assertNotSame(statement.pubobjects.get(0).pubtable, clone.pubobjects.get(0).pubtable);
+        Assertions.assertNotSame(statement.pubobjects.get(0).pubtable.relation,
+                clone.pubobjects.get(0).pubtable.relation);
+    }
+
+    /**
+     * A List is serialized as the linked list it used to be, so streams of older versions stay readable
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    void serialization() throws Exception {
+        java.util.Set<String> fieldNames = new java.util.TreeSet<>();
+        for (java.io.ObjectStreamField field : java.io.ObjectStreamClass.lookup(List.class).getFields()) {
+            fieldNames.add(field.getName() + ":" + field.getType().getSimpleName());
+        }
+        Assertions.assertEquals("[head:ListCell, length:int, tail:ListCell, updateCount:int]", fieldNames.toString());
+
+        List<Object> list = new List<>();
+        list.add("a");
+        list.add(null);
+        list.add(new List<>(java.util.List.of(Integer.valueOf(1), Integer.valueOf(2))));
+        List<Object> empty = new List<>();
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try (java.io.ObjectOutputStream out = new java.io.ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+            out.writeObject(empty);
+        }
+        try (java.io.ObjectInputStream in = new java.io.ObjectInputStream(
+                new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            List<Object> copy = (List<Object>) in.readObject();
+            Assertions.assertEquals(list, copy);
+            Assertions.assertEquals(3, copy.size());
+            Assertions.assertSame(copy.get(2), copy.getTail().data);
+            Assertions.assertNull(copy.getTail().next);
+            copy.add("b");
+            Assertions.assertEquals("b", copy.getTail().data);
+            Assertions.assertSame(copy.getTail(), copy.getHead().next.next.next);
+            Assertions.assertEquals(empty, in.readObject());
+        }
+    }
+
+    /**
+     * Compares how the grammar creates its nodes, with new X(), to the reflective makeNode(X.class) that it used
+     * before, which did clss.getDeclaredConstructor().newInstance(). The nodes of the parse trees of the regression
+     * tests are created again in the same order, both ways. A constructor reference, which compiles to new X(), stands
+     * in for the new X() of a grammar action. Each way is timed as the best of a few rounds.
+     * <p>
+     * Only runs when system property sqlparser.benchmark=true, for example:
+     * <code>mvn test -Dtest=SqlParserTest#nodeCreationBenchmark -Dsqlparser.benchmark=true</code>
+     * </p>
+     *
+     * @throws Throwable
+     *             If the test fails
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sqlparser.benchmark", matches = "true")
+    void nodeCreationBenchmark() throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        java.util.Map<Class<?>, Supplier<?>> constructors = new java.util.HashMap<>();
+        java.util.List<Class<?>> classes = new java.util.ArrayList<>();
+        java.util.List<Supplier<?>> suppliers = new java.util.ArrayList<>();
+        NodeWalker.walk(new List<>(RegressionCorpus.statements()), new NodeVisitor<NodeWalker.Action>() {
+            @Override
+            public NodeWalker.Action visitNode(Node node) {
+                Supplier<?> constructor = constructors.computeIfAbsent(node.getClass(), type -> {
+                    try {
+                        MethodHandle newInstance = lookup.findConstructor(type, MethodType.methodType(void.class));
+                        return (Supplier<?>) LambdaMetafactory.metafactory(lookup, "get",
+                                MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                                newInstance, MethodType.methodType(type)).getTarget().invoke();
+                    } catch (Throwable e) {
+                        // No public no-arg constructor, so the grammar never did makeNode() for it
+                        return null;
+                    }
+                });
+                if (constructor != null) {
+                    classes.add(node.getClass());
+                    suppliers.add(constructor);
+                }
+                return NodeWalker.Action.CONTINUE;
+            }
+        });
+
+        Object[] created = new Object[classes.size()];
+        long reflectiveNanos = Long.MAX_VALUE;
+        long newNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < created.length; i++) {
+                created[i] = classes.get(i).getDeclaredConstructor().newInstance();
+            }
+            long afterReflective = System.nanoTime();
+            for (int i = 0; i < created.length; i++) {
+                created[i] = suppliers.get(i).get();
+            }
+            long afterNew = System.nanoTime();
+            reflectiveNanos = Math.min(reflectiveNanos, afterReflective - start);
+            newNanos = Math.min(newNanos, afterNew - afterReflective);
+        }
+        log.info(String.format("%,d nodes of %,d classes: makeNode(X.class) %,d ms, new X() %,d ms",
+                Integer.valueOf(created.length),
+                Long.valueOf(constructors.values().stream().filter(c -> c != null).count()),
+                Long.valueOf(reflectiveNanos / 1_000_000), Long.valueOf(newNanos / 1_000_000)));
+        Assertions.assertTrue(newNanos < reflectiveNanos, "new X() faster than makeNode(X.class)");
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Tests the SqlReferenceExtractor
+ * <p>
+ * The benchmark only runs when system property sqlparser.benchmark=true, for example:
+ * <code>mvn test -Dtest=SqlReferenceExtractorTest -Dsqlparser.benchmark=true</code>
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class SqlReferenceExtractorTest {
+    private static final Logger log = LogManager.getLogger(SqlReferenceExtractorTest.class);
+
+    /**
+     * Parses sql and returns the references in it
+     *
+     * @param sql
+     *            The statements
+     * @return String The references as text
+     * @throws IOException
+     *             should not happen
+     */
+    private static String references(String sql) throws IOException {
+        return SqlReferenceExtractor.extract(ParsedSql.parse(sql)).toString();
+    }
+
+    @Test
+    void tablesColumnsAndFunctions() throws IOException {
+        String sql = "with c as (select x from t) select c.*, f(y) from c, s.c";
+        java.util.List<SqlReference> references = SqlReferenceExtractor.extract(ParsedSql.parse(sql));
+        Assertions.assertEquals("[COLUMN x@18, TABLE t@25, COLUMN c.*@35, FUNCTION f@40, COLUMN y@42, TABLE s.c@53]",
+                references.toString());
+        Assertions.assertEquals(java.util.List.of("c", "*"), references.get(2).getNames());
+        Assertions.assertEquals("*", references.get(2).getName());
+        Assertions.assertEquals(SqlReference.Kind.TABLE, references.get(5).getKind());
+        Assertions.assertEquals("[]", SqlReferenceExtractor.extract(null).toString());
+    }
+
+    /**
+     * A common table expression is only visible in its own query if it is recursive, in the common table expressions
+     * that follow it and in its statement, but not outside its statement
+     *
+     * @throws IOException
+     *             should not happen
+     */
+    @Test
+    void cteScope() throws IOException {
+        Assertions.assertEquals("[COLUMN n@28, TABLE numbers@35, COLUMN n@60, COLUMN *@77]",
+                references("with recursive r as (select n from numbers union all select n from r) select * from r"));
+        Assertions.assertEquals("[COLUMN n@18, TABLE numbers@25, COLUMN n@50, TABLE r@57, COLUMN *@67]",
+                references("with r as (select n from numbers union all select n from r) select * from r"));
+        Assertions.assertEquals("[COLUMN *@7, COLUMN *@43, TABLE r@56]",
+                references("select * from (with r as (select 1) select * from r) s, r"));
+        Assertions.assertEquals("[COLUMN *@35, COLUMN *@52]",
+                references("with a as (select 1), b as (select * from a) select * from b"));
+        Assertions.assertEquals("[COLUMN *@18, TABLE a@25, COLUMN *@52]",
+                references("with b as (select * from a), a as (select 1) select * from b"));
+        Assertions.assertEquals("[COLUMN *@28, COLUMN *@45, TABLE r@52]",
+                references("with r as (select 1) select * from r; select * from r"));
+    }
+
+    /**
+     * The target table of an INSERT, UPDATE, DELETE or MERGE statement is a table, even if a common table expression
+     * has the same name. Other references to that name are not.
+     *
+     * @throws IOException
+     *             should not happen
+     */
+    @Test
+    void dmlTargets() throws IOException {
+        Assertions.assertEquals("[TABLE t@33, COLUMN *@42]",
+                references("with t as (select 1) insert into t select * from t"));
+        Assertions.assertEquals("[TABLE t@28, COLUMN x.a@55, COLUMN t.a@61]",
+                references("with t as (select 1) update t set a = 1 from t x where x.a = t.a"));
+        Assertions.assertEquals("[TABLE t@33]", references("with t as (select 1) delete from t using t u"));
+        Assertions.assertEquals("[TABLE t@38, COLUMN t.id@51, COLUMN s.id@58]", references(
+                "with s as (select 1 as id) merge into t using s on t.id = s.id when matched then delete"));
+        Assertions.assertEquals("[TABLE t@40, COLUMN *@52, TABLE t@67, COLUMN *@76]", references(
+                "with t as (select 1), d as (delete from t returning *) insert into t select * from d"));
+    }
+
+    @Test
+    void extractFromScript() throws Exception {
+        String script = "select a, f(b) from s.t;\nwith c as (select 1) select * from c, u";
+        java.util.List<SqlReference> references = new SqlReferenceExtractor().extractFromScript(script);
+        Assertions.assertEquals("[COLUMN a@" + script.indexOf('a') + ", FUNCTION f@" + script.indexOf('f')
+                + ", COLUMN b@" + script.indexOf('b') + ", TABLE s.t@" + script.indexOf("s.t") + ", COLUMN *@"
+                + script.indexOf('*') + ", TABLE u@" + script.indexOf('u') + "]", references.toString());
+    }
+
+    /**
+     * Compares extracting the references from the statements of the regression tests while parsing them with parsing
+     * only, and with extracting from already parsed trees
+     *
+     * @throws Exception
+     *             If the test fails
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sqlparser.benchmark", matches = "true")
+    void corpusBenchmark() throws Exception {
+        java.util.List<String> scripts = RegressionCorpus.scripts();
+        java.util.List<Node> statements = RegressionCorpus.statements();
+        SqlReferenceExtractor extractor = new SqlReferenceExtractor().setErrorReporter(error -> {
+            /* the psql meta commands in the scripts are not sql */
+        });
+        SqlParser parser = new SqlParser();
+        parser.setErrorReporter(error -> {
+            /* the psql meta commands in the scripts are not sql */
+        });
+        SqlScriptSplitter splitter = new SqlScriptSplitter();
+        int[] count = new int[1];
+
+        long parseNanos = Long.MAX_VALUE;
+        long scriptNanos = Long.MAX_VALUE;
+        long treeNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (String script : scripts) {
+                int from = 0;
+                for (int end : splitter.split(script)) {
+                    parser.parse(script, from, end);
+                    from = end;
+                }
+            }
+            long afterParse = System.nanoTime();
+            count[0] = 0;
+            for (String script : scripts) {
+                extractor.extractFromScript(script, reference -> count[0]++);
+            }
+            long afterScripts = System.nanoTime();
+            java.util.List<SqlReference> references = new ArrayList<>();
+            for (Node statement : statements) {
+                references.addAll(SqlReferenceExtractor.extract(statement));
+            }
+            long afterTrees = System.nanoTime();
+            Assertions.assertEquals(count[0], references.size());
+            parseNanos = Math.min(parseNanos, afterParse - start);
+            scriptNanos = Math.min(scriptNanos, afterScripts - afterParse);
+            treeNanos = Math.min(treeNanos, afterTrees - afterScripts);
+        }
+        log.info(String.format(
+                "%,d statements, %,d references: parse only in %,d ms, parse and extract in %,d ms, extract from "
+                        + "parsed trees in %,d ms (%,.0f statements/s)",
+                Integer.valueOf(statements.size()), Integer.valueOf(count[0]), Long.valueOf(parseNanos / 1_000_000),
+                Long.valueOf(scriptNanos / 1_000_000), Long.valueOf(treeNanos / 1_000_000),
+                Double.valueOf(statements.size() * 1e9 / treeNanos)));
+    }
+}
@@ -19,6 +19,8 @@ package com.splendiddata.sqlparser;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -228,9 +230,49 @@ public class SqlScannerTest {
         
         sql = "U&'wrong: \\+2FFFFF'";
         scanner = new SqlScanner(new StringReader(sql), new core_yyscan_t());
+        List<SqlParserErrorData> errors = new ArrayList<>();
+        scanner.setErrorReporter(errors::add);
         checkToken(ScanKeyword.SCONST, scanner.yylex());
-        Assertions.assertEquals("wrong: Q+2FFFFFE", scanner.getLVal());
+        Assertions.assertEquals("wrong: \\+2FFFFF", scanner.getLVal());
         checkToken(ScanKeyword.EOF, scanner.yylex());
+        Assertions.assertEquals(1, errors.size(), "expecting an error for " + sql);
+        Assertions.assertEquals("invalid Unicode escape value", errors.get(0).getErrorText());
+        Assertions.assertEquals(Long.valueOf(sql.indexOf('\\')), errors.get(0).getErrorOffset());
+    }
+
+    @Test
+    void unicodeEscapedSurrogatePairs() throws IOException {
+        String sql = "U&'\\D83D\\DE00 \\+01F600' U&\"!D83D!DE00\" UESCAPE '?' U&\"!D83D!DE00\" UESCAPE '!'";
+        SqlScanner scanner = new SqlScanner(new StringReader(sql), new core_yyscan_t());
+        List<SqlParserErrorData> errors = new ArrayList<>();
+        scanner.setErrorReporter(errors::add);
+        checkToken(ScanKeyword.SCONST, scanner.yylex());
+        Assertions.assertEquals("\uD83D\uDE00 \uD83D\uDE00", scanner.getLVal().toString());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals("!D83D!DE00", scanner.getLVal().toString());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals("\uD83D\uDE00", scanner.getLVal().toString());
+        checkToken(ScanKeyword.EOF, scanner.yylex());
+        Assertions.assertEquals(List.of(), errors);
+
+        String[] wrong = { "SELECT U&'wrong: \\db99'", "SELECT U&'wrong: \\db99xy'", "SELECT U&'wrong: \\db99\\\\'",
+                "SELECT U&'wrong: \\db99\\0061'", "SELECT U&'wrong: \\+00db99\\+000061'",
+                "SELECT U&'wrong: \\dc00'", "SELECT U&'wrong: \\061'" };
+        int[] errorOffsets = { 22, 22, 22, 22, 25, 17, 17 };
+        String[] errorTexts = { "invalid Unicode surrogate pair", "invalid Unicode surrogate pair",
+                "invalid Unicode surrogate pair", "invalid Unicode surrogate pair", "invalid Unicode surrogate pair",
+                "invalid Unicode surrogate pair", "invalid Unicode escape" };
+        for (int i = 0; i < wrong.length; i++) {
+            errors.clear();
+            scanner = new SqlScanner(new StringReader(wrong[i]), new core_yyscan_t());
+            scanner.setErrorReporter(errors::add);
+            checkToken(ScanKeyword.SELECT, scanner.yylex());
+            checkToken(ScanKeyword.SCONST, scanner.yylex());
+            checkToken(ScanKeyword.EOF, scanner.yylex());
+            Assertions.assertEquals(1, errors.size(), "expecting an error for " + wrong[i]);
+            Assertions.assertEquals(errorTexts[i], errors.get(0).getErrorText(), wrong[i]);
+            Assertions.assertEquals(Long.valueOf(errorOffsets[i]), errors.get(0).getErrorOffset(), wrong[i]);
+        }
     }
 
     @Test
@@ -424,6 +466,84 @@ public class SqlScannerTest {
         }
     }
 
+    @Test
+    void testKeywordLookupInBuffer() throws IOException {
+        String longName = "Abcdefghij".repeat(7);
+        String sql = "SeLeCt abC, \"Col\", seleCtX, " + longName + " FROM tABLE_a";
+        SqlScanner scanner = new SqlScanner(new StringReader(sql), new core_yyscan_t());
+
+        checkToken(ScanKeyword.SELECT, scanner.yylex());
+        Assertions.assertEquals("select", scanner.getLVal().toString());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals("abc", scanner.getLVal().toString());
+        checkToken(',', scanner.yylex());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals("Col", scanner.getLVal().toString());
+        checkToken(',', scanner.yylex());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals("selectx", scanner.getLVal().toString());
+        checkToken(',', scanner.yylex());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals(longName.toLowerCase().substring(0, AbstractScanner.NAMEDATALEN),
+                scanner.getLVal().toString());
+        checkToken(ScanKeyword.FROM, scanner.yylex());
+        checkToken(ScanKeyword.IDENT, scanner.yylex());
+        Assertions.assertEquals("table_a", scanner.getLVal().toString());
+        checkToken(ScanKeyword.EOF, scanner.yylex());
+
+        char[] buffer = "xxWHEREyy".toCharArray();
+        Assertions.assertEquals(ScanKeyword.WHERE, ScanKeyword.fromChars(buffer, 2, 5));
+        Assertions.assertNull(ScanKeyword.fromChars(buffer, 2, 6));
+        Assertions.assertNull(ScanKeyword.fromChars(buffer, 2, 4));
+    }
+
+    @Test
+    void scanCharArray() throws IOException {
+        StringBuilder sqlBuilder = new StringBuilder("select U&'\\0061b', $q$ dollar ' quoted $q$, a not in (1, 2.5)");
+        while (sqlBuilder.length() < 40_000) {
+            sqlBuilder.append(", \"column ").append(sqlBuilder.length()).append('"');
+        }
+        String sql = sqlBuilder.append(" from t -- comment").toString();
+        SqlScanner scanner = new SqlScanner(new StringReader(sql), new core_yyscan_t());
+        List<String> expected = scanAll(scanner, 2);
+
+        char[] buffer = ("xx" + sql + "'yy").toCharArray();
+        char[] original = buffer.clone();
+        scanner.reset(buffer, 2, sql.length());
+        Assertions.assertEquals(expected, scanAll(scanner, 0),
+                "Scanning from the array is supposed to give the same tokens, at offsets relative to the array");
+        Assertions.assertArrayEquals(original, buffer, "The scanner is not supposed to modify the array");
+
+        scanner.reset(buffer, 2, "select U&'\\00".length());
+        checkToken(ScanKeyword.SELECT, scanner.yylex());
+        Assertions.assertEquals(ScanKeyword.EOF.getValue(), scanner.yylex(),
+                "The scanner is not supposed to scan beyond the end of the part of the array");
+        Assertions.assertTrue(scanner.isErrorReported(), "The string literal is unterminated within the part");
+
+        scanner.reset(new StringReader(sql));
+        Assertions.assertEquals(expected, scanAll(scanner, 2), "The scanner is supposed to read from a reader again");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> scanner.reset(buffer, 2, buffer.length));
+    }
+
+    /**
+     * Scans all tokens
+     *
+     * @param scanner
+     *            The scanner to scan with
+     * @param offsetCorrection
+     *            Will be added to the offsets of the tokens
+     * @return List&lt;String&gt; token:value@offset for every token
+     * @throws IOException
+     *             from the scanner
+     */
+    private static List<String> scanAll(SqlScanner scanner, int offsetCorrection) throws IOException {
+        List<String> result = new ArrayList<>();
+        for (int token = scanner.yylex(); token > 0; token = scanner.yylex()) {
+            result.add(token + ":" + scanner.getLVal() + "@" + (scanner.getStartPos().getOffset() + offsetCorrection));
+        }
+        return result;
+    }
+
     private static void checkToken(ScanKeyword expected, int actual) {
         ScanKeyword got = ScanKeyword.fromValue(actual);
         if (!expected.equals(got)) {
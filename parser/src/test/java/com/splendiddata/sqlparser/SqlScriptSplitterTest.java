@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the SqlScriptSplitter
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class SqlScriptSplitterTest {
+
+    private static List<String> split(String script) {
+        int[] ends = new SqlScriptSplitter().split(script);
+        List<String> result = new ArrayList<>();
+        int start = 0;
+        for (int end : ends) {
+            result.add(script.substring(start, end).trim());
+            start = end;
+        }
+        return result;
+    }
+
+    @Test
+    void simpleStatements() {
+        Assertions.assertEquals(List.of(), split(""));
+        Assertions.assertEquals(List.of("select 1;", "select 2;"), split("select 1;\nselect 2;\n"));
+        Assertions.assertEquals(List.of("select 1;", "select 2"), split("select 1; select 2"));
+        Assertions.assertEquals(List.of("select 1; -- trailing comment"), split("select 1; -- trailing comment"),
+                "Trailing comments are supposed to be added to the last statement");
+        Assertions.assertEquals(List.of("-- just a comment"), split("-- just a comment"));
+    }
+
+    @Test
+    void semicolonsThatDoNotEndAStatement() {
+        Assertions.assertEquals(List.of("select 'a;b', \"c;d\";", "select 2;"),
+                split("select 'a;b', \"c;d\"; select 2;"));
+        Assertions.assertEquals(List.of("select 1 /* ; */ -- ;\n;", "select 2;"),
+                split("select 1 /* ; */ -- ;\n; select 2;"));
+        Assertions.assertEquals(
+                List.of("create function f() returns int as $body$ select 1; select 2; $body$ language sql;",
+                        "select f();"),
+                split("create function f() returns int as $body$ select 1; select 2; $body$ language sql; "
+                        + "select f();"));
+        Assertions.assertEquals(List.of("create rule r as on insert to t do instead (insert into u values (1); "
+                + "insert into v values (2));", "select 1;"),
+                split("create rule r as on insert to t do instead (insert into u values (1); "
+                        + "insert into v values (2)); select 1;"));
+    }
+
+    @Test
+    void beginAtomic() {
+        String function = "create or replace function f(a int) returns int language sql begin atomic "
+                + "select case when a > 0 then 1 else 0 end; select 2; end;";
+        Assertions.assertEquals(List.of(function, "select f(1);"), split(function + "\nselect f(1);"));
+
+        String procedure = "create procedure p() begin atomic insert into t values (1); end;";
+        Assertions.assertEquals(List.of(procedure, "begin;", "commit;"), split(procedure + " begin; commit;"),
+                "A transaction block is not a BEGIN ATOMIC body");
+    }
+
+    @Test
+    void unterminatedString() {
+        Assertions.assertEquals(List.of("select 1;", "select 'unterminated; select 2;"),
+                split("select 1; select 'unterminated; select 2;"));
+    }
+}
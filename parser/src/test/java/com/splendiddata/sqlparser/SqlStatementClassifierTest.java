@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the SqlStatementClassifier
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class SqlStatementClassifierTest {
+
+    private final SqlStatementClassifier classifier = new SqlStatementClassifier();
+
+    /**
+     * Classifies sql and checks that no parse was needed
+     */
+    private String classify(String sql) throws IOException {
+        StatementClassification classification = classifier.classify(sql);
+        Assertions.assertNotNull(classification, sql);
+        Assertions.assertFalse(classification.isParsed(), () -> "No full parse expected for: " + sql);
+        return classification.toString();
+    }
+
+    @Test
+    void queries() throws IOException {
+        Assertions.assertNull(classifier.classify(" ; -- nothing"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT)", classify("select a, b from t where c = $1"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT)", classify("(select 1) union (select 2); select now()"));
+        Assertions.assertEquals("T_SelectStmt(CMD_UTILITY)", classify("select * into new_t from t"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, locking clause)",
+                classify("select * from t where id = 1 for no key update skip locked"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function)",
+                classify("select count(*) from t join u using (id)"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function)",
+                classify("select * from pg_catalog.generate_series(1, 3) as g(i)"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT)",
+                classify("select cast(a as numeric(10, 2)), coalesce(b, 0) from t x (a, b) where a in (1, 2)"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function)",
+                classify("select a from t where b similar to 'x%'"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function)",
+                classify("select ts at time zone 'UTC' from t"));
+        Assertions.assertEquals("T_InsertStmt(CMD_INSERT)",
+                classify("insert into s.t (a, b) values (1, 'x') on conflict (a) do nothing"));
+        Assertions.assertEquals("T_UpdateStmt(CMD_UPDATE, calls function)",
+                classify("update t set (a, b) = (1, lower(c)) where id = 3 returning *"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function)", classify("select set('t')"));
+        Assertions.assertEquals("T_InsertStmt(CMD_INSERT, locking clause)",
+                classify("insert into t values (1) on conflict (a) do select for update returning *"));
+        Assertions.assertEquals("T_DeleteStmt(CMD_DELETE)", classify("delete from t where a = 1"));
+        Assertions.assertEquals("T_MergeStmt(CMD_MERGE)", classify(
+                "merge into t using s on t.id = s.id when not matched then insert (id) values (s.id)"));
+    }
+
+    @Test
+    void commonTableExpressions() throws IOException {
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT)",
+                classify("with recursive x (n) as (select 1 union all select n + 1 from x) select n from x"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, writable cte)",
+                classify("with a as (select 1), d as (delete from t returning *) select * from d"));
+        Assertions.assertEquals("T_InsertStmt(CMD_INSERT, writable cte)",
+                classify("with m as materialized (with u as (update t set a = 1 returning *) select * from u) "
+                        + "insert into l select * from m"));
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function)",
+                classify("select * from unnest(a) with ordinality as u(v, n)"));
+    }
+
+    @Test
+    void utilityStatements() throws IOException {
+        Assertions.assertEquals("T_ExplainStmt(CMD_UTILITY, locking clause)",
+                classify("explain (analyze, buffers) select * from t for update"));
+        Assertions.assertEquals("T_CallStmt(CMD_UTILITY, calls function)", classify("call p(1, 'two')"));
+        Assertions.assertEquals("T_PrepareStmt(CMD_UTILITY, writable cte)",
+                classify("prepare p (int) as with x as (insert into t values ($1) returning a) select * from x"));
+        Assertions.assertEquals("T_DeclareCursorStmt(CMD_UTILITY)",
+                classify("declare c cursor with hold for select * from t"));
+        Assertions.assertEquals("T_CreateTableAsStmt(CMD_UTILITY, calls function)",
+                classify("create temp table x (a) as select now() with no data"));
+        Assertions.assertEquals("T_ViewStmt(CMD_UTILITY)",
+                classify("create or replace view v as select * from t with local check option"));
+        Assertions.assertEquals("T_CopyStmt(CMD_UTILITY)",
+                classify("copy (select * from t) to stdout with (format csv)"));
+        Assertions.assertEquals("T_CopyStmt(CMD_UTILITY, locking clause)",
+                classify("copy (select * from t for update) to stdout"));
+        Assertions.assertEquals("T_TransactionStmt(CMD_UTILITY)", classify("begin isolation level serializable"));
+        Assertions.assertEquals("T_TransactionStmt(CMD_UTILITY)", classify("prepare transaction 'x'"));
+        Assertions.assertEquals("T_VariableSetStmt(CMD_UTILITY)", classify("set search_path = public"));
+        Assertions.assertEquals("T_DropStmt(CMD_UTILITY)", classify("drop table if exists t cascade"));
+        Assertions.assertEquals("T_GrantRoleStmt(CMD_UTILITY)", classify("grant admin to alice"));
+        Assertions.assertEquals("T_GrantStmt(CMD_UTILITY)", classify("grant select on t to alice"));
+    }
+
+    @Test
+    void fullParse() throws IOException {
+        StatementClassification classification = classifier
+                .classify("create table t (id int primary key, created timestamp default now())");
+        Assertions.assertEquals("T_CreateStmt(CMD_UTILITY, calls function, parsed)", classification.toString());
+        classification = classifier.classify("select xmlelement(name a, version())");
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, calls function, parsed)", classification.toString());
+        classification = classifier.classify("alter table t add column c int");
+        Assertions.assertEquals("T_AlterTableStmt(CMD_UTILITY, parsed)", classification.toString());
+        classification = classifier.classify("select * from (select 1 into f) x");
+        Assertions.assertEquals("T_SelectStmt(CMD_SELECT, parsed)", classification.toString());
+    }
+
+    /**
+     * Classifies every statement of the regression tests. Each statement that is classified without a parse must get
+     * the same classification as its parse tree.
+     *
+     * @throws IOException
+     *             Not expected, the sql is read from Strings
+     */
+    @Test
+    void corpusAgreesWithParseTree() throws IOException {
+        SqlParser parser = new SqlParser();
+        int classifiedByTokens = 0;
+        java.util.List<String> differences = new ArrayList<>();
+        for (String sql : RegressionCorpus.statementTexts()) {
+            StatementClassification classification = classifier.classify(sql);
+            if (classification == null || classification.isParsed() || !parser.parse(sql)
+                    || parser.getResult().isEmpty()) {
+                continue;
+            }
+            classifiedByTokens++;
+            StatementClassification expected = SqlStatementClassifier.classifyStatement(parser.getResult().get(0));
+            if (expected.getNodeTag() != classification.getNodeTag()
+                    || expected.getCommandType() != classification.getCommandType()
+                    || expected.hasWritableCte() != classification.hasWritableCte()
+                    || expected.hasLockingClause() != classification.hasLockingClause()
+                    || expected.callsFunction() != classification.callsFunction()) {
+                differences.add(classification + " instead of " + expected + " for: " + sql.strip());
+            }
+        }
+        Assertions.assertNotEquals(0, classifiedByTokens);
+        Assertions.assertEquals(Collections.emptyList(), differences);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the SqlTokenizer
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+public class SqlTokenizerTest {
+
+    private static List<String> tokenTexts(SqlTokenizer tokenizer, String sql) {
+        List<String> result = new ArrayList<>();
+        tokenizer.reset(sql);
+        while (tokenizer.next()) {
+            result.add(tokenizer.text().toString());
+        }
+        return result;
+    }
+
+    @Test
+    void tokens() {
+        String sql = "select a.b, 'it''s' as \"X\" -- comment\nfrom t where c not in (1, 2.5) /* ; */;";
+        SqlTokenizer tokenizer = new SqlTokenizer();
+        tokenizer.reset(sql);
+
+        Assertions.assertTrue(tokenizer.next());
+        Assertions.assertEquals(ScanKeyword.SELECT.getValue(), tokenizer.tokenCode());
+        Assertions.assertEquals(ScanKeyword.SELECT, tokenizer.keyword());
+        Assertions.assertEquals(0, tokenizer.startOffset());
+        Assertions.assertEquals(6, tokenizer.endOffset());
+
+        Assertions.assertTrue(tokenizer.next());
+        Assertions.assertEquals(ScanKeyword.IDENT, tokenizer.keyword());
+        Assertions.assertEquals("a", tokenizer.value());
+
+        Assertions.assertTrue(tokenizer.next());
+        Assertions.assertEquals('.', tokenizer.tokenCode());
+        Assertions.assertNull(tokenizer.keyword(), "A single character token is not a ScanKeyword");
+
+        Assertions.assertEquals(List.of("select", "a", ".", "b", ",", "'it''s'", "as", "\"X\"", "from", "t", "where",
+                "c", "not", "in", "(", "1", ",", "2.5", ")", ";"), tokenTexts(tokenizer, sql));
+
+        tokenizer.reset(sql);
+        while (tokenizer.next() && tokenizer.keyword() != ScanKeyword.SCONST) {
+            // skip
+        }
+        Assertions.assertEquals("it's", tokenizer.value(), "The value of a string literal is its content");
+        Assertions.assertEquals(sql.indexOf('\''), tokenizer.startOffset());
+        Assertions.assertEquals(sql.indexOf(" as"), tokenizer.endOffset());
+        Assertions.assertFalse(tokenizer.isErrorReported());
+    }
+
+    @Test
+    void partOfText() {
+        String script = "select 1; select 2;";
+        SqlTokenizer tokenizer = new SqlTokenizer();
+        tokenizer.reset(script, 10, script.length());
+        Assertions.assertTrue(tokenizer.next());
+        Assertions.assertEquals(10, tokenizer.startOffset(), "Offsets are relative to the start of the script");
+        Assertions.assertEquals("select", tokenizer.text().toString());
+        Assertions.assertEquals(List.of("select", "2", ";"), tokenTexts(tokenizer, script.substring(10)));
+    }
+
+    @Test
+    void scanError() {
+        List<SqlParserErrorData> errors = new ArrayList<>();
+        SqlTokenizer tokenizer = new SqlTokenizer().setErrorReporter(errors::add);
+        Assertions.assertEquals(List.of("select"), tokenTexts(tokenizer, "select 'unterminated"));
+        Assertions.assertTrue(tokenizer.isErrorReported());
+        Assertions.assertFalse(errors.isEmpty(), "The unterminated string is supposed to be reported");
+        Assertions.assertFalse(tokenizer.next(), "The tokenizer stops at an error");
+
+        Assertions.assertEquals(List.of("select", "1"), tokenTexts(tokenizer, "select 1"),
+                "The tokenizer is supposed to be reusable after an error");
+        Assertions.assertFalse(tokenizer.isErrorReported());
+    }
+}
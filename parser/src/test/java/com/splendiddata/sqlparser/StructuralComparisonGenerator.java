@@ -0,0 +1,623 @@
+/*
+ * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+ *
+ * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+ * obtain one via www.gnu.org/licenses/.
+ */
+
+package com.splendiddata.sqlparser;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.splendiddata.sqlparser.structure.Location;
+import com.splendiddata.sqlparser.structure.Node;
+
+/**
+ * Generates StructuralComparison in the structure package, which {@link Node#equals(Object)} and
+ * {@link Node#hashCode()} use to compare and hash the fields of the nodes without reflection.
+ * <p>
+ * All instance fields of a class take part, except the Locations. The classes that have private fields or type
+ * parameters cannot be compared field by field and are compared by their own equals method. That is not allowed for
+ * Node subclasses. The generated classes, which have a private no-arg constructor and no fields, and the structure
+ * List, which is compared element by element, are left out as well.
+ * </p>
+ * <p>
+ * Run the main method from the parser directory after a structure class has been added or changed:
+ * <code>mvn test-compile exec:java -Dexec.mainClass=com.splendiddata.sqlparser.StructuralComparisonGenerator
+ * -Dexec.classpathScope=test</code>. SqlParserTest fails as long as the generated source is out of date.
+ * </p>
+ *
+ * @author Splendid Data Product Development B.V.
+ */
+final class StructuralComparisonGenerator {
+
+    /**
+     * No instances
+     */
+    private StructuralComparisonGenerator() {
+        // static methods only
+    }
+
+    /**
+     * Writes StructuralComparison.java
+     *
+     * @param args
+     *            Not used
+     * @throws IOException
+     *             If writing fails
+     */
+    public static void main(String[] args) throws IOException {
+        Files.writeString(sourceFile(), generate(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the path of StructuralComparison.java
+     *
+     * @return Path The source file
+     */
+    static Path sourceFile() {
+        return NodeVisitorGenerator.parserDirectory()
+                .resolve("src/main/java/com/splendiddata/sqlparser/structure/StructuralComparison.java");
+    }
+
+    /**
+     * Returns the classes of the structure package that are compared field by field
+     *
+     * @return List&lt;Class&lt;?&gt;&gt; The classes, sorted by name
+     * @throws IllegalStateException
+     *             If a Node subclass cannot be compared field by field
+     */
+    static List<Class<?>> comparedClasses() {
+        List<Class<?>> result = new ArrayList<>();
+        for (Class<?> type : NodeVisitorGenerator.structureClasses()) {
+            if (type.isInterface() || type.isEnum() || Modifier.isAbstract(type.getModifiers())
+                    || com.splendiddata.sqlparser.structure.List.class.equals(type)
+                    || !Node.class.isAssignableFrom(type) && isNotInstantiable(type)) {
+                continue;
+            }
+            String problem = getProblem(type);
+            if (problem == null) {
+                result.add(type);
+            } else if (Node.class.isAssignableFrom(type)) {
+                throw new IllegalStateException(type.getName() + " cannot be compared field by field: " + problem);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells if a class is not meant to be instantiated, like the generated classes
+     *
+     * @param type
+     *            The class
+     * @return boolean true if the class has a private no-arg constructor
+     */
+    private static boolean isNotInstantiable(Class<?> type) {
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return Modifier.isPrivate(constructor.getModifiers());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells why a class cannot be compared field by field
+     *
+     * @param type
+     *            A concrete class of the structure package
+     * @return String The reason, null if the class can be compared
+     */
+    private static String getProblem(Class<?> type) {
+        if (type.getTypeParameters().length != 0) {
+            return "it has type parameters";
+        }
+        for (Field field : NodeBinaryLayoutGenerator.fields(type)) {
+            if (Modifier.isPrivate(field.getModifiers())) {
+                return "field " + field.getName() + " is private";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the fields of a class that are compared
+     *
+     * @param type
+     *            The class
+     * @return List&lt;Field&gt; The instance fields of the class and its super classes in the structure package, except
+     *         the Locations: those of the super classes first and within a class sorted by name
+     */
+    private static List<Field> fields(Class<?> type) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : NodeBinaryLayoutGenerator.fields(type)) {
+            if (!Location.class.equals(field.getType())) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells if a field holds a value that is compared on its own, as it may be a node or a list
+     *
+     * @param field
+     *            The field
+     * @return boolean false for the primitive, String and enum fields
+     */
+    private static boolean isChild(Field field) {
+        Class<?> type = field.getType();
+        return !type.isPrimitive() && !String.class.equals(type) && !type.isEnum();
+    }
+
+    /**
+     * Returns the Java expression that accesses a field of a variable
+     *
+     * @param type
+     *            The class of the node
+     * @param field
+     *            The field
+     * @param variable
+     *            The name of the variable
+     * @param imports
+     *            Receives the imports that the expression needs
+     * @return String variable.field, or a cast of the variable to the declaring class if the field is hidden
+     */
+    private static String access(Class<?> type, Field field, String variable, Set<String> imports) {
+        if (NodeXmlLayoutGenerator.isHidden(type, field.getDeclaringClass(), field.getName())) {
+            return "((" + NodeXmlLayoutGenerator.javaName(field.getDeclaringClass(), imports) + ") " + variable
+                    + ")." + field.getName();
+        }
+        return variable + "." + field.getName();
+    }
+
+    /**
+     * Returns the condition that tells that a field of two nodes differs
+     *
+     * @param fieldType
+     *            The type of the field
+     * @param one
+     *            The field of the one node
+     * @param other
+     *            The field of the other node
+     * @return String The Java expression
+     */
+    private static String differs(Class<?> fieldType, String one, String other) {
+        if (float.class.equals(fieldType)) {
+            return "Float.compare(" + one + ", " + other + ") != 0";
+        }
+        if (double.class.equals(fieldType)) {
+            return "Double.compare(" + one + ", " + other + ") != 0";
+        }
+        if (String.class.equals(fieldType)) {
+            return "!Objects.equals(" + one + ", " + other + ")";
+        }
+        return one + " != " + other;
+    }
+
+    /**
+     * Returns the hash code of a field
+     *
+     * @param fieldType
+     *            The type of the field
+     * @param value
+     *            The field
+     * @return String The Java expression
+     */
+    private static String hash(Class<?> fieldType, String value) {
+        if (boolean.class.equals(fieldType)) {
+            return "Boolean.hashCode(" + value + ")";
+        }
+        if (char.class.equals(fieldType)) {
+            return "Character.hashCode(" + value + ")";
+        }
+        if (long.class.equals(fieldType)) {
+            return "Long.hashCode(" + value + ")";
+        }
+        if (float.class.equals(fieldType)) {
+            return "Float.hashCode(" + value + ")";
+        }
+        if (double.class.equals(fieldType)) {
+            return "Double.hashCode(" + value + ")";
+        }
+        if (fieldType.isPrimitive()) {
+            return value;
+        }
+        if (String.class.equals(fieldType)) {
+            return "Objects.hashCode(" + value + ")";
+        }
+        return "ordinal(" + value + ")";
+    }
+
+    /**
+     * Generates the source of StructuralComparison
+     *
+     * @return String The Java source
+     */
+    static String generate() {
+        List<Class<?>> classes = comparedClasses();
+        Set<String> imports = new TreeSet<>();
+        imports.add(ArrayList.class.getName());
+        imports.add(java.util.Arrays.class.getName());
+        imports.add(java.util.Iterator.class.getName());
+        imports.add(java.util.Objects.class.getName());
+
+        StringBuilder source = new StringBuilder();
+        source.append("""
+                /*
+                 * Copyright (c) Splendid Data Product Development B.V. 2020 - 2026
+                 *
+                 * This program is free software: You may redistribute and/or modify under the terms of the GNU General Public License
+                 * as published by the Free Software Foundation, either version 3 of the License, or (at Client's option) any later
+                 * version.
+                 *
+                 * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+                 * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+                 *
+                 * You should have received a copy of the GNU General Public License along with this program. If not, Client should
+                 * obtain one via www.gnu.org/licenses/.
+                 */
+
+                package com.splendiddata.sqlparser.structure;
+
+                /**
+                 * Structural equals and hashCode for parse trees, as used by {@link Node#equals(Object)} and {@link Node#hashCode()}
+                 * <p>
+                 * Two nodes are equal if they are of the same class and all their fields are equal, except the {@link Location}s. The
+                 * fields of a node and of the other classes in this package (like {@link ValUnion} and {@link Oid}) are compared field
+                 * by field, two Lists of the same class (and NodeTag, for structure Lists) element by element. Other objects, like
+                 * Strings and enums, are compared by their own equals method.
+                 * </p>
+                 * <p>
+                 * The fields are accessed directly, by a method per class. Those methods do not descend into a child node or list. They
+                 * push it onto an explicit stack instead of recursing, so a deeply nested expression cannot cause a StackOverflowError.
+                 * The hash code is not cached, as nodes can be changed at any time via their public fields. It is computed in a single
+                 * pass over the tree.
+                 * </p>
+                 * <p>
+                 * This class is generated by StructuralComparisonGenerator in the test sources. Do not edit it by hand.
+                 * </p>
+                 *
+                 * @author Splendid Data Product Development B.V.
+                 * @since 19.0
+                 */
+                final class StructuralComparison {
+                    /**
+                     * The classes that are compared field by field. The index of a class in this array is its case in the switch
+                     * statements.
+                     */
+                    private static final Class<?>[] CLASSES = {
+                """);
+        for (Class<?> type : classes) {
+            source.append("            ").append(type.getSimpleName()).append(".class,\n");
+        }
+        source.append("""
+                    };
+
+                    /**
+                     * The index in {@link #CLASSES} of a class, -1 if it is not known
+                     */
+                    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+                        @Override
+                        protected Integer computeValue(Class<?> type) {
+                            for (int i = 0; i < CLASSES.length; i++) {
+                                if (CLASSES[i].equals(type)) {
+                                    return Integer.valueOf(i);
+                                }
+                            }
+                            return Integer.valueOf(-1);
+                        }
+                    };
+
+                    /**
+                     * No instances
+                     */
+                    private StructuralComparison() {
+                        // static methods only
+                    }
+
+                    /**
+                     * Compares two (sub)trees
+                     *
+                     * @param one
+                     *            A node, list or value
+                     * @param other
+                     *            The node, list or value to compare with
+                     * @return boolean true if one and other are structurally equal
+                     */
+                    static boolean equals(Object one, Object other) {
+                        /*
+                         * Pairs of objects that still have to be compared. An ArrayDeque would not accept nulls.
+                         */
+                        ArrayList<Object> todo = new ArrayList<>();
+                        todo.add(one);
+                        todo.add(other);
+                        while (!todo.isEmpty()) {
+                            Object b = todo.remove(todo.size() - 1);
+                            Object a = todo.remove(todo.size() - 1);
+                            if (a == b) {
+                                continue;
+                            }
+                            if (a == null || b == null || !a.getClass().equals(b.getClass())) {
+                                return false;
+                            }
+                            if (a instanceof java.util.List<?> listA) {
+                                java.util.List<?> listB = (java.util.List<?>) b;
+                                if (listA.size() != listB.size()
+                                        || a instanceof List<?> structureList && structureList.type != ((List<?>) b).type) {
+                                    return false;
+                                }
+                                for (Iterator<?> itA = listA.iterator(), itB = listB.iterator(); itA.hasNext();) {
+                                    todo.add(itA.next());
+                                    todo.add(itB.next());
+                                }
+                                continue;
+                            }
+                            int index = indexOf(a.getClass());
+                            if (index >= 0) {
+                                if (!equalFields(index, a, b, todo)) {
+                                    return false;
+                                }
+                            } else if (a.getClass().isArray() ? !Arrays.deepEquals(new Object[] { a }, new Object[] { b })
+                                    : !a.equals(b)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+
+                    /**
+                     * Computes the structural hash code of a (sub)tree
+                     *
+                     * @param root
+                     *            A node, list or value
+                     * @return int The hash code, which is equal for structurally equal trees
+                     */
+                    static int hashCode(Object root) {
+                        int hash = 1;
+                        ArrayList<Object> todo = new ArrayList<>();
+                        todo.add(root);
+                        while (!todo.isEmpty()) {
+                            Object object = todo.remove(todo.size() - 1);
+                            if (object == null) {
+                                hash = 31 * hash;
+                            } else if (object instanceof java.util.List<?> list) {
+                                hash = 31 * hash + list.size();
+                                if (object instanceof List<?> structureList) {
+                                    hash = 31 * hash + ordinal(structureList.type);
+                                }
+                                todo.addAll(list);
+                            } else {
+                                int index = indexOf(object.getClass());
+                                if (index >= 0) {
+                                    hash = hashFields(index, object, 31 * hash + index, todo);
+                                } else if (object.getClass().isArray()) {
+                                    hash = 31 * hash + Arrays.deepHashCode(new Object[] { object });
+                                } else {
+                                    hash = 31 * hash + object.hashCode();
+                                }
+                            }
+                        }
+                        return hash;
+                    }
+
+                    /**
+                     * Returns the index of a class that is compared field by field
+                     *
+                     * @param type
+                     *            The class
+                     * @return int The index in {@link #CLASSES}, -1 if objects of the class are compared by their own equals
+                     *         method
+                     * @throws IllegalArgumentException
+                     *             If the class is a Node subclass that is not known
+                     */
+                    private static int indexOf(Class<?> type) {
+                        int index = INDEXES.get(type).intValue();
+                        if (index < 0 && Node.class.isAssignableFrom(type)) {
+                            throw new IllegalArgumentException(type.getName() + " cannot be compared field by field");
+                        }
+                        return index;
+                    }
+
+                    /**
+                     * Returns a hash code of an enum constant that is the same in every run
+                     *
+                     * @param value
+                     *            The constant, may be null
+                     * @return int 0 for null, otherwise the ordinal plus one
+                     */
+                    private static int ordinal(Enum<?> value) {
+                        return value == null ? 0 : value.ordinal() + 1;
+                    }
+
+                    /**
+                     * Compares the primitive, String and enum fields of two nodes of the same class and pushes the other
+                     * fields onto the stack
+                     *
+                     * @param index
+                     *            The index of the class of the nodes
+                     * @param one
+                     *            A node
+                     * @param other
+                     *            The node to compare with
+                     * @param todo
+                     *            Receives the pairs of field values that are still to be compared
+                     * @return boolean false if the nodes differ in a primitive, String or enum field
+                     */
+                    private static boolean equalFields(int index, Object one, Object other, ArrayList<Object> todo) {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            String name = classes.get(i).getSimpleName();
+            String line = "            return equals" + name + "((" + name + ") one, (" + name + ") other, todo);";
+            source.append("        case ").append(i).append(":\n");
+            if (line.length() <= 120) {
+                source.append(line).append('\n');
+            } else {
+                source.append("            return equals").append(name).append("((").append(name)
+                        .append(") one,\n                    (").append(name).append(") other, todo);\n");
+            }
+        }
+        source.append("""
+                        default:
+                            throw new IllegalArgumentException("No class with index " + index);
+                        }
+                    }
+
+                    /**
+                     * Hashes the primitive, String and enum fields of a node and pushes the other fields onto the stack
+                     *
+                     * @param index
+                     *            The index of the class of the node
+                     * @param node
+                     *            The node
+                     * @param hash
+                     *            The hash code so far
+                     * @param todo
+                     *            Receives the field values that are still to be hashed
+                     * @return int The hash code including the fields of the node
+                     */
+                    private static int hashFields(int index, Object node, int hash, ArrayList<Object> todo) {
+                        switch (index) {
+                """);
+        for (int i = 0; i < classes.size(); i++) {
+            String name = classes.get(i).getSimpleName();
+            source.append("        case ").append(i).append(":\n            return hash").append(name).append("((")
+                    .append(name).append(") node, hash, todo);\n");
+        }
+        source.append("""
+                        default:
+                            throw new IllegalArgumentException("No class with index " + index);
+                        }
+                    }
+                """);
+
+        for (Class<?> type : classes) {
+            List<Field> fields = fields(type);
+            appendEquals(source, type, fields, imports);
+            appendHash(source, type, fields, imports);
+        }
+        source.append("}\n");
+        return NodeXmlLayoutGenerator.insertImports(source, imports);
+    }
+
+    /**
+     * Appends the method that compares the fields of two nodes of a class
+     *
+     * @param source
+     *            The source to append to
+     * @param type
+     *            The class
+     * @param fields
+     *            Its fields
+     * @param imports
+     *            Receives the imports that the method needs
+     */
+    private static void appendEquals(StringBuilder source, Class<?> type, List<Field> fields, Set<String> imports) {
+        String name = type.getSimpleName();
+        source.append("\n    /**\n     * Compares the fields of two {@link ").append(name).append("}s\n     *\n")
+                .append("     * @param one\n     *            A node\n")
+                .append("     * @param other\n     *            The node to compare with\n")
+                .append("     * @param todo\n     *            Receives the pairs of field values that are still to be")
+                .append(" compared\n")
+                .append("     * @return boolean false if the nodes differ in a primitive, String or enum field\n")
+                .append("     */\n");
+        String signature = "    private static boolean equals" + name + "(" + name + " one, " + name
+                + " other, ArrayList<Object> todo) {";
+        if (signature.length() > 120) {
+            signature = "    private static boolean equals" + name + "(" + name + " one,\n            " + name
+                    + " other, ArrayList<Object> todo) {";
+        }
+        source.append(signature).append('\n');
+        for (Field field : fields) {
+            if (!isChild(field)) {
+                String condition = differs(field.getType(), access(type, field, "one", imports),
+                        access(type, field, "other", imports));
+                String line = "        if (" + condition + ") {";
+                if (line.length() > 120) {
+                    int split = condition.indexOf(" != ") >= 0 ? condition.indexOf(" != ") : condition.indexOf(", ");
+                    line = "        if (" + condition.substring(0, split) + "\n                "
+                            + condition.substring(split + 1).trim() + ") {";
+                }
+                source.append(line).append("\n            return false;\n        }\n");
+            }
+        }
+        for (Field field : fields) {
+            if (isChild(field)) {
+                source.append("        todo.add(").append(access(type, field, "one", imports)).append(");\n")
+                        .append("        todo.add(").append(access(type, field, "other", imports)).append(");\n");
+            }
+        }
+        source.append("        return true;\n    }\n");
+    }
+
+    /**
+     * Appends the method that hashes the fields of a node of a class
+     *
+     * @param source
+     *            The source to append to
+     * @param type
+     *            The class
+     * @param fields
+     *            Its fields
+     * @param imports
+     *            Receives the imports that the method needs
+     */
+    private static void appendHash(StringBuilder source, Class<?> type, List<Field> fields, Set<String> imports) {
+        String name = type.getSimpleName();
+        source.append("\n    /**\n     * Hashes the fields of a {@link ").append(name).append("}\n     *\n")
+                .append("     * @param node\n     *            The node\n")
+                .append("     * @param hash\n     *            The hash code so far\n")
+                .append("     * @param todo\n     *            Receives the field values that are still to be hashed\n")
+                .append("     * @return int The hash code including the primitive, String and enum fields of the node\n")
+                .append("     */\n");
+        String signature = "    private static int hash" + name + "(" + name
+                + " node, int hash, ArrayList<Object> todo) {";
+        if (signature.length() > 120) {
+            signature = "    private static int hash" + name + "(" + name
+                    + " node,\n            int hash, ArrayList<Object> todo) {";
+        }
+        source.append(signature).append('\n');
+        String result = "hash";
+        boolean hasLeaf = false;
+        for (Field field : fields) {
+            if (!isChild(field)) {
+                if (!hasLeaf) {
+                    source.append("        int result = hash;\n");
+                    result = "result";
+                    hasLeaf = true;
+                }
+                String line = "        result = 31 * result + " + hash(field.getType(), access(type, field, "node", imports))
+                        + ";";
+                if (line.length() > 120) {
+                    line = "        result = 31 * result\n                + "
+                            + hash(field.getType(), access(type, field, "node", imports)) + ";";
+                }
+                source.append(line).append('\n');
+            }
+        }
+        for (Field field : fields) {
+            if (isChild(field)) {
+                source.append("        todo.add(").append(access(type, field, "node", imports)).append(");\n");
+            }
+        }
+        source.append("        return ").append(result).append(";\n    }\n");
+    }
+}
@@ -0,0 +1 @@
+select a from t where a = 'x'
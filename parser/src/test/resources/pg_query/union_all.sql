@@ -0,0 +1 @@
+select 1 union all select 2
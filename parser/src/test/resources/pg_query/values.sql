@@ -0,0 +1 @@
+values (0, null)
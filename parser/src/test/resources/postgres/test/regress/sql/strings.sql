@@ -32,16 +32,16 @@ SELECT U&'a\\b' AS "a\b";
 SELECT U&' \' UESCAPE '!' AS "tricky";
 SELECT 'tricky' AS U&"\" UESCAPE '!';
 
-SELECT U&'wrong: \061';
-SELECT U&'wrong: \+0061';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \061';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \+0061';
 -- Deactivated for SplendidDataTest: SELECT U&'wrong: +0061' UESCAPE +;
 -- Deactivated for SplendidDataTest: SELECT U&'wrong: +0061' UESCAPE '+';
 
-SELECT U&'wrong: \db99';
-SELECT U&'wrong: \db99xy';
-SELECT U&'wrong: \db99\\';
-SELECT U&'wrong: \db99\0061';
-SELECT U&'wrong: \+00db99\+000061';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \db99';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \db99xy';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \db99\\';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \db99\0061';
+-- Deactivated for SplendidDataTest: SELECT U&'wrong: \+00db99\+000061';
 -- Deactivated for SplendidDataTest: SELECT U&'wrong: \+2FFFFF';
 
 -- while we're here, check the same cases in E-style literals